@@ -0,0 +1,267 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jivesoftware.util.ConcurrentHashSet;
+import org.jivesoftware.util.JiveConstants;
+import org.jivesoftware.util.TaskEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The connection pool of a {@link PooledConnectionProvider}. The number of connections that are
+ * handed out is limited by a semaphore, and idle connections are kept in a lock-free deque, so
+ * taking a connection when one is idle is a couple of compare-and-set operations. The most
+ * recently used connections are handed out first, so that the others can time out when the load
+ * goes down.<p>
+ *
+ * A housekeeping task closes the connections that were idle for too long or that reached their
+ * maximum lifetime, opens connections up to the minimum, and logs the connections that were not
+ * returned to the pool in time.
+ */
+class ConnectionPool {
+
+    private static final Logger Log = LoggerFactory.getLogger(ConnectionPool.class);
+
+    private static final long HOUSEKEEPING_INTERVAL = 30 * JiveConstants.SECOND;
+
+    /**
+     * How long connections above the minimum stay idle before they're closed.
+     */
+    private static final long IDLE_TIMEOUT = 10 * JiveConstants.MINUTE;
+
+    private final PooledConnectionProvider provider;
+    private final int minConnections;
+    private final int maxConnections;
+    private final long maxLifetime;
+    private final long maxWait;
+    private final long leakDetectionThreshold;
+    private final int statementCacheSize;
+    private final String testSQL;
+    private final boolean testBeforeUse;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final Set<PooledConnection> leased = new ConcurrentHashSet<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final TimerTask housekeeper;
+    private volatile boolean closed;
+
+    ConnectionPool(PooledConnectionProvider provider) {
+        this.provider = provider;
+        this.minConnections = provider.getMinConnections();
+        this.maxConnections = Math.max(1, provider.getMaxConnections());
+        this.maxLifetime = (long) (provider.getConnectionTimeout() * JiveConstants.DAY);
+        this.maxWait = provider.getMaxWait();
+        this.leakDetectionThreshold = provider.getLeakDetectionThreshold();
+        this.statementCacheSize = provider.getStatementCacheSize();
+        this.testSQL = provider.getTestSQL();
+        this.testBeforeUse = provider.getTestBeforeUse();
+        this.permits = new Semaphore(maxConnections);
+        this.housekeeper = new TimerTask() {
+            @Override
+            public void run() {
+                housekeep();
+            }
+        };
+        TaskEngine.getInstance().scheduleAtFixedRate(housekeeper, 0, HOUSEKEEPING_INTERVAL);
+    }
+
+    PooledConnectionProvider getProvider() {
+        return provider;
+    }
+
+    int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Hands out a connection, waiting for one to be returned if the maximum number of
+     * connections are in use.
+     *
+     * @return the connection.
+     * @throws SQLTransientConnectionException if no connection was returned in time.
+     * @throws SQLException if a connection could not be opened.
+     */
+    Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connection pool is closed");
+        }
+        final long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No database connection was available after "
+                        + maxWait + " ms. All " + maxConnections + " connections are in use.");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        try {
+            final PooledConnection connection = take();
+            leased.add(connection);
+            provider.connectionTaken(System.nanoTime() - start);
+            return connection.lease(leakDetectionThreshold > 0);
+        }
+        catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private PooledConnection take() throws SQLException {
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (!isExpired(connection, System.currentTimeMillis()) && (!testBeforeUse || isValid(connection))) {
+                return connection;
+            }
+            discard(connection);
+        }
+        return open();
+    }
+
+    private PooledConnection open() throws SQLException {
+        final PooledConnection connection = new PooledConnection(this, provider.createConnection(), statementCacheSize);
+        size.incrementAndGet();
+        return connection;
+    }
+
+    private void discard(PooledConnection connection) {
+        size.decrementAndGet();
+        connection.close();
+    }
+
+    private boolean isExpired(PooledConnection connection, long now) {
+        return maxLifetime > 0 && now - connection.created > maxLifetime;
+    }
+
+    private boolean isValid(PooledConnection connection) {
+        if (testSQL == null || testSQL.isEmpty()) {
+            return true;
+        }
+        try (Statement statement = connection.connection.createStatement()) {
+            statement.execute(testSQL);
+            return true;
+        }
+        catch (SQLException e) {
+            Log.debug("Closing a database connection that failed the test query", e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool after it was closed by the caller it was handed out to.
+     *
+     * @param connection the connection.
+     */
+    void release(PooledConnection connection) {
+        leased.remove(connection);
+        if (connection.reset() && !closed && !isExpired(connection, System.currentTimeMillis())) {
+            // The connection is made idle before its permit is released, so that there are
+            // never more connections than permits
+            idle.offerFirst(connection);
+            if (closed && idle.remove(connection)) {
+                discard(connection);
+            }
+        }
+        else {
+            discard(connection);
+        }
+        permits.release();
+    }
+
+    int getSize() {
+        return size.get();
+    }
+
+    int getLeasedCount() {
+        return leased.size();
+    }
+
+    int getIdleCount() {
+        return idle.size();
+    }
+
+    int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Closes the idle connections. The connections that are in use are closed when they're
+     * returned to the pool.
+     */
+    void close() {
+        closed = true;
+        housekeeper.cancel();
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+
+    private void housekeep() {
+        final long now = System.currentTimeMillis();
+        // The least recently used connections are at the end of the deque
+        for (PooledConnection connection : idle) {
+            if (closed) {
+                return;
+            }
+            final boolean expired = isExpired(connection, now)
+                    || (now - connection.lastUsed > IDLE_TIMEOUT && size.get() > minConnections);
+            if (expired && idle.remove(connection)) {
+                discard(connection);
+            }
+        }
+        while (!closed && size.get() < minConnections && permits.tryAcquire()) {
+            try {
+                idle.offerLast(open());
+            }
+            catch (SQLException e) {
+                Log.warn("Failed to open a database connection: " + e.getMessage());
+                break;
+            }
+            finally {
+                permits.release();
+            }
+        }
+        if (leakDetectionThreshold > 0) {
+            for (PooledConnection connection : leased) {
+                final long leaseTime = connection.getLeaseTime();
+                if (leaseTime > 0 && now - leaseTime > leakDetectionThreshold
+                        && now - leaseTime <= leakDetectionThreshold + HOUSEKEEPING_INTERVAL)
+                {
+                    // Logged once, by the first check after the threshold
+                    Log.warn("A database connection was not returned to the pool after "
+                            + (now - leaseTime) / 1000 + " seconds and might have leaked.",
+                            connection.getLeaseOrigin());
+                }
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.Statement;
 import java.util.MissingResourceException;
 
@@ -138,6 +139,9 @@ public class DbConnectionManager {
                         return new ProfiledConnection(con); 
                     }
                 }
+            } catch (SQLTransientConnectionException e) {
+                // The pool already waited for a connection to be returned
+                throw e;
             } catch (SQLException e) {
                 // TODO distinguish recoverable from non-recoverable exceptions.
                 lastException = e;
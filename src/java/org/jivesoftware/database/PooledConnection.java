@@ -0,0 +1,433 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.database;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A physical connection of a {@link ConnectionPool} and its cache of prepared statements. Each
+ * time the connection is taken from the pool it's handed out as a new proxy, which returns the
+ * connection to the pool when it's closed and can't be used afterwards. The statements created
+ * through the proxy time their executions, and the prepared statements are returned to the cache
+ * when they're closed.<p>
+ *
+ * A connection is used by one thread at a time, so its state isn't synchronized.
+ */
+class PooledConnection {
+
+    private static final Logger Log = LoggerFactory.getLogger(PooledConnection.class);
+
+    /**
+     * The statement methods that change the settings of a statement. A prepared statement whose
+     * settings were changed is closed instead of being returned to the cache.
+     */
+    private static final Set<String> STATEMENT_SETTERS = new HashSet<>(Arrays.asList(
+            "setMaxRows", "setLargeMaxRows", "setFetchSize", "setFetchDirection", "setQueryTimeout",
+            "setMaxFieldSize", "setEscapeProcessing", "setCursorName", "setPoolable", "closeOnCompletion"));
+
+    /**
+     * The connection methods that change the settings of a connection. A connection whose
+     * settings were changed is closed instead of being returned to the pool.
+     */
+    private static final Set<String> CONNECTION_SETTERS = new HashSet<>(Arrays.asList(
+            "setReadOnly", "setCatalog", "setSchema", "setTransactionIsolation", "setTypeMap",
+            "setHoldability", "setClientInfo", "setNetworkTimeout"));
+
+    private static final Constructor<?> CONNECTION_PROXY = proxyConstructor(Connection.class);
+    private static final Constructor<?> STATEMENT_PROXY = proxyConstructor(Statement.class);
+    private static final Constructor<?> PREPARED_STATEMENT_PROXY = proxyConstructor(PreparedStatement.class);
+    private static final Constructor<?> CALLABLE_STATEMENT_PROXY = proxyConstructor(CallableStatement.class);
+
+    private final ConnectionPool pool;
+    final Connection connection;
+    final long created = System.currentTimeMillis();
+    volatile long lastUsed = created;
+    /**
+     * The prepared statements of the connection, least recently used first.
+     */
+    private final Map<String, CachedStatement> statements;
+    private final List<StatementHandler> openStatements = new ArrayList<>();
+    private boolean dirty;
+    /**
+     * The current user of the connection, or <tt>null</tt> if the connection is in the pool.
+     */
+    private volatile Lease lease;
+
+    PooledConnection(ConnectionPool pool, Connection connection, final int statementCacheSize) {
+        this.pool = pool;
+        this.connection = connection;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= statementCacheSize) {
+                    return false;
+                }
+                final CachedStatement cached = eldest.getValue();
+                if (cached.inUse) {
+                    // It's closed when it's no longer used
+                    cached.evicted = true;
+                }
+                else {
+                    closeQuietly(cached.statement);
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Hands out the connection.
+     *
+     * @param trackOrigin true to remember the stack trace of the caller.
+     * @return the connection that returns this connection to the pool when it's closed.
+     */
+    Connection lease(boolean trackOrigin) {
+        final Lease lease = new Lease(trackOrigin);
+        this.lease = lease;
+        return newProxy(CONNECTION_PROXY, Connection.class, lease);
+    }
+
+    /**
+     * Returns the time when the connection was handed out.
+     *
+     * @return the time in milliseconds, or 0 if the connection is in the pool.
+     */
+    long getLeaseTime() {
+        final Lease lease = this.lease;
+        return lease == null ? 0 : lease.time;
+    }
+
+    /**
+     * Returns the stack trace of the caller to which the connection was handed out.
+     *
+     * @return the stack trace, or <tt>null</tt> if it was not tracked.
+     */
+    Throwable getLeaseOrigin() {
+        final Lease lease = this.lease;
+        return lease == null ? null : lease.origin;
+    }
+
+    /**
+     * Prepares the connection to be handed out again after it was closed. Statements that were
+     * left open are closed and an unfinished transaction is rolled back.
+     *
+     * @return true if the connection can be handed out again.
+     */
+    boolean reset() {
+        lease = null;
+        lastUsed = System.currentTimeMillis();
+        try {
+            for (StatementHandler handler : new ArrayList<>(openStatements)) {
+                handler.close();
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            return !dirty;
+        }
+        catch (SQLException e) {
+            Log.debug("Closing a database connection that could not be reset", e);
+            return false;
+        }
+    }
+
+    /**
+     * Closes the physical connection.
+     */
+    void close() {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            Log.debug("Failed to close a database connection", e);
+        }
+    }
+
+    private Object prepareStatement(Object connectionProxy, Method method, Object[] args) throws Throwable {
+        final String sql = (String) args[0];
+        String key = null;
+        if (args.length == 1) {
+            key = sql;
+        }
+        else if (args.length == 3 && args[1] instanceof Integer && args[2] instanceof Integer) {
+            // The result set type and concurrency
+            key = args[1] + "," + args[2] + ":" + sql;
+        }
+        if (key != null && pool.getStatementCacheSize() > 0) {
+            CachedStatement cached = statements.get(key);
+            if (cached != null && !cached.inUse && cached.statement.isClosed()) {
+                statements.remove(key);
+                cached = null;
+            }
+            if (cached == null) {
+                cached = new CachedStatement(key, (PreparedStatement) invoke(connection, method, args));
+                statements.put(key, cached);
+                pool.getProvider().statementPrepared(false);
+                return newStatementProxy(PREPARED_STATEMENT_PROXY, PreparedStatement.class, connectionProxy,
+                        cached.statement, sql, cached);
+            }
+            if (!cached.inUse) {
+                cached.inUse = true;
+                pool.getProvider().statementPrepared(true);
+                return newStatementProxy(PREPARED_STATEMENT_PROXY, PreparedStatement.class, connectionProxy,
+                        cached.statement, sql, cached);
+            }
+            // The statement is already used, so a second one is prepared that is not cached
+        }
+        pool.getProvider().statementPrepared(false);
+        return newStatementProxy(PREPARED_STATEMENT_PROXY, PreparedStatement.class, connectionProxy,
+                (Statement) invoke(connection, method, args), sql, null);
+    }
+
+    private <T extends Statement> T newStatementProxy(Constructor<?> constructor, Class<T> type,
+            Object connectionProxy, Statement statement, String sql, CachedStatement cached)
+    {
+        final StatementHandler handler = new StatementHandler(connectionProxy, statement, sql, cached);
+        openStatements.add(handler);
+        return newProxy(constructor, type, handler);
+    }
+
+    private static Constructor<?> proxyConstructor(Class<?> type) {
+        try {
+            return Proxy.getProxyClass(PooledConnection.class.getClassLoader(), type)
+                    .getConstructor(InvocationHandler.class);
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T newProxy(Constructor<?> constructor, Class<T> type, InvocationHandler handler) {
+        try {
+            return type.cast(constructor.newInstance(handler));
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        }
+        catch (Exception e) {
+            Log.debug("Failed to close " + closeable, e);
+        }
+    }
+
+    /**
+     * A prepared statement in the cache of the connection.
+     */
+    private static class CachedStatement {
+        private final String key;
+        private final PreparedStatement statement;
+        private boolean inUse = true;
+        private boolean evicted;
+
+        CachedStatement(String key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+    }
+
+    /**
+     * Handles the calls to the connection by the caller it was handed out to.
+     */
+    private class Lease implements InvocationHandler {
+
+        private final long time = System.currentTimeMillis();
+        private final Throwable origin;
+        private boolean closed;
+
+        Lease(boolean trackOrigin) {
+            origin = trackOrigin ? new Throwable("The connection was taken from the pool here") : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        pool.release(PooledConnection.this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + connection;
+            }
+            if (closed) {
+                throw new SQLException("The connection is closed");
+            }
+            switch (name) {
+                case "prepareStatement":
+                    return prepareStatement(proxy, method, args);
+                case "prepareCall":
+                    pool.getProvider().statementPrepared(false);
+                    return newStatementProxy(CALLABLE_STATEMENT_PROXY, CallableStatement.class, proxy,
+                            (Statement) PooledConnection.invoke(connection, method, args), (String) args[0], null);
+                case "createStatement":
+                    return newStatementProxy(STATEMENT_PROXY, Statement.class, proxy,
+                            (Statement) PooledConnection.invoke(connection, method, args), null, null);
+            }
+            if (CONNECTION_SETTERS.contains(name)) {
+                dirty = true;
+            }
+            return PooledConnection.invoke(connection, method, args);
+        }
+    }
+
+    /**
+     * Handles the calls to a statement of the connection.
+     */
+    private class StatementHandler implements InvocationHandler {
+
+        private final Object connectionProxy;
+        private final Statement statement;
+        private final String sql;
+        private final CachedStatement cached;
+        private List<ResultSet> resultSets;
+        private boolean closed;
+        private boolean dirty;
+
+        StatementHandler(Object connectionProxy, Statement statement, String sql, CachedStatement cached) {
+            this.connectionProxy = connectionProxy;
+            this.statement = statement;
+            this.sql = sql;
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final String name = method.getName();
+            switch (name) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return statement.toString();
+            }
+            if (closed) {
+                throw new SQLException("The statement is closed");
+            }
+            if (name.equals("getConnection")) {
+                return connectionProxy;
+            }
+            if (STATEMENT_SETTERS.contains(name)) {
+                dirty = true;
+            }
+            final Object result;
+            if (name.startsWith("execute")) {
+                final String query = args != null && args[0] instanceof String ? (String) args[0] : sql;
+                final long start = System.nanoTime();
+                try {
+                    result = PooledConnection.invoke(statement, method, args);
+                }
+                finally {
+                    pool.getProvider().statementExecuted(query, System.nanoTime() - start);
+                }
+            }
+            else {
+                result = PooledConnection.invoke(statement, method, args);
+            }
+            if (cached != null && result instanceof ResultSet) {
+                // Closing a cached statement doesn't close its result sets
+                if (resultSets == null) {
+                    resultSets = new ArrayList<>(1);
+                }
+                resultSets.add((ResultSet) result);
+            }
+            return result;
+        }
+
+        void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            openStatements.remove(this);
+            if (cached == null) {
+                statement.close();
+                return;
+            }
+            if (resultSets != null) {
+                for (ResultSet resultSet : resultSets) {
+                    closeQuietly(resultSet);
+                }
+                resultSets = null;
+            }
+            if (!dirty && !cached.evicted) {
+                try {
+                    cached.statement.clearParameters();
+                    cached.statement.clearWarnings();
+                    cached.inUse = false;
+                    return;
+                }
+                catch (SQLException e) {
+                    Log.debug("Closing a prepared statement that could not be reset", e);
+                }
+            }
+            if (!cached.evicted) {
+                statements.remove(cached.key);
+            }
+            statement.close();
+        }
+    }
+}
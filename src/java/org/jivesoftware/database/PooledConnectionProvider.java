@@ -0,0 +1,605 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.LatencyHistogram;
+import org.jivesoftware.util.LocaleUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection provider with its own connection pool, which caches the prepared statements of
+ * each connection and keeps latency histograms of the statements that are executed and of the
+ * time spent waiting for a connection. It's used instead of the Proxool based
+ * {@link DefaultConnectionProvider} by setting <tt>connectionProvider.className</tt> to
+ * <tt>org.jivesoftware.database.PooledConnectionProvider</tt>, and it's configured by the same
+ * <tt>database.defaultProvider.*</tt> properties, plus:<ul>
+ *
+ *     <li><tt>database.defaultProvider.statementCacheSize</tt> -- the number of prepared
+ *          statements cached by each connection, 0 to disable the cache. The default is 50.</li>
+ *     <li><tt>database.defaultProvider.maxWait</tt> -- how long to wait for a connection when
+ *          they're all in use, in milliseconds. The default is 30 seconds.</li>
+ *     <li><tt>database.defaultProvider.leakDetectionThreshold</tt> -- how long a connection can
+ *          be used before it's logged as a possible leak, with the stack trace of the code that
+ *          took it, in milliseconds. 0 disables leak detection. The default is 5 minutes.</li>
+ * </ul>
+ *
+ * The 99th percentiles of the connection wait time and of the query time are sampled by the
+ * {@link StatisticsManager}, and the admin console shows the histograms of each statement.
+ */
+public class PooledConnectionProvider implements ConnectionProvider {
+
+    private static final Logger Log = LoggerFactory.getLogger(PooledConnectionProvider.class);
+
+    private static final String WAIT_STAT_KEY = "db_pool_wait";
+    private static final String QUERY_STAT_KEY = "db_query_time";
+
+    /**
+     * The maximum number of distinct statements that histograms are kept for, so that statements
+     * that are built with literal values can't use up the memory.
+     */
+    private static final int MAX_TRACKED_STATEMENTS = 1000;
+
+    private String driver;
+    private String serverURL;
+    private String username;
+    private String password;
+    private int minConnections = 3;
+    private int maxConnections = 10;
+    private double connectionTimeout = 0.5;
+    private String testSQL;
+    private boolean testBeforeUse;
+    private int statementCacheSize = 50;
+    private long maxWait = 30000;
+    private long leakDetectionThreshold = 300000;
+
+    private volatile ConnectionPool pool;
+
+    private final ConcurrentHashMap<String, LatencyHistogram> statementTimes = new ConcurrentHashMap<>();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram sampledWaitTime = new LatencyHistogram();
+    private final LatencyHistogram sampledQueryTime = new LatencyHistogram();
+    private final AtomicLong statementsPrepared = new AtomicLong();
+    private final AtomicLong statementsReused = new AtomicLong();
+
+    /**
+     * Creates a new PooledConnectionProvider.
+     */
+    public PooledConnectionProvider() {
+        loadProperties();
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final ConnectionPool pool = this.pool;
+        if (pool == null) {
+            throw new SQLException("The connection provider is not started");
+        }
+        return pool.getConnection();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (pool != null) {
+            return;
+        }
+        if (driver != null) {
+            try {
+                Class.forName(driver);
+            }
+            catch (ClassNotFoundException e) {
+                Log.error("Unable to find the JDBC driver " + driver, e);
+            }
+        }
+        pool = new ConnectionPool(this);
+        StatisticsManager.getInstance().addStatistic(WAIT_STAT_KEY, new HistogramStatistic("wait", sampledWaitTime));
+        StatisticsManager.getInstance().addStatistic(QUERY_STAT_KEY, new HistogramStatistic("query", sampledQueryTime));
+    }
+
+    @Override
+    public synchronized void restart() {
+        destroy();
+        start();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (pool != null) {
+            StatisticsManager.getInstance().removeStatistic(WAIT_STAT_KEY);
+            StatisticsManager.getInstance().removeStatistic(QUERY_STAT_KEY);
+            pool.close();
+            pool = null;
+        }
+    }
+
+    /**
+     * Opens a physical connection to the database.
+     *
+     * @return the connection.
+     * @throws SQLException if the connection could not be opened.
+     */
+    Connection createConnection() throws SQLException {
+        final Properties info = new Properties();
+        if (username != null) {
+            info.setProperty("user", username);
+        }
+        if (password != null) {
+            info.setProperty("password", password);
+        }
+        return DriverManager.getConnection(serverURL, info);
+    }
+
+    void connectionTaken(long waitNanos) {
+        waitTime.record(waitNanos);
+        sampledWaitTime.record(waitNanos);
+    }
+
+    void statementPrepared(boolean reused) {
+        (reused ? statementsReused : statementsPrepared).incrementAndGet();
+    }
+
+    void statementExecuted(String sql, long nanos) {
+        sampledQueryTime.record(nanos);
+        if (sql == null) {
+            return;
+        }
+        LatencyHistogram histogram = statementTimes.get(sql);
+        if (histogram == null) {
+            if (statementTimes.size() >= MAX_TRACKED_STATEMENTS) {
+                return;
+            }
+            final LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = statementTimes.putIfAbsent(sql, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Returns the histograms of the execution times of the statements, since the statistics
+     * were last reset.
+     *
+     * @return the histograms, keyed by SQL statement.
+     */
+    public Map<String, LatencyHistogram> getStatementTimes() {
+        return Collections.unmodifiableMap(statementTimes);
+    }
+
+    /**
+     * Returns the histogram of the times it took to get a connection from the pool, since the
+     * statistics were last reset.
+     *
+     * @return the histogram.
+     */
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * Returns the number of statements that were prepared by the database.
+     *
+     * @return the number of statements prepared since the statistics were last reset.
+     */
+    public long getStatementsPrepared() {
+        return statementsPrepared.get();
+    }
+
+    /**
+     * Returns the number of prepared statements that were reused from the statement cache.
+     *
+     * @return the number of statements reused since the statistics were last reset.
+     */
+    public long getStatementsReused() {
+        return statementsReused.get();
+    }
+
+    /**
+     * Resets the histograms and counters shown by the admin console.
+     */
+    public void resetStatistics() {
+        statementTimes.clear();
+        waitTime.reset();
+        statementsPrepared.set(0);
+        statementsReused.set(0);
+    }
+
+    /**
+     * Returns the number of open connections.
+     *
+     * @return the number of connections, whether in use or idle.
+     */
+    public int getOpenConnections() {
+        final ConnectionPool pool = this.pool;
+        return pool == null ? 0 : pool.getSize();
+    }
+
+    /**
+     * Returns the number of connections that are in use.
+     *
+     * @return the number of connections in use.
+     */
+    public int getActiveConnections() {
+        final ConnectionPool pool = this.pool;
+        return pool == null ? 0 : pool.getLeasedCount();
+    }
+
+    /**
+     * Returns the number of threads that are waiting for a connection.
+     *
+     * @return the number of waiting threads.
+     */
+    public int getWaitingThreads() {
+        final ConnectionPool pool = this.pool;
+        return pool == null ? 0 : pool.getWaitingCount();
+    }
+
+    /**
+     * Returns the JDBC driver classname used to make database connections.
+     * For example: com.mysql.jdbc.Driver
+     *
+     * @return the JDBC driver classname.
+     */
+    public String getDriver() {
+        return driver;
+    }
+
+    /**
+     * Sets the JDBC driver classname used to make database connections.
+     * For example: com.mysql.jdbc.Driver
+     *
+     * @param driver the fully qualified JDBC driver name.
+     */
+    public void setDriver(String driver) {
+        this.driver = driver;
+        saveProperties();
+    }
+
+    /**
+     * Returns the JDBC connection URL used to make database connections.
+     *
+     * @return the JDBC connection URL.
+     */
+    public String getServerURL() {
+        return serverURL;
+    }
+
+    /**
+     * Sets the JDBC connection URL used to make database connections.
+     *
+     * @param serverURL the JDBC connection URL.
+     */
+    public void setServerURL(String serverURL) {
+        this.serverURL = serverURL;
+        saveProperties();
+    }
+
+    /**
+     * Returns the username used to connect to the database. In some cases,
+     * a username is not needed so this method will return null.
+     *
+     * @return the username used to connect to the datbase.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the username used to connect to the database. In some cases, a
+     * username is not needed so null should be passed in.
+     *
+     * @param username the username used to connect to the database.
+     */
+    public void setUsername(String username) {
+        this.username = username;
+        saveProperties();
+    }
+
+    /**
+     * Returns the password used to connect to the database. In some cases,
+     * a password is not needed so this method will return null.
+     *
+     * @return the password used to connect to the database.
+     */
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Sets the password used to connect to the database. In some cases, a
+     * password is not needed so null should be passed in.
+     *
+     * @param password the password used to connect to the database.
+     */
+    public void setPassword(String password) {
+        this.password = password;
+        saveProperties();
+    }
+
+    /**
+     * Returns the minimum number of connections that the pool keeps open.
+     *
+     * @return the minimum number of connections in the pool.
+     */
+    public int getMinConnections() {
+        return minConnections;
+    }
+
+    /**
+     * Sets the minimum number of connections that the pool keeps open.
+     *
+     * @param minConnections the minimum number of connections in the pool.
+     */
+    public void setMinConnections(int minConnections) {
+        this.minConnections = minConnections;
+        saveProperties();
+    }
+
+    /**
+     * Returns the maximum number of connections that can be in use at the same time.
+     *
+     * @return the max possible number of connections in the pool.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of connections that can be in use at the same time.
+     *
+     * @param maxConnections the max possible number of connections in the pool.
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        saveProperties();
+    }
+
+    /**
+     * Returns the maximum lifetime of a connection in days. For example, a value of .5 would
+     * correspond to reopening the connections in the pool once every half day.
+     *
+     * @return the maximum lifetime of a connection in days.
+     */
+    public double getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Sets the maximum lifetime of a connection in days.
+     *
+     * @param connectionTimeout the maximum lifetime of a connection in days.
+     */
+    public void setConnectionTimeout(double connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+        saveProperties();
+    }
+
+    /**
+     * Returns the SQL statement used to test if a connection is valid.
+     *
+     * @return the SQL statement that will be run to test a connection.
+     */
+    public String getTestSQL() {
+        return testSQL;
+    }
+
+    /**
+     * Sets the SQL statement used to test if a connection is valid.
+     *
+     * @param testSQL the SQL statement that will be run to test a connection.
+     */
+    public void setTestSQL(String testSQL) {
+        this.testSQL = testSQL;
+        saveProperties();
+    }
+
+    /**
+     * Returns whether idle connections are tested before being handed out.
+     *
+     * @return true if connections are tested before use.
+     */
+    public boolean getTestBeforeUse() {
+        return testBeforeUse;
+    }
+
+    /**
+     * Sets whether idle connections are tested before being handed out.
+     *
+     * @param testBeforeUse true if connections are to be tested before use.
+     */
+    public void setTestBeforeUse(boolean testBeforeUse) {
+        this.testBeforeUse = testBeforeUse;
+        saveProperties();
+    }
+
+    /**
+     * Returns the number of prepared statements cached by each connection.
+     *
+     * @return the size of the statement cache of a connection, 0 if it's disabled.
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Sets the number of prepared statements cached by each connection.
+     *
+     * @param statementCacheSize the size of the statement cache of a connection, 0 to disable it.
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+        saveProperties();
+    }
+
+    /**
+     * Returns how long to wait for a connection when they're all in use.
+     *
+     * @return the maximum wait time in milliseconds.
+     */
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Sets how long to wait for a connection when they're all in use.
+     *
+     * @param maxWait the maximum wait time in milliseconds.
+     */
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+        saveProperties();
+    }
+
+    /**
+     * Returns how long a connection can be used before it's logged as a possible leak.
+     *
+     * @return the time in milliseconds, 0 if leak detection is disabled.
+     */
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * Sets how long a connection can be used before it's logged as a possible leak.
+     *
+     * @param leakDetectionThreshold the time in milliseconds, 0 to disable leak detection.
+     */
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+        saveProperties();
+    }
+
+    /**
+     * Load properties that already exist from Jive properties.
+     */
+    private void loadProperties() {
+        driver = JiveGlobals.getXMLProperty("database.defaultProvider.driver");
+        serverURL = JiveGlobals.getXMLProperty("database.defaultProvider.serverURL");
+        username = JiveGlobals.getXMLProperty("database.defaultProvider.username");
+        password = JiveGlobals.getXMLProperty("database.defaultProvider.password");
+        testSQL = JiveGlobals.getXMLProperty("database.defaultProvider.testSQL", DbConnectionManager.getTestSQL(driver));
+        testBeforeUse = JiveGlobals.getXMLProperty("database.defaultProvider.testBeforeUse", false);
+        minConnections = JiveGlobals.getXMLProperty("database.defaultProvider.minConnections", minConnections);
+        maxConnections = JiveGlobals.getXMLProperty("database.defaultProvider.maxConnections", maxConnections);
+        statementCacheSize = JiveGlobals.getXMLProperty("database.defaultProvider.statementCacheSize", statementCacheSize);
+        try {
+            String value = JiveGlobals.getXMLProperty("database.defaultProvider.connectionTimeout");
+            if (value != null) {
+                connectionTimeout = Double.parseDouble(value);
+            }
+            value = JiveGlobals.getXMLProperty("database.defaultProvider.maxWait");
+            if (value != null) {
+                maxWait = Long.parseLong(value);
+            }
+            value = JiveGlobals.getXMLProperty("database.defaultProvider.leakDetectionThreshold");
+            if (value != null) {
+                leakDetectionThreshold = Long.parseLong(value);
+            }
+        }
+        catch (NumberFormatException e) {
+            Log.error("Error: could not parse default pool properties. " +
+                    "Make sure the values exist and are correct.", e);
+        }
+    }
+
+    /**
+     * Save properties as Jive properties.
+     */
+    private void saveProperties() {
+        JiveGlobals.setXMLProperty("database.defaultProvider.driver", driver);
+        JiveGlobals.setXMLProperty("database.defaultProvider.serverURL", serverURL);
+        JiveGlobals.setXMLProperty("database.defaultProvider.username", username);
+        JiveGlobals.setXMLProperty("database.defaultProvider.password", password);
+        JiveGlobals.setXMLProperty("database.defaultProvider.testSQL", testSQL);
+        JiveGlobals.setXMLProperty("database.defaultProvider.testBeforeUse", Boolean.toString(testBeforeUse));
+        JiveGlobals.setXMLProperty("database.defaultProvider.minConnections", Integer.toString(minConnections));
+        JiveGlobals.setXMLProperty("database.defaultProvider.maxConnections", Integer.toString(maxConnections));
+        JiveGlobals.setXMLProperty("database.defaultProvider.connectionTimeout", Double.toString(connectionTimeout));
+        JiveGlobals.setXMLProperty("database.defaultProvider.statementCacheSize", Integer.toString(statementCacheSize));
+        JiveGlobals.setXMLProperty("database.defaultProvider.maxWait", Long.toString(maxWait));
+        JiveGlobals.setXMLProperty("database.defaultProvider.leakDetectionThreshold", Long.toString(leakDetectionThreshold));
+    }
+
+    @Override
+    public String toString() {
+        return minConnections + "," + maxConnections + "," + getOpenConnections() + "," + getActiveConnections();
+    }
+
+    /**
+     * Samples the 99th percentile of the connection wait time or of the query time.
+     */
+    private static class HistogramStatistic implements Statistic {
+
+        private final String kind;
+        private final LatencyHistogram histogram;
+
+        HistogramStatistic(String kind, LatencyHistogram histogram) {
+            this.kind = kind;
+            this.histogram = histogram;
+        }
+
+        @Override
+        public String getName() {
+            return LocaleUtils.getLocalizedString("stat.db." + kind + ".name");
+        }
+
+        @Override
+        public Type getStatType() {
+            return Type.count;
+        }
+
+        @Override
+        public String getDescription() {
+            return LocaleUtils.getLocalizedString("stat.db." + kind + ".desc");
+        }
+
+        @Override
+        public String getUnits() {
+            return LocaleUtils.getLocalizedString("stat.db." + kind + ".units");
+        }
+
+        @Override
+        public double sample() {
+            final double value = histogram.getPercentile(99);
+            histogram.reset();
+            return value;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
+}
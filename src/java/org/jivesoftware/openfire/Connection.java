@@ -206,6 +206,19 @@ public interface Connection extends Closeable {
      */
     public void deliver(Packet packet) throws UnauthorizedException;
 
+    /**
+     * Delivers the packet to this connection, and invokes a callback once the packet is written.
+     * Callbacks are invoked in the order in which the packets are written, while no other packet
+     * can be delivered to this connection, so that the callback may register the packet (e.g. with
+     * a sequence number) consistently with the stream. The callback is not invoked if the packet
+     * could not be written.
+     *
+     * @param packet the packet to deliver.
+     * @param written the callback that is invoked once the packet is written.
+     * @throws org.jivesoftware.openfire.auth.UnauthorizedException if a permission error was detected.
+     */
+    public void deliver(Packet packet, Runnable written) throws UnauthorizedException;
+
     /**
      * Delivers raw text to this connection. This is a very low level way for sending
      * XML stanzas to the client. This method should not be used unless you have very
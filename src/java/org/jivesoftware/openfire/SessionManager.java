@@ -26,13 +26,19 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 
+import org.dom4j.Element;
+
 import org.jivesoftware.openfire.audit.AuditStreamIDFactory;
 import org.jivesoftware.openfire.auth.AuthToken;
 import org.jivesoftware.openfire.auth.UnauthorizedException;
@@ -60,9 +66,15 @@ import org.jivesoftware.openfire.session.OutgoingServerSession;
 import org.jivesoftware.openfire.session.RemoteSessionLocator;
 import org.jivesoftware.openfire.session.Session;
 import org.jivesoftware.openfire.spi.BasicStreamIDFactory;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.openfire.stats.i18nStatistic;
+import org.jivesoftware.openfire.streammanagement.StreamManager;
 import org.jivesoftware.openfire.user.UserManager;
 import org.jivesoftware.util.JiveGlobals;
 import org.jivesoftware.util.LocaleUtils;
+import org.jivesoftware.util.SystemProperty;
+import org.jivesoftware.util.TaskEngine;
 import org.jivesoftware.util.cache.Cache;
 import org.jivesoftware.util.cache.CacheFactory;
 import org.slf4j.Logger;
@@ -70,6 +82,7 @@ import org.slf4j.LoggerFactory;
 import org.xmpp.packet.JID;
 import org.xmpp.packet.Message;
 import org.xmpp.packet.Packet;
+import org.xmpp.packet.PacketError;
 import org.xmpp.packet.Presence;
 
 /**
@@ -83,6 +96,15 @@ public class SessionManager extends BasicModule implements ClusterEventListener/
 
 	private static final Logger Log = LoggerFactory.getLogger(SessionManager.class);
 
+    private static final SystemProperty<Boolean> OTHER_RESOURCE_PRESENCE =
+            SystemProperty.ofBoolean("xmpp.client.other-resource.presence", true);
+    /**
+     * The maximum number of bytes of unacknowledged stanzas that the sessions waiting to be
+     * resumed may keep, after which the oldest of these sessions are terminated.
+     */
+    private static final SystemProperty<Long> RESUME_MEMORY_MAX =
+            SystemProperty.ofLong("stream.management.resume.memory.max", 64 * 1024 * 1024, 0, Long.MAX_VALUE);
+
     public static final String COMPONENT_SESSION_CACHE_NAME = "Components Sessions";
     public static final String CM_CACHE_NAME = "Connection Managers Sessions";
     public static final String ISS_CACHE_NAME = "Incoming Server Sessions";
@@ -160,6 +182,23 @@ public class SessionManager extends BasicModule implements ClusterEventListener/
     private OutgoingServerSessionListener outgoingServerListener = new OutgoingServerSessionListener();
     private ConnectionMultiplexerSessionListener multiplexerSessionListener = new ConnectionMultiplexerSessionListener();
 
+    /**
+     * Local client sessions that can be resumed (XEP-0198), including those whose connection is
+     * still open.
+     * Key: resumption ID, Value: session
+     */
+    private final Map<String, LocalClientSession> resumableSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Local client sessions whose connection was lost and that wait to be resumed, oldest first.
+     * Key: session, Value: time at which the connection was lost
+     */
+    private final Map<LocalClientSession, Long> detachedSessions = new LinkedHashMap<>();
+
+    private final AtomicLong resumedSessions = new AtomicLong();
+    private final AtomicLong failedResumptions = new AtomicLong();
+    private TimerTask detachedSessionsTask;
+
     /**
      * Local session manager responsible for keeping sessions connected to this JVM that are not
      * present in the routing table.
@@ -617,7 +656,7 @@ public class SessionManager extends BasicModule implements ClusterEventListener/
      * @return true if presence should be broadcast to other resources of the same account
      */
     public static boolean isOtherResourcePresenceEnabled() {
-        return JiveGlobals.getBooleanProperty("xmpp.client.other-resource.presence", true);
+        return OTHER_RESOURCE_PRESENCE.getValue();
     }
 
     /**
@@ -1238,32 +1277,200 @@ public class SessionManager extends BasicModule implements ClusterEventListener/
          */
         @Override
         public void onConnectionClose(Object handback) {
-            try {
-                LocalClientSession session = (LocalClientSession) handback;
-                try {
-                    if ((session.getPresence().isAvailable() || !session.wasAvailable()) &&
-                            routingTable.hasClientRoute(session.getAddress())) {
-                        // Send an unavailable presence to the user's subscribers
-                        // Note: This gives us a chance to send an unavailable presence to the
-                        // entities that the user sent directed presences
-                        Presence presence = new Presence();
-                        presence.setType(Presence.Type.unavailable);
-                        presence.setFrom(session.getAddress());
-                        router.route(presence);
-                    }
+            final LocalClientSession session = (LocalClientSession) handback;
+            if (session.getStreamManager().isResumable() && detachClientSession(session)) {
+                // Keep the session, the client may resume it
+                return;
+            }
+            terminateClientSession(session);
+        }
+    }
+
+    /**
+     * Keeps a session whose connection was lost, so that the client can resume it (XEP-0198).
+     *
+     * @param session the session whose connection was lost.
+     * @return true if the session was kept.
+     */
+    private boolean detachClientSession(LocalClientSession session) {
+        if (session.getStreamManager().getResumeTimeout() <= 0) {
+            return false;
+        }
+        Log.debug("Connection of session {} was lost. Keeping the session for {} seconds.",
+                session.getAddress(), session.getStreamManager().getResumeTimeout());
+        synchronized (detachedSessions) {
+            detachedSessions.put(session, System.currentTimeMillis());
+        }
+        return true;
+    }
 
-                    session.getStreamManager().onClose(router, serverAddress);
+    /**
+     * Terminates the sessions that were not resumed in time, and the oldest sessions that wait
+     * to be resumed if their unacknowledged stanzas use too much memory.
+     */
+    private void expireDetachedSessions() {
+        final long now = System.currentTimeMillis();
+        final List<LocalClientSession> expired = new ArrayList<>();
+        synchronized (detachedSessions) {
+            // Only the detached sessions count against the limit, as connected sessions get
+            // their stanzas acknowledged
+            long excess = -RESUME_MEMORY_MAX.getValue();
+            for (LocalClientSession session : detachedSessions.keySet()) {
+                excess += session.getStreamManager().getUnacknowledgedBytes();
+            }
+            final Iterator<Map.Entry<LocalClientSession, Long>> it = detachedSessions.entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<LocalClientSession, Long> entry = it.next();
+                final StreamManager streamManager = entry.getKey().getStreamManager();
+                if (excess > 0 || !streamManager.isResumable()
+                        || now - entry.getValue() > streamManager.getResumeTimeout() * 1000L) {
+                    excess -= streamManager.getUnacknowledgedBytes();
+                    expired.add(entry.getKey());
+                    it.remove();
                 }
-                finally {
-                    // Remove the session
-                    removeSession(session);
+            }
+        }
+        for (LocalClientSession session : expired) {
+            Log.debug("Session {} was not resumed. Terminating it.", session.getAddress());
+            terminateClientSession(session);
+        }
+    }
+
+    /**
+     * Resumes a client session (XEP-0198) over the connection of a new session. The new session
+     * must be authenticated as the same user, and must not have bound a resource. It is discarded
+     * and its connection is used by the resumed session from now on. The presence, roster and
+     * routes of the resumed session are left untouched.
+     *
+     * @param newSession the session that asks for resumption.
+     * @param resume the resume element sent by the client.
+     * @return the resumed session, or null if the session could not be resumed.
+     */
+    public LocalClientSession resumeClientSession(LocalClientSession newSession, Element resume) {
+        final String namespace = resume.getNamespaceURI();
+        final String previd = resume.attributeValue("previd");
+        final Connection connection = newSession.getConnection();
+        long h;
+        try {
+            h = Long.parseLong(resume.attributeValue("h"));
+        }
+        catch (NumberFormatException e) {
+            h = -1;
+        }
+
+        final LocalClientSession session = previd == null ? null : resumableSessions.get(previd);
+        if (h < 0 || session == null || !session.getStreamManager().isResumable()) {
+            failedResumptions.incrementAndGet();
+            connection.deliverRawText(StreamManager.getFailedElement(namespace, PacketError.Condition.item_not_found));
+            return null;
+        }
+        final AuthToken authToken = newSession.getAuthToken();
+        if (authToken == null || session.getAuthToken() == null
+                || !authToken.getUsername().equals(session.getAuthToken().getUsername())
+                || !localSessionManager.getPreAuthenticatedSessions().containsKey(newSession.getStreamID().toString())) {
+            // Only an authenticated session that did not bind a resource may resume the session of its user
+            failedResumptions.incrementAndGet();
+            connection.deliverRawText(StreamManager.getFailedElement(namespace, PacketError.Condition.unexpected_request));
+            return null;
+        }
+
+        synchronized (detachedSessions) {
+            detachedSessions.remove(session);
+        }
+
+        // Discard the new session. Its connection is taken over by the resumed session.
+        localSessionManager.getPreAuthenticatedSessions().remove(newSession.getStreamID().toString());
+        connectionsCounter.decrementAndGet();
+        connection.removeCloseListener(clientSessionListener);
+
+        // Close the previous connection, if the loss of the connection was not detected yet
+        final Connection previous = session.getConnection();
+        if (previous != connection && !previous.isClosed()) {
+            previous.removeCloseListener(clientSessionListener);
+            previous.close();
+        }
+
+        connection.init(session);
+        session.setStatus(Session.STATUS_AUTHENTICATED);
+        session.reattach(connection, h);
+        connection.registerCloseListener(clientSessionListener, session);
+        resumedSessions.incrementAndGet();
+        Log.debug("Session {} was resumed.", session.getAddress());
+        return session;
+    }
+
+    /**
+     * Terminates a session that waits to be resumed, typically because it was closed by the server
+     * in the meantime. Does nothing if the session does not wait to be resumed.
+     *
+     * @param session the session.
+     */
+    public void closeDetachedSession(LocalClientSession session) {
+        final boolean detached;
+        synchronized (detachedSessions) {
+            detached = detachedSessions.remove(session) != null;
+        }
+        if (detached) {
+            terminateClientSession(session);
+        }
+    }
+
+    /**
+     * Registers a session that the client may resume later (XEP-0198).
+     *
+     * @param id the resumption ID of the session.
+     * @param session the session.
+     */
+    public void registerResumableSession(String id, LocalClientSession session) {
+        resumableSessions.put(id, session);
+    }
+
+    /**
+     * Returns the number of sessions whose connection was lost and that wait to be resumed.
+     *
+     * @return a number of sessions.
+     */
+    public int getDetachedSessionCount() {
+        synchronized (detachedSessions) {
+            return detachedSessions.size();
+        }
+    }
+
+    /**
+     * Sends an unavailable presence on behalf of a client session whose connection was closed,
+     * and removes the session.
+     *
+     * @param session the session.
+     */
+    private void terminateClientSession(LocalClientSession session) {
+        try {
+            try {
+                if ((session.getPresence().isAvailable() || !session.wasAvailable()) &&
+                        routingTable.hasClientRoute(session.getAddress())) {
+                    // Send an unavailable presence to the user's subscribers
+                    // Note: This gives us a chance to send an unavailable presence to the
+                    // entities that the user sent directed presences
+                    Presence presence = new Presence();
+                    presence.setType(Presence.Type.unavailable);
+                    presence.setFrom(session.getAddress());
+                    router.route(presence);
                 }
+
+                session.getStreamManager().onClose(router, serverAddress);
             }
-            catch (Exception e) {
-                // Can't do anything about this problem...
-                Log.error(LocaleUtils.getLocalizedString("admin.error.close"), e);
+            finally {
+                // Remove the session
+                removeSession(session);
+                final String resumeId = session.getStreamManager().getResumeId();
+                if (resumeId != null) {
+                    resumableSessions.remove(resumeId);
+                }
             }
         }
+        catch (Exception e) {
+            // Can't do anything about this problem...
+            Log.error(LocaleUtils.getLocalizedString("admin.error.close"), e);
+        }
     }
 
     private class ComponentSessionListener implements ConnectionCloseListener {
@@ -1448,6 +1655,66 @@ public class SessionManager extends BasicModule implements ClusterEventListener/
 	public void start() throws IllegalStateException {
         super.start();
         localSessionManager.start();
+
+        detachedSessionsTask = new TimerTask() {
+            @Override
+            public void run() {
+                expireDetachedSessions();
+            }
+        };
+        TaskEngine.getInstance().schedule(detachedSessionsTask, 5000, 5000);
+
+        final StatisticsManager statisticsManager = StatisticsManager.getInstance();
+        statisticsManager.addStatistic("sm_resumed", new CounterStatistic("sm.resumed", resumedSessions));
+        statisticsManager.addStatistic("sm_resume_failed", new CounterStatistic("sm.resume_failed", failedResumptions));
+        statisticsManager.addStatistic("sm_detached_sessions", new i18nStatistic("sm.detached", Statistic.Type.count) {
+            @Override
+            public double sample() {
+                return getDetachedSessionCount();
+            }
+
+            @Override
+            public boolean isPartialSample() {
+                return false;
+            }
+        });
+        statisticsManager.addStatistic("sm_unacked_memory", new i18nStatistic("sm.memory", Statistic.Type.count) {
+            @Override
+            public double sample() {
+                return StreamManager.getTotalUnacknowledgedBytes() / 1024d;
+            }
+
+            @Override
+            public boolean isPartialSample() {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Samples the increase of a counter since the previous sample.
+     */
+    private static class CounterStatistic extends i18nStatistic {
+        private final AtomicLong counter;
+        private long last = 0;
+
+        CounterStatistic(String resourceKey, AtomicLong counter) {
+            super(resourceKey, Statistic.Type.rate);
+            this.counter = counter;
+        }
+
+        @Override
+        public synchronized double sample() {
+            final long current = counter.get();
+            final long delta = current - last;
+            last = current;
+            return delta;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return true;
+        }
     }
 
     @Override
@@ -1458,6 +1725,15 @@ public class SessionManager extends BasicModule implements ClusterEventListener/
         if (JiveGlobals.getBooleanProperty("shutdownMessage.enabled")) {
             sendServerMessage(null, LocaleUtils.getLocalizedString("admin.shutdown.now"));
         }
+        if (detachedSessionsTask != null) {
+            TaskEngine.getInstance().cancelScheduledTask(detachedSessionsTask);
+            detachedSessionsTask = null;
+        }
+        final StatisticsManager statisticsManager = StatisticsManager.getInstance();
+        statisticsManager.removeStatistic("sm_resumed");
+        statisticsManager.removeStatistic("sm_resume_failed");
+        statisticsManager.removeStatistic("sm_detached_sessions");
+        statisticsManager.removeStatistic("sm_unacked_memory");
         localSessionManager.stop();
         serverName = null;
     }
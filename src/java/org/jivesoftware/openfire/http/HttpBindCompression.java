@@ -0,0 +1,252 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.http;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.i18nStatistic;
+import org.jivesoftware.util.JiveGlobals;
+
+/**
+ * Compresses the bodies of HTTP binding responses using HTTP content encoding. A response is
+ * compressed when compression is enabled for the BOSH listener, the body is at least
+ * <tt>xmpp.httpbind.compression.threshold</tt> bytes long and the client accepts the encoding,
+ * either through the <tt>Accept-Encoding</tt> header of the request or through the 'accept'
+ * attribute of its session creation request (see XEP-0124). The gzip encoding is preferred
+ * over deflate.<p>
+ *
+ * Each thread keeps its own deflaters and output buffer, so compressing a body does not
+ * allocate native zlib state.
+ */
+final class HttpBindCompression {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    /**
+     * Key of the statistic that tracks the number of bytes saved by compressing responses.
+     */
+    public static final String STAT_KEY = "httpbind_compression_saved";
+
+    private static final String THRESHOLD_PROPERTY = "xmpp.httpbind.compression.threshold";
+    private static final int THRESHOLD_DEFAULT = 512;
+
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private static final AtomicLong uncompressedBytes = new AtomicLong();
+    private static final AtomicLong compressedBytes = new AtomicLong();
+    private static final AtomicLong savedBytes = new AtomicLong();
+
+    private static volatile boolean enabled = false;
+
+    private static final ThreadLocal<Compressor> compressors = new ThreadLocal<Compressor>() {
+        @Override
+        protected Compressor initialValue() {
+            return new Compressor();
+        }
+    };
+
+    private HttpBindCompression() {
+    }
+
+    /**
+     * Enables or disables the compression of responses. The {@link HttpBindManager} enables
+     * compression when the compression policy of the BOSH listener is optional.
+     *
+     * @param enabled true if responses may be compressed.
+     */
+    static void setEnabled(boolean enabled) {
+        HttpBindCompression.enabled = enabled;
+    }
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the content encoding to use for a response body or null if the body is to be sent
+     * uncompressed.
+     *
+     * @param request the request that is being answered.
+     * @param session the session of the request or null if the request is not related to a session.
+     * @param length the length of the uncompressed body.
+     * @return "gzip", "deflate" or null.
+     */
+    static String getEncoding(HttpServletRequest request, HttpSession session, int length) {
+        if (!enabled || length < JiveGlobals.getIntProperty(THRESHOLD_PROPERTY, THRESHOLD_DEFAULT)) {
+            return null;
+        }
+        final String encoding = selectEncoding(request.getHeader("Accept-Encoding"));
+        if (encoding != null) {
+            return encoding;
+        }
+        return session != null ? session.getAcceptedEncoding() : null;
+    }
+
+    /**
+     * Returns the preferred encoding out of a list of content encodings, such as the value of an
+     * <tt>Accept-Encoding</tt> header or of the 'accept' attribute of a session creation request.
+     * Encodings with a quality value of zero are not acceptable.
+     *
+     * @param accept a comma separated list of encodings, may be null.
+     * @return "gzip", "deflate" or null if none of them is acceptable.
+     */
+    static String selectEncoding(String accept) {
+        if (accept == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String token : accept.split(",")) {
+            final String[] parts = token.split(";");
+            final String coding = parts[0].trim().toLowerCase();
+            if (parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                return GZIP;
+            }
+            if (DEFLATE.equals(coding)) {
+                deflate = true;
+            }
+        }
+        return deflate ? DEFLATE : null;
+    }
+
+    /**
+     * Compresses a response body. The statistics are only updated if the compressed body is
+     * smaller than the original one.
+     *
+     * @param content the body to compress.
+     * @param encoding "gzip" or "deflate".
+     * @return the compressed body.
+     */
+    static byte[] compress(byte[] content, String encoding) {
+        final byte[] compressed = compressors.get().compress(content, GZIP.equals(encoding));
+        if (compressed.length < content.length) {
+            uncompressedBytes.addAndGet(content.length);
+            compressedBytes.addAndGet(compressed.length);
+            savedBytes.addAndGet(content.length - compressed.length);
+        }
+        return compressed;
+    }
+
+    /**
+     * Returns the total number of bytes of the response bodies that were compressed.
+     *
+     * @return the size of the compressed bodies before compression.
+     */
+    public static long getUncompressedBytes() {
+        return uncompressedBytes.get();
+    }
+
+    /**
+     * Returns the total number of bytes of the compressed response bodies that were sent.
+     *
+     * @return the size of the compressed bodies after compression.
+     */
+    public static long getCompressedBytes() {
+        return compressedBytes.get();
+    }
+
+    /**
+     * Tracks the amount of data that was not sent thanks to the compression of responses.
+     */
+    static class CompressionTracker extends i18nStatistic {
+        public CompressionTracker() {
+            super("httpbind.compression.saved", Statistic.Type.rate);
+        }
+
+        @Override
+        public double sample() {
+            return (savedBytes.getAndSet(0) / 1000d);
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return true;
+        }
+    }
+
+    /**
+     * The deflaters and output buffer of a thread.
+     */
+    private static class Compressor {
+        // Bodies larger than this do not leave their buffer behind
+        private static final int MAX_RETAINED = 64 * 1024;
+
+        private final Deflater raw = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final Deflater zlib = new Deflater(Deflater.DEFAULT_COMPRESSION, false);
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[4096];
+        private int count;
+
+        byte[] compress(byte[] content, boolean gzip) {
+            count = 0;
+            final Deflater deflater = gzip ? raw : zlib;
+            if (gzip) {
+                write(GZIP_HEADER, GZIP_HEADER.length);
+            }
+            deflater.reset();
+            deflater.setInput(content);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (count == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                count += deflater.deflate(buffer, count, buffer.length - count);
+            }
+            if (gzip) {
+                crc.reset();
+                crc.update(content);
+                writeInt((int) crc.getValue());
+                writeInt(content.length);
+            }
+            final byte[] result = Arrays.copyOf(buffer, count);
+            if (buffer.length > MAX_RETAINED) {
+                buffer = new byte[4096];
+            }
+            return result;
+        }
+
+        private void write(byte[] bytes, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, 0, buffer, count, length);
+            count += length;
+        }
+
+        // gzip trailers are little endian
+        private void writeInt(int value) {
+            ensureCapacity(4);
+            buffer[count++] = (byte) value;
+            buffer[count++] = (byte) (value >> 8);
+            buffer[count++] = (byte) (value >> 16);
+            buffer[count++] = (byte) (value >> 24);
+        }
+
+        private void ensureCapacity(int length) {
+            if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+            }
+        }
+    }
+}
@@ -25,15 +25,10 @@ import java.security.KeyStore;
 import java.security.cert.X509Certificate;
 import java.util.*;
 
-import javax.servlet.DispatcherType;
-import javax.servlet.Filter;
-import javax.servlet.FilterConfig;
-import javax.servlet.ServletException;
 
 import org.apache.jasper.servlet.JasperInitializer;
 import org.apache.tomcat.InstanceManager;
 import org.apache.tomcat.SimpleInstanceManager;
-import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.plus.annotation.ContainerInitializer;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.ForwardedRequestCustomizer;
@@ -47,10 +42,8 @@ import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.handler.DefaultHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
-import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
-import org.eclipse.jetty.servlets.AsyncGzipFilter;
 import org.eclipse.jetty.spdy.server.http.HTTPSPDYServerConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
@@ -543,18 +536,10 @@ public final class HttpBindManager {
         context.setAttribute("org.eclipse.jetty.containerInitializers", initializers);
         context.setAttribute(InstanceManager.class.getName(), new SimpleInstanceManager());
         context.addServlet(new ServletHolder(new HttpBindServlet()),"/*");
-        if (isHttpCompressionEnabled()) {
-	        Filter gzipFilter = new AsyncGzipFilter() {
-	        	@Override
-	        	public void init(FilterConfig config) throws ServletException {
-	        		super.init(config);
-	        		_methods.add(HttpMethod.POST.asString());
-	        		Log.info("Installed response compression filter");
-	        	}
-	        };
-	        FilterHolder filterHolder = new FilterHolder();
-	        filterHolder.setFilter(gzipFilter);
-        	context.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
+        // Response bodies are compressed by the servlet, see HttpBindCompression
+        HttpBindCompression.setEnabled(isHttpCompressionEnabled());
+        if (HttpBindCompression.isEnabled()) {
+            Log.info("Enabled response compression");
         }
     }
 
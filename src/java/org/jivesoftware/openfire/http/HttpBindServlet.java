@@ -272,6 +272,21 @@ public class HttpBindServlet extends HttpServlet {
     }
 
     public static void respond(HttpSession session, AsyncContext context, String content, boolean async) throws IOException
+    {
+        respond(session, context, content.getBytes(StandardCharsets.UTF_8), async);
+    }
+
+    /**
+     * Writes a UTF-8 encoded response body. The body is compressed when the client accepts a
+     * content encoding and the body is large enough to benefit from it.
+     *
+     * @param session the session of the request, or null.
+     * @param context the context of the request that is answered.
+     * @param content the UTF-8 encoded body.
+     * @param async true if the body is to be written asynchronously.
+     * @throws IOException if the body could not be written.
+     */
+    public static void respond(HttpSession session, AsyncContext context, byte[] content, boolean async) throws IOException
     {
         final HttpServletResponse response = ((HttpServletResponse) context.getResponse());
         final HttpServletRequest request = ((HttpServletRequest) context.getRequest());
@@ -287,14 +302,28 @@ public class HttpBindServlet extends HttpServlet {
                 response.addHeader("Cache-Control", "no-cache");
                 response.addHeader("Pragma", "no-cache");
             }
-            content = "_BOSH_(\"" + StringEscapeUtils.escapeJavaScript(content) + "\")";
+            final String body = new String(content, StandardCharsets.UTF_8);
+            content = ("_BOSH_(\"" + StringEscapeUtils.escapeJavaScript(body) + "\")").getBytes(StandardCharsets.UTF_8);
         }
         
         if (JiveGlobals.getBooleanProperty("log.httpbind.enabled", false)) {
-            System.out.println(new Date() + ": HTTP SENT(" + session.getStreamID().getID() + "): " + content);
+            System.out.println(new Date() + ": HTTP SENT(" + session.getStreamID().getID() + "): " + new String(content, StandardCharsets.UTF_8));
+        }
+
+        byte[] byteContent = content;
+        if (HttpBindCompression.isEnabled()) {
+            // The response differs depending on the encodings accepted by the client (handle proxies)
+            response.addHeader("Vary", "Accept-Encoding");
+            final String encoding = HttpBindCompression.getEncoding(request, session, content.length);
+            if (encoding != null) {
+                final byte[] compressed = HttpBindCompression.compress(content, encoding);
+                if (compressed.length < content.length) {
+                    response.setHeader("Content-Encoding", encoding);
+                    byteContent = compressed;
+                }
+            }
         }
 
-        final byte[] byteContent = content.getBytes(StandardCharsets.UTF_8);
         // BOSH communication should not use Chunked encoding.
         // This is prevented by explicitly setting the Content-Length header.
         response.setContentLength(byteContent.length);
@@ -72,7 +72,7 @@ public class HttpConnection {
         }
 
         try {
-            deliverBody(null, true);
+            deliverBody(getSession().createEmptyBody(false), true);
         }
         catch (HttpConnectionClosedException | IOException e) {
             Log.warn("Unexpected exception occurred while trying to close an HttpException.", e);
@@ -110,7 +110,31 @@ public class HttpConnection {
      * a deliverable to forward to the client
      */
     public void deliverBody(String body, boolean async) throws HttpConnectionClosedException, IOException {
-        // We only want to use this function once so we will close it when the body is delivered.
+        markClosed();
+
+        if (body == null) {
+            body = getSession().createEmptyBody(false);
+        }
+        HttpBindServlet.respond(getSession(), this.context, body, async);
+    }
+
+    /**
+     * Delivers content that is already encoded to the client. The content should be a body
+     * element encoded in UTF-8.
+     *
+     * @param body the UTF-8 encoded body.
+     * @param async when false, this method blocks until the data has been delivered to the client.
+     *
+     * @throws HttpConnectionClosedException when this connection to the client has already received
+     * a deliverable to forward to the client
+     */
+    public void deliverBody(byte[] body, boolean async) throws HttpConnectionClosedException, IOException {
+        markClosed();
+        HttpBindServlet.respond(getSession(), this.context, body, async);
+    }
+
+    private void markClosed() throws HttpConnectionClosedException {
+        // We only want to use this connection once so we will close it when the body is delivered.
     	synchronized (this) {
 	        if (isClosed) {
 	            throw new HttpConnectionClosedException("The http connection is no longer " +
@@ -118,11 +142,6 @@ public class HttpConnection {
 	        }
             isClosed = true;
         }
-
-        if (body == null) {
-            body = getSession().createEmptyBody(false);
-        }
-        HttpBindServlet.respond(getSession(), this.context, body, async);
     }
 
     /**
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.http;
+
+/**
+ * The requests that a client of an {@link HttpSession} has pending, ordered by request ID (RID).
+ * Connections are stored in a ring indexed by RID modulo the capacity of the ring, which makes
+ * lookups by RID and iteration in RID order cheap without any sorting. The ring grows when the
+ * spread of the RIDs it holds exceeds its capacity, which XEP-0124 keeps small: a client may not
+ * have more than 'requests' requests pending.<p>
+ *
+ * Instances are not thread-safe, callers must synchronize on the owning session.
+ *
+ */
+class HttpConnectionWindow {
+
+    private HttpConnection[] slots = new HttpConnection[8];
+    private int size = 0;
+    private long first = -1;
+    private long last = -1;
+
+    /**
+     * Adds a connection to the window. A connection that is already stored with the same
+     * request ID is replaced.
+     *
+     * @param connection the connection to add.
+     * @return the replaced connection or null if there was no connection with the same RID.
+     */
+    HttpConnection put(HttpConnection connection) {
+        final long rid = connection.getRequestId();
+        if (size == 0) {
+            first = rid;
+            last = rid;
+        }
+        else {
+            final long newFirst = Math.min(first, rid);
+            final long newLast = Math.max(last, rid);
+            if (newLast - newFirst >= slots.length) {
+                grow(newLast - newFirst + 1);
+            }
+            first = newFirst;
+            last = newLast;
+        }
+        final int index = indexOf(rid);
+        final HttpConnection previous = slots[index];
+        slots[index] = connection;
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the connection with the specified request ID.
+     *
+     * @param rid the request ID.
+     * @return the connection or null if the window has no connection with that RID.
+     */
+    HttpConnection get(long rid) {
+        if (size == 0 || rid < first || rid > last) {
+            return null;
+        }
+        return slots[indexOf(rid)];
+    }
+
+    /**
+     * Removes a connection from the window. Nothing happens if the window holds a different
+     * connection with the same request ID.
+     *
+     * @param connection the connection to remove.
+     * @return true if the connection was removed.
+     */
+    boolean remove(HttpConnection connection) {
+        final long rid = connection.getRequestId();
+        if (get(rid) != connection) {
+            return false;
+        }
+        slots[indexOf(rid)] = null;
+        size--;
+        if (size == 0) {
+            first = -1;
+            last = -1;
+        }
+        else {
+            while (slots[indexOf(first)] == null) {
+                first++;
+            }
+            while (slots[indexOf(last)] == null) {
+                last--;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the lowest request ID in the window or -1 if the window is empty.
+     *
+     * @return the lowest request ID in the window.
+     */
+    long getFirstRequestId() {
+        return first;
+    }
+
+    /**
+     * Returns the highest request ID in the window or -1 if the window is empty.
+     *
+     * @return the highest request ID in the window.
+     */
+    long getLastRequestId() {
+        return last;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of connections in the window that were not closed yet.
+     *
+     * @return the number of open connections.
+     */
+    int getOpenCount() {
+        int count = 0;
+        for (long rid = first; size > 0 && rid <= last; rid++) {
+            final HttpConnection connection = slots[indexOf(rid)];
+            if (connection != null && !connection.isClosed()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int indexOf(long rid) {
+        return (int) (rid & (slots.length - 1));
+    }
+
+    private void grow(long minCapacity) {
+        int capacity = slots.length;
+        while (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        final HttpConnection[] old = slots;
+        slots = new HttpConnection[capacity];
+        for (HttpConnection connection : old) {
+            if (connection != null) {
+                slots[indexOf(connection.getRequestId())] = connection;
+            }
+        }
+    }
+}
@@ -19,23 +19,27 @@
 
 package org.jivesoftware.openfire.http;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.dom4j.*;
 import org.dom4j.io.XMPPPacketReader;
@@ -97,12 +101,25 @@ public class HttpSession extends LocalClientSession {
         };
     }
 
+    private static final byte[] BODY_END = "</body>".getBytes(StandardCharsets.UTF_8);
+    // Bodies larger than this do not leave their buffer behind
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    // Buffer in which each thread assembles response bodies
+    private static final ThreadLocal<ByteArrayOutputStream> bodyBuffer = new ThreadLocal<ByteArrayOutputStream>() {
+        @Override
+        protected ByteArrayOutputStream initialValue() {
+            return new ByteArrayOutputStream(4096);
+        }
+    };
+
     private int wait;
     private int hold = 0;
     private String language;
-    private final List<HttpConnection> connectionQueue = Collections.synchronizedList(new LinkedList<HttpConnection>());
-    private final List<Deliverable> pendingElements = Collections.synchronizedList(new ArrayList<Deliverable>());
-    private final List<Delivered> sentElements = Collections.synchronizedList(new ArrayList<Delivered>());
+    // Pending requests of the client, ordered by RID. The window is also the lock that guards
+    // the RID bookkeeping and the pending and sent elements of this session.
+    private final HttpConnectionWindow connectionQueue = new HttpConnectionWindow();
+    private final List<Deliverable> pendingElements = new ArrayList<>();
+    private final Deque<Delivered> sentElements = new ArrayDeque<>();
     private boolean isSecure;
     private int maxPollingInterval;
     private long lastPoll = -1;
@@ -119,18 +136,18 @@ public class HttpSession extends LocalClientSession {
     private int majorVersion = -1;
     private int minorVersion = -1;
     private X509Certificate[] sslCertificates;
+    private volatile String acceptedEncoding;
 
-    private final Queue<Collection<Element>> packetsToSend = new LinkedList<>();
-    // Semaphore which protects the packets to send, so, there can only be one consumer at a time.
+    // Stanzas sent by the client that are waiting to be routed. Only the thread that raises
+    // inboundWork from zero routes them, so there can only be one consumer at a time.
+    private final Queue<Collection<Element>> packetsToSend = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inboundWork = new AtomicInteger();
     private SessionPacketRouter router;
 
-    private static final Comparator<HttpConnection> connectionComparator
-            = new Comparator<HttpConnection>() {
-        @Override
-        public int compare(HttpConnection o1, HttpConnection o2) {
-            return (int) (o1.getRequestId() - o2.getRequestId());
-        }
-    };
+    // Stanzas handed over by the routing threads that are waiting to be written to a connection.
+    // Only the thread that raises outboundWork from zero writes them, other threads return at once.
+    private final Queue<Deliverable> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger outboundWork = new AtomicInteger();
 
     public HttpSession(PacketDeliverer backupDeliverer, String serverName, InetAddress address,
                        StreamID streamID, long rid, HttpConnection connection, Locale language) {
@@ -418,8 +435,10 @@ public class HttpSession extends LocalClientSession {
     public void pause(int duration) {
     	// Respond immediately to all pending requests
     	synchronized (connectionQueue) {
-	        for (HttpConnection toClose : connectionQueue) {
-	            if (!toClose.isClosed()) {
+    	    final long last = connectionQueue.getLastRequestId();
+	        for (long rid = connectionQueue.getFirstRequestId(); rid != -1 && rid <= last; rid++) {
+	            final HttpConnection toClose = connectionQueue.get(rid);
+	            if (toClose != null && !toClose.isClosed()) {
 	                toClose.close();
 	                lastRequestID = toClose.getRequestId();
 	            }
@@ -436,16 +455,11 @@ public class HttpSession extends LocalClientSession {
      * @return the time in milliseconds since the epoch that this session was last active.
      */
     public long getLastActivity() {
-        if (!connectionQueue.isEmpty()) {
-        	synchronized (connectionQueue) {
-	            for (HttpConnection connection : connectionQueue) {
-	                // The session is currently active, set the last activity to the current time.
-	                if (!(connection.isClosed())) {
-	                    lastActivity = System.currentTimeMillis();
-	                    break;
-	                }
-	            }
-        	}
+        synchronized (connectionQueue) {
+            // The session is currently active, set the last activity to the current time.
+            if (connectionQueue.getOpenCount() > 0) {
+                lastActivity = System.currentTimeMillis();
+            }
         }
         return lastActivity;
     }
@@ -461,16 +475,13 @@ public class HttpSession extends LocalClientSession {
      * all requests with lower 'rid' values.
      */
     public long getLastAcknowledged() {
-    	long ack = lastRequestID;
-    	Collections.sort(connectionQueue, connectionComparator);
     	synchronized (connectionQueue) {
-	        for (HttpConnection connection : connectionQueue) {
-	            if (connection.getRequestId() == ack + 1) {
-	            	ack++;
-	            }
-	        }
+    	    long ack = lastRequestID;
+    	    while (connectionQueue.get(ack + 1) != null) {
+    	        ack++;
+    	    }
+    	    return ack;
     	}
-        return ack;
     }
 
     /**
@@ -548,6 +559,26 @@ public class HttpSession extends LocalClientSession {
 		this.lastResponseEmpty = lastResponseEmpty;
 	}
 
+    /**
+     * Sets the content encodings that the client is able to decompress, as specified by the
+     * 'accept' attribute of its session creation request.
+     *
+     * @param accept comma separated list of content encodings, or null.
+     */
+    public void setAcceptedEncodings(String accept) {
+        this.acceptedEncoding = HttpBindCompression.selectEncoding(accept);
+    }
+
+    /**
+     * Returns the content encoding that the client declared to be able to decompress when it
+     * created the session. Responses to the client may use this encoding.
+     *
+     * @return "gzip", "deflate" or null if the client did not declare support for either.
+     */
+    public String getAcceptedEncoding() {
+        return acceptedEncoding;
+    }
+
     /**
      * Sets whether the initial request on the session was secure.
      *
@@ -596,19 +627,27 @@ public class HttpSession extends LocalClientSession {
         int pauseDuration = HttpBindServlet.getIntAttribute(rootNode.attributeValue("pause"), -1);
 
         if ("terminate".equals(type)) {
-            connection.deliverBody(createEmptyBody(true), true);
+            synchronized (connectionQueue) {
+                connection.deliverBody(createEmptyBody(true), true);
+            }
             close();
-            lastRequestID = connection.getRequestId();
+            synchronized (connectionQueue) {
+                lastRequestID = connection.getRequestId();
+            }
         }
         else if ("true".equals(restartStream) && rootNode.elements().size() == 0) {
-            connection.deliverBody(createSessionRestartResponse(), true);
-            lastRequestID = connection.getRequestId();
+            synchronized (connectionQueue) {
+                connection.deliverBody(createSessionRestartResponse(), true);
+                lastRequestID = connection.getRequestId();
+            }
         }
         else if (pauseDuration > 0 && pauseDuration <= getMaxPause()) {
-            pause(pauseDuration);
-            connection.deliverBody(createEmptyBody(false), true);
-            lastRequestID = connection.getRequestId();
-            setLastResponseEmpty(true);
+            synchronized (connectionQueue) {
+                pause(pauseDuration);
+                connection.deliverBody(createEmptyBody(false), true);
+                lastRequestID = connection.getRequestId();
+                setLastResponseEmpty(true);
+            }
         }
         else {
             resetInactivityTimeout();
@@ -617,31 +656,38 @@ public class HttpSession extends LocalClientSession {
 
     /**
      * This methods sends any pending packets in the session. If no packets are
-     * pending, this method simply returns. The method is internally synchronized
-     * to avoid simultaneous sending operations on this Session. If two
-     * threads try to run this method simultaneously, the first one will trigger
-     * the pending packets to be sent, while the second one will simply return
-     * (as there are no packets left to send).
+     * pending, this method simply returns. Only one thread sends the packets of
+     * a session at a time. If two threads try to run this method simultaneously,
+     * the first one will send all pending packets (including the ones queued
+     * while it is sending), while the second one will simply return without
+     * waiting for the first one.
      */
     protected void sendPendingPackets() {
-        // access blocked only on send to prevent deadlocks
-        synchronized (packetsToSend) {
-            if (packetsToSend.isEmpty()) {
-                return;
-            }
-
-            if (router == null) {
-                router = new SessionPacketRouter(this);
-            }
-
-            for (Element packet : packetsToSend.remove()) {
-                try {
-                    router.route(packet);
+        if (inboundWork.getAndIncrement() != 0) {
+            // Another thread is sending the packets of this session
+            return;
+        }
+        int missed = 1;
+        while (true) {
+            Collection<Element> packets;
+            while ((packets = packetsToSend.poll()) != null) {
+                if (router == null) {
+                    router = new SessionPacketRouter(this);
                 }
-                catch (UnknownStanzaException e) {
-                    Log.error("Client provided unknown packet type", e);
+
+                for (Element packet : packets) {
+                    try {
+                        router.route(packet);
+                    }
+                    catch (UnknownStanzaException e) {
+                        Log.error("Client provided unknown packet type", e);
+                    }
                 }
             }
+            missed = inboundWork.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
         }
     }
 
@@ -670,7 +716,7 @@ public class HttpSession extends LocalClientSession {
      * @throws HttpBindException if the connection has violated a facet of the HTTP binding
      * protocol.
      */
-    synchronized HttpConnection createConnection(long rid, boolean isSecure, boolean isPoll, AsyncContext context)
+    HttpConnection createConnection(long rid, boolean isSecure, boolean isPoll, AsyncContext context)
             throws HttpConnectionClosedException, HttpBindException, IOException
     {
         final HttpConnection connection = new HttpConnection(rid, isSecure, sslCertificates, context);
@@ -679,25 +725,33 @@ public class HttpSession extends LocalClientSession {
         context.addListener(new AsyncListener() {
             @Override
             public void onComplete(AsyncEvent asyncEvent) throws IOException {
-                Log.debug("complete event " + asyncEvent);
-                connectionQueue.remove(connection);
+                if (Log.isDebugEnabled()) {
+                    Log.debug("complete event " + asyncEvent);
+                }
+                synchronized (connectionQueue) {
+                    connectionQueue.remove(connection);
+                }
                 fireConnectionClosed(connection);
             }
 
             @Override
             public void onTimeout(AsyncEvent asyncEvent) throws IOException {
-                Log.debug("timeout event " + asyncEvent);
+                if (Log.isDebugEnabled()) {
+                    Log.debug("timeout event " + asyncEvent);
+                }
                 try {
-                    // If onTimeout does not result in a complete(), the container falls back to default behavior.
-                    // This is why this body is to be delivered in a non-async fashion.
-                    connection.deliverBody(createEmptyBody(false), false);
-                    setLastResponseEmpty(true);
-
-                    // This connection timed out we need to increment the request count
-                    if (connection.getRequestId() != lastRequestID + 1) {
-                        throw new IOException("Unexpected RID error.");
+                    synchronized (connectionQueue) {
+                        // If onTimeout does not result in a complete(), the container falls back to default behavior.
+                        // This is why this body is to be delivered in a non-async fashion.
+                        connection.deliverBody(createEmptyBody(false), false);
+                        setLastResponseEmpty(true);
+
+                        // This connection timed out we need to increment the request count
+                        if (connection.getRequestId() != lastRequestID + 1) {
+                            throw new IOException("Unexpected RID error.");
+                        }
+                        lastRequestID = connection.getRequestId();
                     }
-                    lastRequestID = connection.getRequestId();
                 } catch (HttpConnectionClosedException e) {
                     Log.warn("Unexpected exception while processing connection timeout.", e);
                 }
@@ -707,9 +761,13 @@ public class HttpSession extends LocalClientSession {
 
             @Override
             public void onError(AsyncEvent asyncEvent) throws IOException {
-                Log.debug("error event " + asyncEvent);
+                if (Log.isDebugEnabled()) {
+                    Log.debug("error event " + asyncEvent);
+                }
                 Log.warn("Unhandled AsyncListener error: " + asyncEvent.getThrowable());
-                connectionQueue.remove(connection);
+                synchronized (connectionQueue) {
+                    connectionQueue.remove(connection);
+                }
                 fireConnectionClosed(connection);
             }
 
@@ -717,42 +775,42 @@ public class HttpSession extends LocalClientSession {
             public void onStartAsync(AsyncEvent asyncEvent) throws IOException {}
         });
 
-        if (rid <= lastRequestID) {
-            Delivered deliverable = retrieveDeliverable(rid);
-            if (deliverable == null) {
-                Log.warn("Deliverable unavailable for " + rid);
-                throw new HttpBindException("Unexpected RID error.",
-                        BoshBindingError.itemNotFound);
+        synchronized (connectionQueue) {
+            if (rid <= lastRequestID) {
+                Delivered deliverable = retrieveDeliverable(rid);
+                if (deliverable == null) {
+                    Log.warn("Deliverable unavailable for " + rid);
+                    throw new HttpBindException("Unexpected RID error.",
+                            BoshBindingError.itemNotFound);
+                }
+                connection.deliverBody(createDeliverable(deliverable.deliverables), true);
+                addConnection(connection, isPoll);
+                return connection;
+            }
+            else if (rid > (lastRequestID + maxRequests)) {
+                Log.warn("Request " + rid + " > " + (lastRequestID + maxRequests) + ", ending session.");
+                    throw new HttpBindException("Unexpected RID error.",
+                            BoshBindingError.itemNotFound);
             }
-            connection.deliverBody(createDeliverable(deliverable.deliverables), true);
+
             addConnection(connection, isPoll);
             return connection;
         }
-        else if (rid > (lastRequestID + maxRequests)) {
-            Log.warn("Request " + rid + " > " + (lastRequestID + maxRequests) + ", ending session.");
-                throw new HttpBindException("Unexpected RID error.",
-                        BoshBindingError.itemNotFound);
-        }
-
-        addConnection(connection, isPoll);
-        return connection;
     }
 
     private Delivered retrieveDeliverable(long rid) {
-    	Delivered result = null;
-    	synchronized (sentElements) {
-	        for (Delivered delivered : sentElements) {
-	            if (delivered.getRequestID() == rid) {
-	                result = delivered;
-	                break;
-	            }
-	        }
-    	}
-        return result;
+        // NOTE: synchronized by caller
+        for (Delivered delivered : sentElements) {
+            if (delivered.getRequestID() == rid) {
+                return delivered;
+            }
+        }
+        return null;
     }
 
     private void addConnection(HttpConnection connection, boolean isPoll) throws HttpBindException,
             HttpConnectionClosedException, IOException {
+        // NOTE: synchronized by caller
         if (connection == null) {
             throw new IllegalArgumentException("Connection cannot be null.");
         }
@@ -764,42 +822,41 @@ public class HttpSession extends LocalClientSession {
 
         final long rid = connection.getRequestId();
 
+        // Stanzas handed over by the routing threads are pending until a connection picks them up
+        drainOutbound();
+
         /*
-         * Search through the connection queue to see if this rid already exists on it. If it does then we
-         * will close and deliver the existing connection (if appropriate), and close and deliver the same
-         * deliverable on the new connection. This is under the assumption that a connection has been dropped,
+         * Check if this rid already exists in the connection queue. If it does then we will close and
+         * deliver the existing connection (if appropriate), and close and deliver the same deliverable
+         * on the new connection. This is under the assumption that a connection has been dropped,
          * and re-requested before jetty has realised.
          */
-        synchronized (connectionQueue) {
-			for (HttpConnection queuedConnection : connectionQueue) {
-				if (queuedConnection.getRequestId() == rid) {
-					if(Log.isDebugEnabled()) {
-						Log.debug("Found previous connection in queue with rid " + rid);
-					}
-					if(queuedConnection.isClosed()) {
-						if(Log.isDebugEnabled()) {
-							Log.debug("It's closed - copying deliverables");
-						}
-						
-			            Delivered deliverable = retrieveDeliverable(rid);
-			            if (deliverable == null) {
-			                Log.warn("Deliverable unavailable for " + rid);
-			                throw new HttpBindException("Unexpected RID error.",
-			                        BoshBindingError.itemNotFound);
-			            }
-			            connection.deliverBody(createDeliverable(deliverable.deliverables), true);
-					} else {
-						if(Log.isDebugEnabled()) {
-							Log.debug("It's still open - calling close()");
-						}
-						deliver(queuedConnection, Collections.singleton(new Deliverable("")));
-						connection.close();
-						
-						if(rid == (lastRequestID + 1)) {
-							lastRequestID = rid;
-						}
-					}
-					break;
+        final HttpConnection queuedConnection = connectionQueue.get(rid);
+        if (queuedConnection != null) {
+			if(Log.isDebugEnabled()) {
+				Log.debug("Found previous connection in queue with rid " + rid);
+			}
+			if(queuedConnection.isClosed()) {
+				if(Log.isDebugEnabled()) {
+					Log.debug("It's closed - copying deliverables");
+				}
+				
+	            Delivered deliverable = retrieveDeliverable(rid);
+	            if (deliverable == null) {
+	                Log.warn("Deliverable unavailable for " + rid);
+	                throw new HttpBindException("Unexpected RID error.",
+	                        BoshBindingError.itemNotFound);
+	            }
+	            connection.deliverBody(createDeliverable(deliverable.deliverables), true);
+			} else {
+				if(Log.isDebugEnabled()) {
+					Log.debug("It's still open - calling close()");
+				}
+				deliver(queuedConnection, Collections.singleton(new Deliverable("")));
+				connection.close();
+				
+				if(rid == (lastRequestID + 1)) {
+					lastRequestID = rid;
 				}
 			}
         }
@@ -812,72 +869,60 @@ public class HttpSession extends LocalClientSession {
         // to be sent to the client.
         if (isPollingSession() || (pendingElements.size() > 0 && connection.getRequestId() == lastRequestID + 1)) {
             fireConnectionOpened(connection);
-            synchronized(pendingElements) {
-                deliver(connection, pendingElements);
-                lastRequestID = connection.getRequestId();
-                pendingElements.clear();
-            }
+            deliver(connection, pendingElements);
+            lastRequestID = connection.getRequestId();
+            pendingElements.clear();
         }
         else {
             // With this connection we need to check if we will have too many connections open,
             // closing any extras.
 
-            connectionQueue.add(connection);
-            Collections.sort(connectionQueue, connectionComparator);
+            // A connection with the same rid was answered above, it is replaced by this one.
+            connectionQueue.put(connection);
 
-            synchronized (connectionQueue) {
-	            int connectionsToClose;
-	            if(connectionQueue.get(connectionQueue.size() - 1) != connection) {
-	            	// Current connection does not have the greatest rid. That means
-	            	// requests were received out of order, respond to all.
-	            	connectionsToClose = connectionQueue.size();
-	            }
-	            else {
-	                // Everything's fine, number of current connections open tells us
-	            	// how many that we need to close.
-	            	connectionsToClose = getOpenConnectionCount() - hold;
-	            }
-	            int closed = 0;
-	            for (int i = 0; i < connectionQueue.size() && closed < connectionsToClose; i++) {
-	                HttpConnection toClose = connectionQueue.get(i);
-	                if (!toClose.isClosed() && toClose.getRequestId() == lastRequestID + 1) {
-	                    if(toClose == connection) {
-	                    	// Current connection has no continuation yet, just deliver.
-	                    	deliver("");
-	                    }
-	                    else {
-	                        toClose.close();
-	                    }
-	                    lastRequestID = toClose.getRequestId();
-	                    closed++;
-	                }
-	            }
+            int connectionsToClose;
+            if(connectionQueue.getLastRequestId() != rid) {
+            	// Current connection does not have the greatest rid. That means
+            	// requests were received out of order, respond to all.
+            	connectionsToClose = connectionQueue.size();
             }
-        }
-    }
-
-    private int getOpenConnectionCount() {
-        int count = 0;
-        // NOTE: synchronized by caller
-        for (HttpConnection connection : connectionQueue) {
-            if (!connection.isClosed()) {
-                count++;
+            else {
+                // Everything's fine, number of current connections open tells us
+            	// how many that we need to close.
+            	connectionsToClose = connectionQueue.getOpenCount() - hold;
+            }
+            int closed = 0;
+            final long last = connectionQueue.getLastRequestId();
+            for (long i = connectionQueue.getFirstRequestId(); i <= last && closed < connectionsToClose; i++) {
+                HttpConnection toClose = connectionQueue.get(i);
+                if (toClose != null && !toClose.isClosed() && toClose.getRequestId() == lastRequestID + 1) {
+                    if(toClose == connection) {
+                    	// Current connection has no continuation yet, just deliver.
+                    	deliver(connection, Collections.singleton(new Deliverable("")));
+                    }
+                    else {
+                        toClose.close();
+                    }
+                    lastRequestID = toClose.getRequestId();
+                    closed++;
+                }
             }
         }
-        return count;
     }
 
     private void deliver(HttpConnection connection, Collection<Deliverable> deliverable)
             throws HttpConnectionClosedException, IOException {
+        // NOTE: synchronized by caller
         connection.deliverBody(createDeliverable(deliverable), true);
 
-        Delivered delivered = new Delivered(deliverable);
+        // Copy the deliverables, the collection may be reused by the caller
+        Delivered delivered = new Delivered(new ArrayList<>(deliverable));
         delivered.setRequestID(connection.getRequestId());
         while (sentElements.size() > maxRequests) {
-            sentElements.remove(0);
+            sentElements.removeFirst();
         }
 
-        sentElements.add(delivered);
+        sentElements.addLast(delivered);
     }
 
     private void fireConnectionOpened(HttpConnection connection) {
@@ -898,18 +943,11 @@ public class HttpSession extends LocalClientSession {
      *         protocol.
      */
     private void checkOveractivity(boolean isPoll) throws HttpBindException {
-    	int pendingConnections = 0;
+        // NOTE: synchronized by caller
+    	int pendingConnections = connectionQueue.getOpenCount();
     	boolean overactivity = false;
     	String errorMessage = "Overactivity detected";
 
-    	synchronized (connectionQueue) {
-    		for (HttpConnection conn : connectionQueue) {
-    			if (!conn.isClosed()) {
-    				pendingConnections++;
-    			}
-    		}
-        }
-
         if(pendingConnections >= maxRequests) {
         	overactivity = true;
         	errorMessage += ", too many simultaneous requests.";
@@ -951,39 +989,72 @@ public class HttpSession extends LocalClientSession {
         deliver(new Deliverable(Arrays.asList(stanza)));
     }
 
+    /**
+     * Hands a stanza over for delivery to the client. The calling thread does not wait for the
+     * session: if another thread is already writing stanzas of this session, that thread writes
+     * this stanza too. Stanzas that are queued together are sent in one response body.
+     *
+     * @param stanza the stanza to deliver.
+     */
     private void deliver(Deliverable stanza) {
-        Collection<Deliverable> deliverable = Arrays.asList(stanza);
-        boolean delivered = false;
-        int pendingConnections = 0;
-        synchronized (connectionQueue) {
-	        for (HttpConnection connection : connectionQueue) {
-                if (connection.isClosed()) {
-                    continue;
-                }
-                pendingConnections++;
-	            try {
-	                if (connection.getRequestId() == lastRequestID + 1) {
-	                    lastRequestID = connection.getRequestId();
-	                    deliver(connection, deliverable);
-	                    delivered = true;
-	                    break;
-	                }
-	            }
-	            catch (HttpConnectionClosedException e) {
-	                /* Connection was closed, try the next one. Indicates a (concurrency?) bug. */
-	                Log.warn("Iterating over a connection that was closed. Openfire will recover from this problem, but it should not occur in the first place.");
-                } catch (IOException e) {
-                    Log.warn("An unexpected exception occurred while iterating over connections. Openfire will attempt to recover by ignoring this connection.", e);
-                }
+        outbound.add(stanza);
+        if (outboundWork.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        while (true) {
+            synchronized (connectionQueue) {
+                drainOutbound();
+            }
+            missed = outboundWork.addAndGet(-missed);
+            if (missed == 0) {
+                break;
             }
         }
+    }
 
-        if (!delivered) {
-            if (pendingConnections > 0) {
-                Log.warn("Unable to deliver a stanza (it is being queued instead), although there are available connections! RID / Connection processing is out of sync!");
+    /**
+     * Writes all stanzas handed over by {@link #deliver(Deliverable)} to the connection with the
+     * next expected RID, or adds them to the pending elements when the client has no such
+     * connection open.
+     */
+    private void drainOutbound() {
+        // NOTE: synchronized by caller
+        if (outbound.isEmpty()) {
+            return;
+        }
+        final List<Deliverable> deliverable = new ArrayList<>();
+        Deliverable stanza;
+        while ((stanza = outbound.poll()) != null) {
+            deliverable.add(stanza);
+        }
+
+        if (isClosed) {
+            for (Deliverable undelivered : deliverable) {
+                failDelivery(undelivered.getPackets());
+            }
+            return;
+        }
+
+        HttpConnection connection;
+        while ((connection = connectionQueue.get(lastRequestID + 1)) != null && !connection.isClosed()) {
+            try {
+                lastRequestID = connection.getRequestId();
+                deliver(connection, deliverable);
+                return;
             }
-            pendingElements.add(stanza);
+            catch (HttpConnectionClosedException e) {
+                /* Connection was closed, try the next one. Indicates a (concurrency?) bug. */
+                Log.warn("Iterating over a connection that was closed. Openfire will recover from this problem, but it should not occur in the first place.");
+            } catch (IOException e) {
+                Log.warn("An unexpected exception occurred while iterating over connections. Openfire will attempt to recover by ignoring this connection.", e);
+            }
+        }
+
+        if (connectionQueue.getOpenCount() > 0) {
+            Log.warn("Unable to deliver a stanza (it is being queued instead), although there are available connections! RID / Connection processing is out of sync!");
         }
+        pendingElements.addAll(deliverable);
     }
 
     private void fireConnectionClosed(HttpConnection connection) {
@@ -993,39 +1064,48 @@ public class HttpSession extends LocalClientSession {
         }
     }
 
-    private String createDeliverable(Collection<Deliverable> elements) {
-        StringBuilder builder = new StringBuilder();
-        builder.append("<body xmlns='http://jabber.org/protocol/httpbind' ack='")
-        		.append(getLastAcknowledged()).append("'>");
+    private byte[] createDeliverable(Collection<Deliverable> elements) {
+        // The elements are already encoded, the body is assembled by concatenating their bytes
+        final ByteArrayOutputStream buffer = bodyBuffer.get();
+        buffer.reset();
+        final byte[] start = ("<body xmlns='http://jabber.org/protocol/httpbind' ack='"
+                + getLastAcknowledged() + "'>").getBytes(StandardCharsets.UTF_8);
+        buffer.write(start, 0, start.length);
 
         setLastResponseEmpty(elements.size() == 0);
-        synchronized (elements) {
-	        for (Deliverable child : elements) {
-	            builder.append(child.getDeliverable());
-	        }
+        for (Deliverable child : elements) {
+            child.writeTo(buffer);
+        }
+        buffer.write(BODY_END, 0, BODY_END.length);
+        final byte[] body = buffer.toByteArray();
+        if (buffer.size() > MAX_RETAINED_BUFFER) {
+            bodyBuffer.remove();
         }
-        builder.append("</body>");
-        return builder.toString();
+        return body;
     }
 
     private void closeSession() {
-        if (isClosed) { return; }
-        isClosed = true;
+        synchronized (connectionQueue) {
+            if (isClosed) { return; }
+            // Stanzas handed over before the session was closed are treated as pending elements
+            drainOutbound();
+            isClosed = true;
+        }
 
         try {
 	        // close connection(s) and deliver pending elements (if any)
 	        synchronized (connectionQueue) {
-		        for (HttpConnection toClose : connectionQueue) {
+	            final long last = connectionQueue.getLastRequestId();
+		        for (long rid = connectionQueue.getFirstRequestId(); rid != -1 && rid <= last; rid++) {
+		            final HttpConnection toClose = connectionQueue.get(rid);
 		            try {
-		            	if (!toClose.isClosed()) {
+		            	if (toClose != null && !toClose.isClosed()) {
 		            		if (!pendingElements.isEmpty() && toClose.getRequestId() == lastRequestID + 1) {
-		            			synchronized(pendingElements) {
-			            			deliver(toClose, pendingElements);
-					                lastRequestID = toClose.getRequestId();
-					                pendingElements.clear();
-		            			}
+		            			deliver(toClose, pendingElements);
+				                lastRequestID = toClose.getRequestId();
+				                pendingElements.clear();
 	            			} else {
-	            				toClose.deliverBody(null, true);
+	            				toClose.deliverBody(createEmptyBody(false), true);
 	            			}
 		            	}
 		            } catch (HttpConnectionClosedException e) {
@@ -1035,9 +1115,7 @@ public class HttpSession extends LocalClientSession {
                         Log.debug("An unexpected exception occurred while closing a session.", e);
 		            }
 		        }
-	        }
-	
-	    	synchronized (pendingElements) {
+
 		        for (Deliverable deliverable : pendingElements) {
 		            failDelivery(deliverable.getPackets());
 		        }
@@ -1152,18 +1230,22 @@ public class HttpSession extends LocalClientSession {
         }
     }
 
+    /**
+     * Content to be delivered to the client, kept as UTF-8 encoded bytes from the moment it is
+     * handed to the session so that response bodies can be assembled without encoding it again.
+     */
     static class Deliverable {
-        private final String text;
-        private final Collection<String> packets;
+        private final byte[] text;
+        private final List<byte[]> packets;
 
         public Deliverable(String text) {
-            this.text = text;
+            this.text = text.getBytes(StandardCharsets.UTF_8);
             this.packets = null;
         }
 
         public Deliverable(Collection<Packet> elements) {
             this.text = null;
-            this.packets = new ArrayList<>();
+            this.packets = new ArrayList<>(elements.size());
             for (Packet packet : elements) {
                 // Append packet namespace according XEP-0206 if needed
             	if (Namespace.NO_NAMESPACE.equals(packet.getElement().getNamespace())) {
@@ -1173,23 +1255,32 @@ public class HttpSession extends LocalClientSession {
                     final int slash = packetXml.indexOf( "/>" );
                     final int insertAt = ( noslash - 1 == slash ? slash : noslash );
             		packetXml.insert( insertAt, " xmlns=\"jabber:client\"");
-            		this.packets.add(packetXml.toString());
+            		this.packets.add(packetXml.toString().getBytes(StandardCharsets.UTF_8));
             	} else {
-            		this.packets.add(packet.toXML());
+            		this.packets.add(packet.toXML().getBytes(StandardCharsets.UTF_8));
             	}
             }
         }
 
         public String getDeliverable() {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeTo(out);
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Appends the UTF-8 encoded content to a stream.
+         *
+         * @param out the stream to write to.
+         */
+        void writeTo(ByteArrayOutputStream out) {
             if (text == null) {
-                StringBuilder builder = new StringBuilder();
-                for (String packet : packets) {
-                    builder.append(packet);
+                for (byte[] packet : packets) {
+                    out.write(packet, 0, packet.length);
                 }
-                return builder.toString();
             }
             else {
-                return text;
+                out.write(text, 0, text.length);
             }
         }
 
@@ -1200,11 +1291,11 @@ public class HttpSession extends LocalClientSession {
                 return null;
             }
             List<Packet> answer = new ArrayList<>();
-            for (String packetXML : packets) {
+            for (byte[] packetXML : packets) {
                 try {
                     Packet packet = null;
                     // Parse the XML stanza
-                    Element element = localParser.get().read(new StringReader(packetXML)).getRootElement();
+                    Element element = localParser.get().read(new StringReader(new String(packetXML, StandardCharsets.UTF_8))).getRootElement();
                     String tag = element.getName();
                     if ("message".equals(tag)) {
                         packet = new Message(element, true);
@@ -1244,12 +1335,10 @@ public class HttpSession extends LocalClientSession {
 
         public Collection<Packet> getPackets() {
             List<Packet> packets = new ArrayList<>();
-            synchronized (deliverables) {
-	            for (Deliverable deliverable : deliverables) {
-	                if (deliverable.packets != null) {
-	                    packets.addAll(deliverable.getPackets());
-	                }
-	            }
+            for (Deliverable deliverable : deliverables) {
+                if (deliverable.packets != null) {
+                    packets.addAll(deliverable.getPackets());
+                }
             }
             return packets;
         }
@@ -36,6 +36,7 @@ import org.dom4j.QName;
 import org.jivesoftware.openfire.SessionManager;
 import org.jivesoftware.openfire.StreamID;
 import org.jivesoftware.openfire.auth.UnauthorizedException;
+import org.jivesoftware.openfire.stats.StatisticsManager;
 import org.jivesoftware.util.JiveConstants;
 import org.jivesoftware.util.JiveGlobals;
 import org.jivesoftware.util.NamedThreadFactory;
@@ -122,6 +123,8 @@ public class HttpSessionManager {
         // Periodically check for Sessions that need a cleanup.
         inactivityTask = new HttpSessionReaper();
         TaskEngine.getInstance().schedule( inactivityTask, 30 * JiveConstants.SECOND, 30 * JiveConstants.SECOND );
+
+        StatisticsManager.getInstance().addStatistic( HttpBindCompression.STAT_KEY, new HttpBindCompression.CompressionTracker() );
     }
 
     /**
@@ -129,6 +132,7 @@ public class HttpSessionManager {
      */
     public void stop() {
         Log.info( "Stopping instance" );
+        StatisticsManager.getInstance().removeStatistic( HttpBindCompression.STAT_KEY );
         inactivityTask.cancel();
         for (HttpSession session : sessionMap.values()) {
             session.close();
@@ -188,6 +192,7 @@ public class HttpSessionManager {
         session.setMaxPollingInterval(getPollingInterval());
         session.setMaxRequests(getMaxRequests());
         session.setMaxPause(getMaxPause());
+        session.setAcceptedEncodings(rootNode.attributeValue("accept"));
         
         if(session.isPollingSession()) {
         	session.setDefaultInactivityTimeout(getPollingInactivityTimeout());
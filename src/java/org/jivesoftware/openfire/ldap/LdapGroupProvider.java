@@ -74,10 +74,16 @@ public class LdapGroupProvider extends AbstractGroupProvider {
         standardAttributes[0] = manager.getGroupNameField();
         standardAttributes[1] = manager.getGroupDescriptionField();
         standardAttributes[2] = manager.getGroupMemberField();
+        // Load the mirror of the directory, if it is enabled
+        LdapMirror.getInstance();
     }
 
     @Override
     public Group getGroup(String groupName) throws GroupNotFoundException {
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.getGroup(groupName);
+        }
         LdapContext ctx = null;
         try {
             String groupDN = manager.findGroupDN(groupName);
@@ -109,6 +115,10 @@ public class LdapGroupProvider extends AbstractGroupProvider {
         if (manager.isDebugEnabled()) {
             Log.debug("LdapGroupProvider: Trying to get the number of groups in the system.");
         }
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.getGroupCount();
+        }
         // Cache user count for 5 minutes.
         if (groupCount != -1 && System.currentTimeMillis() < expiresStamp) {
             return groupCount;
@@ -128,6 +138,10 @@ public class LdapGroupProvider extends AbstractGroupProvider {
 
     @Override
     public Collection<String> getGroupNames(int startIndex, int numResults) {
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.getGroupNames(startIndex, numResults);
+        }
         return manager.retrieveList(
                 manager.getGroupNameField(),
                 MessageFormat.format(manager.getGroupSearchFilter(), "*"),
@@ -139,6 +153,10 @@ public class LdapGroupProvider extends AbstractGroupProvider {
 
     @Override
     public Collection<String> getGroupNames(JID user) {
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.getGroupNames(user.asBareJID());
+        }
         // Get DN of specified user
         XMPPServer server = XMPPServer.getInstance();
         String username;
@@ -0,0 +1,860 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.ldap;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimerTask;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import javax.naming.InvalidNameException;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
+
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.event.GroupEventDispatcher;
+import org.jivesoftware.openfire.event.UserEventDispatcher;
+import org.jivesoftware.openfire.group.Group;
+import org.jivesoftware.openfire.group.GroupNotFoundException;
+import org.jivesoftware.openfire.user.User;
+import org.jivesoftware.openfire.user.UserNotFoundException;
+import org.jivesoftware.util.Base64;
+import org.jivesoftware.util.JiveConstants;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.TaskEngine;
+import org.jivesoftware.util.cache.Cache;
+import org.jivesoftware.util.cache.CacheFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xmpp.packet.JID;
+
+/**
+ * Local copy of the users and groups of the directory, that the LDAP providers use to answer
+ * lookups and to expand groups without going to the directory. All users and groups are
+ * loaded with paged searches when the mirror is started. After that, the mirror polls the
+ * directory for the entries that changed since the last poll, using an attribute that the
+ * directory updates on every change of an entry. Deleted entries can't be found that way, so
+ * the mirror is loaded again from scratch at a longer interval. The changes that are found are
+ * published as user and group events, which keep the caches and rosters up to date. Entries that
+ * disappeared are only dropped from the mirror and the caches, never published as deletions.<p>
+ *
+ * The mirror is disabled by default. The following properties configure it:
+ * <ul>
+ *      <li>ldap.mirror.enabled -- true if users and groups should be served from the mirror.
+ *          A restart is needed for a change to take effect.</li>
+ *      <li>ldap.mirror.changeAttribute -- the attribute that the directory updates on every
+ *          change of an entry. Default value is "modifyTimestamp". Active Directory should
+ *          use "uSNChanged", which doesn't depend on the clocks of the domain controllers.</li>
+ *      <li>ldap.mirror.refreshInterval -- seconds between polls. Default value is 60.</li>
+ *      <li>ldap.mirror.reloadInterval -- minutes between full loads. Default value is 60.</li>
+ *      <li>ldap.pagedResultsSize -- the size of the pages of the searches. Default value
+ *          is 1000.</li>
+ * </ul>
+ *
+ * Each cluster node keeps its own mirror, since user and group events are only dispatched
+ * locally.
+ */
+public class LdapMirror {
+
+    private static final Logger Log = LoggerFactory.getLogger(LdapMirror.class);
+
+    private static volatile LdapMirror instance;
+
+    /**
+     * Returns the mirror of the directory, that is created and loaded the first time that
+     * this method is called. Returns <tt>null</tt> if the mirror is not enabled.
+     *
+     * @return the mirror of the directory or <tt>null</tt> if it is not enabled.
+     */
+    public static LdapMirror getInstance() {
+        if (instance == null && JiveGlobals.getBooleanProperty("ldap.mirror.enabled", false)) {
+            synchronized (LdapMirror.class) {
+                if (instance == null) {
+                    LdapMirror mirror = new LdapMirror(LdapManager.getInstance(),
+                            XMPPServer.getInstance().getServerInfo().getXMPPDomain());
+                    mirror.start();
+                    instance = mirror;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the mirror of the directory if it is enabled and it has been loaded. Providers
+     * go to the directory when this method returns <tt>null</tt>.
+     *
+     * @return the loaded mirror of the directory or <tt>null</tt>.
+     */
+    public static LdapMirror getLoadedInstance() {
+        LdapMirror mirror = getInstance();
+        return mirror != null && mirror.directory != null ? mirror : null;
+    }
+
+    private final LdapManager manager;
+    private final String domain;
+    private final String changeAttribute;
+    /**
+     * Attributes that are kept for each user besides the ones of the {@link User}.
+     */
+    private final Set<String> userAttributes = new CopyOnWriteArraySet<>();
+
+    private volatile Directory directory;
+    /**
+     * The greatest value of the change attribute that the mirror has seen.
+     */
+    private String changeMark;
+    private long loadTime;
+    private volatile boolean reloadNeeded;
+
+    LdapMirror(LdapManager manager, String domain) {
+        this.manager = manager;
+        this.domain = domain;
+        this.changeAttribute = JiveGlobals.getProperty("ldap.mirror.changeAttribute", "modifyTimestamp");
+    }
+
+    private void start() {
+        synchronize();
+        long period = JiveGlobals.getIntProperty("ldap.mirror.refreshInterval", 60) * JiveConstants.SECOND;
+        TaskEngine.getInstance().scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                synchronize();
+            }
+        }, period, period);
+    }
+
+    /**
+     * Loads the entries that changed since the last time, or all entries when a full load is due,
+     * and publishes the changes.
+     */
+    synchronized void synchronize() {
+        long now = System.currentTimeMillis();
+        long reloadInterval = JiveGlobals.getIntProperty("ldap.mirror.reloadInterval", 60) * JiveConstants.MINUTE;
+        Directory before = directory;
+        boolean reload = before == null || reloadNeeded || changeMark == null
+                || now - loadTime >= reloadInterval;
+        try {
+            Set<String> attributeNames = reload ? new HashSet<>(userAttributes) : before.attributeNames;
+            reloadNeeded = false;
+            Set<String> attributes = new HashSet<>(attributeNames);
+            Collections.addAll(attributes, manager.getUsernameField(), manager.getNameField(),
+                    manager.getEmailField(), "createTimestamp", "modifyTimestamp", changeAttribute);
+            List<SearchResult> users = search(getFilter(manager.getSearchFilter(), reload),
+                    attributes.toArray(new String[attributes.size()]));
+            List<SearchResult> groups = search(getFilter(manager.getGroupSearchFilter(), reload),
+                    new String[] { manager.getGroupNameField(), manager.getGroupDescriptionField(),
+                            manager.getGroupMemberField(), changeAttribute });
+
+            Changes changes = update(users, groups, attributeNames, reload);
+            if (reload) {
+                loadTime = now;
+                Log.info("Loaded " + directory.users.size() + " users and " + directory.groups.size()
+                        + " groups into the LDAP mirror in " + (System.currentTimeMillis() - now) + " ms");
+            }
+            if (changes != null) {
+                publish(changes);
+            }
+        }
+        catch (Exception e) {
+            if (reload) {
+                reloadNeeded = true;
+            }
+            Log.error("Could not synchronize the LDAP mirror", e);
+        }
+    }
+
+    private String getFilter(String filter, boolean reload) {
+        filter = MessageFormat.format(filter, "*");
+        if (reload) {
+            return filter;
+        }
+        return "(&" + filter + "(" + changeAttribute + ">="
+                + LdapManager.sanitizeSearchFilter(changeMark) + "))";
+    }
+
+    /**
+     * Applies the entries of a search to the mirror.
+     *
+     * @param userResults the user entries that were found.
+     * @param groupResults the group entries that were found.
+     * @param attributeNames the attributes that are kept for each user.
+     * @param reload true if the entries are all the entries of the directory.
+     * @return the changes, or <tt>null</tt> if the mirror was empty or nothing changed.
+     * @throws NamingException if an entry could not be read.
+     */
+    Changes update(List<SearchResult> userResults, List<SearchResult> groupResults,
+            Set<String> attributeNames, boolean reload) throws NamingException
+    {
+        Directory before = directory;
+        String mark = reload ? null : changeMark;
+        List<UserEntry> userEntries = new ArrayList<>(userResults.size());
+        for (SearchResult result : userResults) {
+            UserEntry entry = toUserEntry(result, attributeNames);
+            if (entry != null) {
+                userEntries.add(entry);
+            }
+            mark = getChangeMark(mark, result);
+        }
+        List<GroupEntry> groupEntries = new ArrayList<>(groupResults.size());
+        for (SearchResult result : groupResults) {
+            GroupEntry entry = toGroupEntry(result);
+            if (entry != null) {
+                groupEntries.add(entry);
+            }
+            mark = getChangeMark(mark, result);
+        }
+        changeMark = mark;
+
+        // Polls return the entries of the last change again, that usually didn't change since
+        boolean changed = reload || before == null;
+        for (int i = 0; !changed && i < userEntries.size(); i++) {
+            changed = !userEntries.get(i).equals(before.userEntries.get(userEntries.get(i).dn));
+        }
+        for (int i = 0; !changed && i < groupEntries.size(); i++) {
+            changed = !groupEntries.get(i).equals(before.groupEntries.get(groupEntries.get(i).dn));
+        }
+        if (!changed) {
+            return null;
+        }
+
+        Map<LdapName, UserEntry> users = reload || before == null
+                ? new HashMap<LdapName, UserEntry>() : new HashMap<>(before.userEntries);
+        for (UserEntry entry : userEntries) {
+            users.put(entry.dn, entry);
+        }
+        Map<LdapName, GroupEntry> groups = reload || before == null
+                ? new HashMap<LdapName, GroupEntry>() : new HashMap<>(before.groupEntries);
+        for (GroupEntry entry : groupEntries) {
+            groups.put(entry.dn, entry);
+        }
+        Directory after = new Directory(users, groups, attributeNames, manager.isPosixMode(), domain);
+        directory = after;
+        return before == null ? null : new Changes(before, after);
+    }
+
+    private String getChangeMark(String mark, SearchResult result) throws NamingException {
+        String value = getString(result.getAttributes(), changeAttribute);
+        if (value == null) {
+            return mark;
+        }
+        return mark == null || compareChangeMarks(value, mark) > 0 ? value : mark;
+    }
+
+    /**
+     * Compares values of the change attribute, that are either numbers (update sequence
+     * numbers) or generalized times.
+     */
+    static int compareChangeMarks(String mark1, String mark2) {
+        try {
+            return Long.compare(Long.parseLong(mark1), Long.parseLong(mark2));
+        }
+        catch (NumberFormatException e) {
+            return mark1.compareTo(mark2);
+        }
+    }
+
+    private UserEntry toUserEntry(SearchResult result, Set<String> attributeNames) throws NamingException {
+        Attributes attrs = result.getAttributes();
+        String username = getString(attrs, manager.getUsernameField());
+        if (username == null) {
+            return null;
+        }
+        String suffix = manager.getUsernameSuffix();
+        if (suffix != null && suffix.length() > 0 && username.endsWith(suffix)) {
+            username = username.substring(0, username.length() - suffix.length());
+        }
+        username = JID.escapeNode(username);
+        String createTimestamp = getString(attrs, "createTimestamp");
+        String modifyTimestamp = getString(attrs, "modifyTimestamp");
+        Map<String, String> attributes = new HashMap<>();
+        for (String attribute : attributeNames) {
+            Attribute attr = attrs.get(attribute);
+            if (attr != null && attr.get() != null) {
+                Object value = attr.get();
+                attributes.put(attribute, value instanceof String ? (String) value : Base64.encodeBytes((byte[]) value));
+            }
+        }
+        return new UserEntry(new LdapName(result.getNameInNamespace()), username,
+                new JID(username, domain, null), getString(attrs, manager.getNameField()),
+                getString(attrs, manager.getEmailField()),
+                createTimestamp == null ? null : LdapUserProvider.parseLDAPDate(createTimestamp),
+                modifyTimestamp == null ? null : LdapUserProvider.parseLDAPDate(modifyTimestamp),
+                attributes);
+    }
+
+    private GroupEntry toGroupEntry(SearchResult result) throws NamingException {
+        Attributes attrs = result.getAttributes();
+        String name = getString(attrs, manager.getGroupNameField());
+        if (name == null) {
+            return null;
+        }
+        String description = getString(attrs, manager.getGroupDescriptionField());
+        List<String> members = new ArrayList<>();
+        Attribute memberField = attrs.get(manager.getGroupMemberField());
+        if (memberField != null) {
+            NamingEnumeration<?> values = memberField.getAll();
+            while (values.hasMore()) {
+                members.add((String) values.next());
+            }
+            values.close();
+        }
+        return new GroupEntry(new LdapName(result.getNameInNamespace()), name,
+                description == null ? "" : description, members);
+    }
+
+    private static String getString(Attributes attrs, String attribute) throws NamingException {
+        Attribute attr = attrs.get(attribute);
+        if (attr == null) {
+            return null;
+        }
+        Object value = attr.get();
+        return value instanceof String && ((String) value).trim().length() > 0 ? (String) value : null;
+    }
+
+    /**
+     * Returns all entries under the base DN and the alternate base DN that match a filter,
+     * reading them in pages.
+     */
+    private List<SearchResult> search(String filter, String[] attributes) throws Exception {
+        List<SearchResult> results = new ArrayList<>();
+        search(manager.getBaseDN(), filter, attributes, results);
+        if (manager.getAlternateBaseDN() != null) {
+            search(manager.getAlternateBaseDN(), filter, attributes, results);
+        }
+        return results;
+    }
+
+    private void search(String baseDN, String filter, String[] attributes, List<SearchResult> results)
+            throws Exception
+    {
+        int pageSize = JiveGlobals.getIntProperty("ldap.pagedResultsSize", -1);
+        if (pageSize <= 0) {
+            pageSize = 1000;
+        }
+        SearchControls searchControls = new SearchControls();
+        // See if recursive searching is enabled. Otherwise, only search one level.
+        if (manager.isSubTreeSearch()) {
+            searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+        }
+        else {
+            searchControls.setSearchScope(SearchControls.ONELEVEL_SCOPE);
+        }
+        searchControls.setReturningAttributes(attributes);
+
+        LdapContext ctx = manager.getContext(baseDN);
+        try {
+            ctx.setRequestControls(new Control[] { new PagedResultsControl(pageSize, Control.NONCRITICAL) });
+            byte[] cookie;
+            do {
+                NamingEnumeration<SearchResult> answer = ctx.search("", filter, searchControls);
+                try {
+                    while (answer.hasMore()) {
+                        results.add(answer.next());
+                    }
+                }
+                finally {
+                    answer.close();
+                }
+                cookie = null;
+                Control[] controls = ctx.getResponseControls();
+                if (controls != null) {
+                    for (Control control : controls) {
+                        if (control instanceof PagedResultsResponseControl) {
+                            cookie = ((PagedResultsResponseControl) control).getCookie();
+                        }
+                    }
+                }
+                if (cookie != null) {
+                    ctx.setRequestControls(new Control[] { new PagedResultsControl(pageSize, cookie, Control.CRITICAL) });
+                }
+            } while (cookie != null);
+        }
+        finally {
+            try {
+                ctx.setRequestControls(null);
+                ctx.close();
+            }
+            catch (Exception ignored) {
+                // Ignore.
+            }
+        }
+    }
+
+    /**
+     * Publishes the changes as user and group events. Entries that are missing from a full load
+     * are not published as deletions, since the listeners of deletion events destroy the data of
+     * users and groups for good and a short search result (a size limit, a moved OU, a failed
+     * referral...) is indistinguishable from a deletion. The mirror just drops them and evicts them
+     * from the caches, like the providers do when an entry can no longer be found in the directory.
+     */
+    private void publish(Changes changes) {
+        Directory before = changes.before;
+        Directory after = changes.after;
+        for (String username : changes.createdUsers) {
+            UserEventDispatcher.dispatchEvent(after.users.get(username).toUser(),
+                    UserEventDispatcher.EventType.user_created, Collections.<String, Object>emptyMap());
+        }
+        for (String username : changes.modifiedUsers) {
+            UserEntry original = before.users.get(username);
+            UserEntry entry = after.users.get(username);
+            Map<String, Object> params = new HashMap<>();
+            if (!equals(original.name, entry.name)) {
+                params.put("type", "nameModified");
+                params.put("originalValue", original.name);
+            }
+            else if (!equals(original.email, entry.email)) {
+                params.put("type", "emailModified");
+                params.put("originalValue", original.email);
+            }
+            else {
+                params.put("type", "modificationDateModified");
+                params.put("originalValue", original.modificationDate);
+            }
+            UserEventDispatcher.dispatchEvent(entry.toUser(), UserEventDispatcher.EventType.user_modified, params);
+        }
+        for (String name : changes.createdGroups) {
+            GroupEventDispatcher.dispatchEvent(after.toGroup(name),
+                    GroupEventDispatcher.EventType.group_created, Collections.emptyMap());
+        }
+        for (String name : changes.modifiedGroups) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("type", "descriptionModified");
+            params.put("originalValue", before.groups.get(name).description);
+            GroupEventDispatcher.dispatchEvent(after.toGroup(name),
+                    GroupEventDispatcher.EventType.group_modified, params);
+        }
+        for (Map.Entry<String, Set<JID>> entry : changes.removedMembers.entrySet()) {
+            Group group = after.toGroup(entry.getKey());
+            for (JID member : entry.getValue()) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("member", member.toString());
+                GroupEventDispatcher.dispatchEvent(group, GroupEventDispatcher.EventType.member_removed, params);
+            }
+        }
+        for (Map.Entry<String, Set<JID>> entry : changes.addedMembers.entrySet()) {
+            Group group = after.toGroup(entry.getKey());
+            for (JID member : entry.getValue()) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("member", member.toString());
+                GroupEventDispatcher.dispatchEvent(group, GroupEventDispatcher.EventType.member_added, params);
+            }
+        }
+        if (!changes.deletedGroups.isEmpty()) {
+            Cache<String, Group> groupCache = CacheFactory.createCache("Group");
+            for (String name : changes.deletedGroups) {
+                groupCache.remove(name);
+            }
+            // Group names, counts and the groups of each user
+            CacheFactory.createCache("Group Metadata Cache").clear();
+        }
+        if (!changes.deletedUsers.isEmpty()) {
+            Cache<String, User> userCache = CacheFactory.createCache("User");
+            for (String username : changes.deletedUsers) {
+                userCache.remove(username);
+            }
+        }
+        if (!changes.deletedUsers.isEmpty() || !changes.deletedGroups.isEmpty()) {
+            Log.info("Dropped " + changes.deletedUsers.size() + " users and " + changes.deletedGroups.size()
+                    + " groups that are no longer in the directory from the LDAP mirror");
+        }
+    }
+
+    /**
+     * Returns the user with the given username.
+     *
+     * @param username the escaped username of the user.
+     * @return the user.
+     * @throws UserNotFoundException if the directory has no such user.
+     */
+    public User loadUser(String username) throws UserNotFoundException {
+        UserEntry entry = directory.users.get(username);
+        if (entry == null) {
+            throw new UserNotFoundException("User " + username + " not found in the LDAP mirror");
+        }
+        return entry.toUser();
+    }
+
+    public int getUserCount() {
+        return directory.usernames.size();
+    }
+
+    /**
+     * Returns the sorted usernames of the users.
+     *
+     * @param startIndex the index of the first username to return, or -1.
+     * @param numResults the number of usernames to return, or -1 for all.
+     * @return the escaped usernames.
+     */
+    public List<String> getUsernames(int startIndex, int numResults) {
+        return subList(directory.usernames, startIndex, numResults);
+    }
+
+    /**
+     * Returns the values of attributes of a user. Binary values are Base64 encoded.
+     *
+     * @param username the escaped username of the user.
+     * @param attributes the attributes.
+     * @return the values of the attributes, that is empty if the user doesn't exist, or
+     *      <tt>null</tt> if the mirror doesn't keep all the attributes.
+     */
+    public Map<String, String> getUserAttributes(String username, String[] attributes) {
+        Directory directory = this.directory;
+        for (String attribute : attributes) {
+            if (!directory.attributeNames.contains(attribute)) {
+                return null;
+            }
+        }
+        UserEntry entry = directory.users.get(username);
+        if (entry == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> map = new HashMap<>();
+        for (String attribute : attributes) {
+            String value = entry.attributes.get(attribute);
+            map.put(attribute, value == null ? "" : value);
+        }
+        return map;
+    }
+
+    /**
+     * Makes the mirror keep attributes of the users. The mirror is loaded again if it doesn't
+     * keep all of them yet.
+     *
+     * @param attributes the attributes.
+     */
+    public void addUserAttributes(String[] attributes) {
+        boolean added = false;
+        for (String attribute : attributes) {
+            added |= userAttributes.add(attribute);
+        }
+        if (added && directory != null) {
+            reloadNeeded = true;
+            TaskEngine.getInstance().submit(new Runnable() {
+                @Override
+                public void run() {
+                    synchronize();
+                }
+            });
+        }
+    }
+
+    public Group getGroup(String name) throws GroupNotFoundException {
+        Directory directory = this.directory;
+        if (!directory.groups.containsKey(name)) {
+            throw new GroupNotFoundException("Group with name " + name + " not found.");
+        }
+        return directory.toGroup(name);
+    }
+
+    public int getGroupCount() {
+        return directory.groupNames.size();
+    }
+
+    /**
+     * Returns the sorted names of the groups.
+     *
+     * @param startIndex the index of the first name to return, or -1.
+     * @param numResults the number of names to return, or -1 for all.
+     * @return the names of the groups.
+     */
+    public List<String> getGroupNames(int startIndex, int numResults) {
+        return subList(directory.groupNames, startIndex, numResults);
+    }
+
+    /**
+     * Returns the names of the groups that a user is a member of.
+     *
+     * @param user the bare JID of the user.
+     * @return the names of the groups.
+     */
+    public Collection<String> getGroupNames(JID user) {
+        List<String> names = directory.groupNamesByMember.get(user);
+        return names == null ? Collections.<String>emptyList() : names;
+    }
+
+    Set<JID> getMembers(String name) {
+        Set<JID> members = directory.members.get(name);
+        return members == null ? Collections.<JID>emptySet() : members;
+    }
+
+    private static List<String> subList(List<String> list, int startIndex, int numResults) {
+        int from = startIndex < 0 ? 0 : Math.min(startIndex, list.size());
+        int to = numResults < 0 ? list.size() : Math.min(from + numResults, list.size());
+        return Collections.unmodifiableList(list.subList(from, to));
+    }
+
+    private static boolean equals(Object o1, Object o2) {
+        return o1 == null ? o2 == null : o1.equals(o2);
+    }
+
+    private static final class UserEntry {
+        final LdapName dn;
+        final String username;
+        final JID jid;
+        final String name;
+        final String email;
+        final Date creationDate;
+        final Date modificationDate;
+        final Map<String, String> attributes;
+
+        UserEntry(LdapName dn, String username, JID jid, String name, String email,
+                Date creationDate, Date modificationDate, Map<String, String> attributes)
+        {
+            this.dn = dn;
+            this.username = username;
+            this.jid = jid;
+            this.name = name;
+            this.email = email;
+            this.creationDate = creationDate;
+            this.modificationDate = modificationDate;
+            this.attributes = attributes;
+        }
+
+        User toUser() {
+            return new User(username, name, email,
+                    creationDate == null ? new Date() : creationDate,
+                    modificationDate == null ? new Date() : modificationDate);
+        }
+
+        /**
+         * Returns true if the user is the same as the user of another entry. The other
+         * attributes are not compared.
+         */
+        boolean isSameUser(UserEntry other) {
+            return LdapMirror.equals(name, other.name) && LdapMirror.equals(email, other.email)
+                    && LdapMirror.equals(creationDate, other.creationDate)
+                    && LdapMirror.equals(modificationDate, other.modificationDate);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof UserEntry)) {
+                return false;
+            }
+            UserEntry other = (UserEntry) object;
+            return dn.equals(other.dn) && username.equals(other.username) && isSameUser(other)
+                    && attributes.equals(other.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return dn.hashCode();
+        }
+    }
+
+    private static final class GroupEntry {
+        final LdapName dn;
+        final String name;
+        final String description;
+        /**
+         * The values of the member attribute, that are DNs or usernames in posix mode.
+         */
+        final List<String> members;
+
+        GroupEntry(LdapName dn, String name, String description, List<String> members) {
+            this.dn = dn;
+            this.name = name;
+            this.description = description;
+            this.members = members;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof GroupEntry)) {
+                return false;
+            }
+            GroupEntry other = (GroupEntry) object;
+            return dn.equals(other.dn) && name.equals(other.name)
+                    && description.equals(other.description) && members.equals(other.members);
+        }
+
+        @Override
+        public int hashCode() {
+            return dn.hashCode();
+        }
+    }
+
+    /**
+     * The entries of the directory with the indexes to look them up, that never change once
+     * they are built.
+     */
+    private static final class Directory {
+        final Map<LdapName, UserEntry> userEntries;
+        final Map<LdapName, GroupEntry> groupEntries;
+        final Set<String> attributeNames;
+        final Map<String, UserEntry> users = new HashMap<>();
+        final List<String> usernames;
+        final Map<String, GroupEntry> groups = new HashMap<>();
+        final List<String> groupNames;
+        /**
+         * The members of each group, that are the users that exist in the directory.
+         */
+        final Map<String, Set<JID>> members = new HashMap<>();
+        final Map<JID, List<String>> groupNamesByMember = new HashMap<>();
+
+        Directory(Map<LdapName, UserEntry> userEntries, Map<LdapName, GroupEntry> groupEntries,
+                Set<String> attributeNames, boolean posixMode, String domain)
+        {
+            this.userEntries = userEntries;
+            this.groupEntries = groupEntries;
+            this.attributeNames = attributeNames;
+            TreeMap<String, UserEntry> sortedUsers = new TreeMap<>();
+            for (UserEntry entry : userEntries.values()) {
+                sortedUsers.put(entry.username, entry);
+            }
+            users.putAll(sortedUsers);
+            usernames = new ArrayList<>(sortedUsers.keySet());
+
+            TreeMap<String, GroupEntry> sortedGroups = new TreeMap<>();
+            for (GroupEntry entry : groupEntries.values()) {
+                sortedGroups.put(entry.name, entry);
+            }
+            groups.putAll(sortedGroups);
+            groupNames = new ArrayList<>(sortedGroups.keySet());
+            for (GroupEntry entry : sortedGroups.values()) {
+                Set<JID> jids = new HashSet<>();
+                for (String member : entry.members) {
+                    JID jid = getMember(member, posixMode, domain);
+                    if (jid != null && jids.add(jid)) {
+                        List<String> names = groupNamesByMember.get(jid);
+                        if (names == null) {
+                            names = new ArrayList<>(1);
+                            groupNamesByMember.put(jid, names);
+                        }
+                        names.add(entry.name);
+                    }
+                }
+                members.put(entry.name, Collections.unmodifiableSet(jids));
+            }
+        }
+
+        /**
+         * Returns the JID of a member of a group. Members are users of the directory, or
+         * components of the server. Members that are users that don't exist or that don't
+         * match the search filter are ignored.
+         */
+        private JID getMember(String member, boolean posixMode, String domain) {
+            int position = member.indexOf("@" + domain);
+            if (position != -1) {
+                // This is a JID of a component or node of a server's component
+                return new JID(JID.escapeNode(member.substring(0, position)) + "@" + domain);
+            }
+            UserEntry entry;
+            if (posixMode) {
+                entry = users.get(JID.escapeNode(member));
+            }
+            else {
+                try {
+                    entry = userEntries.get(new LdapName(member));
+                }
+                catch (InvalidNameException e) {
+                    Log.debug("LdapMirror: Invalid member DN " + member);
+                    return null;
+                }
+            }
+            return entry == null ? null : entry.jid;
+        }
+
+        Group toGroup(String name) {
+            return new Group(name, groups.get(name).description, members.get(name),
+                    Collections.<JID>emptyList());
+        }
+    }
+
+    /**
+     * The differences between two versions of the mirror.
+     */
+    static final class Changes {
+        final Directory before;
+        final Directory after;
+        final List<String> createdUsers = new ArrayList<>();
+        final List<String> modifiedUsers = new ArrayList<>();
+        final List<String> deletedUsers = new ArrayList<>();
+        final List<String> createdGroups = new ArrayList<>();
+        final List<String> modifiedGroups = new ArrayList<>();
+        final List<String> deletedGroups = new ArrayList<>();
+        final Map<String, Set<JID>> addedMembers = new HashMap<>();
+        final Map<String, Set<JID>> removedMembers = new HashMap<>();
+
+        private Changes(Directory before, Directory after) {
+            this.before = before;
+            this.after = after;
+            for (UserEntry entry : after.users.values()) {
+                UserEntry original = before.users.get(entry.username);
+                if (original == null) {
+                    createdUsers.add(entry.username);
+                }
+                else if (!original.isSameUser(entry)) {
+                    modifiedUsers.add(entry.username);
+                }
+            }
+            for (String username : before.users.keySet()) {
+                if (!after.users.containsKey(username)) {
+                    deletedUsers.add(username);
+                }
+            }
+            for (GroupEntry entry : after.groups.values()) {
+                GroupEntry original = before.groups.get(entry.name);
+                if (original == null) {
+                    createdGroups.add(entry.name);
+                    continue;
+                }
+                if (!original.description.equals(entry.description)) {
+                    modifiedGroups.add(entry.name);
+                }
+                Set<JID> members = after.members.get(entry.name);
+                Set<JID> originalMembers = before.members.get(entry.name);
+                if (!members.equals(originalMembers)) {
+                    Set<JID> added = new HashSet<>(members);
+                    added.removeAll(originalMembers);
+                    if (!added.isEmpty()) {
+                        addedMembers.put(entry.name, added);
+                    }
+                    Set<JID> removed = new HashSet<>(originalMembers);
+                    removed.removeAll(members);
+                    if (!removed.isEmpty()) {
+                        removedMembers.put(entry.name, removed);
+                    }
+                }
+            }
+            for (String name : before.groups.keySet()) {
+                if (!after.groups.containsKey(name)) {
+                    deletedGroups.add(name);
+                }
+            }
+        }
+    }
+}
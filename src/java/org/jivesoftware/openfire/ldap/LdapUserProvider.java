@@ -91,6 +91,8 @@ public class LdapUserProvider implements UserProvider {
                 Log.error("Error parsing LDAP search fields: " + fieldList, e);
             }
         }
+        // Load the mirror of the directory, if it is enabled
+        LdapMirror.getInstance();
     }
 
     @Override
@@ -101,6 +103,10 @@ public class LdapUserProvider implements UserProvider {
             }
             username = username.substring(0,username.lastIndexOf("@"));
         }
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.loadUser(username);
+        }
         // Un-escape username.
         username = JID.unescapeNode(username);
         DirContext ctx = null;
@@ -198,6 +204,10 @@ public class LdapUserProvider implements UserProvider {
 
     @Override
     public int getUserCount() {
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.getUserCount();
+        }
         // Cache user count for 5 minutes.
         if (userCount != -1 && System.currentTimeMillis() < expiresStamp) {
             return userCount;
@@ -212,6 +222,10 @@ public class LdapUserProvider implements UserProvider {
 
     @Override
     public Collection<String> getUsernames() {
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            return mirror.getUsernames(-1, -1);
+        }
         return manager.retrieveList(
                 manager.getUsernameField(),
                 MessageFormat.format(manager.getSearchFilter(), "*"),
@@ -229,6 +243,11 @@ public class LdapUserProvider implements UserProvider {
 
     @Override
     public Collection<User> getUsers(int startIndex, int numResults) {
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            List<String> usernames = mirror.getUsernames(startIndex, numResults);
+            return new UserCollection(usernames.toArray(new String[usernames.size()]));
+        }
         List<String> userlist = manager.retrieveList(
                 manager.getUsernameField(),
                 MessageFormat.format(manager.getSearchFilter(), "*"),
@@ -363,7 +382,7 @@ public class LdapUserProvider implements UserProvider {
      * @param dateText the date string.
      * @return the Date.
      */
-    private static Date parseLDAPDate(String dateText) {
+    static Date parseLDAPDate(String dateText) {
         // If the date ends with a "Z", that means that it's in the UTC time zone. Otherwise,
         // Use the default time zone.
         boolean useUTC = false;
@@ -155,6 +155,11 @@ public class LdapVCardProvider implements VCardProvider, PropertyEventListener {
             }
             Document document = DocumentHelper.parseText(property);
             template = new VCardTemplate(document);
+            // Keep the attributes of the template in the mirror of the directory
+            LdapMirror mirror = LdapMirror.getInstance();
+            if (mirror != null) {
+                mirror.addUserAttributes(template.getAttributes());
+            }
         }
         catch (Exception e) {
             Log.error("Error loading vcard mapping: " + e.getMessage());
@@ -172,6 +177,13 @@ public class LdapVCardProvider implements VCardProvider, PropertyEventListener {
     private Map<String, String> getLdapAttributes(String username) {
         // Un-escape username
         username = JID.unescapeNode(username);
+        LdapMirror mirror = LdapMirror.getLoadedInstance();
+        if (mirror != null) {
+            Map<String, String> map = mirror.getUserAttributes(JID.escapeNode(username), template.getAttributes());
+            if (map != null) {
+                return map;
+            }
+        }
         Map<String, String> map = new HashMap<>();
 
         DirContext ctx = null;
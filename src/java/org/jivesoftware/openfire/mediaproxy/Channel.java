@@ -20,47 +20,63 @@
 package org.jivesoftware.openfire.mediaproxy;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetAddress;
-import java.net.SocketException;
-import java.net.UnknownHostException;
-import java.util.ArrayList;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Listen packets from defined dataSocket and send packets to the defined host.
+ * Listen packets from defined dataChannel and send packets to the defined host.<p>
+ *
+ * The channel does not read by itself: a {@link MediaProxySelector} thread receives the
+ * packets of the non-blocking dataChannel and hands them to {@link #received(ByteBuffer, InetSocketAddress)}.
  *
  * @author Thiago Camargo
  */
-abstract class Channel implements Runnable {
-	
+abstract class Channel {
+
 	private static final Logger Log = LoggerFactory.getLogger(Channel.class);
 
-    protected byte[] buf = new byte[5000];
-    protected DatagramSocket dataSocket;
-    protected DatagramPacket packet;
-    protected boolean enabled = true;
+    protected DatagramChannel dataChannel;
+    protected volatile boolean enabled = true;
 
-    List<DatagramListener> listeners = new ArrayList<>();
+    List<DatagramListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The address that the packets will be sent to.
+     */
+    private volatile InetSocketAddress target;
 
-    protected InetAddress host;
-    protected int port;
+    // Only updated by the selector thread of the session
+    private volatile long packetsReceived;
+    private volatile long bytesReceived;
+    private volatile long packetsSent;
+    private volatile long bytesSent;
 
     /**
      * Creates a Channel according to the parameters.
      *
-     * @param dataSocket
+     * @param dataChannel
      * @param host
      * @param port
      */
-    public Channel(DatagramSocket dataSocket, InetAddress host, int port) {
-        this.dataSocket = dataSocket;
-        this.host = host;
-        this.port = port;
+    public Channel(DatagramChannel dataChannel, InetAddress host, int port) {
+        this.dataChannel = dataChannel;
+        this.target = new InetSocketAddress(host, port);
+    }
+
+    /**
+     * Get the datagram channel that the packets are received from and sent through.
+     *
+     * @return the datagram channel.
+     */
+    DatagramChannel getDataChannel() {
+        return dataChannel;
     }
 
     /**
@@ -69,14 +85,14 @@ abstract class Channel implements Runnable {
      * @return remote host address
      */
     public InetAddress getHost() {
-        return host;
+        return target.getAddress();
     }
 
     /**
      * Set the host that the packet will be sent to.
      */
     protected void setHost(InetAddress host) {
-        this.host = host;
+        this.target = new InetSocketAddress(host, target.getPort());
     }
 
     /**
@@ -85,7 +101,7 @@ abstract class Channel implements Runnable {
      * @return The remote port number
      */
     public int getPort() {
-        return port;
+        return target.getPort();
     }
 
     /**
@@ -94,7 +110,16 @@ abstract class Channel implements Runnable {
      * @param port
      */
     protected void setPort(int port) {
-        this.port = port;
+        this.target = new InetSocketAddress(target.getAddress(), port);
+    }
+
+    /**
+     * Set the host and port that the packet will be sent to.
+     *
+     * @param target the remote address
+     */
+    protected void setTarget(InetSocketAddress target) {
+        this.target = target;
     }
 
     /**
@@ -119,75 +144,127 @@ abstract class Channel implements Runnable {
      * Remove every Listeners
      */
     public void removeListeners() {
-        listeners.removeAll(listeners);
+        listeners.clear();
     }
 
     public void cancel() {
         this.enabled = false;
-        if (dataSocket != null){
-            dataSocket.close();
+        if (dataChannel != null){
+            try {
+                dataChannel.close();
+            }
+            catch (IOException e) {
+                Log.error(e.getMessage(), e);
+            }
         }
     }
 
     /**
-     * Thread override method
+     * Returns true until the channel is cancelled.
+     *
+     * @return true if the channel is not cancelled.
      */
-    @Override
-    public void run() {
-        try {
-            while (enabled) {
-                // Block until a datagram appears:
-                packet = new DatagramPacket(buf, buf.length);
-                dataSocket.receive(packet);
-
-                if (handle(packet)) {
-                    boolean resend = true;
-
-                    for (DatagramListener dl : listeners) {
-                        boolean send = dl.datagramReceived(packet);
-                        if (resend && !send) {
-                            resend = false;
-                        }
-                    }
-
-                    if (resend) {
-                        relayPacket(packet);
-                    }
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Called by the selector thread of the channel for every packet received. The buffer
+     * is reused for the next packet, so it must not be kept once this method returns.
+     *
+     * @param buffer the received packet, between the position and the limit of the buffer.
+     * @param source the address that sent the packet.
+     */
+    void received(ByteBuffer buffer, InetSocketAddress source) {
+        packetsReceived++;
+        bytesReceived += buffer.remaining();
+
+        if (handle(source)) {
+            boolean resend = true;
+
+            for (DatagramListener dl : listeners) {
+                boolean send = dl.datagramReceived(buffer, source);
+                if (resend && !send) {
+                    resend = false;
                 }
             }
-        }
-        catch (UnknownHostException uhe) {
-            if (enabled) {
-                Log.error("Unknown Host", uhe);
+
+            if (resend) {
+                relayPacket(buffer);
             }
         }
-        catch (SocketException se) {
-            if (enabled) {
-                Log.error("Socket closed", se);
+    }
+
+    /**
+     * Sends a packet to the host and port of the channel. The position of the buffer is
+     * left unchanged so other listeners can still read the packet.
+     *
+     * @param buffer the packet, between the position and the limit of the buffer.
+     */
+    public void relayPacket(ByteBuffer buffer) {
+        if (!enabled) {
+            return;
+        }
+        final int position = buffer.position();
+        try {
+            final int sent = dataChannel.send(buffer, target);
+            // A full send buffer drops the packet, as the network would
+            if (sent > 0) {
+                packetsSent++;
+                bytesSent += sent;
             }
         }
-        catch (IOException ioe) {
+        catch (IOException e) {
             if (enabled) {
-                Log.error("Communication error", ioe);
+                Log.error(e.getMessage(), e);
             }
         }
+        finally {
+            buffer.position(position);
+        }
     }
 
-    public void relayPacket(DatagramPacket packet) {
-        try {
-            DatagramPacket echo = new DatagramPacket(packet.getData(), packet.getLength(), host, port);
-            dataSocket.send(echo);
-        }
-        catch (IOException e) {
-            Log.error(e.getMessage(), e);
-        }
+    /**
+     * Returns the number of packets received by the channel.
+     *
+     * @return the number of packets received.
+     */
+    public long getPacketsReceived() {
+        return packetsReceived;
+    }
+
+    /**
+     * Returns the number of bytes received by the channel.
+     *
+     * @return the number of bytes received.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of packets sent through the channel.
+     *
+     * @return the number of packets sent.
+     */
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * Returns the number of bytes sent through the channel.
+     *
+     * @return the number of bytes sent.
+     */
+    public long getBytesSent() {
+        return bytesSent;
     }
 
     /**
      * Handles received packet and returns true if the packet should be processed by the channel.
      *
-     * @param packet received datagram packet
+     * @param source the address that sent the received packet
      * @return true if listeners will be alerted that a new packet was received.
      */
-    abstract boolean handle(DatagramPacket packet);
+    abstract boolean handle(InetSocketAddress source);
 }
\ No newline at end of file
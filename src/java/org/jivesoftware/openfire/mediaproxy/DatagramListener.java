@@ -19,7 +19,8 @@
 
 package org.jivesoftware.openfire.mediaproxy;
 
-import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 
 /**
  * Listener for datagram packets received.
@@ -30,10 +31,14 @@ public interface DatagramListener {
 
     /**
      * Called when a datagram is received. If the method returns false, the
-     * packet MUST NOT be resent from the received Channel.
+     * packet MUST NOT be resent from the received Channel.<p>
      *
-     * @param datagramPacket the datagram packet received.
-     * @return ?
+     * The buffer is reused once the method returns and its position must be left
+     * unchanged, so that the next listeners can read the same datagram.
+     *
+     * @param datagram the datagram received, between the position and the limit of the buffer.
+     * @param source the address that sent the datagram.
+     * @return false if the datagram must not be resent from the received Channel.
      */
-    public boolean datagramReceived(DatagramPacket datagramPacket);
+    public boolean datagramReceived(ByteBuffer datagram, InetSocketAddress source);
 }
\ No newline at end of file
@@ -19,9 +19,10 @@
 
 package org.jivesoftware.openfire.mediaproxy;
 
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 
 /**
  * Listen packets from defined dataSocket and send packets to the defined host.
@@ -30,31 +31,30 @@ import java.net.InetAddress;
  *
  * @author Thiago Camargo
  */
-public class DynamicAddressChannel extends Channel implements Runnable, DatagramListener {
+public class DynamicAddressChannel extends Channel implements DatagramListener {
     private int c = 0;
 
     /**
      * Default Channel Constructor
      *
-     * @param dataSocket datasocket to used to send and receive packets
-     * @param host       default destination host for received packets
-     * @param port       default destination port for received packets
+     * @param dataChannel datagram channel used to send and receive packets
+     * @param host        default destination host for received packets
+     * @param port        default destination port for received packets
      */
-    public DynamicAddressChannel(DatagramSocket dataSocket, InetAddress host, int port) {
-        super(dataSocket, host, port);
+    public DynamicAddressChannel(DatagramChannel dataChannel, InetAddress host, int port) {
+        super(dataChannel, host, port);
     }
 
     @Override
-	boolean handle(DatagramPacket packet) {
+	boolean handle(InetSocketAddress source) {
         // Relay Destination
         if (c++ < 100) { // 100 packets are enough to discover relay address
-            this.setHost(packet.getAddress());
-            this.setPort(packet.getPort());
+            this.setTarget(source);
             return true;
         } else {
             c = 1000; // Prevents long overflow
             // Check Source Address. If it's different, discard packet.
-            return this.getHost().equals(packet.getAddress());
+            return this.getHost().equals(source.getAddress());
         }
     }
 
@@ -62,11 +62,12 @@ public class DynamicAddressChannel extends Channel implements Runnable, Datagram
      * Implement DatagramListener method.
      * Set the host and port value to the host and port value from the received packet.
      *
-     * @param datagramPacket the received packet
+     * @param datagram the received packet
+     * @param source   the address that sent the packet
      */
     @Override
-    public boolean datagramReceived(DatagramPacket datagramPacket) {
-        this.relayPacket(datagramPacket);
+    public boolean datagramReceived(ByteBuffer datagram, InetSocketAddress source) {
+        this.relayPacket(datagram);
         return false;
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ package org.jivesoftware.openfire.mediaproxy;
 
 import java.io.IOException;
 import java.net.*;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -48,7 +49,8 @@ public class Echo implements Runnable {
                 System.out.println("ECHO Packet Received in: " + socket.getLocalAddress().getHostAddress() + ":" + socket.getLocalPort() + " From: " + packet.getAddress().getHostAddress() + ":" + packet.getPort());
 
                 for (DatagramListener listener : listeners) {
-                    listener.datagramReceived(packet);
+                    listener.datagramReceived(ByteBuffer.wrap(packet.getData(), 0, packet.getLength()),
+                            (InetSocketAddress) packet.getSocketAddress());
                 }
 
                 packet.setAddress(packet.getAddress());
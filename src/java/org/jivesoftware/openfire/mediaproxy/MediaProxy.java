@@ -43,8 +43,15 @@ public class MediaProxy implements SessionListener {
 
 	private static final Logger Log = LoggerFactory.getLogger(MediaProxy.class);
 
+    /**
+     * The default number of threads that relay packets.
+     */
+    static final int DEFAULT_SELECTOR_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
     final private Map<String, MediaProxySession> sessions = new ConcurrentHashMap<>();
 
+    final private MediaProxySelector selector;
+
     private String ipAddress;
 
     private int minPort = 10000;
@@ -61,7 +68,19 @@ public class MediaProxy implements SessionListener {
      * @param ipAddress the IP address on this server that will listen for packets.
      */
     public MediaProxy(String ipAddress) {
+        this(ipAddress, DEFAULT_SELECTOR_THREADS);
+    }
+
+    /**
+     * Contruct a MediaProxy instance that will listen on a specific network interface and
+     * relay the packets of all the sessions with the specified number of threads.
+     *
+     * @param ipAddress the IP address on this server that will listen for packets.
+     * @param selectorThreads the number of threads that relay packets.
+     */
+    public MediaProxy(String ipAddress, int selectorThreads) {
         this.ipAddress = ipAddress;
+        this.selector = new MediaProxySelector(selectorThreads);
     }
 
     /**
@@ -215,6 +234,7 @@ public class MediaProxy implements SessionListener {
             String hostB, int portB)
     {
         RelaySession session = new RelaySession(id, creator, ipAddress, hostA, portA, hostB, portB, minPort, maxPort);
+        session.setSelector(selector);
         sessions.put(id, session);
         session.addKeepAlive(idleTime);
         session.addLifeTime(lifetime);
@@ -257,5 +277,6 @@ public class MediaProxy implements SessionListener {
             }
         }
         sessions.clear();
+        selector.shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+/**
+ * Copyright (C) 2005-2008 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.mediaproxy;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multiplexes the non-blocking datagram channels of every media proxy session over a few
+ * selector threads.<p>
+ *
+ * All the channels of a session are served by the same thread. Each thread receives into a
+ * single direct buffer that it reuses for every packet, and the packet is relayed straight
+ * from that buffer, so relaying neither allocates a buffer nor copies the packet.
+ */
+class MediaProxySelector {
+
+    private static final Logger Log = LoggerFactory.getLogger(MediaProxySelector.class);
+
+    /**
+     * Size of the receive buffers. Longer datagrams are truncated.
+     */
+    static final int BUFFER_SIZE = 5000;
+
+    /**
+     * Max number of packets read from a channel before the other channels get a turn.
+     */
+    private static final int MAX_READS = 64;
+
+    private final int threads;
+
+    private SelectorThread[] selectorThreads;
+
+    private int next;
+
+    /**
+     * Creates a selector that will use the specified number of threads once the first
+     * session is registered.
+     *
+     * @param threads the number of selector threads.
+     */
+    MediaProxySelector(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Returns the number of selector threads.
+     *
+     * @return the number of selector threads.
+     */
+    int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Starts receiving the packets of the channels of a session, starting the selector
+     * threads if needed.
+     *
+     * @param channels the channels of a session.
+     * @throws IOException if a selector could not be opened.
+     */
+    synchronized void register(Channel... channels) throws IOException {
+        if (selectorThreads == null) {
+            final SelectorThread[] started = new SelectorThread[threads];
+            try {
+                for (int i = 0; i < threads; i++) {
+                    started[i] = new SelectorThread(i);
+                    started[i].start();
+                }
+            }
+            catch (IOException e) {
+                for (SelectorThread thread : started) {
+                    if (thread != null) {
+                        thread.shutdown();
+                    }
+                }
+                throw e;
+            }
+            selectorThreads = started;
+        }
+        next = (next + 1) % selectorThreads.length;
+        if (!selectorThreads[next].isRunning()) {
+            // The sessions of a dead thread no longer relay packets, but new sessions get a new thread
+            Log.warn("Replacing media proxy selector thread " + next);
+            final SelectorThread replacement = new SelectorThread(next);
+            replacement.start();
+            selectorThreads[next] = replacement;
+        }
+        selectorThreads[next].register(channels);
+    }
+
+    /**
+     * Stops the selector threads. They are started again when the next session is registered.
+     */
+    synchronized void shutdown() {
+        if (selectorThreads == null) {
+            return;
+        }
+        for (SelectorThread thread : selectorThreads) {
+            thread.shutdown();
+        }
+        selectorThreads = null;
+    }
+
+    private static class SelectorThread extends Thread {
+
+        private final Selector selector;
+        private final Queue<Channel> registrations = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private volatile boolean running = true;
+
+        SelectorThread(int index) throws IOException {
+            super("MediaProxy-Selector-" + index);
+            setDaemon(true);
+            selector = Selector.open();
+        }
+
+        void register(Channel[] channels) {
+            Collections.addAll(registrations, channels);
+            selector.wakeup();
+        }
+
+        void shutdown() {
+            running = false;
+            selector.wakeup();
+        }
+
+        boolean isRunning() {
+            return running && isAlive();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerChannels();
+
+                    final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        final SelectionKey key = keys.next();
+                        keys.remove();
+                        try {
+                            if (key.isValid() && key.isReadable()) {
+                                read(key, (Channel) key.attachment());
+                            }
+                        }
+                        catch (CancelledKeyException e) {
+                            // The session was stopped while its packets were being read
+                        }
+                        catch (RuntimeException e) {
+                            // Do not let one channel stop the other sessions of this thread
+                            Log.error("Error reading from a media proxy channel", e);
+                            key.cancel();
+                        }
+                    }
+                }
+            }
+            catch (IOException | RuntimeException e) {
+                Log.error("Media proxy selector failed", e);
+            }
+            finally {
+                running = false;
+                try {
+                    selector.close();
+                }
+                catch (IOException e) {
+                    Log.error(e.getMessage(), e);
+                }
+            }
+        }
+
+        private void registerChannels() {
+            Channel channel;
+            while ((channel = registrations.poll()) != null) {
+                try {
+                    channel.getDataChannel().register(selector, SelectionKey.OP_READ, channel);
+                }
+                catch (ClosedChannelException e) {
+                    // The session was stopped before its channels were registered
+                }
+            }
+        }
+
+        private void read(SelectionKey key, Channel channel) {
+            for (int i = 0; i < MAX_READS; i++) {
+                buffer.clear();
+                final InetSocketAddress source;
+                try {
+                    source = (InetSocketAddress) channel.getDataChannel().receive(buffer);
+                }
+                catch (IOException e) {
+                    if (channel.isEnabled()) {
+                        Log.error("Communication error", e);
+                    }
+                    key.cancel();
+                    return;
+                }
+                if (source == null) {
+                    // Nothing left to read
+                    return;
+                }
+                buffer.flip();
+                try {
+                    channel.received(buffer, source);
+                }
+                catch (Exception e) {
+                    Log.error("Error relaying a packet", e);
+                }
+            }
+        }
+    }
+}
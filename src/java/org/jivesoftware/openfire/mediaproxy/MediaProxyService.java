@@ -92,7 +92,8 @@ public class MediaProxyService extends BasicModule
         // (ie, when using DNS SRV records). In that case, the "mediaproxy.externalip" property should be
         // set to the IP address of the actual server where the media proxy is listening.
         String ipAddress = JiveGlobals.getProperty("mediaproxy.externalip", server.getServerInfo().getXMPPDomain());
-        mediaProxy = new MediaProxy(ipAddress);
+        mediaProxy = new MediaProxy(ipAddress,
+                JiveGlobals.getIntProperty("mediaproxy.selectorThreads", MediaProxy.DEFAULT_SELECTOR_THREADS));
 
         String defaultName = "rtpbridge";
         serviceName = JiveGlobals.getProperty("mediaproxy.serviceName", defaultName);
@@ -189,12 +190,19 @@ public class MediaProxyService extends BasicModule
                 Element candidate = childElementCopy.addElement("candidate ");
                 ProxyCandidate proxyCandidate = mediaProxy.addRelayAgent(sid, iq.getFrom().toString());
                 Log.debug("MediaProxyService: "+sid);
-                proxyCandidate.start();
-                candidate.addAttribute("name", "voicechannel");
-                candidate.addAttribute("ip", mediaProxy.getPublicIP());
-                candidate.addAttribute("porta", String.valueOf(proxyCandidate.getLocalPortA()));
-                candidate.addAttribute("portb", String.valueOf(proxyCandidate.getLocalPortB()));
-                candidate.addAttribute("pass", proxyCandidate.getPass());
+                try {
+                    proxyCandidate.start();
+                    candidate.addAttribute("name", "voicechannel");
+                    candidate.addAttribute("ip", mediaProxy.getPublicIP());
+                    candidate.addAttribute("porta", String.valueOf(proxyCandidate.getLocalPortA()));
+                    candidate.addAttribute("portb", String.valueOf(proxyCandidate.getLocalPortB()));
+                    candidate.addAttribute("pass", proxyCandidate.getPass());
+                }
+                catch (IllegalStateException e) {
+                    Log.error(e.getMessage(), e);
+                    childElementCopy.remove(candidate);
+                    reply.setError(PacketError.Condition.internal_server_error);
+                }
 
             } else {
                 candidateElement = childElementCopy.element("relay");
@@ -17,27 +17,31 @@
 package org.jivesoftware.openfire.mediaproxy;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.Timer;
 import java.util.TimerTask;
 
+import org.jivesoftware.util.TaskEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A media proxy session enables two clients to exchange UDP traffic. Each client connects to
  * a UDP port and then the proxy is responsible for exchanging traffic. Each session uses
- * a total of four ports: two for traffic exchange, and two control ports.
+ * a total of four ports: two for traffic exchange, and two control ports.<p>
+ *
+ * The ports are non-blocking datagram channels served by the threads of a
+ * {@link MediaProxySelector}, so a session does not use a thread of its own.
  *
  * @author Thiago Camargo
  */
-public abstract class MediaProxySession extends Thread implements ProxyCandidate, DatagramListener {
+public abstract class MediaProxySession implements ProxyCandidate, DatagramListener {
 
 	private static final Logger Log = LoggerFactory.getLogger(MediaProxySession.class);
 
@@ -46,7 +50,7 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
     private String id;
     private String pass;
     private String creator = "";
-    private long timestamp = 0;
+    private volatile long timestamp = 0;
 
     protected InetAddress localAddress;
     protected InetAddress hostA;
@@ -58,23 +62,20 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
     protected int localPortA;
     protected int localPortB;
 
-    protected DatagramSocket socketA;
-    protected DatagramSocket socketAControl;
-    protected DatagramSocket socketB;
-    protected DatagramSocket socketBControl;
+    protected DatagramChannel datagramChannelA;
+    protected DatagramChannel datagramChannelAControl;
+    protected DatagramChannel datagramChannelB;
+    protected DatagramChannel datagramChannelBControl;
 
     protected Channel channelAtoB;
     protected Channel channelAtoBControl;
     protected Channel channelBtoA;
     protected Channel channelBtoAControl;
 
-    protected Thread threadAtoB;
-    protected Thread threadAtoBControl;
-    protected Thread threadBtoA;
-    protected Thread threadBtoAControl;
+    private MediaProxySelector selector;
 
-    private Timer idleTimer = null;
-    private Timer lifeTimer = null;
+    private TimerTask idleTask = null;
+    private TimerTask lifeTask = null;
 
     private int minPort = 10000;
     private int maxPort = 20000;
@@ -108,11 +109,11 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
 
             this.localAddress = InetAddress.getByName(localAddress);
             this.localPortA = getFreePort();
-            this.socketA = new DatagramSocket(localPortA, this.localAddress);
-            this.socketAControl = new DatagramSocket(localPortA + 1, this.localAddress);
+            this.datagramChannelA = openChannel(localPortA);
+            this.datagramChannelAControl = openChannel(localPortA + 1);
             this.localPortB = getFreePort();
-            this.socketB = new DatagramSocket(localPortB, this.localAddress);
-            this.socketBControl = new DatagramSocket(localPortB + 1, this.localAddress);
+            this.datagramChannelB = openChannel(localPortB);
+            this.datagramChannelBControl = openChannel(localPortB + 1);
             if (Log.isDebugEnabled()) {
                 Log.debug("MediaProxySession: Session Created at: A " + localPortA + " : B " + localPortB);
             }
@@ -122,6 +123,35 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
         }
     }
 
+    /**
+     * Opens a non-blocking datagram channel bound to a port of the local address.
+     *
+     * @param port the local port.
+     * @return the datagram channel.
+     * @throws IOException if the port could not be bound.
+     */
+    private DatagramChannel openChannel(int port) throws IOException {
+        DatagramChannel channel = DatagramChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.bind(new InetSocketAddress(localAddress, port));
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Sets the selector that will receive the packets of the session once it is started.
+     *
+     * @param selector the selector of the media proxy.
+     */
+    void setSelector(MediaProxySelector selector) {
+        this.selector = selector;
+    }
+
     /**
      * Obtain a free port with a nested control port we can use.
      *
@@ -201,26 +231,71 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
     }
 
     /**
-     * Thread override method
+     * Get the number of packets received from both parties.
+     *
+     * @return the number of packets received
+     */
+    public long getPacketsReceived() {
+        return channelAtoB == null ? 0 : channelAtoB.getPacketsReceived() + channelAtoBControl.getPacketsReceived() +
+                channelBtoA.getPacketsReceived() + channelBtoAControl.getPacketsReceived();
+    }
+
+    /**
+     * Get the number of bytes received from both parties.
+     *
+     * @return the number of bytes received
+     */
+    public long getBytesReceived() {
+        return channelAtoB == null ? 0 : channelAtoB.getBytesReceived() + channelAtoBControl.getBytesReceived() +
+                channelBtoA.getBytesReceived() + channelBtoAControl.getBytesReceived();
+    }
+
+    /**
+     * Get the number of packets relayed to both parties.
+     *
+     * @return the number of packets relayed
+     */
+    public long getPacketsRelayed() {
+        return channelAtoB == null ? 0 : channelAtoB.getPacketsSent() + channelAtoBControl.getPacketsSent() +
+                channelBtoA.getPacketsSent() + channelBtoAControl.getPacketsSent();
+    }
+
+    /**
+     * Get the number of bytes relayed to both parties.
+     *
+     * @return the number of bytes relayed
+     */
+    public long getBytesRelayed() {
+        return channelAtoB == null ? 0 : channelAtoB.getBytesSent() + channelAtoBControl.getBytesSent() +
+                channelBtoA.getBytesSent() + channelBtoAControl.getBytesSent();
+    }
+
+    /**
+     * Start relaying the packets of the session. The session is stopped if its channels cannot
+     * be registered with the selector of the media proxy.
+     *
+     * @throws IllegalStateException if the session was not added to a media proxy, or if its
+     *         packets cannot be relayed.
      */
     @Override
-	public void run() {
+    public void start() {
+        if (selector == null) {
+            throw new IllegalStateException("The session was not added to a media proxy");
+        }
+
         // Create channels for parties
         createChannels();
 
-        // Start a thread for each channel
-        threadAtoB = new Thread(channelAtoB);
-        threadAtoBControl = new Thread(channelAtoBControl);
-        threadBtoA = new Thread(channelBtoA);
-        threadBtoAControl = new Thread(channelBtoAControl);
-
-        threadAtoB.start();
-        threadAtoBControl.start();
-        threadBtoA.start();
-        threadBtoAControl.start();
-
         // Listen to channel events
         addChannelListeners();
+
+        try {
+            selector.register(channelAtoB, channelAtoBControl, channelBtoA, channelBtoAControl);
+        }
+        catch (IOException e) {
+            stopAgent();
+            throw new IllegalStateException("Unable to relay the packets of the session", e);
+        }
     }
 
     /**
@@ -245,50 +320,50 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
     @Override
     public void stopAgent() {
 
-        try {
-            if (idleTimer != null) {
-                idleTimer.cancel();
-                idleTimer.purge();
-                idleTimer = null;
-            }
-        } catch (Exception e) {
-            Log.error(e.getMessage(), e);
+        if (idleTask != null) {
+            TaskEngine.getInstance().cancelScheduledTask(idleTask);
+            idleTask = null;
         }
 
-        try {
-            if (lifeTimer != null) {
-                lifeTimer.cancel();
-                lifeTimer.purge();
-                lifeTimer = null;
-            }
-        } catch (Exception e) {
-            Log.error(e.getMessage(), e);
+        if (lifeTask != null) {
+            TaskEngine.getInstance().cancelScheduledTask(lifeTask);
+            lifeTask = null;
         }
 
-        channelAtoB.removeListeners();
-        channelAtoBControl.removeListeners();
-        channelBtoA.removeListeners();
-        channelBtoAControl.removeListeners();
+        if (channelAtoB != null) {
+            channelAtoB.removeListeners();
+            channelAtoBControl.removeListeners();
+            channelBtoA.removeListeners();
+            channelBtoAControl.removeListeners();
 
-        try {
             channelAtoB.cancel();
             channelAtoBControl.cancel();
             channelBtoA.cancel();
             channelBtoAControl.cancel();
-        } catch (Exception e) {
-            Log.error(e.getMessage(), e);
         }
 
-        socketA.close();
-        socketAControl.close();
-        socketB.close();
-        socketBControl.close();
+        closeChannel(datagramChannelA);
+        closeChannel(datagramChannelAControl);
+        closeChannel(datagramChannelB);
+        closeChannel(datagramChannelBControl);
 
         dispatchAgentStopped();
 
         Log.debug("MediaProxySession: Session Stopped");
     }
 
+    private void closeChannel(DatagramChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            Log.error(e.getMessage(), e);
+        }
+    }
+
     /**
      * Get localhost of the Session
      *
@@ -436,10 +511,11 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
     /**
      * Implement DatagramListener to timestamp last packet arrived
      *
-     * @param datagramPacket
+     * @param datagram
+     * @param source
      */
     @Override
-    public boolean datagramReceived(DatagramPacket datagramPacket) {
+    public boolean datagramReceived(ByteBuffer datagram, InetSocketAddress source) {
         timestamp = System.currentTimeMillis();
         return true;
     }
@@ -452,9 +528,8 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
      * @param delay delay time in millis to check if the channel is inactive
      */
     void addKeepAlive(long delay) {
-        if (idleTimer != null) return;
-        idleTimer = new Timer();
-        idleTimer.scheduleAtFixedRate(new TimerTask() {
+        if (idleTask != null) return;
+        idleTask = new TimerTask() {
             long lastTimeStamp = getTimestamp();
 
             @Override
@@ -465,7 +540,8 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
                 }
                 lastTimeStamp = getTimestamp();
             }
-        }, delay, delay);
+        };
+        TaskEngine.getInstance().scheduleAtFixedRate(idleTask, delay, delay);
     }
 
     /**
@@ -477,14 +553,14 @@ public abstract class MediaProxySession extends Thread implements ProxyCandidate
      */
     void addLifeTime(long lifetime) {
         lifetime *= 1000;
-        if (lifeTimer != null) return;
-        lifeTimer = new Timer();
-        lifeTimer.scheduleAtFixedRate(new TimerTask() {
+        if (lifeTask != null) return;
+        lifeTask = new TimerTask() {
             @Override
 			public void run() {
                 stopAgent();
             }
-        }, lifetime, lifetime);
+        };
+        TaskEngine.getInstance().scheduleAtFixedRate(lifeTask, lifetime, lifetime);
     }
 
     /**
@@ -74,10 +74,10 @@ public class RelaySession extends MediaProxySession {
 
     @Override
 	void createChannels() {
-        channelAtoB = new DynamicAddressChannel(socketA, hostB, portB);
-        channelAtoBControl = new DynamicAddressChannel(socketAControl, hostB, portB + 1);
-        channelBtoA = new DynamicAddressChannel(socketB, hostA, portA);
-        channelBtoAControl = new DynamicAddressChannel(socketBControl, hostA, portA + 1);
+        channelAtoB = new DynamicAddressChannel(datagramChannelA, hostB, portB);
+        channelAtoBControl = new DynamicAddressChannel(datagramChannelAControl, hostB, portB + 1);
+        channelBtoA = new DynamicAddressChannel(datagramChannelB, hostA, portA);
+        channelBtoAControl = new DynamicAddressChannel(datagramChannelBControl, hostA, portA + 1);
     }
 
 
@@ -0,0 +1,188 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.muc;
+
+import java.util.Arrays;
+
+import org.xmpp.packet.Message;
+
+/**
+ * The messages kept in the history of a room, ordered by the date when they were sent to
+ * the room. Messages are stored in a ring that grows by doubling its capacity, so adding a
+ * message and evicting the oldest one does not depend on the size of the history.<p>
+ *
+ * Each message is stored once, already carrying its delay information, together with the
+ * values that are needed to play back history to joining occupants (see {@link HistoryRequest}):
+ * the time of the delay stamp and the number of characters of the message.<p>
+ *
+ * Instances are thread-safe. Readers work on snapshots returned by {@link #toArray()}.
+ */
+class HistoryBuffer {
+
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry[] entries = new Entry[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Adds a message to the history. The message is placed after every message with an
+     * older or equal stamp, since messages may arrive out of order when running inside of
+     * a cluster.
+     *
+     * @param entry the message to add.
+     */
+    synchronized void add(Entry entry) {
+        if (size == entries.length) {
+            grow();
+        }
+        int index = size;
+        // Messages usually arrive in order so this loop rarely iterates
+        while (index > 0 && get(index - 1).stamp > entry.stamp) {
+            set(index, get(index - 1));
+            index--;
+        }
+        set(index, entry);
+        size++;
+    }
+
+    /**
+     * Adds a message to the history after removing the oldest messages that exceed the
+     * maximum number of messages to keep. The message to preserve is not removed, if
+     * possible.
+     *
+     * @param entry the message to add.
+     * @param maxSize the maximum number of messages to keep, including the new one.
+     * @param preserve the message that should not be evicted or null if none.
+     */
+    synchronized void add(Entry entry, int maxSize, Message preserve) {
+        while (size > 0 && size >= maxSize) {
+            if (!evictOldest(preserve)) {
+                break;
+            }
+        }
+        add(entry);
+    }
+
+    /**
+     * Removes all messages from the history and then adds the specified message.
+     *
+     * @param entry the only message to keep in the history.
+     */
+    synchronized void replaceAll(Entry entry) {
+        entries = new Entry[INITIAL_CAPACITY];
+        head = 0;
+        size = 0;
+        add(entry);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the messages of the history, oldest first.
+     *
+     * @return a snapshot of the history.
+     */
+    synchronized Entry[] toArray() {
+        if (size == 0) {
+            return EMPTY;
+        }
+        final Entry[] result = new Entry[size];
+        final int tail = Math.min(size, entries.length - head);
+        System.arraycopy(entries, head, result, 0, tail);
+        System.arraycopy(entries, 0, result, tail, size - tail);
+        return result;
+    }
+
+    private boolean evictOldest(Message preserve) {
+        final Entry oldest = get(0);
+        if (preserve != null && oldest.message == preserve) {
+            if (size == 1) {
+                return false;
+            }
+            // Remove the second oldest message by moving the preserved one forward
+            set(1, oldest);
+        }
+        entries[head] = null;
+        head = (head + 1) & (entries.length - 1);
+        size--;
+        return true;
+    }
+
+    private Entry get(int index) {
+        return entries[(head + index) & (entries.length - 1)];
+    }
+
+    private void set(int index, Entry entry) {
+        entries[(head + index) & (entries.length - 1)] = entry;
+    }
+
+    private void grow() {
+        final Entry[] current = toArray();
+        entries = Arrays.copyOf(current, entries.length * 2);
+        head = 0;
+    }
+
+    /**
+     * A message of the history.
+     */
+    static final class Entry {
+
+        private final Message message;
+        private final long stamp;
+        private final int chars;
+
+        Entry(Message message, long stamp) {
+            this.message = message;
+            this.stamp = stamp;
+            String text = message.getBody() == null ? message.getSubject() : message.getBody();
+            this.chars = text == null ? -1 : text.length();
+        }
+
+        /**
+         * Returns the message, including its delay information.
+         *
+         * @return the message.
+         */
+        Message getMessage() {
+            return message;
+        }
+
+        /**
+         * Returns the time of the delay stamp of the message, in milliseconds.
+         *
+         * @return the time when the message was sent to the room.
+         */
+        long getStamp() {
+            return stamp;
+        }
+
+        /**
+         * Returns the number of characters of the body of the message, or of its subject if
+         * the message has no body. Returns -1 if the message has neither.
+         *
+         * @return the number of characters that count towards the 'maxchars' limit of a
+         *         history request.
+         */
+        int getChars() {
+            return chars;
+        }
+    }
+}
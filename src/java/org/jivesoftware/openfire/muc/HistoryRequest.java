@@ -22,9 +22,6 @@ package org.jivesoftware.openfire.muc;
 
 import java.text.ParseException;
 import java.util.Date;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.ListIterator;
 
 import org.dom4j.Element;
 import org.jivesoftware.openfire.muc.spi.LocalMUCRole;
@@ -131,15 +128,17 @@ public class HistoryRequest {
 
     /**
      * Sends the smallest amount of traffic that meets any combination of the requested criteria.
+     * The history is played back from the entries of the room history, which already include
+     * the delay stamp and length of each message, so messages are not copied nor parsed.
      * 
      * @param joinRole the user that will receive the history.
      * @param roomHistory the history of the room.
      */
     public void sendHistory(LocalMUCRole joinRole, MUCRoomHistory roomHistory) {
+        HistoryBuffer.Entry[] history = roomHistory.getHistoryEntries();
         if (!isConfigured()) {
-            Iterator<Message> history = roomHistory.getMessageHistory();
-            while (history.hasNext()) {
-                joinRole.send(history.next());
+            for (HistoryBuffer.Entry entry : history) {
+                joinRole.send(entry.getMessage());
             }
         }
         else {
@@ -152,20 +151,24 @@ public class HistoryRequest {
                 }
                 return;
             }
+            long oldestStamp = Long.MIN_VALUE;
+            if (getSince() != null) {
+                oldestStamp = getSince().getTime();
+            }
+            long now = System.currentTimeMillis();
             int accumulatedChars = 0;
             int accumulatedStanzas = 0;
-            Element delayInformation;
-            LinkedList<Message> historyToSend = new LinkedList<>();
-            ListIterator<Message> iterator = roomHistory.getReverseMessageHistory();
-            while (iterator.hasPrevious()) {
-                Message message = iterator.previous();
-                // Update number of characters to send
-                String text = message.getBody() == null ? message.getSubject() : message.getBody();
-                if (text == null) {
-                    // Skip this message since it has no body and no subject  
+            // Walk back from the latest message to find the oldest message to send
+            int first = history.length;
+            while (first > 0) {
+                HistoryBuffer.Entry entry = history[first - 1];
+                if (entry.getChars() < 0) {
+                    // Skip this message since it has no body and no subject
+                    first--;
                     continue;
                 }
-                accumulatedChars += text.length();
+                // Update number of characters to send
+                accumulatedChars += entry.getChars();
                 if (getMaxChars() > -1 && accumulatedChars > getMaxChars()) {
                     // Stop collecting history since we have exceded a limit
                     break;
@@ -176,47 +179,29 @@ public class HistoryRequest {
                     // Stop collecting history since we have exceded a limit
                     break;
                 }
-
-                if (getSeconds() > -1 || getSince() != null) {
-                    delayInformation = message.getChildElement("delay", "urn:xmpp:delay");
-                    try {
-                        // Get the date when the historic message was sent
-                        Date delayedDate = xmppDateTime.parseString(delayInformation.attributeValue("stamp"));
-                        if (getSince() != null && delayedDate != null && delayedDate.before(getSince())) {
-                            // Stop collecting history since we have exceded a limit
-                            break;
-                        }
-                        if (getSeconds() > -1) {
-                            Date current = new Date();
-                            long diff = (current.getTime() - delayedDate.getTime()) / 1000;
-                            if (getSeconds() <= diff) {
-                                // Stop collecting history since we have exceded a limit
-                                break;
-                            }
-                        }
-                    }
-                    catch (Exception e) {
-                        Log.error("Error parsing date from historic message", e);
-                    }
-
+                if (entry.getStamp() < oldestStamp) {
+                    // Stop collecting history since we have exceded a limit
+                    break;
+                }
+                if (getSeconds() > -1 && getSeconds() <= (now - entry.getStamp()) / 1000) {
+                    // Stop collecting history since we have exceded a limit
+                    break;
                 }
-
                 // Don't add the latest subject change if it's already in the history.
-                if (addChangedSubject) {
-                    if (changedSubject != null && changedSubject.equals(message)) {
-                        addChangedSubject = false;
-                    }
+                if (entry.getMessage() == changedSubject) {
+                    addChangedSubject = false;
                 }
-
-                historyToSend.addFirst(message);
+                first--;
             }
             // Check if we should add the latest subject change.
             if (addChangedSubject) {
-                historyToSend.addFirst(changedSubject);
+                joinRole.send(changedSubject);
             }
             // Send the smallest amount of traffic to the user
-            for (Object aHistoryToSend : historyToSend) {
-                joinRole.send((Message) aHistoryToSend);
+            for (int i = first; i < history.length; i++) {
+                if (history[i].getChars() >= 0) {
+                    joinRole.send(history[i].getMessage());
+                }
             }
         }
     }
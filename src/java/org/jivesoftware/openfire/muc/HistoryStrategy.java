@@ -20,16 +20,17 @@
 
 package org.jivesoftware.openfire.muc;
 
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.jivesoftware.openfire.muc.cluster.UpdateHistoryStrategy;
 import org.jivesoftware.openfire.muc.spi.MUCPersistenceManager;
+import org.dom4j.Element;
 import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.XMPPDateTimeFormat;
 import org.jivesoftware.util.cache.CacheFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,9 +56,9 @@ public class HistoryStrategy {
     private Type type = Type.number;
 
     /**
-     * List containing the history of messages.
+     * Ring buffer containing the history of messages, ordered by date.
      */
-    private ConcurrentLinkedQueue<Message> history = new ConcurrentLinkedQueue<>();
+    private final HistoryBuffer history = new HistoryBuffer();
     /**
      * Default max number.
      */
@@ -169,6 +170,16 @@ public class HistoryStrategy {
      * @param packet The packet to add to the chatroom's history.
      */
     public void addMessage(Message packet){
+        addMessage(packet, getStamp(packet));
+    }
+
+    /**
+     * Add a message, that already includes its delay information, to the current chat history.
+     *
+     * @param packet The packet to add to the chatroom's history.
+     * @param stamp The date of the delay information of the packet.
+     */
+    void addMessage(Message packet, Date stamp) {
         // get the conditions based on default or not
         Type strategyType;
         int strategyMaxNumber;
@@ -188,30 +199,32 @@ public class HistoryStrategy {
         }
 
         // store message according to active strategy
+        HistoryBuffer.Entry entry = new HistoryBuffer.Entry(packet, stamp.getTime());
         if (strategyType == Type.none && subjectChange) {
-            history.clear();
-            history.add(packet);
+            history.replaceAll(entry);
         }
         else if (strategyType == Type.all || subjectChange) {
-            history.add(packet);
+            history.add(entry);
         }
         else if (strategyType == Type.number) {
-            if (history.size() >= strategyMaxNumber) {
-                // We have to remove messages so the new message won't exceed
-                // the max history size
-                // This is complicated somewhat because we must skip over the
-                // last room subject
-                // message because we want to preserve the room subject if
-                // possible.
-                Iterator<Message> historyIter = history.iterator();
-                while (historyIter.hasNext() && history.size() > strategyMaxNumber) {
-                    if (historyIter.next() != roomSubject) {
-                        historyIter.remove();
-                    }
-                }
+            // Remove the oldest messages so the new message won't exceed the max history
+            // size, skipping over the last room subject message because we want to preserve
+            // the room subject if possible.
+            history.add(entry, strategyMaxNumber, roomSubject);
+        }
+    }
+
+    private static Date getStamp(Message packet) {
+        Element delay = packet.getChildElement("delay", "urn:xmpp:delay");
+        if (delay != null && delay.attributeValue("stamp") != null) {
+            try {
+                return new XMPPDateTimeFormat().parseString(delay.attributeValue("stamp"));
+            }
+            catch (Exception e) {
+                Log.error("Error parsing date from historic message", e);
             }
-            history.add(packet);
         }
+        return new Date();
     }
 
     boolean isHistoryEnabled() {
@@ -228,10 +241,7 @@ public class HistoryStrategy {
      * @return An iterator of Message objects to be sent to the new room member.
      */
     public Iterator<Message> getMessageHistory(){
-        LinkedList<Message> list = new LinkedList<>(history);
-        // Sort messages. Messages may be out of order when running inside of a cluster
-        Collections.sort(list, new MessageComparator());
-        return list.iterator();
+        return getMessages().iterator();
     }
 
     /**
@@ -242,12 +252,29 @@ public class HistoryStrategy {
      * @return A list iterator of Message objects positioned at the end of the list.
      */
     public ListIterator<Message> getReverseMessageHistory(){
-        LinkedList<Message> list = new LinkedList<>(history);
-        // Sort messages. Messages may be out of order when running inside of a cluster
-        Collections.sort(list, new MessageComparator());
+        List<Message> list = getMessages();
         return list.listIterator(list.size());
     }
 
+    /**
+     * Obtain a snapshot of the current history, ordered by date. Messages are sorted as they
+     * are added, since they may be out of order when running inside of a cluster.
+     *
+     * @return the history entries, oldest first.
+     */
+    HistoryBuffer.Entry[] getHistoryEntries() {
+        return history.toArray();
+    }
+
+    private List<Message> getMessages() {
+        HistoryBuffer.Entry[] entries = history.toArray();
+        List<Message> list = new ArrayList<>(entries.length);
+        for (HistoryBuffer.Entry entry : entries) {
+            list.add(entry.getMessage());
+        }
+        return list;
+    }
+
     /**
      * Strategy type.
      */
@@ -350,13 +377,4 @@ public class HistoryStrategy {
 	private boolean isSubjectChangeStrict() {
 		return JiveGlobals.getBooleanProperty("xmpp.muc.subject.change.strict", true);
 	}
-
-	private static class MessageComparator implements Comparator<Message> {
-        @Override
-        public int compare(Message o1, Message o2) {
-            String stamp1 = o1.getChildElement("delay", "urn:xmpp:delay").attributeValue("stamp");
-            String stamp2 = o2.getChildElement("delay", "urn:xmpp:delay").attributeValue("stamp");
-            return stamp1.compareTo(stamp2);
-        }
-    }
 }
@@ -78,8 +78,8 @@ public final class MUCRoomHistory {
             isNonAnonymousRoom = room.canAnyoneDiscoverJID();
             // Update the "from" attribute of the delay information in the history
             // TODO Make this update in a separate thread
-            for (Iterator<Message> it = getMessageHistory(); it.hasNext();) {
-                Message message = it.next();
+            for (HistoryBuffer.Entry entry : historyStrategy.getHistoryEntries()) {
+                Message message = entry.getMessage();
                 Element delayElement = message.getChildElement("delay", "urn:xmpp:delay");
                 if (room.canAnyoneDiscoverJID()) {
                     // Set the Full JID as the "from" attribute
@@ -117,7 +117,7 @@ public final class MUCRoomHistory {
             // Set the Room JID as the "from" attribute
             delayInformation.addAttribute("from", packet.getFrom().toString());
         }
-        historyStrategy.addMessage(packetToAdd);
+        historyStrategy.addMessage(packetToAdd, current);
     }
 
     public Iterator<Message> getMessageHistory() {
@@ -135,6 +135,16 @@ public final class MUCRoomHistory {
         return historyStrategy.getReverseMessageHistory();
     }
 
+    /**
+     * Obtain a snapshot of the current history, including the values needed to play it back
+     * without inspecting the messages.
+     *
+     * @return the history entries, oldest first.
+     */
+    HistoryBuffer.Entry[] getHistoryEntries() {
+        return historyStrategy.getHistoryEntries();
+    }
+
     /**
      * Creates a new message and adds it to the history. The new message will be created based on
      * the provided information. This information will likely come from the database when loading
@@ -175,7 +185,7 @@ public final class MUCRoomHistory {
             // Set the Room JID as the "from" attribute
             delayInformation.addAttribute("from", room.getRole().getRoleAddress().toString());
         }
-        historyStrategy.addMessage(message);
+        historyStrategy.addMessage(message, sentDate);
     }
 
     /**
@@ -84,6 +84,8 @@ public class MultiUserChatManager extends BasicModule implements ClusterEventLis
      * Statistics keys
      */
     private static final String roomsStatKey = "muc_rooms";
+    private static final String knownRoomsStatKey = "muc_rooms_known";
+    private static final String roomLoadTimeStatKey = "muc_room_load_time";
     private static final String occupantsStatKey = "muc_occupants";
     private static final String usersStatKey = "muc_users";
     private static final String incomingStatKey = "muc_incoming";
@@ -114,6 +116,8 @@ public class MultiUserChatManager extends BasicModule implements ClusterEventLis
 
         // Add statistics
         addTotalRoomStats();
+        addKnownRoomStats();
+        addRoomLoadTimeStats();
         addTotalOccupantsStats();
         addTotalConnectedUsers();
         addNumberIncomingMessages();
@@ -135,6 +139,8 @@ public class MultiUserChatManager extends BasicModule implements ClusterEventLis
 
         // Remove the statistics.
         StatisticsManager.getInstance().removeStatistic(roomsStatKey);
+        StatisticsManager.getInstance().removeStatistic(knownRoomsStatKey);
+        StatisticsManager.getInstance().removeStatistic(roomLoadTimeStatKey);
         StatisticsManager.getInstance().removeStatistic(occupantsStatKey);
         StatisticsManager.getInstance().removeStatistic(usersStatKey);
         StatisticsManager.getInstance().removeStatistic(incomingStatKey);
@@ -617,6 +623,89 @@ public class MultiUserChatManager extends BasicModule implements ClusterEventLis
         StatisticsManager.getInstance().addStatistic(roomsStatKey, statistic);
     }
 
+    private void addKnownRoomStats() {
+        // Register a statistic.
+        Statistic statistic = new Statistic() {
+            @Override
+            public String getName() {
+                return LocaleUtils.getLocalizedString("muc.stats.known_rooms.name");
+            }
+
+            @Override
+            public Type getStatType() {
+                return Type.count;
+            }
+
+            @Override
+            public String getDescription() {
+                return LocaleUtils.getLocalizedString("muc.stats.known_rooms.desc");
+            }
+
+            @Override
+            public String getUnits() {
+                return LocaleUtils.getLocalizedString("muc.stats.known_rooms.units");
+            }
+
+            @Override
+            public double sample() {
+                double rooms = 0;
+                for (MultiUserChatService service : getMultiUserChatServices()) {
+                    rooms += service.getNumberKnownChatRooms();
+                }
+                return rooms;
+            }
+
+            @Override
+            public boolean isPartialSample() {
+                return false;
+            }
+        };
+        StatisticsManager.getInstance().addStatistic(knownRoomsStatKey, statistic);
+    }
+
+    private void addRoomLoadTimeStats() {
+        // Register a statistic.
+        Statistic statistic = new Statistic() {
+            @Override
+            public String getName() {
+                return LocaleUtils.getLocalizedString("muc.stats.room_load_time.name");
+            }
+
+            @Override
+            public Type getStatType() {
+                return Type.count;
+            }
+
+            @Override
+            public String getDescription() {
+                return LocaleUtils.getLocalizedString("muc.stats.room_load_time.desc");
+            }
+
+            @Override
+            public String getUnits() {
+                return LocaleUtils.getLocalizedString("muc.stats.room_load_time.units");
+            }
+
+            @Override
+            public double sample() {
+                // Average time spent loading a room since the last sample
+                long loads = 0;
+                long time = 0;
+                for (MultiUserChatService service : getMultiUserChatServices()) {
+                    loads += service.getRoomLoadCount(true);
+                    time += service.getRoomLoadTime(true);
+                }
+                return loads == 0 ? 0 : (double) time / loads;
+            }
+
+            @Override
+            public boolean isPartialSample() {
+                return false;
+            }
+        };
+        StatisticsManager.getInstance().addStatistic(roomLoadTimeStatKey, statistic);
+    }
+
     private void addTotalOccupantsStats() {
         // Register a statistic.
         Statistic statistic = new Statistic() {
@@ -860,7 +949,7 @@ public class MultiUserChatManager extends BasicModule implements ClusterEventLis
         Log.debug("Removing orphaned occupants associated with defunct node: " +  new String(nodeID, StandardCharsets.UTF_8));
 
         for (MultiUserChatService service : getMultiUserChatServices()) {
-            for (MUCRoom mucRoom : service.getChatRooms()) {
+            for (MUCRoom mucRoom : service.getLoadedChatRooms()) {
                 for (MUCRole mucRole : mucRoom.getOccupants()) {
                     if (mucRole.getNodeID().equals(nodeID)) {
                         mucRoom.leaveRoom(mucRole);
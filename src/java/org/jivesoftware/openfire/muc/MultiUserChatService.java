@@ -24,6 +24,7 @@ import org.xmpp.component.Component;
 import org.xmpp.packet.JID;
 import org.xmpp.packet.Message;
 import org.jivesoftware.openfire.muc.spi.LocalMUCRoom;
+import org.jivesoftware.openfire.muc.spi.MUCRoomDirectory;
 import org.jivesoftware.database.JiveID;
 import org.jivesoftware.util.JiveConstants;
 
@@ -253,12 +254,35 @@ public interface MultiUserChatService extends Component {
     
     /**
      * Retuns a list with a snapshot of all the rooms in the server (i.e. persistent or not,
-     * in memory or not).
+     * in memory or not).<p>
+     *
+     * When rooms are loaded lazily, every persistent room that is not in memory is loaded from
+     * the database first, which is expensive for services with many rooms. Use
+     * {@link #getChatRoomEntries()} to list the rooms, and load only the rooms that are needed.
      *
      * @return a list with a snapshot of all the rooms.
      */
     List<MUCRoom> getChatRooms();
 
+    /**
+     * Returns a snapshot of the rooms of the service, in memory or not, sorted by room name.
+     * No room is loaded from the database: the entries of the rooms that are not in memory come
+     * from the room directory of the service.
+     *
+     * @return the entries of all the rooms, sorted by room name.
+     */
+    List<MUCRoomDirectory.Entry> getChatRoomEntries();
+
+    /**
+     * Returns a list with a snapshot of the rooms that are loaded into memory. Persistent rooms
+     * that are not loaded (see {@link #getNumberKnownChatRooms()}) are not included, and unlike
+     * {@link #getChatRooms()} they are not loaded from the database. Rooms that have occupants
+     * are always loaded.
+     *
+     * @return a list with a snapshot of the rooms in memory.
+     */
+    List<MUCRoom> getLoadedChatRooms();
+
     /**
      * Returns true if the server includes a chatroom with the requested name.
      * 
@@ -316,6 +340,31 @@ public interface MultiUserChatService extends Component {
      */
     public int getNumberChatRooms();
 
+    /**
+     * Returns the number of rooms known to the service. That is, the rooms that are loaded into
+     * memory plus the persistent rooms that are not loaded into memory yet but that will be
+     * loaded from the database when first used (see the "unload.lazy" service property).
+     *
+     * @return the number of rooms known to the service.
+     */
+    public int getNumberKnownChatRooms();
+
+    /**
+     * Returns the number of persistent rooms that were loaded from the database since last reset.
+     *
+     * @param resetAfter True if you want the counter to be reset after results returned.
+     * @return the number of rooms loaded from the database.
+     */
+    public long getRoomLoadCount(boolean resetAfter);
+
+    /**
+     * Returns the total time spent loading persistent rooms from the database since last reset.
+     *
+     * @param resetAfter True if you want the counter to be reset after results returned.
+     * @return the time spent loading rooms in milliseconds.
+     */
+    public long getRoomLoadTime(boolean resetAfter);
+
     /**
      * Retuns the total number of occupants in all rooms in the server.
      *
@@ -21,11 +21,11 @@ package org.jivesoftware.openfire.muc.spi;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
 import org.dom4j.QName;
-import org.jivesoftware.openfire.muc.MUCRoom;
 import org.jivesoftware.openfire.muc.MultiUserChatService;
 import org.xmpp.forms.DataForm;
 import org.xmpp.forms.FormField;
 import org.xmpp.packet.IQ;
+import org.xmpp.packet.JID;
 import org.xmpp.packet.PacketError;
 import org.xmpp.packet.PacketError.Condition;
 import org.xmpp.resultsetmanagement.ResultSet;
@@ -212,9 +212,10 @@ public class IQMUCSearchHandler
 			}
 		}
 
-		// search for chatrooms matching the request params.
-		final List<MUCRoom> mucs = new ArrayList<>();
-		for (MUCRoom room : mucService.getChatRooms())
+		// search for chatrooms matching the request params, without loading the rooms that are not in memory
+		final boolean discoverLocked = MUCPersistenceManager.getBooleanProperty(mucService.getServiceName(), "discover.locked", true);
+		final List<MUCRoomDirectory.Entry> mucs = new ArrayList<>();
+		for (MUCRoomDirectory.Entry room : mucService.getChatRoomEntries())
 		{
 			boolean find = false;
 
@@ -249,7 +250,7 @@ public class IQMUCSearchHandler
 				find = true;
 			}
 
-			if (numusers > -1 && room.getParticipants().size() < numusers)
+			if (numusers > -1 && room.getOccupantsCount() < numusers)
 			{
 				find = false;
 			}
@@ -264,20 +265,20 @@ public class IQMUCSearchHandler
 				find = false;
 			}
 
-			if (find && canBeIncludedInResult(room))
+			if (find && canBeIncludedInResult(room, discoverLocked))
 			{
 				mucs.add(room);
 			}
 		}
 
-		final ResultSet<MUCRoom> searchResults = new ResultSetImpl<>(
+		final ResultSet<MUCRoomDirectory.Entry> searchResults = new ResultSetImpl<>(
 			sortByUserAmount(mucs));
 
 		// See if the requesting entity would like to apply 'result set
 		// management'
 		final Element set = iq.getChildElement().element(
 			QName.get("set", ResultSet.NAMESPACE_RESULT_SET_MANAGEMENT));
-		final List<MUCRoom> mucrsm;
+		final List<MUCRoomDirectory.Entry> mucrsm;
 
 		// apply RSM only if the element exists, and the (total) results
 		// set is not empty.
@@ -313,7 +314,7 @@ public class IQMUCSearchHandler
 
 		final DataForm resultform = new DataForm(DataForm.Type.result);
 		boolean atLeastoneResult = false;
-		for (MUCRoom room : mucrsm)
+		for (MUCRoomDirectory.Entry room : mucrsm)
 		{
 			final Map<String, Object> fields = new HashMap<>();
 			fields.put("name", room.getNaturalLanguageName());
@@ -322,7 +323,7 @@ public class IQMUCSearchHandler
 			fields.put("num_max_users", room.getMaxUsers());
 			fields.put("is_password_protected", room.isPasswordProtected());
 			fields.put("is_member_only", room.isMembersOnly());
-			fields.put("jid", room.getRole().getRoleAddress().toString());
+			fields.put("jid", new JID(room.getName(), mucService.getServiceDomain(), null).toString());
             resultform.addItemFields(fields);
 			atLeastoneResult = true;
 		}
@@ -355,12 +356,12 @@ public class IQMUCSearchHandler
 	 *            The unordered list that will be sorted.
      * @return The sorted list of MUC rooms.
 	 */
-	private static List<MUCRoom> sortByUserAmount(List<MUCRoom> mucs)
+	private static List<MUCRoomDirectory.Entry> sortByUserAmount(List<MUCRoomDirectory.Entry> mucs)
 	{
-		Collections.sort(mucs, new Comparator<MUCRoom>()
+		Collections.sort(mucs, new Comparator<MUCRoomDirectory.Entry>()
 		{
 			@Override
-			public int compare(MUCRoom o1, MUCRoom o2)
+			public int compare(MUCRoomDirectory.Entry o1, MUCRoomDirectory.Entry o2)
 			{
 				return o2.getOccupantsCount() - o1.getOccupantsCount();
 			}
@@ -375,15 +376,14 @@ public class IQMUCSearchHandler
 	 * but that method is private and cannot be re-used here.
 	 * 
 	 * @param room
-	 *            The room to check
+	 *            The directory entry of the room to check
+	 * @param discoverLocked
+	 *            ''true'' if locked rooms may be discovered.
 	 * @return ''true'' if the room may be included in search results, ''false''
 	 *         otherwise.
 	 */
-	private static boolean canBeIncludedInResult(MUCRoom room)
+	private static boolean canBeIncludedInResult(MUCRoomDirectory.Entry room, boolean discoverLocked)
 	{
-		// Check if locked rooms may be discovered
-		final boolean discoverLocked = MUCPersistenceManager.getBooleanProperty(room.getMUCService().getServiceName(), "discover.locked", true);
-
 		if (!discoverLocked && room.isLocked())
 		{
 			return false;
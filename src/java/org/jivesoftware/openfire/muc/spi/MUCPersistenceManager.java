@@ -77,6 +77,16 @@ public class MUCPersistenceManager {
         "canInvite, roomPassword, canDiscoverJID, logEnabled, subject, rolesToBroadcast, " +
         "useReservedNick, canChangeNick, canRegister, allowpm " +
         "FROM ofMucRoom WHERE serviceID=? AND (emptyDate IS NULL or emptyDate > ?)";
+    private static final String LOAD_ROOM_DIRECTORY =
+        "SELECT roomID, name, naturalName, publicRoom, membersOnly, lockedDate, emptyDate, " +
+        "description, subject, roomPassword, maxUsers " +
+        "FROM ofMucRoom WHERE serviceID=? AND (emptyDate IS NULL or emptyDate > ?)";
+    private static final String LOAD_AFFILIATED_ROOMS =
+        "SELECT ofMucAffiliation.roomID FROM ofMucAffiliation,ofMucRoom " +
+        "WHERE ofMucAffiliation.roomID = ofMucRoom.roomID AND ofMucRoom.serviceID=? " +
+        "AND ofMucAffiliation.jid=? AND ofMucAffiliation.affiliation<? UNION " +
+        "SELECT ofMucMember.roomID FROM ofMucMember,ofMucRoom " +
+        "WHERE ofMucMember.roomID = ofMucRoom.roomID AND ofMucRoom.serviceID=? AND ofMucMember.jid=?";
     private static final String LOAD_ALL_AFFILIATIONS =
         "SELECT ofMucAffiliation.roomID,ofMucAffiliation.jid,ofMucAffiliation.affiliation " +
         "FROM ofMucAffiliation,ofMucRoom WHERE ofMucAffiliation.roomID = ofMucRoom.roomID AND ofMucRoom.serviceID=?";
@@ -492,6 +502,104 @@ public class MUCPersistenceManager {
         return rooms.values();
     }
 
+    /**
+     * Loads the directory of the rooms that had occupants after a given date from the database.
+     * Only the information that is needed to answer service discovery requests is loaded, the
+     * rooms themselves are loaded when they are first used (see {@link #loadFromDB(LocalMUCRoom)}).
+     * This query will be executed only when the service is starting up and rooms are loaded
+     * lazily.
+     *
+     * @param chatserver the chat server that will hold the loaded rooms.
+     * @param emptyDate rooms that hadn't been used before this date won't be loaded.
+     * @return a collection with the directory entries of all the persistent rooms.
+     */
+    static Collection<MUCRoomDirectory.Entry> loadRoomDirectoryFromDB(MultiUserChatService chatserver, Date emptyDate) {
+        Long serviceID = XMPPServer.getInstance().getMultiUserChatManager().getMultiUserChatServiceID(chatserver.getServiceName());
+
+        final List<MUCRoomDirectory.Entry> entries = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = DbConnectionManager.getConnection();
+            statement = connection.prepareStatement(LOAD_ROOM_DIRECTORY);
+            statement.setLong(1, serviceID);
+            statement.setString(2, StringUtils.dateToMillis(emptyDate));
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                try {
+                    Date roomEmptyDate;
+                    if (resultSet.getString(7) != null) {
+                        roomEmptyDate = new Date(Long.parseLong(resultSet.getString(7).trim()));
+                    }
+                    else {
+                        // The service process was killed somehow while the room was being used
+                        roomEmptyDate = new Date();
+                    }
+                    entries.add(new MUCRoomDirectory.Entry(
+                            resultSet.getLong(1),
+                            resultSet.getString(2).toLowerCase(),
+                            resultSet.getString(3),
+                            resultSet.getString(8),
+                            resultSet.getString(9),
+                            resultSet.getInt(4) == 1,
+                            resultSet.getInt(5) == 1,
+                            resultSet.getString(10) != null && resultSet.getString(10).trim().length() > 0,
+                            Long.parseLong(resultSet.getString(6).trim()) > 0,
+                            resultSet.getInt(11),
+                            roomEmptyDate));
+                }
+                catch (SQLException e) {
+                    Log.error("A database exception prevented one particular MUC room to be loaded from the database.", e);
+                }
+            }
+        }
+        catch (SQLException sqle) {
+            Log.error("A database error prevented MUC rooms to be loaded from the database.", sqle);
+        }
+        finally {
+            DbConnectionManager.closeConnection(resultSet, statement, connection);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the IDs of the rooms of a service where the specified user is an owner, admin
+     * or member. Group affiliations are not considered.
+     *
+     * @param chatserver the chat server that holds the rooms.
+     * @param bareJID the bare JID of the user.
+     * @return the IDs of the rooms where the user has an affiliation that allows to discover them.
+     */
+    static Set<Long> loadAffiliatedRoomIDs(MultiUserChatService chatserver, JID bareJID) {
+        Long serviceID = XMPPServer.getInstance().getMultiUserChatManager().getMultiUserChatServiceID(chatserver.getServiceName());
+
+        final Set<Long> roomIDs = new HashSet<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = DbConnectionManager.getConnection();
+            statement = connection.prepareStatement(LOAD_AFFILIATED_ROOMS);
+            statement.setLong(1, serviceID);
+            statement.setString(2, bareJID.toBareJID());
+            statement.setInt(3, MUCRole.Affiliation.member.getValue());
+            statement.setLong(4, serviceID);
+            statement.setString(5, bareJID.toBareJID());
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                roomIDs.add(resultSet.getLong(1));
+            }
+        }
+        catch (SQLException sqle) {
+            Log.error(sqle.getMessage(), sqle);
+        }
+        finally {
+            DbConnectionManager.closeConnection(resultSet, statement, connection);
+        }
+        return roomIDs;
+    }
+
     private static Map<Long, LocalMUCRoom> loadRooms(Long serviceID, Date emptyDate, MultiUserChatService chatserver, PacketRouter packetRouter) throws SQLException {
         final Map<Long, LocalMUCRoom> rooms = new HashMap<>();
 
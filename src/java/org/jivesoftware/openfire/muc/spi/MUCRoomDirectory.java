@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.muc.spi;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.xmpp.resultsetmanagement.Result;
+
+/**
+ * The persistent rooms of a Multi-User Chat service that exist in the database but are not
+ * loaded into memory. When rooms are loaded lazily the service only keeps this directory of
+ * rooms, which is enough to answer service discovery requests. A room leaves the directory
+ * when it is loaded into memory and returns to the directory when it is unloaded from memory
+ * after being idle for a while.
+ */
+public class MUCRoomDirectory {
+
+    /**
+     * Rooms that are not loaded into memory. Key: room name (String); value: directory entry.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    MUCRoomDirectory() {
+    }
+
+    void add(Entry entry) {
+        entries.put(entry.getName(), entry);
+    }
+
+    void addAll(Collection<Entry> rooms) {
+        for (Entry entry : rooms) {
+            add(entry);
+        }
+    }
+
+    Entry remove(String roomName) {
+        return entries.remove(roomName);
+    }
+
+    boolean contains(String roomName) {
+        return entries.containsKey(roomName);
+    }
+
+    Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Removes the rooms that have been without occupants since before the specified date.
+     *
+     * @param cleanupDate rooms that haven't been used since this date are removed.
+     */
+    void removeEmptySince(Date cleanupDate) {
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+            Date emptyDate = it.next().getEmptyDate();
+            if (emptyDate != null && emptyDate.before(cleanupDate)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * The information of a room that is kept while the room is not loaded into memory. Entries
+     * are also used to list the rooms of a service without loading them (see
+     * {@link org.jivesoftware.openfire.muc.MultiUserChatService#getChatRoomEntries()}), in which
+     * case the entries of the rooms in memory are snapshots of those rooms.
+     */
+    public static class Entry implements Result {
+
+        private final long id;
+        private final String name;
+        private final String naturalName;
+        private final String description;
+        private final String subject;
+        private final boolean persistent;
+        private final boolean publicRoom;
+        private final boolean membersOnly;
+        private final boolean passwordProtected;
+        private final boolean locked;
+        private final int maxUsers;
+        private final int occupantsCount;
+        private final Date emptyDate;
+
+        Entry(long id, String name, String naturalName, String description, String subject,
+                boolean publicRoom, boolean membersOnly, boolean passwordProtected, boolean locked,
+                int maxUsers, Date emptyDate) {
+            this(id, name, naturalName, description, subject, true, publicRoom, membersOnly,
+                    passwordProtected, locked, maxUsers, 0, emptyDate);
+        }
+
+        Entry(LocalMUCRoom room) {
+            this(room.getID(), room.getName(), room.getNaturalLanguageName(), room.getDescription(),
+                    room.getSubject(), room.isPersistent(), room.isPublicRoom(), room.isMembersOnly(),
+                    room.isPasswordProtected(), room.isLocked(), room.getMaxUsers(),
+                    room.getOccupantsCount(), room.getEmptyDate());
+        }
+
+        private Entry(long id, String name, String naturalName, String description, String subject,
+                boolean persistent, boolean publicRoom, boolean membersOnly, boolean passwordProtected,
+                boolean locked, int maxUsers, int occupantsCount, Date emptyDate) {
+            this.id = id;
+            this.name = name;
+            this.naturalName = naturalName;
+            this.description = description == null ? "" : description;
+            this.subject = subject == null ? "" : subject;
+            this.persistent = persistent;
+            this.publicRoom = publicRoom;
+            this.membersOnly = membersOnly;
+            this.passwordProtected = passwordProtected;
+            this.locked = locked;
+            this.maxUsers = maxUsers;
+            this.occupantsCount = occupantsCount;
+            this.emptyDate = emptyDate;
+        }
+
+        public long getID() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getNaturalLanguageName() {
+            return naturalName;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public boolean isPersistent() {
+            return persistent;
+        }
+
+        public boolean isPublicRoom() {
+            return publicRoom;
+        }
+
+        public boolean isMembersOnly() {
+            return membersOnly;
+        }
+
+        public boolean isPasswordProtected() {
+            return passwordProtected;
+        }
+
+        public boolean isLocked() {
+            return locked;
+        }
+
+        /**
+         * Returns the maximum number of occupants of the room.
+         *
+         * @return the maximum number of occupants, or 0 if there is no limit.
+         */
+        public int getMaxUsers() {
+            return maxUsers;
+        }
+
+        /**
+         * Returns the number of occupants of the room when the entry was taken. Rooms that are
+         * not loaded into memory have no occupants.
+         *
+         * @return the number of occupants.
+         */
+        public int getOccupantsCount() {
+            return occupantsCount;
+        }
+
+        public Date getEmptyDate() {
+            return emptyDate;
+        }
+
+        @Override
+        public String getUID() {
+            // Like the rooms, the entries are identified by the name of the room
+            return name;
+        }
+    }
+}
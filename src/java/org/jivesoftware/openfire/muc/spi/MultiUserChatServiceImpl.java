@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TimerTask;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -96,6 +97,11 @@ import org.xmpp.resultsetmanagement.ResultSet;
  * have been forgotten or abandoned this class includes a clean up process. The clean up process
  * will remove from memory rooms that haven't had occupants for a while. Moreover, forgotten or
  * abandoned rooms won't be loaded into memory when the Multi-User Chat service starts up.</p>
+ * <p>
+ * Services with many persistent rooms may load rooms lazily (see the "unload.lazy" property).
+ * In that case only a directory of the persistent rooms is loaded when the service starts up.
+ * Rooms are loaded from the database when first used and are removed from memory again, while
+ * staying in the directory, once they have been without occupants for a few minutes.</p>
  *
  * @author Gaston Dombiak
  */
@@ -226,6 +232,30 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
      * The time to elapse between each rooms cleanup. Default frequency is 60 minutes.
      */
     private static final long CLEANUP_FREQUENCY = 60 * 60 * 1000;
+    /**
+     * Flag that indicates if persistent rooms are loaded into memory when they are first used
+     * instead of when the service starts up.
+     */
+    private boolean lazyLoading = false;
+    /**
+     * Number of minutes that a persistent room may be empty before the service removes the
+     * room from memory when rooms are loaded lazily. Default time limit is: 30 minutes.
+     */
+    private int idleLimit = 30;
+    /**
+     * Persistent rooms that are not loaded into memory when rooms are loaded lazily.
+     */
+    private final MUCRoomDirectory roomDirectory = new MUCRoomDirectory();
+    /**
+     * Number of rooms loaded from the database since the last reset. The counter is reset
+     * each time the Statistic makes a sampling.
+     */
+    private AtomicLong roomLoads = new AtomicLong(0);
+    /**
+     * Milliseconds spent loading rooms from the database since the last reset. The counter
+     * is reset each time the Statistic makes a sampling.
+     */
+    private AtomicLong roomLoadTime = new AtomicLong(0);
 
     /**
      * Total number of received messages in all rooms since the last reset. The counter
@@ -628,6 +658,53 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
                 removeChatRoom(room.getName());
             }
         }
+        roomDirectory.removeEmptySince(getCleanupDate());
+        if (lazyLoading) {
+            unloadIdleRooms();
+        }
+    }
+
+    /**
+     * Removes from memory the persistent rooms that have been without occupants for longer than
+     * the idle limit. The rooms are kept in the room directory and will be loaded again from the
+     * database when they are used.
+     */
+    private void unloadIdleRooms() {
+        Date idleDate = new Date(System.currentTimeMillis() - idleLimit * 60000L);
+        boolean logSaved = false;
+        for (LocalMUCRoom room : rooms.values()) {
+            if (!room.wasSavedToDB() || room.getOccupantsCount() > 0 || room.getEmptyDate() == null
+                    || !room.getEmptyDate().before(idleDate)) {
+                continue;
+            }
+            if (!logSaved) {
+                // Save the pending conversation log so that the history of the room is
+                // complete when the room is loaded again
+                logAllConversation();
+                logSaved = true;
+            }
+            synchronized (room.getName().intern()) {
+                if (rooms.get(room.getName()) == room && room.getOccupantsCount() == 0) {
+                    // Other cluster nodes keep their copy of the room
+                    removeChatRoom(room.getName(), false);
+                    roomDirectory.add(new MUCRoomDirectory.Entry(room));
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the configuration, history and affiliations of a persistent room from the database.
+     *
+     * @param room the room to load from the database.
+     * @throws IllegalArgumentException if the room does not exist in the database.
+     */
+    private void loadFromDB(LocalMUCRoom room) {
+        long start = System.currentTimeMillis();
+        MUCPersistenceManager.loadFromDB(room);
+        roomDirectory.remove(room.getName());
+        roomLoads.incrementAndGet();
+        roomLoadTime.addAndGet(System.currentTimeMillis() - start);
     }
 
     @Override
@@ -644,7 +721,7 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
                     // Try to load the room's configuration from the database (if the room is
                     // persistent but was added to the DB after the server was started up or the
                     // room may be an old room that was not present in memory)
-                    MUCPersistenceManager.loadFromDB(room);
+                    loadFromDB(room);
                     loaded = true;
                 }
                 catch (IllegalArgumentException e) {
@@ -714,7 +791,7 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
                         // Try to load the room's configuration from the database (if the room is
                         // persistent but was added to the DB after the server was started up or the
                         // room may be an old room that was not present in memory)
-                        MUCPersistenceManager.loadFromDB(room);
+                        loadFromDB(room);
                         loaded = true;
                         rooms.put(roomName, room);
                     }
@@ -744,9 +821,31 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
 
     @Override
     public List<MUCRoom> getChatRooms() {
+        // Load the persistent rooms that were not used lately
+        for (MUCRoomDirectory.Entry entry : roomDirectory.getEntries()) {
+            getChatRoom(entry.getName());
+        }
         return new ArrayList<MUCRoom>(rooms.values());
     }
 
+    @Override
+    public List<MUCRoom> getLoadedChatRooms() {
+        return new ArrayList<MUCRoom>(rooms.values());
+    }
+
+    @Override
+    public List<MUCRoomDirectory.Entry> getChatRoomEntries() {
+        final Map<String, MUCRoomDirectory.Entry> entries = new TreeMap<>();
+        for (MUCRoomDirectory.Entry entry : roomDirectory.getEntries()) {
+            entries.put(entry.getName(), entry);
+        }
+        // A room that was loaded meanwhile replaces its directory entry
+        for (LocalMUCRoom room : rooms.values()) {
+            entries.put(room.getName(), new MUCRoomDirectory.Entry(room));
+        }
+        return new ArrayList<>(entries.values());
+    }
+
     @Override
     public boolean hasChatRoom(String roomName) {
         return getChatRoom(roomName) != null;
@@ -781,7 +880,7 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
 
     private void removeChatRoom(String roomName, boolean notify) {
         MUCRoom room = rooms.remove(roomName);
-		Log.info("removing chat room:" + roomName + "|" + room.getClass().getName());
+		Log.debug("removing chat room:" + roomName);
 		if (room instanceof LocalMUCRoom)
 			GroupEventDispatcher.removeListener((LocalMUCRoom) room);
         if (room != null) {
@@ -1230,6 +1329,8 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
                 Log.error("Wrong number format of property unload.empty_days for service "+chatServiceName, e);
             }
         }
+        lazyLoading = MUCPersistenceManager.getBooleanProperty(chatServiceName, "unload.lazy", false);
+        idleLimit = MUCPersistenceManager.getIntProperty(chatServiceName, "unload.idle_minutes", 30);
     }
 
     @Override
@@ -1246,7 +1347,12 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
         TaskEngine.getInstance().schedule(logConversationTask, log_timeout, log_timeout);
         // Remove unused rooms from memory
         cleanupTask = new CleanupTask();
-        TaskEngine.getInstance().schedule(cleanupTask, CLEANUP_FREQUENCY, CLEANUP_FREQUENCY);
+        long cleanupFrequency = CLEANUP_FREQUENCY;
+        if (lazyLoading) {
+            // Check for idle rooms often enough to honor the idle limit
+            cleanupFrequency = Math.max(60000, Math.min(CLEANUP_FREQUENCY, idleLimit * 60000L / 2));
+        }
+        TaskEngine.getInstance().schedule(cleanupTask, cleanupFrequency, cleanupFrequency);
 
         // Set us up to answer disco item requests
         XMPPServer.getInstance().getIQDiscoItemsHandler().addServerItemsProvider(this);
@@ -1257,9 +1363,16 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
         params.clear();
         params.add(getServiceDomain());
         Log.info(LocaleUtils.getLocalizedString("startup.starting.muc", params));
-        // Load all the persistent rooms to memory
-        for (LocalMUCRoom room : MUCPersistenceManager.loadRoomsFromDB(this, this.getCleanupDate(), router)) {
-            rooms.put(room.getName().toLowerCase(), room);
+        if (lazyLoading) {
+            // Load the directory of persistent rooms. Rooms are loaded when first used
+            roomDirectory.clear();
+            roomDirectory.addAll(MUCPersistenceManager.loadRoomDirectoryFromDB(this, this.getCleanupDate()));
+        }
+        else {
+            // Load all the persistent rooms to memory
+            for (LocalMUCRoom room : MUCPersistenceManager.loadRoomsFromDB(this, this.getCleanupDate(), router)) {
+                rooms.put(room.getName().toLowerCase(), room);
+            }
         }
     }
 
@@ -1315,6 +1428,31 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
         return rooms.size();
     }
 
+    @Override
+    public int getNumberKnownChatRooms() {
+        return rooms.size() + roomDirectory.size();
+    }
+
+    @Override
+    public long getRoomLoadCount(boolean resetAfter) {
+        if (resetAfter) {
+            return roomLoads.getAndSet(0);
+        }
+        else {
+            return roomLoads.get();
+        }
+    }
+
+    @Override
+    public long getRoomLoadTime(boolean resetAfter) {
+        if (resetAfter) {
+            return roomLoadTime.getAndSet(0);
+        }
+        else {
+            return roomLoadTime.get();
+        }
+    }
+
     /**
      * Retuns the total number of occupants in all rooms in the server.
      *
@@ -1668,14 +1806,34 @@ public class MultiUserChatServiceImpl implements Component, MultiUserChatService
         Set<DiscoItem> answer = new HashSet<>();
 		if (name == null && node == null)
 		{
-			// Answer all the public rooms as items
-			for (MUCRoom room : rooms.values())
+			// Answer all the public rooms as items, without loading the rooms that are not in memory
+			Set<Long> affiliatedRooms = null;
+			for (MUCRoomDirectory.Entry entry : getChatRoomEntries())
 			{
-				if (canDiscoverRoom(room, senderJID))
-				{
-					answer.add(new DiscoItem(room.getRole().getRoleAddress(),
-						room.getNaturalLanguageName(), null, null));
+				if (!allowToDiscoverLockedRooms && entry.isLocked()) {
+					continue;
+				}
+				if (!entry.isPublicRoom()) {
+					if (!allowToDiscoverMembersOnlyRooms && entry.isMembersOnly()) {
+						continue;
+					}
+					final MUCRoom room = rooms.get(entry.getName());
+					if (room != null) {
+						if (!canDiscoverRoom(room, senderJID)) {
+							continue;
+						}
+					}
+					else {
+						if (affiliatedRooms == null) {
+							affiliatedRooms = MUCPersistenceManager.loadAffiliatedRoomIDs(this, senderJID.asBareJID());
+						}
+						if (!affiliatedRooms.contains(entry.getID())) {
+							continue;
+						}
+					}
 				}
+				answer.add(new DiscoItem(new JID(entry.getName(), getServiceDomain(), null, true),
+					entry.getNaturalLanguageName(), null, null));
 			}
 		}
         else if (name != null && node == null) {
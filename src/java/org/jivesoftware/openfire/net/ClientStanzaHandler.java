@@ -25,7 +25,7 @@ import org.jivesoftware.openfire.PacketRouter;
 import org.jivesoftware.openfire.auth.UnauthorizedException;
 import org.jivesoftware.openfire.session.ConnectionSettings;
 import org.jivesoftware.openfire.session.LocalClientSession;
-import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.SystemProperty;
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 import org.xmpp.packet.IQ;
@@ -45,6 +45,9 @@ import org.xmpp.packet.Presence;
  */
 public class ClientStanzaHandler extends StanzaHandler {
 
+    private static final SystemProperty<Boolean> VALIDATE_HOST =
+            SystemProperty.ofBoolean("xmpp.client.validate.host", false);
+
     public ClientStanzaHandler(PacketRouter router, Connection connection) {
         super(router, connection);
     }
@@ -73,7 +76,7 @@ public class ClientStanzaHandler extends StanzaHandler {
 
     @Override
 	boolean validateHost() {
-        return JiveGlobals.getBooleanProperty("xmpp.client.validate.host",false);
+        return VALIDATE_HOST.getValue();
     }
 
     @Override
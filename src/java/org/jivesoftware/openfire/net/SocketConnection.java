@@ -646,6 +646,17 @@ public class SocketConnection implements Connection {
         }
     }
 
+    @Override
+    public void deliver(Packet packet, Runnable written) throws UnauthorizedException, PacketException {
+        // The callback may write to the connection as well, so it is invoked once writing was released
+        synchronized (this) {
+            deliver(packet);
+            if (!isClosed()) {
+                written.run();
+            }
+        }
+    }
+
     @Override
     public void deliverRawText(String text) {
         if (!isClosed()) {
@@ -23,17 +23,19 @@ import org.dom4j.Element;
 import org.dom4j.io.XMPPPacketReader;
 import org.jivesoftware.openfire.Connection;
 import org.jivesoftware.openfire.PacketRouter;
+import org.jivesoftware.openfire.SessionManager;
 import org.jivesoftware.openfire.StreamIDFactory;
 import org.jivesoftware.openfire.XMPPServer;
 import org.jivesoftware.openfire.auth.UnauthorizedException;
 import org.jivesoftware.openfire.http.FlashCrossDomainServlet;
+import org.jivesoftware.openfire.session.LocalClientSession;
 import org.jivesoftware.openfire.session.LocalSession;
 import org.jivesoftware.openfire.session.Session;
 import org.jivesoftware.openfire.spi.BasicStreamIDFactory;
 import org.jivesoftware.openfire.streammanagement.StreamManager;
-import org.jivesoftware.util.JiveGlobals;
 import org.jivesoftware.util.LocaleUtils;
 import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.util.SystemProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xmlpull.v1.XmlPullParser;
@@ -53,6 +55,12 @@ public abstract class StanzaHandler {
 
 	private static final Logger Log = LoggerFactory.getLogger(StanzaHandler.class);
 
+    /**
+     * Close the connection of clients that send IQs without ID.
+     */
+    private static final SystemProperty<Boolean> VALIDATION_ENABLED =
+            SystemProperty.ofBoolean("xmpp.server.validation.enabled", false);
+
     /**
      * A factory that generates random stream IDs
      */
@@ -109,6 +117,18 @@ public abstract class StanzaHandler {
     }
 
     public void process(String stanza, XMPPPacketReader reader) throws Exception {
+        process(stanza, null, reader);
+    }
+
+    /**
+     * Processes a stanza that may have been parsed already by the caller.
+     *
+     * @param stanza the received stanza.
+     * @param parsed the DOM of the stanza or null if the stanza has not been parsed yet.
+     * @param reader the reader to use to parse the stanza, if needed.
+     * @throws Exception if an error occurs while processing the stanza.
+     */
+    public void process(String stanza, Element parsed, XMPPPacketReader reader) throws Exception {
 
         boolean initialStream = stanza.startsWith("<stream:stream") || stanza.startsWith("<flash:stream");
         if (!sessionCreated || initialStream) {
@@ -160,7 +180,7 @@ public abstract class StanzaHandler {
             return;
         }
         // Create DOM object from received stanza
-        Element doc = reader.read(new StringReader(stanza)).getRootElement();
+        Element doc = parsed != null ? parsed : reader.read(new StringReader(stanza)).getRootElement();
         if (doc == null) {
             // No document found.
             return;
@@ -193,7 +213,12 @@ public abstract class StanzaHandler {
                 waitingCompressionACK = true;
             }
         } else if (isStreamManagementStanza(doc)) {
-            session.getStreamManager().process( doc, session.getAddress() );
+            if ("resume".equals(tag)) {
+                resumeSession(doc);
+            }
+            else {
+                session.getStreamManager().process( doc, session.getAddress() );
+            }
         }
         else {
             process(doc);
@@ -297,7 +322,7 @@ public abstract class StanzaHandler {
                 session.process(reply);
                 return;
             }
-            if (packet.getID() == null && JiveGlobals.getBooleanProperty("xmpp.server.validation.enabled", false)) {
+            if (packet.getID() == null && VALIDATION_ENABLED.getValue()) {
                 // IQ packets MUST have an 'id' attribute so close the connection
                 StreamError error = new StreamError(StreamError.Condition.invalid_xml);
                 session.deliverRawText(error.toXML());
@@ -548,6 +573,23 @@ public abstract class StanzaHandler {
         connection.deliverRawText(sb.toString());
     }
 
+	/**
+	 * Attempts to resume a previous client session (XEP-0198) over this connection. When the session
+	 * is resumed, this handler processes the stanzas of the connection on behalf of that session.
+	 *
+	 * @param resume the resume element sent by the client.
+	 */
+	private void resumeSession(Element resume) {
+		if (!(session instanceof LocalClientSession)) {
+			connection.deliverRawText(StreamManager.getFailedElement(resume.getNamespaceURI(), PacketError.Condition.unexpected_request));
+			return;
+		}
+		final LocalClientSession resumed = SessionManager.getInstance().resumeClientSession((LocalClientSession) session, resume);
+		if (resumed != null) {
+			session = resumed;
+		}
+	}
+
 	/**
 	 * Determines whether stanza's namespace matches XEP-0198 namespace
 	 * @param stanza Stanza to be checked
@@ -23,6 +23,8 @@ package org.jivesoftware.openfire.net;
 import org.jivesoftware.openfire.Connection;
 import org.jivesoftware.openfire.session.ConnectionSettings;
 import org.jivesoftware.openfire.spi.ConnectionConfiguration;
+import org.jivesoftware.openfire.spi.ConnectionType;
+import org.jivesoftware.openfire.spi.TLSHandshakeStatistics;
 import org.jivesoftware.util.JiveGlobals;
 
 import javax.net.ssl.SSLEngine;
@@ -59,6 +61,8 @@ public class TLSStreamHandler {
 
     private SSLEngine tlsEngine;
 
+    private ConnectionType connectionType;
+
     /*
       * During the initial handshake, keep track of the next SSLEngine operation that needs to occur:
       *
@@ -114,7 +118,14 @@ public class TLSStreamHandler {
      * @throws java.io.IOException
      */
     public TLSStreamHandler(Socket socket, ConnectionConfiguration configuration, boolean clientMode) throws IOException {
-        wrapper = new TLSWrapper(configuration, clientMode);
+        connectionType = configuration.getType();
+        if (clientMode) {
+            // Identify the peer, so that the TLS session can be resumed on the next connection
+            wrapper = new TLSWrapper(configuration, true, socket.getInetAddress().getHostAddress(), socket.getPort());
+        }
+        else {
+            wrapper = new TLSWrapper(configuration, false);
+        }
         tlsEngine = wrapper.getTlsEngine();
         reader = new TLSStreamReader(wrapper, socket);
         writer = new TLSStreamWriter(wrapper, socket);
@@ -174,9 +185,13 @@ public class TLSStreamHandler {
     }
 
     public void start() throws IOException {
+        final long started = System.currentTimeMillis();
+        final long cpuTime = TLSHandshakeStatistics.getCpuTime();
         while (!initialHSComplete) {
             initialHSComplete = doHandshake(null);
         }
+        TLSHandshakeStatistics.record(connectionType, tlsEngine.getSession().getCreationTime() < started,
+                TLSHandshakeStatistics.getCpuTime() - cpuTime);
     }
 
     private boolean doHandshake(SelectionKey sk) throws IOException {
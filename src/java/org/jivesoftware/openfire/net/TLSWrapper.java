@@ -72,13 +72,26 @@ public class TLSWrapper {
     }
 
     public TLSWrapper(ConnectionConfiguration configuration, boolean clientMode ) {
+        this( configuration, clientMode, null, -1 );
+    }
+
+    /**
+     * Creates a wrapper for a connection with a particular peer. In client mode, the TLS session that was established
+     * with the same peer before is resumed, if possible.
+     *
+     * @param configuration the configuration of the connection.
+     * @param clientMode true if this entity is the client of the TLS handshake.
+     * @param peerHost the address of the peer (can be null).
+     * @param peerPort the port of the peer (or -1 if unknown).
+     */
+    public TLSWrapper(ConnectionConfiguration configuration, boolean clientMode, String peerHost, int peerPort ) {
 
         try
         {
             final EncryptionArtifactFactory factory = new EncryptionArtifactFactory( configuration );
             if ( clientMode )
             {
-                tlsEngine = factory.createClientModeSSLEngine();
+                tlsEngine = factory.createClientModeSSLEngine( peerHost, peerPort );
             }
             else
             {
@@ -28,12 +28,14 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.jivesoftware.openfire.Connection;
 import org.jivesoftware.openfire.ConnectionCloseListener;
 import org.jivesoftware.openfire.PacketDeliverer;
+import org.jivesoftware.openfire.auth.UnauthorizedException;
 import org.jivesoftware.openfire.session.LocalSession;
 import org.jivesoftware.openfire.session.Session;
 import org.jivesoftware.openfire.spi.ConnectionConfiguration;
 import org.jivesoftware.util.LocaleUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xmpp.packet.Packet;
 
 /**
  * Abstract implementation of the Connection interface that models abstract connections. Abstract
@@ -94,6 +96,17 @@ public abstract class VirtualConnection implements Connection {
     	return state.get() == State.CLOSED;
     }
 
+    @Override
+    public void deliver(Packet packet, Runnable written) throws UnauthorizedException {
+        // Virtual connections have no write lock, so the deliveries are ordered by the connection
+        synchronized (this) {
+            deliver(packet);
+            if (!isClosed()) {
+                written.run();
+            }
+        }
+    }
+
     @Override
     public Connection.CompressionPolicy getCompressionPolicy() {
         // Return null since compression is not used for virtual connections
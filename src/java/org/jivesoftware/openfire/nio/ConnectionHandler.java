@@ -22,6 +22,7 @@ package org.jivesoftware.openfire.nio;
 import org.apache.mina.core.service.IoHandlerAdapter;
 import org.apache.mina.core.session.IdleStatus;
 import org.apache.mina.core.session.IoSession;
+import org.dom4j.Element;
 import org.dom4j.io.XMPPPacketReader;
 import org.jivesoftware.openfire.Connection;
 import org.jivesoftware.openfire.XMPPServer;
@@ -35,6 +36,7 @@ import org.xmlpull.v1.XmlPullParserException;
 import org.xmlpull.v1.XmlPullParserFactory;
 import org.xmpp.packet.StreamError;
 
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -50,6 +52,7 @@ public abstract class ConnectionHandler extends IoHandlerAdapter {
     static final String XML_PARSER = "XML-PARSER";
     protected static final String HANDLER = "HANDLER";
     protected static final String CONNECTION = "CONNECTION";
+    static final String STANZA_QUEUE = "STANZA-QUEUE";
 
     private static final ThreadLocal<XMPPPacketReader> PARSER_CACHE = new ThreadLocal<XMPPPacketReader>()
             {
@@ -94,6 +97,11 @@ public abstract class ConnectionHandler extends IoHandlerAdapter {
         final NIOConnection connection = createNIOConnection(session);
         session.setAttribute(CONNECTION, connection);
         session.setAttribute(HANDLER, createStanzaHandler(connection));
+        // Received stanzas are processed in the lanes of the pipeline, when it's running
+        final StanzaPipeline pipeline = StanzaPipeline.getInstance();
+        if (pipeline.isRunning()) {
+            session.setAttribute(STANZA_QUEUE, pipeline.createSessionQueue());
+        }
         // Set the max time a connection can be idle before closing it. This amount of seconds
         // is divided in two, as Openfire will ping idle clients first (at 50% of the max idle time)
         // before disconnecting them (at 100% of the max idle time). This prevents Openfire from
@@ -105,7 +113,22 @@ public abstract class ConnectionHandler extends IoHandlerAdapter {
     }
 
     @Override
-    public void sessionClosed(IoSession session) throws Exception {
+    public void sessionClosed(final IoSession session) throws Exception {
+        final StanzaPipeline.SessionQueue queue = (StanzaPipeline.SessionQueue) session.getAttribute(STANZA_QUEUE);
+        if (queue == null) {
+            closeConnection(session);
+            return;
+        }
+        // Close the connection after the stanzas that were received before
+        queue.add(StanzaPipeline.Lane.stream, new Runnable() {
+            @Override
+            public void run() {
+                closeConnection(session);
+            }
+        });
+    }
+
+    private static void closeConnection(IoSession session) {
         final Connection connection = (Connection) session.getAttribute(CONNECTION);
         if ( connection != null ) {
             connection.close();
@@ -142,9 +165,24 @@ public abstract class ConnectionHandler extends IoHandlerAdapter {
     }
 
     @Override
-    public void exceptionCaught(IoSession session, Throwable cause) throws Exception {
+    public void exceptionCaught(final IoSession session, final Throwable cause) throws Exception {
         Log.warn("Closing connection due to exception in session: " + session, cause);
 
+        final StanzaPipeline.SessionQueue queue = (StanzaPipeline.SessionQueue) session.getAttribute(STANZA_QUEUE);
+        if (queue == null) {
+            closeOnException(session, cause);
+            return;
+        }
+        // Send the stream error after the stanzas that were received before
+        queue.add(StanzaPipeline.Lane.stream, new Runnable() {
+            @Override
+            public void run() {
+                closeOnException(session, cause);
+            }
+        });
+    }
+
+    private static void closeOnException(IoSession session, Throwable cause) {
         try {
             // OF-524: Determine stream:error message.
             final StreamError error;
@@ -165,9 +203,9 @@ public abstract class ConnectionHandler extends IoHandlerAdapter {
     }
 
     @Override
-	public void messageReceived(IoSession session, Object message) throws Exception {
+	public void messageReceived(final IoSession session, Object message) throws Exception {
         // Get the stanza handler for this session
-        StanzaHandler handler = (StanzaHandler) session.getAttribute(HANDLER);
+        final StanzaHandler handler = (StanzaHandler) session.getAttribute(HANDLER);
         // Get the parser to use to process stanza. For optimization there is going
         // to be a parser for each running thread. Each Filter will be executed
         // by the Executor placed as the first Filter. So we can have a parser associated
@@ -176,9 +214,50 @@ public abstract class ConnectionHandler extends IoHandlerAdapter {
         // Update counter of read btyes
         updateReadBytesCounter(session);
         //System.out.println("RCVD: " + message);
-        // Let the stanza handler process the received stanza
+        final String stanza = (String) message;
+        final StanzaPipeline.SessionQueue queue = (StanzaPipeline.SessionQueue) session.getAttribute(STANZA_QUEUE);
+        if (queue == null) {
+            // Let the stanza handler process the received stanza
+            process(session, handler, stanza, null, parser);
+            return;
+        }
+        // Parse the stanza in this thread and let a thread of the stanza's lane process it
+        final Element doc = parse(stanza, parser);
+        queue.add(StanzaPipeline.getInstance().getLane(doc), new Runnable() {
+            @Override
+            public void run() {
+                process(session, handler, stanza, doc, PARSER_CACHE.get());
+            }
+        });
+    }
+
+    /**
+     * Parses a received stanza. Returns null for stream headers and other text that is not a
+     * stanza, and for stanzas that are not well-formed (the stanza handler will parse them
+     * again and report the error).
+     *
+     * @param stanza the received stanza.
+     * @param parser the parser to use.
+     * @return the DOM of the stanza or null.
+     */
+    private static Element parse(String stanza, XMPPPacketReader parser) {
+        if (stanza.startsWith("<stream:stream") || stanza.startsWith("<flash:stream")
+                || stanza.startsWith("</stream:stream") || stanza.startsWith("<?xml")
+                || stanza.startsWith("<policy-file-request")) {
+            return null;
+        }
+        try {
+            return parser.read(new StringReader(stanza)).getRootElement();
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void process(IoSession session, StanzaHandler handler, String message, Element doc,
+            XMPPPacketReader parser) {
         try {
-            handler.process((String) message, parser);
+            handler.process(message, doc, parser);
         } catch (Exception e) {
             Log.error("Closing connection due to error while processing message: " + message, e);
             final Connection connection = (Connection) session.getAttribute(CONNECTION);
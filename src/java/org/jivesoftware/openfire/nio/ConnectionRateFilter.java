@@ -0,0 +1,407 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.nio;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.mina.core.filterchain.IoFilterAdapter;
+import org.apache.mina.core.session.AttributeKey;
+import org.apache.mina.core.session.IdleStatus;
+import org.apache.mina.core.session.IoSession;
+import org.apache.mina.core.write.WriteRequest;
+import org.jivesoftware.openfire.spi.ConnectionType;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.LocaleUtils;
+import org.jivesoftware.util.TaskEngine;
+import org.jivesoftware.util.TokenBucket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MINA filter that limits the rate at which new connections are accepted by a listener. A
+ * reconnect storm (after a network outage, for instance) would otherwise make all clients
+ * negotiate TLS and authenticate at the same time, starving the sessions that are already
+ * established.<p>
+ *
+ * Every new connection takes a token from a bucket that is shared by all connections of the
+ * listener and, optionally, from a bucket of the IP address of the peer. When a bucket is empty
+ * the connection is deferred: it is accepted, but its data is not read (and its TLS handshake
+ * does not start) until a token is available. Connections that would have to wait longer than
+ * a maximum delay are closed right away.<p>
+ *
+ * The rates are reduced while the queue of the executor of the listener is longer than a
+ * threshold, so that less connections are admitted while the server is busy processing the
+ * traffic of existing ones.<p>
+ *
+ * The filter is configured using the following properties, where <tt>name</tt> is the name of
+ * the listener (eg: <tt>socket_c2s</tt> or <tt>socket_c2s_ssl</tt>):
+ * <ul>
+ *     <li><tt>xmpp.socket.ratelimit.[name].rate</tt> - new connections per second (0 to disable).</li>
+ *     <li><tt>xmpp.socket.ratelimit.[name].burst</tt> - new connections accepted at once.</li>
+ *     <li><tt>xmpp.socket.ratelimit.[name].ip.rate</tt> - new connections per second and IP address (0 to disable).</li>
+ *     <li><tt>xmpp.socket.ratelimit.[name].ip.burst</tt> - new connections accepted at once from an IP address.</li>
+ *     <li><tt>xmpp.socket.ratelimit.[name].delay.max</tt> - the longest that a connection is deferred, in milliseconds.</li>
+ *     <li><tt>xmpp.socket.ratelimit.[name].queue.threshold</tt> - the executor queue length above which the rates are reduced (0 to disable).</li>
+ * </ul>
+ * This filter must precede the executor filter, so that it processes new connections in the I/O
+ * thread before any other filter sees them.
+ */
+public class ConnectionRateFilter extends IoFilterAdapter {
+
+    private static final Logger Log = LoggerFactory.getLogger(ConnectionRateFilter.class);
+
+    private static final AttributeKey REJECTED = new AttributeKey(ConnectionRateFilter.class, "rejected");
+
+    /**
+     * The rates are never reduced below this fraction of the configured rates.
+     */
+    private static final double MIN_SCALE = 0.1;
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    private final TokenBucket bucket;
+    private final double ipRate;
+    private final int ipBurst;
+    private final long maxDelay;
+    private final int queueThreshold;
+
+    private final ConcurrentMap<InetAddress, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final TimerTask cleanupTask;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Creates a filter for a listener. Unless the rates are disabled, {@link #dispose()} must be
+     * invoked when the listener is stopped.
+     *
+     * @param name the name of the listener, used in property and statistic names.
+     * @param type the type of the connections of the listener.
+     * @param executor the executor that processes the events of the listener.
+     */
+    public ConnectionRateFilter(String name, ConnectionType type, ThreadPoolExecutor executor) {
+        this.name = name;
+        this.executor = executor;
+
+        // Only clients are expected to connect in large numbers. Servers and connection managers
+        // may legitimately open many connections from a single address.
+        final boolean client = type == ConnectionType.SOCKET_C2S;
+        final String prefix = "xmpp.socket.ratelimit." + name + ".";
+        final int rate = JiveGlobals.getIntProperty(prefix + "rate", client ? 200 : 50);
+        bucket = rate > 0 ? new TokenBucket(rate, JiveGlobals.getIntProperty(prefix + "burst", rate * 5)) : null;
+        ipRate = JiveGlobals.getIntProperty(prefix + "ip.rate", client ? 5 : 0);
+        ipBurst = JiveGlobals.getIntProperty(prefix + "ip.burst", client ? 20 : 1);
+        maxDelay = TimeUnit.MILLISECONDS.toNanos(JiveGlobals.getIntProperty(prefix + "delay.max", 10000));
+        queueThreshold = JiveGlobals.getIntProperty(prefix + "queue.threshold", 1000);
+
+        if (ipRate > 0) {
+            // Forget the buckets of addresses that stopped connecting
+            cleanupTask = new TimerTask() {
+                @Override
+                public void run() {
+                    final long now = System.nanoTime();
+                    final Iterator<Map.Entry<InetAddress, TokenBucket>> it = ipBuckets.entrySet().iterator();
+                    while (it.hasNext()) {
+                        if (it.next().getValue().isFull(now)) {
+                            it.remove();
+                        }
+                    }
+                }
+            };
+            TaskEngine.getInstance().schedule(cleanupTask, 60000, 60000);
+        }
+        else {
+            cleanupTask = null;
+        }
+    }
+
+    /**
+     * Releases the resources of the filter.
+     */
+    public void dispose() {
+        if (cleanupTask != null) {
+            TaskEngine.getInstance().cancelScheduledTask(cleanupTask);
+        }
+        ipBuckets.clear();
+    }
+
+    /**
+     * Registers the statistics of this filter.
+     */
+    public void addStatistics() {
+        final String group = "connection_rate_" + name;
+        for (Outcome outcome : Outcome.values()) {
+            StatisticsManager.getInstance().addMultiStatistic(getStatKey(outcome), group,
+                    new OutcomeStatistic(outcome));
+        }
+    }
+
+    /**
+     * Removes the statistics of this filter.
+     */
+    public void removeStatistics() {
+        for (Outcome outcome : Outcome.values()) {
+            StatisticsManager.getInstance().removeStatistic(getStatKey(outcome));
+        }
+    }
+
+    private String getStatKey(Outcome outcome) {
+        return "connection_rate_" + name + "_" + outcome;
+    }
+
+    /**
+     * Returns the number of connections that were accepted immediately.
+     *
+     * @return a number of connections.
+     */
+    public long getAdmitted() {
+        return admitted.get();
+    }
+
+    /**
+     * Returns the number of connections that were accepted after a delay.
+     *
+     * @return a number of connections.
+     */
+    public long getDeferred() {
+        return deferred.get();
+    }
+
+    /**
+     * Returns the number of connections that were closed because they would have been delayed
+     * for too long.
+     *
+     * @return a number of connections.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Returns the factor applied to the configured rates, which depends on the length of the
+     * queue of the executor.
+     *
+     * @return a number between {@link #MIN_SCALE} and 1.
+     */
+    double getScale() {
+        if (queueThreshold <= 0 || executor == null) {
+            return 1;
+        }
+        final int queued = executor.getQueue().size();
+        if (queued <= queueThreshold) {
+            return 1;
+        }
+        return Math.max(MIN_SCALE, (double) queueThreshold / queued);
+    }
+
+    /**
+     * Determines how long a new connection from an address has to wait before it is processed.
+     *
+     * @param address the address of the peer (can be null).
+     * @return the time to wait in nanoseconds, or -1 if the connection is to be rejected.
+     */
+    long admit(InetAddress address) {
+        final long now = System.nanoTime();
+        final double scale = getScale();
+        long wait = 0;
+        if (bucket != null) {
+            wait = bucket.reserve(scale, maxDelay, now);
+            if (wait < 0) {
+                return -1;
+            }
+        }
+        if (ipRate > 0 && address != null) {
+            TokenBucket ipBucket = ipBuckets.get(address);
+            if (ipBucket == null) {
+                final TokenBucket newBucket = new TokenBucket(ipRate, ipBurst);
+                ipBucket = ipBuckets.putIfAbsent(address, newBucket);
+                if (ipBucket == null) {
+                    ipBucket = newBucket;
+                }
+            }
+            final long ipWait = ipBucket.reserve(scale, maxDelay, now);
+            if (ipWait < 0) {
+                if (bucket != null) {
+                    bucket.refund();
+                }
+                return -1;
+            }
+            wait = Math.max(wait, ipWait);
+        }
+        return wait;
+    }
+
+    @Override
+    public void sessionCreated(NextFilter nextFilter, final IoSession session) throws Exception {
+        final SocketAddress remote = session.getRemoteAddress();
+        final long wait = admit(remote instanceof InetSocketAddress ? ((InetSocketAddress) remote).getAddress() : null);
+        if (wait < 0) {
+            rejected.incrementAndGet();
+            Log.debug("Rejecting connection from {} on listener {}", remote, name);
+            session.setAttribute(REJECTED, Boolean.TRUE);
+            session.close(true);
+            return;
+        }
+        if (wait > 0) {
+            deferred.incrementAndGet();
+            // Do not read anything (including a TLS handshake) until the connection is admitted
+            session.suspendRead();
+            TaskEngine.getInstance().schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    if (!session.isClosing()) {
+                        session.resumeRead();
+                    }
+                }
+            }, TimeUnit.NANOSECONDS.toMillis(wait) + 1);
+        }
+        else {
+            admitted.incrementAndGet();
+        }
+        nextFilter.sessionCreated(session);
+    }
+
+    // Rejected sessions are closed before the other filters learn about them, so their other
+    // events are not propagated either.
+
+    @Override
+    public void sessionOpened(NextFilter nextFilter, IoSession session) throws Exception {
+        if (!isRejected(session)) {
+            nextFilter.sessionOpened(session);
+        }
+    }
+
+    @Override
+    public void sessionClosed(NextFilter nextFilter, IoSession session) throws Exception {
+        if (!isRejected(session)) {
+            nextFilter.sessionClosed(session);
+        }
+    }
+
+    @Override
+    public void sessionIdle(NextFilter nextFilter, IoSession session, IdleStatus status) throws Exception {
+        if (!isRejected(session)) {
+            nextFilter.sessionIdle(session, status);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(NextFilter nextFilter, IoSession session, Throwable cause) throws Exception {
+        if (!isRejected(session)) {
+            nextFilter.exceptionCaught(session, cause);
+        }
+    }
+
+    @Override
+    public void messageReceived(NextFilter nextFilter, IoSession session, Object message) throws Exception {
+        if (!isRejected(session)) {
+            nextFilter.messageReceived(session, message);
+        }
+    }
+
+    @Override
+    public void messageSent(NextFilter nextFilter, IoSession session, WriteRequest writeRequest) throws Exception {
+        if (!isRejected(session)) {
+            nextFilter.messageSent(session, writeRequest);
+        }
+    }
+
+    private static boolean isRejected(IoSession session) {
+        return session.containsAttribute(REJECTED);
+    }
+
+    private enum Outcome {
+        admitted, deferred, rejected
+    }
+
+    /**
+     * Samples the number of connections with a particular outcome since the previous sample.
+     */
+    private class OutcomeStatistic implements Statistic {
+
+        private final Outcome outcome;
+        private long last;
+
+        OutcomeStatistic(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        private List<String> getArguments() {
+            return Arrays.asList(name);
+        }
+
+        @Override
+        public String getName() {
+            return LocaleUtils.getLocalizedString("stat.connection.rate." + outcome + ".name", getArguments());
+        }
+
+        @Override
+        public Type getStatType() {
+            return Type.rate;
+        }
+
+        @Override
+        public String getDescription() {
+            return LocaleUtils.getLocalizedString("stat.connection.rate." + outcome + ".desc", getArguments());
+        }
+
+        @Override
+        public String getUnits() {
+            return LocaleUtils.getLocalizedString("stat.connection.rate.units");
+        }
+
+        @Override
+        public synchronized double sample() {
+            final long current;
+            switch (outcome) {
+                case admitted:
+                    current = admitted.get();
+                    break;
+                case deferred:
+                    current = deferred.get();
+                    break;
+                default:
+                    current = rejected.get();
+                    break;
+            }
+            final long delta = current - last;
+            last = current;
+            return delta;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return true;
+        }
+    }
+}
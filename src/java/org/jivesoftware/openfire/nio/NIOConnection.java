@@ -28,6 +28,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CodingErrorAction;
@@ -41,7 +42,6 @@ import javax.net.ssl.*;
 import org.apache.mina.core.buffer.IoBuffer;
 import org.apache.mina.core.filterchain.IoFilterChain;
 import org.apache.mina.core.session.IoSession;
-import org.apache.mina.filter.compression.CompressionFilter;
 import org.apache.mina.filter.ssl.SslFilter;
 import org.dom4j.io.OutputFormat;
 import org.jivesoftware.openfire.Connection;
@@ -122,10 +122,22 @@ public class NIOConnection implements Connection {
      */
     private final ReentrantLock ioSessionLock = new ReentrantLock(true);
 
+    /**
+     * True if delivered stanzas are gathered and written in batches (see {@link OutboundCoalescing}).
+     */
+    private final boolean coalescing;
+
+    /**
+     * Stanzas that were delivered but not written yet, or null when there are none. Guarded by {@link #ioSessionLock}.
+     */
+    private IoBuffer pending;
+    private int pendingStanzas;
+
     public NIOConnection( IoSession session, PacketDeliverer packetDeliverer, ConnectionConfiguration configuration ) {
         this.ioSession = session;
         this.backupDeliverer = packetDeliverer;
         this.configuration = configuration;
+        this.coalescing = OutboundCoalescing.isEnabled( configuration );
     }
 
     @Override
@@ -234,6 +246,16 @@ public class NIOConnection implements Connection {
                 session.setStatus( Session.STATUS_CLOSED );
                 }
 
+            // Stanzas that were delivered before the connection was closed are written before the close tag
+            ioSessionLock.lock();
+            try {
+                flushPending();
+            } catch ( Exception e ) {
+                Log.error("Failed to deliver pending stanzas: " + e.getMessage());
+            } finally {
+                ioSessionLock.unlock();
+            }
+
             try {
                             deliverRawText( flashClient ? "</flash:stream>" : "</stream:stream>" );
             } catch ( Exception e ) {
@@ -287,9 +309,43 @@ public class NIOConnection implements Connection {
 
     @Override
     public void deliver(Packet packet) throws UnauthorizedException {
+        deliver(packet, null);
+    }
+
+    @Override
+    public void deliver(Packet packet, Runnable written) throws UnauthorizedException {
         if (isClosed()) {
         	backupDeliverer.deliver(packet);
         }
+        else if (coalescing) {
+            boolean errorDelivering = false;
+            try {
+                final String xml = packet.getElement().asXML();
+                ioSessionLock.lock();
+                try {
+                    coalesce(xml);
+                    if (written != null) {
+                        // Other deliveries wait for the lock, and are coalesced with this stanza
+                        written.run();
+                    }
+                } finally {
+                    ioSessionLock.unlock();
+                }
+            }
+            catch (Exception e) {
+                Log.debug("Error delivering packet:\n" + packet, e);
+                errorDelivering = true;
+            }
+            if (errorDelivering) {
+                close();
+                // Retry sending the packet again. Most probably if the packet is a
+                // Message it will be stored offline
+                backupDeliverer.deliver(packet);
+            }
+            else {
+                session.incrementServerPacketCount();
+            }
+        }
         else {
             boolean errorDelivering = false;
             IoBuffer buffer = IoBuffer.allocate(4096);
@@ -304,6 +360,9 @@ public class NIOConnection implements Connection {
                 ioSessionLock.lock();
                 try {
                     ioSession.write(buffer);
+                    if (written != null) {
+                        written.run();
+                    }
                 } finally {
                     ioSessionLock.unlock();
                 }
@@ -340,6 +399,8 @@ public class NIOConnection implements Connection {
                 buffer.flip();
                 ioSessionLock.lock();
                 try {
+                    // Stanzas that were delivered before this text are written first
+                    flushPending();
                     ioSession.write(buffer);
                 }
                 finally {
@@ -358,6 +419,57 @@ public class NIOConnection implements Connection {
         }
     }
 
+    /**
+     * Adds a stanza to the stanzas that are waiting to be written. The stanzas are written when they fill the buffer,
+     * or by the last thread of a burst of deliveries, that is when no other thread is waiting to deliver to this
+     * connection. Must be invoked while holding {@link #ioSessionLock}.
+     *
+     * @param xml the stanza.
+     */
+    private void coalesce(String xml) throws CharacterCodingException {
+        if (pending == null) {
+            pending = IoBuffer.allocate(Math.max(4096, xml.length() + 1));
+            pending.setAutoExpand(true);
+        }
+        final int mark = pending.position();
+        try {
+            pending.putString(xml, encoder.get());
+        }
+        catch (CharacterCodingException e) {
+            // Do not write a partially encoded stanza
+            pending.position(mark);
+            throw e;
+        }
+        if (flashClient) {
+            pending.put((byte) '\0');
+        }
+        pendingStanzas++;
+
+        // The lock is fair, so a waiting thread gets it next and will write the stanza along with its own
+        if (pending.position() >= OutboundCoalescing.getMaxBytes() || !ioSessionLock.hasQueuedThreads()) {
+            flushPending();
+        }
+    }
+
+    /**
+     * Writes the stanzas that are waiting to be written, as a single write request. Must be invoked while holding
+     * {@link #ioSessionLock}.
+     */
+    private void flushPending() {
+        if (pending == null) {
+            return;
+        }
+        final IoBuffer buffer = pending;
+        final int stanzas = pendingStanzas;
+        pending = null;
+        pendingStanzas = 0;
+        if (buffer.position() > 0) {
+            buffer.flip();
+            ioSession.write(buffer);
+            OutboundCoalescing.written(stanzas);
+        }
+    }
+
     @Deprecated
 	@Override
     public void startTLS(boolean clientMode, String remoteServer, ClientAuth authentication) throws Exception {
@@ -366,11 +478,24 @@ public class NIOConnection implements Connection {
 
     public void startTLS(boolean clientMode) throws Exception {
 
+        // Stanzas that were delivered before TLS was negotiated must not be encrypted
+        ioSessionLock.lock();
+        try {
+            flushPending();
+        } finally {
+            ioSessionLock.unlock();
+        }
+
         final EncryptionArtifactFactory factory = new EncryptionArtifactFactory( configuration );
         final SslFilter filter;
         if ( clientMode )
         {
             filter = factory.createClientModeSslFilter();
+
+            // Identify the peer, so that the TLS session can be resumed on the next connection. The address is kept
+            // unresolved to prevent a reverse DNS lookup.
+            final InetSocketAddress peer = (InetSocketAddress) ioSession.getRemoteAddress();
+            ioSession.setAttribute( SslFilter.PEER_ADDRESS, InetSocketAddress.createUnresolved( peer.getAddress().getHostAddress(), peer.getPort() ) );
         }
         else
         {
@@ -393,15 +518,26 @@ public class NIOConnection implements Connection {
         if (chain.contains(TLS_FILTER_NAME)) {
             baseFilter = TLS_FILTER_NAME;
         }
-        chain.addAfter(baseFilter, COMPRESSION_FILTER_NAME, new CompressionFilter(true, false, CompressionFilter.COMPRESSION_MAX));
+        chain.addAfter(baseFilter, COMPRESSION_FILTER_NAME, new XMPPCompressionFilter(configuration.getType()));
     }
 
     @Override
     public void startCompression() {
-        CompressionFilter ioFilter = (CompressionFilter) ioSession.getFilterChain().get(COMPRESSION_FILTER_NAME);
+        XMPPCompressionFilter ioFilter = (XMPPCompressionFilter) ioSession.getFilterChain().get(COMPRESSION_FILTER_NAME);
         ioFilter.setCompressOutbound(true);
     }
 
+    /**
+     * Returns the size of the compressed data sent over this connection relative to its
+     * uncompressed size.
+     *
+     * @return the compression ratio, or -1 if the connection is not compressed.
+     */
+    public double getCompressionRatio() {
+        final XMPPCompressionFilter ioFilter = (XMPPCompressionFilter) ioSession.getFilterChain().get(COMPRESSION_FILTER_NAME);
+        return ioFilter == null ? -1 : ioFilter.getCompressionRatio();
+    }
+
     @Override
     public ConnectionConfiguration getConfiguration()
     {
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.nio;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jivesoftware.openfire.Connection;
+import org.jivesoftware.openfire.spi.ConnectionConfiguration;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.openfire.stats.i18nStatistic;
+import org.jivesoftware.util.JiveGlobals;
+
+/**
+ * Settings and statistics of the coalescing of outgoing stanzas of NIO connections.<p>
+ *
+ * Stanzas that are delivered to a connection in a burst are gathered in one buffer and written
+ * as a single write request (and therefore a single TLS record, or a single compressed block).
+ * A thread that delivers a stanza while other threads are waiting to deliver to the same
+ * connection leaves the stanza in the buffer, and the last thread of the burst writes the
+ * buffer. The buffer is also written as soon as it holds <tt>xmpp.socket.coalesce.size</tt>
+ * bytes. The write, and so the encryption and compression of the stanzas, always happens in a
+ * delivering thread, so connections do not share any thread to flush their stanzas.<p>
+ *
+ * Coalescing can be disabled per listener with the
+ * <tt>xmpp.socket.coalesce.[listener].enabled</tt> property, where <tt>listener</tt> is the
+ * name of the listener (eg: <tt>socket_c2s</tt> or <tt>socket_c2s_ssl</tt>).
+ */
+public final class OutboundCoalescing {
+
+    /**
+     * Key of the statistic that tracks the average number of stanzas per write request.
+     */
+    public static final String STANZAS_PER_WRITE_STAT_KEY = "outbound_stanzas_per_write";
+
+    private static final AtomicLong writes = new AtomicLong();
+    private static final AtomicLong stanzas = new AtomicLong();
+
+    private static boolean started;
+    private static volatile int maxBytes = 16384;
+
+    private OutboundCoalescing() {
+    }
+
+    /**
+     * Loads the settings and registers the statistics.
+     */
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+        maxBytes = JiveGlobals.getIntProperty("xmpp.socket.coalesce.size", 16384);
+        StatisticsManager.getInstance().addStatistic(STANZAS_PER_WRITE_STAT_KEY, new StanzasPerWriteTracker());
+        started = true;
+    }
+
+    /**
+     * Removes the statistics.
+     */
+    public static synchronized void shutdown() {
+        if (!started) {
+            return;
+        }
+        StatisticsManager.getInstance().removeStatistic(STANZAS_PER_WRITE_STAT_KEY);
+        started = false;
+    }
+
+    /**
+     * Returns true if the outgoing stanzas of connections with the provided configuration are
+     * to be coalesced.
+     *
+     * @param configuration the configuration of the connection (can be null).
+     * @return true if coalescing is enabled.
+     */
+    public static boolean isEnabled(ConnectionConfiguration configuration) {
+        if (configuration == null) {
+            return false;
+        }
+        final String listener = configuration.getType().toString().toLowerCase()
+                + (configuration.getTlsPolicy() == Connection.TLSPolicy.legacyMode ? "_ssl" : "");
+        return JiveGlobals.getBooleanProperty("xmpp.socket.coalesce." + listener + ".enabled", true);
+    }
+
+    /**
+     * Returns the number of bytes above which coalesced stanzas are written immediately.
+     *
+     * @return a number of bytes.
+     */
+    public static int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Records the write of coalesced stanzas.
+     *
+     * @param count the number of stanzas that were written in one write request.
+     */
+    static void written(int count) {
+        writes.incrementAndGet();
+        stanzas.addAndGet(count);
+    }
+
+    /**
+     * Tracks the average number of stanzas that were written per write request.
+     */
+    private static class StanzasPerWriteTracker extends i18nStatistic {
+
+        private long lastWrites = 0;
+        private long lastStanzas = 0;
+
+        public StanzasPerWriteTracker() {
+            super("outbound.stanzas_per_write", Statistic.Type.count);
+        }
+
+        @Override
+        public synchronized double sample() {
+            final long currentWrites = writes.get();
+            final long currentStanzas = stanzas.get();
+            final long deltaWrites = currentWrites - lastWrites;
+            final long deltaStanzas = currentStanzas - lastStanzas;
+            lastWrites = currentWrites;
+            lastStanzas = currentStanzas;
+            return deltaWrites == 0 ? 0 : (double) deltaStanzas / deltaWrites;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.nio;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dom4j.Element;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.LatencyHistogram;
+import org.jivesoftware.util.LocaleUtils;
+import org.jivesoftware.util.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the stanzas received by the NIO connections in lanes. The threads of the MINA
+ * executor filter read and parse stanzas, and then hand them over to the lane that matches the
+ * kind of stanza: messages, presences, IQs, IQs whose handlers access the database (such as
+ * roster, vCard or private storage requests) and stream level elements (stream headers, TLS,
+ * SASL, ...). Each lane is a bounded thread pool, so slow requests only hold the threads of
+ * their own lane.<p>
+ *
+ * The stanzas of a session are processed one at a time and in the order they were received,
+ * even when they are processed in different lanes. When the queue of a lane is full the stanza
+ * is processed by the thread that read it, which slows down reading from that connection.<p>
+ *
+ * The size of the lanes is set with the <tt>xmpp.pipeline.[lane].threads</tt> and
+ * <tt>xmpp.pipeline.[lane].queue</tt> properties. The namespaces of the IQs that are processed
+ * in the storage lane are set with the <tt>xmpp.pipeline.storage.namespaces</tt> property. The
+ * pipeline can be disabled by setting <tt>xmpp.pipeline.enabled</tt> to false, in which case
+ * stanzas are processed by the threads of the MINA executor filter.<p>
+ *
+ * For each lane, the time stanzas wait in the queue and the time it takes to process them are
+ * available as statistics.
+ */
+public class StanzaPipeline {
+
+    private static final Logger Log = LoggerFactory.getLogger(StanzaPipeline.class);
+
+    /**
+     * The maximum number of stanzas of a session that a thread processes before giving other
+     * sessions a chance to be processed.
+     */
+    private static final int MAX_BATCH = 16;
+
+    private static final String DEFAULT_STORAGE_NAMESPACES = "jabber:iq:roster,jabber:iq:private,"
+            + "vcard-temp,jabber:iq:privacy,jabber:iq:register,jabber:iq:search,jabber:iq:last,"
+            + "http://jabber.org/protocol/pubsub,http://jabber.org/protocol/pubsub#owner";
+
+    private static final StanzaPipeline instance = new StanzaPipeline();
+
+    /**
+     * The lanes in which stanzas are processed.
+     */
+    public enum Lane {
+        stream(2), message(8), presence(4), iq(4), storage(8);
+
+        private final int defaultThreads;
+
+        Lane(int defaultThreads) {
+            this.defaultThreads = defaultThreads;
+        }
+    }
+
+    private final Map<Lane, LaneExecutor> lanes = new EnumMap<>(Lane.class);
+    private volatile boolean running = false;
+    private Set<String> storageNamespaces = Collections.emptySet();
+
+    /**
+     * Returns the unique instance of this class.
+     *
+     * @return the unique instance of this class.
+     */
+    public static StanzaPipeline getInstance() {
+        return instance;
+    }
+
+    StanzaPipeline() {
+    }
+
+    /**
+     * Starts the threads of the lanes and registers the statistics. Nothing happens if the
+     * pipeline is disabled.
+     */
+    public synchronized void start() {
+        if (running || !JiveGlobals.getBooleanProperty("xmpp.pipeline.enabled", true)) {
+            return;
+        }
+        final List<String> namespaces = Arrays.asList(JiveGlobals.getProperty(
+                "xmpp.pipeline.storage.namespaces", DEFAULT_STORAGE_NAMESPACES).split("\\s*,\\s*"));
+        storageNamespaces = new HashSet<>(namespaces);
+        for (Lane lane : Lane.values()) {
+            final int threads = JiveGlobals.getIntProperty("xmpp.pipeline." + lane + ".threads", lane.defaultThreads);
+            final int queue = JiveGlobals.getIntProperty("xmpp.pipeline." + lane + ".queue", 10000);
+            final LaneExecutor executor = new LaneExecutor(lane, Math.max(1, threads), Math.max(1, queue));
+            lanes.put(lane, executor);
+            addStatistics(executor);
+        }
+        running = true;
+    }
+
+    /**
+     * Stops the threads of the lanes. Stanzas that are processed after the pipeline was
+     * stopped are processed by the thread that read them.
+     */
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (LaneExecutor executor : lanes.values()) {
+            StatisticsManager.getInstance().removeStatistic(executor.queueStatKey);
+            StatisticsManager.getInstance().removeStatistic(executor.serviceStatKey);
+            executor.shutdown();
+        }
+        lanes.clear();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the lane where a received stanza is to be processed.
+     *
+     * @param doc the parsed stanza or null if the stanza is not a well-formed XML element
+     *            (for instance, a stream header).
+     * @return the lane where the stanza is to be processed.
+     */
+    Lane getLane(Element doc) {
+        if (doc == null) {
+            return Lane.stream;
+        }
+        final String tag = doc.getName();
+        if ("message".equals(tag)) {
+            return Lane.message;
+        }
+        if ("presence".equals(tag)) {
+            return Lane.presence;
+        }
+        if ("iq".equals(tag)) {
+            for (Object child : doc.elements()) {
+                if (storageNamespaces.contains(((Element) child).getNamespaceURI())) {
+                    return Lane.storage;
+                }
+            }
+            return Lane.iq;
+        }
+        return Lane.stream;
+    }
+
+    /**
+     * Creates the queue of the stanzas of a session.
+     *
+     * @return a new queue.
+     */
+    SessionQueue createSessionQueue() {
+        return new SessionQueue();
+    }
+
+    /**
+     * Hands a task over to the thread pool of a lane. Tasks that are not accepted (the pipeline
+     * is stopped or the queue of the lane is full) must be run by the caller, since a session
+     * stops processing stanzas if one of its tasks is discarded.
+     *
+     * @param lane the lane where the task is to be processed.
+     * @param task the task.
+     * @return false if the task was not accepted and must be run by the caller.
+     */
+    private boolean execute(Lane lane, Runnable task) {
+        final LaneExecutor executor = running ? lanes.get(lane) : null;
+        if (executor == null) {
+            return false;
+        }
+        try {
+            executor.execute(task);
+            return true;
+        }
+        catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void addStatistics(final LaneExecutor executor) {
+        final String group = "pipeline_" + executor.lane;
+        StatisticsManager.getInstance().addMultiStatistic(executor.queueStatKey, group,
+                new LaneStatistic(executor.lane, "queue", executor.queueTime));
+        StatisticsManager.getInstance().addMultiStatistic(executor.serviceStatKey, group,
+                new LaneStatistic(executor.lane, "service", executor.serviceTime));
+    }
+
+    /**
+     * The stanzas of a session that are waiting to be processed. At most one thread processes
+     * the stanzas of a session at any time. The thread processes the stanzas in the order they
+     * were received, for as long as they belong to the same lane. The next stanza of a
+     * different lane is handed over to that lane.
+     */
+    class SessionQueue {
+
+        private final ConcurrentLinkedQueue<Task> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * Adds a task to the queue of the session.
+         *
+         * @param lane the lane where the task is to be processed.
+         * @param task the task.
+         */
+        void add(Lane lane, Runnable task) {
+            final Task entry = new Task(lane, task);
+            tasks.add(entry);
+            if (pending.getAndIncrement() == 0 && !schedule(lane)) {
+                drain(lane);
+            }
+        }
+
+        private boolean schedule(final Lane lane) {
+            return execute(lane, new Runnable() {
+                @Override
+                public void run() {
+                    drain(lane);
+                }
+            });
+        }
+
+        private void drain(Lane lane) {
+            LaneExecutor executor = running ? lanes.get(lane) : null;
+            int processed = 0;
+            while (true) {
+                final Task task = tasks.poll();
+                final long start = System.nanoTime();
+                try {
+                    task.runnable.run();
+                }
+                catch (Throwable t) {
+                    Log.error("Error while processing stanza", t);
+                }
+                if (executor != null) {
+                    executor.queueTime.record(start - task.created);
+                    executor.serviceTime.record(System.nanoTime() - start);
+                }
+                if (pending.decrementAndGet() == 0) {
+                    return;
+                }
+                // There is at least one more task, as tasks are added before being counted
+                final Task next = tasks.peek();
+                if (next.lane != lane || ++processed >= MAX_BATCH) {
+                    if (schedule(next.lane)) {
+                        return;
+                    }
+                    // Keep processing in this thread rather than recursing into a new drain
+                    lane = next.lane;
+                    executor = running ? lanes.get(lane) : null;
+                    processed = 0;
+                }
+            }
+        }
+    }
+
+    private static class Task {
+        private final Lane lane;
+        private final Runnable runnable;
+        private final long created = System.nanoTime();
+
+        Task(Lane lane, Runnable runnable) {
+            this.lane = lane;
+            this.runnable = runnable;
+        }
+    }
+
+    /**
+     * The thread pool of a lane and the histograms of its queue and service times.
+     */
+    private static class LaneExecutor extends ThreadPoolExecutor {
+
+        private final Lane lane;
+        private final String queueStatKey;
+        private final String serviceStatKey;
+        private final LatencyHistogram queueTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+        LaneExecutor(Lane lane, int threads, int queueSize) {
+            super(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize),
+                    new NamedThreadFactory("pipeline-" + lane + "-", null, true, null));
+            this.lane = lane;
+            this.queueStatKey = "pipeline_" + lane + "_queue";
+            this.serviceStatKey = "pipeline_" + lane + "_service";
+        }
+    }
+
+    /**
+     * Samples the 99th percentile of the queue or service time of a lane.
+     */
+    private static class LaneStatistic implements Statistic {
+
+        private final Lane lane;
+        private final String kind;
+        private final LatencyHistogram histogram;
+
+        LaneStatistic(Lane lane, String kind, LatencyHistogram histogram) {
+            this.lane = lane;
+            this.kind = kind;
+            this.histogram = histogram;
+        }
+
+        @Override
+        public String getName() {
+            return LocaleUtils.getLocalizedString("stat.pipeline." + kind + ".name",
+                    Collections.singletonList(lane.toString()));
+        }
+
+        @Override
+        public Type getStatType() {
+            return Type.count;
+        }
+
+        @Override
+        public String getDescription() {
+            return LocaleUtils.getLocalizedString("stat.pipeline." + kind + ".desc",
+                    Collections.singletonList(lane.toString()));
+        }
+
+        @Override
+        public String getUnits() {
+            return LocaleUtils.getLocalizedString("stat.pipeline." + kind + ".units");
+        }
+
+        @Override
+        public double sample() {
+            final double value = histogram.getPercentile(99);
+            histogram.reset();
+            return value;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.nio;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jivesoftware.openfire.spi.ConnectionType;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.openfire.stats.i18nStatistic;
+import org.jivesoftware.util.JiveGlobals;
+
+/**
+ * Settings and statistics of the stream compression (XEP-0138) of the NIO connections.<p>
+ *
+ * The compression level and the size of the compression window depend on the type of the
+ * connection (<tt>xmpp.[client|server|component|multiplex].compression.level</tt> and
+ * <tt>...windowBits</tt> properties). Client connections use a smaller window by default, which
+ * roughly halves the memory used by each compressed connection at the cost of a slightly lower
+ * compression ratio. The level is lowered while the CPU usage of the process is above the
+ * <tt>xmpp.compression.cpu.medium</tt> and <tt>xmpp.compression.cpu.high</tt> thresholds (in
+ * percent), and compressed connections pick up the new level on their next write.
+ */
+public final class StreamCompression {
+
+    /**
+     * Key of the statistic that tracks the memory used by the compression state of connections.
+     */
+    public static final String MEMORY_STAT_KEY = "stream_compression_memory";
+
+    /**
+     * Key of the statistic that tracks the ratio of compressed to uncompressed outgoing data.
+     */
+    public static final String RATIO_STAT_KEY = "stream_compression_ratio";
+
+    private static final long CPU_SAMPLE_INTERVAL = 5000;
+
+    private static final AtomicLong memory = new AtomicLong();
+    private static final AtomicLong uncompressedBytes = new AtomicLong();
+    private static final AtomicLong compressedBytes = new AtomicLong();
+
+    private static volatile double cpuLoad = 0;
+    private static volatile long cpuSampled = 0;
+    private static volatile int[] levels = new int[ConnectionType.values().length];
+
+    private StreamCompression() {
+    }
+
+    /**
+     * Registers the compression statistics.
+     */
+    public static void addStatistics() {
+        StatisticsManager.getInstance().addStatistic(MEMORY_STAT_KEY, new MemoryTracker());
+        StatisticsManager.getInstance().addStatistic(RATIO_STAT_KEY, new RatioTracker());
+    }
+
+    /**
+     * Removes the compression statistics.
+     */
+    public static void removeStatistics() {
+        StatisticsManager.getInstance().removeStatistic(MEMORY_STAT_KEY);
+        StatisticsManager.getInstance().removeStatistic(RATIO_STAT_KEY);
+    }
+
+    /**
+     * Returns the compression level to use for connections of a type, given the current CPU
+     * usage of the process.
+     *
+     * @param type the type of the connection.
+     * @return a compression level between 1 (fastest) and 9 (best compression).
+     */
+    static int getLevel(ConnectionType type) {
+        final long now = System.currentTimeMillis();
+        if (now - cpuSampled > CPU_SAMPLE_INTERVAL) {
+            cpuSampled = now;
+            cpuLoad = sampleCpuLoad();
+            final int[] updated = new int[ConnectionType.values().length];
+            for (ConnectionType connectionType : ConnectionType.values()) {
+                updated[connectionType.ordinal()] = computeLevel(connectionType, cpuLoad);
+            }
+            levels = updated;
+        }
+        return levels[type.ordinal()];
+    }
+
+    /**
+     * Returns the base two logarithm of the size of the compression window to use for
+     * connections of a type.
+     *
+     * @param type the type of the connection.
+     * @return a value between 9 and 15.
+     */
+    static int getWindowBits(ConnectionType type) {
+        final boolean client = type == ConnectionType.SOCKET_C2S || type == ConnectionType.BOSH_C2S;
+        final int bits = JiveGlobals.getIntProperty(getPropertyPrefix(type) + "windowBits", client ? 12 : 15);
+        return Math.max(9, Math.min(15, bits));
+    }
+
+    static int computeLevel(ConnectionType type, double cpu) {
+        final boolean client = type == ConnectionType.SOCKET_C2S || type == ConnectionType.BOSH_C2S;
+        int level = JiveGlobals.getIntProperty(getPropertyPrefix(type) + "level", client ? 6 : 9);
+        level = Math.max(1, Math.min(9, level));
+        if (cpu * 100 >= JiveGlobals.getIntProperty("xmpp.compression.cpu.high", 85)) {
+            return 1;
+        }
+        if (cpu * 100 >= JiveGlobals.getIntProperty("xmpp.compression.cpu.medium", 60)) {
+            return Math.min(level, 3);
+        }
+        return level;
+    }
+
+    private static String getPropertyPrefix(ConnectionType type) {
+        switch (type) {
+            case SOCKET_S2S:
+                return "xmpp.server.compression.";
+            case COMPONENT:
+                return "xmpp.component.compression.";
+            case CONNECTION_MANAGER:
+                return "xmpp.multiplex.compression.";
+            default:
+                return "xmpp.client.compression.";
+        }
+    }
+
+    private static double sampleCpuLoad() {
+        final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            final double load = ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuLoad();
+            if (load >= 0) {
+                return load;
+            }
+        }
+        final double average = os.getSystemLoadAverage();
+        return average < 0 ? 0 : Math.min(1, average / os.getAvailableProcessors());
+    }
+
+    static void allocated(long bytes) {
+        memory.addAndGet(bytes);
+    }
+
+    static void released(long bytes) {
+        memory.addAndGet(-bytes);
+    }
+
+    static void compressed(long uncompressed, long compressed) {
+        uncompressedBytes.addAndGet(uncompressed);
+        compressedBytes.addAndGet(compressed);
+    }
+
+    /**
+     * Returns the memory used by the compression state of all compressed connections.
+     *
+     * @return an estimate of the used memory, in bytes.
+     */
+    public static long getMemory() {
+        return memory.get();
+    }
+
+    /**
+     * Tracks the memory used by the compression state of connections.
+     */
+    private static class MemoryTracker extends i18nStatistic {
+        public MemoryTracker() {
+            super("stream.compression.memory", Statistic.Type.count);
+        }
+
+        @Override
+        public double sample() {
+            return memory.get() / 1024d;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
+
+    /**
+     * Tracks the size of the compressed outgoing data relative to its uncompressed size.
+     */
+    private static class RatioTracker extends i18nStatistic {
+        public RatioTracker() {
+            super("stream.compression.ratio", Statistic.Type.count);
+        }
+
+        @Override
+        public double sample() {
+            final long uncompressed = uncompressedBytes.getAndSet(0);
+            final long compressed = compressedBytes.getAndSet(0);
+            return uncompressed == 0 ? 0 : compressed * 100d / uncompressed;
+        }
+
+        @Override
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
+}
@@ -46,7 +46,7 @@ import org.jivesoftware.util.PropertyEventListener;
  * @author Daniele Piras
  * @author Gaston Dombiak
  */
-class XMLLightweightParser {
+public class XMLLightweightParser {
 
 	private static final Pattern XML_HAS_CHARREF = Pattern.compile("&#(0*([0-9]+)|[xX]0*([0-9a-fA-F]+));");
 
@@ -185,6 +185,35 @@ class XMLLightweightParser {
             byteBuffer.position(byteBuffer.limit());
             return;
         }
+        checkBufferSize();
+        CharBuffer charBuffer = CharBuffer.allocate(byteBuffer.capacity());
+        encoder.reset();
+        encoder.decode(byteBuffer.buf(), charBuffer, false);
+        char[] buf = new char[charBuffer.position()];
+        charBuffer.flip();
+        charBuffer.get(buf);
+        parse(buf);
+    }
+
+    /*
+    * Reading method for transports that deliver already decoded text, such as
+    * WebSocket text frames. The text may contain any number of complete stanzas
+    * and fragments of stanzas.
+    */
+    public void read(String data) throws Exception {
+        if (buffer == null) {
+            // exception was thrown before, avoid duplicate exception(s)
+            return;
+        }
+        checkBufferSize();
+        parse(data.toCharArray());
+    }
+
+    /*
+    * Discards the data of previously found messages and checks that the pending data
+    * did not exceed the maximum buffer size.
+    */
+    private void checkBufferSize() throws ProtocolDecoderException {
         invalidateBuffer();
         // Check that the buffer is not bigger than 1 Megabyte. For security reasons
         // we will abort parsing when 1 Mega of queued chars was found.
@@ -196,12 +225,9 @@ class XMLLightweightParser {
             ex.setHexdump("(redacted hex dump of never ending stanza)");
             throw ex;
         }
-        CharBuffer charBuffer = CharBuffer.allocate(byteBuffer.capacity());
-        encoder.reset();
-        encoder.decode(byteBuffer.buf(), charBuffer, false);
-        char[] buf = new char[charBuffer.position()];
-        charBuffer.flip();
-        charBuffer.get(buf);
+    }
+
+    private void parse(char[] buf) throws Exception {
         int readChar = buf.length;
 
         // Just return if nothing was read
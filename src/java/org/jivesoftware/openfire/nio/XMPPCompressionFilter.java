@@ -0,0 +1,251 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.nio;
+
+import java.io.IOException;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.filterchain.IoFilterChain;
+import org.apache.mina.core.session.IoSession;
+import org.apache.mina.core.write.WriteRequest;
+import org.apache.mina.filter.util.WriteRequestFilter;
+import org.jivesoftware.openfire.spi.ConnectionType;
+
+import com.jcraft.jzlib.JZlib;
+import com.jcraft.jzlib.ZStream;
+
+/**
+ * MINA filter that compresses the traffic of a connection using zlib (XEP-0138). Unlike the
+ * MINA compression filter, the compression level and window size depend on the type of the
+ * connection and on the CPU usage of the process (see {@link StreamCompression}), and the
+ * compression state is only allocated once outgoing traffic is compressed.<p>
+ *
+ * Every write is flushed with a sync flush. Connections write whole stanzas, so the compressed
+ * stream is flushed at stanza boundaries only.
+ */
+public class XMPPCompressionFilter extends WriteRequestFilter {
+
+    /**
+     * Memory used by the zlib state of a deflater, not counting its window: the hash table and
+     * the pending buffer, whose size is fixed by jzlib.
+     */
+    private static final long DEFLATER_MEMORY = 128 * 1024;
+
+    /**
+     * Memory used by the zlib state of an inflater, including its 32 KB window.
+     */
+    private static final long INFLATER_MEMORY = 56 * 1024;
+
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[8192];
+        }
+    };
+
+    private final ConnectionType type;
+    private ZStream inflater;
+    private ZStream deflater;
+    private volatile boolean compressOutbound = false;
+    private int level;
+    private long memory = 0;
+    private long uncompressedBytes = 0;
+    private long compressedBytes = 0;
+
+    public XMPPCompressionFilter(ConnectionType type) {
+        this.type = type;
+    }
+
+    /**
+     * Starts compressing outgoing traffic.
+     *
+     * @param compressOutbound true if outgoing traffic is to be compressed.
+     */
+    public synchronized void setCompressOutbound(boolean compressOutbound) {
+        if (compressOutbound && deflater == null) {
+            final int windowBits = StreamCompression.getWindowBits(type);
+            level = StreamCompression.getLevel(type);
+            deflater = new ZStream();
+            deflater.deflateInit(level, windowBits);
+            allocated(DEFLATER_MEMORY + (4L << windowBits));
+        }
+        this.compressOutbound = compressOutbound;
+    }
+
+    public boolean isCompressOutbound() {
+        return compressOutbound;
+    }
+
+    /**
+     * Returns the size of the compressed outgoing traffic relative to its uncompressed size.
+     *
+     * @return the compression ratio, or 1 if nothing was compressed yet.
+     */
+    public synchronized double getCompressionRatio() {
+        return uncompressedBytes == 0 ? 1 : (double) compressedBytes / uncompressedBytes;
+    }
+
+    @Override
+    public synchronized void onPreAdd(IoFilterChain parent, String name, NextFilter nextFilter) throws Exception {
+        if (parent.contains(XMPPCompressionFilter.class)) {
+            throw new IllegalStateException("Only one " + XMPPCompressionFilter.class + " is permitted.");
+        }
+        // The client chooses the size of its window, so the inflater uses the largest one
+        inflater = new ZStream();
+        inflater.inflateInit();
+        allocated(INFLATER_MEMORY);
+        super.onPreAdd(parent, name, nextFilter);
+    }
+
+    @Override
+    public void onPostRemove(IoFilterChain parent, String name, NextFilter nextFilter) throws Exception {
+        release();
+        super.onPostRemove(parent, name, nextFilter);
+    }
+
+    @Override
+    public void sessionClosed(NextFilter nextFilter, IoSession session) throws Exception {
+        release();
+        super.sessionClosed(nextFilter, session);
+    }
+
+    @Override
+    public void messageReceived(NextFilter nextFilter, IoSession session, Object message) throws Exception {
+        if (!(message instanceof IoBuffer)) {
+            nextFilter.messageReceived(session, message);
+            return;
+        }
+        final IoBuffer inBuffer = (IoBuffer) message;
+        if (!inBuffer.hasRemaining()) {
+            nextFilter.messageReceived(session, message);
+            return;
+        }
+        nextFilter.messageReceived(session, inflate(inBuffer));
+    }
+
+    @Override
+    protected Object doFilterWrite(NextFilter nextFilter, IoSession session, WriteRequest writeRequest)
+            throws IOException {
+        if (!compressOutbound || !(writeRequest.getMessage() instanceof IoBuffer)) {
+            return null;
+        }
+        final IoBuffer inBuffer = (IoBuffer) writeRequest.getMessage();
+        if (!inBuffer.hasRemaining()) {
+            // Ignore empty buffers
+            return null;
+        }
+        return deflate(inBuffer);
+    }
+
+    private synchronized IoBuffer inflate(IoBuffer inBuffer) throws IOException {
+        if (inflater == null) {
+            throw new IOException("Compression filter was removed");
+        }
+        final byte[] inBytes = new byte[inBuffer.remaining()];
+        inBuffer.get(inBytes);
+        final byte[] chunk = BUFFERS.get();
+        final IoBuffer outBuffer = IoBuffer.allocate(inBytes.length * 2);
+        outBuffer.setAutoExpand(true);
+
+        inflater.next_in = inBytes;
+        inflater.next_in_index = 0;
+        inflater.avail_in = inBytes.length;
+        int result;
+        do {
+            inflater.next_out = chunk;
+            inflater.next_out_index = 0;
+            inflater.avail_out = chunk.length;
+            result = inflater.inflate(JZlib.Z_SYNC_FLUSH);
+            if (result != JZlib.Z_OK && result != JZlib.Z_BUF_ERROR && result != JZlib.Z_STREAM_END) {
+                throw new IOException("Unknown error. Error code: " + result + " " + inflater.msg);
+            }
+            outBuffer.put(chunk, 0, chunk.length - inflater.avail_out);
+        } while (result == JZlib.Z_OK && (inflater.avail_in > 0 || inflater.avail_out == 0));
+        inflater.next_in = null;
+        inflater.next_out = null;
+        return outBuffer.flip();
+    }
+
+    private synchronized IoBuffer deflate(IoBuffer inBuffer) throws IOException {
+        if (deflater == null) {
+            throw new IOException("Compression filter was removed");
+        }
+        final int inLength = inBuffer.remaining();
+        final byte[] inBytes = new byte[inLength];
+        inBuffer.get(inBytes);
+        final byte[] chunk = BUFFERS.get();
+        final IoBuffer outBuffer = IoBuffer.allocate(inLength / 2 + 16);
+        outBuffer.setAutoExpand(true);
+
+        final int newLevel = StreamCompression.getLevel(type);
+        if (newLevel != level) {
+            // Changing the level may flush the data compressed so far
+            level = newLevel;
+            deflater.next_in = inBytes;
+            deflater.next_in_index = 0;
+            deflater.avail_in = 0;
+            deflater.next_out = chunk;
+            deflater.next_out_index = 0;
+            deflater.avail_out = chunk.length;
+            deflater.deflateParams(level, JZlib.Z_DEFAULT_STRATEGY);
+            outBuffer.put(chunk, 0, chunk.length - deflater.avail_out);
+        }
+
+        deflater.next_in = inBytes;
+        deflater.next_in_index = 0;
+        deflater.avail_in = inLength;
+        do {
+            deflater.next_out = chunk;
+            deflater.next_out_index = 0;
+            deflater.avail_out = chunk.length;
+            final int result = deflater.deflate(JZlib.Z_SYNC_FLUSH);
+            if (result != JZlib.Z_OK && result != JZlib.Z_BUF_ERROR) {
+                throw new IOException("Compression failed with return value : " + result);
+            }
+            outBuffer.put(chunk, 0, chunk.length - deflater.avail_out);
+        } while (deflater.avail_in > 0 || deflater.avail_out == 0);
+        deflater.next_in = null;
+        deflater.next_out = null;
+
+        uncompressedBytes += inLength;
+        compressedBytes += outBuffer.position();
+        StreamCompression.compressed(inLength, outBuffer.position());
+        return outBuffer.flip();
+    }
+
+    private void allocated(long bytes) {
+        memory += bytes;
+        StreamCompression.allocated(bytes);
+    }
+
+    /**
+     * Frees the compression state of the connection.
+     */
+    private synchronized void release() {
+        if (inflater != null) {
+            inflater.free();
+            inflater = null;
+        }
+        if (deflater != null) {
+            deflater.free();
+            deflater = null;
+        }
+        compressOutbound = false;
+        StreamCompression.released(memory);
+        memory = 0;
+    }
+}
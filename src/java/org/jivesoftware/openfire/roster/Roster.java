@@ -27,14 +27,13 @@ import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.dom4j.Element;
 import org.jivesoftware.database.JiveID;
 import org.jivesoftware.openfire.PresenceManager;
 import org.jivesoftware.openfire.RoutingTable;
@@ -43,6 +42,7 @@ import org.jivesoftware.openfire.SharedGroupException;
 import org.jivesoftware.openfire.XMPPServer;
 import org.jivesoftware.openfire.group.Group;
 import org.jivesoftware.openfire.group.GroupManager;
+import org.jivesoftware.openfire.group.GroupNotFoundException;
 import org.jivesoftware.openfire.privacy.PrivacyList;
 import org.jivesoftware.openfire.privacy.PrivacyListManager;
 import org.jivesoftware.openfire.session.ClientSession;
@@ -77,14 +77,18 @@ public class Roster implements Cacheable, Externalizable {
     private static final Logger Log = LoggerFactory.getLogger(Roster.class);
 
     /**
-     * Roster item cache - table: key jabberid string; value roster item.
+     * Roster item cache - table: key jabberid string; value roster item. Contacts that exist
+     * only due to shared groups are not kept here unless the user changed them. They are
+     * resolved from the {@link SharedRosterView} of the roster manager when needed.
      */
     protected ConcurrentMap<String, RosterItem> rosterItems = new ConcurrentHashMap<>();
     /**
-     * Contacts with subscription FROM that only exist due to shared groups
-     * key: jabberid string; value: groups why the implicit roster item exists (aka invisibleSharedGroups).
+     * Contacts of shared groups that were removed from the roster (e.g. the user cancelled
+     * the subscription of the contact) and that the shared groups must no longer add to it.
+     * key: jabberid string.
      */
-    protected ConcurrentMap<String, Set<String>> implicitFrom = new ConcurrentHashMap<>();
+    protected Set<String> removedSharedContacts =
+            Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
     private RosterItemProvider rosterItemProvider;
     private String username;
@@ -111,7 +115,9 @@ public class Roster implements Cacheable, Externalizable {
      *
      * RosterItems that ONLY belong to shared groups won't be persistent unless the user
      * explicitly subscribes to the contact's presence, renames the contact in his roster or adds
-     * the item to a personal group.<p>
+     * the item to a personal group. Neither are they kept in memory: they are created on demand
+     * from the {@link SharedRosterView} of the roster manager, so that the memory of a roster
+     * depends on the personal contacts of the user and not on the size of his shared groups.<p>
      *
      * This constructor is not public and instead you should use
      * {@link org.jivesoftware.openfire.roster.RosterManager#getRoster(String)}.
@@ -126,8 +132,8 @@ public class Roster implements Cacheable, Externalizable {
         this.username = username;
 
         // Get the shared groups of this user
-        Collection<Group> sharedGroups = rosterManager.getSharedGroups(username);
-        //Collection<Group> userGroups = GroupManager.getInstance().getGroups(getUserJID());
+        List<SharedRosterView.SharedGroup> sharedGroups =
+                rosterManager.getSharedRosterView().getSharedGroups(getUserJID());
 
         // Add RosterItems that belong to the personal roster
         rosterItemProvider = RosterManager.getRosterItemProvider();
@@ -136,71 +142,15 @@ public class Roster implements Cacheable, Externalizable {
             RosterItem item = items.next();
             // Check if the item (i.e. contact) belongs to a shared group of the user. Add the
             // shared group (if any) to this item
-            for (Group group : sharedGroups) {
-                if (group.isUser(item.getJid())) {
+            for (SharedRosterView.SharedGroup group : sharedGroups) {
+                if (group.isUser(item.getJid().asBareJID())) {
                     // TODO Group name conflicts are not being considered (do we need this?)
-                    item.addSharedGroup(group);
+                    item.getSharedGroupsNames().add(group.getName());
                     item.setSubStatus(RosterItem.SUB_BOTH);
                 }
             }
             rosterItems.put(item.getJid().toBareJID(), item);
         }
-        // Add RosterItems that belong only to shared groups
-        Map<JID, List<Group>> sharedUsers = getSharedUsers(sharedGroups);
-        for (Map.Entry<JID, List<Group>> entry : sharedUsers.entrySet()) {
-            JID jid = entry.getKey();
-            List<Group> groups = entry.getValue();
-            try {
-                Collection<Group> itemGroups = new ArrayList<>();
-                String nickname = "";
-                RosterItem item = new RosterItem(jid, RosterItem.SUB_TO, RosterItem.ASK_NONE,
-                        RosterItem.RECV_NONE, nickname, null);
-                // Add the shared groups to the new roster item
-                for (Group group : groups) {
-                    if (group.isUser(jid)) {
-                        item.addSharedGroup(group);
-                        itemGroups.add(group);
-                    } else {
-                        item.addInvisibleSharedGroup(group);
-                    }
-                }
-                // Set subscription type to BOTH if the roster user belongs to a shared group
-                // that is mutually visible with a shared group of the new roster item
-                if (rosterManager.hasMutualVisibility(username, sharedGroups, jid, itemGroups)) {
-                    item.setSubStatus(RosterItem.SUB_BOTH);
-                } else {
-                    // Set subscription type to FROM if the contact does not belong to any of
-                    // the associated shared groups
-                    boolean belongsToGroup = false;
-                    for (Group group : groups) {
-                        if (group.isUser(jid)) {
-                            belongsToGroup = true;
-                        }
-                    }
-                    if (!belongsToGroup) {
-                        item.setSubStatus(RosterItem.SUB_FROM);
-                    }
-                }
-                // Set nickname and store in memory only if subscription type is not FROM.
-                // Roster items with subscription type FROM that exist only because of shared
-                // groups will be recreated on demand in #getRosterItem(JID) and #isRosterItem()
-                // but will never be stored in memory nor in the database. This is an important
-                // optimization to reduce objects in memory and avoid loading users in memory
-                // to get their nicknames that will never be shown
-                if (item.getSubStatus() != RosterItem.SUB_FROM) {
-                    item.setNickname(UserNameManager.getUserName(jid));
-                    rosterItems.put(item.getJid().toBareJID(), item);
-                } else {
-                    // Cache information about shared contacts with subscription status FROM
-                    implicitFrom
-                            .put(item.getJid().toBareJID(), item.getInvisibleSharedGroupsNames());
-                }
-            } catch (UserNotFoundException e) {
-                Log.error("Groups (" + groups + ") include non-existent username (" +
-                        jid.getNode() +
-                        ")");
-            }
-        }
         // Fire event indicating that a roster has just been loaded
         RosterEventDispatcher.rosterLoaded(this);
     }
@@ -212,21 +162,24 @@ public class Roster implements Cacheable, Externalizable {
      * @return true if the specified user is a member of the roster, false otherwise.
      */
     public boolean isRosterItem(JID user) {
-        // Optimization: Check if the contact has a FROM subscription due to shared groups
-        // (only when not present in the rosterItems collection)
-        return rosterItems.containsKey(user.toBareJID()) || getImplicitRosterItem(user) != null;
+        // Check if the contact exists due to shared groups (only when not present in the
+        // rosterItems collection)
+        return rosterItems.containsKey(user.toBareJID()) || getSharedRosterItem(user) != null;
     }
 
     /**
      * Returns a collection of users in this roster.<p>
      *
      * Note: Roster items with subscription type FROM that exist only because of shared groups
-     * are not going to be returned.
+     * are not going to be returned. The other roster items that exist only because of shared
+     * groups are created for each call.
      *
      * @return a collection of users in this roster.
      */
     public Collection<RosterItem> getRosterItems() {
-        return Collections.unmodifiableCollection(rosterItems.values());
+        List<RosterItem> items = new ArrayList<>(rosterItems.values());
+        items.addAll(getSharedRosterItems());
+        return Collections.unmodifiableCollection(items);
     }
 
     /**
@@ -240,8 +193,8 @@ public class Roster implements Cacheable, Externalizable {
     public RosterItem getRosterItem(JID user) throws UserNotFoundException {
         RosterItem item = rosterItems.get(user.toBareJID());
         if (item == null) {
-            // Optimization: Check if the contact has a FROM subscription due to shared groups
-            item = getImplicitRosterItem(user);
+            // Check if the contact exists due to shared groups
+            item = getSharedRosterItem(user);
             if (item == null) {
                 throw new UserNotFoundException(user.toBareJID());
             }
@@ -250,25 +203,69 @@ public class Roster implements Cacheable, Externalizable {
     }
 
     /**
-     * Returns a roster item if the specified user has a subscription of type FROM to this
-     * user and the susbcription only exists due to some shared groups or otherwise
-     * <tt>null</tt>. This method assumes that this user does not have a subscription to
-     * the contact. In other words, this method will not check if there should be a subscription
-     * of type TO ot BOTH.
+     * Returns a roster item if the specified user exists in this roster only due to some
+     * shared groups or otherwise <tt>null</tt>. This method assumes that the user is not in
+     * the rosterItems collection. The roster item is created for each call, so changes to
+     * the item are only kept once the item is updated with {@link #updateRosterItem(RosterItem)}.
      *
-     * @param user the contact to check if he is subscribed to the presence of this user.
-     * @return a roster item if the specified user has a subscription of type FROM to this
-     *         user and the susbcription only exists due to some shared groups or otherwise null.
+     * @param user the contact to check if he exists due to shared groups.
+     * @return a roster item if the specified user exists only due to some shared groups or
+     *         otherwise null.
      */
-    private RosterItem getImplicitRosterItem(JID user) {
-        Set<String> invisibleSharedGroups = implicitFrom.get(user.toBareJID());
-        if (invisibleSharedGroups != null) {
-            RosterItem rosterItem = new RosterItem(user, RosterItem.SUB_FROM, RosterItem.ASK_NONE,
-                    RosterItem.RECV_NONE, "", null);
-            rosterItem.setInvisibleSharedGroupsNames(invisibleSharedGroups);
-            return rosterItem;
+    private RosterItem getSharedRosterItem(JID user) {
+        if (removedSharedContacts.contains(user.toBareJID())) {
+            return null;
         }
-        return null;
+        SharedRosterView view = rosterManager.getSharedRosterView();
+        JID userJID = getUserJID();
+        return getSharedRosterItem(view, userJID, view.getSharedGroups(userJID), user);
+    }
+
+    /**
+     * Returns the roster item that the given view of the shared groups defines for a contact,
+     * or <tt>null</tt> if the view does not add the contact to this roster. The nickname of
+     * the item is set unless the subscription type of the item is FROM, since the nickname
+     * of such items is never shown.
+     */
+    private RosterItem getSharedRosterItem(SharedRosterView view, JID userJID,
+            List<SharedRosterView.SharedGroup> sharedGroups, JID contact) {
+        RosterItem item = view.getRosterItem(userJID, sharedGroups, contact);
+        if (item != null && item.getSubStatus() != RosterItem.SUB_FROM) {
+            try {
+                item.setNickname(UserNameManager.getUserName(item.getJid()));
+            } catch (UserNotFoundException e) {
+                Log.debug("Shared groups include non-existent username (" + contact.getNode() + ")");
+                return null;
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Returns the roster items of the contacts that exist only due to shared groups, except
+     * for the contacts that only have a subscription of type FROM.
+     *
+     * @return the roster items of the contacts that exist only due to shared groups.
+     */
+    private List<RosterItem> getSharedRosterItems() {
+        SharedRosterView view = rosterManager.getSharedRosterView();
+        JID userJID = getUserJID();
+        List<SharedRosterView.SharedGroup> sharedGroups = view.getSharedGroups(userJID);
+        if (sharedGroups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<RosterItem> items = new ArrayList<>();
+        for (JID contact : view.getVisibleContacts(userJID, sharedGroups)) {
+            String bareJID = contact.toBareJID();
+            if (rosterItems.containsKey(bareJID) || removedSharedContacts.contains(bareJID)) {
+                continue;
+            }
+            RosterItem item = getSharedRosterItem(view, userJID, sharedGroups, contact);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
     }
 
     /**
@@ -375,8 +372,10 @@ public class Roster implements Cacheable, Externalizable {
      * @throws UserNotFoundException If the roster item for the given user doesn't already exist
      */
     public void updateRosterItem(RosterItem item) throws UserNotFoundException {
-        // Check if we need to convert an implicit roster item into an explicit one
-        if (implicitFrom.remove(item.getJid().toBareJID()) != null) {
+        // Check if we need to convert a roster item that exists only due to shared groups
+        // into an explicit one
+        if (!rosterItems.containsKey(item.getJid().toBareJID()) &&
+                getSharedRosterItem(item.getJid()) != null) {
             // Ensure that the item is an explicit roster item
             rosterItems.put(item.getJid().toBareJID(), item);
             // Fire event indicating that a roster item has been updated
@@ -452,74 +451,112 @@ public class Roster implements Cacheable, Externalizable {
      * @throws SharedGroupException if the user to remove belongs to a shared group
      */
     public RosterItem deleteRosterItem(JID user, boolean doChecking) throws SharedGroupException {
-        // Answer an error if user (i.e. contact) to delete belongs to a shared group
         RosterItem itemToRemove = rosterItems.get(user.toBareJID());
-        if (doChecking && itemToRemove != null && !itemToRemove.getSharedGroups().isEmpty()) {
+        if (itemToRemove == null) {
+            // Verify if the item being removed only exists due to some shared group
+            RosterItem item = getSharedRosterItem(user);
+            if (item == null) {
+                return null;
+            }
+            // Answer an error if user (i.e. contact) to delete belongs to a shared group
+            if (doChecking && !item.getSharedGroups().isEmpty()) {
+                throw new SharedGroupException("Cannot remove contact that belongs to a shared group");
+            }
+            // Make sure that the shared groups no longer add the contact to the roster
+            removedSharedContacts.add(user.toBareJID());
+            removeSharedContact(item);
+            // Implicit roster items with subscription FROM are not returned
+            return item.getSubStatus() == RosterItem.SUB_FROM ? null : item;
+        }
+        // Answer an error if user (i.e. contact) to delete belongs to a shared group
+        if (doChecking && !itemToRemove.getSharedGroups().isEmpty()) {
             throw new SharedGroupException("Cannot remove contact that belongs to a shared group");
         }
 
-        if (itemToRemove != null) {
-            RosterItem.SubType subType = itemToRemove.getSubStatus();
+        // Cancel any existing presence subscription between the user and the contact
+        cancelSubscriptions(itemToRemove);
 
-            // Cancel any existing presence subscription between the user and the contact
-            if (subType == RosterItem.SUB_TO || subType == RosterItem.SUB_BOTH) {
-                Presence presence = new Presence();
-                presence.setFrom(server.createJID(username, null));
-                presence.setTo(itemToRemove.getJid());
-                presence.setType(Presence.Type.unsubscribe);
-                server.getPacketRouter().route(presence);
+        // If removing the user was successful, remove the user from the subscriber list:
+        RosterItem item = rosterItems.remove(user.toBareJID());
+
+        if (item != null) {
+            // Delete the item from the provider if the item is persistent. RosteItems that only
+            // belong to shared groups won't be persistent
+            if (item.getID() > 0) {
+                // If removing the user was successful, remove the user from the backend store
+                rosterItemProvider.deleteItem(username, item.getID());
             }
 
-            // cancel any existing presence subscription between the contact and the user
-            if (subType == RosterItem.SUB_FROM || subType == RosterItem.SUB_BOTH) {
+            // Broadcast the update to the user
+            broadcastRemoval(user);
+            // Fire event indicating that a roster item has been deleted
+            RosterEventDispatcher.contactDeleted(this, item);
+        }
+
+        return item;
+    }
+
+    /**
+     * Removes a contact that exists only due to shared groups from the roster. Unlike
+     * {@link #deleteRosterItem(JID, boolean)}, this method does not prevent the shared groups
+     * from adding the contact again.
+     *
+     * @param item the roster item of the contact, as the shared groups defined it.
+     */
+    private void removeSharedContact(RosterItem item) {
+        if (item.getSubStatus() == RosterItem.SUB_FROM) {
+            // The implicit roster item was never sent to the user. If the contact being
+            // removed is not a local user then ACK unsubscription
+            if (!server.isLocal(item.getJid())) {
                 Presence presence = new Presence();
                 presence.setFrom(server.createJID(username, null));
-                presence.setTo(itemToRemove.getJid());
+                presence.setTo(item.getJid());
                 presence.setType(Presence.Type.unsubscribed);
                 server.getPacketRouter().route(presence);
             }
+        } else {
+            // Cancel any existing presence subscription between the user and the contact
+            cancelSubscriptions(item);
+            // Broadcast the update to the user
+            broadcastRemoval(item.getJid());
+        }
+        // Fire event indicating that a roster item has been deleted
+        RosterEventDispatcher.contactDeleted(this, item);
+    }
 
-            // If removing the user was successful, remove the user from the subscriber list:
-            RosterItem item = rosterItems.remove(user.toBareJID());
-
-            if (item != null) {
-                // Delete the item from the provider if the item is persistent. RosteItems that only
-                // belong to shared groups won't be persistent
-                if (item.getID() > 0) {
-                    // If removing the user was successful, remove the user from the backend store
-                    rosterItemProvider.deleteItem(username, item.getID());
-                }
-
-                // Broadcast the update to the user
-                org.xmpp.packet.Roster roster = new org.xmpp.packet.Roster();
-                roster.setType(IQ.Type.set);
-                roster.addItem(user, org.xmpp.packet.Roster.Subscription.remove);
-                broadcast(roster);
-                // Fire event indicating that a roster item has been deleted
-                RosterEventDispatcher.contactDeleted(this, item);
-            }
+    /**
+     * Cancels the presence subscriptions between the user and the contact of a roster item
+     * that is being removed.
+     *
+     * @param item the roster item being removed.
+     */
+    private void cancelSubscriptions(RosterItem item) {
+        RosterItem.SubType subType = item.getSubStatus();
+
+        // Cancel any existing presence subscription between the user and the contact
+        if (subType == RosterItem.SUB_TO || subType == RosterItem.SUB_BOTH) {
+            Presence presence = new Presence();
+            presence.setFrom(server.createJID(username, null));
+            presence.setTo(item.getJid());
+            presence.setType(Presence.Type.unsubscribe);
+            server.getPacketRouter().route(presence);
+        }
 
-            return item;
-        } else {
-            // Verify if the item being removed is an implicit roster item
-            // that only exists due to some shared group
-            RosterItem item = getImplicitRosterItem(user);
-            if (item != null) {
-                implicitFrom.remove(user.toBareJID());
-                // If the contact being removed is not a local user then ACK unsubscription
-                if (!server.isLocal(user)) {
-                    Presence presence = new Presence();
-                    presence.setFrom(server.createJID(username, null));
-                    presence.setTo(user);
-                    presence.setType(Presence.Type.unsubscribed);
-                    server.getPacketRouter().route(presence);
-                }
-                // Fire event indicating that a roster item has been deleted
-                RosterEventDispatcher.contactDeleted(this, item);
-            }
+        // cancel any existing presence subscription between the contact and the user
+        if (subType == RosterItem.SUB_FROM || subType == RosterItem.SUB_BOTH) {
+            Presence presence = new Presence();
+            presence.setFrom(server.createJID(username, null));
+            presence.setTo(item.getJid());
+            presence.setType(Presence.Type.unsubscribed);
+            server.getPacketRouter().route(presence);
         }
+    }
 
-        return null;
+    private void broadcastRemoval(JID user) {
+        org.xmpp.packet.Roster roster = new org.xmpp.packet.Roster();
+        roster.setType(IQ.Type.set);
+        roster.addItem(user, org.xmpp.packet.Roster.Subscription.remove);
+        broadcast(roster);
     }
 
     /**
@@ -538,9 +575,13 @@ public class Roster implements Cacheable, Externalizable {
      */
     public org.xmpp.packet.Roster getReset() {
         org.xmpp.packet.Roster roster = new org.xmpp.packet.Roster();
+        Element query = roster.setChildElement("query", "jabber:iq:roster");
+        SharedRosterView view = rosterManager.getSharedRosterView();
 
         // Add the roster items (includes the personal roster and shared groups) to the answer
-        for (RosterItem item : rosterItems.values()) {
+        List<RosterItem> items = new ArrayList<>(rosterItems.values());
+        items.addAll(getSharedRosterItems());
+        for (RosterItem item : items) {
             // Do not include items with status FROM that exist only because of shared groups
             if (item.isOnlyShared() && item.getSubStatus() == RosterItem.SUB_FROM) {
                 continue;
@@ -554,25 +595,58 @@ public class Roster implements Cacheable, Externalizable {
                 Log.warn("A group is null in roster item: " + item.getJid() + " of user: " +
                         getUsername());
             }
-            for (Group sharedGroup : item.getSharedGroups()) {
-                String displayName = sharedGroup.getProperties().get("sharedRoster.displayName");
+            for (String sharedGroupName : item.getSharedGroupsNames()) {
+                // Use the display name of the view, that does not need to load the group
+                SharedRosterView.SharedGroup sharedGroup = view.getGroup(sharedGroupName);
+                String displayName;
+                if (sharedGroup != null) {
+                    displayName = sharedGroup.getDisplayName();
+                } else {
+                    try {
+                        displayName = GroupManager.getInstance().getGroup(sharedGroupName)
+                                .getProperties().get("sharedRoster.displayName");
+                    } catch (GroupNotFoundException e) {
+                        continue;
+                    }
+                }
                 if (displayName != null) {
                     groups.add(displayName);
                 } else {
-                    // Do not add the shared group if it does not have a displayName. 
-                    Log.warn("Found shared group: " + sharedGroup.getName() +
+                    // Do not add the shared group if it does not have a displayName.
+                    Log.warn("Found shared group: " + sharedGroupName +
                             " with no displayName");
                 }
             }
             // Do not push items with a state of "None + Pending In"
             if (item.getSubStatus() != RosterItem.SUB_NONE ||
                     item.getRecvStatus() != RosterItem.RECV_SUBSCRIBE && !isSubscriptionRejected(item)) {
-                roster.addItem(item.getJid(), item.getNickname(), ask, sub, groups);
+                addItem(query, item.getJid(), item.getNickname(), ask, sub, groups);
             }
         }
         return roster;
     }
 
+    /**
+     * Adds an item to the query of a roster packet. Unlike
+     * {@link org.xmpp.packet.Roster#addItem(JID, String, org.xmpp.packet.Roster.Ask,
+     * org.xmpp.packet.Roster.Subscription, Collection)} this does not look for an item of the same
+     * JID to replace, which would make a roster reset quadratic in the number of contacts. The
+     * items of a roster have distinct JIDs.
+     */
+    private static void addItem(Element query, JID jid, String name, org.xmpp.packet.Roster.Ask ask,
+            org.xmpp.packet.Roster.Subscription subscription, Collection<String> groups) {
+        Element item = query.addElement("item");
+        item.addAttribute("jid", jid.toBareJID());
+        item.addAttribute("name", name);
+        if (ask != null) {
+            item.addAttribute("ask", ask.toString());
+        }
+        item.addAttribute("subscription", subscription.toString());
+        for (String group : groups) {
+            item.addElement("group").setText(group);
+        }
+    }
+
     private org.xmpp.packet.Roster.Ask getAskStatus(RosterItem.AskType askType) {
         if (askType == null || askType == RosterItem.AskType.NONE) {
             return null;
@@ -625,21 +699,26 @@ public class Roster implements Cacheable, Externalizable {
                 }
             }
         }
-        // Broadcast presence to shared contacts whose subscription status is FROM
-        for (String contact : implicitFrom.keySet()) {
-            if (contact.contains("@")) {
-                String node = contact.substring(0, contact.lastIndexOf("@"));
-                String domain = contact.substring(contact.lastIndexOf("@") + 1);
-                node = JID.escapeNode(node);
-                contact = new JID(node, domain, null).toBareJID();
+        // Broadcast presence to shared contacts whose subscription status is BOTH or FROM and
+        // that exist only due to shared groups
+        SharedRosterView view = rosterManager.getSharedRosterView();
+        JID userJID = getUserJID();
+        List<SharedRosterView.SharedGroup> sharedGroups = view.getSharedGroups(userJID);
+        for (JID contact : view.getContacts(userJID, sharedGroups)) {
+            String bareJID = contact.toBareJID();
+            if (rosterItems.containsKey(bareJID) || removedSharedContacts.contains(bareJID)) {
+                continue;
+            }
+            RosterItem item = view.getRosterItem(userJID, sharedGroups, contact);
+            if (item == null || item.getSubStatus() == RosterItem.SUB_TO) {
+                continue;
             }
-
             packet.setTo(contact);
             if (list != null && list.shouldBlockPacket(packet)) {
                 // Outgoing presence notifications are blocked for this contact
                 continue;
             }
-            for (JID jid : routingTable.getRoutes(new JID(contact), null)) {
+            for (JID jid : routingTable.getRoutes(contact, null)) {
                 try {
                     routingTable.routePacket(jid, packet, false);
                 } catch (Exception e) {
@@ -654,39 +733,6 @@ public class Roster implements Cacheable, Externalizable {
         }
     }
 
-    /**
-     * Returns the list of users that belong ONLY to a shared group of this user. If the contact
-     * belongs to the personal roster and a shared group then it wont' be included in the answer.
-     *
-     * @param sharedGroups the shared groups of this user.
-     * @return the list of users that belong ONLY to a shared group of this user.
-     */
-    private Map<JID, List<Group>> getSharedUsers(Collection<Group> sharedGroups) {
-        // Get the users to process from the shared groups. Users that belong to different groups
-        // will have one entry in the map associated with all the groups
-        Map<JID, List<Group>> sharedGroupUsers = new HashMap<>();
-        for (Group group : sharedGroups) {
-            // Get all the users that should be in this roster
-            Collection<JID> users = rosterManager.getSharedUsersForRoster(group, this);
-            // Add the users of the group to the general list of users to process
-            JID userJID = getUserJID();
-            for (JID jid : users) {
-                // Add the user to the answer if the user doesn't belong to the personal roster
-                // (since we have already added the user to the answer)
-                boolean isRosterItem = rosterItems.containsKey(jid.toBareJID());
-                if (!isRosterItem && !userJID.equals(jid)) {
-                    List<Group> groups = sharedGroupUsers.get(jid);
-                    if (groups == null) {
-                        groups = new ArrayList<>();
-                        sharedGroupUsers.put(jid, groups);
-                    }
-                    groups.add(group);
-                }
-            }
-        }
-        return sharedGroupUsers;
-    }
-
     private void broadcast(org.xmpp.packet.Roster roster) {
         JID recipient = server.createJID(username, null, true);
         roster.setTo(recipient);
@@ -747,61 +793,37 @@ public class Roster implements Cacheable, Externalizable {
         size += CacheSizes.sizeOfObject();                           // overhead of object
         size += CacheSizes.sizeOfCollection(rosterItems.values());   // roster item cache
         size += CacheSizes.sizeOfString(username);                   // username
-
-        // implicitFrom
-        for (Map.Entry<String, Set<String>> entry : implicitFrom.entrySet()) {
-            size += CacheSizes.sizeOfString(entry.getKey());
-            size += CacheSizes.sizeOfCollection(entry.getValue());
-        }
+        size += CacheSizes.sizeOfCollection(removedSharedContacts);  // removed shared contacts
 
         return size;
     }
 
     /**
-     * Update the roster since a group user has been added to a shared group. Create a new
-     * RosterItem if the there doesn't exist an item for the added user. The new RosterItem won't be
-     * saved to the backend store unless the user explicitly subscribes to the contact's presence,
-     * renames the contact in his roster or adds the item to a personal group. Otherwise the shared
-     * group will be added to the shared groups lists. In any case an update broadcast will be sent
-     * to all the users logged resources.
+     * Update the roster since a group user has been added to a shared group. If the roster keeps
+     * a RosterItem for the added user then the shared group will be added to the shared groups
+     * lists of the item. Otherwise the item exists only because of shared groups and is not kept
+     * in memory (see {@link #sharedContactChanged(JID, SharedRosterView, SharedRosterView)}).
+     * In any case an update broadcast will be sent to all the users logged resources.
      *
      * @param group     the shared group where the user was added.
      * @param addedUser the contact to update in the roster.
+     * @param before    the view of the shared groups before the user was added.
+     * @param after     the view of the shared groups after the user was added.
      */
-    void addSharedUser(Group group, JID addedUser) {
-        boolean newItem = false;
-        RosterItem item = null;
-        try {
-            // Get the RosterItem for the *local* user to add
-            item = getRosterItem(addedUser);
-            // Do nothing if the item already includes the shared group
-            if (item.getSharedGroups().contains(group)) {
-                return;
-            }
-            newItem = false;
-        } catch (UserNotFoundException e) {
-            try {
-                // Create a new RosterItem for this new user
-                String nickname = UserNameManager.getUserName(addedUser);
-                item =
-                        new RosterItem(addedUser, RosterItem.SUB_BOTH, RosterItem.ASK_NONE,
-                                RosterItem.RECV_NONE, nickname, null);
-                // Add the new item to the list of items
-                rosterItems.put(item.getJid().toBareJID(), item);
-                newItem = true;
-            } catch (UserNotFoundException ex) {
-                Log.error("Group (" + group.getName() + ") includes non-existent username (" +
-                        addedUser +
-                        ")");
-            }
+    void addSharedUser(Group group, JID addedUser, SharedRosterView before, SharedRosterView after) {
+        RosterItem item = rosterItems.get(addedUser.toBareJID());
+        if (item == null) {
+            sharedContactChanged(addedUser, before, after);
+            return;
         }
-
-        // If an item already exists then take note of the old subscription status
-        RosterItem.SubType prevSubscription = null;
-        if (!newItem) {
-            prevSubscription = item.getSubStatus();
+        // Do nothing if the item already includes the shared group
+        if (item.getSharedGroups().contains(group)) {
+            return;
         }
 
+        // Take note of the old subscription status
+        RosterItem.SubType prevSubscription = item.getSubStatus();
+
         // Update the subscription of the item **based on the item groups**
         Collection<Group> userGroups = GroupManager.getInstance().getGroups(getUserJID());
         Collection<Group> sharedGroups = new ArrayList<>();
@@ -828,44 +850,19 @@ public class Roster implements Cacheable, Externalizable {
             item.addInvisibleSharedGroup(group);
         }
 
-        // If the item already exists then check if the subscription status should be
-        // changed to BOTH based on the old and new subscription status
-        if (prevSubscription != null) {
-            if (prevSubscription == RosterItem.SUB_TO &&
-                    item.getSubStatus() == RosterItem.SUB_FROM) {
-                item.setSubStatus(RosterItem.SUB_BOTH);
-            } else if (prevSubscription == RosterItem.SUB_FROM &&
-                    item.getSubStatus() == RosterItem.SUB_TO) {
-                item.setSubStatus(RosterItem.SUB_BOTH);
-            }
+        // Check if the subscription status should be changed to BOTH based on the old and
+        // new subscription status
+        if (prevSubscription == RosterItem.SUB_TO &&
+                item.getSubStatus() == RosterItem.SUB_FROM) {
+            item.setSubStatus(RosterItem.SUB_BOTH);
+        } else if (prevSubscription == RosterItem.SUB_FROM &&
+                item.getSubStatus() == RosterItem.SUB_TO) {
+            item.setSubStatus(RosterItem.SUB_BOTH);
         }
 
-        // Optimization: Check if we do not need to keep the item in memory
-        if (item.isOnlyShared() && item.getSubStatus() == RosterItem.SUB_FROM) {
-            // Remove from memory and do nothing else
-            rosterItems.remove(item.getJid().toBareJID());
-            // Cache information about shared contacts with subscription status FROM
-            implicitFrom.put(item.getJid().toBareJID(), item.getInvisibleSharedGroupsNames());
-        } else {
-            // Remove from list of shared contacts with status FROM (if any)
-            implicitFrom.remove(item.getJid().toBareJID());
-            // Ensure that the item is an explicit roster item
-            rosterItems.put(item.getJid().toBareJID(), item);
-            // Brodcast to all the user resources of the updated roster item
-            broadcast(item, true);
-            // Probe the presence of the new group user
-            if (item.getSubStatus() == RosterItem.SUB_BOTH ||
-                    item.getSubStatus() == RosterItem.SUB_TO) {
-                probePresence(item.getJid());
-            }
-        }
-        if (newItem) {
-            // Fire event indicating that a roster item has been added
-            RosterEventDispatcher.contactAdded(this, item);
-        } else {
-            // Fire event indicating that a roster item has been updated
-            RosterEventDispatcher.contactUpdated(this, item);
-        }
+        keepOrBroadcast(item);
+        // Fire event indicating that a roster item has been updated
+        RosterEventDispatcher.contactUpdated(this, item);
     }
 
     /**
@@ -873,30 +870,19 @@ public class Roster implements Cacheable, Externalizable {
      * the contact's groups and this user's groups, the presence subscription of the roster item may
      * vary.
      *
-     * @param addedUser the new contact to add to the roster
-     * @param groups    the groups where the contact is a member
+     * @param addedUser  the new contact to add to the roster
+     * @param addedGroup the group where the contact or this user was added.
+     * @param before     the view of the shared groups before the user was added.
+     * @param after      the view of the shared groups after the user was added.
      */
-    void addSharedUser(JID addedUser, Collection<Group> groups, Group addedGroup) {
-        boolean newItem = false;
-        RosterItem item = null;
-        try {
-            // Get the RosterItem for the *local* user to add
-            item = getRosterItem(addedUser);
-            newItem = false;
-        } catch (UserNotFoundException e) {
-            try {
-                // Create a new RosterItem for this new user
-                String nickname = UserNameManager.getUserName(addedUser);
-                item =
-                        new RosterItem(addedUser, RosterItem.SUB_BOTH, RosterItem.ASK_NONE,
-                                RosterItem.RECV_NONE, nickname, null);
-                // Add the new item to the list of items
-                rosterItems.put(item.getJid().toBareJID(), item);
-                newItem = true;
-            } catch (UserNotFoundException ex) {
-                Log.error("Couldn't find a user with username (" + addedUser + ")");
-            }
+    void addSharedUser(JID addedUser, Group addedGroup, SharedRosterView before, SharedRosterView after) {
+        RosterItem item = rosterItems.get(addedUser.toBareJID());
+        if (item == null) {
+            sharedContactChanged(addedUser, before, after);
+            return;
         }
+        // Get the groups where the contact is a member
+        Collection<Group> groups = GroupManager.getInstance().getGroups(addedUser);
         // Update the subscription of the item **based on the item groups**
         Collection<Group> userGroups = GroupManager.getInstance().getGroups(getUserJID());
         // Set subscription type to BOTH if the roster user belongs to a shared group
@@ -920,11 +906,8 @@ public class Roster implements Cacheable, Externalizable {
                 }
             }
         } else {
-            // If an item already exists then take note of the old subscription status
-            RosterItem.SubType prevSubscription = null;
-            if (!newItem) {
-                prevSubscription = item.getSubStatus();
-            }
+            // Take note of the old subscription status
+            RosterItem.SubType prevSubscription = item.getSubStatus();
 
             // Assume by default that the contact has subscribed from the presence of
             // this user
@@ -941,29 +924,34 @@ public class Roster implements Cacheable, Externalizable {
                 item.addInvisibleSharedGroup(addedGroup);
             }
 
-            // If the item already exists then check if the subscription status should be
-            // changed to BOTH based on the old and new subscription status
-            if (prevSubscription != null) {
-                if (prevSubscription == RosterItem.SUB_TO &&
-                        item.getSubStatus() == RosterItem.SUB_FROM) {
-                    item.setSubStatus(RosterItem.SUB_BOTH);
-                } else if (prevSubscription == RosterItem.SUB_FROM &&
-                        item.getSubStatus() == RosterItem.SUB_TO) {
-                    item.setSubStatus(RosterItem.SUB_BOTH);
-                }
+            // Check if the subscription status should be changed to BOTH based on the old and
+            // new subscription status
+            if (prevSubscription == RosterItem.SUB_TO &&
+                    item.getSubStatus() == RosterItem.SUB_FROM) {
+                item.setSubStatus(RosterItem.SUB_BOTH);
+            } else if (prevSubscription == RosterItem.SUB_FROM &&
+                    item.getSubStatus() == RosterItem.SUB_TO) {
+                item.setSubStatus(RosterItem.SUB_BOTH);
             }
         }
+        keepOrBroadcast(item);
+        // Fire event indicating that a roster item has been updated
+        RosterEventDispatcher.contactUpdated(this, item);
+    }
+
+    /**
+     * Broadcasts a roster item whose shared groups have been updated, unless the item exists
+     * only because of shared groups with subscription status FROM, in which case the item is
+     * no longer kept in memory since the shared groups define it.
+     *
+     * @param item the updated roster item.
+     */
+    private void keepOrBroadcast(RosterItem item) {
         // Optimization: Check if we do not need to keep the item in memory
         if (item.isOnlyShared() && item.getSubStatus() == RosterItem.SUB_FROM) {
             // Remove from memory and do nothing else
             rosterItems.remove(item.getJid().toBareJID());
-            // Cache information about shared contacts with subscription status FROM
-            implicitFrom.put(item.getJid().toBareJID(), item.getInvisibleSharedGroupsNames());
         } else {
-            // Remove from list of shared contacts with status FROM (if any)
-            implicitFrom.remove(item.getJid().toBareJID());
-            // Ensure that the item is an explicit roster item
-            rosterItems.put(item.getJid().toBareJID(), item);
             // Brodcast to all the user resources of the updated roster item
             broadcast(item, true);
             // Probe the presence of the new group user
@@ -972,13 +960,6 @@ public class Roster implements Cacheable, Externalizable {
                 probePresence(item.getJid());
             }
         }
-        if (newItem) {
-            // Fire event indicating that a roster item has been added
-            RosterEventDispatcher.contactAdded(this, item);
-        } else {
-            // Fire event indicating that a roster item has been updated
-            RosterEventDispatcher.contactUpdated(this, item);
-        }
     }
 
     /**
@@ -990,11 +971,18 @@ public class Roster implements Cacheable, Externalizable {
      *
      * @param sharedGroup the shared group from where the user was deleted.
      * @param deletedUser the contact to update in the roster.
+     * @param before      the view of the shared groups before the user was deleted.
+     * @param after       the view of the shared groups after the user was deleted.
      */
-    void deleteSharedUser(Group sharedGroup, JID deletedUser) {
+    void deleteSharedUser(Group sharedGroup, JID deletedUser, SharedRosterView before,
+            SharedRosterView after) {
+        // Get the RosterItem for the *local* user to remove
+        RosterItem item = rosterItems.get(deletedUser.toBareJID());
+        if (item == null) {
+            sharedContactChanged(deletedUser, before, after);
+            return;
+        }
         try {
-            // Get the RosterItem for the *local* user to remove
-            RosterItem item = getRosterItem(deletedUser);
             int groupSize = item.getSharedGroups().size() + item.getInvisibleSharedGroups().size();
             if (item.isOnlyShared() && groupSize == 1) {
                 // Do nothing if the existing shared group is not the sharedGroup to remove
@@ -1029,22 +1017,25 @@ public class Roster implements Cacheable, Externalizable {
                     RosterEventDispatcher.contactUpdated(this, item);
                 } else {
                     // Fire event indicating that a roster item has been removed
-                    RosterEventDispatcher.contactDeleted(this, item);                	
+                    RosterEventDispatcher.contactDeleted(this, item);
                 }
                 // Brodcast to all the user resources of the updated roster item
                 broadcast(item, false);
             }
         } catch (SharedGroupException e) {
             // Do nothing. Checkings are disabled so this exception should never happen.
-        } catch (UserNotFoundException e) {
-            // Do nothing since the contact does not exist in the user's roster. (strange case!)
         }
     }
 
-    void deleteSharedUser(JID deletedUser, Group deletedGroup) {
+    void deleteSharedUser(JID deletedUser, Group deletedGroup, SharedRosterView before,
+            SharedRosterView after) {
+        // Get the RosterItem for the *local* user to remove
+        RosterItem item = rosterItems.get(deletedUser.toBareJID());
+        if (item == null) {
+            sharedContactChanged(deletedUser, before, after);
+            return;
+        }
         try {
-            // Get the RosterItem for the *local* user to remove
-            RosterItem item = getRosterItem(deletedUser);
             int groupSize = item.getSharedGroups().size() + item.getInvisibleSharedGroups().size();
             if (item.isOnlyShared() && groupSize == 1 &&
                     // Do not delete the item if deletedUser belongs to a public group since the
@@ -1102,8 +1093,65 @@ public class Roster implements Cacheable, Externalizable {
             }
         } catch (SharedGroupException e) {
             // Do nothing. Checkings are disabled so this exception should never happen.
-        } catch (UserNotFoundException e) {
-            // Do nothing since the contact does not exist in the user's roster. (strange case!)
+        }
+    }
+
+    /**
+     * Updates the roster since the shared groups of a contact that is not kept in memory have
+     * changed, that is a contact that exists only because of shared groups or that did not exist
+     * in the roster. The roster items that the views of the shared groups define before and
+     * after the change are compared, and the difference is broadcast to all the user resources.
+     *
+     * @param contact the contact whose shared groups have changed.
+     * @param before  the view of the shared groups before the change.
+     * @param after   the view of the shared groups after the change.
+     */
+    private void sharedContactChanged(JID contact, SharedRosterView before, SharedRosterView after) {
+        JID userJID = getUserJID();
+        RosterItem previous =
+                getSharedRosterItem(before, userJID, before.getSharedGroups(userJID), contact);
+        RosterItem item =
+                getSharedRosterItem(after, userJID, after.getSharedGroups(userJID), contact);
+        if (removedSharedContacts.contains(contact.toBareJID())) {
+            if (item == null) {
+                // The shared groups no longer add the removed contact to the roster
+                removedSharedContacts.remove(contact.toBareJID());
+            }
+            if (previous != null || item == null) {
+                // The user removed the contact and the shared groups do not add it again
+                return;
+            }
+            removedSharedContacts.remove(contact.toBareJID());
+        }
+        if (item == null) {
+            if (previous != null) {
+                // The contact no longer exists in the roster
+                removeSharedContact(previous);
+            }
+        } else if (previous == null) {
+            if (item.getSubStatus() != RosterItem.SUB_FROM) {
+                // Brodcast to all the user resources of the new roster item
+                broadcast(item, true);
+                // Probe the presence of the new group user
+                probePresence(item.getJid());
+            }
+            // Fire event indicating that a roster item has been added
+            RosterEventDispatcher.contactAdded(this, item);
+        } else if (previous.getSubStatus() != item.getSubStatus() ||
+                !previous.getSharedGroupsNames().equals(item.getSharedGroupsNames()) ||
+                !previous.getInvisibleSharedGroupsNames().equals(item.getInvisibleSharedGroupsNames())) {
+            // Brodcast to all the user resources of the updated roster item. Items with status
+            // FROM are also sent if the user could see the contact before the change
+            broadcast(item, previous.getSubStatus() == RosterItem.SUB_FROM);
+            // Probe the presence of the contact if the user can now see it
+            if (previous.getSubStatus() == RosterItem.SUB_FROM) {
+                if (item.getSubStatus() == RosterItem.SUB_BOTH ||
+                        item.getSubStatus() == RosterItem.SUB_TO) {
+                    probePresence(item.getJid());
+                }
+            }
+            // Fire event indicating that a roster item has been updated
+            RosterEventDispatcher.contactUpdated(this, item);
         }
     }
 
@@ -1139,7 +1187,7 @@ public class Roster implements Cacheable, Externalizable {
     public void writeExternal(ObjectOutput out) throws IOException {
         ExternalizableUtil.getInstance().writeSafeUTF(out, username);
         ExternalizableUtil.getInstance().writeExternalizableMap(out, rosterItems);
-        ExternalizableUtil.getInstance().writeStringsMap(out, implicitFrom);
+        ExternalizableUtil.getInstance().writeStrings(out, removedSharedContacts);
     }
 
     @Override
@@ -1152,6 +1200,6 @@ public class Roster implements Cacheable, Externalizable {
 
         username = ExternalizableUtil.getInstance().readSafeUTF(in);
         ExternalizableUtil.getInstance().readExternalizableMap(in, rosterItems, getClass().getClassLoader());
-        ExternalizableUtil.getInstance().readStringsMap(in, implicitFrom);
+        ExternalizableUtil.getInstance().readStrings(in, removedSharedContacts);
     }
 }
@@ -507,6 +507,14 @@ public class RosterItem implements Cacheable, Externalizable {
         return groups;
     }
 
+    Set<String> getSharedGroupsNames() {
+        return sharedGroups;
+    }
+
+    void setSharedGroupsNames(Set<String> groupsNames) {
+        sharedGroups = groupsNames;
+    }
+
     Set<String> getInvisibleSharedGroupsNames() {
         return invisibleSharedGroups;
     }
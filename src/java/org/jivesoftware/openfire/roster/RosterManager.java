@@ -46,6 +46,7 @@ import org.xmpp.packet.JID;
 import org.xmpp.packet.Presence;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A simple service that allows components to retrieve a roster based solely on the ID
@@ -66,6 +67,16 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
     private XMPPServer server;
     private RoutingTable routingTable;
     private RosterItemProvider provider;
+    /**
+     * The view of the shared groups that rosters resolve their shared contacts from, or
+     * <tt>null</tt> if it has to be loaded.
+     */
+    private volatile SharedRosterView sharedRosterView;
+    /**
+     * The usernames of the local users, that public shared groups add to the rosters of their
+     * users, or <tt>null</tt> if they have not been loaded.
+     */
+    private volatile Set<String> usernames;
 
     /**
      * Returns true if the roster service is enabled. When disabled it is not possible to
@@ -252,7 +263,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
      * @return a collection of Groups obtained by parsing a comma delimited String with the name
      *         of groups.
      */
-    private static Collection<String> parseGroupNames(String groupNames) {
+    static Collection<String> parseGroupNames(String groupNames) {
         Collection<String> answer = new HashSet<>();
         if (groupNames != null) {
             StringTokenizer tokenizer = new StringTokenizer(groupNames, ",");
@@ -263,6 +274,149 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         return answer;
     }
 
+    /**
+     * Returns the view of the shared groups that rosters resolve the contacts that they have
+     * because of shared groups from. The view is loaded the first time that it is needed and
+     * replaced each time that a group or user event changes the shared groups.
+     *
+     * @return the view of the shared groups.
+     */
+    SharedRosterView getSharedRosterView() {
+        SharedRosterView view = sharedRosterView;
+        if (view == null) {
+            synchronized (this) {
+                view = sharedRosterView;
+                if (view == null) {
+                    view = new SharedRosterView(XMPPServer.getInstance().getServerInfo().getXMPPDomain(),
+                            Collections.<SharedRosterView.SharedGroup>emptyList(), null);
+                    for (Group group : GroupManager.getInstance().getSharedGroups()) {
+                        view = withGroup(view, new SharedRosterView.SharedGroup(group));
+                    }
+                    sharedRosterView = view;
+                }
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Replaces the view of the shared groups with one that includes the current state of the
+     * given group, and tells the other cluster nodes to load their view again.
+     *
+     * @param group the group that was modified.
+     * @return the new view of the shared groups.
+     */
+    private synchronized SharedRosterView updateSharedRosterView(Group group) {
+        SharedRosterView current = getSharedRosterView();
+        SharedRosterView view = withGroup(current, new SharedRosterView.SharedGroup(group));
+        if (view != current) {
+            setSharedRosterView(view);
+        }
+        return view;
+    }
+
+    /**
+     * Replaces the view of the shared groups with one where users were added to or removed from
+     * the given group. Only the changed users are applied to the group of the current view,
+     * instead of taking a new snapshot of all the users of the group.
+     *
+     * @param group the group that was modified.
+     * @param users the bare JIDs of the users that were added or removed.
+     * @param isUser true if the users were added to the group.
+     * @return the new view of the shared groups.
+     */
+    private synchronized SharedRosterView updateSharedRosterView(Group group, Collection<JID> users,
+            boolean isUser) {
+        SharedRosterView current = getSharedRosterView();
+        SharedRosterView view = current.withGroupUsers(group.getName(), users, isUser);
+        if (view != current) {
+            setSharedRosterView(view);
+        }
+        return view;
+    }
+
+    private void setSharedRosterView(SharedRosterView view) {
+        sharedRosterView = view;
+        CacheFactory.doClusterTask(SharedRosterViewTask.createInvalidateTask());
+    }
+
+    /**
+     * Discards the view of the shared groups of this cluster node, so that it is loaded again
+     * the next time that it is needed.
+     */
+    void invalidateSharedRosterView() {
+        sharedRosterView = null;
+    }
+
+    /**
+     * Adds or removes a username from the usernames of the local users, if they have been
+     * loaded. The usernames are shared by all the views of the shared groups.
+     *
+     * @param username the username of the created or deleted user.
+     * @param exists true if the user was created.
+     */
+    void updateUsername(String username, boolean exists) {
+        Set<String> names = usernames;
+        if (names != null) {
+            if (exists) {
+                names.add(username);
+            }
+            else {
+                names.remove(username);
+            }
+        }
+    }
+
+    private Set<String> getUsernames() {
+        Set<String> names = usernames;
+        if (names == null) {
+            synchronized (this) {
+                names = usernames;
+                if (names == null) {
+                    names = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                    names.addAll(UserManager.getInstance().getUsernames());
+                    usernames = names;
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns a view that includes the given group if it is shown in rosters or if a shared
+     * group is shown to its users, together with the groups that the group is shown to.
+     */
+    private SharedRosterView withGroup(SharedRosterView view, SharedRosterView.SharedGroup group) {
+        if (!group.isShared() && !isListedGroup(view, group.getName())) {
+            return view.withoutGroup(group.getName());
+        }
+        view = view.withGroup(group);
+        for (String groupName : group.getGroupList()) {
+            if (view.getGroup(groupName) == null) {
+                try {
+                    view = view.withGroup(new SharedRosterView.SharedGroup(
+                            GroupManager.getInstance().getGroup(groupName)));
+                }
+                catch (GroupNotFoundException e) {
+                    // Do nothing. Silently ignore the invalid reference to the group
+                }
+            }
+        }
+        if (view.getUsernames() == null && view.hasPublicGroups()) {
+            view = view.withUsernames(getUsernames());
+        }
+        return view;
+    }
+
+    private static boolean isListedGroup(SharedRosterView view, String groupName) {
+        for (SharedRosterView.SharedGroup group : view.getGroups()) {
+            if (group.isShared() && group.getGroupList().contains(groupName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void groupCreated(Group group, Map params) {
         //Do nothing
@@ -270,6 +424,9 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
 
     @Override
     public void groupDeleting(Group group, Map params) {
+        SharedRosterView before = getSharedRosterView();
+        SharedRosterView after = before.withoutGroup(group.getName());
+        setSharedRosterView(after);
         // Get group members
         Collection<JID> users = new HashSet<>(group.getMembers());
         users.addAll(group.getAdmins());
@@ -277,22 +434,32 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         Collection<JID> affectedUsers = getAffectedUsers(group);
         // Iterate on group members and update rosters of affected users
         for (JID deletedUser : users) {
-            groupUserDeleted(group, affectedUsers, deletedUser);
+            groupUserDeleted(group, affectedUsers, deletedUser, before, after);
+            // Both rosters of each pair of group users were updated
+            affectedUsers.remove(deletedUser);
         }
     }
 
     @Override
     public void groupModified(Group group, Map params) {
+        String type = (String) params.get("type");
+        if ("nameModified".equals(type)) {
+            // The view of the shared groups refers to the groups by name so load it again
+            setSharedRosterView(null);
+            return;
+        }
         // Do nothing if no group property has been modified
-        if ("propertyDeleted".equals(params.get("type"))) {
-             return;
+        if ("propertyDeleted".equals(type)) {
+            updateSharedRosterView(group);
+            return;
         }
         String keyChanged = (String) params.get("propertyKey");
         String originalValue = (String) params.get("originalValue");
 
 
-        if ("sharedRoster.showInRoster".equals(keyChanged)) {
-            String currentValue = group.getProperties().get("sharedRoster.showInRoster");
+        if ("sharedRoster.showInRoster".equals(keyChanged) ||
+                "sharedRoster.groupList".equals(keyChanged)) {
+            String currentValue = group.getProperties().get(keyChanged);
             // Nothing has changed so do nothing.
             if (currentValue.equals(originalValue)) {
                 return;
@@ -300,41 +467,41 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
             // Get the users of the group
             Collection<JID> users = new HashSet<>(group.getMembers());
             users.addAll(group.getAdmins());
-            // Get the users whose roster will be affected
-            Collection<JID> affectedUsers = getAffectedUsers(group, originalValue,
-                    group.getProperties().get("sharedRoster.groupList"));
-            // Remove the group members from the affected rosters
-            for (JID deletedUser : users) {
-                groupUserDeleted(group, affectedUsers, deletedUser);
-            }
-
-            // Simulate that the group users has been added to the group. This will cause to push
-            // roster items to the "affected" users for the group users
-            for (JID user : users) {
-                groupUserAdded(group, user);
+            // Get the views of the shared groups before the change, while the group is not shown
+            // in any roster and after the change
+            SharedRosterView view = getSharedRosterView();
+            Map<String, String> properties = new HashMap<>(group.getProperties());
+            if (originalValue == null) {
+                properties.remove(keyChanged);
             }
-        }
-        else if ("sharedRoster.groupList".equals(keyChanged)) {
-            String currentValue = group.getProperties().get("sharedRoster.groupList");
-            // Nothing has changed so do nothing.
-            if (currentValue.equals(originalValue)) {
-                return;
+            else {
+                properties.put(keyChanged, originalValue);
             }
-            // Get the users of the group
-            Collection<JID> users = new HashSet<>(group.getMembers());
-            users.addAll(group.getAdmins());
+            String showInRoster = properties.get("sharedRoster.showInRoster");
+            String groupNames = properties.get("sharedRoster.groupList");
+            SharedRosterView before =
+                    withGroup(view, new SharedRosterView.SharedGroup(group.getName(), properties, users));
+            properties.put("sharedRoster.showInRoster", "nobody");
+            SharedRosterView hidden =
+                    withGroup(view, new SharedRosterView.SharedGroup(group.getName(), properties, users));
+            SharedRosterView after = withGroup(view, new SharedRosterView.SharedGroup(group));
+
             // Get the users whose roster will be affected
-            Collection<JID> affectedUsers = getAffectedUsers(group,
-                    group.getProperties().get("sharedRoster.showInRoster"), originalValue);
+            Collection<JID> affectedUsers = getAffectedUsers(group, showInRoster, groupNames);
             // Remove the group members from the affected rosters
+            setSharedRosterView(hidden);
             for (JID deletedUser : users) {
-                groupUserDeleted(group, affectedUsers, deletedUser);
+                groupUserDeleted(group, affectedUsers, deletedUser, before, hidden);
+                affectedUsers.remove(deletedUser);
             }
 
             // Simulate that the group users has been added to the group. This will cause to push
             // roster items to the "affected" users for the group users
+            setSharedRosterView(after);
+            affectedUsers = getAffectedUsers(group);
             for (JID user : users) {
-                groupUserAdded(group, user);
+                groupUserAdded(group, affectedUsers, user, hidden, after);
+                affectedUsers.remove(user);
             }
         }
         else if ("sharedRoster.displayName".equals(keyChanged)) {
@@ -343,12 +510,15 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
             if (currentValue.equals(originalValue)) {
                 return;
             }
+            updateSharedRosterView(group);
             // Do nothing if the group is not being shown in users' rosters
             if (!isSharedGroup(group)) {
                 return;
             }
             // Get all the affected users
             Collection<JID> users = getAffectedUsers(group);
+            // The contacts whose roster items show the group
+            Collection<JID> groupUsers = group.getAll();
             // Iterate on all the affected users and update their rosters
             for (JID updatedUser : users) {
                 // Get the roster to update.
@@ -358,7 +528,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
                 }
                 if (roster != null) {
                     // Update the roster with the new group display name
-                    roster.shareGroupRenamed(users);
+                    roster.shareGroupRenamed(groupUsers);
                 }
             }
         }
@@ -442,17 +612,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         if (group.getAdmins().contains(addedUser)) {
             return;
         }
-        if (!isSharedGroup(group)) {
-            for (Group visibleGroup : getVisibleGroups(group)) {
-                // Get the list of affected users
-                Collection<JID> users = new HashSet<>(visibleGroup.getMembers());
-                users.addAll(visibleGroup.getAdmins());
-                groupUserAdded(visibleGroup, users, addedUser);
-            }
-        }
-        else {
-            groupUserAdded(group, addedUser);
-        }
+        groupUserAdded(group, addedUser);
     }
 
     @Override
@@ -466,17 +626,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         if (group.getAdmins().contains(deletedUser)) {
             return;
         }
-        if (!isSharedGroup(group)) {
-            for (Group visibleGroup : getVisibleGroups(group)) {
-                // Get the list of affected users
-                Collection<JID> users = new HashSet<>(visibleGroup.getMembers());
-                users.addAll(visibleGroup.getAdmins());
-                groupUserDeleted(visibleGroup, users, deletedUser);
-            }
-        }
-        else {
-            groupUserDeleted(group, deletedUser);
-        }
+        groupUserDeleted(group, deletedUser);
     }
 
     @Override
@@ -486,17 +636,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         if (group.getMembers().contains(addedUser)) {
             return;
         }
-        if (!isSharedGroup(group)) {
-            for (Group visibleGroup : getVisibleGroups(group)) {
-                // Get the list of affected users
-                Collection<JID> users = new HashSet<>(visibleGroup.getMembers());
-                users.addAll(visibleGroup.getAdmins());
-                groupUserAdded(visibleGroup, users, addedUser);
-            }
-        }
-        else {
-            groupUserAdded(group, addedUser);
-        }
+        groupUserAdded(group, addedUser);
     }
 
     @Override
@@ -506,18 +646,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         if (group.getMembers().contains(deletedUser)) {
             return;
         }
-        // Do nothing if the group is not being shown in group members' rosters
-        if (!isSharedGroup(group)) {
-            for (Group visibleGroup : getVisibleGroups(group)) {
-                // Get the list of affected users
-                Collection<JID> users = new HashSet<>(visibleGroup.getMembers());
-                users.addAll(visibleGroup.getAdmins());
-                groupUserDeleted(visibleGroup, users, deletedUser);
-            }
-        }
-        else {
-            groupUserDeleted(group, deletedUser);
-        }
+        groupUserDeleted(group, deletedUser);
     }
 
     /**
@@ -531,6 +660,10 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
     @Override
     public void userCreated(User newUser, Map<String,Object> params) {
         JID newUserJID = server.createJID(newUser.getUsername(), null);
+        updateUsername(newUser.getUsername(), true);
+        CacheFactory.doClusterTask(SharedRosterViewTask.createUserTask(newUser.getUsername(), true));
+        SharedRosterView after = getSharedRosterView();
+        SharedRosterView before = after.withUsername(newUser.getUsername(), false);
         // Shared public groups that are public should have a presence subscription
         // of type FROM for the new user
         for (Group group : getPublicSharedGroups()) {
@@ -542,18 +675,15 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
                 // Get the roster to update
                 Roster roster = null;
                 if (server.isLocal(userToUpdate)) {
+                    roster = rosterCache.get(userToUpdate.getNode());
                     // Check that the user exists, if not then continue with the next user
-                    try {
-                        UserManager.getInstance().getUser(userToUpdate.getNode());
-                    }
-                    catch (UserNotFoundException e) {
+                    if (roster != null && !isExistingUser(userToUpdate)) {
                         continue;
                     }
-                    roster = rosterCache.get(userToUpdate.getNode());
                 }
                 // Only update rosters in memory
                 if (roster != null) {
-                    roster.addSharedUser(group, newUserJID);
+                    roster.addSharedUser(group, newUserJID, before, after);
                 }
                 if (!server.isLocal(userToUpdate)) {
                     // Susbcribe to the presence of the remote user. This is only necessary for
@@ -570,6 +700,9 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         // Shared public groups that have a presence subscription of type FROM
         // for the deleted user should no longer have a reference to the deleted user
         JID userJID = server.createJID(user.getUsername(), null);
+        SharedRosterView view = getSharedRosterView();
+        SharedRosterView before = view.withUsername(user.getUsername(), true);
+        SharedRosterView after = view.withUsername(user.getUsername(), false);
         // Shared public groups that are public should have a presence subscription
         // of type FROM for the new user
         for (Group group : getPublicSharedGroups()) {
@@ -581,18 +714,15 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
                 // Get the roster to update
                 Roster roster = null;
                 if (server.isLocal(userToUpdate)) {
+                    roster = rosterCache.get(userToUpdate.getNode());
                     // Check that the user exists, if not then continue with the next user
-                    try {
-                        UserManager.getInstance().getUser(userToUpdate.getNode());
-                    }
-                    catch (UserNotFoundException e) {
+                    if (roster != null && !isExistingUser(userToUpdate)) {
                         continue;
                     }
-                    roster = rosterCache.get(userToUpdate.getNode());
                 }
                 // Only update rosters in memory
                 if (roster != null) {
-                    roster.deleteSharedUser(group, userJID);
+                    roster.deleteSharedUser(group, userJID, before, after);
                 }
                 if (!server.isLocal(userToUpdate)) {
                     // Unsusbcribe from the presence of the remote user. This is only necessary for
@@ -603,33 +733,41 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
             }
         }
 
+        updateUsername(user.getUsername(), false);
+        CacheFactory.doClusterTask(SharedRosterViewTask.createUserTask(user.getUsername(), false));
+
         deleteRoster(userJID);
     }
 
     @Override
     public void userModified(User user, Map<String,Object> params) {
-        if ("nameModified".equals(params.get("type"))) {
-
-            for (Group group : getSharedGroups(user.getUsername())) {
-                ArrayList<JID> groupUsers = new ArrayList<>();
-                groupUsers.addAll(group.getAdmins());
-                groupUsers.addAll(group.getMembers());
-
-                for (JID groupUser : groupUsers) {
-                    rosterCache.remove(groupUser.getNode());
-                }
-            }
-        }
+        // Do nothing. The nicknames of the contacts that rosters have because of shared groups
+        // are looked up each time that the rosters are read.
     }
 
     /**
      * Notification that a Group user has been added. Update the group users' roster accordingly.
+     * If the group is not shown in rosters then the users of the shared groups that are shown to
+     * the users of the group are updated.
      *
      * @param group the group where the user was added.
      * @param addedUser the username of the user that has been added to the group.
      */
     private void groupUserAdded(Group group, JID addedUser) {
-        groupUserAdded(group, getAffectedUsers(group), addedUser);
+        SharedRosterView after =
+                updateSharedRosterView(group, Collections.singleton(addedUser.asBareJID()), true);
+        SharedRosterView before = after.withGroupUser(group.getName(), addedUser.asBareJID(), false);
+        if (!isSharedGroup(group)) {
+            for (Group visibleGroup : getVisibleGroups(after, group)) {
+                // Get the list of affected users
+                Collection<JID> users = new HashSet<>(visibleGroup.getMembers());
+                users.addAll(visibleGroup.getAdmins());
+                groupUserAdded(visibleGroup, users, addedUser, before, after);
+            }
+        }
+        else {
+            groupUserAdded(group, getAffectedUsers(group), addedUser, before, after);
+        }
     }
 
     /**
@@ -638,8 +776,11 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
      * @param group the group where the user was added.
      * @param users the users to update their rosters
      * @param addedUser the username of the user that has been added to the group.
+     * @param before the view of the shared groups before the user was added.
+     * @param after the view of the shared groups after the user was added.
      */
-    private void groupUserAdded(Group group, Collection<JID> users, JID addedUser) {
+    private void groupUserAdded(Group group, Collection<JID> users, JID addedUser,
+            SharedRosterView before, SharedRosterView after) {
         // Get the roster of the added user.
         Roster addedUserRoster = null;
         if (server.isLocal(addedUser)) {
@@ -652,18 +793,15 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
                 // Get the roster to update
                 Roster roster = null;
                 if (server.isLocal(userToUpdate)) {
+                    roster = rosterCache.get(userToUpdate.getNode());
                     // Check that the user exists, if not then continue with the next user
-                    try {
-                        UserManager.getInstance().getUser(userToUpdate.getNode());
-                    }
-                    catch (UserNotFoundException e) {
+                    if (roster != null && !isExistingUser(userToUpdate)) {
                         continue;
                     }
-                    roster = rosterCache.get(userToUpdate.getNode());
                 }
                 // Only update rosters in memory
                 if (roster != null) {
-                    roster.addSharedUser(group, addedUser);
+                    roster.addSharedUser(group, addedUser, before, after);
                 }
                 // Check if the roster is still not in memory
                 if (addedUserRoster == null && server.isLocal(addedUser)) {
@@ -672,8 +810,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
                 }
                 // Update the roster of the newly added group user.
                 if (addedUserRoster != null) {
-                    Collection<Group> groups = GroupManager.getInstance().getGroups(userToUpdate);
-                    addedUserRoster.addSharedUser(userToUpdate, groups, group);
+                    addedUserRoster.addSharedUser(userToUpdate, group, before, after);
                 }
                 if (!server.isLocal(addedUser)) {
                     // Susbcribe to the presence of the remote user. This is only necessary for
@@ -693,12 +830,27 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
 
     /**
      * Notification that a Group user has been deleted. Update the group users' roster accordingly.
+     * If the group is not shown in rosters then the users of the shared groups that are shown to
+     * the users of the group are updated.
      *
      * @param group the group from where the user was deleted.
      * @param deletedUser the username of the user that has been deleted from the group.
      */
     private void groupUserDeleted(Group group, JID deletedUser) {
-        groupUserDeleted(group, getAffectedUsers(group), deletedUser);
+        SharedRosterView after =
+                updateSharedRosterView(group, Collections.singleton(deletedUser.asBareJID()), false);
+        SharedRosterView before = after.withGroupUser(group.getName(), deletedUser.asBareJID(), true);
+        if (!isSharedGroup(group)) {
+            for (Group visibleGroup : getVisibleGroups(after, group)) {
+                // Get the list of affected users
+                Collection<JID> users = new HashSet<>(visibleGroup.getMembers());
+                users.addAll(visibleGroup.getAdmins());
+                groupUserDeleted(visibleGroup, users, deletedUser, before, after);
+            }
+        }
+        else {
+            groupUserDeleted(group, getAffectedUsers(group), deletedUser, before, after);
+        }
     }
 
     /**
@@ -707,8 +859,11 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
      * @param group the group from where the user was deleted.
      * @param users the users to update their rosters
      * @param deletedUser the username of the user that has been deleted from the group.
+     * @param before the view of the shared groups before the user was deleted.
+     * @param after the view of the shared groups after the user was deleted.
      */
-    private void groupUserDeleted(Group group, Collection<JID> users, JID deletedUser) {
+    private void groupUserDeleted(Group group, Collection<JID> users, JID deletedUser,
+            SharedRosterView before, SharedRosterView after) {
         // Get the roster of the deleted user.
         Roster deletedUserRoster = null;
         if (server.isLocal(deletedUser)) {
@@ -720,18 +875,15 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
             // Get the roster to update
             Roster roster = null;
             if (server.isLocal(userToUpdate)) {
+                roster = rosterCache.get(userToUpdate.getNode());
                 // Check that the user exists, if not then continue with the next user
-                try {
-                    UserManager.getInstance().getUser(userToUpdate.getNode());
-                }
-                catch (UserNotFoundException e) {
+                if (roster != null && !isExistingUser(userToUpdate)) {
                     continue;
                 }
-                roster = rosterCache.get(userToUpdate.getNode());
             }
             // Only update rosters in memory
             if (roster != null) {
-                roster.deleteSharedUser(group, deletedUser);
+                roster.deleteSharedUser(group, deletedUser, before, after);
             }
             // Check if the roster is still not in memory
             if (deletedUserRoster == null && server.isLocal(deletedUser)) {
@@ -740,7 +892,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
             }
             // Update the roster of the newly deleted group user.
             if (deletedUserRoster != null) {
-                deletedUserRoster.deleteSharedUser(userToUpdate, group);
+                deletedUserRoster.deleteSharedUser(userToUpdate, group, before, after);
             }
             if (!server.isLocal(deletedUser)) {
                 // Unsusbcribe from the presence of the remote user. This is only necessary for
@@ -757,6 +909,16 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         }
     }
 
+    private static boolean isExistingUser(JID user) {
+        try {
+            UserManager.getInstance().getUser(user.getNode());
+            return true;
+        }
+        catch (UserNotFoundException e) {
+            return false;
+        }
+    }
+
     private void sendSubscribeRequest(JID sender, JID recipient, boolean isSubscribe) {
         Presence presence = new Presence();
         presence.setFrom(sender);
@@ -770,8 +932,17 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         routingTable.routePacket(recipient, presence, false);
     }
 
-    private Collection<Group> getVisibleGroups(Group groupToCheck) {
-    	return GroupManager.getInstance().getVisibleGroups(groupToCheck);
+    private Collection<Group> getVisibleGroups(SharedRosterView view, Group groupToCheck) {
+        Collection<Group> answer = new ArrayList<>();
+        for (String groupName : view.getVisibleGroupNames(groupToCheck.getName())) {
+            try {
+                answer.add(GroupManager.getInstance().getGroup(groupName));
+            }
+            catch (GroupNotFoundException e) {
+                // Do nothing. The group was deleted
+            }
+        }
+        return answer;
     }
 
     /**
@@ -836,7 +1007,7 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         // Check if anyone can see this shared group
         if ("everybody".equals(showInRoster)) {
             // Add all users in the system
-            for (String username : UserManager.getInstance().getUsernames()) {
+            for (String username : getUsernames()) {
                 users.add(server.createJID(username, null, true));
             }
             // Add all logged users. We don't need to add all users in the system since only the
@@ -854,41 +1025,6 @@ public class RosterManager extends BasicModule implements GroupEventListener, Us
         return users;
     }
 
-    Collection<JID> getSharedUsersForRoster(Group group, Roster roster) {
-        String showInRoster = group.getProperties().get("sharedRoster.showInRoster");
-        String groupNames = group.getProperties().get("sharedRoster.groupList");
-
-        // Answer an empty collection if the group is not being shown in users' rosters
-        if (!"onlyGroup".equals(showInRoster) && !"everybody".equals(showInRoster)) {
-            return new ArrayList<>();
-        }
-
-        // Add the users of the group
-        Collection<JID> users = new HashSet<>(group.getMembers());
-        users.addAll(group.getAdmins());
-
-        // If the user of the roster belongs to the shared group then we should return
-        // users that need to be in the roster with subscription "from"
-        if (group.isUser(roster.getUsername())) {
-            // Check if anyone can see this shared group
-            if ("everybody".equals(showInRoster)) {
-                // Add all users in the system
-                for (String username : UserManager.getInstance().getUsernames()) {
-                    users.add(server.createJID(username, null, true));
-                }
-            }
-            else {
-                // Add the users that may see the group
-                Collection<Group> groupList = parseGroups(groupNames);
-                for (Group groupInList : groupList) {
-                    users.addAll(groupInList.getMembers());
-                    users.addAll(groupInList.getAdmins());
-                }
-            }
-        }
-        return users;
-    }
-
     /**
      * Returns true if a group in the first collection may mutually see a group of the
      * second collection. More precisely, return true if both collections contain a public
@@ -0,0 +1,689 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.roster;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jivesoftware.openfire.group.Group;
+import org.xmpp.packet.JID;
+
+/**
+ * A view of the shared groups that are shown in the rosters of the users, and of the groups
+ * that they are shown to. Rosters do not keep a roster item for each contact that they have
+ * only because of shared groups. Instead, they resolve those contacts from the view when the
+ * roster is read or pushed, so that the members of a shared group are held once for all the
+ * rosters instead of once per roster.<p>
+ *
+ * The groups of a view are snapshots that are never modified. The {@link RosterManager}
+ * replaces the view when a group changes, with a new view that shares the groups that did
+ * not change. The usernames of the local users, to whom public shared groups are shown, are
+ * shared by all the views and kept up to date by the roster manager.
+ */
+final class SharedRosterView {
+
+    private final String domain;
+    /**
+     * The shared groups and the groups that they are shown to, by name.
+     */
+    private final Map<String, SharedGroup> groups;
+    /**
+     * The groups that are shown in rosters.
+     */
+    private final List<SharedGroup> sharedGroups;
+    /**
+     * The usernames of the local users or <tt>null</tt> if there are no public shared groups.
+     */
+    private final Set<String> usernames;
+    /**
+     * A username whose presence in the usernames is overridden by this view, or <tt>null</tt>.
+     */
+    private final String changedUsername;
+    private final boolean changedUsernameExists;
+
+    /**
+     * Creates a view of the given groups.
+     *
+     * @param domain the XMPP domain of the server.
+     * @param groups the shared groups and the groups that they are shown to.
+     * @param usernames the usernames of the local users, or <tt>null</tt> if there are no public
+     *        shared groups.
+     */
+    SharedRosterView(String domain, Collection<SharedGroup> groups, Set<String> usernames) {
+        this(domain, toMap(groups), usernames, null, false);
+    }
+
+    private SharedRosterView(String domain, Map<String, SharedGroup> groups, Set<String> usernames,
+            String changedUsername, boolean changedUsernameExists) {
+        this.domain = domain;
+        this.groups = groups;
+        List<SharedGroup> shared = new ArrayList<>();
+        for (SharedGroup group : groups.values()) {
+            if (group.isShared()) {
+                shared.add(group);
+            }
+        }
+        this.sharedGroups = Collections.unmodifiableList(shared);
+        this.usernames = usernames;
+        this.changedUsername = changedUsername;
+        this.changedUsernameExists = changedUsernameExists;
+    }
+
+    private static Map<String, SharedGroup> toMap(Collection<SharedGroup> groups) {
+        Map<String, SharedGroup> map = new HashMap<>();
+        for (SharedGroup group : groups) {
+            map.put(group.getName(), group);
+        }
+        return map;
+    }
+
+    /**
+     * Returns a view where the given group replaces the group of the same name, if any.
+     *
+     * @param group the group to add to the view.
+     * @return a view that includes the group.
+     */
+    SharedRosterView withGroup(SharedGroup group) {
+        Map<String, SharedGroup> map = new HashMap<>(groups);
+        map.put(group.getName(), group);
+        return new SharedRosterView(domain, map, usernames, changedUsername, changedUsernameExists);
+    }
+
+    /**
+     * Returns a view without the group of the given name.
+     *
+     * @param name the name of the group to remove from the view.
+     * @return a view that does not include the group.
+     */
+    SharedRosterView withoutGroup(String name) {
+        if (!groups.containsKey(name)) {
+            return this;
+        }
+        Map<String, SharedGroup> map = new HashMap<>(groups);
+        map.remove(name);
+        return new SharedRosterView(domain, map, usernames, changedUsername, changedUsernameExists);
+    }
+
+    /**
+     * Returns a view where a user is or is not a user of a group. The view is returned as is if
+     * it does not include the group.
+     *
+     * @param name the name of the group.
+     * @param user the bare JID of the user.
+     * @param isUser true if the user is a user of the group in the returned view.
+     * @return a view where the user is or is not a user of the group.
+     */
+    SharedRosterView withGroupUser(String name, JID user, boolean isUser) {
+        return withGroupUsers(name, Collections.singleton(user), isUser);
+    }
+
+    /**
+     * Returns a view where users are or are not users of a group. The changes are applied at
+     * once, and the returned view shares the users of the group that did not change. The view is
+     * returned as is if it does not include the group or if the users do not change.
+     *
+     * @param name the name of the group.
+     * @param users the bare JIDs of the users.
+     * @param isUser true if the users are users of the group in the returned view.
+     * @return a view where the users are or are not users of the group.
+     */
+    SharedRosterView withGroupUsers(String name, Collection<JID> users, boolean isUser) {
+        SharedGroup group = groups.get(name);
+        if (group == null) {
+            return this;
+        }
+        SharedGroup changed = group.withUsers(users, isUser);
+        return changed == group ? this : withGroup(changed);
+    }
+
+    /**
+     * Returns a view where a local user does or does not exist, whatever the usernames that
+     * are shared by the views say.
+     *
+     * @param username the username of the local user.
+     * @param exists true if the user exists in the returned view.
+     * @return a view where the user does or does not exist.
+     */
+    SharedRosterView withUsername(String username, boolean exists) {
+        return new SharedRosterView(domain, groups, usernames, username, exists);
+    }
+
+    /**
+     * Returns a view that uses the given usernames of the local users.
+     *
+     * @param usernames the usernames of the local users.
+     * @return a view that uses the usernames.
+     */
+    SharedRosterView withUsernames(Set<String> usernames) {
+        return new SharedRosterView(domain, groups, usernames, null, false);
+    }
+
+    /**
+     * Returns the group of the given name or <tt>null</tt> if the view does not include it.
+     *
+     * @param name the name of the group.
+     * @return the group of the given name or null.
+     */
+    SharedGroup getGroup(String name) {
+        return groups.get(name);
+    }
+
+    /**
+     * Returns the groups of the view, that is the shared groups and the groups that they are
+     * shown to.
+     *
+     * @return the groups of the view.
+     */
+    Collection<SharedGroup> getGroups() {
+        return Collections.unmodifiableCollection(groups.values());
+    }
+
+    /**
+     * Returns true if a shared group of the view is shown to all the users.
+     *
+     * @return true if a shared group of the view is shown to all the users.
+     */
+    boolean hasPublicGroups() {
+        for (SharedGroup group : sharedGroups) {
+            if (group.isPublic()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the usernames of the local users that the view uses, or <tt>null</tt> if none.
+     *
+     * @return the usernames of the local users or null.
+     */
+    Set<String> getUsernames() {
+        return usernames;
+    }
+
+    /**
+     * Returns the shared groups that a user may see in his roster. This is the same selection
+     * as {@link RosterManager#getSharedGroups(String)}.
+     *
+     * @param user the bare JID of the user.
+     * @return the shared groups that the user may see in his roster.
+     */
+    List<SharedGroup> getSharedGroups(JID user) {
+        List<SharedGroup> answer = new ArrayList<>();
+        for (SharedGroup group : sharedGroups) {
+            if (group.isPublic() || group.isUser(user) || isListedGroupUser(group, user)) {
+                answer.add(group);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the names of the shared groups that are shown to the users of a group, either
+     * because they are shown to everybody or because their group list includes the group.
+     *
+     * @param name the name of the group.
+     * @return the names of the shared groups that are shown to the users of the group.
+     */
+    Collection<String> getVisibleGroupNames(String name) {
+        Collection<String> answer = new ArrayList<>();
+        for (SharedGroup group : sharedGroups) {
+            if (group.isPublic() || group.groupList.contains(name)) {
+                answer.add(group.getName());
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the roster item that the shared groups define for a contact in the roster of a
+     * user, or <tt>null</tt> if the shared groups do not add the contact to the roster. The
+     * item is created for each call and its nickname is not set.
+     *
+     * @param user the bare JID of the owner of the roster.
+     * @param userGroups the shared groups that the user may see, as returned by
+     *        {@link #getSharedGroups(JID)}.
+     * @param contact the JID of the contact.
+     * @return the roster item of the contact or null.
+     */
+    RosterItem getRosterItem(JID user, List<SharedGroup> userGroups, JID contact) {
+        if (contact.getResource() != null) {
+            contact = contact.asBareJID();
+        }
+        if (contact.equals(user)) {
+            return null;
+        }
+        List<SharedGroup> contactGroups = null;
+        Set<String> invisibleGroups = null;
+        for (SharedGroup group : userGroups) {
+            if (group.isUser(contact)) {
+                if (contactGroups == null) {
+                    contactGroups = new ArrayList<>(userGroups.size());
+                }
+                contactGroups.add(group);
+            }
+            else if (group.isUser(user) &&
+                    (group.isPublic() ? isLocalUser(contact) : isListedGroupUser(group, contact))) {
+                // The contact may see the group of the user, that is subscribed from the user
+                if (invisibleGroups == null) {
+                    invisibleGroups = new HashSet<>();
+                }
+                invisibleGroups.add(group.getName());
+            }
+        }
+        if (contactGroups == null && invisibleGroups == null) {
+            return null;
+        }
+        RosterItem.SubType subType;
+        Set<String> groupNames = new HashSet<>();
+        if (contactGroups == null) {
+            subType = RosterItem.SUB_FROM;
+        }
+        else {
+            for (SharedGroup group : contactGroups) {
+                groupNames.add(group.getName());
+            }
+            subType = hasMutualVisibility(user, userGroups, contact, contactGroups) ?
+                    RosterItem.SUB_BOTH : RosterItem.SUB_TO;
+        }
+        RosterItem item = new RosterItem(contact, subType, RosterItem.ASK_NONE,
+                RosterItem.RECV_NONE, "", null);
+        item.setSharedGroupsNames(groupNames);
+        item.setInvisibleSharedGroupsNames(invisibleGroups == null ?
+                new HashSet<String>() : invisibleGroups);
+        return item;
+    }
+
+    /**
+     * Returns the contacts that the shared groups add to the roster of a user with a
+     * subscription of type TO or BOTH, that is the users of the shared groups that the user
+     * may see.
+     *
+     * @param user the bare JID of the owner of the roster.
+     * @param userGroups the shared groups that the user may see.
+     * @return the contacts that the user may see in his roster.
+     */
+    Set<JID> getVisibleContacts(JID user, List<SharedGroup> userGroups) {
+        Set<JID> contacts;
+        if (userGroups.size() == 1) {
+            contacts = new HashSet<>(userGroups.get(0).users);
+        }
+        else {
+            contacts = new HashSet<>();
+            for (SharedGroup group : userGroups) {
+                contacts.addAll(group.users);
+            }
+        }
+        contacts.remove(user);
+        return contacts;
+    }
+
+    /**
+     * Returns all the contacts that the shared groups add to the roster of a user, including
+     * the contacts that only have a subscription of type FROM because they may see a group of
+     * the user.
+     *
+     * @param user the bare JID of the owner of the roster.
+     * @param userGroups the shared groups that the user may see.
+     * @return all the contacts that the shared groups add to the roster of the user.
+     */
+    Set<JID> getContacts(JID user, List<SharedGroup> userGroups) {
+        Set<JID> contacts = getVisibleContacts(user, userGroups);
+        for (SharedGroup group : userGroups) {
+            if (!group.isUser(user)) {
+                continue;
+            }
+            if (group.isPublic()) {
+                if (usernames != null) {
+                    for (String username : usernames) {
+                        if (changedUsername == null || changedUsernameExists ||
+                                !changedUsername.equals(username)) {
+                            contacts.add(new JID(username, domain, null, true));
+                        }
+                    }
+                }
+                if (changedUsername != null && changedUsernameExists) {
+                    contacts.add(new JID(changedUsername, domain, null, true));
+                }
+            }
+            else {
+                for (String name : group.groupList) {
+                    SharedGroup listedGroup = groups.get(name);
+                    if (listedGroup != null) {
+                        contacts.addAll(listedGroup.users);
+                    }
+                }
+            }
+        }
+        contacts.remove(user);
+        return contacts;
+    }
+
+    private boolean isLocalUser(JID contact) {
+        String node = contact.getNode();
+        if (node == null || !domain.equals(contact.getDomain())) {
+            return false;
+        }
+        if (node.equals(changedUsername)) {
+            return changedUsernameExists;
+        }
+        return usernames != null && usernames.contains(node);
+    }
+
+    private boolean isListedGroupUser(SharedGroup group, JID user) {
+        for (String name : group.groupList) {
+            SharedGroup listedGroup = groups.get(name);
+            if (listedGroup != null && listedGroup.isUser(user)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a group of the first collection may mutually see a group of the second
+     * collection. This is the same check as
+     * {@link RosterManager#hasMutualVisibility(String, Collection, JID, Collection)}.
+     */
+    private boolean hasMutualVisibility(JID user, Collection<SharedGroup> groups, JID otherUser,
+            Collection<SharedGroup> otherGroups) {
+        for (SharedGroup group : groups) {
+            // Skip this group if the user is not a group user of the group
+            if (!group.isUser(user)) {
+                continue;
+            }
+            for (SharedGroup otherGroup : otherGroups) {
+                if (!otherGroup.isUser(otherUser)) {
+                    continue;
+                }
+                if (group.getName().equals(otherGroup.getName())) {
+                    return true;
+                }
+                if (group.isPublic() && otherGroup.isPublic()) {
+                    return true;
+                }
+                else if (group.isOnlyGroup() && otherGroup.isOnlyGroup()) {
+                    // Return true if each group may see the other group
+                    if (group.groupNames != null && otherGroup.groupNames != null) {
+                        if (group.groupNames.contains(otherGroup.getName()) &&
+                                otherGroup.groupNames.contains(group.getName())) {
+                            return true;
+                        }
+                        // Check if each shared group can be seen by a group where each user belongs
+                        if (isListedGroupUser(group, otherUser) && isListedGroupUser(otherGroup, user)) {
+                            return true;
+                        }
+                    }
+                }
+                else if (group.isPublic() && otherGroup.isOnlyGroup()) {
+                    // Return true if the other group allowed the public group to see him
+                    if (otherGroup.groupNames != null && otherGroup.groupNames.contains(group.getName())) {
+                        return true;
+                    }
+                }
+                else if (group.isOnlyGroup() && otherGroup.isPublic()) {
+                    // Return true if the group allowed the public group to see him
+                    if (group.groupNames != null && group.groupNames.contains(otherGroup.getName())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A group as a view holds it: the properties that define to whom the group is shown, and
+     * the bare JIDs of its members and administrators.
+     */
+    static final class SharedGroup {
+
+        private final String name;
+        private final String showInRoster;
+        private final String displayName;
+        private final String groupNames;
+        private final Collection<String> groupList;
+        private final GroupUsers users;
+
+        /**
+         * Creates a snapshot of a group.
+         *
+         * @param group the group.
+         */
+        SharedGroup(Group group) {
+            this(group.getName(), group.getProperties(), group.getAll());
+        }
+
+        /**
+         * Creates a group of the given properties and users.
+         *
+         * @param name the name of the group.
+         * @param properties the properties of the group.
+         * @param users the bare JIDs of the members and administrators of the group.
+         */
+        SharedGroup(String name, Map<String, String> properties, Collection<JID> users) {
+            this.name = name;
+            this.showInRoster = properties.get("sharedRoster.showInRoster");
+            this.displayName = properties.get("sharedRoster.displayName");
+            this.groupNames = properties.get("sharedRoster.groupList");
+            this.groupList = RosterManager.parseGroupNames(groupNames);
+            this.users = new GroupUsers(users);
+        }
+
+        private SharedGroup(SharedGroup group, GroupUsers users) {
+            this.name = group.name;
+            this.showInRoster = group.showInRoster;
+            this.displayName = group.displayName;
+            this.groupNames = group.groupNames;
+            this.groupList = group.groupList;
+            this.users = users;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the name of the group in the rosters, or <tt>null</tt> if none was set.
+         *
+         * @return the name of the group in the rosters or null.
+         */
+        String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Returns the names of the groups that the group is shown to.
+         *
+         * @return the names of the groups that the group is shown to.
+         */
+        Collection<String> getGroupList() {
+            return groupList;
+        }
+
+        boolean isShared() {
+            return isOnlyGroup() || isPublic();
+        }
+
+        boolean isPublic() {
+            return "everybody".equals(showInRoster);
+        }
+
+        private boolean isOnlyGroup() {
+            return "onlyGroup".equals(showInRoster);
+        }
+
+        /**
+         * Returns true if the given bare JID is a member or an administrator of the group.
+         *
+         * @param user the bare JID to check.
+         * @return true if the user is a group user.
+         */
+        boolean isUser(JID user) {
+            return users.contains(user);
+        }
+
+        /**
+         * Returns the bare JIDs of the members and administrators of the group.
+         *
+         * @return the users of the group.
+         */
+        Set<JID> getUsers() {
+            return users;
+        }
+
+        /**
+         * Returns a group where users are or are not users of this group, or this group if the
+         * users do not change.
+         *
+         * @param changedUsers the bare JIDs of the users.
+         * @param isUser true if the users are users of the returned group.
+         * @return a group where the users are or are not users.
+         */
+        SharedGroup withUsers(Collection<JID> changedUsers, boolean isUser) {
+            GroupUsers changed = users.with(changedUsers, isUser);
+            return changed == users ? this : new SharedGroup(this, changed);
+        }
+    }
+
+    /**
+     * The users of a group, spread over a fixed number of shards by hash code. The shards are
+     * never modified: a membership change copies the shards of the changed users only, so that
+     * the groups that follow the changes of a large group share most of its users instead of
+     * copying all of them for each change.
+     */
+    private static final class GroupUsers extends AbstractSet<JID> {
+
+        private static final int SHARDS = 64;
+
+        private final Set<JID>[] shards;
+        private final int size;
+
+        @SuppressWarnings("unchecked")
+        GroupUsers(Collection<JID> users) {
+            this.shards = new Set[SHARDS];
+            for (int i = 0; i < SHARDS; i++) {
+                shards[i] = new HashSet<>();
+            }
+            for (JID user : users) {
+                shards[shard(user)].add(user);
+            }
+            int count = 0;
+            for (Set<JID> shard : shards) {
+                count += shard.size();
+            }
+            this.size = count;
+        }
+
+        private GroupUsers(Set<JID>[] shards, int size) {
+            this.shards = shards;
+            this.size = size;
+        }
+
+        private static int shard(Object user) {
+            int h = user.hashCode();
+            return (h ^ (h >>> 16)) & (SHARDS - 1);
+        }
+
+        /**
+         * Returns the users where the given users were added or removed, or these users if
+         * nothing changes.
+         *
+         * @param changedUsers the users to add or remove.
+         * @param isUser true to add the users, false to remove them.
+         * @return the changed users.
+         */
+        GroupUsers with(Collection<JID> changedUsers, boolean isUser) {
+            Set<JID>[] copy = null;
+            boolean[] copied = null;
+            int count = size;
+            for (JID user : changedUsers) {
+                int i = shard(user);
+                Set<JID> shard = copy == null ? shards[i] : copy[i];
+                if (shard.contains(user) == isUser) {
+                    continue;
+                }
+                if (copy == null) {
+                    copy = shards.clone();
+                    copied = new boolean[SHARDS];
+                }
+                if (!copied[i]) {
+                    shard = new HashSet<>(shard);
+                    copy[i] = shard;
+                    copied[i] = true;
+                }
+                if (isUser) {
+                    shard.add(user);
+                    count++;
+                }
+                else {
+                    shard.remove(user);
+                    count--;
+                }
+            }
+            return copy == null ? this : new GroupUsers(copy, count);
+        }
+
+        @Override
+        public boolean contains(Object user) {
+            return user != null && shards[shard(user)].contains(user);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<JID> iterator() {
+            return new Iterator<JID>() {
+                private int shard = 0;
+                private Iterator<JID> current = shards[0].iterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext() && shard < SHARDS - 1) {
+                        current = shards[++shard].iterator();
+                    }
+                    return current.hasNext();
+                }
+
+                @Override
+                public JID next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current.next();
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.roster;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.util.cache.ClusterTask;
+import org.jivesoftware.util.cache.ExternalizableUtil;
+
+/**
+ * Keeps the view of the shared groups of the other cluster nodes up to date. Group and user
+ * events are only dispatched on the cluster node where the change was made, so this task either
+ * discards the view of the other nodes, that load it again when it is next needed, or tells them
+ * that a local user was created or deleted.
+ *
+ * @see RosterManager#getSharedRosterView()
+ */
+public class SharedRosterViewTask implements ClusterTask<Void> {
+
+    private String username;
+    private boolean exists;
+
+    public static SharedRosterViewTask createInvalidateTask() {
+        return new SharedRosterViewTask();
+    }
+
+    public static SharedRosterViewTask createUserTask(String username, boolean exists) {
+        SharedRosterViewTask task = new SharedRosterViewTask();
+        task.username = username;
+        task.exists = exists;
+        return task;
+    }
+
+    @Override
+    public Void getResult() {
+        return null;
+    }
+
+    @Override
+    public void run() {
+        RosterManager rosterManager = XMPPServer.getInstance().getRosterManager();
+        if (username == null) {
+            rosterManager.invalidateSharedRosterView();
+        }
+        else {
+            rosterManager.updateUsername(username, exists);
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ExternalizableUtil.getInstance().writeBoolean(out, username != null);
+        if (username != null) {
+            ExternalizableUtil.getInstance().writeSafeUTF(out, username);
+            ExternalizableUtil.getInstance().writeBoolean(out, exists);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        if (ExternalizableUtil.getInstance().readBoolean(in)) {
+            username = ExternalizableUtil.getInstance().readSafeUTF(in);
+            exists = ExternalizableUtil.getInstance().readBoolean(in);
+        }
+    }
+}
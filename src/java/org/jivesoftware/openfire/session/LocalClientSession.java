@@ -898,7 +898,7 @@ public class LocalClientSession extends LocalSession implements ClientSession {
             sb.append("<session xmlns=\"urn:ietf:params:xml:ns:xmpp-session\"><optional/></session>");
 
             // Offer XEP-0198 stream management capabilities if enabled.
-            if(JiveGlobals.getBooleanProperty(StreamManager.SM_ACTIVE, true)) {
+            if(StreamManager.ACTIVE.getValue()) {
             	sb.append(String.format("<sm xmlns='%s'/>", StreamManager.NAMESPACE_V2));
             	sb.append(String.format("<sm xmlns='%s'/>", StreamManager.NAMESPACE_V3));
             }
@@ -951,10 +951,45 @@ public class LocalClientSession extends LocalSession implements ClientSession {
     }
 
     @Override
-	public void deliver(Packet packet) throws UnauthorizedException {
+    public void close() {
+        super.close();
+        // The connection may have been lost already, while the session waited to be resumed
+        sessionManager.closeDetachedSession(this);
+    }
+
+    @Override
+	public void deliver(final Packet packet) throws UnauthorizedException {
 
-        conn.deliver(packet);
-        streamManager.sentStanza(packet);
+        if (!streamManager.isEnabled()) {
+            conn.deliver(packet);
+            return;
+        }
+        for (;;) {
+            final Connection connection = conn;
+            if (connection.isClosed() && streamManager.isResumable()) {
+                synchronized (streamManager) {
+                    // The connection is replaced while holding the stream manager, after the held
+                    // stanzas were sent again, so the stanza must go to the new connection if any
+                    if (connection == conn) {
+                        // Hold the stanza until the client resumes the session (or the session times out)
+                        Log.trace("Holding stanza for detached session {}", getAddress());
+                        streamManager.sentStanza(packet);
+                        return;
+                    }
+                }
+            }
+            else {
+                // The sequence number is assigned while the connection writes the stanza, which
+                // keeps the order of the stanzas consistent with their sequence numbers
+                connection.deliver(packet, new Runnable() {
+                    @Override
+                    public void run() {
+                        streamManager.sentStanza(packet);
+                    }
+                });
+                return;
+            }
+        }
     }
 
     @Override
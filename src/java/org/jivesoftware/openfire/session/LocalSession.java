@@ -78,7 +78,7 @@ public abstract class LocalSession implements Session {
     /**
      * The connection that this session represents.
      */
-    protected final Connection conn;
+    protected volatile Connection conn;
 
     protected SessionManager sessionManager;
 
@@ -121,7 +121,7 @@ public abstract class LocalSession implements Session {
         String id = streamID.getID();
         this.address = new JID(null, serverName, id, true);
         this.sessionManager = SessionManager.getInstance();
-        this.streamManager = new StreamManager(conn);
+        this.streamManager = new StreamManager(this, conn);
         this.language = language;
     }
 
@@ -159,6 +159,22 @@ public abstract class LocalSession implements Session {
         return conn;
     }
 
+    /**
+     * Continues this session over a new connection, after the client resumed its stream
+     * (XEP-0198). Stanzas that are delivered to the session from now on use the new connection.
+     *
+     * @param connection the connection that resumes the stream.
+     * @param h the number of stanzas that the client acknowledged.
+     */
+    public void reattach(Connection connection, long h) {
+        synchronized (streamManager) {
+            // The stanzas are sent again before the connection is used for new stanzas, whose
+            // delivery acquires the write lock of the connection before the stream manager
+            streamManager.onResume(connection, h);
+            conn = connection;
+        }
+    }
+
     /**
      * Obtain the current status of this session.
      *
@@ -376,6 +392,8 @@ public abstract class LocalSession implements Session {
 
     @Override
     public void close() {
+        // A stream that is closed on purpose cannot be resumed
+        streamManager.disableResumption();
         conn.close();
     }
 
@@ -304,6 +304,9 @@ public class ConnectionListener
     public synchronized void restart()
     {
         Log.debug( "Restarting..." );
+
+        // Changes in configuration or certificates invalidate the TLS sessions that were established before.
+        EncryptionArtifactFactory.clearSSLContextCache();
         try
         {
             if ( connectionAcceptor != null )
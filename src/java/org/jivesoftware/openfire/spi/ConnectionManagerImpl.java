@@ -38,6 +38,9 @@ import org.jivesoftware.openfire.container.PluginManagerListener;
 import org.jivesoftware.openfire.http.HttpBindManager;
 import org.jivesoftware.openfire.keystore.CertificateStoreManager;
 import org.jivesoftware.openfire.net.*;
+import org.jivesoftware.openfire.nio.OutboundCoalescing;
+import org.jivesoftware.openfire.nio.StanzaPipeline;
+import org.jivesoftware.openfire.nio.StreamCompression;
 import org.jivesoftware.openfire.session.ConnectionSettings;
 import org.jivesoftware.util.CertificateEventListener;
 import org.jivesoftware.util.CertificateManager;
@@ -53,6 +56,7 @@ public class ConnectionManagerImpl extends BasicModule implements ConnectionMana
     public static final String COMPRESSION_FILTER_NAME = "compression";
     public static final String XMPP_CODEC_FILTER_NAME = "xmpp";
     public static final String CAPACITY_FILTER_NAME = "outCap";
+    public static final String RATE_FILTER_NAME = "rateLimit";
 
     private static final Logger Log = LoggerFactory.getLogger(ConnectionManagerImpl.class);
 
@@ -668,6 +672,9 @@ public class ConnectionManagerImpl extends BasicModule implements ConnectionMana
     @Override
 	public void start() {
         super.start();
+        StanzaPipeline.getInstance().start();
+        StreamCompression.addStatistics();
+        OutboundCoalescing.start();
         startListeners();
         SocketSendingTracker.getInstance().start();
         CertificateManager.addListener(this);
@@ -678,6 +685,9 @@ public class ConnectionManagerImpl extends BasicModule implements ConnectionMana
         CertificateManager.removeListener(this);
         SocketSendingTracker.getInstance().shutdown();
         stopListeners();
+        StanzaPipeline.getInstance().shutdown();
+        StreamCompression.removeStatistics();
+        OutboundCoalescing.shutdown();
         super.stop();
     }
 
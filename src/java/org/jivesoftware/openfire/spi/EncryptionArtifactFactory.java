@@ -1,14 +1,21 @@
 package org.jivesoftware.openfire.spi;
 
+import org.apache.mina.core.filterchain.IoFilterChain;
+import org.apache.mina.core.session.AttributeKey;
+import org.apache.mina.core.session.IoSession;
 import org.apache.mina.filter.ssl.SslFilter;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.jivesoftware.openfire.keystore.OpenfireX509TrustManager;
+import org.jivesoftware.util.JiveGlobals;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.net.ssl.*;
 import java.security.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Instances of this class will be able to generate various encryption-related artifacts based on a specific connection
@@ -23,6 +30,24 @@ public class EncryptionArtifactFactory
 {
     private final Logger Log = LoggerFactory.getLogger( EncryptionArtifactFactory.class );
 
+    /**
+     * Name of the property (appended to the property prefix of a connection type) that defines the maximum number of
+     * TLS sessions that are cached for resumption.
+     */
+    public static final String SESSION_CACHE_SIZE = "session.cache.size";
+
+    /**
+     * Name of the property (appended to the property prefix of a connection type) that defines the number of seconds
+     * that a cached TLS session can be resumed.
+     */
+    public static final String SESSION_CACHE_TIMEOUT = "session.cache.timeout";
+
+    /**
+     * SSLContexts that are shared by all connections that have the same type and keys. TLS sessions are cached by
+     * their SSLContext, so sharing a context is what allows a reconnecting peer to resume its previous session.
+     */
+    private static final ConcurrentMap<List<Object>, SSLContext> sslContexts = new ConcurrentHashMap<>();
+
     private final ConnectionConfiguration configuration;
 
     // lazy loaded factory objects. These re-usable objects should be lazy loaded, preventing initialization in situations where they're never going to be used.
@@ -80,18 +105,78 @@ public class EncryptionArtifactFactory
     }
 
     /**
-     * Generates a new, initialized SSLContext instance that is suitable for connections that are created based on a
+     * Returns an initialized SSLContext instance that is suitable for connections that are created based on a
      * particular configuration.
      *
-     * @return TrustManagers applicable to a connection that is established using the provided configuration.
+     * The instance is shared with all other configurations that have the same type and use the same certificate
+     * stores. Its session cache is configured using the {@link #SESSION_CACHE_SIZE} and {@link #SESSION_CACHE_TIMEOUT}
+     * properties of the connection type.
+     *
+     * @return An SSLContext applicable to a connection that is established using the provided configuration.
      */
     public synchronized SSLContext getSSLContext() throws NoSuchAlgorithmException, KeyManagementException, KeyStoreException, UnrecoverableKeyException
     {
-        final SSLContext sslContext = SSLContext.getInstance("TLSv1");
-        sslContext.init( getKeyManagers(), getTrustManagers(), new SecureRandom() );
+        final List<Object> key = Arrays.<Object>asList(
+                configuration.getType(),
+                configuration.getIdentityStoreConfiguration(),
+                configuration.getTrustStoreConfiguration(),
+                configuration.isAcceptSelfSignedCertificates(),
+                configuration.isVerifyCertificateValidity() );
+
+        SSLContext sslContext = sslContexts.get( key );
+        if ( sslContext == null )
+        {
+            sslContext = SSLContext.getInstance("TLSv1");
+            sslContext.init( getKeyManagers(), getTrustManagers(), new SecureRandom() );
+
+            final int cacheSize = getSessionCacheSize( configuration.getType() );
+            final int cacheTimeout = getSessionCacheTimeout( configuration.getType() );
+            for ( final SSLSessionContext sessionContext : new SSLSessionContext[] { sslContext.getServerSessionContext(), sslContext.getClientSessionContext() } )
+            {
+                sessionContext.setSessionCacheSize( cacheSize );
+                sessionContext.setSessionTimeout( cacheTimeout );
+            }
+            final SSLContext existing = sslContexts.putIfAbsent( key, sslContext );
+            if ( existing != null )
+            {
+                sslContext = existing;
+            }
+        }
         return sslContext;
     }
 
+    /**
+     * Returns the maximum number of TLS sessions that are cached for resumption, for connections of a particular type.
+     *
+     * @param type the type of the connections (cannot be null).
+     * @return a number of sessions (zero means no limit).
+     */
+    public static int getSessionCacheSize( ConnectionType type )
+    {
+        return JiveGlobals.getIntProperty( type.getPrefix() + SESSION_CACHE_SIZE, 20480 );
+    }
+
+    /**
+     * Returns the number of seconds during which a cached TLS session can be resumed, for connections of a particular
+     * type.
+     *
+     * @param type the type of the connections (cannot be null).
+     * @return a number of seconds (zero means no limit).
+     */
+    public static int getSessionCacheTimeout( ConnectionType type )
+    {
+        return JiveGlobals.getIntProperty( type.getPrefix() + SESSION_CACHE_TIMEOUT, 3600 );
+    }
+
+    /**
+     * Discards all shared SSLContext instances (and with them, the cached TLS sessions). This method should be invoked
+     * when the content of a certificate store or the TLS configuration of a connection type changes.
+     */
+    public static void clearSSLContextCache()
+    {
+        sslContexts.clear();
+    }
+
     /**
      * A utility method that implements the shared functionality of getClientModeSSLEngine and getServerModeSSLEngine.
      *
@@ -101,11 +186,11 @@ public class EncryptionArtifactFactory
      *
      * @return A new pre-configured SSLEngine instance (never null).
      */
-    private SSLEngine createSSLEngine() throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException
+    private SSLEngine createSSLEngine( String peerHost, int peerPort ) throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException
     {
         final SSLContext sslContext = getSSLContext();
 
-        final SSLEngine sslEngine = sslContext.createSSLEngine();
+        final SSLEngine sslEngine = peerHost == null ? sslContext.createSSLEngine() : sslContext.createSSLEngine( peerHost, peerPort );
 
         // Configure protocol support.
         final Set<String> protocols = configuration.getEncryptionProtocols();
@@ -135,7 +220,7 @@ public class EncryptionArtifactFactory
      */
     public SSLEngine createServerModeSSLEngine() throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException
     {
-        final SSLEngine sslEngine = createSSLEngine( );
+        final SSLEngine sslEngine = createSSLEngine( null, -1 );
         sslEngine.setUseClientMode( false );
 
         switch ( configuration.getClientAuth() )
@@ -167,7 +252,20 @@ public class EncryptionArtifactFactory
      */
     public SSLEngine createClientModeSSLEngine() throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException
     {
-        final SSLEngine sslEngine = createSSLEngine();
+        return createClientModeSSLEngine( null, -1 );
+    }
+
+    /**
+     * Creates an SSL Engine that is configured to use client mode when handshaking with a particular peer. Engines
+     * that are created for the same peer can resume the TLS session that was established previously.
+     *
+     * @param peerHost the name or address of the peer (can be null).
+     * @param peerPort the port of the peer (or -1 if unknown).
+     * @return An initialized SSLEngine instance (never null).
+     */
+    public SSLEngine createClientModeSSLEngine( String peerHost, int peerPort ) throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException
+    {
+        final SSLEngine sslEngine = createSSLEngine( peerHost, peerPort );
         sslEngine.setUseClientMode( true );
         final Set<String> protocols = new LinkedHashSet<>( Arrays.asList( sslEngine.getEnabledProtocols() ) );
         protocols.remove( "SSLv2Hello" );
@@ -249,7 +347,7 @@ public class EncryptionArtifactFactory
         final SSLContext sslContext = getSSLContext();
         final SSLEngine sslEngine = createServerModeSSLEngine();
 
-        return createSslFilter( sslContext, sslEngine );
+        return createSslFilter( sslContext, sslEngine, configuration.getType() );
     }
 
     /**
@@ -267,7 +365,7 @@ public class EncryptionArtifactFactory
         final SSLContext sslContext = getSSLContext();
         final SSLEngine sslEngine = createClientModeSSLEngine();
 
-        return createSslFilter( sslContext, sslEngine );
+        return createSslFilter( sslContext, sslEngine, configuration.getType() );
     }
 
     /**
@@ -279,10 +377,11 @@ public class EncryptionArtifactFactory
      *
      * @param sslContext a pre-configured SSL Context instance (cannot be null).
      * @param sslEngine a pre-configured SSL Engine instance (cannot be null).
+     * @param type the type of the connections that use the filter (cannot be null).
      * @return A SslFilter instance (never null).
      */
-    private static SslFilter createSslFilter( SSLContext sslContext, SSLEngine sslEngine ) {
-        final SslFilter filter = new SslFilter( sslContext );
+    private static SslFilter createSslFilter( SSLContext sslContext, SSLEngine sslEngine, ConnectionType type ) {
+        final SslFilter filter = new HandshakeTrackingSslFilter( sslContext, type );
 
         // Copy configuration from the SSL Engine into the filter.
         filter.setUseClientMode( sslEngine.getUseClientMode() );
@@ -353,4 +452,70 @@ public class EncryptionArtifactFactory
         return Arrays.asList( context.createSSLEngine().getEnabledCipherSuites() );
     }
 
+    /**
+     * An SslFilter that records the outcome of the TLS handshake of each session in {@link TLSHandshakeStatistics}.
+     */
+    private static class HandshakeTrackingSslFilter extends SslFilter
+    {
+        private static final AttributeKey HANDSHAKE = new AttributeKey( HandshakeTrackingSslFilter.class, "handshake" );
+
+        private final ConnectionType type;
+
+        HandshakeTrackingSslFilter( SSLContext sslContext, ConnectionType type )
+        {
+            super( sslContext );
+            this.type = type;
+        }
+
+        @Override
+        public void onPostAdd( IoFilterChain parent, String name, NextFilter nextFilter ) throws SSLException
+        {
+            final Handshake handshake = new Handshake();
+            parent.getSession().setAttribute( HANDSHAKE, handshake );
+            final long start = TLSHandshakeStatistics.getCpuTime();
+            try
+            {
+                super.onPostAdd( parent, name, nextFilter );
+            }
+            finally
+            {
+                handshake.cpuTime.addAndGet( TLSHandshakeStatistics.getCpuTime() - start );
+            }
+        }
+
+        @Override
+        public void messageReceived( NextFilter nextFilter, IoSession session, Object message ) throws SSLException
+        {
+            final Handshake handshake = (Handshake) session.getAttribute( HANDSHAKE );
+            if ( handshake == null )
+            {
+                super.messageReceived( nextFilter, session, message );
+                return;
+            }
+
+            final long start = TLSHandshakeStatistics.getCpuTime();
+            try
+            {
+                super.messageReceived( nextFilter, session, message );
+            }
+            finally
+            {
+                handshake.cpuTime.addAndGet( TLSHandshakeStatistics.getCpuTime() - start );
+                final SSLSession sslSession = getSslSession( session );
+                if ( sslSession != null && session.removeAttribute( HANDSHAKE ) != null )
+                {
+                    TLSHandshakeStatistics.record( type, sslSession.getCreationTime() < handshake.started, handshake.cpuTime.get() );
+                }
+            }
+        }
+    }
+
+    /**
+     * The state of a TLS handshake that is in progress.
+     */
+    private static class Handshake
+    {
+        final long started = System.currentTimeMillis();
+        final AtomicLong cpuTime = new AtomicLong();
+    }
 }
@@ -47,6 +47,8 @@ class MINAConnectionAcceptor extends ConnectionAcceptor
 
     private NioSocketAcceptor socketAcceptor;
 
+    private ConnectionRateFilter rateFilter;
+
     /**
      * Instantiates, but not starts, a new instance.
      */
@@ -111,6 +113,11 @@ class MINAConnectionAcceptor extends ConnectionAcceptor
             final DefaultIoFilterChainBuilder filterChain = socketAcceptor.getFilterChain();
             filterChain.addFirst( ConnectionManagerImpl.EXECUTOR_FILTER_NAME, executorFilter );
 
+            // Limit the rate of new connections, before they reach the executor (and TLS).
+            rateFilter = new ConnectionRateFilter( name, configuration.getType(), eventExecutor );
+            filterChain.addFirst( ConnectionManagerImpl.RATE_FILTER_NAME, rateFilter );
+            rateFilter.addStatistics();
+
             // Add the XMPP codec filter
             filterChain.addAfter( ConnectionManagerImpl.EXECUTOR_FILTER_NAME, ConnectionManagerImpl.XMPP_CODEC_FILTER_NAME, new ProtocolCodecFilter( new XMPPCodecFactory() ) );
 
@@ -140,6 +147,7 @@ class MINAConnectionAcceptor extends ConnectionAcceptor
             System.err.println( "Error starting " + configuration.getPort() + ": " + e.getMessage() );
             Log.error( "Error starting: " + configuration.getPort(), e );
             // Reset for future use.
+            disposeRateFilter();
             if (socketAcceptor != null) {
                 try {
                     socketAcceptor.unbind();
@@ -156,6 +164,7 @@ class MINAConnectionAcceptor extends ConnectionAcceptor
     @Override
     public synchronized void stop()
     {
+        disposeRateFilter();
         if ( socketAcceptor != null )
         {
             socketAcceptor.unbind();
@@ -163,6 +172,16 @@ class MINAConnectionAcceptor extends ConnectionAcceptor
         }
     }
 
+    private void disposeRateFilter()
+    {
+        if ( rateFilter != null )
+        {
+            rateFilter.removeStatistics();
+            rateFilter.dispose();
+            rateFilter = null;
+        }
+    }
+
     /**
      * Determines if this instance is currently in a state where it is actively serving connections.
      *
@@ -179,6 +198,16 @@ class MINAConnectionAcceptor extends ConnectionAcceptor
         return configuration.getPort();
     }
 
+    /**
+     * Returns the filter that limits the rate of new connections.
+     *
+     * @return the filter, or null when this instance is not started.
+     */
+    public synchronized ConnectionRateFilter getRateFilter()
+    {
+        return rateFilter;
+    }
+
     // TODO see if we can avoid exposing MINA internals.
     public synchronized NioSocketAcceptor getSocketAcceptor()
     {
@@ -34,7 +34,7 @@ import org.jivesoftware.openfire.forward.Forwarded;
 import org.jivesoftware.openfire.handler.PresenceUpdateHandler;
 import org.jivesoftware.openfire.server.OutgoingSessionPromise;
 import org.jivesoftware.openfire.session.*;
-import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.SystemProperty;
 import org.jivesoftware.util.cache.Cache;
 import org.jivesoftware.util.cache.CacheFactory;
 import org.slf4j.Logger;
@@ -64,6 +64,18 @@ import java.util.concurrent.locks.Lock;
 public class RoutingTableImpl extends BasicModule implements RoutingTable, ClusterEventListener {
 
 	private static final Logger Log = LoggerFactory.getLogger(RoutingTableImpl.class);
+
+    /**
+     * Deliver messages to the bare JID to all resources with the highest priority, instead of
+     * the most available one.
+     */
+    private static final SystemProperty<Boolean> ALL_RESOURCES =
+            SystemProperty.ofBoolean("route.all-resources", false);
+    /**
+     * Deliver messages to the bare JID to all resources with a non-negative priority.
+     */
+    private static final SystemProperty<Boolean> REALLY_ALL_RESOURCES =
+            SystemProperty.ofBoolean("route.really-all-resources", false);
 	
     public static final String C2S_CACHE_NAME = "Routing Users Cache";
     public static final String ANONYMOUS_C2S_CACHE_NAME = "Routing AnonymousUsers Cache";
@@ -559,12 +571,12 @@ public class RoutingTableImpl extends BasicModule implements RoutingTable, Clust
                 session.process(packet);
             // Deliver to each session if property route.really-all-resources is true
             // (in case client does not support carbons)
-            } else if (JiveGlobals.getBooleanProperty("route.really-all-resources", false)) {
+            } else if (REALLY_ALL_RESOURCES.getValue()) {
                 session.process(packet);
             }
         }
         
-        if (JiveGlobals.getBooleanProperty("route.really-all-resources", false))
+        if (REALLY_ALL_RESOURCES.getValue())
         	return true;
 
         // Get the highest priority sessions for normal processing.
@@ -578,7 +590,7 @@ public class RoutingTableImpl extends BasicModule implements RoutingTable, Clust
         }
         else {
             // Many sessions have the highest priority (be smart now) :)
-            if (!JiveGlobals.getBooleanProperty("route.all-resources", false)) {
+            if (!ALL_RESOURCES.getValue()) {
                 // Sort sessions by show value (e.g. away, xa)
                 Collections.sort(highestPrioritySessions, new Comparator<ClientSession>() {
 
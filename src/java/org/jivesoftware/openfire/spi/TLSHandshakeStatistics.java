@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.spi;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the TLS handshakes of the connections of each type, distinguishing full handshakes from handshakes that
+ * resumed a cached TLS session, and the CPU time spent on them.
+ *
+ * The CPU time is the time spent by the threads that processed the handshake messages, as reported by the JVM. When
+ * the JVM does not support measuring the CPU time of threads, the elapsed time is used instead.
+ */
+public final class TLSHandshakeStatistics
+{
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private static final int TYPES = ConnectionType.values().length;
+
+    // Indexed by (connection type ordinal * 2) + (1 if resumed)
+    private static final AtomicLongArray handshakes = new AtomicLongArray( TYPES * 2 );
+    private static final AtomicLongArray cpuTimes = new AtomicLongArray( TYPES * 2 );
+
+    private TLSHandshakeStatistics()
+    {
+    }
+
+    /**
+     * Records a completed handshake.
+     *
+     * @param type the type of the connection (cannot be null).
+     * @param resumed true if a cached TLS session was resumed.
+     * @param cpuTime the CPU time spent on the handshake, in nanoseconds.
+     */
+    public static void record( ConnectionType type, boolean resumed, long cpuTime )
+    {
+        final int index = type.ordinal() * 2 + ( resumed ? 1 : 0 );
+        handshakes.incrementAndGet( index );
+        cpuTimes.addAndGet( index, Math.max( 0, cpuTime ) );
+    }
+
+    /**
+     * Returns the number of handshakes that established a new TLS session.
+     *
+     * @param type the type of the connections (cannot be null).
+     * @return a number of handshakes.
+     */
+    public static long getFullHandshakes( ConnectionType type )
+    {
+        return handshakes.get( type.ordinal() * 2 );
+    }
+
+    /**
+     * Returns the number of handshakes that resumed a cached TLS session.
+     *
+     * @param type the type of the connections (cannot be null).
+     * @return a number of handshakes.
+     */
+    public static long getResumedHandshakes( ConnectionType type )
+    {
+        return handshakes.get( type.ordinal() * 2 + 1 );
+    }
+
+    /**
+     * Returns the average CPU time spent on a handshake.
+     *
+     * @param type the type of the connections (cannot be null).
+     * @param resumed true for handshakes that resumed a cached TLS session, false for full handshakes.
+     * @return the average CPU time in milliseconds, or 0 if there were no such handshakes.
+     */
+    public static double getAverageCpuTime( ConnectionType type, boolean resumed )
+    {
+        final int index = type.ordinal() * 2 + ( resumed ? 1 : 0 );
+        final long count = handshakes.get( index );
+        return count == 0 ? 0 : cpuTimes.get( index ) / 1000000d / count;
+    }
+
+    /**
+     * Returns the CPU time used by the current thread so far.
+     *
+     * @return a time in nanoseconds, only meaningful when compared to another value returned by this method.
+     */
+    public static long getCpuTime()
+    {
+        if ( threadMXBean.isCurrentThreadCpuTimeSupported() )
+        {
+            final long cpuTime = threadMXBean.getCurrentThreadCpuTime();
+            if ( cpuTime >= 0 )
+            {
+                return cpuTime;
+            }
+        }
+        return System.nanoTime();
+    }
+}
@@ -3,11 +3,19 @@ package org.jivesoftware.openfire.streammanagement;
 import java.math.BigInteger;
 import java.net.UnknownHostException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.dom4j.DocumentException;
+import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
 import org.jivesoftware.openfire.Connection;
 import org.jivesoftware.openfire.PacketRouter;
-import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.openfire.SessionManager;
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.session.LocalClientSession;
+import org.jivesoftware.openfire.session.LocalSession;
+import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.util.SystemProperty;
 import org.jivesoftware.util.XMPPDateTimeFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,36 +26,68 @@ import org.xmpp.packet.PacketError;
 
 /**
  * XEP-0198 Stream Manager.
- * Handles client/server messages acknowledgement.
+ * Handles client/server messages acknowledgement, and the resumption of client sessions.
+ *
+ * When a client asks for resumption, its session is kept for a while after its connection was
+ * lost (see {@link SessionManager}), and the stanzas sent to it are held until a new connection
+ * resumes the session, or until the session times out.
  *
  * @author jonnyheavey
  */
 public class StreamManager {
 
 	private final Logger Log;
-    public static class UnackedPacket {
-		public final long x;
-        public final Date timestamp = new Date();
-        public final Packet packet;
-        
-        public UnackedPacket(long x, Packet p) {
-			this.x = x;
-            packet = p;
-        }
-    }
-    
+
     public static final String SM_ACTIVE = "stream.management.active";
 
+    /**
+     * Property that toggles the resumption of sessions.
+     */
+    public static final String SM_RESUME = "stream.management.resume.enabled";
+
+    /**
+     * Property that defines the maximum number of seconds that a session is kept after its connection was lost.
+     */
+    public static final String SM_RESUME_TIMEOUT = "stream.management.resume.timeout";
+
+    /**
+     * Whether stream management is offered to clients.
+     */
+    public static final SystemProperty<Boolean> ACTIVE = SystemProperty.ofBoolean(SM_ACTIVE, true);
+    private static final SystemProperty<Boolean> RESUME = SystemProperty.ofBoolean(SM_RESUME, true);
+    private static final SystemProperty<Integer> RESUME_TIMEOUT =
+            SystemProperty.ofInteger(SM_RESUME_TIMEOUT, 300, 1, Integer.MAX_VALUE);
+    /**
+     * The number of unacknowledged stanzas after which an acknowledgement is requested.
+     */
+    private static final SystemProperty<Long> REQUEST_FREQUENCY =
+            SystemProperty.ofLong("stream.management.requestFrequency", 5, 1, Long.MAX_VALUE);
+    /**
+     * The maximum amount of stanzas we keep, waiting for ack.
+     */
+    private static final SystemProperty<Integer> MAX_UNACKED =
+            SystemProperty.ofInteger("stream.management.max-unacked", 10000, 1, Integer.MAX_VALUE);
+
     /**
      * Stanza namespaces
      */
     public static final String NAMESPACE_V2 = "urn:xmpp:sm:2";
     public static final String NAMESPACE_V3 = "urn:xmpp:sm:3";
 
+    /**
+     * Estimated memory used by the unacknowledged stanzas of all sessions.
+     */
+    private static final AtomicLong totalUnacknowledgedBytes = new AtomicLong();
+
+    /**
+     * The session the manager belongs to (null if the session cannot be resumed).
+     */
+    private final LocalSession session;
+
 	/**
 	 * Connection (stream) to client for the session the manager belongs to
 	 */
-	private final Connection connection;
+	private volatile Connection connection;
 
 	/**
      * Namespace to be used in stanzas sent to client (depending on XEP-0198 version used by client)
@@ -71,9 +111,30 @@ public class StreamManager {
     /**
      * Collection of stanzas/packets sent to client that haven't been acknowledged.
      */
-    private Deque<UnackedPacket> unacknowledgedServerStanzas = new LinkedList<>();
+    private final UnackedStanzaQueue unacknowledgedServerStanzas = new UnackedStanzaQueue();
+
+    private volatile long unacknowledgedBytes = 0;
+
+    /**
+     * Identifier used by the client to resume the session, or null if the client did not ask for resumption.
+     */
+    private volatile String resumeId;
+
+    /**
+     * False once the session can no longer be resumed, typically because the stream was closed formally.
+     */
+    private volatile boolean resumable = false;
+
+    /**
+     * Maximum number of seconds that the session is kept after its connection was lost.
+     */
+    private volatile int resumeTimeout;
 
     public StreamManager(Connection connection) {
+        this(null, connection);
+    }
+
+    public StreamManager(LocalSession session, Connection connection) {
 		String address;
 		try {
 			address = connection.getHostAddress();
@@ -85,6 +146,7 @@ public class StreamManager {
 
 		this.Log = LoggerFactory.getLogger(StreamManager.class + "["+ (address == null ? "(unknown address)" : address) +"]" );
     	this.connection = connection;
+    	this.session = session;
     }
 
 	/**
@@ -97,7 +159,7 @@ public class StreamManager {
 	{
 		switch(element.getName()) {
 			case "enable":
-				enable( onBehalfOf, element.getNamespace().getStringValue() );
+				enable( onBehalfOf, element.getNamespace().getStringValue(), element );
 				break;
 			case "r":
 				sendServerAcknowledgement();
@@ -115,8 +177,9 @@ public class StreamManager {
 	 *
 	 * @param onBehalfOf The address of the entity for which SM is to be enabled.
 	 * @param namespace The namespace that defines what version of SM is to be enabled.
+	 * @param element The enable element, which may request the resumption of the session.
 	 */
-	private void enable( JID onBehalfOf, String namespace )
+	private void enable( JID onBehalfOf, String namespace, Element element )
 	{
 		// Ensure that resource binding has occurred.
 		if( onBehalfOf.getResource() == null ) {
@@ -124,6 +187,11 @@ public class StreamManager {
 			return;
 		}
 
+		final String resume = element.attributeValue( "resume" );
+		final boolean resumable = ( "true".equals( resume ) || "1".equals( resume ) )
+				&& session instanceof LocalClientSession
+				&& RESUME.getValue();
+
 		synchronized ( this )
 		{
 			// Do nothing if already enabled
@@ -133,10 +201,50 @@ public class StreamManager {
 			}
 
 			this.namespace = namespace;
+			if ( resumable )
+			{
+				// The client may ask for a shorter period than the one we're willing to keep the session.
+				int timeout = RESUME_TIMEOUT.getValue();
+				try
+				{
+					final int max = Integer.parseInt( element.attributeValue( "max", "0" ) );
+					if ( max > 0 && max < timeout )
+					{
+						timeout = max;
+					}
+				}
+				catch ( NumberFormatException e )
+				{
+					Log.debug( "Ignoring invalid 'max' attribute: {}", element.attributeValue( "max" ) );
+				}
+				resumeTimeout = timeout;
+				resumeId = StringUtils.randomString( 32 );
+				this.resumable = true;
+			}
 		}
 
-		// Send confirmation to the requestee.
-		connection.deliverRawText( String.format( "<enabled xmlns='%s'/>", namespace ) );
+		if ( resumable )
+		{
+			SessionManager.getInstance().registerResumableSession( resumeId, (LocalClientSession) session );
+			connection.deliverRawText( String.format( "<enabled xmlns='%s' id='%s' resume='true' max='%d'/>", namespace, resumeId, resumeTimeout ) );
+		}
+		else
+		{
+			// Send confirmation to the requestee.
+			connection.deliverRawText( String.format( "<enabled xmlns='%s'/>", namespace ) );
+		}
+	}
+
+	/**
+	 * Returns the XML of a failed element, sent when a stream management request could not be processed.
+	 *
+	 * @param namespace The namespace of the stream management version in use.
+	 * @param condition The reason of the failure.
+	 * @return a failed element.
+	 */
+	public static String getFailedElement( String namespace, PacketError.Condition condition )
+	{
+		return String.format( "<failed xmlns='%s'>", namespace ) + new PacketError( condition ).toXML() + "</failed>";
 	}
 
 	/**
@@ -164,11 +272,7 @@ public class StreamManager {
 	 * e.g. before resource-binding has completed.
 	 */
 	private void sendUnexpectedError() {
-		connection.deliverRawText(
-				String.format( "<failed xmlns='%s'>", namespace )
-						+ new PacketError( PacketError.Condition.unexpected_request ).toXML()
-						+ "</failed>"
-		);
+		connection.deliverRawText( getFailedElement( namespace, PacketError.Condition.unexpected_request ) );
 	}
 
 	/**
@@ -181,39 +285,47 @@ public class StreamManager {
 				final long h = Long.valueOf(ack.attributeValue("h"));
 
 				Log.debug( "Received acknowledgement from client: h={}", h );
-				synchronized (this) {
-
-					if ( !unacknowledgedServerStanzas.isEmpty() && h > unacknowledgedServerStanzas.getLast().x ) {
-						Log.warn( "Client acknowledges stanzas that we didn't send! Client Ack h: {}, our last stanza: {}", h, unacknowledgedServerStanzas.getLast().x );
-					}
+				acknowledge( h );
+			}
+		}
+	}
 
-					clientProcessedStanzas = h;
+	/**
+	 * Removes the stanzas that the client acknowledged from temporary storage.
+	 *
+	 * @param h the number of stanzas that the client processed.
+	 */
+	private synchronized void acknowledge( long h ) {
+		if ( !unacknowledgedServerStanzas.isEmpty() && h > unacknowledgedServerStanzas.getLastId() ) {
+			Log.warn( "Client acknowledges stanzas that we didn't send! Client Ack h: {}, our last stanza: {}", h, unacknowledgedServerStanzas.getLastId() );
+		}
 
-					// Remove stanzas from temporary storage as now acknowledged
-					Log.trace( "Before processing client Ack (h={}): {} unacknowledged stanzas.", h, unacknowledgedServerStanzas.size() );
+		clientProcessedStanzas = h;
 
-					// Pop all acknowledged stanzas.
-					while( !unacknowledgedServerStanzas.isEmpty() && unacknowledgedServerStanzas.getFirst().x <= h )
-					{
-						unacknowledgedServerStanzas.removeFirst();
-					}
+		// Remove stanzas from temporary storage as now acknowledged
+		Log.trace( "Before processing client Ack (h={}): {} unacknowledged stanzas.", h, unacknowledgedServerStanzas.size() );
 
-					// Ensure that unacknowledged stanzas are purged after the client rolled over 'h' which occurs at h= (2^32)-1
-					final int maxUnacked = getMaximumUnacknowledgedStanzas();
-					final boolean clientHadRollOver = h < maxUnacked && !unacknowledgedServerStanzas.isEmpty() && unacknowledgedServerStanzas.getLast().x > mask - maxUnacked;
-					if ( clientHadRollOver )
-					{
-						Log.info( "Client rolled over 'h'. Purging high-numbered unacknowledged stanzas." );
-						while ( !unacknowledgedServerStanzas.isEmpty() && unacknowledgedServerStanzas.getLast().x > mask - maxUnacked)
-						{
-							unacknowledgedServerStanzas.removeLast();
-						}
-					}
+		// Pop all acknowledged stanzas.
+		long released = 0;
+		while( !unacknowledgedServerStanzas.isEmpty() && unacknowledgedServerStanzas.getFirstId() <= h )
+		{
+			released += unacknowledgedServerStanzas.removeFirst();
+		}
 
-					Log.trace( "After processing client Ack (h={}): {} unacknowledged stanzas.", h, unacknowledgedServerStanzas.size());
-				}
+		// Ensure that unacknowledged stanzas are purged after the client rolled over 'h' which occurs at h= (2^32)-1
+		final int maxUnacked = getMaximumUnacknowledgedStanzas();
+		final boolean clientHadRollOver = h < maxUnacked && !unacknowledgedServerStanzas.isEmpty() && unacknowledgedServerStanzas.getLastId() > mask - maxUnacked;
+		if ( clientHadRollOver )
+		{
+			Log.info( "Client rolled over 'h'. Purging high-numbered unacknowledged stanzas." );
+			while ( !unacknowledgedServerStanzas.isEmpty() && unacknowledgedServerStanzas.getLastId() > mask - maxUnacked)
+			{
+				released += unacknowledgedServerStanzas.removeLast();
 			}
 		}
+		released( released );
+
+		Log.trace( "After processing client Ack (h={}): {} unacknowledged stanzas.", h, unacknowledgedServerStanzas.size());
 	}
 
 	/**
@@ -223,14 +335,18 @@ public class StreamManager {
 	public void sentStanza(Packet packet) {
 
 		if(isEnabled()) {
-			final long requestFrequency = JiveGlobals.getLongProperty( "stream.management.requestFrequency", 5 );
+			final long requestFrequency = REQUEST_FREQUENCY.getValue();
 			final int size;
 
+			final String stanza = packet.toXML();
+
 			synchronized (this)
 			{
 				// The next ID is one higher than the last stanza that was sent (which might be unacknowledged!)
-				final long x = 1 + ( unacknowledgedServerStanzas.isEmpty() ? clientProcessedStanzas : unacknowledgedServerStanzas.getLast().x );
-				unacknowledgedServerStanzas.addLast( new StreamManager.UnackedPacket( x, packet.createCopy() ) );
+				final long x = 1 + ( unacknowledgedServerStanzas.isEmpty() ? clientProcessedStanzas : unacknowledgedServerStanzas.getLastId() );
+				final long added = unacknowledgedServerStanzas.add( x, stanza, packet instanceof Message, System.currentTimeMillis() );
+				unacknowledgedBytes += added;
+				totalUnacknowledgedBytes.addAndGet( added );
 
 				size = unacknowledgedServerStanzas.size();
 
@@ -241,13 +357,20 @@ public class StreamManager {
 				{
 					Log.warn( "To many stanzas go unacknowledged for this connection. Clearing queue and disabling functionality." );
 					namespace = null;
-					unacknowledgedServerStanzas.clear();
+					resumable = false;
+					if ( connection.isClosed() )
+					{
+						// The session is detached, so the client never received the held stanzas
+						final XMPPServer server = XMPPServer.getInstance();
+						redeliverMessages( server.getPacketRouter(), server.getServerInfo().getXMPPDomain() );
+					}
+					released( unacknowledgedServerStanzas.clear() );
 					return;
 				}
 			}
 
 			// When we have a sizable amount of unacknowledged stanzas, request acknowledgement.
-			if ( size % requestFrequency == 0 ) {
+			if ( size % requestFrequency == 0 && !connection.isClosed() ) {
 				Log.debug( "Requesting acknowledgement from peer, as we have {} or more unacknowledged stanzas.", requestFrequency );
 				sendServerRequest();
 			}
@@ -260,20 +383,116 @@ public class StreamManager {
 		synchronized (this) {
 			if(isEnabled()) {
 				namespace = null; // disable stream management.
-				for (StreamManager.UnackedPacket unacked : unacknowledgedServerStanzas) {
-					if (unacked.packet instanceof Message) {
-						Message m = (Message) unacked.packet;
-						if (m.getExtension("delay", "urn:xmpp:delay") == null) {
-							Element delayInformation = m.addChildElement("delay", "urn:xmpp:delay");
-							delayInformation.addAttribute("stamp", XMPPDateTimeFormat.format(unacked.timestamp));
-							delayInformation.addAttribute("from", serverAddress.toBareJID());
-						}
-						router.route(unacked.packet);
-					}
+				resumable = false;
+				redeliverMessages(router, serverAddress.toBareJID());
+				released( unacknowledgedServerStanzas.clear() );
+			}
+		}
+
+	}
+
+	/**
+	 * Routes the unacknowledged messages again, marked as delayed. Stream management must be disabled
+	 * beforehand, so that the messages are not held again by this session.
+	 *
+	 * @param router the router of the messages.
+	 * @param serverAddress the address of the server, used as the origin of the delay.
+	 */
+	private synchronized void redeliverMessages(PacketRouter router, String serverAddress) {
+		for (int i = 0; i < unacknowledgedServerStanzas.size(); i++) {
+			if (unacknowledgedServerStanzas.isMessage(i)) {
+				final Message m;
+				try {
+					m = new Message(DocumentHelper.parseText(unacknowledgedServerStanzas.getStanza(i)).getRootElement(), true);
+				}
+				catch (DocumentException e) {
+					Log.warn("Unable to re-deliver unacknowledged stanza: {}", unacknowledgedServerStanzas.getStanza(i), e);
+					continue;
+				}
+				if (m.getExtension("delay", "urn:xmpp:delay") == null) {
+					Element delayInformation = m.addChildElement("delay", "urn:xmpp:delay");
+					delayInformation.addAttribute("stamp", XMPPDateTimeFormat.format(new Date(unacknowledgedServerStanzas.getTimestamp(i))));
+					delayInformation.addAttribute("from", serverAddress);
 				}
+				router.route(m);
 			}
 		}
+	}
+
+	/**
+	 * Continues the stream of the session over a new connection. The stanzas that the client acknowledged are
+	 * discarded, the resumption is confirmed and the other unacknowledged stanzas are sent again.
+	 *
+	 * @param newConnection The connection that resumes the stream.
+	 * @param h The number of stanzas that the client processed.
+	 */
+	public synchronized void onResume( Connection newConnection, long h )
+	{
+		connection = newConnection;
+		acknowledge( h );
+		connection.deliverRawText( String.format( "<resumed xmlns='%s' h='%s' previd='%s'/>", namespace, serverProcessedStanzas & mask, resumeId ) );
+		for ( int i = 0; i < unacknowledgedServerStanzas.size(); i++ )
+		{
+			connection.deliverRawText( unacknowledgedServerStanzas.getStanza( i ) );
+		}
+		Log.debug( "Resumed stream. Sent {} unacknowledged stanzas again.", unacknowledgedServerStanzas.size() );
+	}
+
+	/**
+	 * Determines whether the session of this manager can be resumed after its connection was lost.
+	 *
+	 * @return true when the client asked for resumption and the stream was not closed formally.
+	 */
+	public boolean isResumable() {
+		return isEnabled() && resumable;
+	}
+
+	/**
+	 * Prevents the resumption of the session, typically because the stream was closed formally.
+	 */
+	public void disableResumption() {
+		resumable = false;
+	}
+
+	/**
+	 * Returns the identifier used by the client to resume the session.
+	 *
+	 * @return the identifier, or null if the client did not ask for resumption.
+	 */
+	public String getResumeId() {
+		return resumeId;
+	}
+
+	/**
+	 * Returns the maximum number of seconds that the session is kept after its connection was lost.
+	 *
+	 * @return a number of seconds.
+	 */
+	public int getResumeTimeout() {
+		return resumeTimeout;
+	}
+
+	/**
+	 * Returns the estimated memory used by the unacknowledged stanzas of this session.
+	 *
+	 * @return a number of bytes.
+	 */
+	public long getUnacknowledgedBytes() {
+		return unacknowledgedBytes;
+	}
+
+	/**
+	 * Returns the estimated memory used by the unacknowledged stanzas of all sessions.
+	 *
+	 * @return a number of bytes.
+	 */
+	public static long getTotalUnacknowledgedBytes() {
+		return totalUnacknowledgedBytes.get();
+	}
 
+	private void released( long bytes ) {
+		unacknowledgedBytes -= bytes;
+		totalUnacknowledgedBytes.addAndGet( -bytes );
 	}
 
 	/**
@@ -301,6 +520,6 @@ public class StreamManager {
 	 */
 	private int getMaximumUnacknowledgedStanzas()
 	{
-		return JiveGlobals.getIntProperty( "stream.management.max-unacked", 10000 );
+		return MAX_UNACKED.getValue();
 	}
 }
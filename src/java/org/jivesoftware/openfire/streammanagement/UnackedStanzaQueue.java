@@ -0,0 +1,189 @@
+package org.jivesoftware.openfire.streammanagement;
+
+import java.util.Arrays;
+
+/**
+ * The stanzas that were sent to a client, but that were not acknowledged yet, in the order in
+ * which they were sent. The stanzas are kept in their serialized form in a ring buffer, which
+ * takes a fraction of the memory of a copy of their DOM and allows them to be retransmitted
+ * without serializing them again.<p>
+ *
+ * This class is not thread-safe.
+ */
+class UnackedStanzaQueue {
+
+    /**
+     * Estimated memory used by an entry, in addition to the characters of its stanza.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private long[] ids;
+    private long[] timestamps;
+    private String[] stanzas;
+    private boolean[] messages;
+
+    private int head = 0;
+    private int size = 0;
+    private long bytes = 0;
+
+    UnackedStanzaQueue() {
+        this(16);
+    }
+
+    UnackedStanzaQueue(int capacity) {
+        ids = new long[capacity];
+        timestamps = new long[capacity];
+        stanzas = new String[capacity];
+        messages = new boolean[capacity];
+    }
+
+    /**
+     * Adds a stanza at the end of the queue.
+     *
+     * @param id the sequence number of the stanza.
+     * @param stanza the serialized stanza.
+     * @param message true if the stanza is a message.
+     * @param timestamp the time at which the stanza was sent.
+     * @return the estimated memory used by the new entry, in bytes.
+     */
+    long add(long id, String stanza, boolean message, long timestamp) {
+        if (size == ids.length) {
+            grow();
+        }
+        final int index = (head + size) % ids.length;
+        ids[index] = id;
+        stanzas[index] = stanza;
+        messages[index] = message;
+        timestamps[index] = timestamp;
+        size++;
+        final long entryBytes = estimate(stanza);
+        bytes += entryBytes;
+        return entryBytes;
+    }
+
+    /**
+     * Removes the first (oldest) stanza of the queue.
+     *
+     * @return the estimated memory that was released, in bytes.
+     */
+    long removeFirst() {
+        checkNotEmpty();
+        final long entryBytes = estimate(stanzas[head]);
+        stanzas[head] = null;
+        head = (head + 1) % ids.length;
+        size--;
+        bytes -= entryBytes;
+        return entryBytes;
+    }
+
+    /**
+     * Removes the last (newest) stanza of the queue.
+     *
+     * @return the estimated memory that was released, in bytes.
+     */
+    long removeLast() {
+        checkNotEmpty();
+        final int index = (head + size - 1) % ids.length;
+        final long entryBytes = estimate(stanzas[index]);
+        stanzas[index] = null;
+        size--;
+        bytes -= entryBytes;
+        return entryBytes;
+    }
+
+    /**
+     * Removes all stanzas.
+     *
+     * @return the estimated memory that was released, in bytes.
+     */
+    long clear() {
+        final long released = bytes;
+        Arrays.fill(stanzas, null);
+        head = 0;
+        size = 0;
+        bytes = 0;
+        return released;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the estimated memory used by the queued stanzas.
+     *
+     * @return a number of bytes.
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    long getFirstId() {
+        checkNotEmpty();
+        return ids[head];
+    }
+
+    long getLastId() {
+        checkNotEmpty();
+        return ids[(head + size - 1) % ids.length];
+    }
+
+    // Accessors of the i-th oldest stanza (0 is the first one)
+
+    long getId(int i) {
+        return ids[index(i)];
+    }
+
+    String getStanza(int i) {
+        return stanzas[index(i)];
+    }
+
+    boolean isMessage(int i) {
+        return messages[index(i)];
+    }
+
+    long getTimestamp(int i) {
+        return timestamps[index(i)];
+    }
+
+    private int index(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+        }
+        return (head + i) % ids.length;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("The queue is empty");
+        }
+    }
+
+    private void grow() {
+        final int capacity = ids.length * 2;
+        final long[] newIds = new long[capacity];
+        final long[] newTimestamps = new long[capacity];
+        final String[] newStanzas = new String[capacity];
+        final boolean[] newMessages = new boolean[capacity];
+        for (int i = 0; i < size; i++) {
+            final int index = (head + i) % ids.length;
+            newIds[i] = ids[index];
+            newTimestamps[i] = timestamps[index];
+            newStanzas[i] = stanzas[index];
+            newMessages[i] = messages[index];
+        }
+        ids = newIds;
+        timestamps = newTimestamps;
+        stanzas = newStanzas;
+        messages = newMessages;
+        head = 0;
+    }
+
+    private static long estimate(String stanza) {
+        return ENTRY_OVERHEAD + 2L * stanza.length();
+    }
+}
@@ -525,6 +525,16 @@ public class JiveGlobals {
         openfireProperties.deleteProperty(name);
     }
 
+    /**
+     * Returns true if the Jive properties have been loaded. Until then, in setup mode,
+     * properties have their default values.
+     *
+     * @return true if the Jive properties have been loaded.
+     */
+    static boolean arePropertiesLoaded() {
+        return properties != null;
+    }
+
     /**
      * Returns a Jive property.
      *
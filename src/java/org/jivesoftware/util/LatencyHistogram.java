@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations. Durations are counted in buckets whose upper bounds are
+ * powers of two microseconds (1us, 2us, 4us, ... up to about 35 minutes), so recording a value
+ * is a couple of atomic increments and percentiles are accurate to a factor of two, which is
+ * enough to tell a healthy latency from an unhealthy one.<p>
+ *
+ * Histograms are typically sampled and reset periodically by a
+ * {@link org.jivesoftware.openfire.stats.Statistic}.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        final long micros = Math.max(0, nanos / 1000);
+        final int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        total.incrementAndGet();
+        sum.addAndGet(micros);
+    }
+
+    /**
+     * Returns the number of durations recorded since the last reset.
+     *
+     * @return the number of recorded durations.
+     */
+    public long getCount() {
+        return total.get();
+    }
+
+    /**
+     * Returns the average of the durations recorded since the last reset.
+     *
+     * @return the average duration in milliseconds, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        final long count = total.get();
+        return count == 0 ? 0 : sum.get() / 1000d / count;
+    }
+
+    /**
+     * Returns an upper bound of the specified percentile of the durations recorded since the
+     * last reset.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @return the duration in milliseconds, or 0 if nothing was recorded.
+     */
+    public double getPercentile(double percentile) {
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100d);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && snapshot[i] > 0) {
+                return (1L << i) / 1000d;
+            }
+        }
+        return (1L << (BUCKETS - 1)) / 1000d;
+    }
+
+    /**
+     * Removes all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        sum.set(0);
+    }
+}
@@ -0,0 +1,253 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A typed Jive property with a default value, whose value is parsed once and cached. The cached
+ * value is discarded when the property is set or deleted, on this or any other cluster node, so
+ * reading the value is as cheap as reading a field. Properties are meant to be created once, as
+ * static fields of the classes that use them, for example:
+ *
+ * <pre>
+ * private static final SystemProperty&lt;Boolean&gt; ALL_RESOURCES =
+ *         SystemProperty.ofBoolean("route.all-resources", false);
+ * ...
+ * if (ALL_RESOURCES.getValue()) {
+ * </pre>
+ *
+ * Values that can't be parsed, or that are out of the range of a numeric property, are logged
+ * and the default value is used instead.
+ *
+ * @param <T> the type of the value.
+ */
+public abstract class SystemProperty<T> {
+
+    private static final Logger Log = LoggerFactory.getLogger(SystemProperty.class);
+
+    private static final ConcurrentHashMap<String, List<SystemProperty<?>>> properties = new ConcurrentHashMap<>();
+
+    static {
+        PropertyEventDispatcher.addListener(new PropertyEventListener() {
+            @Override
+            public void propertySet(String property, Map<String, Object> params) {
+                reset(property);
+            }
+
+            @Override
+            public void propertyDeleted(String property, Map<String, Object> params) {
+                reset(property);
+            }
+
+            @Override
+            public void xmlPropertySet(String property, Map<String, Object> params) {
+                // Ignore.
+            }
+
+            @Override
+            public void xmlPropertyDeleted(String property, Map<String, Object> params) {
+                // Ignore.
+            }
+        });
+    }
+
+    /**
+     * Creates a boolean property, that is true if its value is <tt>"true"</tt> (ignoring case).
+     *
+     * @param key the name of the property.
+     * @param defaultValue the value if the property doesn't exist.
+     * @return the property.
+     */
+    public static SystemProperty<Boolean> ofBoolean(String key, boolean defaultValue) {
+        return new SystemProperty<Boolean>(key, defaultValue) {
+            @Override
+            Boolean parse(String value) {
+                return Boolean.valueOf(value);
+            }
+        };
+    }
+
+    /**
+     * Creates an integer property.
+     *
+     * @param key the name of the property.
+     * @param defaultValue the value if the property doesn't exist or is not valid.
+     * @param minValue the smallest valid value.
+     * @param maxValue the greatest valid value.
+     * @return the property.
+     */
+    public static SystemProperty<Integer> ofInteger(String key, int defaultValue, final int minValue,
+            final int maxValue)
+    {
+        return new SystemProperty<Integer>(key, defaultValue) {
+            @Override
+            Integer parse(String value) {
+                int number = Integer.parseInt(value);
+                if (number < minValue || number > maxValue) {
+                    throw new IllegalArgumentException(value + " is not between " + minValue + " and " + maxValue);
+                }
+                return number;
+            }
+        };
+    }
+
+    /**
+     * Creates a long property.
+     *
+     * @param key the name of the property.
+     * @param defaultValue the value if the property doesn't exist or is not valid.
+     * @param minValue the smallest valid value.
+     * @param maxValue the greatest valid value.
+     * @return the property.
+     */
+    public static SystemProperty<Long> ofLong(String key, long defaultValue, final long minValue,
+            final long maxValue)
+    {
+        return new SystemProperty<Long>(key, defaultValue) {
+            @Override
+            Long parse(String value) {
+                long number = Long.parseLong(value);
+                if (number < minValue || number > maxValue) {
+                    throw new IllegalArgumentException(value + " is not between " + minValue + " and " + maxValue);
+                }
+                return number;
+            }
+        };
+    }
+
+    /**
+     * Creates a string property.
+     *
+     * @param key the name of the property.
+     * @param defaultValue the value if the property doesn't exist, that can't be <tt>null</tt>.
+     * @return the property.
+     */
+    public static SystemProperty<String> ofString(String key, String defaultValue) {
+        return new SystemProperty<String>(key, defaultValue) {
+            @Override
+            String parse(String value) {
+                return value;
+            }
+        };
+    }
+
+    private static void reset(String key) {
+        List<SystemProperty<?>> list = properties.get(key);
+        if (list != null) {
+            for (SystemProperty<?> property : list) {
+                property.reset();
+            }
+        }
+    }
+
+    private final String key;
+    private final T defaultValue;
+    /**
+     * The cached value, or <tt>null</tt> if it has to be loaded.
+     */
+    private volatile T value;
+
+    private SystemProperty(String key, T defaultValue) {
+        if (defaultValue == null) {
+            throw new NullPointerException("The default value of " + key + " can't be null");
+        }
+        this.key = key;
+        this.defaultValue = defaultValue;
+        List<SystemProperty<?>> list = properties.get(key);
+        if (list == null) {
+            List<SystemProperty<?>> newList = new CopyOnWriteArrayList<>();
+            list = properties.putIfAbsent(key, newList);
+            if (list == null) {
+                list = newList;
+            }
+        }
+        list.add(this);
+    }
+
+    /**
+     * Parses a value of the property.
+     *
+     * @param value the value.
+     * @return the parsed value.
+     * @throws IllegalArgumentException if the value is not valid.
+     */
+    abstract T parse(String value);
+
+    public String getKey() {
+        return key;
+    }
+
+    public T getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the value of the property.
+     *
+     * @return the value, or the default value if the property doesn't exist or is not valid.
+     */
+    public T getValue() {
+        T value = this.value;
+        return value != null ? value : load();
+    }
+
+    /**
+     * Sets the value of the property.
+     *
+     * @param value the new value.
+     */
+    public void setValue(T value) {
+        JiveGlobals.setProperty(key, value.toString());
+    }
+
+    private synchronized T load() {
+        if (value != null) {
+            return value;
+        }
+        String string = JiveGlobals.getProperty(key);
+        T value = defaultValue;
+        if (string != null) {
+            try {
+                value = parse(string.trim());
+            }
+            catch (IllegalArgumentException e) {
+                Log.warn("Invalid value of property " + key + ": " + e.getMessage() + ". Using " + defaultValue + " instead.");
+            }
+        }
+        // The properties have their default values in setup mode
+        if (JiveGlobals.arePropertiesLoaded()) {
+            this.value = value;
+        }
+        return value;
+    }
+
+    private synchronized void reset() {
+        value = null;
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + getValue();
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.util;
+
+/**
+ * A token bucket that limits the rate of events. The bucket holds up to <tt>burst</tt> tokens
+ * and is refilled at <tt>rate</tt> tokens per second. Every event takes one token.<p>
+ *
+ * When the bucket is empty an event can reserve a future token: the caller is told how long
+ * to wait before the event may proceed. Reservations are taken into account by the next
+ * callers, so that events that are delayed are spread out at the rate of the bucket.
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1000000000d;
+
+    private final double rate;
+    private final int burst;
+
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param rate the number of tokens added per second (must be positive).
+     * @param burst the maximum number of tokens in the bucket (must be positive).
+     */
+    public TokenBucket(double rate, int burst) {
+        if (rate <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.rate = rate;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket, or reserves the next free token when the bucket is empty.
+     *
+     * @param scale a factor applied to the rate of the bucket, between 0 (exclusive) and 1.
+     * @param maxWait the maximum time that the caller is willing to wait, in nanoseconds.
+     * @param now the current value of {@link System#nanoTime()}.
+     * @return the time to wait before the event can proceed in nanoseconds (0 if the event can
+     *         proceed immediately), or -1 if the wait would exceed <tt>maxWait</tt>, in which
+     *         case no token was taken.
+     */
+    public synchronized long reserve(double scale, long maxWait, long now) {
+        final double effectiveRate = rate * scale;
+        refill(effectiveRate, now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        final long wait = (long) Math.ceil((1 - tokens) / effectiveRate * NANOS_PER_SECOND);
+        if (wait > maxWait) {
+            return -1;
+        }
+        tokens -= 1;
+        return wait;
+    }
+
+    /**
+     * Returns a token that was taken or reserved, but not used.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(burst, tokens + 1);
+    }
+
+    /**
+     * Returns true if the bucket was refilled completely, which means that it is equivalent to
+     * a new bucket and can be discarded.
+     *
+     * @param now the current value of {@link System#nanoTime()}.
+     * @return true if the bucket is full.
+     */
+    public synchronized boolean isFull(long now) {
+        refill(rate, now);
+        return tokens >= burst;
+    }
+
+    private void refill(double effectiveRate, long now) {
+        final long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * effectiveRate / NANOS_PER_SECOND);
+            lastRefill = now;
+        }
+    }
+}
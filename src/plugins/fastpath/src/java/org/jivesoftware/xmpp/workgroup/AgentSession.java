@@ -147,6 +147,9 @@ public class AgentSession {
                 if (added) {
                     requestQueue.getAgentSessionList().addAgentSession(this);
                 }
+                else {
+                    requestQueue.getAgentSessionList().updateAgentSession(this);
+                }
                 requestQueue.sendStatus(getJID());
                 requestQueue.sendDetailedStatus(getJID());
             }
@@ -520,6 +523,7 @@ public class AgentSession {
         queue.add(new ChatInfo(sessionID, request, date));
         // Update all agents with a new agent-status packet with the current-chats updated.
         sendStatusToAllAgents(workgroup);
+        notifyChatsChanged(workgroup);
     }
 
     /**
@@ -538,11 +542,24 @@ public class AgentSession {
                 chats.remove(chatInfo);
                 // Update all agents with a new agent-status packet with the current-chats updated.
                 sendStatusToAllAgents(workgroup);
+                notifyChatsChanged(workgroup);
                 break;
             }
         }
     }
 
+    /**
+     * Lets the dispatchers of the workgroup queues know that the number of chats of this
+     * agent changed, so they can route waiting requests to the agent right away.
+     *
+     * @param workgroup workgroup where the number of chats changed.
+     */
+    private void notifyChatsChanged(Workgroup workgroup) {
+        for (RequestQueue requestQueue : workgroup.getRequestQueues()) {
+            requestQueue.getAgentSessionList().updateAgentSession(this);
+        }
+    }
+
     /**
      * Returns a list with the actual chats info that the agent is having at the moment. The
      * returned collection is a snapshot of the chats so it will not be updated if a chat finished
@@ -130,6 +130,20 @@ public class AgentSessionList {
         }
     }
 
+    /**
+     * Notifies the listeners that the presence or the number of chats of an agent session
+     * changed. Nothing happens if the session is not in this list.
+     *
+     * @param agentSession the session that changed.
+     */
+    public void updateAgentSession(AgentSession agentSession) {
+        if (sessionList.containsKey(agentSession)) {
+            for (AgentSessionListener listener : listenerList) {
+                listener.notifySessionUpdated(agentSession);
+            }
+        }
+    }
+
     public int getAgentSessionCount() {
         return sessionList.size();
     }
@@ -42,4 +42,12 @@ public interface AgentSessionListener {
      * @param session The session that was removed
      */
     void notifySessionRemoved(AgentSession session);
+
+    /**
+     * <p>Called after the presence or the number of chats of an agent session in the
+     * list changed.</p>
+     *
+     * @param session The session that changed
+     */
+    void notifySessionUpdated(AgentSession session);
 }
@@ -90,7 +90,7 @@ public class Offer {
     /**
      * Flag indicating the offer has been cancelled or not.
      */
-    private boolean cancelled;
+    private volatile boolean cancelled;
 
     /**
      * Flag indicating an invitation was sent to an agent or not. An invitation will be sent after
@@ -98,6 +98,11 @@ public class Offer {
      */
     private boolean invitationSent;
 
+    /**
+     * Listener to notify when an agent answers this offer or the offer is cancelled.
+     */
+    private volatile OfferListener listener;
+
     /**
      * Defined States *
      */
@@ -138,6 +143,7 @@ public class Offer {
     public void accept(AgentSession agentSession) {
         acceptedSessions.add(agentSession);
         pendingSessions.remove(agentSession);
+        fireOfferChanged();
     }
 
     public void reject(AgentSession agentSession) {
@@ -145,6 +151,23 @@ public class Offer {
             addRejector(agentSession);
             pendingSessions.remove(agentSession);
             agentSession.removeOffer(this);
+            fireOfferChanged();
+        }
+    }
+
+    /**
+     * Sets the listener to notify when an agent answers this offer or the offer is cancelled.
+     *
+     * @param listener the listener or <tt>null</tt> to stop notifying.
+     */
+    public void setListener(OfferListener listener) {
+        this.listener = listener;
+    }
+
+    private void fireOfferChanged() {
+        OfferListener listener = this.listener;
+        if (listener != null) {
+            listener.offerChanged(this);
         }
     }
 
@@ -203,16 +226,32 @@ public class Offer {
         }
     }
 
-    public void waitForResolution() {
-        long timeoutTime = offerTime.getTime() + timeout;
-        while (timeoutTime > System.currentTimeMillis() && !isAccepted() && !pendingSessions.isEmpty()) {
-            try {
-                Thread.sleep(500); // half second polling
-            }
-            catch (InterruptedException e) {
-                // do nothing
-            }
-        }
+    /**
+     * Returns the time in milliseconds when the agents that received the offer stop waiting
+     * for their answer.
+     *
+     * @return the time when the offer times out.
+     */
+    public long getExpirationTime() {
+        return offerTime.getTime() + timeout;
+    }
+
+    /**
+     * Returns true if the offer was accepted, all the agents that received it have answered
+     * or the offer timed out.
+     *
+     * @return true if there is no need to wait for answers to the offer.
+     */
+    public boolean isResolved() {
+        return isAccepted() || pendingSessions.isEmpty() ||
+                getExpirationTime() <= System.currentTimeMillis();
+    }
+
+    /**
+     * Revokes the offer from the agents that did not answer it. Those agents are considered
+     * to have rejected the offer. Nothing happens if the offer was accepted.
+     */
+    public void expire() {
         if (!isAccepted()) {
             try {
                 for (AgentSession session : pendingSessions) {
@@ -244,6 +283,7 @@ public class Offer {
         else {
             updateUserSession(ROUTE_EXPIRED);
         }
+        fireOfferChanged();
     }
 
     public void addPendingSession(AgentSession agentSession) {
@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2004-2008 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.xmpp.workgroup;
+
+/**
+ * <p>Implement to be notified when an offer changes.</p>
+ * <p>Dispatchers use this to react as soon as an agent answers an offer instead of
+ * polling the offer for an answer.</p>
+ */
+public interface OfferListener {
+
+    /**
+     * <p>Called after an agent accepted or rejected the offer, or after the offer
+     * was cancelled.</p>
+     *
+     * @param offer the offer that changed.
+     */
+    void offerChanged(Offer offer);
+}
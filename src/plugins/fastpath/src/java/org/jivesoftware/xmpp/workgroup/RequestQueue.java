@@ -302,6 +302,8 @@ public class RequestQueue {
         requests.add(request);
         activeAgents.broadcastQueueStatus(this);
         request.updateQueueStatus(false);
+        // Offer the request to an agent right away instead of waiting for the next dispatcher run
+        dispatcher.injectRequest(request);
     }
 
 
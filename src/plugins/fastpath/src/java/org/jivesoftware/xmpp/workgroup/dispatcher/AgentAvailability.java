@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2004-2008 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.xmpp.workgroup.dispatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.jivesoftware.xmpp.workgroup.AgentSession;
+import org.jivesoftware.xmpp.workgroup.Workgroup;
+
+/**
+ * <p>Ranks the agents of a queue that may receive offers.</p>
+ * <p>Only agents that are available to chat, have not reached their max number of
+ * chats and are not waiting to answer an offer are ranked. Agents with fewer chats come
+ * first and, among agents with the same number of chats, the agent that received an
+ * offer least recently comes first.</p>
+ * <p>The rank of an agent is only updated when the dispatcher is told that the agent
+ * changed, so callers must still check the agent before sending an offer.</p>
+ */
+class AgentAvailability {
+
+    private final Workgroup workgroup;
+
+    /**
+     * Available agents sorted by load and last offer time.
+     */
+    private final TreeSet<Entry> ranking = new TreeSet<Entry>();
+
+    /**
+     * The ranking entry of each available agent.
+     */
+    private final Map<AgentSession, Entry> entries = new HashMap<AgentSession, Entry>();
+
+    /**
+     * The time when each agent of the queue last received an offer.
+     */
+    private final Map<AgentSession, Long> lastOfferTimes = new HashMap<AgentSession, Long>();
+
+    private long sequence;
+
+    AgentAvailability(Workgroup workgroup) {
+        this.workgroup = workgroup;
+    }
+
+    /**
+     * Ranks the agent again after its presence or number of chats changed.
+     *
+     * @param session the agent that changed.
+     */
+    synchronized void update(AgentSession session) {
+        Entry entry = entries.remove(session);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+        int chats = session.getCurrentChats(workgroup);
+        if (session.isAvailableToChat() && chats < session.getMaxChats(workgroup) &&
+                !session.isWaitingOfferAnswer()) {
+            Long lastOfferTime = lastOfferTimes.get(session);
+            entry = new Entry(session, chats, lastOfferTime == null ? 0 : lastOfferTime, sequence++);
+            entries.put(session, entry);
+            ranking.add(entry);
+        }
+    }
+
+    /**
+     * Stops ranking an agent that left the queue.
+     *
+     * @param session the agent that left the queue.
+     */
+    synchronized void remove(AgentSession session) {
+        Entry entry = entries.remove(session);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+        lastOfferTimes.remove(session);
+    }
+
+    /**
+     * Ranks all the agents of the queue again, dropping the agents that are no longer in
+     * the queue. This catches changes that the dispatcher was not told about, such as a new
+     * max number of chats.
+     *
+     * @param sessions the agents of the queue.
+     */
+    synchronized void refresh(Collection<AgentSession> sessions) {
+        for (AgentSession session : new ArrayList<AgentSession>(entries.keySet())) {
+            if (!sessions.contains(session)) {
+                remove(session);
+            }
+        }
+        lastOfferTimes.keySet().retainAll(new HashSet<AgentSession>(sessions));
+        for (AgentSession session : sessions) {
+            update(session);
+        }
+    }
+
+    /**
+     * Moves the agent behind the agents with the same number of chats after it received
+     * an offer.
+     *
+     * @param session the agent that received an offer.
+     */
+    synchronized void offerSent(AgentSession session) {
+        lastOfferTimes.put(session, System.currentTimeMillis());
+        update(session);
+    }
+
+    /**
+     * Returns the available agents, the best agent first.
+     *
+     * @return the available agents.
+     */
+    synchronized List<AgentSession> getAgents() {
+        List<AgentSession> agents = new ArrayList<AgentSession>(ranking.size());
+        for (Entry entry : ranking) {
+            agents.add(entry.session);
+        }
+        return agents;
+    }
+
+    /**
+     * Returns true if no agent is available.
+     *
+     * @return true if no agent is available.
+     */
+    synchronized boolean isEmpty() {
+        return ranking.isEmpty();
+    }
+
+    private static class Entry implements Comparable<Entry> {
+
+        private final AgentSession session;
+        private final int chats;
+        private final long lastOfferTime;
+        private final long sequence;
+
+        Entry(AgentSession session, int chats, long lastOfferTime, long sequence) {
+            this.session = session;
+            this.chats = chats;
+            this.lastOfferTime = lastOfferTime;
+            this.sequence = sequence;
+        }
+
+        public int compareTo(Entry other) {
+            if (chats != other.chats) {
+                return chats < other.chats ? -1 : 1;
+            }
+            if (lastOfferTime != other.lastOfferTime) {
+                return lastOfferTime < other.lastOfferTime ? -1 : 1;
+            }
+            return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+        }
+    }
+}
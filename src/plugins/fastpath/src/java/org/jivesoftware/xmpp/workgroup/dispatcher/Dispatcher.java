@@ -26,6 +26,7 @@ import org.jivesoftware.xmpp.workgroup.RequestQueue;
 import org.jivesoftware.xmpp.workgroup.UnauthorizedException;
 import org.jivesoftware.xmpp.workgroup.WorkgroupResultFilter;
 import org.jivesoftware.xmpp.workgroup.request.Request;
+import org.jivesoftware.util.LatencyHistogram;
 import org.jivesoftware.util.NotFoundException;
 
 import java.util.Iterator;
@@ -100,4 +101,18 @@ public interface Dispatcher extends DbProperties {
      * @param request the request to be processed.
      */
     void injectRequest(Request request);
+
+    /**
+     * Returns the times that requests waited until an agent accepted them.
+     *
+     * @return the wait times of the accepted requests.
+     */
+    LatencyHistogram getWaitTimes();
+
+    /**
+     * Returns the times that agents took to answer offers, including the offers that timed out.
+     *
+     * @return the answer times of the offers.
+     */
+    LatencyHistogram getOfferLatencies();
 }
\ No newline at end of file
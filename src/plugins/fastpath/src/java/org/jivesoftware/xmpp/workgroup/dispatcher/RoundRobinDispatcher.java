@@ -22,26 +22,30 @@ package org.jivesoftware.xmpp.workgroup.dispatcher;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jivesoftware.openfire.fastpath.util.TaskEngine;
 import org.jivesoftware.openfire.fastpath.util.WorkgroupUtils;
 import org.jivesoftware.util.BeanUtils;
 import org.jivesoftware.util.ClassUtils;
 import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.LatencyHistogram;
 import org.jivesoftware.util.NotFoundException;
 import org.jivesoftware.xmpp.workgroup.AgentSession;
 import org.jivesoftware.xmpp.workgroup.AgentSessionList;
 import org.jivesoftware.xmpp.workgroup.AgentSessionListener;
 import org.jivesoftware.xmpp.workgroup.Offer;
+import org.jivesoftware.xmpp.workgroup.OfferListener;
 import org.jivesoftware.xmpp.workgroup.RequestQueue;
 import org.jivesoftware.xmpp.workgroup.UnauthorizedException;
 import org.jivesoftware.xmpp.workgroup.Workgroup;
@@ -49,6 +53,7 @@ import org.jivesoftware.xmpp.workgroup.WorkgroupResultFilter;
 import org.jivesoftware.xmpp.workgroup.request.Request;
 import org.jivesoftware.xmpp.workgroup.request.UserRequest;
 import org.jivesoftware.xmpp.workgroup.spi.JiveLiveProperties;
+import org.jivesoftware.xmpp.workgroup.spi.dispatcher.BasicAgentSelector;
 import org.jivesoftware.xmpp.workgroup.spi.dispatcher.DbDispatcherInfoProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,18 +62,22 @@ import org.slf4j.LoggerFactory;
  * <p>Implements simple round robin dispatching of offers to agents.</p>
  * <p>Agents are offered requests one at a time with no agent being offer
  * the same request twice (unless their current-chats status changes).</p>
+ * <p>Offers are dispatched without dedicated threads. Each offer moves through its states
+ * in short steps that run in the plugin's thread pool: a step sends the offer to the best
+ * available agent and returns. The next step runs as soon as the agent answers, the offer
+ * times out, an agent becomes available or the request times out.</p>
  *
  * @author Derek DeMoro
  * @author Iain Shigeoka
  */
 public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
-	
+
 	private static final Logger Log = LoggerFactory.getLogger(RoundRobinDispatcher.class);
-			
+
     /**
-     * <p>The circular list of agents in the pool.</p>
+     * <p>The agents in the pool that may receive offers, ranked by load and last offer time.</p>
      */
-    private List<AgentSession> agentList;
+    private AgentAvailability availableAgents;
 
     private RequestQueue queue;
 
@@ -80,11 +89,29 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     private DispatcherInfoProvider infoProvider = new DbDispatcherInfoProvider();
     private AgentSelector agentSelector = WorkgroupUtils.getAvailableAgentSelectors().get(0);
     /**
-     * A set of all outstanding offers in the workgroup<p>
+     * A map of all outstanding offers in the workgroup to their dispatching state<p>
      *
      * Let's the server route offer responses to the correct offer.
      */
-    private Set<Offer> offers = Collections.newSetFromMap(new ConcurrentHashMap<Offer, Boolean>());
+    private Map<Offer, OfferDispatch> offers = new ConcurrentHashMap<Offer, OfferDispatch>();
+
+    /**
+     * Offers that are waiting for an agent to become available, oldest offer first.
+     */
+    private ConcurrentSkipListMap<Long, OfferDispatch> waitingOffers =
+            new ConcurrentSkipListMap<Long, OfferDispatch>();
+
+    private AtomicLong offerSequence = new AtomicLong();
+
+    /**
+     * True while a task that dispatches the waiting offers is queued.
+     */
+    private AtomicBoolean waitingOffersQueued = new AtomicBoolean();
+
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private final LatencyHistogram offerLatencies = new LatencyHistogram();
+
+    private TimerTask checkTask;
 
     /**
      * Creates a new dispatcher for the queue. The dispatcher will have a Timer with a unique task
@@ -93,9 +120,9 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
      * @param queue the queue that contains the requests and the agents that may attend the
      *        requests.
      */
-    public RoundRobinDispatcher(RequestQueue queue) {
+    public RoundRobinDispatcher(final RequestQueue queue) {
         this.queue = queue;
-        agentList = new LinkedList<AgentSession>();
+        availableAgents = new AgentAvailability(queue.getWorkgroup());
         properties = new JiveLiveProperties("fpDispatcherProp", queue.getID());
         try {
             info = infoProvider.getDispatcherInfo(queue.getWorkgroup(), queue.getID());
@@ -111,19 +138,24 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
         // the queue
         fillAgentsList();
 
-        TaskEngine.getInstance().scheduleAtFixedRate(new TimerTask() {
+        // Pick up requests that were not dispatched yet and rejections that expired. Agent
+        // events and offer answers are handled as soon as they happen
+        checkTask = new TimerTask() {
             @Override
 			public void run() {
                 checkForNewRequests();
+                availableAgents.refresh(queue.getAgentSessionList().getAgentSessions());
+                dispatchWaitingOffers();
             }
-        }, 2000, 2000);
+        };
+        TaskEngine.getInstance().scheduleAtFixedRate(checkTask, 2000, 2000);
     }
 
     private void checkForNewRequests() {
         for(Request request : queue.getRequests()){
             // While there are requests pendings try to dispatch an offer for the request to an agent
             // Skip this request if there exists an offer for this requests that is being processed
-            if (request.getOffer() != null && offers.contains(request.getOffer())) {
+            if (request.getOffer() != null && offers.containsKey(request.getOffer())) {
                 continue;
             }
             injectRequest(request);
@@ -131,120 +163,246 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     }
 
     public void injectRequest(Request request) {
-        // Create a new Offer for the request and add it to the list of active offers
-        final Offer offer = new Offer(request, queue, getAgentRejectionTimeout());
-        offer.setTimeout(info.getOfferTimeout());
-        offers.add(offer);
-        // Process this offer in another thread
-        Thread offerThread = new Thread("Dispatch offer - queue: " + queue.getName()) {
-            @Override
-			public void run() {
-                dispatch(offer);
-                // Remove this offer from the list of active offers
-                offers.remove(offer);
+        OfferDispatch dispatch;
+        synchronized (this) {
+            // Skip this request if there exists an offer for this requests that is being processed
+            if (request.getOffer() != null && offers.containsKey(request.getOffer())) {
+                return;
             }
-        };
-        offerThread.start();
+            // Create a new Offer for the request and add it to the list of active offers
+            final Offer offer = new Offer(request, queue, getAgentRejectionTimeout());
+            offer.setTimeout(info.getOfferTimeout());
+            dispatch = new OfferDispatch(offer);
+            offers.put(offer, dispatch);
+        }
+        dispatch.start();
     }
 
     /**
-     * Dispatch the given request to one or more agents in the agent pool.<p>
-     *
-     * If this method returns, it is assumed that the request was properly
-     * dispatched.The only exception is if an agent is not in the pool for routing
-     * within the agent timeout period, the dispatch will throw an AgentNotFoundException
-     * so the request can be re-routed.
-     *
-     * @param offer the offer to send to the best agent available.
+     * Dispatches the offers that are waiting for an agent, oldest offer first, until no
+     * agent is available. The offers are dispatched by a single task of the thread pool.
      */
-    public void dispatch(Offer offer) {
-        // The time when the request should timeout
-        long timeoutTime = System.currentTimeMillis() + info.getRequestTimeout();
-        final Request request = offer.getRequest();
-        boolean canBeInQueue = request instanceof UserRequest;
-        Map<String,List<String>> map = request.getMetaData();
-        String initialAgent = map.get("agent") == null || map.get("agent").isEmpty() ? null : map.get("agent").get(0);
-        String ignoreAgent = map.get("ignore") == null || map.get("ignore").isEmpty() ? null : map.get("ignore").get(0);
-        // Log debug trace
-        Log.debug("RR - Dispatching request: " + request + " in queue: " + queue.getAddress());
-
-        // Send the offer to the best agent. While the offer has not been accepted send it to the
-        // next best agent. If there aren't any agent available then skip this section and proceed
-        // to overflow the current request
-        if (!agentList.isEmpty()) {
-            for (long timeRemaining = timeoutTime - System.currentTimeMillis();
-                 !offer.isAccepted() && timeRemaining > 0 && !offer.isCancelled();
-                 timeRemaining = timeoutTime - System.currentTimeMillis()) {
-
-                try {
-                    AgentSession session = getBestNextAgent(initialAgent, ignoreAgent, offer);
-                    if (session == null && agentList.isEmpty()) {
-                        // Stop looking for an agent since there are no more agent available
-                         break;
-                    }
-                    else if (session == null || offer.isRejector(session)) {
-                        initialAgent = null;
-                        Thread.sleep(1000);
-                    }
-                    else {
-                        // Recheck for changed maxchat setting
-                        Workgroup workgroup = request.getWorkgroup();
-                        if (session.getCurrentChats(workgroup) < session.getMaxChats(workgroup)) {
-                            // Set the timeout of the offer based on the remaining time of the
-                            // initial request and the default offer timeout
-                            timeRemaining = timeoutTime - System.currentTimeMillis();
-                            offer.setTimeout(timeRemaining < info.getOfferTimeout() ?
-                                    timeRemaining : info.getOfferTimeout());
-
-                            // Make the offer and wait for a resolution to the offer
-                            if (!request.sendOffer(session, queue)) {
-                                // Log debug trace
-                                Log.debug("RR - Offer for request: " + offer.getRequest() +
-                                        " FAILED TO BE SENT to agent: " +
-                                        session.getJID());
-                                continue;
-                            }
-                            // Log debug trace
-                            Log.debug("RR - Offer for request: " + offer.getRequest() + " SENT to agent: " +
-                                    session.getJID());
-
-                            offer.waitForResolution();
-                            // If the offer was accepted, we send out the invites
-                            // and reset the offer
-                            if (offer.isAccepted()) {
-                                // Get the first agent that accepted the offer
-                                AgentSession selectedAgent = offer.getAcceptedSessions().get(0);
-                                // Log debug trace
-                                Log.debug("RR - Agent: " + selectedAgent.getJID() +
-                                        " ACCEPTED request: " +
-                                        request);
-                                // Create the room and send the invitations
-                                offer.invite(selectedAgent);
-                                // Notify the agents that accepted the offer that the offer process
-                                // has finished
-                                for (AgentSession agent : offer.getAcceptedSessions()) {
-                                    agent.removeOffer(offer);
-                                }
-                                if (canBeInQueue) {
-                                    // Remove the user from the queue since his request has
-                                    // been accepted
-                                    queue.removeRequest((UserRequest) request);
-                                }
-                            }
-                        }
-                        else {
-                            // Log debug trace
-                            Log.debug("RR - Selected agent: " + session.getJID() +
-                                    " has reached max number of chats");
-                        }
+    private void dispatchWaitingOffers() {
+        if (!waitingOffersQueued.compareAndSet(false, true)) {
+            return;
+        }
+        TaskEngine.getInstance().submit(new Runnable() {
+            public void run() {
+                waitingOffersQueued.set(false);
+                for (OfferDispatch dispatch : waitingOffers.values()) {
+                    if (availableAgents.isEmpty()) {
+                        break;
                     }
+                    dispatch.process();
                 }
-                catch (Exception e) {
-                    Log.error(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Lets the dispatchers of all the queues of the workgroup know that the agent may receive
+     * new offers, after the agent answered an offer or the offer was revoked.
+     *
+     * @param session the agent that answered an offer.
+     */
+    private void releaseAgent(AgentSession session) {
+        for (RequestQueue requestQueue : queue.getWorkgroup().getRequestQueues()) {
+            requestQueue.getAgentSessionList().updateAgentSession(session);
+        }
+    }
+
+    /**
+     * The dispatching of an offer. Dispatching starts WAITING for an agent and moves to
+     * OFFERED when the offer was sent to an agent. When the agent rejects the offer or the
+     * offer times out, dispatching goes back to WAITING. Dispatching is DONE when the offer
+     * was accepted or cancelled, or when the request overflowed or timed out.
+     */
+    private class OfferDispatch implements Runnable, OfferListener {
+
+        private final Offer offer;
+        private final long sequence = offerSequence.incrementAndGet();
+        /**
+         * The time when the request should timeout.
+         */
+        private final long timeoutTime;
+        private final String ignoreAgent;
+        private String initialAgent;
+
+        /**
+         * True while a step of this dispatching is queued in the thread pool.
+         */
+        private final AtomicBoolean queued = new AtomicBoolean();
+
+        private State state = State.WAITING;
+        private AgentSession offeredAgent;
+        private long offerSentTime;
+        private TimerTask timeoutTask;
+        private TimerTask expirationTask;
+
+        OfferDispatch(Offer offer) {
+            this.offer = offer;
+            timeoutTime = System.currentTimeMillis() + info.getRequestTimeout();
+            Map<String,List<String>> map = offer.getRequest().getMetaData();
+            initialAgent = map.get("agent") == null || map.get("agent").isEmpty() ? null : map.get("agent").get(0);
+            ignoreAgent = map.get("ignore") == null || map.get("ignore").isEmpty() ? null : map.get("ignore").get(0);
+        }
+
+        void start() {
+            // Log debug trace
+            Log.debug("RR - Dispatching request: " + offer.getRequest() + " in queue: " + queue.getAddress());
+            offer.setListener(this);
+            timeoutTask = schedule(timeoutTime);
+            wakeUp();
+        }
+
+        public void offerChanged(Offer offer) {
+            wakeUp();
+        }
+
+        /**
+         * Queues a step of this dispatching unless one is already queued.
+         */
+        void wakeUp() {
+            if (queued.compareAndSet(false, true)) {
+                TaskEngine.getInstance().submit(this);
+            }
+        }
+
+        public void run() {
+            queued.set(false);
+            process();
+        }
+
+        synchronized void process() {
+            try {
+                step();
+            }
+            catch (Exception e) {
+                Log.error(e.getMessage(), e);
+            }
+            if (state == State.WAITING) {
+                waitingOffers.put(sequence, this);
+            }
+            else {
+                waitingOffers.remove(sequence);
+            }
+        }
+
+        private void step() {
+            if (state == State.DONE) {
+                return;
+            }
+            if (offer.isCancelled()) {
+                finish();
+                return;
+            }
+            if (state == State.OFFERED) {
+                if (!offer.isResolved()) {
+                    // Wait for the agent to answer or for the offer to time out
+                    return;
+                }
+                offerLatencies.record(System.nanoTime() - offerSentTime);
+                TaskEngine.getInstance().cancelScheduledTask(expirationTask);
+                expirationTask = null;
+                // Revoke the offer if the agent did not answer in time
+                offer.expire();
+                state = State.WAITING;
+                if (!offer.isAccepted()) {
+                    releaseAgent(offeredAgent);
                 }
             }
+            // Agents may accept an offer that was already revoked from them
+            if (offer.isAccepted()) {
+                accepted();
+                finish();
+                return;
+            }
+            if (System.currentTimeMillis() >= timeoutTime) {
+                unattended();
+                finish();
+                return;
+            }
+            offerToBestAgent();
         }
-        if (!offer.isAccepted() && !offer.isCancelled()) {
+
+        /**
+         * Sends the offer to the best agent. If no agent is available the offer keeps waiting
+         * until an agent becomes available or the request times out. If there are no agents in
+         * the queue the request is overflowed right away.
+         */
+        private void offerToBestAgent() {
+            final Request request = offer.getRequest();
+            AgentSession session = getBestNextAgent(initialAgent, ignoreAgent, offer);
+            if (initialAgent != null && (session == null || offer.isRejector(session))) {
+                initialAgent = null;
+                session = getBestNextAgent(null, ignoreAgent, offer);
+            }
+            if (session == null || offer.isRejector(session)) {
+                if (queue.getAgentSessionList().isEmpty()) {
+                    // Stop looking for an agent since there are no more agent available
+                    unattended();
+                    finish();
+                }
+                return;
+            }
+            // Set the timeout of the offer based on the remaining time of the
+            // initial request and the default offer timeout
+            long timeRemaining = timeoutTime - System.currentTimeMillis();
+            offer.setTimeout(timeRemaining < info.getOfferTimeout() ?
+                    timeRemaining : info.getOfferTimeout());
+
+            // Make the offer and wait for a resolution to the offer
+            if (!request.sendOffer(session, queue)) {
+                // Log debug trace
+                Log.debug("RR - Offer for request: " + offer.getRequest() +
+                        " FAILED TO BE SENT to agent: " +
+                        session.getJID());
+                return;
+            }
+            // Log debug trace
+            Log.debug("RR - Offer for request: " + offer.getRequest() + " SENT to agent: " +
+                    session.getJID());
+            availableAgents.offerSent(session);
+            offeredAgent = session;
+            offerSentTime = System.nanoTime();
+            state = State.OFFERED;
+            expirationTask = schedule(offer.getExpirationTime());
+        }
+
+        /**
+         * Sends out the invites to the agent that accepted the offer and resets the offer.
+         */
+        private void accepted() {
+            final Request request = offer.getRequest();
+            // Get the first agent that accepted the offer
+            AgentSession selectedAgent = offer.getAcceptedSessions().get(0);
+            // Log debug trace
+            Log.debug("RR - Agent: " + selectedAgent.getJID() +
+                    " ACCEPTED request: " +
+                    request);
+            waitTimes.record(TimeUnit.MILLISECONDS.toNanos(
+                    System.currentTimeMillis() - request.getCreationTime().getTime()));
+            // Create the room and send the invitations
+            offer.invite(selectedAgent);
+            // Notify the agents that accepted the offer that the offer process
+            // has finished
+            for (AgentSession agent : offer.getAcceptedSessions()) {
+                agent.removeOffer(offer);
+                releaseAgent(agent);
+            }
+            if (request instanceof UserRequest) {
+                // Remove the user from the queue since his request has
+                // been accepted
+                queue.removeRequest((UserRequest) request);
+            }
+        }
+
+        /**
+         * Overflows or cancels the request since no agent accepted it in time.
+         */
+        private void unattended() {
+            final Request request = offer.getRequest();
+            boolean canBeInQueue = request instanceof UserRequest;
             // Calculate the maximum time limit for an unattended request before cancelling it
             long limit = request.getCreationTime().getTime() +
                     (info.getRequestTimeout() * (getOverflowTimes() + 1));
@@ -266,6 +424,38 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
                 }
             }
         }
+
+        private void finish() {
+            state = State.DONE;
+            offer.setListener(null);
+            TaskEngine.getInstance().cancelScheduledTask(timeoutTask);
+            if (expirationTask != null) {
+                TaskEngine.getInstance().cancelScheduledTask(expirationTask);
+            }
+            // Remove this offer from the list of active offers
+            offers.remove(offer);
+        }
+
+        /**
+         * Schedules a step of this dispatching at the given time.
+         *
+         * @param time the time in milliseconds when the step should run.
+         * @return the scheduled task.
+         */
+        private TimerTask schedule(long time) {
+            TimerTask task = new TimerTask() {
+                @Override
+                public void run() {
+                    wakeUp();
+                }
+            };
+            TaskEngine.getInstance().schedule(task, Math.max(0, time - System.currentTimeMillis()));
+            return task;
+        }
+    }
+
+    private enum State {
+        WAITING, OFFERED, DONE
     }
 
     /**
@@ -336,30 +526,18 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     /**
      * <p>Locate the next 'best' agent to receive an offer.</p>
      * <p>Routing is based on show-status, max-chats, and who has
-     * already rejected the offer.
-     * show status is ranked from most available to least:
-     * chat, default (no show status), away,
-     * and xa. A show status of dnd indicates no offers should be routed to an agent.
-     * The general algorithm is:</p>
-     * <ul>
-     * <li>Mark the current position.</li>
-     * <li>Start iterating around the circular queue until all agents
-     * have been considered. For each agent:
-     * <ul>
-     * <li>Skip if session is null. Should only occur if no agents are in the list.</li>
-     * <li>Skip if session show state is DND. Never route to agents that are dnd.</li>
-     * <li>Skip if session current-chats is equal to or higher than max-chats.</li>
-     * <li>Replace current best if:
+     * already rejected the offer. Agents that are not available to chat or
+     * that have reached their max-chats are not ranked at all. The ranked agents
+     * are ordered from least to most loaded and, for the same load, by how long ago
+     * they received their last offer. The general algorithm is:</p>
      * <ul>
-     * <li>No current best. Any agent is better than none.</li>
-     * <li>If session hasn't rejected offer but current best has.</li>
-     * <li>If both session and current best have not rejected the
-     * offer and session show-status is higher.</li>
-     * <li>If both session and current best have rejected offer and
-     * session show-status is higher.</li>
-     * </ul></li>
-     * </ul></li>
-     * </li>
+     * <li>If an initial agent was requested, return it when it may chat.</li>
+     * <li>Iterate the ranked agents, skipping the ignored agent and the agents
+     * that the agent selector does not validate (e.g. agents that rejected the offer
+     * or that did not answer a previous offer yet).</li>
+     * <li>With the default agent selector the first remaining agent is the best agent.
+     * Other agent selectors choose the best agent from the remaining agents.</li>
+     * </ul>
      *
      * @param initialAgent the initial agent requested by the user.
      * @param ignoreAgent agent that should not be considered as available.
@@ -368,11 +546,11 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
      */
     private AgentSession getBestNextAgent(String initialAgent, String ignoreAgent, Offer offer) {
         AgentSession bestSession;
+        final List<AgentSession> agentSessions = availableAgents.getAgents();
 
         // Look for specified agent in agent list
         if (initialAgent != null) {
-            final AgentSessionList agentSessionList = queue.getAgentSessionList();
-            for (AgentSession agentSession : agentSessionList.getAgentSessions()) {
+            for (AgentSession agentSession : agentSessions) {
                 String sessionAgent = agentSession.getAgent().getAgentJID().toBareJID();
                 boolean match = sessionAgent.startsWith(initialAgent.toLowerCase());
                 Workgroup workgroup = offer.getRequest().getWorkgroup();
@@ -389,12 +567,20 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
         }
 
         // Let's iterate through each agent and check availability
-        final AgentSessionList agentSessionList = queue.getAgentSessionList();
+        final boolean ranked = agentSelector instanceof BasicAgentSelector;
         final List<AgentSession> possibleSessions = new ArrayList<AgentSession>();
-        for (AgentSession agentSession : agentSessionList.getAgentSessions()) {
+        for (AgentSession agentSession : agentSessions) {
             String sessionAgent = agentSession.getAgent().getAgentJID().toBareJID();
             boolean ignore = ignoreAgent != null && sessionAgent.startsWith(ignoreAgent.toLowerCase());
             if (!ignore && validateAgent(agentSession, offer)) {
+                if (ranked) {
+                    bestSession = agentSession;
+                    // Log debug trace
+                    Log.debug("RR - Agent SELECTED: " + bestSession.getJID() +
+                            " for receiving offer for request: " +
+                            offer.getRequest());
+                    return bestSession;
+                }
                 possibleSessions.add(agentSession);
             }
         }
@@ -427,15 +613,19 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     private boolean validateAgent(AgentSession session, Offer offer) {
         if (agentSelector.validateAgent(session, offer)) {
             // Log debug trace
-            Log.debug("RR - Agent: " + session.getJID() +
-                    " MAY receive offer for request: " +
-                    offer.getRequest());
+            if (Log.isDebugEnabled()) {
+                Log.debug("RR - Agent: " + session.getJID() +
+                        " MAY receive offer for request: " +
+                        offer.getRequest());
+            }
             return true;
         }
         // Log debug trace
-        Log.debug("RR - Agent: " + session.getJID() +
-                " MAY NOT receive offer for request: " +
-                offer.getRequest());
+        if (Log.isDebugEnabled()) {
+            Log.debug("RR - Agent: " + session.getJID() +
+                    " MAY NOT receive offer for request: " +
+                    offer.getRequest());
+        }
         return false;
     }
 
@@ -446,9 +636,7 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
         AgentSessionList agentSessionList = queue.getAgentSessionList();
         agentSessionList.addAgentSessionListener(this);
         for (AgentSession agentSession : agentSessionList.getAgentSessions()) {
-            if (!agentList.contains(agentSession)) {
-                agentList.add(agentSession);
-            }
+            availableAgents.update(agentSession);
         }
     }
 
@@ -472,18 +660,22 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     }
 
     public void notifySessionAdded(AgentSession session) {
-        if (!agentList.contains(session)) {
-            agentList.add(session);
-        }
+        availableAgents.update(session);
+        dispatchWaitingOffers();
     }
 
     public void notifySessionRemoved(AgentSession session) {
-        agentList.remove(session);
-        for (Offer offer : offers) {
+        availableAgents.remove(session);
+        for (Offer offer : offers.keySet()) {
             offer.reject(session);
         }
     }
 
+    public void notifySessionUpdated(AgentSession session) {
+        availableAgents.update(session);
+        dispatchWaitingOffers();
+    }
+
     public DispatcherInfo getDispatcherInfo() {
         return info;
     }
@@ -506,11 +698,19 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     }
 
     public Iterator<Offer> getOffers() {
-        return offers.iterator();
+        return offers.keySet().iterator();
     }
 
     public Iterator<Offer> getOffers(WorkgroupResultFilter filter) {
-        return filter.filter(offers.iterator());
+        return filter.filter(offers.keySet().iterator());
+    }
+
+    public LatencyHistogram getWaitTimes() {
+        return waitTimes;
+    }
+
+    public LatencyHistogram getOfferLatencies() {
+        return offerLatencies;
     }
 
     public String getProperty(String name) {
@@ -633,7 +833,8 @@ public class RoundRobinDispatcher implements Dispatcher, AgentSessionListener {
     }
 
     public void shutdown() {
-        // Do nothing
+        TaskEngine.getInstance().cancelScheduledTask(checkTask);
+        queue.getAgentSessionList().removeAgentSessionListener(this);
     }
 
 }
@@ -365,6 +365,8 @@ else if (deleted) { %>
         <th nowrap>Agents (active/total)</th>
         <th nowrap>In Queue</th>
         <th nowrap>Avg. Wait Time (sec)</th>
+        <th nowrap>99% Wait Time (ms)</th>
+        <th nowrap>99% Offer Answer Time (ms)</th>
         <th nowrap>Edit</th>
         <th nowrap>Delete</th>
     </tr>
@@ -387,7 +389,7 @@ else if (deleted) { %>
         <td width="1%" valign="top" nowrap>
             <%= i %>.
         </td>
-        <td width="37%">
+        <td width="27%">
             <a href="workgroup-queue-agents.jsp?wgID=<%= wgID %>&qID=<%= requestQueue.getID() %>"
                title="Click to add/remove Agents and Groups."
                 ><b><%= requestQueue.getName() %></b></a>
@@ -412,6 +414,13 @@ else if (deleted) { %>
         <td width="15%" align="center">
             <%= requestQueue.getAverageTime() %>
         </td>
+        <%-- Upper bounds, accurate to a factor of two, since the queue was loaded --%>
+        <td width="10%" align="center">
+            <%= Math.round(requestQueue.getDispatcher().getWaitTimes().getPercentile(99)) %>
+        </td>
+        <td width="10%" align="center">
+            <%= Math.round(requestQueue.getDispatcher().getOfferLatencies().getPercentile(99)) %>
+        </td>
         <td width="1%" align="center">
             <a href="workgroup-queue-agents.jsp?wgID=<%= wgID %>&qID=<%= requestQueue.getID() %>"
                title="Click to manage this queue..."
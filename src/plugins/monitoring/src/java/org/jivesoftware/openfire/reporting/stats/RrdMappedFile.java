@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jivesoftware.openfire.reporting.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A round-robin database file kept memory-mapped for the lifetime of the plugin. Samples
+ * are written straight into the mapped pages and the operating system takes care of
+ * writing them back to disk, so opening and closing an RRD does not cause any I/O.
+ *
+ * @see RrdMappedFileBackendFactory
+ */
+class RrdMappedFile {
+
+    private final String id;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    // Set when data was written since the last checkpoint to the database
+    private volatile boolean dirty;
+
+    RrdMappedFile(String id, File path) throws IOException {
+        this.id = id;
+        this.file = new RandomAccessFile(path, "rw");
+        this.channel = file.getChannel();
+        map();
+    }
+
+    private void map() throws IOException {
+        long length = channel.size();
+        buffer = length > 0 ? channel.map(FileChannel.MapMode.READ_WRITE, 0, length) : null;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    synchronized void write(long offset, byte[] b) {
+        buffer.position((int) offset);
+        buffer.put(b);
+        dirty = true;
+    }
+
+    synchronized void read(long offset, byte[] b) {
+        buffer.position((int) offset);
+        buffer.get(b);
+    }
+
+    synchronized long getLength() throws IOException {
+        return channel.size();
+    }
+
+    synchronized void setLength(long length) throws IOException {
+        if (buffer != null) {
+            buffer.force();
+        }
+        file.setLength(length);
+        map();
+        dirty = true;
+    }
+
+    /**
+     * Replaces the content of this file with the given bytes. Used when an RRD is restored
+     * from the database.
+     *
+     * @param bytes the new content of the file.
+     * @throws IOException if an error occured while writing the file.
+     */
+    synchronized void restore(byte[] bytes) throws IOException {
+        setLength(bytes.length);
+        buffer.position(0);
+        buffer.put(bytes);
+        buffer.force();
+        dirty = false;
+    }
+
+    /**
+     * Returns a copy of the file content if there were changes since the last call to this
+     * method, otherwise <tt>null</tt>.
+     *
+     * @return a copy of the file content or null if nothing changed.
+     */
+    synchronized byte[] checkpoint() {
+        if (!dirty || buffer == null) {
+            return null;
+        }
+        buffer.force();
+        byte[] bytes = new byte[buffer.capacity()];
+        buffer.position(0);
+        buffer.get(bytes);
+        dirty = false;
+        return bytes;
+    }
+
+    synchronized void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        channel.close();
+        file.close();
+    }
+}
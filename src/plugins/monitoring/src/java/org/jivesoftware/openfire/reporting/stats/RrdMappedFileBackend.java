@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jivesoftware.openfire.reporting.stats;
+
+import java.io.IOException;
+
+import org.jrobin.core.RrdBackend;
+
+/**
+ * JRobin backend that reads and writes an RRD kept in a {@link RrdMappedFile}. Unlike
+ * {@link RrdSqlBackend} nothing is loaded or stored when the backend is opened or closed,
+ * the underlying file remains mapped until the plugin is stopped.
+ */
+public class RrdMappedFileBackend extends RrdBackend {
+
+    private final RrdMappedFile file;
+    private final boolean readOnly;
+
+    RrdMappedFileBackend(RrdMappedFile file, boolean readOnly) {
+        super(file.getId());
+        this.file = file;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    protected void write(long offset, byte[] b) throws IOException {
+        if (readOnly) {
+            throw new IOException("RRD " + getPath() + " was opened in read-only mode");
+        }
+        file.write(offset, b);
+    }
+
+    @Override
+    protected void read(long offset, byte[] b) {
+        file.read(offset, b);
+    }
+
+    @Override
+    public long getLength() throws IOException {
+        return file.getLength();
+    }
+
+    @Override
+    protected void setLength(long length) throws IOException {
+        file.setLength(length);
+    }
+
+    // JRobin may cache values since no one else writes to the mapped file
+    @Override
+    protected boolean isCachingAllowed() {
+        return true;
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jivesoftware.openfire.reporting.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jivesoftware.openfire.cluster.ClusterManager;
+import org.jrobin.core.RrdBackend;
+import org.jrobin.core.RrdBackendFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory of {@link RrdMappedFileBackend}s. RRDs are stored as memory-mapped files in a
+ * directory under the Openfire home and periodically exported to the <tt>ofRRDs</tt> table
+ * by {@link #checkpoint()}, so that another cluster node taking over the sampling (or the
+ * SQL backend, if the plugin is configured to use it again) finds recent data.<p>
+ *
+ * When an RRD is first opened and the database contains a more recent copy than the local
+ * file (or there is no local file at all) then the file is created from the database copy.
+ * This is how existing statistics are migrated from the SQL backend and how a node that
+ * becomes the senior cluster member catches up with the samples taken by its predecessor.
+ * Nodes that are not the senior cluster member do not sample statistics and read the RRDs
+ * straight from the database.
+ */
+public class RrdMappedFileBackendFactory extends RrdBackendFactory {
+
+    private static final Logger Log = LoggerFactory.getLogger(RrdMappedFileBackendFactory.class);
+
+    // name of the factory
+    public static final String NAME = "MAPPED";
+
+    private final File directory;
+    private final Map<String, RrdMappedFile> files = new HashMap<String, RrdMappedFile>();
+
+    public RrdMappedFileBackendFactory(File directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    protected RrdBackend open(String path, boolean readOnly) throws IOException {
+        if (!ClusterManager.isSeniorClusterMember()) {
+            // Another node owns the RRDs. Release our files (if we lost seniority) so
+            // that they get refreshed from the database if we become senior again
+            closeFiles();
+            return new RrdSqlBackend(path, readOnly);
+        }
+        return new RrdMappedFileBackend(getMappedFile(path), readOnly);
+    }
+
+    // checks if the RRD with the given id (path) exists on disk or
+    // can be restored from the database
+    @Override
+    protected boolean exists(String path) throws IOException {
+        synchronized (files) {
+            if (files.containsKey(path) || getFile(path).exists()) {
+                return true;
+            }
+        }
+        return RrdSqlBackend.exists(path);
+    }
+
+    // returns factory name
+    @Override
+    public String getFactoryName() {
+        return NAME;
+    }
+
+    /**
+     * Exports every RRD that was modified since the previous checkpoint to the database.
+     */
+    public void checkpoint() {
+        List<RrdMappedFile> snapshot;
+        synchronized (files) {
+            snapshot = new ArrayList<RrdMappedFile>(files.values());
+        }
+        for (RrdMappedFile file : snapshot) {
+            byte[] bytes = file.checkpoint();
+            if (bytes != null) {
+                RrdSqlBackend.exportRRD(file.getId(), bytes);
+            }
+        }
+    }
+
+    /**
+     * Checkpoints and unmaps all RRD files. The factory must not be used afterwards.
+     */
+    public void close() {
+        closeFiles();
+    }
+
+    private void closeFiles() {
+        checkpoint();
+        synchronized (files) {
+            for (RrdMappedFile file : files.values()) {
+                try {
+                    file.close();
+                }
+                catch (IOException e) {
+                    Log.error("Error closing RRD file " + file.getId(), e);
+                }
+            }
+            files.clear();
+        }
+    }
+
+    private RrdMappedFile getMappedFile(String id) throws IOException {
+        synchronized (files) {
+            RrdMappedFile file = files.get(id);
+            if (file == null) {
+                File path = getFile(id);
+                // lastModified() is 0 when the file does not exist
+                long lastModified = path.lastModified();
+                if (!directory.exists() && !directory.mkdirs()) {
+                    throw new IOException("Unable to create RRD directory " + directory);
+                }
+                file = new RrdMappedFile(id, path);
+                byte[] bytes = RrdSqlBackend.loadRRD(id, lastModified);
+                if (bytes != null && bytes.length > 0) {
+                    Log.debug("Restoring RRD " + id + " from the database");
+                    file.restore(bytes);
+                }
+                files.put(id, file);
+            }
+            return file;
+        }
+    }
+
+    private File getFile(String id) {
+        return new File(directory, id + ".rrd");
+    }
+}
@@ -39,6 +39,7 @@ public class RrdSqlBackend extends RrdBackend {
     static final String JDBC_SELECT = "SELECT bytes from ofRRDs where id = ?";
     static final String JDBC_INSERT = "INSERT INTO ofRRDs (id, updatedDate, bytes) VALUES (?, ?, ?)";
     static final String JDBC_UPDATE = "UPDATE ofRRDs SET bytes = ?, updatedDate=? WHERE id = ?";
+    static final String JDBC_SELECT_NEWER = "SELECT bytes from ofRRDs where id = ? AND updatedDate > ?";
     static final String JDBC_DELETE = "DELETE FROM ofRRDs WHERE id = ?";
 
     // this is the place where our RRD bytes will be stored
@@ -99,6 +100,71 @@ public class RrdSqlBackend extends RrdBackend {
         }
     }
 
+    /**
+     * Returns the RRD bytes stored in the database for the given id or <tt>null</tt> if
+     * no RRD exists with that id or if it was not updated after the specified date.
+     *
+     * @param id the id of the RRD.
+     * @param newerThan only return the RRD if it was updated after this date (in millis).
+     * @return the RRD bytes stored in the database or null if none.
+     */
+    static byte[] loadRRD(String id, long newerThan) {
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            con = DbConnectionManager.getConnection();
+            pstmt = con.prepareStatement(JDBC_SELECT_NEWER);
+            pstmt.setString(1, id);
+            pstmt.setLong(2, newerThan);
+            rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getBytes("bytes");
+            }
+        }
+        catch (Exception e) {
+            Log.error("Error while accessing information in database: " + e);
+        }
+        finally {
+            DbConnectionManager.closeConnection(rs, pstmt, con);
+        }
+        return null;
+    }
+
+    /**
+     * Stores a copy of an RRD in the database, creating the row if it does not exist yet.
+     * Used by the memory-mapped backend to checkpoint its files so that another cluster
+     * node (or the SQL backend) can pick up the latest data.
+     *
+     * @param id the id of the RRD.
+     * @param bytes the RRD bytes to store.
+     */
+    static void exportRRD(String id, byte[] bytes) {
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        try {
+            con = DbConnectionManager.getConnection();
+            pstmt = con.prepareStatement(JDBC_UPDATE);
+            pstmt.setBytes(1, bytes);
+            pstmt.setLong(2, System.currentTimeMillis());
+            pstmt.setString(3, id);
+            if (pstmt.executeUpdate() == 0) {
+                DbConnectionManager.fastcloseStmt(pstmt);
+                pstmt = con.prepareStatement(JDBC_INSERT);
+                pstmt.setString(1, id);
+                pstmt.setLong(2, System.currentTimeMillis());
+                pstmt.setBytes(3, bytes);
+                pstmt.executeUpdate();
+            }
+        }
+        catch (Exception e) {
+            Log.error("Error while updating information in database: " + e);
+        }
+        finally {
+            DbConnectionManager.closeConnection(pstmt, con);
+        }
+    }
+
     RrdSqlBackend(String id, boolean readOnly) throws IOException {
         super(id);
         this.readOnly = readOnly;
@@ -35,6 +35,7 @@ import org.jivesoftware.openfire.cluster.ClusterManager;
 import org.jivesoftware.openfire.reporting.util.TaskEngine;
 import org.jivesoftware.openfire.stats.Statistic;
 import org.jivesoftware.openfire.stats.StatisticsManager;
+import org.jivesoftware.util.JiveConstants;
 import org.jivesoftware.util.JiveGlobals;
 import org.jivesoftware.util.cache.CacheFactory;
 import org.jrobin.core.ConsolFuns;
@@ -62,6 +63,18 @@ public class StatsEngine implements Startable {
 	
     private static final int STAT_RESOULUTION = 60;
 
+    /**
+     * Property that defines where RRDs are stored: <tt>sql</tt> (the default) keeps them in the
+     * <tt>ofRRDs</tt> table, <tt>mapped</tt> keeps them in memory-mapped files under the Openfire
+     * home that are periodically exported to the database.
+     */
+    public static final String RRD_BACKEND = "stats.rrd.backend";
+
+    /**
+     * Property with the number of minutes between exports of memory-mapped RRDs to the database.
+     */
+    public static final String RRD_CHECKPOINT_INTERVAL = "stats.rrd.checkpoint.interval";
+
     private final TaskEngine taskEngine;
 
     private final StatisticsManager statsManager;
@@ -72,6 +85,10 @@ public class StatsEngine implements Startable {
 
     private SampleTask samplingTask = new SampleTask();
 
+    private RrdMappedFileBackendFactory mappedFactory;
+
+    private TimerTask checkpointTask;
+
     /**
      * The default constructor used by the plugin container.
      *
@@ -84,8 +101,24 @@ public class StatsEngine implements Startable {
 
     public void start() {
         try {
-            // Set that RRD files will be stored in the database
-            RrdBackendFactory.registerAndSetAsDefaultFactory(new RrdSqlBackendFactory());
+            if ("mapped".equals(JiveGlobals.getProperty(RRD_BACKEND, "sql"))) {
+                // Set that RRD files will be stored in memory-mapped files
+                mappedFactory = new RrdMappedFileBackendFactory(new File(getMappedDirectory()));
+                RrdBackendFactory.registerAndSetAsDefaultFactory(mappedFactory);
+
+                long interval = JiveGlobals.getIntProperty(RRD_CHECKPOINT_INTERVAL, 10) * JiveConstants.MINUTE;
+                checkpointTask = new TimerTask() {
+                    @Override
+                    public void run() {
+                        mappedFactory.checkpoint();
+                    }
+                };
+                taskEngine.scheduleAtFixedRate(checkpointTask, interval, interval);
+            }
+            else {
+                // Set that RRD files will be stored in the database
+                RrdBackendFactory.registerAndSetAsDefaultFactory(new RrdSqlBackendFactory());
+            }
 
             // After 10 milliseconds begin sampling in 60 second intervals. Note: We need to start
             // asap so that the UI can access this info upon start up
@@ -99,6 +132,15 @@ public class StatsEngine implements Startable {
     public void stop() {
         // Clean-up sampling task
         samplingTask.cancel();
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+            checkpointTask = null;
+        }
+        if (mappedFactory != null) {
+            // Export the latest samples to the database and release the files
+            mappedFactory.close();
+            mappedFactory = null;
+        }
     }
 
     private void checkDatabase(StatDefinition[] def) throws RrdException, IOException {
@@ -119,7 +161,7 @@ public class StatsEngine implements Startable {
         }
 
         // check if the rrd exists
-        if (!RrdSqlBackend.exists(def[0].getDbPath())) {
+        if (!rrdExists(def[0].getDbPath())) {
             RrdDb db = null;
             try {
                 RrdDef rrdDef = new RrdDef(def[0].getDbPath(), STAT_RESOULUTION);
@@ -151,6 +193,13 @@ public class StatsEngine implements Startable {
         }
     }
 
+    private boolean rrdExists(String id) throws IOException {
+        if (mappedFactory != null) {
+            return mappedFactory.exists(id);
+        }
+        return RrdSqlBackend.exists(id);
+    }
+
     private String determineDsType(Statistic.Type statType) {
         return DsTypes.DT_GAUGE;
     }
@@ -175,6 +224,16 @@ public class StatsEngine implements Startable {
                 + File.separator + "stats" + File.separator;
     }
 
+    /**
+     * Returns the directory in which memory-mapped RRD files are stored.
+     *
+     * @return the directory in which memory-mapped RRD files are stored.
+     */
+    private String getMappedDirectory() {
+        return JiveGlobals.getHomeDirectory() + File.separator + MonitoringConstants.NAME
+                + File.separator + "rrd";
+    }
+
     private StatDefinition createDefintion(String key) {
         StatDefinition def = definitionMap.get(key);
         if (def == null) {
@@ -236,6 +236,16 @@ public class AudioConversion {
     public static byte[] littleEndianIntsToBytes(int[] intData) {
 		byte[] byteData = new byte[intData.length * 2];
 
+		littleEndianIntsToBytes(intData, byteData);
+
+		return byteData;
+    }
+
+    /*
+     * Convert to little endian bytes in a buffer which must hold
+     * at least intData.length * 2 bytes.
+     */
+    public static void littleEndianIntsToBytes(int[] intData, byte[] byteData) {
 		int outIx = 0;
 
         for (int i = 0; i < intData.length; i++) {
@@ -244,8 +254,6 @@ public class AudioConversion {
 
             outIx += 2;
         }
-
-		return byteData;
     }
 
     public static byte[] intsToBytes(int[] intData) {
@@ -339,9 +347,19 @@ public class AudioConversion {
     }
 
     public static void clip(int[] data) {
+	if (Logger.logLevel == -49) {
+	    for (int i = 0; i < data.length; i++) {
+	        data[i] = clip(data[i]);
+	    }
+	    return;
+	}
 
+	/*
+	 * Clip with min and max rather than with branches
+	 * so that the JIT compiler can vectorize the loop.
+	 */
 	for (int i = 0; i < data.length; i++) {
-	    data[i] = clip(data[i]);
+	    data[i] = Math.max(Math.min(data[i], 32767), -32768);
 	}
     }
 
@@ -30,12 +30,22 @@ import com.sun.voip.TickerException;
 import com.sun.voip.TickerFactory;
 
 import java.util.ArrayList;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CountDownLatch;
-import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jivesoftware.util.LatencyHistogram;
 
 /**
  * Send data to conference members
+ *
+ * Every tick, the sender hands one task per conference to a fork/join
+ * pool shared by all senders.  Each task takes a snapshot of its
+ * conference and then sends to the conference members, splitting the
+ * members among the pool threads so idle threads can steal work from
+ * busy ones.
  */
 public class ConferenceSender extends Thread {
     /*
@@ -43,6 +53,16 @@ public class ConferenceSender extends Thread {
      */
     private static int senderThreads;
 
+    /*
+     * Members sent to by one task before the rest of the members
+     * are split off for other pool threads to steal.
+     */
+    private static final int MEMBERS_PER_TASK = 8;
+
+    private static ForkJoinPool senderPool;
+
+    private static int activeSenders;
+
     private ArrayList conferenceList;
 
     private boolean done = false;
@@ -60,6 +80,10 @@ public class ConferenceSender extends Thread {
     private static long startTime;
     private static double timeBetweenSends;
 
+    private static LatencyHistogram tickTimes = new LatencyHistogram();
+
+    private static AtomicLong deadlineMisses = new AtomicLong();
+
     Ticker ticker;
 
     private static ArrayList<SenderCallbackListener> senderCallbackList =
@@ -82,7 +106,13 @@ public class ConferenceSender extends Thread {
     }
 
     private void initialize() {
-	senderThreads = Runtime.getRuntime().availableProcessors();
+	if (senderThreads == 0) {
+	    senderThreads = Runtime.getRuntime().availableProcessors();
+	}
+
+	synchronized (ConferenceSender.class) {
+	    activeSenders++;
+	}
 
 	setPriority(Thread.MAX_PRIORITY);
 	start();
@@ -118,6 +148,9 @@ public class ConferenceSender extends Thread {
 
         long sendTime = 0;
         long maxSendTime = 0;
+	long misses = 0;
+
+	long deadline = TimeUnit.MILLISECONDS.toNanos(RtpPacket.PACKET_PERIOD);
 
 	while (!done) {
 	    long startTime = System.nanoTime();
@@ -134,7 +167,7 @@ public class ConferenceSender extends Thread {
 
 	    sendDataToConferences();
 
-	    int elapsed = (int) (System.nanoTime() - startTime);
+	    long elapsed = System.nanoTime() - startTime;
 
 	    if (elapsed > maxSendTime) {
 	        maxSendTime = elapsed;
@@ -155,9 +188,21 @@ public class ConferenceSender extends Thread {
 		resetStatistics();
 		sendTime = 0;
 		maxSendTime = 0;
+		misses = 0;
 		continue;
 	    }
 
+	    tickTimes.record(elapsed);
+
+	    /*
+	     * The next packet is late if sending this one took longer
+	     * than the time between packets.
+	     */
+	    if (elapsed > deadline) {
+		deadlineMisses.incrementAndGet();
+		misses++;
+	    }
+
 	    packetsSent++;
 
 	    if ((packetsSent % 250) == 0) {
@@ -170,9 +215,10 @@ public class ConferenceSender extends Thread {
 	            + " members in last 5 seconds is " + (sendTime / 1000000000.)
 		    + " seconds, average time " + averageSendTime + " seconds "
 		    + ", maxSendTime " + lastMaxSendTime
+		    + ", missed deadlines " + misses
 		    + ", members speaking " + CallHandler.getTotalSpeaking();
 
-	        if (Logger.logLevel >= Logger.LOG_DETAIL) {
+	        if (Logger.logLevel >= Logger.LOG_DETAIL || misses > 0) {
 	            Logger.println(s);
 	        } else {
 		    Logger.writeFile(s);
@@ -186,6 +232,7 @@ public class ConferenceSender extends Thread {
 		startTime = System.nanoTime();
 	        maxSendTime = 0;
 		sendTime = 0;
+		misses = 0;
 	    }
 	}
 
@@ -204,36 +251,151 @@ public class ConferenceSender extends Thread {
 	return timeBetweenSends;
     }
 
+    /**
+     * Get the histogram of the time each sender took to send a packet
+     * to all of its members.
+     *
+     * @return LatencyHistogram tick durations of all senders
+     */
+    public static LatencyHistogram getTickTimes() {
+	return tickTimes;
+    }
+
+    /**
+     * Get the number of ticks which took longer than the time between
+     * packets, across all senders.
+     *
+     * @return long number of missed deadlines
+     */
+    public static long getDeadlineMisses() {
+	return deadlineMisses.get();
+    }
+
     private void sendDataToConferences() {
-	/*
-	 * Build a memberList containing the members of all conferences.
-	 */
-	ArrayList memberList = new ArrayList();
+	ArrayList conferenceTasks = new ArrayList();
 
 	for (int i = 0; i < conferenceList.size(); i++) {
 	    ConferenceManager conferenceManager = (ConferenceManager) conferenceList.get(i);
 
-	    //ArrayList ml = (ArrayList) conferenceManager.getMemberList();
+	    conferenceTasks.add(new ConferenceTask(conferenceManager));
+	}
+
+	if (conferenceTasks.size() == 0) {
+	    return;
+	}
 
-	    //memberList.addAll(ml);
+	ForkJoinPool pool = getSenderPool();
 
-	    /*
-	     * Take a snapshot of member data
-	     */
-	    //for (int j = 0; j < ml.size(); j++) {
-            //    ConferenceMember member = (ConferenceMember) ml.get(j);
-	    //	member.saveCurrentContribution();
-	    //}
+	if (Logger.logLevel == -55) {
+	    Logger.println("conf " + getName() + ": "
+		+ conferenceTasks.size() + " conferences, sender threads "
+		+ (pool == null ? 1 : pool.getParallelism())
+		+ ", steals " + (pool == null ? 0 : pool.getStealCount()));
+	}
 
-	    /*
-	     * Take a snapshot of all members and all whisper groups
-	     * in the conference.
-	     */
+	TickTask tickTask = new TickTask(conferenceTasks);
+
+	try {
+	    if (pool == null) {
+		tickTask.invoke();	// run everything on this thread
+	    } else {
+		pool.invoke(tickTask);
+	    }
+	} catch (Exception e) {
+	    e.printStackTrace();
+
+	    Logger.println("conf " + getName() + ":  can't send data "
+		+ e.getMessage());
+	}
+
+	/*
+	 * Everybody has been sent to.  Now the contributions
+	 * can be discarded.
+	 */
+	for (int i = 0; i < conferenceTasks.size(); i++) {
+	    ArrayList memberList =
+		((ConferenceTask) conferenceTasks.get(i)).getMemberList();
+
+	    for (int j = 0; j < memberList.size(); j++) {
+	        ConferenceMember member = (ConferenceMember) memberList.get(j);
+
+	        member.invalidateCurrentContribution();
+	    }
+	}
+    }
+
+    /*
+     * Take a snapshot of every conference, then send to the members
+     * of every conference.  No member is sent to before every
+     * conference has its snapshot because a private mix can use
+     * the contribution of a member in another conference.
+     */
+    private class TickTask extends RecursiveAction {
+
+	private ArrayList conferenceTasks;
+
+	public TickTask(ArrayList conferenceTasks) {
+	    this.conferenceTasks = conferenceTasks;
+	}
+
+	protected void compute() {
+	    runAll(conferenceTasks);
+
+	    ArrayList sendTasks = new ArrayList();
+
+	    for (int i = 0; i < conferenceTasks.size(); i++) {
+		ConferenceTask conferenceTask = (ConferenceTask)
+		    conferenceTasks.get(i);
+
+		ArrayList readyList = conferenceTask.getReadyList();
+
+		if (readyList.size() > 0) {
+		    sendTasks.add(new SendTask(readyList, 0,
+			readyList.size()));
+		}
+	    }
+
+	    runAll(sendTasks);
+	}
+    }
+
+    /*
+     * Take a snapshot of all members and all whisper groups
+     * in one conference.
+     */
+    private class ConferenceTask extends RecursiveAction {
+
+	private ConferenceManager conferenceManager;
+
+	private ArrayList memberList = new ArrayList();
+
+	private ArrayList readyList = new ArrayList();
+
+	public ConferenceTask(ConferenceManager conferenceManager) {
+	    this.conferenceManager = conferenceManager;
+	}
+
+	/*
+	 * Members whose contribution was saved
+	 */
+	public ArrayList getMemberList() {
+	    return memberList;
+	}
+
+	/*
+	 * Members whose contribution was saved and who are ready
+	 * for data
+	 */
+	public ArrayList getReadyList() {
+	    return readyList;
+	}
+
+	protected void compute() {
 	    synchronized (conferenceManager) {
                 WGManager wgManager = conferenceManager.getWGManager();
 
 		if (wgManager == null) {
-		    continue;	// not initialized yet
+		    return;	// not initialized yet
 		}
 
 	        ArrayList whisperGroups = wgManager.getWhisperGroups();
@@ -259,8 +421,8 @@ public class ConferenceSender extends Thread {
 				    e.printStackTrace();
 
 				    Logger.println(
-					"conf " + getName() + ":  "
-					+ " can't save contribution for "
+					"conf " + ConferenceSender.this.getName()
+					+ ":  can't save contribution for "
 					+ "member " + member);
 
 				    member.getCallHandler().cancelRequest(
@@ -269,6 +431,10 @@ public class ConferenceSender extends Thread {
 				}
 
 			        memberList.add(member);
+
+				if (member.getMemberSender().memberIsReadyForSenderData()) {
+				    readyList.add(member);
+				}
 			    }
                         }
 
@@ -281,220 +447,159 @@ public class ConferenceSender extends Thread {
 			} catch (Exception e) {
                             e.printStackTrace();
 
-			    Logger.println("conf " + getName() + ":  "
-                                + " can't save contribution for whisper group "
+			    Logger.println("conf " + ConferenceSender.this.getName()
+                                + ":  can't save contribution for whisper group "
 				+ whisperGroup);
 		 	}
 		    }
 		}
             }
 	}
+    }
 
-        /*
-         * Send data to each member in every conference.
-     	 */
-	if (memberList.size() == 0) {
-	    return;
-	}
-
-	sendDataToMembers(memberList);
+    /*
+     * Send data to a range of members of one conference.  Large ranges
+     * are split in half so that idle pool threads can steal one half.
+     */
+    private static class SendTask extends RecursiveAction {
 
-	for (int i = 0; i < memberList.size(); i++) {
-	    ConferenceMember member = (ConferenceMember) memberList.get(i);
+	private ArrayList memberList;
+	private int from;
+	private int to;
 
-	    member.invalidateCurrentContribution();
+	public SendTask(ArrayList memberList, int from, int to) {
+	    this.memberList = memberList;
+	    this.from = from;
+	    this.to = to;
 	}
-    }
-
-    private ArrayList workerThreads = new ArrayList();
 
-    private ConcurrentLinkedQueue workToDo = new ConcurrentLinkedQueue();
-
-    private void sendDataToMembers(ArrayList memberList) {
-	if (Logger.logLevel == -55) {
-	    for (int i = 0; i < memberList.size(); i++) {
-		ConferenceMember m = (ConferenceMember) memberList.get(i);
+	protected void compute() {
+	    if (to - from > MEMBERS_PER_TASK && inForkJoinPool()) {
+		int middle = (from + to) >>> 1;
 
-	        Logger.println("conf " + getName() + ": " + m);
+		invokeAll(new SendTask(memberList, from, middle),
+		    new SendTask(memberList, middle, to));
+		return;
 	    }
-	    Logger.println("wt size " + workerThreads.size()
-		+ " sender threads " + senderThreads);
-	}
 
-	if (workerThreads.size() > 1 && workerThreads.size() != senderThreads) {
-            /*
-             * Stop old threads
-	     * XXX We could just stop the extra threads or add new ones
-	     * rather than stopping all of them.
-             */
-	    if (Logger.logLevel == -55) {
-                Logger.println("Stopping sender worker threads "
-                    + workerThreads.size());
+	    for (int i = from; i < to; i++) {
+		sendData((ConferenceMember) memberList.get(i));
 	    }
-
-            for (int i = 0; i < workerThreads.size(); i++) {
-                ((WorkerThread) workerThreads.get(i)).done();
-            }
-
-	    workerThreads.clear();
 	}
+    }
 
-	if (senderThreads <= 1) {
-	    singleThreadSendDataToMembers(memberList);
-	    return;
-	}
-
-	CountDownLatch doneSignal = new CountDownLatch(workerThreads.size());
-
-	if (workerThreads.size() != senderThreads) {
-            /*
-             * Start new threads
-             */
-            for (int i = 0; i < senderThreads; i++) {
-                workerThreads.add(new WorkerThread(i, doneSignal));
-            }
+    private static void sendData(ConferenceMember member) {
+	long start = 0;
 
-            Logger.println("Started " + senderThreads + " sender threads");
-	}
+        if (Logger.logLevel == -33) {
+            start = System.nanoTime();
+        }
 
-	workToDo.clear();
+	try {
+            member.sendData();
+	} catch (Exception e) {
+	    e.printStackTrace();
 
-	for (int i = 0; i < memberList.size(); i++) {
-	    ConferenceMember member = (ConferenceMember) memberList.get(i);
+	    Logger.println("Can't send data to " + member + " "
+		+ e.getMessage());
 
-	    if (member.getMemberSender().memberIsReadyForSenderData()) {
-		workToDo.add(member);
-	    }
+	    member.getCallHandler().cancelRequest("Unexpected Exception");
 	}
 
-	/*
-	 * Start all of the worker threads
-	 */
-	for (int i = 0; i < workerThreads.size(); i++) {
-	    WorkerThread workerThread = (WorkerThread) workerThreads.get(i);
+        if (Logger.logLevel == -33) {
+            Logger.println("Sender sendDataToOneMember time "
+                +  member + " "
+                + ((System.nanoTime() - start) / 1000000000.) + " seconds");
 
-	    workerThread.setLatch(doneSignal);
+	    Logger.logLevel = 3;
+        }
+    }
 
-	    synchronized (workerThread) {
-		workerThread.notify();
-	    }
+    /*
+     * Run the tasks in parallel when called from a pool thread,
+     * otherwise one after the other on this thread.
+     */
+    private static void runAll(ArrayList tasks) {
+	if (RecursiveAction.inForkJoinPool()) {
+	    RecursiveAction.invokeAll(tasks);
+	    return;
 	}
 
-	if (!done) {
-	    try {
-	        doneSignal.await();	// wait for all to finish
-	    } catch (InterruptedException e) {
-	    }
+	for (int i = 0; i < tasks.size(); i++) {
+	    ((RecursiveAction) tasks.get(i)).invoke();
 	}
     }
 
-    private void singleThreadSendDataToMembers(ArrayList memberList) {
-        for (int i = 0; i < memberList.size(); i++) {
-            ConferenceMember member = (ConferenceMember)
-                        memberList.get(i);
-
-	    if (!member.getMemberSender().memberIsReadyForSenderData()) {
-		continue;
-	    }
-
-	    long start = 0;
-
-            if (Logger.logLevel == -33) {
-                start = System.nanoTime();
-            }
-
-	    try {
-                member.sendData();
-	    } catch (Exception e) {
-		e.printStackTrace();
-
-		Logger.println("Can't send data to " + member + " "
-		    + e.getMessage());
-
-		member.getCallHandler().cancelRequest("Unexpected Exception");
-	    }
-
-            if (Logger.logLevel == -33) {
-                Logger.println("Sender sendDataToOneMember time "
-                    +  member + " "
-                    + ((System.nanoTime() - start) / 1000000000.) + " seconds");
+    /*
+     * Get the pool shared by all senders, starting a new one if the
+     * number of sender threads changed.  Returns null when there is
+     * only one sender thread.
+     */
+    private static synchronized ForkJoinPool getSenderPool() {
+	if (senderThreads <= 1) {
+	    shutdownSenderPool();
+	    return null;
+	}
 
-		Logger.logLevel = 3;
-            }
+	if (senderPool != null && senderPool.getParallelism() == senderThreads) {
+	    return senderPool;
 	}
-    }
 
-    class WorkerThread extends Thread {
-	private boolean done;
-	private CountDownLatch doneSignal;
+	shutdownSenderPool();
 
-	public WorkerThread(int i, CountDownLatch doneSignal) {
-	    this.doneSignal = doneSignal;
+	senderPool = new ForkJoinPool(senderThreads,
+	    new SenderThreadFactory(), null, false);
 
-	    setName("Sender-WorkerThread-" + i + "-" + getName());
-	    setPriority(Thread.MAX_PRIORITY);
-	    start();
-	}
+        Logger.println("Started " + senderThreads + " sender threads");
+	return senderPool;
+    }
 
-	public void setLatch(CountDownLatch doneSignal) {
-	    this.doneSignal = doneSignal;
+    private static synchronized void shutdownSenderPool() {
+	if (senderPool == null) {
+	    return;
 	}
 
-	public void done() {
-	    done = true;
-	    interrupt();
+	if (Logger.logLevel == -55) {
+            Logger.println("Stopping sender worker threads "
+                + senderPool.getParallelism());
 	}
 
-        public void run() {
-	    while (!done) {
-		try {
-	            ConferenceMember member = (ConferenceMember)
-			workToDo.remove();
-
-		    try {
-	                member.sendData();
-	    	    } catch (Exception e) {
-			e.printStackTrace();
-
-			Logger.println("Can't send data to " + member
-		             + " " + e.getMessage());
+	senderPool.shutdown();
+	senderPool = null;
+    }
 
-			member.getCallHandler().cancelRequest(
-			    "Unexpected Exception");
-	    	    }
-		} catch (NoSuchElementException e) {
-		    synchronized (this) {
-		        doneSignal.countDown();
+    private static class SenderThreadFactory
+	    implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
-		        if (done) {
-			    break;  // done
-		        }
+	public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+	    ForkJoinWorkerThread thread =
+		ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
 
-			try {
-		            wait();
-			} catch (InterruptedException ie) {
-		    	    break;
-		        }
-	    	    }
-		}
-	    }
+	    thread.setName("Sender-WorkerThread-" + thread.getPoolIndex());
+	    thread.setPriority(Thread.MAX_PRIORITY);
+	    return thread;
 	}
     }
 
     public void end() {
-	done = true;
+	synchronized (this) {
+	    if (done) {
+		return;
+	    }
+
+	    done = true;
+	}
 
     	printStatistics();
 	this.interrupt();
 
-	synchronized (workerThreads) {
-	    workToDo.clear();
-	    workerThreads.notifyAll();
-	}
+	synchronized (ConferenceSender.class) {
+	    activeSenders--;
 
-        for (int i = 0; i < workerThreads.size(); i++) {
-            ((WorkerThread) workerThreads.get(i)).done();
-        }
+	    if (activeSenders == 0) {
+		shutdownSenderPool();
+	    }
+	}
     }
 
     public void printStatistics() {
@@ -506,7 +611,13 @@ public class ConferenceSender extends Thread {
 		+ (totalSendTime / 1000000000. / packetsSent) + " seconds ");
 	}
 
-	ticker.printStatistics();
+	Logger.println(getName() + " " + deadlineMisses.get()
+	    + " missed deadlines by all senders, 99% of packets sent within "
+	    + tickTimes.getPercentile(99) + " ms");
+
+	if (ticker != null) {
+	    ticker.printStatistics();
+	}
     }
 
     private void resetStatistics() {
@@ -85,6 +85,13 @@ public class MemberSender {
     private int frameSizeInSamplesPerChannel = (opusSampleRate * frameSizeInMillis) / 1000;
     private int frameSizeInBytes = outputFrameSize * opusChannels * frameSizeInSamplesPerChannel;
 
+    /*
+     * Buffers reused for every packet
+     */
+    private byte[] opusInput;
+    private byte[] opusOutput;
+    private ByteBuffer sendBuffer;
+
     private InetSocketAddress memberAddress;
     private boolean done = false;
 
@@ -481,14 +488,21 @@ public class MemberSender {
 
 		if (relayChannel != null && relayChannel.encode())
 		{
-			byte[] input = AudioConversion.littleEndianIntsToBytes(dataToSend);
-			byte[] output = new byte[Opus.MAX_PACKET];
+			if (opusInput == null || opusInput.length != dataToSend.length * 2) {
+				opusInput = new byte[dataToSend.length * 2];
+			}
 
-			int outLength = Opus.encode(opusEncoder, input, 0, frameSizeInSamplesPerChannel, output, 0, output.length);
+			if (opusOutput == null) {
+				opusOutput = new byte[Opus.MAX_PACKET];
+			}
+
+			AudioConversion.littleEndianIntsToBytes(dataToSend, opusInput);
+
+			int outLength = Opus.encode(opusEncoder, opusInput, 0, frameSizeInSamplesPerChannel, opusOutput, 0, opusOutput.length);
 			opusBytes = new byte[outLength];
-			System.arraycopy(output, 0, opusBytes, 0, outLength);
+			System.arraycopy(opusOutput, 0, opusBytes, 0, outLength);
 
-			System.arraycopy(output, 0, rtpData, RtpPacket.HEADER_SIZE, outLength);
+			System.arraycopy(opusOutput, 0, rtpData, RtpPacket.HEADER_SIZE, outLength);
 			senderPacket.setLength(outLength + RtpPacket.HEADER_SIZE);
 
 			//Logger.println("RtpPacket.PCM_ENCODING " + outLength);
@@ -544,7 +558,7 @@ public class MemberSender {
 				try {
 					senderPacket.setSocketAddress(memberAddress);
 
-					datagramChannel.send(ByteBuffer.wrap(senderPacket.getData(), 0, senderPacket.getLength()), memberAddress);
+					datagramChannel.send(getSendBuffer(), memberAddress);
 
 						if (Logger.logLevel >= Logger.LOG_MOREDETAIL) {
 						Logger.writeFile("Call " + cp + " back from sending data");
@@ -567,10 +581,15 @@ public class MemberSender {
 
 		try {
 
-			if (relayChannel.encode())
+			if (relayChannel.encode()) {
 				relayChannel.pushAudio(senderPacket.getData(), opusBytes);
-			else
-				relayChannel.pushAudio(dataToSend);
+			} else {
+				/*
+				 * The mix buffer is reused for the next packet
+				 * and the channel may hold on to the data.
+				 */
+				relayChannel.pushAudio(dataToSend.clone());
+			}
 
 		} catch (Exception e) {
 
@@ -596,6 +615,21 @@ public class MemberSender {
 	return true;
     }
 
+    /*
+     * Wrap the packet data once rather than for every packet.
+     */
+    private ByteBuffer getSendBuffer() {
+	byte[] data = senderPacket.getData();
+
+	if (sendBuffer == null || sendBuffer.array() != data) {
+	    sendBuffer = ByteBuffer.wrap(data);
+	}
+
+	sendBuffer.clear();
+	sendBuffer.limit(senderPacket.getLength());
+	return sendBuffer;
+    }
+
 	public static int[] normalize(int[] audio)
 	{
 		int length = audio.length;
@@ -26,6 +26,7 @@ package com.sun.voip.server;
 import java.lang.reflect.Constructor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import com.sun.voip.AudioConversion;
 import com.sun.voip.Logger;
@@ -46,6 +47,15 @@ public class MixManager {
 
     private SpatialAudio sa;
 
+    /*
+     * The member's mix is written to this buffer.  The member sender is
+     * done with the mix before the next packet is mixed, so the buffer
+     * is reused for every packet.
+     */
+    private int[] mixBuffer;
+
+    private double[] adjustedSpatialValues = new double[4];
+
     public MixManager(ConferenceMember member,
 	    int conferenceSamplesPerPacket, int channels) {
 
@@ -53,6 +63,8 @@ public class MixManager {
 	this.conferenceSamplesPerPacket = conferenceSamplesPerPacket;
 	this.channels = channels;
 
+	mixBuffer = new int[conferenceSamplesPerPacket];
+
 	/*
 	 * Calculate the sample rate.
 	 * Each packet has 20ms of data (50 packets per second).
@@ -387,7 +399,9 @@ public class MixManager {
 	    }
 	}
 
-        outData = new int[conferenceSamplesPerPacket];
+        outData = mixBuffer;
+
+	Arrays.fill(outData, 0);
 
 	//Logger.println("Call " + member + " MixManager mixing "
 	//	+ mixDescriptors.size());
@@ -418,7 +432,7 @@ public class MixManager {
 		     * set the volume to volume - 1 and add that in.
 		     */
 		    if (mixDataSource.contributionIsInCommonMix()) {
-		        double[] sv = new double[4];
+		        double[] sv = adjustedSpatialValues;
 
 		        sv[0] = spatialValues[0];
 		        sv[1] = spatialValues[1];
@@ -499,7 +513,7 @@ public class MixManager {
 	    return null;
 	}
 
-	int[] outData = new int[conferenceSamplesPerPacket];
+	int[] outData = mixBuffer;
 
 	MixDescriptor memberMixDescriptor = (MixDescriptor)
 	    mixDescriptors.get(1);
@@ -507,29 +521,41 @@ public class MixManager {
         int[] memberContribution =
             memberMixDescriptor.getMixDataSource().getCurrentContribution();
 
-        if (memberContribution == null) {
+	mixMinus(conferenceMixContribution, memberContribution, outData);
 
-			if (outData.length <= conferenceMixContribution.length)
-	    		System.arraycopy(conferenceMixContribution, 0, outData, 0, outData.length);
-	    	else
-	    		System.arraycopy(conferenceMixContribution, 0, outData, 0, conferenceMixContribution.length);
+	if (Logger.logLevel == -39) {
+            checkData(outData, useFastMix);
+        }
 
-	    	if (Logger.logLevel == -39) {
-                checkData(outData, useFastMix);
-            }
+	return outData;
+    }
 
-	    	AudioConversion.clip(outData);
-            return outData;
-        }
+    /*
+     * Subtract a member's own contribution from the conference mix and
+     * clip the result.  The conference mix is computed once per packet,
+     * so each member's mix costs one pass over the samples no matter how
+     * many members there are.  memberContribution is null if the member
+     * didn't contribute to this packet.
+     */
+    public static void mixMinus(int[] conferenceMix, int[] memberContribution,
+	    int[] outData) {
 
-		WhisperGroup.mixData(conferenceMixContribution, memberContribution,  outData);
+	int length;
 
-		if (Logger.logLevel == -39) {
-            checkData(outData, useFastMix);
-        }
+	if (memberContribution == null) {
+	    length = Math.min(conferenceMix.length, outData.length);
 
-        AudioConversion.clip(outData);
-		return outData;
+	    System.arraycopy(conferenceMix, 0, outData, 0, length);
+	} else {
+	    length = Math.min(Math.min(conferenceMix.length,
+		memberContribution.length), outData.length);
+
+	    WhisperGroup.mixData(conferenceMix, memberContribution, outData);
+	}
+
+	Arrays.fill(outData, length, outData.length, 0);
+
+	AudioConversion.clip(outData);
     }
 
     private void checkData(int[] data, boolean useFastMix) {
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2007 Sun Microsystems, Inc.
+ *
+ * This file is part of jVoiceBridge.
+ *
+ * jVoiceBridge is free software: you can redistribute it and/or modify 
+ * it under the terms of the GNU General Public License version 2 as 
+ * published by the Free Software Foundation and distributed hereunder 
+ * to you.
+ *
+ * jVoiceBridge is distributed in the hope that it will be useful, 
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Sun designates this particular file as subject to the "Classpath"
+ * exception as provided by Sun in the License file that accompanied this 
+ * code. 
+ */
+
+package com.sun.voip.server;
+
+import com.sun.voip.AudioConversion;
+import com.sun.voip.Logger;
+import com.sun.voip.MediaInfo;
+import com.sun.voip.RtpPacket;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.Random;
+
+/*
+ * Mix synthetic members the way the conference sender does each tick,
+ * without any network.  The conference mix is built once per tick and
+ * each member's mix-minus is derived from it by subtraction.  With -n
+ * each member's mix is also built the naive way, by adding every other
+ * member, for comparison.
+ */
+public class MixerBenchmark {
+
+    private int members;
+    private int ticks;
+    private int sampleRate;
+    private boolean naive;
+
+    private int[][] contributions;
+
+    public MixerBenchmark() {
+    }
+
+    private void usage() {
+	System.out.println("Usage:  java com.sun.voip.server.MixerBenchmark "
+	+ "\t\t[-m <members>] [-t <ticks>] [-r <sample rate>] [-n]");
+
+	System.exit(1);
+    }
+
+    public static void main(String args[]) {
+	MixerBenchmark mixerBenchmark = new MixerBenchmark();
+
+	mixerBenchmark.initialize(args);
+
+	/*
+	 * Warm up so the JIT compiles the mixing loops before we measure.
+	 */
+	mixerBenchmark.runTest(mixerBenchmark.ticks, false);
+	mixerBenchmark.runTest(mixerBenchmark.ticks, true);
+    }
+
+    private void initialize(String[] args) {
+	for (int i = 0; i < args.length; i++) {
+	    if (args[i].equalsIgnoreCase("-m")) {
+		i++;
+
+		members = getIntArg(args, i);
+	    } else if (args[i].equalsIgnoreCase("-t")) {
+		i++;
+
+		ticks = getIntArg(args, i);
+	    } else if (args[i].equalsIgnoreCase("-r")) {
+		i++;
+
+		sampleRate = getIntArg(args, i);
+	    } else if (args[i].equalsIgnoreCase("-n")) {
+		naive = true;
+	    } else {
+		usage();
+	    }
+	}
+
+	if (members == 0) {
+	    members = 100;
+	}
+
+	if (ticks == 0) {
+	    ticks = 5000;
+	}
+
+	if (sampleRate == 0) {
+	    sampleRate = 16000;
+	}
+
+	/*
+	 * 20ms of mono linear samples per member
+	 */
+	int samples = sampleRate / 50;
+
+	Random random = new Random(0);
+
+	contributions = new int[members][samples];
+
+	for (int m = 0; m < members; m++) {
+	    for (int i = 0; i < samples; i++) {
+		contributions[m][i] = random.nextInt(8192) - 4096;
+	    }
+	}
+    }
+
+    private void runTest(int ticks, boolean report) {
+	WhisperGroup whisperGroup = new WhisperGroup("MixerBenchmark", 1.0,
+	    new MediaInfo((byte) 0, RtpPacket.PCM_ENCODING, sampleRate, 1,
+	    false));
+
+	int samples = contributions[0].length;
+
+	int[] memberMix = new int[samples];
+	byte[] memberData = new byte[samples * 2];
+
+	ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	long startBytes = getAllocatedBytes(threadMXBean);
+
+	long start = System.nanoTime();
+
+	for (int n = 0; n < ticks; n++) {
+	    for (int m = 0; m < members; m++) {
+		whisperGroup.addToLinearDataMix(contributions[m], false);
+	    }
+
+	    whisperGroup.saveCurrentContribution();
+
+	    int[] conferenceMix = whisperGroup.getCurrentContribution();
+
+	    for (int m = 0; m < members; m++) {
+		MixManager.mixMinus(conferenceMix, contributions[m], memberMix);
+
+		AudioConversion.littleEndianIntsToBytes(memberMix, memberData);
+	    }
+	}
+
+	long elapsed = System.nanoTime() - start;
+
+	long allocatedBytes = getAllocatedBytes(threadMXBean) - startBytes;
+
+	if (report) {
+	    report("mix-minus", ticks, elapsed, allocatedBytes);
+	}
+
+	if (naive == false) {
+	    return;
+	}
+
+	startBytes = getAllocatedBytes(threadMXBean);
+
+	start = System.nanoTime();
+
+	for (int n = 0; n < ticks; n++) {
+	    for (int m = 0; m < members; m++) {
+		for (int i = 0; i < samples; i++) {
+		    memberMix[i] = 0;
+		}
+
+		for (int other = 0; other < members; other++) {
+		    if (other != m) {
+			WhisperGroup.mixData(contributions[other], memberMix,
+			    true);
+		    }
+		}
+
+		AudioConversion.clip(memberMix);
+		AudioConversion.littleEndianIntsToBytes(memberMix, memberData);
+	    }
+	}
+
+	elapsed = System.nanoTime() - start;
+
+	allocatedBytes = getAllocatedBytes(threadMXBean) - startBytes;
+
+	if (report) {
+	    report("naive", ticks, elapsed, allocatedBytes);
+	}
+    }
+
+    private void report(String name, int ticks, long elapsed,
+	    long allocatedBytes) {
+
+	String s = name + ":  " + members + " members, " + ticks + " ticks, "
+	    + (elapsed / ticks / 1000) + "us per tick, "
+	    + (elapsed / ticks / members) + "ns per member";
+
+	if (allocatedBytes >= 0) {
+	    s += ", " + (allocatedBytes / ticks) + " bytes allocated per tick";
+	}
+
+	Logger.println(s);
+    }
+
+    /*
+     * Bytes allocated by this thread or -1 if the JVM can't tell us.
+     */
+    private long getAllocatedBytes(ThreadMXBean threadMXBean) {
+	if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+	    com.sun.management.ThreadMXBean t =
+		(com.sun.management.ThreadMXBean) threadMXBean;
+
+	    if (t.isThreadAllocatedMemorySupported()
+		    && t.isThreadAllocatedMemoryEnabled()) {
+
+		return t.getThreadAllocatedBytes(
+		    Thread.currentThread().getId());
+	    }
+	}
+
+	return -1;
+    }
+
+    private int getIntArg(String[] args, int i) {
+	if (i >= args.length) {
+	    usage();
+	}
+
+	try {
+	    return Integer.parseInt(args[i]);
+	} catch (NumberFormatException e) {
+	    usage();
+	}
+
+	return 0;
+    }
+
+}
@@ -56,8 +56,18 @@ public class WhisperGroup implements MixDataSource, TreatmentDoneListener {
     private ArrayList members = new ArrayList();    // members in group
     private ArrayList whisperers = new ArrayList(); // members whispering
 
+    /*
+     * The whisperers' data is mixed into one of three buffers which are
+     * used in turn, so that no buffer is allocated for each packet.
+     * While one buffer is being mixed, the other two hold the current
+     * and the previous contribution which members may still be reading.
+     */
+    private int[][] mixBuffers = new int[3][];
+    private int mixIndex;
+
     private int[] linearMixBuffer;
     private int[] doNotRecordMix;
+    private boolean haveDoNotRecordMix;
 
     private MediaInfo mediaInfo;
 
@@ -235,94 +245,72 @@ public class WhisperGroup implements MixDataSource, TreatmentDoneListener {
      */
     public void addToLinearDataMix(int[] contribution, boolean doNotRecord)
     {
-		if (doNotRecord) {
-				if (doNotRecordMix == null) {
-					doNotRecordMix = new int[contribution.length];
+	if (doNotRecord) {
+	    if (haveDoNotRecordMix == false) {
+		doNotRecordMix = copyData(contribution, doNotRecordMix);
+		haveDoNotRecordMix = true;
+		return;
+	    }
 
-					System.arraycopy(contribution, 0, doNotRecordMix, 0,
-						contribution.length);
-					return;
-				}
+	    mixData(contribution, doNotRecordMix, true);
+	    return;
+	}
 
-				mixData(contribution, doNotRecordMix, true);
-			return;
-		}
+	if (linearMixBuffer == null) {
+	    linearMixBuffer = copyData(contribution, mixBuffers[mixIndex]);
+	    mixBuffers[mixIndex] = linearMixBuffer;
+	    return;
+	}
 
-		if (linearMixBuffer == null) {
-            linearMixBuffer = new int[contribution.length];
+	mixData(contribution, linearMixBuffer, true);
+    }
 
-            System.arraycopy(contribution, 0, linearMixBuffer, 0,
-                contribution.length);
-            return;
-        }
+    /*
+     * Copy data into a buffer, reusing the buffer if it's the right size.
+     */
+    private static int[] copyData(int[] data, int[] buffer) {
+	if (buffer == null || buffer.length != data.length) {
+	    buffer = new int[data.length];
+	}
 
-        mixData(contribution, linearMixBuffer, true);
+	System.arraycopy(data, 0, buffer, 0, data.length);
+	return buffer;
     }
 
+    /*
+     * Start mixing the next packet in the next buffer.
+     */
+    private void nextMixBuffer() {
+	mixIndex = (mixIndex + 1) % mixBuffers.length;
+    }
+
+    /*
+     * The mixing loops are kept free of branches and exception handlers
+     * so that the JIT compiler can vectorize them.
+     */
     public static void mixData(int[] inData, int[] mixData, boolean add)
     {
-		//Logger.println("mixData - inData length " + inData.length  + " mixData length " + mixData.length + " add " + add);
-
-		try {
-			if (add) {
-
-				if (inData.length <= mixData.length)
-				{
-					for (int i = 0; i < inData.length; i++) {
-							mixData[i] = mixData[i] + inData[i];
-					}
-
-				} else {
-
-					for (int i = 0; i < mixData.length; i++) {
-							mixData[i] = mixData[i] + inData[i];
-					}
-				}
-
-			} else {
-
-				if (inData.length <= mixData.length)
-				{
-					for (int i = 0; i < inData.length; i++) {
-							mixData[i] = mixData[i] - inData[i];
-					}
-				} else {
-					for (int i = 0; i < mixData.length; i++) {
-							mixData[i] = mixData[i] - inData[i];
-					}
-				}
-			}
-
-		} catch (IndexOutOfBoundsException e) {
-			Logger.println("Exception!  inData length " + inData.length
-			+ " mixData length " + mixData.length + " add " + add);
-
-			e.printStackTrace();
-		}
+	int length = Math.min(inData.length, mixData.length);
+
+	if (add) {
+	    for (int i = 0; i < length; i++) {
+		mixData[i] += inData[i];
+	    }
+	} else {
+	    for (int i = 0; i < length; i++) {
+		mixData[i] -= inData[i];
+	    }
+	}
     }
 
     public static void mixData(int[] conferenceData, int[] memberData, int[] outData)
     {
-		//Logger.println("mixData - conferenceData length " + conferenceData.length +" memberData.length " + memberData.length + " outData length " + outData.length);
-
-		try {
-				if (outData.length <= memberData.length)
-				{
-					for (int i = 0; i < outData.length; i ++) {
-						outData[i] = conferenceData[i] - memberData[i];
-					}
+	int length = Math.min(Math.min(conferenceData.length,
+	    memberData.length), outData.length);
 
-				} else {
-					for (int i = 0; i < memberData.length; i ++) {
-						outData[i] = conferenceData[i] - memberData[i];
-					}
-				}
-
-		} catch (IndexOutOfBoundsException e) {
-			Logger.println("mixData Exception!  conferenceData length " + conferenceData.length +" memberData.length " + memberData.length + " outData length " + outData.length);
-
-			e.printStackTrace();
-		}
+	for (int i = 0; i < length; i++) {
+	    outData[i] = conferenceData[i] - memberData[i];
+	}
     }
 
     private int[] previousContribution;
@@ -345,10 +333,14 @@ public class WhisperGroup implements MixDataSource, TreatmentDoneListener {
 	return currentContribution;
     }
 
-    public void saveCurrentContribution() {
+    public synchronized void saveCurrentContribution() {
 	currentContribution = linearMixBuffer;
 	linearMixBuffer = null;
 
+	if (currentContribution != null) {
+	    nextMixBuffer();
+	}
+
 	if (currentTreatment != null) {
             synchronized (conferenceTreatments) {
 	        currentTreatment.saveCurrentContribution();
@@ -375,9 +367,16 @@ public class WhisperGroup implements MixDataSource, TreatmentDoneListener {
 	    recordAudio(currentContribution, currentContribution.length);
 	}
 
-	if (doNotRecordMix != null) {
-	    mixData(doNotRecordMix, currentContribution, true);
-	    doNotRecordMix = null;
+	if (haveDoNotRecordMix) {
+	    if (currentContribution == null) {
+		currentContribution = copyData(doNotRecordMix,
+		    mixBuffers[mixIndex]);
+		mixBuffers[mixIndex] = currentContribution;
+		nextMixBuffer();
+	    } else {
+	        mixData(doNotRecordMix, currentContribution, true);
+	    }
+	    haveDoNotRecordMix = false;
 	}
     }
 
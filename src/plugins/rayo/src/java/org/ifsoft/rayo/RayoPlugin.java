@@ -30,11 +30,15 @@ import java.util.concurrent.atomic.*;
 import org.jivesoftware.openfire.container.Plugin;
 import org.jivesoftware.openfire.container.PluginManager;
 import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.LatencyHistogram;
+import org.jivesoftware.util.LocaleUtils;
 import org.jivesoftware.openfire.session.LocalClientSession;
 import org.jivesoftware.openfire.session.ClientSession;
 import org.jivesoftware.openfire.session.Session;
 import org.jivesoftware.openfire.event.SessionEventDispatcher;
 import org.jivesoftware.openfire.event.SessionEventListener;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +67,8 @@ public class RayoPlugin implements Plugin, SessionEventListener  {
     private static final Logger Log = LoggerFactory.getLogger(RayoPlugin.class);
 
     public static final String JN_PUB_IP_PROPERTY = "rayo.publicip";
+    private static final String TICK_TIME_STAT_KEY = "rayo_tick_time";
+    private static final String DEADLINE_MISSES_STAT_KEY = "rayo_deadline_misses";
     private ComponentManager componentManager;
 
    	private final ConcurrentHashMap<String, RelayChannel> channels = new ConcurrentHashMap<String, RelayChannel>();
@@ -104,6 +110,7 @@ public class RayoPlugin implements Plugin, SessionEventListener  {
             Log.error("Could NOT load " + component.getName());
         }
         setup();
+        addStatistics();
 
         component.doStart();
     }
@@ -191,11 +198,22 @@ public class RayoPlugin implements Plugin, SessionEventListener  {
         } catch (ComponentException e) {
             Log.error("Could NOT Remove " + serviceName + " Component");
         }
+        removeStatistics();
         closeAllChannels();
         executor.shutdownNow();
         component.doStop();
     }
 
+    private void addStatistics() {
+        StatisticsManager.getInstance().addStatistic(TICK_TIME_STAT_KEY, new TickTimeStatistic());
+        StatisticsManager.getInstance().addStatistic(DEADLINE_MISSES_STAT_KEY, new DeadlineMissesStatistic());
+    }
+
+    private void removeStatistics() {
+        StatisticsManager.getInstance().removeStatistic(TICK_TIME_STAT_KEY);
+        StatisticsManager.getInstance().removeStatistic(DEADLINE_MISSES_STAT_KEY);
+    }
+
     public boolean hasPublicIP() {
         return hasPublicIP;
     }
@@ -359,4 +377,74 @@ public class RayoPlugin implements Plugin, SessionEventListener  {
 
 		CallHandler.hangupOwner(session.getAddress().toString(), "User has ended session");
 	}
+
+    /**
+     * Samples the 99th percentile of the time the conference senders took to send
+     * a packet to every member.
+     */
+    private static class TickTimeStatistic implements Statistic {
+
+        public String getName() {
+            return LocaleUtils.getLocalizedString("stat.tick.time.name", "rayo");
+        }
+
+        public Type getStatType() {
+            return Type.count;
+        }
+
+        public String getDescription() {
+            return LocaleUtils.getLocalizedString("stat.tick.time.desc", "rayo");
+        }
+
+        public String getUnits() {
+            return LocaleUtils.getLocalizedString("stat.tick.time.units", "rayo");
+        }
+
+        public double sample() {
+            final LatencyHistogram tickTimes = ConferenceSender.getTickTimes();
+            final double value = tickTimes.getPercentile(99);
+            tickTimes.reset();
+            return value;
+        }
+
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
+
+    /**
+     * Samples the number of packets that the conference senders could not send to
+     * every member within the time between two packets.
+     */
+    private static class DeadlineMissesStatistic implements Statistic {
+
+        private long lastMisses = ConferenceSender.getDeadlineMisses();
+
+        public String getName() {
+            return LocaleUtils.getLocalizedString("stat.deadline.misses.name", "rayo");
+        }
+
+        public Type getStatType() {
+            return Type.rate;
+        }
+
+        public String getDescription() {
+            return LocaleUtils.getLocalizedString("stat.deadline.misses.desc", "rayo");
+        }
+
+        public String getUnits() {
+            return LocaleUtils.getLocalizedString("stat.deadline.misses.units", "rayo");
+        }
+
+        public synchronized double sample() {
+            final long misses = ConferenceSender.getDeadlineMisses();
+            final long value = misses - lastMisses;
+            lastMisses = misses;
+            return value;
+        }
+
+        public boolean isPartialSample() {
+            return false;
+        }
+    }
 }
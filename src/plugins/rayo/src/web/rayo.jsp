@@ -4,6 +4,7 @@
 <%@ page import="org.xmpp.jnodes.nio.LocalIPResolver" %>
 <%@ page import="java.net.InetAddress" %>
 <%@ page import="org.jivesoftware.util.JiveGlobals" %>
+<%@ page import="com.sun.voip.server.ConferenceSender" %>
 <%@ page import="org.xmpp.jnodes.nio.PublicIPResolver" %>
 <%@ page import="java.net.InetSocketAddress" %>
 <%--
@@ -98,6 +99,18 @@
                 <td align="left"><%=plugin.getActiveChannelCount()%>
                 </td>
             </tr>
+            <tr>
+                <td><label class="jive-label"><fmt:message key="rayo.tick.time"/>:</label><br>
+                </td>
+                <td align="left"><%=ConferenceSender.getTickTimes().getPercentile(99)%> ms
+                </td>
+            </tr>
+            <tr>
+                <td><label class="jive-label"><fmt:message key="rayo.deadline.misses"/>:</label><br>
+                </td>
+                <td align="left"><%=ConferenceSender.getDeadlineMisses()%>
+                </td>
+            </tr>
             <tr>
                 <td><label class="jive-label"><fmt:message key="rayo.settings.overrideip"/>:</label><br>
                 </td>
@@ -10,10 +10,14 @@ import org.jivesoftware.openfire.group.Group;
 import org.jivesoftware.openfire.group.GroupAlreadyExistsException;
 import org.jivesoftware.openfire.group.GroupManager;
 import org.jivesoftware.openfire.group.GroupNotFoundException;
+import org.jivesoftware.openfire.XMPPServer;
 import org.jivesoftware.openfire.plugin.rest.entity.GroupEntity;
+import org.jivesoftware.openfire.plugin.rest.entity.GroupMembersEntity;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ExceptionType;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
 import org.jivesoftware.openfire.plugin.rest.utils.MUCRoomUtils;
+import org.jivesoftware.openfire.plugin.rest.utils.UserUtils;
+import org.xmpp.packet.JID;
 
 /**
  * The Class GroupController.
@@ -135,6 +139,40 @@ public class GroupController {
 		return group;
 	}
 
+	/**
+	 * Adds members to a group. Users that are already members are skipped.
+	 *
+	 * @param groupName
+	 *            the group name
+	 * @param groupMembersEntity
+	 *            the usernames or JIDs of the members
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	public void addGroupMembers(String groupName, GroupMembersEntity groupMembersEntity) throws ServiceException {
+		Group group = getAndCheckGroup(groupName);
+		for (JID member : getAndCheckMembers(groupMembersEntity)) {
+			group.getMembers().add(member);
+		}
+	}
+
+	/**
+	 * Removes members from a group. Users that aren't members are skipped.
+	 *
+	 * @param groupName
+	 *            the group name
+	 * @param groupMembersEntity
+	 *            the usernames or JIDs of the members
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	public void deleteGroupMembers(String groupName, GroupMembersEntity groupMembersEntity) throws ServiceException {
+		Group group = getAndCheckGroup(groupName);
+		for (JID member : getAndCheckMembers(groupMembersEntity)) {
+			group.getMembers().remove(member);
+		}
+	}
+
 	/**
 	 * Delete group.
 	 *
@@ -152,4 +190,53 @@ public class GroupController {
 					Response.Status.NOT_FOUND, e);
 		}
 	}
+
+	/**
+	 * Gets the and check group.
+	 *
+	 * @param groupName
+	 *            the group name
+	 * @return the group
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	private Group getAndCheckGroup(String groupName) throws ServiceException {
+		try {
+			return GroupManager.getInstance().getGroup(groupName);
+		} catch (GroupNotFoundException e) {
+			throw new ServiceException("Could not find group", groupName, ExceptionType.GROUP_NOT_FOUND,
+					Response.Status.NOT_FOUND, e);
+		}
+	}
+
+	/**
+	 * Gets the JIDs of the members of a bulk request. All members are checked before the group
+	 * is changed.
+	 *
+	 * @param groupMembersEntity
+	 *            the group members entity
+	 * @return the JIDs
+	 * @throws ServiceException
+	 *             if there are no members or a member is invalid
+	 */
+	private List<JID> getAndCheckMembers(GroupMembersEntity groupMembersEntity) throws ServiceException {
+		if (groupMembersEntity == null || groupMembersEntity.getMembers() == null) {
+			throw new ServiceException("No members", "members", ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION,
+					Response.Status.BAD_REQUEST);
+		}
+		List<JID> members = new ArrayList<JID>();
+		for (String member : groupMembersEntity.getMembers()) {
+			try {
+				if (UserUtils.isValidBareJid(member)) {
+					members.add(new JID(member).asBareJID());
+				} else {
+					members.add(XMPPServer.getInstance().createJID(member, null));
+				}
+			} catch (IllegalArgumentException e) {
+				throw new ServiceException("Invalid member", member, ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION,
+						Response.Status.BAD_REQUEST, e);
+			}
+		}
+		return members;
+	}
 }
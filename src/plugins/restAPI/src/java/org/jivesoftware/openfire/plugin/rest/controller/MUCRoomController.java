@@ -15,9 +15,11 @@ import org.jivesoftware.openfire.muc.ConflictException;
 import org.jivesoftware.openfire.muc.ForbiddenException;
 import org.jivesoftware.openfire.muc.MUCRole;
 import org.jivesoftware.openfire.muc.MUCRoom;
+import org.jivesoftware.openfire.muc.MultiUserChatService;
 import org.jivesoftware.openfire.muc.NotAllowedException;
 import org.jivesoftware.openfire.muc.cluster.RoomUpdatedEvent;
 import org.jivesoftware.openfire.muc.spi.LocalMUCRoom;
+import org.jivesoftware.openfire.muc.spi.MUCRoomDirectory;
 import org.jivesoftware.openfire.plugin.rest.entity.MUCChannelType;
 import org.jivesoftware.openfire.plugin.rest.entity.MUCRoomEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.MUCRoomEntity;
@@ -27,7 +29,9 @@ import org.jivesoftware.openfire.plugin.rest.entity.ParticipantEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.ParticipantEntity;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ExceptionType;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
+import org.jivesoftware.openfire.plugin.rest.utils.ConvertingList;
 import org.jivesoftware.openfire.plugin.rest.utils.MUCRoomUtils;
+import org.jivesoftware.openfire.plugin.rest.utils.PagingUtils;
 import org.jivesoftware.openfire.plugin.rest.utils.UserUtils;
 import org.jivesoftware.util.AlreadyExistsException;
 import org.jivesoftware.util.cache.CacheFactory;
@@ -62,12 +66,69 @@ public class MUCRoomController {
 	 * @return the chat rooms
 	 */
 	public MUCRoomEntities getChatRooms(String serviceName, String channelType, String roomSearch, boolean expand) {
-		List<MUCRoom> rooms = XMPPServer.getInstance().getMultiUserChatManager().getMultiUserChatService(serviceName)
-				.getChatRooms();
+		List<MUCRoom> rooms = loadChatRooms(serviceName, filterChatRooms(serviceName, channelType, roomSearch));
+		return new MUCRoomEntities(convertToMUCRoomEntities(rooms, expand));
+	}
+
+	/**
+	 * Gets a page of the chat rooms, ordered by name.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param channelType
+	 *            the channel type
+	 * @param roomSearch
+	 *            the room search
+	 * @param expand
+	 *            the expand
+	 * @param cursor
+	 *            the cursor of the page, or null for the first page
+	 * @param limit
+	 *            the maximum number of rooms, or null for all rooms
+	 * @return the chat rooms
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	public MUCRoomEntities getChatRooms(String serviceName, String channelType, String roomSearch, boolean expand,
+			String cursor, Integer limit) throws ServiceException {
+		if (cursor == null && limit == null) {
+			return getChatRooms(serviceName, channelType, roomSearch, expand);
+		}
+		PagingUtils.checkLimit(limit);
+		// Page over the room directory, so that only the rooms of the page are loaded
+		PagingUtils.Page<MUCRoomDirectory.Entry> page = PagingUtils.pageByKey(
+				filterChatRooms(serviceName, channelType, roomSearch), new PagingUtils.Key<MUCRoomDirectory.Entry>() {
+					@Override
+					public String getKey(MUCRoomDirectory.Entry room) {
+						return room.getName();
+					}
+				}, cursor, limit);
+
+		List<MUCRoom> rooms = loadChatRooms(serviceName, page.getItems());
+		MUCRoomEntities mucRoomEntities = new MUCRoomEntities(convertToMUCRoomEntities(rooms, expand));
+		mucRoomEntities.setNextCursor(page.getNextCursor());
+		return mucRoomEntities;
+	}
+
+	/**
+	 * Gets the directory entries of the chat rooms that match the channel type and the room
+	 * search. No room is loaded.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param channelType
+	 *            the channel type
+	 * @param roomSearch
+	 *            the room search
+	 * @return the entries of the chat rooms
+	 */
+	private List<MUCRoomDirectory.Entry> filterChatRooms(String serviceName, String channelType, String roomSearch) {
+		List<MUCRoomDirectory.Entry> rooms = XMPPServer.getInstance().getMultiUserChatManager()
+				.getMultiUserChatService(serviceName).getChatRoomEntries();
 
-		List<MUCRoomEntity> mucRoomEntities = new ArrayList<MUCRoomEntity>();
+		List<MUCRoomDirectory.Entry> result = new ArrayList<MUCRoomDirectory.Entry>();
 
-		for (MUCRoom chatRoom : rooms) {
+		for (MUCRoomDirectory.Entry chatRoom : rooms) {
 			if (roomSearch != null) {
 				if (!chatRoom.getName().contains(roomSearch)) {
 					continue;
@@ -75,13 +136,55 @@ public class MUCRoomController {
 			}
 
 			if (channelType.equals(MUCChannelType.ALL)) {
-				mucRoomEntities.add(convertToMUCRoomEntity(chatRoom, expand));
+				result.add(chatRoom);
 			} else if (channelType.equals(MUCChannelType.PUBLIC) && chatRoom.isPublicRoom()) {
-				mucRoomEntities.add(convertToMUCRoomEntity(chatRoom, expand));
+				result.add(chatRoom);
 			}
 		}
 
-		return new MUCRoomEntities(mucRoomEntities);
+		return result;
+	}
+
+	/**
+	 * Loads the chat rooms of directory entries. Rooms that were destroyed since the entries were
+	 * read are left out.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param entries
+	 *            the entries of the chat rooms
+	 * @return the chat rooms
+	 */
+	private List<MUCRoom> loadChatRooms(String serviceName, List<MUCRoomDirectory.Entry> entries) {
+		MultiUserChatService service = XMPPServer.getInstance().getMultiUserChatManager()
+				.getMultiUserChatService(serviceName);
+
+		List<MUCRoom> rooms = new ArrayList<MUCRoom>(entries.size());
+		for (MUCRoomDirectory.Entry entry : entries) {
+			MUCRoom chatRoom = service.getChatRoom(entry.getName());
+			if (chatRoom != null) {
+				rooms.add(chatRoom);
+			}
+		}
+		return rooms;
+	}
+
+	/**
+	 * Convert to MUC room entities. The entities are created when they are read.
+	 *
+	 * @param rooms
+	 *            the rooms
+	 * @param expand
+	 *            the expand
+	 * @return the MUC room entities
+	 */
+	private List<MUCRoomEntity> convertToMUCRoomEntities(List<MUCRoom> rooms, final boolean expand) {
+		return new ConvertingList<MUCRoom, MUCRoomEntity>(rooms) {
+			@Override
+			protected MUCRoomEntity convert(MUCRoom room) {
+				return convertToMUCRoomEntity(room, expand);
+			}
+		};
 	}
 
 	/**
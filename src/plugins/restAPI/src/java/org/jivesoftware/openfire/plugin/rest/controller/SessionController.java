@@ -5,13 +5,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import javax.ws.rs.core.Response;
-
 import org.jivesoftware.openfire.SessionManager;
 import org.jivesoftware.openfire.plugin.rest.entity.SessionEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.SessionEntity;
-import org.jivesoftware.openfire.plugin.rest.exceptions.ExceptionType;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
+import org.jivesoftware.openfire.plugin.rest.utils.ConvertingList;
+import org.jivesoftware.openfire.plugin.rest.utils.PagingUtils;
 import org.jivesoftware.openfire.session.ClientSession;
 import org.jivesoftware.openfire.session.LocalClientSession;
 import org.jivesoftware.openfire.session.Session;
@@ -49,7 +48,7 @@ public class SessionController {
 	 */
 	public SessionEntities getUserSessions(String username) throws ServiceException {
 		Collection<ClientSession> clientSessions = SessionManager.getInstance().getSessions(username);
-		SessionEntities sessionEntities = convertToSessionEntities(clientSessions);
+		SessionEntities sessionEntities = convertToSessionEntities(new ArrayList<ClientSession>(clientSessions));
 		return sessionEntities;
 	}
 	
@@ -61,7 +60,33 @@ public class SessionController {
 	 */
 	public SessionEntities getAllSessions() throws ServiceException {
 		Collection<ClientSession> clientSessions = SessionManager.getInstance().getSessions();
-		SessionEntities sessionEntities = convertToSessionEntities(clientSessions);
+		SessionEntities sessionEntities = convertToSessionEntities(new ArrayList<ClientSession>(clientSessions));
+		return sessionEntities;
+	}
+
+	/**
+	 * Gets a page of all sessions, ordered by address.
+	 *
+	 * @param cursor the cursor of the page, or null for the first page
+	 * @param limit the maximum number of sessions, or null for all sessions
+	 * @return the sessions
+	 * @throws ServiceException the service exception
+	 */
+	public SessionEntities getAllSessions(String cursor, Integer limit) throws ServiceException {
+		if (cursor == null && limit == null) {
+			return getAllSessions();
+		}
+		PagingUtils.checkLimit(limit);
+		List<ClientSession> clientSessions = new ArrayList<ClientSession>(SessionManager.getInstance().getSessions());
+		PagingUtils.Page<ClientSession> page = PagingUtils.pageByKey(clientSessions,
+				new PagingUtils.Key<ClientSession>() {
+					@Override
+					public String getKey(ClientSession session) {
+						return session.getAddress().toString();
+					}
+				}, cursor, limit);
+		SessionEntities sessionEntities = convertToSessionEntities(page.getItems());
+		sessionEntities.setNextCursor(page.getNextCursor());
 		return sessionEntities;
 	}
 	
@@ -80,84 +105,92 @@ public class SessionController {
 	}
 
 	/**
-	 * Convert to session entities.
+	 * Convert to session entities. The entities are created when they are read.
 	 *
 	 * @param clientSessions the client sessions
 	 * @return the session entities
-	 * @throws ServiceException the service exception
 	 */
-	private SessionEntities convertToSessionEntities(Collection<ClientSession> clientSessions) throws ServiceException {
-		List<SessionEntity> sessions = new ArrayList<SessionEntity>();
-		SessionEntities sessionEntities = new SessionEntities(sessions);
-
-		for (ClientSession clientSession : clientSessions) {
-			SessionEntity session = new SessionEntity();
-			session.setSessionId(clientSession.getAddress().toString());
-
-			if (!clientSession.isAnonymousUser()) {
-				try {
-					session.setUsername(clientSession.getUsername());
-				} catch (UserNotFoundException e) {
-					throw new ServiceException("Could not get user", "", ExceptionType.USER_NOT_FOUND_EXCEPTION,
-							Response.Status.NOT_FOUND, e);
-				}
-			} else {
-				session.setUsername("Anonymous");
+	private SessionEntities convertToSessionEntities(List<ClientSession> clientSessions) {
+		return new SessionEntities(new ConvertingList<ClientSession, SessionEntity>(clientSessions) {
+			@Override
+			protected SessionEntity convert(ClientSession clientSession) {
+				return convertToSessionEntity(clientSession);
 			}
+		});
+	}
 
-			session.setRessource(clientSession.getAddress().getResource());
-			
-			if (clientSession instanceof LocalClientSession) {
-				  session.setNode("Local");
-			} else {
-				session.setNode("Remote");
-			}
+	/**
+	 * Convert to session entity.
+	 *
+	 * @param clientSession the client session
+	 * @return the session entity
+	 */
+	private SessionEntity convertToSessionEntity(ClientSession clientSession) {
+		SessionEntity session = new SessionEntity();
+		session.setSessionId(clientSession.getAddress().toString());
 
-			String status = "";
-			if (clientSession.getStatus() == Session.STATUS_CLOSED) {
-				status = "Closed";
-			} else if (clientSession.getStatus() == Session.STATUS_CONNECTED) {
-				status = "Connected";
-			} else if (clientSession.getStatus() == Session.STATUS_AUTHENTICATED) {
-				status = "Authenticated";
-			} else {
-				status = "Unkown";
-			}
-			session.setSessionStatus(status);
-
-			if (clientSession.getPresence() != null) {
-				session.setPresenceMessage(clientSession.getPresence().getStatus());
-
-				Presence.Show show = clientSession.getPresence().getShow();
-				if(show == Presence.Show.away) {
-					session.setPresenceStatus("Away");
-				} else if(show == Presence.Show.chat) {
-					session.setPresenceStatus("Available to Chat");
-				} else if(show == Presence.Show.dnd) {
-					session.setPresenceStatus("Do Not Disturb");
-				} else if(show == Presence.Show.xa) {
-					session.setPresenceStatus("Extended Away");
-				} else if(show == null) {
-					session.setPresenceStatus("Online");
-				} else {
-					session.setPresenceStatus("Unknown/Not Recognized");
-				}
-				session.setPriority(clientSession.getPresence().getPriority());
-			}
-			
+		if (!clientSession.isAnonymousUser()) {
 			try {
-				session.setHostAddress(clientSession.getHostAddress());
-				session.setHostName(clientSession.getHostName());
-			} catch (UnknownHostException e) {
-				LOG.error("UnknownHostException", e);
+				session.setUsername(clientSession.getUsername());
+			} catch (UserNotFoundException e) {
+				// The session was closed before it was read
+				session.setUsername(clientSession.getAddress().getNode());
 			}
+		} else {
+			session.setUsername("Anonymous");
+		}
 
-			session.setCreationDate(clientSession.getCreationDate());
-			session.setLastActionDate(clientSession.getLastActiveDate());
-			session.setSecure(clientSession.isSecure());
+		session.setRessource(clientSession.getAddress().getResource());
+		
+		if (clientSession instanceof LocalClientSession) {
+			  session.setNode("Local");
+		} else {
+			session.setNode("Remote");
+		}
 
-			sessions.add(session);
+		String status = "";
+		if (clientSession.getStatus() == Session.STATUS_CLOSED) {
+			status = "Closed";
+		} else if (clientSession.getStatus() == Session.STATUS_CONNECTED) {
+			status = "Connected";
+		} else if (clientSession.getStatus() == Session.STATUS_AUTHENTICATED) {
+			status = "Authenticated";
+		} else {
+			status = "Unkown";
 		}
-		return sessionEntities;
+		session.setSessionStatus(status);
+
+		if (clientSession.getPresence() != null) {
+			session.setPresenceMessage(clientSession.getPresence().getStatus());
+
+			Presence.Show show = clientSession.getPresence().getShow();
+			if(show == Presence.Show.away) {
+				session.setPresenceStatus("Away");
+			} else if(show == Presence.Show.chat) {
+				session.setPresenceStatus("Available to Chat");
+			} else if(show == Presence.Show.dnd) {
+				session.setPresenceStatus("Do Not Disturb");
+			} else if(show == Presence.Show.xa) {
+				session.setPresenceStatus("Extended Away");
+			} else if(show == null) {
+				session.setPresenceStatus("Online");
+			} else {
+				session.setPresenceStatus("Unknown/Not Recognized");
+			}
+			session.setPriority(clientSession.getPresence().getPriority());
+		}
+		
+		try {
+			session.setHostAddress(clientSession.getHostAddress());
+			session.setHostName(clientSession.getHostName());
+		} catch (UnknownHostException e) {
+			LOG.error("UnknownHostException", e);
+		}
+
+		session.setCreationDate(clientSession.getCreationDate());
+		session.setLastActionDate(clientSession.getLastActiveDate());
+		session.setSecure(clientSession.isSecure());
+
+		return session;
 	}
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package org.jivesoftware.openfire.plugin.rest.controller;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javax.ws.rs.core.Response;
 
@@ -15,6 +19,8 @@ import org.jivesoftware.openfire.group.GroupNotFoundException;
 import org.jivesoftware.openfire.lockout.LockOutManager;
 import org.jivesoftware.openfire.plugin.rest.dao.PropertyDAO;
 import org.jivesoftware.openfire.plugin.rest.entity.GroupEntity;
+import org.jivesoftware.openfire.plugin.rest.entity.ResultEntities;
+import org.jivesoftware.openfire.plugin.rest.entity.ResultEntity;
 import org.jivesoftware.openfire.plugin.rest.entity.RosterEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.RosterItemEntity;
 import org.jivesoftware.openfire.plugin.rest.entity.UserEntities;
@@ -23,6 +29,7 @@ import org.jivesoftware.openfire.plugin.rest.entity.UserGroupsEntity;
 import org.jivesoftware.openfire.plugin.rest.entity.UserProperty;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ExceptionType;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
+import org.jivesoftware.openfire.plugin.rest.utils.PagingUtils;
 import org.jivesoftware.openfire.plugin.rest.utils.UserUtils;
 import org.jivesoftware.openfire.roster.Roster;
 import org.jivesoftware.openfire.roster.RosterItem;
@@ -82,7 +89,7 @@ public class UserServiceController {
 	 *             the service exception
 	 */
 	public void createUser(UserEntity userEntity) throws ServiceException {
-		if (userEntity != null && !userEntity.getUsername().isEmpty()) {
+		if (userEntity != null && userEntity.getUsername() != null && !userEntity.getUsername().isEmpty()) {
 			if (userEntity.getPassword() == null) {
 				throw new ServiceException("Could not create new user, because password is null",
 						userEntity.getUsername(), "PasswordIsNull", Response.Status.BAD_REQUEST);
@@ -101,6 +108,59 @@ public class UserServiceController {
 		}
 	}
 
+	/**
+	 * Creates the users. A user that can't be created doesn't stop the others from being created.
+	 *
+	 * @param userEntities
+	 *            the user entities
+	 * @return the result of each user
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	public ResultEntities createUsers(UserEntities userEntities) throws ServiceException {
+		List<ResultEntity> results = new ArrayList<ResultEntity>();
+		for (UserEntity userEntity : getAndCheckUsers(userEntities)) {
+			try {
+				createUser(userEntity);
+				results.add(new ResultEntity(userEntity.getUsername(), null, null));
+			} catch (ServiceException e) {
+				results.add(new ResultEntity(e.getRessource(), e.getException(), e.getMessage()));
+			} catch (IllegalArgumentException e) {
+				results.add(new ResultEntity(userEntity.getUsername(), ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION,
+						e.getMessage()));
+			}
+		}
+		return new ResultEntities(results);
+	}
+
+	/**
+	 * Updates the users. The users are identified by their usernames, which can't be changed by
+	 * this method. A user that can't be updated doesn't stop the others from being updated.
+	 *
+	 * @param userEntities
+	 *            the user entities
+	 * @return the result of each user
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	public ResultEntities updateUsers(UserEntities userEntities) throws ServiceException {
+		List<ResultEntity> results = new ArrayList<ResultEntity>();
+		for (UserEntity userEntity : getAndCheckUsers(userEntities)) {
+			if (userEntity.getUsername() == null || userEntity.getUsername().isEmpty()) {
+				results.add(new ResultEntity("users", ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION,
+						"Could not update user without username"));
+				continue;
+			}
+			try {
+				updateUser(userEntity.getUsername(), userEntity);
+				results.add(new ResultEntity(userEntity.getUsername(), null, null));
+			} catch (ServiceException e) {
+				results.add(new ResultEntity(e.getRessource(), e.getException(), e.getMessage()));
+			}
+		}
+		return new ResultEntities(results);
+	}
+
 	/**
 	 * Update user.
 	 *
@@ -165,11 +225,62 @@ public class UserServiceController {
 	 */
 	public UserEntities getUserEntities(String userSearch, String propertyKey, String propertyValue)
 			throws ServiceException {
+		return getUserEntities(userSearch, propertyKey, propertyValue, null, null);
+	}
+
+	/**
+	 * Gets a page of the user entities, ordered by username. The users are read from the user
+	 * provider one page at a time, and searches are done by the user provider when it supports
+	 * searching by username.
+	 *
+	 * @param userSearch
+	 *            the user search
+	 * @param propertyKey
+	 *            the property key
+	 * @param propertyValue
+	 *            the property value
+	 * @param cursor
+	 *            the cursor of the page, or null for the first page
+	 * @param limit
+	 *            the maximum number of users, or null for all users
+	 * @return the user entities
+	 * @throws ServiceException
+	 *             the service exception
+	 */
+	public UserEntities getUserEntities(String userSearch, String propertyKey, String propertyValue, String cursor,
+			Integer limit) throws ServiceException {
 		if (propertyKey != null) {
 			return getUserEntitiesByProperty(propertyKey, propertyValue);
 		}
-		UserEntities userEntities = new UserEntities();
-		userEntities.setUsers(UserUtils.convertUsersToUserEntities(userManager.getUsers(), userSearch));
+		PagingUtils.checkLimit(limit);
+		int start = PagingUtils.parseIndexCursor(cursor);
+		// One more user than requested is read to find out if there is a next page. The providers
+		// add the number of results to the start index, which must not overflow.
+		int numResults = (int) Math.min(Integer.MAX_VALUE - start, limit == null ? Long.MAX_VALUE : (long) limit + 1);
+
+		Collection<User> users;
+		if (userSearch == null || userSearch.isEmpty()) {
+			users = userManager.getUsers(start, numResults);
+		} else {
+			try {
+				users = userManager.findUsers(Collections.singleton("Username"), "*" + userSearch + "*", start,
+						numResults);
+			} catch (UnsupportedOperationException | IllegalArgumentException e) {
+				// The provider can't search by username, so all users are filtered here
+				List<User> matches = new ArrayList<User>();
+				for (User user : userManager.getUsers()) {
+					if (user.getUsername().contains(userSearch)) {
+						matches.add(user);
+					}
+				}
+				users = matches.subList(Math.min(start, matches.size()),
+						(int) Math.min(matches.size(), (long) start + numResults));
+			}
+		}
+
+		PagingUtils.Page<User> page = PagingUtils.pageByIndex(new ArrayList<User>(users), start, limit);
+		UserEntities userEntities = new UserEntities(UserUtils.convertUsersToUserEntities(page.getItems()));
+		userEntities.setNextCursor(page.getNextCursor());
 		return userEntities;
 	}
 
@@ -482,7 +593,8 @@ public class UserServiceController {
 	}
 
 	/**
-	 * Adds the properties.
+	 * Replaces the properties of a user. Only the properties that were added, changed or removed
+	 * are written.
 	 *
 	 * @param userEntity
 	 *            the user entity
@@ -491,14 +603,39 @@ public class UserServiceController {
 	 */
 	private void addProperties(String username, List<UserProperty> properties) throws ServiceException {
 		User user = getAndCheckUser(username);
-		user.getProperties().clear();
+		Map<String, String> newProperties = new HashMap<String, String>();
 		if (properties != null) {
 			for (UserProperty property : properties) {
+				newProperties.put(property.getKey(), property.getValue());
+			}
+		}
+		Map<String, String> oldProperties = new HashMap<String, String>(user.getProperties());
+		user.getProperties().keySet().retainAll(newProperties.keySet());
+		for (Map.Entry<String, String> property : newProperties.entrySet()) {
+			if (!oldProperties.containsKey(property.getKey())
+					|| !Objects.equals(property.getValue(), oldProperties.get(property.getKey()))) {
 				user.getProperties().put(property.getKey(), property.getValue());
 			}
 		}
 	}
 
+	/**
+	 * Gets the users of a bulk request.
+	 *
+	 * @param userEntities
+	 *            the user entities
+	 * @return the users
+	 * @throws ServiceException
+	 *             if there are no users
+	 */
+	private List<UserEntity> getAndCheckUsers(UserEntities userEntities) throws ServiceException {
+		if (userEntities == null || userEntities.getUsers() == null) {
+			throw new ServiceException("No users", "users", ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION,
+					Response.Status.BAD_REQUEST);
+		}
+		return userEntities.getUsers();
+	}
+
 	/**
 	 * Gets the and check user.
 	 *
@@ -0,0 +1,54 @@
+package org.jivesoftware.openfire.plugin.rest.entity;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The Class GroupMembersEntity.
+ */
+@XmlRootElement(name = "members")
+public class GroupMembersEntity {
+
+	/** The members. */
+	private List<String> members;
+
+	/**
+	 * Instantiates a new group members entity.
+	 */
+	public GroupMembersEntity() {
+
+	}
+
+	/**
+	 * Instantiates a new group members entity.
+	 *
+	 * @param members
+	 *            the usernames or JIDs of the members
+	 */
+	public GroupMembersEntity(List<String> members) {
+		this.members = members;
+	}
+
+	/**
+	 * Gets the members.
+	 *
+	 * @return the usernames or JIDs of the members
+	 */
+	@XmlElement(name = "member")
+	public List<String> getMembers() {
+		return members;
+	}
+
+	/**
+	 * Sets the members.
+	 *
+	 * @param members
+	 *            the new members
+	 */
+	public void setMembers(List<String> members) {
+		this.members = members;
+	}
+
+}
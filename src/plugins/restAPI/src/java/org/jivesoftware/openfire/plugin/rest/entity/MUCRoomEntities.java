@@ -8,6 +8,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 @XmlRootElement(name = "chatRooms")
 public class MUCRoomEntities {
 	List<MUCRoomEntity> mucRooms;
+	String nextCursor;
 
 	public MUCRoomEntities() {
 	}
@@ -24,4 +25,13 @@ public class MUCRoomEntities {
 	public void setMucRooms(List<MUCRoomEntity> mucRooms) {
 		this.mucRooms = mucRooms;
 	}
+
+	@XmlElement
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
 }
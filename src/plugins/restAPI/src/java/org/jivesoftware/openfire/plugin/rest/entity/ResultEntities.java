@@ -0,0 +1,55 @@
+package org.jivesoftware.openfire.plugin.rest.entity;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The Class ResultEntities. The outcomes of the items of a bulk request, in the order of the
+ * items.
+ */
+@XmlRootElement(name = "results")
+public class ResultEntities {
+
+	/** The results. */
+	List<ResultEntity> results;
+
+	/**
+	 * Instantiates a new result entities.
+	 */
+	public ResultEntities() {
+
+	}
+
+	/**
+	 * Instantiates a new result entities.
+	 *
+	 * @param results
+	 *            the results
+	 */
+	public ResultEntities(List<ResultEntity> results) {
+		this.results = results;
+	}
+
+	/**
+	 * Gets the results.
+	 *
+	 * @return the results
+	 */
+	@XmlElement(name = "result")
+	public List<ResultEntity> getResults() {
+		return results;
+	}
+
+	/**
+	 * Sets the results.
+	 *
+	 * @param results
+	 *            the new results
+	 */
+	public void setResults(List<ResultEntity> results) {
+		this.results = results;
+	}
+
+}
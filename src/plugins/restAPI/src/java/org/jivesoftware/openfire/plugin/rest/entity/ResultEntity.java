@@ -0,0 +1,105 @@
+package org.jivesoftware.openfire.plugin.rest.entity;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The Class ResultEntity. The outcome of one item of a bulk request.
+ */
+@XmlRootElement(name = "result")
+@XmlType(propOrder = { "resource", "exception", "message" })
+public class ResultEntity {
+
+	/** The resource. */
+	private String resource;
+
+	/** The exception, or null if the item succeeded. */
+	private String exception;
+
+	/** The message. */
+	private String message;
+
+	/**
+	 * Instantiates a new result entity.
+	 */
+	public ResultEntity() {
+	}
+
+	/**
+	 * Instantiates a new result entity.
+	 *
+	 * @param resource
+	 *            the resource
+	 * @param exception
+	 *            the exception, or null if the item succeeded
+	 * @param message
+	 *            the message
+	 */
+	public ResultEntity(String resource, String exception, String message) {
+		this.resource = resource;
+		this.exception = exception;
+		this.message = message;
+	}
+
+	/**
+	 * Gets the resource.
+	 *
+	 * @return the resource
+	 */
+	@XmlElement
+	public String getResource() {
+		return resource;
+	}
+
+	/**
+	 * Sets the resource.
+	 *
+	 * @param resource
+	 *            the new resource
+	 */
+	public void setResource(String resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * Gets the exception.
+	 *
+	 * @return the exception, or null if the item succeeded
+	 */
+	@XmlElement
+	public String getException() {
+		return exception;
+	}
+
+	/**
+	 * Sets the exception.
+	 *
+	 * @param exception
+	 *            the new exception
+	 */
+	public void setException(String exception) {
+		this.exception = exception;
+	}
+
+	/**
+	 * Gets the message.
+	 *
+	 * @return the message
+	 */
+	@XmlElement
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Sets the message.
+	 *
+	 * @param message
+	 *            the new message
+	 */
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+}
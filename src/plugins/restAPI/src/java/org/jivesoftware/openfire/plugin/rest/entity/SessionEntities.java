@@ -8,6 +8,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 @XmlRootElement(name = "sessions")
 public class SessionEntities {
 	List<SessionEntity> sessions;
+	String nextCursor;
 
 	public SessionEntities() {
 	}
@@ -24,4 +25,13 @@ public class SessionEntities {
 	public void setSessions(List<SessionEntity> sessions) {
 		this.sessions = sessions;
 	}
+
+	@XmlElement
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
 }
@@ -14,6 +14,9 @@ public class UserEntities {
 	/** The users. */
 	List<UserEntity> users;
 
+	/** The cursor of the next page. */
+	String nextCursor;
+
 	/**
 	 * Instantiates a new user entities.
 	 */
@@ -51,4 +54,24 @@ public class UserEntities {
 		this.users = users;
 	}
 
+	/**
+	 * Gets the cursor of the next page.
+	 *
+	 * @return the cursor of the next page, or null if there are no more users
+	 */
+	@XmlElement
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Sets the cursor of the next page.
+	 *
+	 * @param nextCursor
+	 *            the new cursor of the next page
+	 */
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
 }
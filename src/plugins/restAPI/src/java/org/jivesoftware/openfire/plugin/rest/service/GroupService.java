@@ -14,6 +14,7 @@ import javax.ws.rs.core.Response;
 import org.jivesoftware.openfire.plugin.rest.controller.GroupController;
 import org.jivesoftware.openfire.plugin.rest.entity.GroupEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.GroupEntity;
+import org.jivesoftware.openfire.plugin.rest.entity.GroupMembersEntity;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
 
 @Path("restapi/v1/groups")
@@ -58,4 +59,20 @@ public class GroupService {
 		groupController.deleteGroup(groupName);
 		return Response.status(Response.Status.OK).build();
 	}
+
+	@POST
+	@Path("/{groupName}/members")
+	public Response addGroupMembers(@PathParam("groupName") String groupName, GroupMembersEntity groupMembersEntity)
+			throws ServiceException {
+		groupController.addGroupMembers(groupName, groupMembersEntity);
+		return Response.status(Response.Status.CREATED).build();
+	}
+
+	@DELETE
+	@Path("/{groupName}/members")
+	public Response deleteGroupMembers(@PathParam("groupName") String groupName,
+			GroupMembersEntity groupMembersEntity) throws ServiceException {
+		groupController.deleteGroupMembers(groupName, groupMembersEntity);
+		return Response.status(Response.Status.OK).build();
+	}
 }
@@ -29,8 +29,10 @@ public class MUCRoomService {
 	public MUCRoomEntities getMUCRooms(@DefaultValue("conference") @QueryParam("servicename") String serviceName,
 			@DefaultValue(MUCChannelType.PUBLIC) @QueryParam("type") String channelType,
 			@QueryParam("search") String roomSearch,
-			@DefaultValue("false") @QueryParam("expandGroups") Boolean expand) {
-		return MUCRoomController.getInstance().getChatRooms(serviceName, channelType, roomSearch, expand);
+			@DefaultValue("false") @QueryParam("expandGroups") Boolean expand,
+			@QueryParam("cursor") String cursor, @QueryParam("limit") Integer limit) throws ServiceException {
+		return MUCRoomController.getInstance().getChatRooms(serviceName, channelType, roomSearch, expand, cursor,
+				limit);
 	}
 	
 	@GET
@@ -6,6 +6,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -25,8 +26,9 @@ public class SessionService {
 
 	@GET
 	@Produces({ MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON })
-	public SessionEntities getAllSessions() throws ServiceException {
-		return sessionController.getAllSessions();
+	public SessionEntities getAllSessions(@QueryParam("cursor") String cursor, @QueryParam("limit") Integer limit)
+			throws ServiceException {
+		return sessionController.getAllSessions(cursor, limit);
 	}
 	
 	@GET
@@ -13,6 +13,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import org.jivesoftware.openfire.plugin.rest.controller.UserServiceController;
+import org.jivesoftware.openfire.plugin.rest.entity.ResultEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.UserEntities;
 import org.jivesoftware.openfire.plugin.rest.entity.UserEntity;
 import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
@@ -30,9 +31,9 @@ public class UserService {
 	@GET
 	@Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
 	public UserEntities getUsers(@QueryParam("search") String userSearch,
-			@QueryParam("propertyKey") String propertyKey, @QueryParam("propertyValue") String propertyValue)
-			throws ServiceException {
-		return plugin.getUserEntities(userSearch, propertyKey, propertyValue);
+			@QueryParam("propertyKey") String propertyKey, @QueryParam("propertyValue") String propertyValue,
+			@QueryParam("cursor") String cursor, @QueryParam("limit") Integer limit) throws ServiceException {
+		return plugin.getUserEntities(userSearch, propertyKey, propertyValue, cursor, limit);
 	}
 
 	@POST
@@ -41,6 +42,19 @@ public class UserService {
 		return Response.status(Response.Status.CREATED).build();
 	}
 
+	@POST
+	@Path("/batch")
+	@Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+	public ResultEntities createUsers(UserEntities userEntities) throws ServiceException {
+		return plugin.createUsers(userEntities);
+	}
+
+	@PUT
+	@Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+	public ResultEntities updateUsers(UserEntities userEntities) throws ServiceException {
+		return plugin.updateUsers(userEntities);
+	}
+
 	@GET
 	@Path("/{username}")
 	@Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
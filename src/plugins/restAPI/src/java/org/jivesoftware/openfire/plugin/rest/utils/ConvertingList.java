@@ -0,0 +1,49 @@
+package org.jivesoftware.openfire.plugin.rest.utils;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A read-only list that converts the elements of another list when they are read. The entities
+ * of a collection resource are created one by one while the response is written, instead of all
+ * of them being created up front.
+ *
+ * @param <S>
+ *            the type of the source elements
+ * @param <T>
+ *            the type of the converted elements
+ */
+public abstract class ConvertingList<S, T> extends AbstractList<T> {
+
+	/** The source elements. */
+	private final List<S> source;
+
+	/**
+	 * Instantiates a new converting list.
+	 *
+	 * @param source
+	 *            the source elements
+	 */
+	public ConvertingList(List<S> source) {
+		this.source = source;
+	}
+
+	/**
+	 * Converts a source element.
+	 *
+	 * @param element
+	 *            the source element
+	 * @return the converted element
+	 */
+	protected abstract T convert(S element);
+
+	@Override
+	public T get(int index) {
+		return convert(source.get(index));
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+}
@@ -0,0 +1,191 @@
+package org.jivesoftware.openfire.plugin.rest.utils;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.ws.rs.core.Response;
+
+import org.jivesoftware.openfire.plugin.rest.exceptions.ExceptionType;
+import org.jivesoftware.openfire.plugin.rest.exceptions.ServiceException;
+
+/**
+ * The Class PagingUtils. Collection resources are paged with a cursor: a page contains at most
+ * <tt>limit</tt> items, and when there are more items the page carries the cursor at which the next
+ * page starts. Cursors are opaque to clients.
+ */
+public final class PagingUtils {
+
+	/**
+	 * Instantiates a new paging utils.
+	 */
+	private PagingUtils() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Gets the key of an item that pages are ordered by.
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 */
+	public interface Key<T> {
+
+		/**
+		 * Gets the key.
+		 *
+		 * @param item
+		 *            the item
+		 * @return the key, which is unique in the collection
+		 */
+		String getKey(T item);
+	}
+
+	/**
+	 * A page of items.
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 */
+	public static class Page<T> {
+
+		/** The items. */
+		private final List<T> items;
+
+		/** The cursor of the next page. */
+		private final String nextCursor;
+
+		/**
+		 * Instantiates a new page.
+		 *
+		 * @param items
+		 *            the items
+		 * @param nextCursor
+		 *            the cursor of the next page, or null if this is the last page
+		 */
+		public Page(List<T> items, String nextCursor) {
+			this.items = items;
+			this.nextCursor = nextCursor;
+		}
+
+		/**
+		 * Gets the items.
+		 *
+		 * @return the items
+		 */
+		public List<T> getItems() {
+			return items;
+		}
+
+		/**
+		 * Gets the cursor of the next page.
+		 *
+		 * @return the cursor of the next page, or null if this is the last page
+		 */
+		public String getNextCursor() {
+			return nextCursor;
+		}
+	}
+
+	/**
+	 * Checks the requested page size.
+	 *
+	 * @param limit
+	 *            the limit, or null if all items are requested
+	 * @throws ServiceException
+	 *             if the limit isn't positive
+	 */
+	public static void checkLimit(Integer limit) throws ServiceException {
+		if (limit != null && limit < 1) {
+			throw new ServiceException("The limit must be a positive number", String.valueOf(limit),
+					ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION, Response.Status.BAD_REQUEST);
+		}
+	}
+
+	/**
+	 * Parses a cursor that is the index of the first item of a page.
+	 *
+	 * @param cursor
+	 *            the cursor, or null for the first page
+	 * @return the index
+	 * @throws ServiceException
+	 *             if the cursor is invalid
+	 */
+	public static int parseIndexCursor(String cursor) throws ServiceException {
+		if (cursor == null || cursor.isEmpty()) {
+			return 0;
+		}
+		try {
+			int index = Integer.parseInt(cursor);
+			if (index >= 0) {
+				return index;
+			}
+		} catch (NumberFormatException e) {
+			// Handled below
+		}
+		throw new ServiceException("Invalid cursor", cursor, ExceptionType.ILLEGAL_ARGUMENT_EXCEPTION,
+				Response.Status.BAD_REQUEST);
+	}
+
+	/**
+	 * Gets a page of the items that were read from a given index on. At most <tt>limit + 1</tt>
+	 * items should have been read, so that it is known whether there is a next page.
+	 *
+	 * @param items
+	 *            the items
+	 * @param start
+	 *            the index of the first item
+	 * @param limit
+	 *            the limit, or null if all items are requested
+	 * @return the page
+	 */
+	public static <T> Page<T> pageByIndex(List<T> items, int start, Integer limit) {
+		if (limit == null || items.size() <= limit) {
+			return new Page<T>(items, null);
+		}
+		return new Page<T>(items.subList(0, limit), String.valueOf(start + limit));
+	}
+
+	/**
+	 * Gets a page of items ordered by their keys. The items are sorted in place, and the page
+	 * starts after the key that is the cursor, so that pages don't skip or repeat items when items
+	 * are added or removed between requests.
+	 *
+	 * @param items
+	 *            the items, which are sorted
+	 * @param key
+	 *            the key of the items
+	 * @param cursor
+	 *            the key after which the page starts, or null for the first page
+	 * @param limit
+	 *            the limit, or null if all items are requested
+	 * @return the page
+	 */
+	public static <T> Page<T> pageByKey(List<T> items, final Key<T> key, String cursor, Integer limit) {
+		Collections.sort(items, new Comparator<T>() {
+			@Override
+			public int compare(T o1, T o2) {
+				return key.getKey(o1).compareTo(key.getKey(o2));
+			}
+		});
+		int start = 0;
+		if (cursor != null && !cursor.isEmpty()) {
+			// Binary search for the first key after the cursor
+			int low = 0;
+			int high = items.size();
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (key.getKey(items.get(mid)).compareTo(cursor) <= 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			start = low;
+		}
+		int end = limit == null ? items.size() : (int) Math.min(items.size(), (long) start + limit);
+		List<T> page = items.subList(start, end);
+		String nextCursor = end < items.size() ? key.getKey(items.get(end - 1)) : null;
+		return new Page<T>(page, nextCursor);
+	}
+}
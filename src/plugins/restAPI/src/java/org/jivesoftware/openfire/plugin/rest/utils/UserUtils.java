@@ -36,7 +36,7 @@ public class UserUtils {
 	 * @return the list
 	 */
 	public static List<UserEntity> convertUsersToUserEntities(Collection<User> users, String userSearch) {
-		List<UserEntity> result = new ArrayList<UserEntity>();
+		List<User> result = new ArrayList<User>();
 
 		for (User user : users) {
 			if (userSearch != null) {
@@ -45,9 +45,25 @@ public class UserUtils {
 				}
 			}
 
-			result.add(convertUserToUserEntity(user));
+			result.add(user);
 		}
-		return result;
+		return convertUsersToUserEntities(result);
+	}
+
+	/**
+	 * Convert users to user entities. The entities are created when they are read.
+	 *
+	 * @param users
+	 *            the users
+	 * @return the list
+	 */
+	public static List<UserEntity> convertUsersToUserEntities(List<User> users) {
+		return new ConvertingList<User, UserEntity>(users) {
+			@Override
+			protected UserEntity convert(User user) {
+				return convertUserToUserEntity(user);
+			}
+		};
 	}
 
 	/**
@@ -1,25 +1,23 @@
 package org.jivesoftware.openfire.plugin;
 
-import gnu.inet.encoding.Stringprep;
-import gnu.inet.encoding.StringprepException;
-
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
-import java.util.ArrayList;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.apache.commons.fileupload.FileItem;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
-import org.dom4j.io.OutputFormat;
-import org.dom4j.io.SAXReader;
-import org.dom4j.io.XMLWriter;
 import org.jivesoftware.openfire.XMPPServer;
 import org.jivesoftware.openfire.auth.AuthFactory;
 import org.jivesoftware.openfire.container.Plugin;
@@ -28,13 +26,13 @@ import org.jivesoftware.openfire.roster.RosterItem;
 import org.jivesoftware.openfire.roster.RosterItemProvider;
 import org.jivesoftware.openfire.roster.RosterManager;
 import org.jivesoftware.openfire.user.User;
-import org.jivesoftware.openfire.user.UserAlreadyExistsException;
 import org.jivesoftware.openfire.user.UserManager;
 import org.jivesoftware.openfire.user.UserNotFoundException;
 import org.jivesoftware.openfire.user.UserProvider;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.TaskEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xmpp.packet.JID;
 
 /**
  * The user import/export plugin provides a way to import and export Openfire
@@ -48,10 +46,33 @@ import org.xmpp.packet.JID;
 public class ImportExportPlugin implements Plugin {
 	
 	private static final Logger Log = LoggerFactory.getLogger(ImportExportPlugin.class);
-	
+
+    /**
+     * The number of users that are written in one transaction by an import.
+     */
+    static final String CHUNK_SIZE_PROPERTY = "plugin.userimportexport.import.chunkSize";
+
+    /**
+     * The number of users of the import file that were imported. The property exists while an
+     * import is not completed.
+     */
+    static final String CHECKPOINT_PROPERTY = "plugin.userimportexport.import.checkpoint";
+
+    /**
+     * The domain of the roster items that the import replaces.
+     */
+    private static final String PREVIOUS_DOMAIN_PROPERTY = "plugin.userimportexport.import.previousDomain";
+
+    /**
+     * The number of users that an export reads from the user provider at a time.
+     */
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
     private UserManager userManager;
     private UserProvider provider;
     private String serverName;
+    private File importFile;
+    private volatile UserDataImporter importer;
     
     public ImportExportPlugin() {
         userManager = XMPPServer.getInstance().getUserManager();
@@ -60,6 +81,7 @@ public class ImportExportPlugin implements Plugin {
     }
 
     public void initializePlugin(PluginManager manager, File pluginDirectory) {
+        importFile = new File(pluginDirectory, "import-user-data.xml");
     }
 
     public void destroyPlugin() {
@@ -86,12 +108,23 @@ public class ImportExportPlugin implements Plugin {
      */
     public byte[] exportUsersToByteArray() throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        
-        XMLWriter writer = new XMLWriter(out, OutputFormat.createPrettyPrint());
-        writer.write(exportUsers());
-        
+        exportUsers(out);
         return out.toByteArray();
     }
+
+    /**
+     * Writes the exported user data to a stream as the users are read, so that the user data
+     * doesn't need to fit in memory. If a read-only user store is being used a user's password
+     * will be the same as their username.
+     *
+     * @param out the stream that the user data is written to in UTF-8.
+     * @throws IOException if there's a problem writing to the stream.
+     */
+    public void exportUsers(OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        exportUsers(writer);
+        writer.flush();
+    }
     
     /**
      * Converts the exported user data to a String. If a read-only
@@ -102,17 +135,11 @@ public class ImportExportPlugin implements Plugin {
      */
     public String exportUsersToString() throws IOException {
         StringWriter stringWriter = new StringWriter();
-        XMLWriter writer = null;
         try {
-           writer = new XMLWriter(stringWriter, OutputFormat.createPrettyPrint());
-           writer.write(exportUsers());
+            exportUsers(stringWriter);
         } catch (IOException ioe) {
             Log.error(ioe.getMessage(), ioe);
             throw ioe;
-        } finally {
-            if (writer != null) {
-                writer.close();
-            }
         }
 
         return stringWriter.toString();
@@ -124,20 +151,138 @@ public class ImportExportPlugin implements Plugin {
      * <li>Their username is not properly formatted.
      * <li>If a read-only user data store is being used and the user could not be found.
      * <li>If a writeable user data store is being used and the user already exists.
+     * The users are imported in the calling thread; use {@link #startImport(FileItem, String)} for large files.
      *
      * @param file a FileItem containing the user data to be imported.
      * @param previousDomain a String an optional parameter that if supplied will replace the user roster entries domain names to 
      * server name of current Openfire installation.
-     * @return True if FileItem matches the openfire user schema.
-     * @throws IOException if there is a problem reading the FileItem.
-     * @throws DocumentException if an error occurs during parsing.
+     * @return the usernames of the users that could not be imported.
+     * @throws IOException if there is a problem reading the FileItem or the import failed.
      */
-    public List<String> importUserData(FileItem file, String previousDomain) throws DocumentException, IOException {
-        SAXReader reader = new SAXReader();
-        Document document = reader.read(file.getInputStream());
-        return importUsers(document, previousDomain);
+    public List<String> importUserData(FileItem file, String previousDomain) throws IOException {
+        File tempFile = File.createTempFile("import-user-data", ".xml");
+        try {
+            writeFile(file, tempFile);
+            UserDataImporter userDataImporter = new UserDataImporter(tempFile, previousDomain, serverName, 0);
+            userDataImporter.run();
+            if (userDataImporter.getState() == UserDataImporter.State.FAILED) {
+                throw new IOException(userDataImporter.getError());
+            }
+            return userDataImporter.getInvalidUsers();
+        }
+        finally {
+            JiveGlobals.deleteProperty(CHECKPOINT_PROPERTY);
+            if (!tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
     }
-    
+
+    /**
+     * Starts importing the user data of a file in the background. The file is validated
+     * against the user schema first. The import is tracked by {@link #getImporter()}.
+     *
+     * @param file a FileItem containing the user data to be imported.
+     * @param previousDomain an optional domain of the roster items that is replaced by the domain of this server.
+     * @return true if the import was started, false if the file doesn't match the user schema.
+     * @throws IOException if there is a problem storing the FileItem.
+     * @throws IllegalStateException if an import is running.
+     */
+    public synchronized boolean startImport(FileItem file, String previousDomain) throws IOException {
+        if (isImportRunning()) {
+            throw new IllegalStateException("An import is running");
+        }
+        writeFile(file, importFile);
+        if (!validateImportFile(importFile)) {
+            if (!importFile.delete()) {
+                Log.warn("Unable to delete " + importFile);
+            }
+            return false;
+        }
+        JiveGlobals.setProperty(CHECKPOINT_PROPERTY, "0");
+        if (previousDomain == null) {
+            JiveGlobals.deleteProperty(PREVIOUS_DOMAIN_PROPERTY);
+        }
+        else {
+            JiveGlobals.setProperty(PREVIOUS_DOMAIN_PROPERTY, previousDomain);
+        }
+        submitImport(previousDomain, 0);
+        return true;
+    }
+
+    /**
+     * Returns true if an import was interrupted, by an error or by a restart, and can be resumed.
+     *
+     * @return true if an import can be resumed.
+     */
+    public boolean isImportResumable() {
+        return !isImportRunning() && importFile != null && importFile.exists()
+                && JiveGlobals.getProperty(CHECKPOINT_PROPERTY) != null;
+    }
+
+    /**
+     * Resumes an import after the last users that it committed.
+     *
+     * @throws IllegalStateException if no import can be resumed.
+     */
+    public synchronized void resumeImport() {
+        if (!isImportResumable()) {
+            throw new IllegalStateException("No import can be resumed");
+        }
+        submitImport(JiveGlobals.getProperty(PREVIOUS_DOMAIN_PROPERTY),
+                JiveGlobals.getIntProperty(CHECKPOINT_PROPERTY, 0));
+    }
+
+    /**
+     * Returns the import that was started last, which reports the progress of the import.
+     *
+     * @return the last import, or <tt>null</tt> if no import was started.
+     */
+    public UserDataImporter getImporter() {
+        return importer;
+    }
+
+    /**
+     * Returns true if an import is running.
+     *
+     * @return true if an import is running.
+     */
+    public boolean isImportRunning() {
+        UserDataImporter current = importer;
+        return current != null && current.getState() == UserDataImporter.State.RUNNING;
+    }
+
+    private void submitImport(String previousDomain, int resumeAt) {
+        final UserDataImporter userDataImporter =
+                new UserDataImporter(importFile, previousDomain, serverName, resumeAt);
+        importer = userDataImporter;
+        TaskEngine.getInstance().submit(new Runnable() {
+            @Override
+            public void run() {
+                userDataImporter.run();
+                if (userDataImporter.getState() == UserDataImporter.State.COMPLETED) {
+                    JiveGlobals.deleteProperty(CHECKPOINT_PROPERTY);
+                    JiveGlobals.deleteProperty(PREVIOUS_DOMAIN_PROPERTY);
+                    if (!importFile.delete()) {
+                        Log.warn("Unable to delete " + importFile);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void writeFile(FileItem file, File destination) throws IOException {
+        try {
+            file.write(destination);
+        }
+        catch (IOException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * Returns whether or not the supplied FileItem matches the openfire user schema
      *
@@ -145,169 +290,142 @@ public class ImportExportPlugin implements Plugin {
      * @return True if FileItem matches the openfire user schema.
      */
     public boolean validateImportFile(FileItem file) {
-        try {
-            return new UserSchemaValidator(file, "wildfire-user-schema.xsd.xml").validate();
+        try (InputStream in = file.getInputStream()) {
+            return new UserSchemaValidator(in, "wildfire-user-schema.xsd.xml").validate();
         }
         catch (Exception e) {
             Log.error(e.getMessage(), e);
             return false;
         }
     }
-    
-    private Document exportUsers() {
-        Document document = DocumentHelper.createDocument();
-        Element root = document.addElement("Openfire");
-
-        Collection<User> users = userManager.getUsers();
-        for (User user : users) {
-            Element userElement = root.addElement("User");
-            String userName = user.getUsername();
-            userElement.addElement("Username").addText(userName);
-            
-            try {
-                userElement.addElement("Password").addText(AuthFactory.getPassword(user.getUsername()));
-            }
-            catch (UserNotFoundException e) {
-                Log.info("User " + userName + " not found, setting their password to their username");
-                userElement.addElement("Password").addText(userName);
-            }
-            catch (UnsupportedOperationException e) {
-               Log.info("Unable to retrieve " + userName + " password, setting their password to their username");
-               userElement.addElement("Password").addText(userName);
-            }
-            userElement.addElement("Email").addText(user.getEmail() == null ? "" : user.getEmail());
-            
-            String name = user.getName();
-            userElement.addElement("Name").addText(name == null ? "" : name);
-            
-            //creation and modified datte are not used as part of the import process but are exported
-            //for historical purposes, should they be formatted differently?
-            userElement.addElement("CreationDate").addText(String.valueOf(user.getCreationDate().getTime()));
-            userElement.addElement("ModifiedDate").addText(String.valueOf(user.getModificationDate().getTime()));
-            
-            Element rosterElement = userElement.addElement("Roster");
-            Collection<RosterItem> roster = user.getRoster().getRosterItems();
-            for (RosterItem ri : roster) {
-                Element itemElement = rosterElement.addElement("Item");
-                itemElement.addAttribute("jid", ri.getJid().toBareJID());
-                itemElement.addAttribute("askstatus", String.valueOf(ri.getAskStatus().getValue()));
-                itemElement.addAttribute("recvstatus", String.valueOf(ri.getRecvStatus().getValue()));
-                itemElement.addAttribute("substatus", String.valueOf(ri.getSubStatus().getValue()));
-                itemElement.addAttribute("name", ri.getNickname());
-                
-                List<String> groups = ri.getGroups();
-                for (String group : groups) {
-                    if (group != null && group.trim().length() > 0) {
-                    	itemElement.addElement("Group").addText(group);
-                    }
-                }
-            }
-        }
 
-        return document;
+    private boolean validateImportFile(File file) {
+        try (InputStream in = new FileInputStream(file)) {
+            return new UserSchemaValidator(in, "wildfire-user-schema.xsd.xml").validate();
+        }
+        catch (Exception e) {
+            Log.error(e.getMessage(), e);
+            return false;
+        }
     }
     
-    private List<String> importUsers(Document document, String previousDomain) {
-        List<String> invalidUsers = new ArrayList<String>();
-        
-        UserManager userManager = UserManager.getInstance();
-        RosterItemProvider rosterItemProvider = RosterManager.getRosterItemProvider();
-        
-        Element users = document.getRootElement();
-        
-        Iterator<Element> usersIter = users.elementIterator("User");
-        while (usersIter.hasNext()) {
-            Element user = usersIter.next();
-            
-            String userName = null;
-            String password = null;
-            String email = null;
-            String name = null;
-            List<RosterItem> rosterItems = new ArrayList<RosterItem>();
-            
-            Iterator<Element> userElements = user.elementIterator();
-            while (userElements.hasNext()) {
-                Element userElement = userElements.next();
-                
-                String nameElement = userElement.getName();
-                if ("Username".equals(nameElement)) {
-                    userName = userElement.getText();
-                }
-                else if ("Password".equals(nameElement)) {
-                    password = userElement.getText();
-                }
-                else if ("Name".equals(nameElement)) {
-                    name = userElement.getText();
-                }
-                else if ("Email".equals(nameElement)) {
-                    email = userElement.getText();
+    private void exportUsers(Writer out) throws IOException {
+        try {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n\n");
+            writer.writeStartElement("Openfire");
+
+            RosterItemProvider rosterItemProvider = RosterManager.getRosterItemProvider();
+            // The users are read a page at a time, so that they don't all need to fit in memory
+            for (int start = 0; ; start += EXPORT_PAGE_SIZE) {
+                Collection<User> users = userManager.getUsers(start, EXPORT_PAGE_SIZE);
+                for (User user : users) {
+                    exportUser(writer, user, rosterItemProvider);
                 }
-                else if ("Roster".equals(nameElement)) {
-                    Iterator<Element> rosterIter = userElement.elementIterator("Item");
-                    
-                    while (rosterIter.hasNext()) {
-                        Element rosterElement = rosterIter.next();
-                        
-                        String jid = rosterElement.attributeValue("jid");
-                        String askstatus = rosterElement.attributeValue("askstatus");
-                        String recvstatus = rosterElement.attributeValue("recvstatus");
-                        String substatus = rosterElement.attributeValue("substatus");
-                        String nickname = rosterElement.attributeValue("name");
-                        
-                        List<String> groups = new ArrayList<String>();
-                        Iterator<Element> groupIter = rosterElement.elementIterator("Group");
-                        while (groupIter.hasNext()) {
-                            Element group = groupIter.next();
-                            String groupName = group.getText();
-                            if (groupName != null && groupName.trim().length() > 0) {
-                                groups.add(groupName);
-                            }
-                        }
-                        
-                        //used for migration
-                        if (previousDomain != null) {
-                            jid = jid.replace(previousDomain, serverName);
-                        }
-                        
-                        rosterItems.add(new RosterItem(new JID(jid),
-                                        RosterItem.SubType.getTypeFromInt(Integer.parseInt(substatus)),
-                                        RosterItem.AskType.getTypeFromInt(Integer.parseInt(askstatus)),
-                                        RosterItem.RecvType.getTypeFromInt(Integer.parseInt(recvstatus)),
-                                        nickname,
-                                        groups));
-                    }
+                writer.flush();
+                if (users.size() < EXPORT_PAGE_SIZE) {
+                    break;
                 }
             }
-            
-            if ((userName != null) && (password != null)) {
-                try {
-                    userName = Stringprep.nodeprep(userName);
-                    
-                    if (!isUserProviderReadOnly()) {
-                       userManager.createUser(userName, password, name, email);
-                    }
-                    
-                    //Check to see user exists before adding their roster, this is for read-only user providers.
-                    userManager.getUser(userName);
-                    for (RosterItem ri : rosterItems) {
-                       rosterItemProvider.createItem(userName, ri);
-                    }
-                }
-                catch (StringprepException se) {
-                    Log.info("Invalid username " + userName);
-                    invalidUsers.add(userName);
-                }
-                catch (UserAlreadyExistsException e) {
-                    Log.info("User already exists " + userName);
-                    invalidUsers.add(userName);
+
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndDocument();
+            writer.close();
+        }
+        catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void exportUser(XMLStreamWriter writer, User user, RosterItemProvider rosterItemProvider)
+            throws XMLStreamException
+    {
+        startElement(writer, "User", 1);
+        String userName = user.getUsername();
+        writeElement(writer, "Username", userName, 2);
+
+        String password;
+        try {
+            password = AuthFactory.getPassword(user.getUsername());
+        }
+        catch (UserNotFoundException e) {
+            Log.info("User " + userName + " not found, setting their password to their username");
+            password = userName;
+        }
+        catch (UnsupportedOperationException e) {
+           Log.info("Unable to retrieve " + userName + " password, setting their password to their username");
+           password = userName;
+        }
+        writeElement(writer, "Password", password, 2);
+        writeElement(writer, "Email", user.getEmail() == null ? "" : user.getEmail(), 2);
+
+        String name = user.getName();
+        writeElement(writer, "Name", name == null ? "" : name, 2);
+
+        //creation and modified datte are not used as part of the import process but are exported
+        //for historical purposes, should they be formatted differently?
+        writeElement(writer, "CreationDate", String.valueOf(user.getCreationDate().getTime()), 2);
+        writeElement(writer, "ModifiedDate", String.valueOf(user.getModificationDate().getTime()), 2);
+
+        // The roster items are read from the provider, so that the rosters aren't all cached
+        startElement(writer, "Roster", 2);
+        boolean emptyRoster = true;
+        Iterator<RosterItem> roster = rosterItemProvider.getItems(userName);
+        while (roster.hasNext()) {
+            RosterItem ri = roster.next();
+            emptyRoster = false;
+            startElement(writer, "Item", 3);
+            writer.writeAttribute("jid", ri.getJid().toBareJID());
+            writer.writeAttribute("askstatus", String.valueOf(ri.getAskStatus().getValue()));
+            writer.writeAttribute("recvstatus", String.valueOf(ri.getRecvStatus().getValue()));
+            writer.writeAttribute("substatus", String.valueOf(ri.getSubStatus().getValue()));
+            if (ri.getNickname() != null) {
+                writer.writeAttribute("name", ri.getNickname());
+            }
+
+            boolean emptyItem = true;
+            List<String> groups = ri.getGroups();
+            for (String group : groups) {
+                if (group != null && group.trim().length() > 0) {
+                    emptyItem = false;
+                    writeElement(writer, "Group", group, 4);
                 }
-                catch (UserNotFoundException e) {
-                    Log.info("User not found " + userName);
-                    invalidUsers.add(userName);
-               }
             }
+            endElement(writer, emptyItem ? 0 : 3);
+        }
+        endElement(writer, emptyRoster ? 0 : 2);
+        endElement(writer, 1);
+    }
+
+    private static void startElement(XMLStreamWriter writer, String name, int depth) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(name);
+    }
+
+    private static void endElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        // Elements without child elements are closed on the same line
+        if (depth > 0) {
+            indent(writer, depth);
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeElement(XMLStreamWriter writer, String name, String text, int depth)
+            throws XMLStreamException
+    {
+        startElement(writer, name, depth);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void indent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        StringBuilder indent = new StringBuilder(1 + 2 * depth).append('\n');
+        for (int i = 0; i < depth; i++) {
+            indent.append("  ");
         }
-        
-        return invalidUsers;
+        writer.writeCharacters(indent.toString());
     }
 }
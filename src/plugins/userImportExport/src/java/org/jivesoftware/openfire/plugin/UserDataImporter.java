@@ -0,0 +1,638 @@
+package org.jivesoftware.openfire.plugin;
+
+import gnu.inet.encoding.Stringprep;
+import gnu.inet.encoding.StringprepException;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jivesoftware.database.DbConnectionManager;
+import org.jivesoftware.database.SequenceManager;
+import org.jivesoftware.openfire.auth.AuthFactory;
+import org.jivesoftware.openfire.auth.DefaultAuthProvider;
+import org.jivesoftware.openfire.event.UserEventDispatcher;
+import org.jivesoftware.openfire.roster.DefaultRosterItemProvider;
+import org.jivesoftware.openfire.roster.RosterItem;
+import org.jivesoftware.openfire.roster.RosterItemProvider;
+import org.jivesoftware.openfire.roster.RosterManager;
+import org.jivesoftware.openfire.user.DefaultUserProvider;
+import org.jivesoftware.openfire.user.User;
+import org.jivesoftware.openfire.user.UserAlreadyExistsException;
+import org.jivesoftware.openfire.user.UserManager;
+import org.jivesoftware.openfire.user.UserProvider;
+import org.jivesoftware.util.JiveConstants;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xmpp.packet.JID;
+
+/**
+ * Imports the users of a user data file in the background. The file is read as a stream of XML
+ * events, so only the users of one chunk are kept in memory, and each chunk is written in one
+ * transaction.<p>
+ *
+ * When the default user and roster providers are used, the users, roster items and roster groups
+ * of a chunk are inserted with JDBC batches, and the users are announced to the rest of the server
+ * after the chunk was committed. With other providers the users and roster items are created one
+ * by one. The number of users that were processed is saved after every chunk, so that an import
+ * that failed can be resumed where it stopped. The passwords of batched users are set after their
+ * chunk was committed, so the first chunk of a resumed import sets the passwords of the users that
+ * it finds without one.
+ */
+public class UserDataImporter implements Runnable {
+
+    private static final Logger Log = LoggerFactory.getLogger(UserDataImporter.class);
+
+    /**
+     * The state of an import.
+     */
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * The number of usernames that are kept to be reported. Only the others are counted.
+     */
+    private static final int MAX_REPORTED_USERS = 1000;
+
+    private static final String INSERT_USER =
+            "INSERT INTO ofUser (username,name,email,creationDate,modificationDate) VALUES (?,?,?,?,?)";
+    private static final String INSERT_ROSTER_ITEM =
+            "INSERT INTO ofRoster (username, rosterID, jid, sub, ask, recv, nick) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ROSTER_ITEM_GROUP =
+            "INSERT INTO ofRosterGroups (rosterID, rank, groupName) VALUES (?, ?, ?)";
+
+    private final File file;
+    private final String previousDomain;
+    private final String serverName;
+    private final int resumeAt;
+    private final int chunkSize;
+
+    private final UserManager userManager = UserManager.getInstance();
+    private final UserProvider userProvider = UserManager.getUserProvider();
+    private final RosterItemProvider rosterItemProvider = RosterManager.getRosterItemProvider();
+    private final boolean batchUsers;
+    private final boolean batchRosterItems;
+
+    private final List<String> invalidUsers = Collections.synchronizedList(new ArrayList<String>());
+    private volatile int invalidUserCount;
+    private volatile int usersRead;
+    private volatile long bytesRead;
+    private volatile State state = State.RUNNING;
+    private volatile String error;
+    /**
+     * True until the first chunk of a resumed import was imported.
+     */
+    private boolean resuming;
+
+    /**
+     * Creates an import of a user data file.
+     *
+     * @param file the user data file.
+     * @param previousDomain the domain of the roster items that is replaced by the domain of
+     *        this server, or <tt>null</tt>.
+     * @param serverName the domain of this server.
+     * @param resumeAt the number of users at the start of the file that were imported before.
+     */
+    public UserDataImporter(File file, String previousDomain, String serverName, int resumeAt) {
+        this.file = file;
+        this.previousDomain = previousDomain;
+        this.serverName = serverName;
+        this.resumeAt = resumeAt;
+        this.resuming = resumeAt > 0;
+        // The existing users of a chunk are looked up with one IN clause, which some databases
+        // limit to 1000 values
+        this.chunkSize = Math.max(1, Math.min(500,
+                JiveGlobals.getIntProperty(ImportExportPlugin.CHUNK_SIZE_PROPERTY, 100)));
+        this.batchUsers = !userProvider.isReadOnly() && userProvider.getClass() == DefaultUserProvider.class;
+        this.batchRosterItems = rosterItemProvider.getClass() == DefaultRosterItemProvider.class;
+    }
+
+    @Override
+    public void run() {
+        try (InputStream in = new CountingInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            importUsers(in);
+            state = State.COMPLETED;
+            Log.info("Imported user data of " + usersRead + " users, " + invalidUserCount + " of which failed");
+        }
+        catch (Exception e) {
+            Log.error("Failed to import user data after " + usersRead + " users", e);
+            error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            state = State.FAILED;
+        }
+    }
+
+    private void importUsers(InputStream in) throws XMLStreamException, SQLException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // The user data doesn't need a DTD, so none is read
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = factory.createXMLStreamReader(in);
+        try {
+            List<ImportedUser> chunk = new ArrayList<ImportedUser>(chunkSize);
+            int read = 0;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"User".equals(reader.getLocalName())) {
+                    continue;
+                }
+                if (read < resumeAt) {
+                    // The user was imported before the import was resumed
+                    skipElement(reader);
+                    usersRead = ++read;
+                    continue;
+                }
+                chunk.add(readUser(reader));
+                read++;
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk);
+                    chunk.clear();
+                    saveProgress(read);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk);
+                saveProgress(read);
+            }
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private void saveProgress(int read) {
+        usersRead = read;
+        JiveGlobals.setProperty(ImportExportPlugin.CHECKPOINT_PROPERTY, String.valueOf(read));
+    }
+
+    private ImportedUser readUser(XMLStreamReader reader) throws XMLStreamException {
+        ImportedUser user = new ImportedUser();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getLocalName();
+            if ("Username".equals(name)) {
+                user.username = reader.getElementText();
+            }
+            else if ("Password".equals(name)) {
+                user.password = reader.getElementText();
+            }
+            else if ("Name".equals(name)) {
+                user.name = reader.getElementText();
+            }
+            else if ("Email".equals(name)) {
+                user.email = reader.getElementText();
+            }
+            else if ("Roster".equals(name)) {
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    RosterItem item = readRosterItem(reader);
+                    if (item != null) {
+                        user.rosterItems.add(item);
+                    }
+                }
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+        return user;
+    }
+
+    private RosterItem readRosterItem(XMLStreamReader reader) throws XMLStreamException {
+        String jid = reader.getAttributeValue(null, "jid");
+        String askstatus = reader.getAttributeValue(null, "askstatus");
+        String recvstatus = reader.getAttributeValue(null, "recvstatus");
+        String substatus = reader.getAttributeValue(null, "substatus");
+        String nickname = reader.getAttributeValue(null, "name");
+
+        List<String> groups = new ArrayList<String>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String groupName = reader.getElementText();
+            if (groupName != null && groupName.trim().length() > 0) {
+                groups.add(groupName);
+            }
+        }
+
+        //used for migration
+        if (previousDomain != null) {
+            jid = jid.replace(previousDomain, serverName);
+        }
+
+        try {
+            return new RosterItem(new JID(jid),
+                    RosterItem.SubType.getTypeFromInt(Integer.parseInt(substatus)),
+                    RosterItem.AskType.getTypeFromInt(Integer.parseInt(askstatus)),
+                    RosterItem.RecvType.getTypeFromInt(Integer.parseInt(recvstatus)),
+                    nickname,
+                    groups);
+        }
+        catch (IllegalArgumentException e) {
+            Log.info("Invalid roster item " + jid);
+            return null;
+        }
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void importChunk(List<ImportedUser> chunk) throws SQLException {
+        // Usernames are prepared the way UserManager prepares them, and repeated users are invalid
+        Map<String, ImportedUser> users = new LinkedHashMap<String, ImportedUser>();
+        for (ImportedUser user : chunk) {
+            if (user.username == null || user.password == null) {
+                continue;
+            }
+            try {
+                String username = Stringprep.nodeprep(user.username);
+                if (users.containsKey(username)) {
+                    Log.info("User already exists " + username);
+                    addInvalidUser(username);
+                }
+                else {
+                    user.username = username;
+                    users.put(username, user);
+                }
+            }
+            catch (StringprepException se) {
+                Log.info("Invalid username " + user.username);
+                addInvalidUser(user.username);
+            }
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        // The import may have stopped after this chunk was committed but before the passwords were set
+        final boolean repairPasswords = resuming && AuthFactory.isProviderInstanceOf(DefaultAuthProvider.class);
+        resuming = false;
+
+        Collection<ImportedUser> imported;
+        List<ImportedUser> inserted = Collections.emptyList();
+        List<ImportedUser> withoutPassword = new ArrayList<ImportedUser>();
+        Connection con = null;
+        boolean abortTransaction = false;
+        try {
+            if (batchUsers || batchRosterItems) {
+                con = DbConnectionManager.getTransactionConnection();
+            }
+            if (batchUsers) {
+                inserted = insertUsers(con, users, repairPasswords ? withoutPassword : null);
+                imported = inserted;
+            }
+            else if (!userProvider.isReadOnly()) {
+                imported = createUsers(users.values());
+            }
+            else {
+                // Check to see user exists before adding their roster, this is for read-only user providers.
+                imported = new ArrayList<ImportedUser>();
+                for (ImportedUser user : users.values()) {
+                    if (userManager.isRegisteredUser(user.username)) {
+                        imported.add(user);
+                    }
+                    else {
+                        Log.info("User not found " + user.username);
+                        addInvalidUser(user.username);
+                    }
+                }
+            }
+
+            if (batchRosterItems) {
+                insertRosterItems(con, imported);
+            }
+            else {
+                createRosterItems(imported);
+            }
+        }
+        catch (SQLException e) {
+            abortTransaction = true;
+            throw e;
+        }
+        finally {
+            if (con != null) {
+                DbConnectionManager.closeTransactionConnection(con, abortTransaction);
+            }
+        }
+
+        // The users of the chunk are announced once they're committed
+        Date now = new Date();
+        List<ImportedUser> created = new ArrayList<ImportedUser>(inserted);
+        created.addAll(withoutPassword);
+        for (ImportedUser user : created) {
+            try {
+                AuthFactory.setPassword(user.username, user.password);
+            }
+            catch (Exception e) {
+                Log.error("User pasword not set", e);
+            }
+            Map<String, Object> params = Collections.emptyMap();
+            UserEventDispatcher.dispatchEvent(new User(user.username, user.name, user.email, now, now),
+                    UserEventDispatcher.EventType.user_created, params);
+        }
+    }
+
+    /**
+     * Inserts the users that do not exist yet.
+     *
+     * @param con the connection of the transaction of the chunk.
+     * @param users the users of the chunk, by username.
+     * @param withoutPassword if not null, the existing users that have no password are added to
+     *        this list instead of being reported as invalid.
+     * @return the inserted users.
+     */
+    private List<ImportedUser> insertUsers(Connection con, Map<String, ImportedUser> users,
+            List<ImportedUser> withoutPassword) throws SQLException {
+        Set<String> existingUsernames = loadExistingUsernames(con, users.keySet(), false);
+        Set<String> passwordlessUsernames = withoutPassword == null || existingUsernames.isEmpty()
+                ? Collections.<String>emptySet() : loadExistingUsernames(con, existingUsernames, true);
+        List<ImportedUser> inserted = new ArrayList<ImportedUser>(users.size());
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = con.prepareStatement(INSERT_USER);
+            String now = StringUtils.dateToMillis(new Date());
+            for (ImportedUser user : users.values()) {
+                if (passwordlessUsernames.contains(user.username)) {
+                    Log.info("Setting the password of user " + user.username + " that was imported before");
+                    withoutPassword.add(user);
+                    continue;
+                }
+                if (existingUsernames.contains(user.username)) {
+                    Log.info("User already exists " + user.username);
+                    addInvalidUser(user.username);
+                    continue;
+                }
+                if (user.password.isEmpty()) {
+                    Log.info("Empty password of user " + user.username);
+                    addInvalidUser(user.username);
+                    continue;
+                }
+                pstmt.setString(1, user.username);
+                setNullableString(pstmt, 2, user.name);
+                setNullableString(pstmt, 3, user.email);
+                pstmt.setString(4, now);
+                pstmt.setString(5, now);
+                addBatch(pstmt);
+                inserted.add(user);
+            }
+            executeBatch(pstmt);
+        }
+        finally {
+            DbConnectionManager.closeStatement(pstmt);
+        }
+        return inserted;
+    }
+
+    private Set<String> loadExistingUsernames(Connection con, Collection<String> usernames, boolean withoutPassword)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT username FROM ofUser WHERE username IN (");
+        for (int i = 0; i < usernames.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(')');
+        if (withoutPassword) {
+            sql.append(" AND storedKey IS NULL AND plainPassword IS NULL AND encryptedPassword IS NULL");
+        }
+
+        Set<String> existingUsernames = new HashSet<String>();
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            pstmt = con.prepareStatement(sql.toString());
+            int i = 1;
+            for (String username : usernames) {
+                pstmt.setString(i++, username);
+            }
+            rs = pstmt.executeQuery();
+            while (rs.next()) {
+                existingUsernames.add(rs.getString(1));
+            }
+        }
+        finally {
+            DbConnectionManager.closeStatement(rs, pstmt);
+        }
+        return existingUsernames;
+    }
+
+    private List<ImportedUser> createUsers(Collection<ImportedUser> users) {
+        List<ImportedUser> created = new ArrayList<ImportedUser>(users.size());
+        for (ImportedUser user : users) {
+            try {
+                userManager.createUser(user.username, user.password, user.name, user.email);
+                created.add(user);
+            }
+            catch (UserAlreadyExistsException e) {
+                Log.info("User already exists " + user.username);
+                addInvalidUser(user.username);
+            }
+            catch (IllegalArgumentException e) {
+                Log.info("Invalid user " + user.username + ": " + e.getMessage());
+                addInvalidUser(user.username);
+            }
+        }
+        return created;
+    }
+
+    private void insertRosterItems(Connection con, Collection<ImportedUser> users) throws SQLException {
+        PreparedStatement itemStatement = null;
+        PreparedStatement groupStatement = null;
+        try {
+            itemStatement = con.prepareStatement(INSERT_ROSTER_ITEM);
+            groupStatement = con.prepareStatement(INSERT_ROSTER_ITEM_GROUP);
+            for (ImportedUser user : users) {
+                for (RosterItem item : user.rosterItems) {
+                    long rosterID = SequenceManager.nextID(JiveConstants.ROSTER);
+                    itemStatement.setString(1, user.username);
+                    itemStatement.setLong(2, rosterID);
+                    itemStatement.setString(3, item.getJid().toBareJID());
+                    itemStatement.setInt(4, item.getSubStatus().getValue());
+                    itemStatement.setInt(5, item.getAskStatus().getValue());
+                    itemStatement.setInt(6, item.getRecvStatus().getValue());
+                    itemStatement.setString(7, item.getNickname());
+                    addBatch(itemStatement);
+
+                    Iterator<String> groups = item.getGroups().iterator();
+                    for (int rank = 0; groups.hasNext(); rank++) {
+                        groupStatement.setLong(1, rosterID);
+                        groupStatement.setInt(2, rank);
+                        groupStatement.setString(3, groups.next());
+                        addBatch(groupStatement);
+                    }
+                }
+            }
+            // The roster groups reference the roster items
+            executeBatch(itemStatement);
+            executeBatch(groupStatement);
+        }
+        finally {
+            DbConnectionManager.closeStatement(itemStatement);
+            DbConnectionManager.closeStatement(groupStatement);
+        }
+    }
+
+    private void createRosterItems(Collection<ImportedUser> users) {
+        for (ImportedUser user : users) {
+            for (RosterItem item : user.rosterItems) {
+                try {
+                    rosterItemProvider.createItem(user.username, item);
+                }
+                catch (UserAlreadyExistsException e) {
+                    Log.info("Roster item " + item.getJid() + " of user " + user.username + " already exists");
+                }
+            }
+        }
+    }
+
+    private static void setNullableString(PreparedStatement pstmt, int index, String value) throws SQLException {
+        if (value == null || value.matches("\\s*")) {
+            pstmt.setNull(index, Types.VARCHAR);
+        }
+        else {
+            pstmt.setString(index, value);
+        }
+    }
+
+    private static void addBatch(PreparedStatement pstmt) throws SQLException {
+        if (DbConnectionManager.isBatchUpdatesSupported()) {
+            pstmt.addBatch();
+        }
+        else {
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static void executeBatch(PreparedStatement pstmt) throws SQLException {
+        if (DbConnectionManager.isBatchUpdatesSupported()) {
+            pstmt.executeBatch();
+        }
+    }
+
+    private void addInvalidUser(String username) {
+        if (invalidUserCount++ < MAX_REPORTED_USERS) {
+            invalidUsers.add(username);
+        }
+    }
+
+    /**
+     * Returns the state of the import.
+     *
+     * @return the state of the import.
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the reason the import failed.
+     *
+     * @return the reason the import failed, or <tt>null</tt> if it didn't fail.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Returns the number of users that were processed, including the users that could not be
+     * imported.
+     *
+     * @return the number of users that were processed.
+     */
+    public int getUsersRead() {
+        return usersRead;
+    }
+
+    /**
+     * Returns the percentage of the user data file that was read.
+     *
+     * @return the percentage of the user data file that was read.
+     */
+    public int getPercentComplete() {
+        long length = file.length();
+        return length == 0 ? 100 : (int) Math.min(100, bytesRead * 100 / length);
+    }
+
+    /**
+     * Returns the usernames of the users that could not be imported or whose rosters could not be
+     * imported. At most {@value #MAX_REPORTED_USERS} usernames are returned.
+     *
+     * @return the usernames of the users that could not be imported.
+     */
+    public List<String> getInvalidUsers() {
+        synchronized (invalidUsers) {
+            return new ArrayList<String>(invalidUsers);
+        }
+    }
+
+    /**
+     * Returns the number of users that could not be imported or whose rosters could not be
+     * imported.
+     *
+     * @return the number of users that could not be imported.
+     */
+    public int getInvalidUserCount() {
+        return invalidUserCount;
+    }
+
+    private static class ImportedUser {
+        private String username;
+        private String password;
+        private String name;
+        private String email;
+        private final List<RosterItem> rosterItems = new ArrayList<RosterItem>();
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                bytesRead += n;
+            }
+            return n;
+        }
+    }
+}
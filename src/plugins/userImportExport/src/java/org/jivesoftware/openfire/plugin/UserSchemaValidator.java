@@ -1,37 +1,36 @@
 package org.jivesoftware.openfire.plugin;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javax.xml.parsers.SAXParserFactory;
 
-import org.apache.commons.fileupload.FileItem;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.io.SAXReader;
-import org.dom4j.io.SAXWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xml.sax.ContentHandler;
 import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
 import org.xml.sax.Locator;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
 
 import com.sun.msv.reader.util.GrammarLoader;
 import com.sun.msv.reader.util.IgnoreController;
 import com.sun.msv.verifier.DocumentDeclaration;
 import com.sun.msv.verifier.Verifier;
 
+/**
+ * Validates user data against the user schema. The user data is parsed as a stream and the
+ * parse events are verified as they occur, so large files don't need to fit in memory.
+ */
 public class UserSchemaValidator {
 	
 	private static final Logger Log = LoggerFactory.getLogger(UserSchemaValidator.class);
 	
-    private Document doc;
+    private InputStream users;
     private String schema;
     
-    UserSchemaValidator(FileItem usersFile, String schemaFile) throws DocumentException, IOException {
-        SAXReader reader = new SAXReader();
-        doc = reader.read(usersFile.getInputStream());
+    UserSchemaValidator(InputStream users, String schemaFile) {
+        this.users = users;
         
         URL schemaURL = this.getClass().getClassLoader().getResource(schemaFile); 
         schema = schemaURL.toExternalForm();
@@ -57,14 +56,15 @@ public class UserSchemaValidator {
             ValidatorErrorHandler validatorErrorHandler = new ValidatorErrorHandler();
             Verifier verifier = new Verifier(docDeclaration, validatorErrorHandler);
 
-            SAXWriter writer = new SAXWriter((ContentHandler) verifier);
-            writer.setErrorHandler(validatorErrorHandler);
+            XMLReader reader = saxFactory.newSAXParser().getXMLReader();
+            reader.setContentHandler(verifier);
+            reader.setErrorHandler(validatorErrorHandler);
 
-            writer.write(doc);
+            reader.parse(new InputSource(users));
             if (verifier.isValid()) {
                 return true;
             } else {
-                Log.error(doc.getName() + " is invalid.");
+                Log.error("The user data is invalid.");
                 return false;
             }
         } catch (Exception e) {
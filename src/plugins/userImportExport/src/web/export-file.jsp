@@ -6,9 +6,9 @@
     response.setContentType("application/x-download");
     response.setHeader("Content-Disposition","attachment;filename="+fileName+".xml");
     ImportExportPlugin plugin = (ImportExportPlugin) XMPPServer.getInstance().getPluginManager().getPlugin("userimportexport");
-    byte[] content = plugin.exportUsersToByteArray();
     OutputStream os = response.getOutputStream();
-    os.write(content);
+    // The users are written as they're read
+    plugin.exportUsers(os);
     os.flush();
     os.close();
 %>
\ No newline at end of file
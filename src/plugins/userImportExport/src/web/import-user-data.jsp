@@ -1,21 +1,25 @@
-<%@ page import="java.net.MalformedURLException,
+<%@ page import="java.io.IOException,
                  java.util.*,
-                 org.dom4j.DocumentException,
                  org.apache.commons.fileupload.DiskFileUpload,
                  org.apache.commons.fileupload.FileItem,
                  org.jivesoftware.openfire.plugin.ImportExportPlugin,
+                 org.jivesoftware.openfire.plugin.UserDataImporter,
                  org.jivesoftware.openfire.XMPPServer,
                  org.jivesoftware.util.ParamUtils"
 %>
 
 <%
     boolean importUsers = request.getParameter("importUsers") != null;
+    boolean resumeImport = request.getParameter("resumeImport") != null;
    
     ImportExportPlugin plugin = (ImportExportPlugin) XMPPServer.getInstance().getPluginManager().getPlugin("userimportexport");
     List<String> duplicateUsers = new ArrayList<String>();
    
     Map<String, String> errors = new HashMap<String, String>();
-    if (importUsers) {
+    if (plugin.isImportRunning()) {
+        // Only one import runs at a time
+    }
+    else if (importUsers) {
         DiskFileUpload dfu = new DiskFileUpload();
       
         List fileItems = dfu.parseRequest(request);
@@ -24,35 +28,34 @@
         FileItem pd = (FileItem) i.next();
         String previousDomain = pd.getString();
         
-        if (plugin.validateImportFile(fi)) {
-            try {
-                if (isEmpty(previousDomain)) {
-                    duplicateUsers.addAll(plugin.importUserData(fi, null));
-                }
-                else if (!isEmpty(previousDomain)) {
-                    duplicateUsers.addAll(plugin.importUserData(fi, previousDomain));
-                }
-                else {
-                    errors.put("missingDomain", "missingDomain");
-                }
-              
-                if (duplicateUsers.size() == 0) {
-                    response.sendRedirect("import-user-data.jsp?success=true");
-                    return;
-                }
-                
-                errors.put("invalidUser", "invalidUser");
+        try {
+            if (plugin.startImport(fi, isEmpty(previousDomain) ? null : previousDomain)) {
+                // The import runs in the background, and this page reports its progress
+                response.sendRedirect("import-user-data.jsp");
+                return;
             }
-            catch (MalformedURLException e) {
-                errors.put("IOException", "IOException");
-            }
-            catch (DocumentException e) {
-                errors.put("DocumentException", "DocumentException");
-            }
-        }
-        else {
             errors.put("invalidUserFile", "invalidUserFile");
         }
+        catch (IOException e) {
+            errors.put("IOException", "IOException");
+        }
+    }
+    else if (resumeImport && plugin.isImportResumable()) {
+        plugin.resumeImport();
+        response.sendRedirect("import-user-data.jsp");
+        return;
+    }
+
+    UserDataImporter importer = plugin.getImporter();
+    UserDataImporter.State importState = importer == null ? null : importer.getState();
+    if (importState != null && importState != UserDataImporter.State.RUNNING && !importUsers) {
+        duplicateUsers.addAll(importer.getInvalidUsers());
+        if (importState == UserDataImporter.State.FAILED) {
+            errors.put("DocumentException", "DocumentException");
+        }
+        else if (!duplicateUsers.isEmpty()) {
+            errors.put("invalidUser", "invalidUser");
+        }
     }
 %>
 
@@ -60,9 +63,51 @@
     <head>
         <title>Import User Data</title>
         <meta name="pageID" content="import-export-selection"/>
+        <% if (importState == UserDataImporter.State.RUNNING) { %>
+        <meta http-equiv="refresh" content="5">
+        <% } %>
     </head>
     <body>
 
+<% if (importState == UserDataImporter.State.RUNNING) { %>
+
+    <div class="jive-info">
+    <table cellpadding="0" cellspacing="0" border="0">
+        <tbody>
+        <tr>
+            <td class="jive-icon"><img src="images/info-16x16.gif" width="16" height="16" border="0"></td>
+            <td class="jive-icon-label">
+                Importing users: <%= importer.getUsersRead() %> users processed (<%= importer.getPercentComplete() %>% of the file).
+                <% if (importer.getInvalidUserCount() > 0) { %>
+                   <%= importer.getInvalidUserCount() %> users could not be loaded.
+                <% } %>
+            </td>
+        </tr>
+        </tbody>
+    </table>
+    </div>
+    <br>
+
+<% } %>
+
+<% if (importer == null && plugin.isImportResumable()) { %>
+
+    <div class="jive-info">
+    <table cellpadding="0" cellspacing="0" border="0">
+        <tbody>
+        <tr>
+            <td class="jive-icon"><img src="images/info-16x16.gif" width="16" height="16" border="0"></td>
+            <td class="jive-icon-label">
+                An import was interrupted. <a href="import-user-data.jsp?resumeImport=true">Resume the import</a>.
+            </td>
+        </tr>
+        </tbody>
+    </table>
+    </div>
+    <br>
+
+<% } %>
+
 <% if (errors.size() > 0) { %>
 
     <div class="jive-error">
@@ -76,7 +121,10 @@
             <% } else if (errors.containsKey("IOException")) { %>
                 Missing or bad file name.
             <% } else if (errors.containsKey("DocumentException")) { %>
-                Import failed.
+                Import failed after <%= importer.getUsersRead() %> users: <%= org.jivesoftware.util.StringUtils.escapeHTMLTags(importer.getError()) %>.
+                <% if (plugin.isImportResumable()) { %>
+                   <a href="import-user-data.jsp?resumeImport=true">Resume the import</a>.
+                <% } %>
             <% } else if (errors.containsKey("invalidUserFile")) { %>
                 The import file does not match the user schema.
             <% } else if (errors.containsKey("invalidUser")) { %>
@@ -90,13 +138,16 @@
                 Iterator iter = duplicateUsers.iterator();
                 while (iter.hasNext()) {
                     String username = (String) iter.next();
-                    %><%= username %><%
+                    %><%= org.jivesoftware.util.StringUtils.escapeHTMLTags(username) %><%
                     if (iter.hasNext()) {
                         %>,&nbsp;<%
                     } else {
                         %>.<%
                     }
                 }
+                if (importer.getInvalidUserCount() > duplicateUsers.size()) {
+                    %> <%= importer.getInvalidUserCount() - duplicateUsers.size() %> more users were not loaded.<%
+                }
             } %>
             </td>
         </tr>
@@ -105,7 +156,7 @@
     </div>
     <br>
 
-<% } else if (ParamUtils.getBooleanParameter(request, "success")) { %>
+<% } else if (importState == UserDataImporter.State.COMPLETED) { %>
 
     <div class="jive-success">
     <table cellpadding="0" cellspacing="0" border="0">
@@ -0,0 +1,289 @@
+/**
+ * Copyright (C) 2016 Tom Evans. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jivesoftware.openfire.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jetty.websocket.api.BatchMode;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.jivesoftware.util.JiveGlobals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of stanzas waiting to be written to a WebSocket peer. At most one batch of
+ * stanzas is handed to Jetty at a time; stanzas delivered while a batch is being written are
+ * queued and sent together with the next batch. Every stanza is still sent as its own
+ * WebSocket message (as required by RFC 7395), but the frames of a batch are aggregated by
+ * Jetty into as few network writes as possible.<p>
+ *
+ * When the number of bytes or stanzas waiting for the peer exceeds the configured limits
+ * the peer is considered stalled and the queue refuses further stanzas, which mirrors the
+ * behavior of the {@link org.jivesoftware.openfire.net.StalledSessionsFilter} for socket
+ * connections. Use the system properties <tt>session.stalled.cap</tt> (bytes) and
+ * <tt>xmpp.websocket.queue.stanzas</tt> (stanzas) to configure the limits.
+ */
+public class OutboundQueue {
+
+	private static final Logger Log = LoggerFactory.getLogger( OutboundQueue.class );
+
+	// Metrics shared by all websocket connections
+	private static final AtomicLong queuedStanzas = new AtomicLong();
+	private static final AtomicLong queuedBytes = new AtomicLong();
+	private static final AtomicLong stalledSessions = new AtomicLong();
+	private static final AtomicLong batches = new AtomicLong();
+	private static final AtomicLong batchedStanzas = new AtomicLong();
+
+	private final RemoteEndpoint remote;
+	private final int maxBytes;
+	private final int maxStanzas;
+	private final int maxBatchBytes;
+
+	private final Deque<String> queue = new ArrayDeque<String>();
+	// Bytes queued plus bytes of the batch that is being written
+	private int pendingBytes = 0;
+	private boolean writing = false;
+	private boolean stalled = false;
+
+	public OutboundQueue(RemoteEndpoint remote) {
+		this.remote = remote;
+		this.maxBytes = JiveGlobals.getIntProperty("session.stalled.cap", 5242880);
+		this.maxStanzas = JiveGlobals.getIntProperty("xmpp.websocket.queue.stanzas", 10000);
+		this.maxBatchBytes = JiveGlobals.getIntProperty("xmpp.websocket.batch.size", 65536);
+	}
+
+	/**
+	 * Queues a stanza for delivery to the peer.
+	 *
+	 * @param stanza the XML to send.
+	 * @return false if the peer is stalled and the stanza was not queued.
+	 */
+	public boolean offer(String stanza) {
+		int size = stanza.length();
+		synchronized (this) {
+			if (stalled) {
+				return false;
+			}
+			if (pendingBytes + size > maxBytes || queue.size() >= maxStanzas) {
+				stalled = true;
+				stalledSessions.incrementAndGet();
+				Log.debug("Websocket peer seems to be stalled. pendingBytes: " + pendingBytes +
+						" pendingStanzas: " + queue.size() + " peer: " + remote);
+				return false;
+			}
+			queue.add(stanza);
+			pendingBytes += size;
+			queuedStanzas.incrementAndGet();
+			queuedBytes.addAndGet(size);
+			if (writing) {
+				// Will be sent with the next batch
+				return true;
+			}
+			writing = true;
+		}
+		flush();
+		return true;
+	}
+
+	/**
+	 * Returns true if the peer stopped reading and the connection should be closed.
+	 *
+	 * @return true if the peer is stalled.
+	 */
+	public synchronized boolean isStalled() {
+		return stalled;
+	}
+
+	/**
+	 * Discards all queued stanzas. Used when the connection is closed.
+	 */
+	public synchronized void clear() {
+		queuedStanzas.addAndGet(-queue.size());
+		for (String stanza : queue) {
+			queuedBytes.addAndGet(-stanza.length());
+		}
+		queue.clear();
+		// Batches that are still being written cannot fill the queue anymore
+		pendingBytes = 0;
+	}
+
+	/*
+	 * Hands the queued stanzas (up to the batch size) to Jetty. Only the thread that set the
+	 * writing flag, or the callback of the previous batch, gets here, so there is a single
+	 * writer per connection. Batches that Jetty completes synchronously are followed by the
+	 * next batch in this loop rather than from the callback, to keep the stack flat.
+	 */
+	private void flush() {
+		while (true) {
+			String[] batch;
+			int batchBytes = 0;
+			synchronized (this) {
+				int count = 0;
+				for (String stanza : queue) {
+					if (count > 0 && batchBytes + stanza.length() > maxBatchBytes) {
+						break;
+					}
+					batchBytes += stanza.length();
+					count++;
+				}
+				if (count == 0) {
+					writing = false;
+					return;
+				}
+				batch = new String[count];
+				for (int i = 0; i < count; i++) {
+					batch[i] = queue.poll();
+				}
+			}
+			queuedStanzas.addAndGet(-batch.length);
+			queuedBytes.addAndGet(-batchBytes);
+			batches.incrementAndGet();
+			batchedStanzas.addAndGet(batch.length);
+
+			BatchCallback callback = new BatchCallback(batch.length, batchBytes);
+			try {
+				for (int i = 0; i < batch.length; i++) {
+					// Let Jetty aggregate all frames but the last one; the last frame flushes the batch
+					remote.setBatchMode(i < batch.length - 1 ? BatchMode.ON : BatchMode.OFF);
+					remote.sendString(batch[i], callback);
+				}
+			} catch (Exception e) {
+				Log.error("Packet delivery failed; peer: " + remote, e);
+				synchronized (this) {
+					if (callback.release()) {
+						// The queue may have been cleared meanwhile
+						pendingBytes = Math.max(0, pendingBytes - batchBytes);
+					}
+					writing = false;
+				}
+				return;
+			}
+			if (!callback.dispatched()) {
+				// The callback of this batch will write the next one
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Tracks the completion of a batch; the next batch is written once all of the messages of
+	 * this one have been written (or failed).
+	 */
+	private class BatchCallback implements WriteCallback {
+
+		private int remaining;
+		private final int bytes;
+		private boolean returned = false;
+		private boolean released = false;
+
+		BatchCallback(int messages, int bytes) {
+			this.remaining = messages;
+			this.bytes = bytes;
+		}
+
+		@Override
+		public void writeFailed(Throwable error) {
+			Log.debug("Failed to write to websocket peer: " + remote, error);
+			done();
+		}
+
+		@Override
+		public void writeSuccess() {
+			done();
+		}
+
+		/*
+		 * Invoked by the writer once the whole batch was handed to Jetty. Returns true if
+		 * the batch was already written, in which case the writer continues with the next one.
+		 */
+		synchronized boolean dispatched() {
+			returned = true;
+			return remaining == 0;
+		}
+
+		/*
+		 * Returns true the first time it is invoked, when the bytes of the batch are to be
+		 * released from the pending bytes, either once the batch was written or when it failed.
+		 */
+		synchronized boolean release() {
+			if (released) {
+				return false;
+			}
+			released = true;
+			return true;
+		}
+
+		private void done() {
+			boolean flushNext;
+			synchronized (this) {
+				if (--remaining > 0) {
+					return;
+				}
+				flushNext = returned;
+			}
+			synchronized (OutboundQueue.this) {
+				if (release()) {
+					pendingBytes = Math.max(0, pendingBytes - bytes);
+				}
+			}
+			if (flushNext) {
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of stanzas waiting to be written by all websocket connections.
+	 *
+	 * @return the number of queued stanzas.
+	 */
+	public static long getQueuedStanzas() {
+		return queuedStanzas.get();
+	}
+
+	/**
+	 * Returns the number of characters waiting to be written by all websocket connections.
+	 *
+	 * @return the size of the queued stanzas.
+	 */
+	public static long getQueuedBytes() {
+		return queuedBytes.get();
+	}
+
+	/**
+	 * Returns the number of connections found stalled since the last call to this method.
+	 *
+	 * @return the number of connections found stalled.
+	 */
+	public static long resetStalledSessions() {
+		return stalledSessions.getAndSet(0);
+	}
+
+	/**
+	 * Returns the average number of stanzas written per batch since the last call to this method.
+	 *
+	 * @return the average number of stanzas per batch.
+	 */
+	public static double resetStanzasPerBatch() {
+		long count = batches.getAndSet(0);
+		long stanzas = batchedStanzas.getAndSet(0);
+		return count == 0 ? 0 : (double) stanzas / count;
+	}
+
+}
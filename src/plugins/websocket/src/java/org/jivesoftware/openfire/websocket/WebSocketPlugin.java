@@ -35,6 +35,8 @@ import org.jivesoftware.openfire.container.PluginManager;
 import org.jivesoftware.openfire.http.HttpBindManager;
 import org.jivesoftware.openfire.session.ClientSession;
 import org.jivesoftware.openfire.session.LocalSession;
+import org.jivesoftware.openfire.stats.Statistic;
+import org.jivesoftware.openfire.stats.StatisticsManager;
 import org.jivesoftware.util.JiveGlobals;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +54,10 @@ public class WebSocketPlugin extends WebSocketServlet implements Plugin  {
 	private static final long serialVersionUID = 7281841492829464603L;
 	private static final Logger Log = LoggerFactory.getLogger(WebSocketPlugin.class);
 
+	private static final String QUEUED_STANZAS_KEY = "websocket_queued_stanzas";
+	private static final String STALLED_SESSIONS_KEY = "websocket_stalled_sessions";
+	private static final String STANZAS_PER_BATCH_KEY = "websocket_stanzas_per_batch";
+
 	private ServletContextHandler contextHandler;
 	protected PluginClassLoader pluginClassLoader = null;
 	
@@ -66,6 +72,7 @@ public class WebSocketPlugin extends WebSocketServlet implements Plugin  {
     			ContextHandlerCollection contexts = HttpBindManager.getInstance().getContexts();
     			contextHandler = new ServletContextHandler(contexts, "/ws", ServletContextHandler.SESSIONS);
     			contextHandler.addServlet(new ServletHolder(this), "/*");
+    			addStatistics();
 
     		} catch (Exception e) {
     			Log.error("Failed to start websocket plugin", e);
@@ -88,6 +95,10 @@ public class WebSocketPlugin extends WebSocketServlet implements Plugin  {
     			}
     		}
     	}
+		StatisticsManager statsManager = StatisticsManager.getInstance();
+		statsManager.removeStatistic(QUEUED_STANZAS_KEY);
+		statsManager.removeStatistic(STALLED_SESSIONS_KEY);
+		statsManager.removeStatistic(STANZAS_PER_BATCH_KEY);
 		ContextHandlerCollection contexts = HttpBindManager.getInstance().getContexts();
 		contexts.removeHandler(contextHandler);
 		contextHandler = null;
@@ -99,6 +110,11 @@ public class WebSocketPlugin extends WebSocketServlet implements Plugin  {
 	{
 		if (XmppWebSocket.isCompressionEnabled()) {
 			factory.getExtensionFactory().register("permessage-deflate", PerMessageDeflateExtension.class);
+		} else {
+			// Jetty offers its compression extensions by default
+			factory.getExtensionFactory().unregister("permessage-deflate");
+			factory.getExtensionFactory().unregister("deflate-frame");
+			factory.getExtensionFactory().unregister("x-webkit-deflate-frame");
 		}
 		factory.setCreator(new WebSocketCreator() {
 			@Override 
@@ -127,6 +143,34 @@ public class WebSocketPlugin extends WebSocketServlet implements Plugin  {
 		});
 	}
 
+	private void addStatistics() {
+		StatisticsManager statsManager = StatisticsManager.getInstance();
+		statsManager.addStatistic(QUEUED_STANZAS_KEY, new WebSocketStatistic(
+				"WebSocket Outbound Queue", "Stanzas waiting to be written to WebSocket clients",
+				"Stanzas", Statistic.Type.count) {
+			@Override
+			public double sample() {
+				return OutboundQueue.getQueuedStanzas();
+			}
+		});
+		statsManager.addStatistic(STALLED_SESSIONS_KEY, new WebSocketStatistic(
+				"Stalled WebSocket Sessions", "WebSocket clients closed because they stopped reading",
+				"Sessions per minute", Statistic.Type.rate) {
+			@Override
+			public double sample() {
+				return OutboundQueue.resetStalledSessions();
+			}
+		});
+		statsManager.addStatistic(STANZAS_PER_BATCH_KEY, new WebSocketStatistic(
+				"WebSocket Write Coalescing", "Average number of stanzas written to WebSocket clients per network write",
+				"Stanzas per write", Statistic.Type.count) {
+			@Override
+			public double sample() {
+				return OutboundQueue.resetStanzasPerBatch();
+			}
+		});
+	}
+
 	protected synchronized PluginClassLoader getPluginClassLoader() {
 		PluginManager pm = XMPPServer.getInstance().getPluginManager();
 		if (pluginClassLoader == null) {
@@ -139,4 +183,43 @@ public class WebSocketPlugin extends WebSocketServlet implements Plugin  {
 		return pluginClassLoader;
 	}
 
+	private static abstract class WebSocketStatistic implements Statistic {
+
+		private final String name;
+		private final String description;
+		private final String units;
+		private final Type type;
+
+		WebSocketStatistic(String name, String description, String units, Type type) {
+			this.name = name;
+			this.description = description;
+			this.units = units;
+			this.type = type;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Type getStatType() {
+			return type;
+		}
+
+		@Override
+		public String getDescription() {
+			return description;
+		}
+
+		@Override
+		public String getUnits() {
+			return units;
+		}
+
+		@Override
+		public boolean isPartialSample() {
+			return true;
+		}
+	}
 }
@@ -17,11 +17,11 @@ package org.jivesoftware.openfire.websocket;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.TimerTask;
 
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.dom4j.Document;
+import org.apache.mina.filter.codec.ProtocolDecoderException;
 import org.dom4j.Element;
 import org.dom4j.QName;
 import org.dom4j.io.XMPPPacketReader;
@@ -37,6 +37,8 @@ import org.jivesoftware.openfire.SessionManager;
 import org.jivesoftware.openfire.SessionPacketRouter;
 import org.jivesoftware.openfire.XMPPServer;
 import org.jivesoftware.openfire.multiplex.UnknownStanzaException;
+import org.jivesoftware.openfire.nio.XMLLightweightParser;
+import org.jivesoftware.openfire.net.MXParser;
 import org.jivesoftware.openfire.net.SASLAuthentication;
 import org.jivesoftware.openfire.net.SASLAuthentication.Status;
 import org.jivesoftware.openfire.session.ConnectionSettings;
@@ -47,6 +49,8 @@ import org.jivesoftware.util.JiveGlobals;
 import org.jivesoftware.util.TaskEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xmlpull.v1.XmlPullParserException;
+import org.xmlpull.v1.XmlPullParserFactory;
 import org.xmpp.packet.PacketError;
 import org.xmpp.packet.StreamError;
 
@@ -68,20 +72,31 @@ public class XmppWebSocket {
 	private static final String FRAMING_NAMESPACE = "urn:ietf:params:xml:ns:xmpp-framing";
 
 	private static Logger Log = LoggerFactory.getLogger( XmppWebSocket.class );
-	private static GenericObjectPool<XMPPPacketReader> readerPool;
+	private static XmlPullParserFactory xppFactory = null;
+	static {
+		try {
+			xppFactory = XmlPullParserFactory.newInstance(MXParser.class.getName(), null);
+			xppFactory.setNamespaceAware(true);
+		}
+		catch (XmlPullParserException e) {
+			Log.error("Error creating a parser factory", e);
+		}
+	}
 
     private SessionPacketRouter router;
 	private Session wsSession;
 	private WebSocketConnection wsConnection;
+	private OutboundQueue outboundQueue;
+	// Incoming data is split into stanzas and parsed by this session only
+	private final XMLLightweightParser splitter = new XMLLightweightParser(StandardCharsets.UTF_8);
+	private final XMPPPacketReader reader = new XMPPPacketReader();
 	private LocalClientSession xmppSession;
     private boolean startedSASL = false;
     private Status saslStatus;
     private TimerTask pingTask;
 
 	public XmppWebSocket() {
-		if (readerPool == null) {
-			initializePool();
-		}
+		reader.setXPPFactory(xppFactory);
 	}
 
 	// WebSocket event handlers
@@ -90,6 +105,7 @@ public class XmppWebSocket {
 	public void onConnect(Session session)
 	{
 		wsSession = session;
+		outboundQueue = new OutboundQueue(session.getRemote());
 		wsConnection = new WebSocketConnection(this, session.getRemoteAddress());
 		pingTask = new PingTask();
 		TaskEngine.getInstance().schedule(pingTask, JiveConstants.MINUTE, JiveConstants.MINUTE);
@@ -102,23 +118,46 @@ public class XmppWebSocket {
 	}
 	
 	@OnWebSocketMessage 
-	public void onTextMethod(String stanza)
+	public void onTextMethod(String data)
 	{
-		XMPPPacketReader reader = null;
 		try {
-			reader = readerPool.borrowObject();
-			Document doc = reader.read(new StringReader(stanza));
-	        
-			if (xmppSession == null) {
-				initiateSession(doc.getRootElement());
-			} else {
-				processStanza(doc.getRootElement());
-			}
+			// A frame may hold several stanzas or only part of one
+			splitter.read(data);
+		} catch (ProtocolDecoderException ex) {
+			// The peer kept sending a stanza that exceeds the maximum size
+			Log.warn("Closing websocket due to a stanza that is too big; session: " + wsSession, ex);
+			closeOnError(new StreamError(StreamError.Condition.policy_violation));
+			return;
 		} catch (Exception ex) {
-			Log.error("Failed to process XMPP stanza", ex);
-		} finally {
-			if (reader != null) {
-				readerPool.returnObject(reader);
+			// The splitter discarded its buffer, so the stream cannot be resumed
+			Log.warn("Closing websocket due to invalid XML; session: " + wsSession, ex);
+			closeOnError(new StreamError(StreamError.Condition.not_well_formed));
+			return;
+		}
+		if (!splitter.areThereMsgs()) {
+			return;
+		}
+		for (String stanza : splitter.getMsgs()) {
+			Element element;
+			try {
+				element = reader.read(new StringReader(stanza)).getRootElement();
+			} catch (Exception ex) {
+				Log.warn("Closing websocket due to invalid XML; session: " + wsSession, ex);
+				closeOnError(new StreamError(StreamError.Condition.not_well_formed));
+				return;
+			}
+			try {
+				if (xmppSession == null) {
+					initiateSession(element);
+				} else {
+					processStanza(element);
+				}
+			} catch (Exception ex) {
+				Log.error("Failed to process XMPP stanza: " + stanza, ex);
+			}
+			if (!isWebSocketOpen()) {
+				// The stanza closed the stream
+				return;
 			}
 		}
 	}
@@ -127,14 +166,7 @@ public class XmppWebSocket {
 	public void onError(Throwable error)
 	{
 		Log.error("Error detected; session: " + wsSession, error);
-		closeStream(new StreamError(StreamError.Condition.internal_server_error));
-    	try {
-    		if (wsSession != null) {
-    			wsSession.disconnect();
-    		}
-    	} catch ( Exception e ) {
-        	Log.error("Error disconnecting websocket", e);
-		}
+		closeOnError(new StreamError(StreamError.Condition.internal_server_error));
 	}
 
 	// local (package) visibility 
@@ -154,6 +186,9 @@ public class XmppWebSocket {
             wsSession.close();
         }
     	wsSession = null;
+    	if (outboundQueue != null) {
+    		outboundQueue.clear();
+    	}
     }
 	
 	void closeSession() {
@@ -177,8 +212,14 @@ public class XmppWebSocket {
         if (isWebSocketOpen())
         {
             try {
-            	xmppSession.incrementServerPacketCount();
-            	wsSession.getRemote().sendStringByFuture(packet);
+            	if (xmppSession != null) {
+            		xmppSession.incrementServerPacketCount();
+            	}
+            	if (!outboundQueue.offer(packet)) {
+            		// Peer is not reading; close the connection to prevent an OOM
+            		Log.debug("Closing websocket that seems to be stalled: " + wsSession);
+            		closeWebSocket();
+            	}
             } catch (Exception e) {
                 Log.error("Packet delivery failed; session: " + wsSession, e);
 				Log.warn("Failed to deliver packet:\n" + packet );
@@ -348,6 +389,24 @@ public class XmppWebSocket {
 		}
     }
 	
+	/*
+	 * Sends the stream error, then closes the XMPP session and drops the websocket, as is done
+	 * for socket connections that fail.
+	 */
+	private void closeOnError(StreamError streamError) {
+		// closeStream() forgets the websocket session
+		Session session = wsSession;
+		closeStream(streamError);
+		closeSession();
+		try {
+			if (session != null) {
+				session.disconnect();
+			}
+		} catch ( Exception e ) {
+			Log.error("Error disconnecting websocket", e);
+		}
+	}
+
 	private void sendPacketError(Element stanza, PacketError.Condition condition) {
     	Element reply = stanza.createCopy();
     	reply.addAttribute("type", "error");
@@ -357,16 +416,6 @@ public class XmppWebSocket {
     	deliver(reply.asXML());		
 	}
 
-	private synchronized void initializePool() {
-		if (readerPool == null) {
-			readerPool = new GenericObjectPool<XMPPPacketReader>(new XMPPPPacketReaderFactory());
-			readerPool.setMaxTotal(-1);
-			readerPool.setBlockWhenExhausted(false);
-			readerPool.setTestOnReturn(true);
-			readerPool.setTimeBetweenEvictionRunsMillis(JiveConstants.MINUTE);
-		}
-	}
-
 	private boolean isStreamManagementAvailable() {
 		return JiveGlobals.getBooleanProperty(StreamManager.SM_ACTIVE, true);
 	}
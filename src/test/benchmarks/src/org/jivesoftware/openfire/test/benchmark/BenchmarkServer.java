@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
+
+import org.jivesoftware.database.DbConnectionManager;
+import org.jivesoftware.database.EmbeddedConnectionProvider;
+import org.jivesoftware.openfire.IQRouter;
+import org.jivesoftware.openfire.MessageRouter;
+import org.jivesoftware.openfire.PresenceManager;
+import org.jivesoftware.openfire.PresenceRouter;
+import org.jivesoftware.openfire.RoutingTable;
+import org.jivesoftware.openfire.SessionManager;
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.XMPPServerInfo;
+import org.jivesoftware.openfire.cluster.NodeID;
+import org.jivesoftware.openfire.handler.PresenceUpdateHandler;
+import org.jivesoftware.openfire.roster.Roster;
+import org.jivesoftware.openfire.roster.RosterManager;
+import org.jivesoftware.openfire.spi.XMPPServerInfoImpl;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.Version;
+import org.jivesoftware.util.cache.CacheFactory;
+import org.objenesis.ObjenesisStd;
+import org.xmpp.packet.JID;
+
+/**
+ * A stand-in for the server, for the code under benchmark that looks up modules through
+ * {@link XMPPServer#getInstance()}. The server is never started: the instance is created without
+ * running the constructor of {@link XMPPServer}, and only answers the calls that the benchmarks
+ * need. Users have no roster, and there are neither a session manager nor routers: the benchmarks
+ * only exercise the paths on which packets are delivered.<p>
+ *
+ * Properties are read from an embedded database, as in a server that is set up, so that their
+ * lookups cost what they cost in production. The home directory of the server is created from an
+ * Openfire distribution (by default, the output of the <tt>openfire</tt> build target), and can
+ * be set with the <tt>benchmarks.home</tt> and <tt>benchmarks.distribution</tt> system properties.
+ */
+public class BenchmarkServer extends XMPPServer {
+
+    private XMPPServerInfo serverInfo;
+    private NodeID nodeID;
+    private RosterManager rosterManager;
+
+    /**
+     * Installs the stand-in as the server of the JVM, unless it already is, and initializes
+     * the caches.
+     *
+     * @return the server.
+     * @throws Exception if the server could not be installed.
+     */
+    public static synchronized BenchmarkServer install() throws Exception {
+        if (XMPPServer.getInstance() instanceof BenchmarkServer) {
+            return (BenchmarkServer) XMPPServer.getInstance();
+        }
+        final File home = new File(System.getProperty("benchmarks.home", "target/benchmarks/openfire"));
+        prepareHome(new File(System.getProperty("benchmarks.distribution", "target/openfire")), home);
+        JiveGlobals.setHomeDirectory(home.getCanonicalPath());
+        DbConnectionManager.setConnectionProvider(new EmbeddedConnectionProvider());
+        CacheFactory.initialize();
+
+        final BenchmarkServer server = (BenchmarkServer) new ObjenesisStd().newInstance(BenchmarkServer.class);
+        server.serverInfo = new XMPPServerInfoImpl(Corpus.DOMAIN, "localhost",
+                new Version(4, 1, 0, Version.ReleaseStatus.Release, -1), new Date());
+        server.nodeID = NodeID.getInstance(new byte[] { 1 });
+        server.rosterManager = new RosterManager() {
+            @Override
+            public Roster getRoster(String username) {
+                return null;
+            }
+        };
+
+        final Field instance = XMPPServer.class.getDeclaredField("instance");
+        instance.setAccessible(true);
+        instance.set(null, server);
+        return server;
+    }
+
+    @Override
+    public XMPPServerInfo getServerInfo() {
+        return serverInfo;
+    }
+
+    @Override
+    public boolean isLocal(JID jid) {
+        return jid != null && Corpus.DOMAIN.equals(jid.getDomain());
+    }
+
+    @Override
+    public JID createJID(String username, String resource) {
+        return new JID(username, Corpus.DOMAIN, resource);
+    }
+
+    @Override
+    public JID createJID(String username, String resource, boolean skipStringprep) {
+        return new JID(username, Corpus.DOMAIN, resource, skipStringprep);
+    }
+
+    @Override
+    public NodeID getNodeID() {
+        return nodeID;
+    }
+
+    @Override
+    public RosterManager getRosterManager() {
+        return rosterManager;
+    }
+
+    @Override
+    public PresenceManager getPresenceManager() {
+        return null;
+    }
+
+    @Override
+    public RoutingTable getRoutingTable() {
+        return null;
+    }
+
+    @Override
+    public SessionManager getSessionManager() {
+        return null;
+    }
+
+    @Override
+    public IQRouter getIQRouter() {
+        return null;
+    }
+
+    @Override
+    public MessageRouter getMessageRouter() {
+        return null;
+    }
+
+    @Override
+    public PresenceRouter getPresenceRouter() {
+        return null;
+    }
+
+    @Override
+    public PresenceUpdateHandler getPresenceUpdateHandler() {
+        return null;
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return false;
+    }
+
+    private static void prepareHome(File distribution, File home) throws IOException {
+        if (!new File(distribution, "resources/database").isDirectory()) {
+            throw new IOException("Not an Openfire distribution: " + distribution);
+        }
+        if (home.exists()) {
+            delete(home.toPath());
+        }
+        copy(new File(distribution, "resources/database").toPath(), new File(home, "resources/database").toPath());
+        new File(home, "conf").mkdirs();
+        try (Writer writer = Files.newBufferedWriter(new File(home, "conf/openfire.xml").toPath(), StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<jive>\n"
+                    + "    <connectionProvider>\n"
+                    + "        <className>org.jivesoftware.database.EmbeddedConnectionProvider</className>\n"
+                    + "    </connectionProvider>\n"
+                    + "    <setup>true</setup>\n"
+                    + "</jive>\n");
+        }
+    }
+
+    private static void copy(final Path source, final Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void delete(Path path) throws IOException {
+        Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
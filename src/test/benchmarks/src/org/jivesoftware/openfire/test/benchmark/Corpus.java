@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dom4j.Element;
+import org.dom4j.io.XMPPPacketReader;
+import org.jivesoftware.openfire.net.MXParser;
+import org.xmlpull.v1.XmlPullParserFactory;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.Message;
+import org.xmpp.packet.Packet;
+import org.xmpp.packet.Presence;
+
+/**
+ * The stanzas that the benchmarks work on, read from <tt>stanzas.txt</tt>.
+ */
+public final class Corpus {
+
+    /**
+     * The domain of the server that the stanzas of the corpus are sent to.
+     */
+    public static final String DOMAIN = "example.com";
+
+    /**
+     * The stream header that a client sends before the stanzas of the corpus.
+     */
+    public static final String STREAM_HEADER = "<?xml version='1.0'?><stream:stream to='" + DOMAIN
+            + "' xmlns='jabber:client' xmlns:stream='http://etherx.jabber.org/streams' version='1.0'>";
+
+    private static List<String> stanzas;
+
+    private Corpus() {
+    }
+
+    /**
+     * Returns the stanzas of the corpus.
+     *
+     * @return an unmodifiable list of stanzas, as XML.
+     */
+    public static synchronized List<String> getStanzas() {
+        if (stanzas == null) {
+            final List<String> lines = new ArrayList<>();
+            try (InputStream in = Corpus.class.getResourceAsStream("stanzas.txt")) {
+                if (in == null) {
+                    throw new IllegalStateException("stanzas.txt was not found");
+                }
+                final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        lines.add(line);
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new IllegalStateException("stanzas.txt could not be read", e);
+            }
+            stanzas = Collections.unmodifiableList(lines);
+        }
+        return stanzas;
+    }
+
+    /**
+     * Returns the stanzas of the corpus, parsed into packets.
+     *
+     * @return a new list of packets.
+     * @throws Exception if a stanza could not be parsed.
+     */
+    public static List<Packet> getPackets() throws Exception {
+        final XMPPPacketReader reader = newReader();
+        final List<Packet> packets = new ArrayList<>();
+        for (String stanza : getStanzas()) {
+            packets.add(toPacket(reader.read(new StringReader(stanza)).getRootElement()));
+        }
+        return packets;
+    }
+
+    /**
+     * Returns the data that a client sends on a connection: the stream header, followed by
+     * the stanzas of the corpus.
+     *
+     * @param repeat the number of times that the stanzas are repeated.
+     * @return the data, as XML.
+     */
+    public static String getStream(int repeat) {
+        final StringBuilder stream = new StringBuilder(STREAM_HEADER);
+        for (int i = 0; i < repeat; i++) {
+            for (String stanza : getStanzas()) {
+                stream.append(stanza);
+            }
+        }
+        return stream.toString();
+    }
+
+    /**
+     * Creates a reader that is configured as the readers of client connections.
+     *
+     * @return a new reader.
+     * @throws Exception if the reader could not be created.
+     */
+    public static XMPPPacketReader newReader() throws Exception {
+        final XMPPPacketReader reader = new XMPPPacketReader();
+        final XmlPullParserFactory factory = XmlPullParserFactory.newInstance(MXParser.class.getName(), null);
+        factory.setNamespaceAware(true);
+        reader.setXPPFactory(factory);
+        return reader;
+    }
+
+    static Packet toPacket(Element element) {
+        switch (element.getName()) {
+            case "message":
+                return new Message(element, true);
+            case "presence":
+                return new Presence(element, true);
+            case "iq":
+                return new IQ(element, true);
+            default:
+                throw new IllegalArgumentException("Not a stanza: " + element.asXML());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.util.cache.CacheSizes;
+import org.jivesoftware.util.cache.DefaultCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads and writes a {@link DefaultCache} that maps full JIDs to routes, as the caches of the
+ * routing table do. The bounded cache holds a tenth of the entries, so that most puts evict.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultCacheBenchmark {
+
+    /**
+     * The number of entries of the cache.
+     */
+    @Param({ "1000", "100000" })
+    public int entries;
+
+    private String[] keys;
+    private String[] missingKeys;
+    private DefaultCache<String, String> cache;
+    private DefaultCache<String, String> boundedCache;
+
+    /**
+     * The position of a thread in the keys.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int length) {
+            final int index = next;
+            next = index + 1 == length ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        keys = new String[entries];
+        missingKeys = new String[entries];
+        for (int i = 0; i < entries; i++) {
+            keys[i] = "user" + i + "@" + Corpus.DOMAIN + "/resource" + (i % 3);
+            missingKeys[i] = "user" + i + "@" + Corpus.DOMAIN + "/other";
+        }
+        cache = new DefaultCache<>("Benchmark", -1, -1);
+        int size = 0;
+        for (String key : keys) {
+            cache.put(key, key);
+            size += CacheSizes.sizeOfString(key);
+        }
+        boundedCache = new DefaultCache<>("Benchmark Bounded", size / 10, -1);
+        for (String key : keys) {
+            boundedCache.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public String getHit(Cursor cursor) {
+        return cache.get(keys[cursor.next(entries)]);
+    }
+
+    @Benchmark
+    public String getMiss(Cursor cursor) {
+        return cache.get(missingKeys[cursor.next(entries)]);
+    }
+
+    /**
+     * Reads from four threads at once, since all the accesses to the cache are synchronized.
+     */
+    @Benchmark
+    @Threads(4)
+    public String getHitContended(Cursor cursor) {
+        return cache.get(keys[cursor.next(entries)]);
+    }
+
+    @Benchmark
+    public String putReplace(Cursor cursor) {
+        final String key = keys[cursor.next(entries)];
+        return cache.put(key, key);
+    }
+
+    @Benchmark
+    public String putEvict(Cursor cursor) {
+        final String key = keys[cursor.next(entries)];
+        return boundedCache.put(key, key);
+    }
+}
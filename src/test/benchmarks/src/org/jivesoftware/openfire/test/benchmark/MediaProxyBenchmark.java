@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.openfire.mediaproxy.MediaProxy;
+import org.jivesoftware.openfire.mediaproxy.ProxyCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Relays packets through a {@link MediaProxy} session on the loopback interface. Each operation
+ * sends a packet from party A to the proxy and waits until party B receives it, so the average
+ * time is the relay latency and its inverse is the relay throughput of one session.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MediaProxyBenchmark {
+
+    /**
+     * The size of the relayed packets: 20ms of G.711 in RTP, and a video packet.
+     */
+    @Param({ "172", "1200" })
+    public int size;
+
+    private MediaProxy mediaProxy;
+    private DatagramChannel clientA;
+    private DatagramChannel clientB;
+    private ByteBuffer packet;
+    private ByteBuffer received;
+
+    @Setup
+    public void setUp() throws Exception {
+        mediaProxy = new MediaProxy("127.0.0.1");
+        final ProxyCandidate session = mediaProxy.addRelayAgent("benchmark", "benchmark");
+        session.start();
+
+        clientA = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        clientA.connect(new InetSocketAddress("127.0.0.1", session.getLocalPortA()));
+        clientB = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        clientB.connect(new InetSocketAddress("127.0.0.1", session.getLocalPortB()));
+
+        packet = ByteBuffer.allocateDirect(size);
+        received = ByteBuffer.allocateDirect(size);
+
+        // Let the proxy learn the address of B, then wait until the relay to B works
+        clientB.write(ByteBuffer.wrap(new byte[] { 0 }));
+        Thread.sleep(100);
+        relay();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        clientA.close();
+        clientB.close();
+        mediaProxy.getSessions().iterator().next().stopAgent();
+    }
+
+    @Benchmark
+    public int relay() throws Exception {
+        packet.clear();
+        clientA.write(packet);
+        received.clear();
+        return clientB.read(received);
+    }
+}
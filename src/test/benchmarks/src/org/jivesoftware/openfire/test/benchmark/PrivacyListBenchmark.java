@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
+import org.jivesoftware.openfire.privacy.PrivacyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xmpp.packet.Packet;
+
+/**
+ * Checks the packets of the corpus against the privacy list of a user who blocks a number of
+ * contacts, a domain and the presences of another contact. None of the packets of the corpus is
+ * blocked, so that every packet is checked against all the items of the list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrivacyListBenchmark {
+
+    /**
+     * The number of contacts that are blocked.
+     */
+    @Param({ "5", "100" })
+    public int blocked;
+
+    private PrivacyList list;
+    private List<Packet> packets;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkServer.install();
+        final Element listElement = DocumentHelper.createElement("list");
+        int order = 1;
+        for (int i = 0; i < blocked; i++) {
+            item(listElement, "jid", "spammer" + i + "@example.net", order++);
+        }
+        item(listElement, "jid", "spam.example", order++);
+        item(listElement, "jid", "ex@example.org", order++).addElement("presence-in");
+        listElement.addElement("item").addAttribute("action", "allow").addAttribute("order", Integer.toString(order));
+        list = new PrivacyList("alice", "blocklist", true, listElement);
+        packets = Corpus.getPackets();
+    }
+
+    @Benchmark
+    public int shouldBlockPacket() {
+        int count = 0;
+        for (Packet packet : packets) {
+            if (list.shouldBlockPacket(packet)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Element item(Element listElement, String type, String value, int order) {
+        return listElement.addElement("item").addAttribute("type", type).addAttribute("value", value)
+                .addAttribute("action", "deny").addAttribute("order", Integer.toString(order));
+    }
+}
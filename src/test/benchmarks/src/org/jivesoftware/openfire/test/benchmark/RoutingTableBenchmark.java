@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.openfire.Connection;
+import org.jivesoftware.openfire.RoutableChannelHandler;
+import org.jivesoftware.openfire.auth.AuthToken;
+import org.jivesoftware.openfire.session.LocalClientSession;
+import org.jivesoftware.openfire.spi.BasicStreamIDFactory;
+import org.jivesoftware.openfire.spi.RoutingTableImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xmpp.packet.JID;
+import org.xmpp.packet.Message;
+import org.xmpp.packet.Packet;
+import org.xmpp.packet.Presence;
+
+/**
+ * Routes messages with {@link RoutingTableImpl#routePacket(JID, Packet, boolean)} to local users
+ * and to a component. Every user has two available sessions, which only count the packets that
+ * they are given, so that the routing itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoutingTableBenchmark {
+
+    /**
+     * The number of users that are online.
+     */
+    @Param({ "1000", "10000" })
+    public int users;
+
+    private RoutingTableImpl routingTable;
+    private Message[] toFullJID;
+    private Message[] toBareJID;
+    private Message[] toComponent;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        final BenchmarkServer server = BenchmarkServer.install();
+        routingTable = new RoutingTableImpl();
+        routingTable.initialize(server);
+
+        final JID component = new JID("conference." + Corpus.DOMAIN);
+        routingTable.addComponentRoute(component, new RoutableChannelHandler() {
+            @Override
+            public JID getAddress() {
+                return component;
+            }
+
+            @Override
+            public void process(Packet packet) {
+            }
+        });
+
+        toFullJID = new Message[users];
+        toBareJID = new Message[users];
+        toComponent = new Message[users];
+        for (int i = 0; i < users; i++) {
+            final JID desktop = new JID("user" + i, Corpus.DOMAIN, "desktop");
+            routingTable.addClientRoute(desktop, new Session(desktop));
+            final JID phone = new JID("user" + i, Corpus.DOMAIN, "phone");
+            routingTable.addClientRoute(phone, new Session(phone));
+
+            final JID sender = new JID("user" + ((i + 1) % users), Corpus.DOMAIN, "desktop");
+            toFullJID[i] = message(sender, phone, Message.Type.chat);
+            toBareJID[i] = message(sender, phone.asBareJID(), Message.Type.chat);
+            toComponent[i] = message(sender, new JID("room" + (i % 100), component.getDomain(), null), Message.Type.groupchat);
+        }
+    }
+
+    @Benchmark
+    public void routeToFullJID() {
+        final Message message = toFullJID[next()];
+        routingTable.routePacket(message.getTo(), message, false);
+    }
+
+    @Benchmark
+    public void routeToBareJID() {
+        final Message message = toBareJID[next()];
+        routingTable.routePacket(message.getTo(), message, false);
+    }
+
+    @Benchmark
+    public void routeToComponent() {
+        final Message message = toComponent[next()];
+        routingTable.routePacket(message.getTo(), message, false);
+    }
+
+    private int next() {
+        final int index = next;
+        next = index + 1 == users ? 0 : index + 1;
+        return index;
+    }
+
+    private static Message message(JID from, JID to, Message.Type type) {
+        final Message message = new Message();
+        message.setFrom(from);
+        message.setTo(to);
+        message.setType(type);
+        message.setID("m" + to.getNode());
+        message.setBody("Are you coming to the meeting?");
+        message.addChildElement("active", "http://jabber.org/protocol/chatstates");
+        return message;
+    }
+
+    /**
+     * An available session of a user, without connection.
+     */
+    private static class Session extends LocalClientSession {
+
+        private final AuthToken authToken;
+        private final Presence presence = new Presence();
+        private long received;
+
+        Session(JID address) {
+            super(Corpus.DOMAIN, newConnection(), BasicStreamIDFactory.createStreamID(address.getResource()), Locale.ENGLISH);
+            setAddress(address);
+            authToken = new AuthToken(address.toBareJID(), false);
+            presence.setFrom(address);
+        }
+
+        @Override
+        public AuthToken getAuthToken() {
+            return authToken;
+        }
+
+        @Override
+        public Presence getPresence() {
+            return presence;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return true;
+        }
+
+        @Override
+        public void process(Packet packet) {
+            received++;
+        }
+
+        private static Connection newConnection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                    new InvocationHandler() {
+                        @Override
+                        public Object invoke(Object proxy, Method method, Object[] args) {
+                            final Class<?> type = method.getReturnType();
+                            if (type == boolean.class) {
+                                return false;
+                            }
+                            if (type == int.class) {
+                                return 0;
+                            }
+                            if (type == long.class) {
+                                return 0L;
+                            }
+                            return null;
+                        }
+                    });
+        }
+    }
+}
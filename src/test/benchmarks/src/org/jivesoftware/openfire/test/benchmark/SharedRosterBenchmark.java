@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.database.DbConnectionManager;
+import org.jivesoftware.openfire.roster.Roster;
+import org.jivesoftware.openfire.roster.RosterItem;
+import org.jivesoftware.openfire.roster.RosterManager;
+import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.util.cache.Cache;
+import org.jivesoftware.util.cache.CacheFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xmpp.packet.JID;
+
+/**
+ * Reads the roster of a member of a shared group that is shown to everybody and that every user
+ * of the server belongs to, and loads rosters of the members as they log in. Along with its time,
+ * {@link #loadRosters(Heap)} prints the heap that a loaded roster keeps. The users and the group
+ * are stored in the embedded database, and the user and group caches hold all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SharedRosterBenchmark {
+
+    /**
+     * The number of members of the shared group.
+     */
+    @Param({ "10000", "50000" })
+    public int members;
+
+    private RosterManager rosterManager;
+    private Cache<String, Roster> rosterCache;
+    private Roster roster;
+    private JID contact;
+
+    /**
+     * Prints the heap that each of the rosters that {@link #loadRosters(Heap)} loads keeps. The
+     * heap is measured out of the timed operation.
+     */
+    @State(Scope.Thread)
+    public static class Heap {
+        static final int ROSTERS = 10000;
+
+        private List<Roster> rosters;
+        private long before;
+
+        @Setup(Level.Invocation)
+        public void setUp(SharedRosterBenchmark benchmark) {
+            rosters = null;
+            for (int i = 0; i < ROSTERS; i++) {
+                benchmark.rosterCache.remove("user" + i);
+            }
+            before = usedHeap();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            System.out.println("Retained bytes per roster: " + (usedHeap() - before) / rosters.size());
+            rosters = null;
+        }
+
+        private static long usedHeap() {
+            final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkServer.install();
+        CacheFactory.setMaxSizeProperty("User", -1);
+        CacheFactory.setMaxSizeProperty("Group", -1);
+        createGroup("Everyone", members);
+
+        rosterManager = new RosterManager();
+        rosterCache = CacheFactory.createCache("Roster");
+        roster = rosterManager.getRoster("user1");
+        contact = new JID("user" + (members / 2), Corpus.DOMAIN, null);
+        // Load the users into the cache
+        roster.getReset();
+    }
+
+    @Benchmark
+    public org.xmpp.packet.Roster getReset() {
+        return roster.getReset();
+    }
+
+    @Benchmark
+    public RosterItem getRosterItem() throws Exception {
+        return roster.getRosterItem(contact);
+    }
+
+    @Benchmark
+    public boolean isRosterItem() {
+        return roster.isRosterItem(contact);
+    }
+
+    @Benchmark
+    public Roster loadRoster() {
+        return load("user2");
+    }
+
+    /**
+     * Loads the rosters of {@link Heap#ROSTERS} members, as when they log in.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    public List<Roster> loadRosters(Heap heap) {
+        final List<Roster> rosters = new ArrayList<>(Heap.ROSTERS);
+        for (int i = 0; i < Heap.ROSTERS; i++) {
+            rosters.add(load("user" + i));
+        }
+        heap.rosters = rosters;
+        return rosters;
+    }
+
+    Roster load(String username) {
+        rosterCache.remove(username);
+        try {
+            return rosterManager.getRoster(username);
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void createGroup(String name, int members) throws Exception {
+        final String now = StringUtils.dateToMillis(new Date());
+        try (Connection con = DbConnectionManager.getConnection()) {
+            try (PreparedStatement pstmt = con.prepareStatement(
+                    "INSERT INTO ofUser (username,plainPassword,name,email,creationDate,modificationDate) "
+                    + "VALUES (?,?,?,?,?,?)")) {
+                for (int i = 0; i < members; i++) {
+                    pstmt.setString(1, "user" + i);
+                    pstmt.setString(2, "secret");
+                    pstmt.setString(3, "User " + i);
+                    pstmt.setString(4, "user" + i + "@" + Corpus.DOMAIN);
+                    pstmt.setString(5, now);
+                    pstmt.setString(6, now);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            try (PreparedStatement pstmt = con.prepareStatement("INSERT INTO ofGroup (groupName,description) VALUES (?,?)")) {
+                pstmt.setString(1, name);
+                pstmt.setString(2, "");
+                pstmt.executeUpdate();
+            }
+            try (PreparedStatement pstmt = con.prepareStatement("INSERT INTO ofGroupProp (groupName,name,propValue) VALUES (?,?,?)")) {
+                addProperty(pstmt, name, "sharedRoster.showInRoster", "everybody");
+                addProperty(pstmt, name, "sharedRoster.displayName", name);
+                addProperty(pstmt, name, "sharedRoster.groupList", "");
+                pstmt.executeBatch();
+            }
+            try (PreparedStatement pstmt = con.prepareStatement("INSERT INTO ofGroupUser (groupName,username,administrator) VALUES (?,?,0)")) {
+                for (int i = 0; i < members; i++) {
+                    pstmt.setString(1, name);
+                    pstmt.setString(2, "user" + i);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        }
+    }
+
+    private static void addProperty(PreparedStatement pstmt, String group, String name, String value) throws Exception {
+        pstmt.setString(1, group);
+        pstmt.setString(2, name);
+        pstmt.setString(3, value);
+        pstmt.addBatch();
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.util.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link StringUtils} methods that are used for every stanza or login: escaping of message
+ * bodies, Base64 of SASL exchanges and avatars, and hashing of entity capabilities.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringUtilsBenchmark {
+
+    private static final String BODY = "Don't forget the slides & the <demo> build. Here is the link: "
+            + "https://intranet.example.com/projects/openfire/demo?build=1234&branch=master";
+    private static final String PLAIN_BODY = "Yes, I'll be there in 5 minutes.";
+    private static final String CAPS = "client/pc//Exodus 0.9.1<http://jabber.org/protocol/caps<"
+            + "http://jabber.org/protocol/disco#info<http://jabber.org/protocol/disco#items<http://jabber.org/protocol/muc<";
+
+    private String saslResponse;
+    private String avatar;
+
+    @Setup
+    public void setUp() {
+        saslResponse = StringUtils.encodeBase64("\u0000alice\u0000correct horse battery staple");
+        final byte[] image = new byte[8192];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (i * 31);
+        }
+        avatar = StringUtils.encodeBase64(image);
+    }
+
+    @Benchmark
+    public String escapeForXML() {
+        return StringUtils.escapeForXML(BODY);
+    }
+
+    @Benchmark
+    public String escapeForXMLNothingToEscape() {
+        return StringUtils.escapeForXML(PLAIN_BODY);
+    }
+
+    @Benchmark
+    public byte[] decodeBase64SaslResponse() {
+        return StringUtils.decodeBase64(saslResponse);
+    }
+
+    @Benchmark
+    public String encodeBase64SaslChallenge() {
+        return StringUtils.encodeBase64(PLAIN_BODY.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public byte[] decodeBase64Avatar() {
+        return StringUtils.decodeBase64(avatar);
+    }
+
+    @Benchmark
+    public String hashCaps() {
+        return StringUtils.hash(CAPS, "SHA-1");
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.SystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of reading the properties that routing a message to a bare JID reads, with
+ * {@link JiveGlobals} and with {@link SystemProperty}. One of the properties is set and the other
+ * one has its default value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemPropertyBenchmark {
+
+    private static final SystemProperty<Boolean> ALL_RESOURCES =
+            SystemProperty.ofBoolean("route.all-resources", false);
+    private static final SystemProperty<Boolean> REALLY_ALL_RESOURCES =
+            SystemProperty.ofBoolean("route.really-all-resources", false);
+    private static final SystemProperty<Integer> MAX_UNACKED =
+            SystemProperty.ofInteger("stream.management.max-unacked", 10000, 1, Integer.MAX_VALUE);
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkServer.install();
+        JiveGlobals.setProperty("route.all-resources", "true");
+        JiveGlobals.setProperty("stream.management.max-unacked", "5000");
+    }
+
+    @Benchmark
+    public boolean jiveGlobalsBooleans() {
+        return JiveGlobals.getBooleanProperty("route.really-all-resources", false)
+                | JiveGlobals.getBooleanProperty("route.all-resources", false);
+    }
+
+    @Benchmark
+    public boolean systemPropertyBooleans() {
+        return REALLY_ALL_RESOURCES.getValue() | ALL_RESOURCES.getValue();
+    }
+
+    @Benchmark
+    public int jiveGlobalsInteger() {
+        return JiveGlobals.getIntProperty("stream.management.max-unacked", 10000);
+    }
+
+    @Benchmark
+    public int systemPropertyInteger() {
+        return MAX_UNACKED.getValue();
+    }
+}
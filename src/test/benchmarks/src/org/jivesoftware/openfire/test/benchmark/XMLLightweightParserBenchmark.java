@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.jivesoftware.openfire.nio.XMLLightweightParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Splits the stream of a client connection into stanzas, as the connections of the NIO
+ * transport do. The stream holds the stanzas of the corpus, and is read in chunks of the size
+ * of network reads. An operation is the parsing of the whole stream by a new parser.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XMLLightweightParserBenchmark {
+
+    /**
+     * The number of bytes of a network read.
+     */
+    @Param({ "64", "1460", "16384" })
+    public int chunkSize;
+
+    private List<IoBuffer> chunks;
+
+    @Setup
+    public void setUp() {
+        final byte[] stream = Corpus.getStream(4).getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < stream.length; offset += chunkSize) {
+            chunks.add(IoBuffer.wrap(Arrays.copyOfRange(stream, offset, Math.min(stream.length, offset + chunkSize))));
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        final XMLLightweightParser parser = new XMLLightweightParser(StandardCharsets.UTF_8);
+        for (IoBuffer chunk : chunks) {
+            chunk.rewind();
+            parser.read(chunk);
+            if (parser.areThereMsgs()) {
+                blackhole.consume(parser.getMsgs());
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.util.XMLWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xmpp.packet.Packet;
+
+/**
+ * Serializes the packets of the corpus, with the {@link XMLWriter} of socket connections and
+ * with {@link Packet#toXML()}, which the NIO connections use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XMLWriterBenchmark {
+
+    private List<Packet> packets;
+    private StringWriter writer;
+    private XMLWriter xmlWriter;
+
+    @Setup
+    public void setUp() throws Exception {
+        packets = Corpus.getPackets();
+        writer = new StringWriter(4096);
+        xmlWriter = new XMLWriter(writer);
+    }
+
+    @Benchmark
+    public String xmlWriter() throws Exception {
+        writer.getBuffer().setLength(0);
+        for (Packet packet : packets) {
+            xmlWriter.write(packet.getElement());
+        }
+        xmlWriter.flush();
+        return writer.toString();
+    }
+
+    @Benchmark
+    public void toXML(Blackhole blackhole) {
+        for (Packet packet : packets) {
+            blackhole.consume(packet.toXML());
+        }
+    }
+}
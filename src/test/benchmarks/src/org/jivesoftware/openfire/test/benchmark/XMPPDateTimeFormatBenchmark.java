@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.util.XMPPDateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formats and parses the timestamps of delayed delivery, offline messages and archives. The
+ * formatter is shared, as it is in the server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XMPPDateTimeFormatBenchmark {
+
+    private final XMPPDateTimeFormat format = new XMPPDateTimeFormat();
+    private final Date date = new Date(1457094896789L);
+
+    @Benchmark
+    public String format() {
+        return XMPPDateTimeFormat.format(date);
+    }
+
+    @Benchmark
+    public Date parse() throws Exception {
+        return format.parseString("2016-03-04T12:34:56.789Z");
+    }
+
+    @Benchmark
+    public Date parseWithoutMillis() throws Exception {
+        return format.parseString("2016-03-04T12:34:56Z");
+    }
+
+    @Benchmark
+    public Date parseWithOffset() throws Exception {
+        return format.parseString("2016-03-04T13:34:56.789+01:00");
+    }
+
+    /**
+     * Parses from four threads at once, since the parsers of the formatter are synchronized.
+     */
+    @Benchmark
+    @Threads(4)
+    public Date parseContended() throws Exception {
+        return format.parseString("2016-03-04T12:34:56.789Z");
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.dom4j.Element;
+import org.dom4j.io.XMPPPacketReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses stanzas into DOM elements, as the stanza handlers do with the stanzas that the
+ * connections receive. The reader is reused, as connections reuse the reader of their thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XMPPPacketReaderBenchmark {
+
+    private XMPPPacketReader reader;
+    private List<String> stanzas;
+    private String message;
+
+    @Setup
+    public void setUp() throws Exception {
+        reader = Corpus.newReader();
+        stanzas = Corpus.getStanzas();
+        message = stanzas.get(0);
+    }
+
+    /**
+     * Parses a short chat message.
+     */
+    @Benchmark
+    public Element parseMessage() throws Exception {
+        return reader.read(new StringReader(message)).getRootElement();
+    }
+
+    /**
+     * Parses all the stanzas of the corpus.
+     */
+    @Benchmark
+    public void parseCorpus(Blackhole blackhole) throws Exception {
+        for (String stanza : stanzas) {
+            blackhole.consume(reader.read(new StringReader(stanza)).getRootElement());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.jivesoftware.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PooledConnectionProviderTest {
+
+    private final List<FakeConnection> connections = new ArrayList<>();
+    private PooledConnectionProvider provider;
+
+    @Before
+    public void setUp() {
+        provider = new PooledConnectionProvider() {
+            @Override
+            Connection createConnection() {
+                final FakeConnection connection = new FakeConnection();
+                connections.add(connection);
+                return proxy(Connection.class, connection);
+            }
+        };
+        provider.setMinConnections(0);
+        provider.setMaxConnections(2);
+        provider.setMaxWait(50);
+        provider.setTestBeforeUse(false);
+        provider.start();
+    }
+
+    @After
+    public void tearDown() {
+        provider.destroy();
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception {
+        Connection con = provider.getConnection();
+        assertEquals(1, provider.getActiveConnections());
+        con.close();
+        con.close();
+        assertTrue(con.isClosed());
+        assertEquals(0, provider.getActiveConnections());
+        try {
+            con.createStatement();
+            fail("A closed connection can't be used");
+        }
+        catch (SQLException e) {
+            // Expected
+        }
+
+        provider.getConnection().close();
+        assertEquals(1, connections.size());
+        assertEquals(1, provider.getOpenConnections());
+    }
+
+    @Test
+    public void testMaxWait() throws Exception {
+        provider.getConnection();
+        provider.getConnection();
+        try {
+            provider.getConnection();
+            fail("Only two connections can be used");
+        }
+        catch (SQLTransientConnectionException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testTransactionIsRolledBack() throws Exception {
+        Connection con = provider.getConnection();
+        con.setAutoCommit(false);
+        con.close();
+        assertEquals(1, connections.get(0).rollbacks);
+        assertTrue(connections.get(0).autoCommit);
+    }
+
+    @Test
+    public void testStatementCache() throws Exception {
+        Connection con = provider.getConnection();
+        PreparedStatement pstmt = con.prepareStatement("SELECT 1");
+        assertSame(con, pstmt.getConnection());
+        pstmt.close();
+        pstmt = con.prepareStatement("SELECT 1");
+        // The statement is in use, so a second one is prepared
+        con.prepareStatement("SELECT 1").close();
+        pstmt.close();
+        con.close();
+
+        FakeConnection connection = connections.get(0);
+        assertEquals(2, connection.statements.size());
+        assertFalse(connection.statements.get(0).closed);
+        assertTrue(connection.statements.get(1).closed);
+        assertEquals(2, provider.getStatementsPrepared());
+        assertEquals(1, provider.getStatementsReused());
+
+        // Statements whose settings were changed are not reused
+        con = provider.getConnection();
+        pstmt = con.prepareStatement("SELECT 1");
+        pstmt.setMaxRows(1);
+        pstmt.close();
+        con.close();
+        assertTrue(connection.statements.get(0).closed);
+    }
+
+    @Test
+    public void testStatementTimes() throws Exception {
+        Connection con = provider.getConnection();
+        for (int i = 0; i < 3; i++) {
+            PreparedStatement pstmt = con.prepareStatement("SELECT 1");
+            pstmt.executeQuery();
+            pstmt.close();
+        }
+        con.close();
+        assertEquals(3, provider.getStatementTimes().get("SELECT 1").getCount());
+        assertEquals(1, provider.getWaitTime().getCount());
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static class FakeConnection implements InvocationHandler {
+
+        private final List<FakeStatement> statements = new ArrayList<>();
+        private boolean autoCommit = true;
+        private int rollbacks;
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    final FakeStatement statement = new FakeStatement();
+                    statements.add(statement);
+                    return proxy(PreparedStatement.class, statement);
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "rollback":
+                    rollbacks++;
+                    return null;
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static class FakeStatement implements InvocationHandler {
+
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "executeQuery":
+                    return proxy(ResultSet.class, this);
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.jivesoftware.openfire.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link HttpBindCompression}
+ */
+public class HttpBindCompressionTest
+{
+    /**
+     * Verifies that gzip is preferred over deflate, and that encodings with a zero quality value are ignored.
+     */
+    @Test
+    public void testSelectEncoding() throws Exception
+    {
+        assertEquals( "gzip", HttpBindCompression.selectEncoding( "gzip, deflate" ) );
+        assertEquals( "gzip", HttpBindCompression.selectEncoding( "deflate,gzip" ) );
+        assertEquals( "deflate", HttpBindCompression.selectEncoding( "deflate, gzip;q=0" ) );
+        assertEquals( "deflate", HttpBindCompression.selectEncoding( "br, DEFLATE;q=0.5" ) );
+        assertNull( HttpBindCompression.selectEncoding( "identity" ) );
+        assertNull( HttpBindCompression.selectEncoding( null ) );
+    }
+
+    /**
+     * Verifies that gzip compressed bodies can be decompressed by a standard gzip implementation.
+     */
+    @Test
+    public void testGzipRoundTrip() throws Exception
+    {
+        // Setup fixture
+        final byte[] body = createBody();
+
+        // Execute system under test
+        final byte[] compressed = HttpBindCompression.compress( body, "gzip" );
+        final byte[] again = HttpBindCompression.compress( body, "gzip" );
+
+        // verify results
+        assertTrue( compressed.length < body.length );
+        assertArrayEquals( body, read( new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) );
+        assertArrayEquals( compressed, again );
+    }
+
+    /**
+     * Verifies that deflate compressed bodies use the zlib format, as defined for the 'deflate' HTTP content encoding.
+     */
+    @Test
+    public void testDeflateRoundTrip() throws Exception
+    {
+        // Setup fixture
+        final byte[] body = createBody();
+
+        // Execute system under test
+        final byte[] compressed = HttpBindCompression.compress( body, "deflate" );
+
+        // verify results
+        assertTrue( compressed.length < body.length );
+        assertArrayEquals( body, read( new InflaterInputStream( new ByteArrayInputStream( compressed ) ) ) );
+    }
+
+    private static byte[] createBody()
+    {
+        final StringBuilder body = new StringBuilder( "<body xmlns='http://jabber.org/protocol/httpbind' ack='1'>" );
+        for ( int i = 0; i < 200; i++ )
+        {
+            body.append( "<message xmlns=\"jabber:client\" to=\"user@example.org/res\" id=\"" ).append( i )
+                .append( "\"><body>H\u00e9llo \u4e16\u754c ").append( i ).append( "</body></message>" );
+        }
+        body.append( "</body>" );
+        return body.toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+    private static byte[] read( InputStream in ) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[ 1024 ];
+        int length;
+        while ( ( length = in.read( buffer ) ) != -1 )
+        {
+            out.write( buffer, 0, length );
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+package org.jivesoftware.openfire.http;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link HttpConnectionWindow}
+ */
+public class HttpConnectionWindowTest
+{
+    private HttpConnectionWindow window;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        window = new HttpConnectionWindow();
+    }
+
+    private static HttpConnection connection( long rid )
+    {
+        return new HttpConnection( rid, false, null, null );
+    }
+
+    /**
+     * Verifies that connections are found by their RID, regardless of the order in which they were added.
+     */
+    @Test
+    public void testGetByRequestId() throws Exception
+    {
+        // Setup fixture
+        final HttpConnection second = connection( 1001 );
+        final HttpConnection first = connection( 1000 );
+        final HttpConnection third = connection( 1002 );
+
+        // Execute system under test
+        window.put( second );
+        window.put( first );
+        window.put( third );
+
+        // verify results
+        assertEquals( 3, window.size() );
+        assertEquals( 1000, window.getFirstRequestId() );
+        assertEquals( 1002, window.getLastRequestId() );
+        assertSame( first, window.get( 1000 ) );
+        assertSame( second, window.get( 1001 ) );
+        assertSame( third, window.get( 1002 ) );
+        assertNull( window.get( 999 ) );
+        assertNull( window.get( 1003 ) );
+    }
+
+    /**
+     * Verifies that a connection with a RID that is already in the window replaces the existing connection.
+     */
+    @Test
+    public void testReplaceSameRequestId() throws Exception
+    {
+        // Setup fixture
+        final HttpConnection original = connection( 42 );
+        final HttpConnection retry = connection( 42 );
+        window.put( original );
+
+        // Execute system under test
+        final HttpConnection replaced = window.put( retry );
+
+        // verify results
+        assertSame( original, replaced );
+        assertEquals( 1, window.size() );
+        assertSame( retry, window.get( 42 ) );
+
+        // Removing the replaced connection (as its container completes) must not remove the retry.
+        assertFalse( window.remove( original ) );
+        assertSame( retry, window.get( 42 ) );
+    }
+
+    /**
+     * Verifies that the bounds of the window follow the connections that are removed.
+     */
+    @Test
+    public void testRemoveUpdatesBounds() throws Exception
+    {
+        // Setup fixture
+        final HttpConnection first = connection( 10 );
+        final HttpConnection second = connection( 11 );
+        final HttpConnection third = connection( 13 );
+        window.put( first );
+        window.put( second );
+        window.put( third );
+
+        // Execute system under test
+        assertTrue( window.remove( first ) );
+        assertTrue( window.remove( third ) );
+
+        // verify results
+        assertEquals( 11, window.getFirstRequestId() );
+        assertEquals( 11, window.getLastRequestId() );
+        assertTrue( window.remove( second ) );
+        assertTrue( window.isEmpty() );
+        assertEquals( -1, window.getFirstRequestId() );
+        assertEquals( -1, window.getLastRequestId() );
+    }
+
+    /**
+     * Verifies that the window grows when the spread of RIDs exceeds its capacity.
+     */
+    @Test
+    public void testGrow() throws Exception
+    {
+        // Setup fixture
+        final long start = 5000;
+        final int count = 100;
+
+        // Execute system under test
+        for ( int i = 0; i < count; i++ )
+        {
+            window.put( connection( start + i ) );
+        }
+
+        // verify results
+        assertEquals( count, window.size() );
+        assertEquals( count, window.getOpenCount() );
+        for ( int i = 0; i < count; i++ )
+        {
+            assertEquals( start + i, window.get( start + i ).getRequestId() );
+        }
+    }
+}
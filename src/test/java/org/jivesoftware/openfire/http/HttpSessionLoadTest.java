@@ -0,0 +1,478 @@
+package org.jivesoftware.openfire.http;
+
+import org.dom4j.Element;
+import org.dom4j.io.XMPPPacketReader;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.net.MXParser;
+import org.jivesoftware.openfire.spi.BasicStreamIDFactory;
+import org.jivesoftware.util.JiveGlobals;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.objenesis.ObjenesisStd;
+import org.xmlpull.v1.XmlPullParserException;
+import org.xmlpull.v1.XmlPullParserFactory;
+import org.xmpp.packet.Message;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Load test of the delivery path of {@link HttpSession}. Simulated BOSH clients keep a request
+ * pending on a local Jetty instance while a number of router threads deliver messages to their
+ * sessions. The test verifies that every message reaches its client exactly once and in the
+ * order in which each router thread delivered it, and reports throughput and latency.<p>
+ *
+ * The JUnit test runs a small load. Run the main method for larger loads:
+ * <tt>HttpSessionLoadTest [clients] [routers] [messagesPerRouter] [messagesPerSecondPerRouter]</tt>,
+ * where a rate of zero lets the routers deliver as fast as they can.
+ */
+public class HttpSessionLoadTest
+{
+    private static final Pattern MESSAGE = Pattern.compile( "<message[^>]* id=\"(\\d+)-(\\d+)-(\\d+)\"" );
+
+    private Server jetty;
+    private int port;
+    private final ConcurrentHashMap<String, HttpSession> sessions = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<XMPPPacketReader> readers = new ThreadLocal<XMPPPacketReader>() {
+        @Override
+        protected XMPPPacketReader initialValue()
+        {
+            final XMPPPacketReader reader = new XMPPPacketReader();
+            try
+            {
+                final XmlPullParserFactory factory = XmlPullParserFactory.newInstance( MXParser.class.getName(), null );
+                factory.setNamespaceAware( true );
+                reader.setXPPFactory( factory );
+            }
+            catch ( XmlPullParserException e )
+            {
+                throw new IllegalStateException( e );
+            }
+            return reader;
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception
+    {
+        // Without a configuration, every property lookup would search for the home directory.
+        final File home = Files.createTempDirectory( "httpsessionload" ).toFile();
+        final File conf = new File( home, "conf" );
+        conf.mkdir();
+        Files.write( new File( conf, "openfire.xml" ).toPath(), "<jive/>".getBytes( StandardCharsets.UTF_8 ) );
+        JiveGlobals.setHomeDirectory( home.getAbsolutePath() );
+
+        // Sessions look up the session manager of the server, which is not needed to deliver stanzas.
+        // Use a server instance without any modules rather than starting a server.
+        final XMPPServer server = (XMPPServer) new ObjenesisStd().newInstance( XMPPServer.class );
+        final Field modules = XMPPServer.class.getDeclaredField( "modules" );
+        modules.setAccessible( true );
+        modules.set( server, new LinkedHashMap<>() );
+        setServerInstance( server );
+
+        jetty = new Server();
+        final ServerConnector connector = new ServerConnector( jetty );
+        connector.setHost( "127.0.0.1" );
+        connector.setPort( 0 );
+        jetty.addConnector( connector );
+        final ServletContextHandler context = new ServletContextHandler();
+        final ServletHolder holder = new ServletHolder( new BindServlet() );
+        holder.setAsyncSupported( true );
+        context.addServlet( holder, "/http-bind/" );
+        jetty.setHandler( context );
+        jetty.start();
+        port = connector.getLocalPort();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        for ( HttpSession session : sessions.values() )
+        {
+            session.close();
+        }
+        if ( jetty != null )
+        {
+            jetty.stop();
+        }
+        setServerInstance( null );
+    }
+
+    @Test
+    public void testConcurrentDelivery() throws Exception
+    {
+        final Result result = run( 20, 4, 500, 0 );
+        System.out.println( result );
+        assertEquals( result.sent, result.received );
+        assertEquals( 0, result.outOfOrder );
+    }
+
+    public static void main( String[] args ) throws Exception
+    {
+        final int clients = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 200;
+        final int routers = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 8;
+        final int messages = args.length > 2 ? Integer.parseInt( args[ 2 ] ) : 20000;
+        final int rate = args.length > 3 ? Integer.parseInt( args[ 3 ] ) : 0;
+
+        final HttpSessionLoadTest test = new HttpSessionLoadTest();
+        test.setUp();
+        try
+        {
+            final Result result = test.run( clients, routers, messages, rate );
+            System.out.println( result );
+        }
+        finally
+        {
+            test.tearDown();
+        }
+    }
+
+    /**
+     * Starts the clients and routers and waits until all messages were received by the clients.
+     */
+    private Result run( int clientCount, int routerCount, final int messagesPerRouter, final int rate ) throws Exception
+    {
+        final List<Client> clients = new ArrayList<>();
+        for ( int i = 0; i < clientCount; i++ )
+        {
+            final Client client = new Client( "client" + i, routerCount );
+            sessions.put( client.sid, client.createSession() );
+            clients.add( client );
+            client.start();
+        }
+
+        final CountDownLatch routersDone = new CountDownLatch( routerCount );
+        final long start = System.nanoTime();
+        for ( int r = 0; r < routerCount; r++ )
+        {
+            final int router = r;
+            new Thread( "router-" + router ) {
+                @Override
+                public void run()
+                {
+                    final Random random = new Random( router );
+                    final long[] sequence = new long[ clients.size() ];
+                    final long begin = System.nanoTime();
+                    for ( int i = 0; i < messagesPerRouter; i++ )
+                    {
+                        if ( rate > 0 )
+                        {
+                            // Wait until this message is due
+                            final long due = begin + TimeUnit.SECONDS.toNanos( i ) / rate;
+                            final long delay = due - System.nanoTime();
+                            if ( delay > 0 )
+                            {
+                                LockSupport.parkNanos( delay );
+                            }
+                        }
+                        final int target = random.nextInt( clients.size() );
+                        final Message message = new Message();
+                        message.setTo( "user@example.org/" + clients.get( target ).sid );
+                        message.setID( router + "-" + ( sequence[ target ]++ ) + "-" + System.nanoTime() );
+                        message.setBody( "load" );
+                        sessions.get( clients.get( target ).sid ).deliver( message );
+                    }
+                    routersDone.countDown();
+                }
+            }.start();
+        }
+
+        final long sent = (long) routerCount * messagesPerRouter;
+        assertTrue( "Routers did not finish", routersDone.await( 60, TimeUnit.SECONDS ) );
+        final long deadline = System.currentTimeMillis() + 60000;
+        while ( received( clients ) < sent && System.currentTimeMillis() < deadline )
+        {
+            Thread.sleep( 10 );
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        final Result result = new Result();
+        result.sent = sent;
+        final List<Long> latencies = new ArrayList<>();
+        for ( Client client : clients )
+        {
+            client.running = false;
+            result.received += client.received.get();
+            result.outOfOrder += client.outOfOrder.get();
+            result.requests += client.requests.get();
+            synchronized ( client.latencies )
+            {
+                latencies.addAll( client.latencies );
+            }
+        }
+        result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis( elapsed );
+        result.setLatencies( latencies );
+        return result;
+    }
+
+    private static long received( List<Client> clients )
+    {
+        long count = 0;
+        for ( Client client : clients )
+        {
+            count += client.received.get();
+        }
+        return count;
+    }
+
+    private static void setServerInstance( XMPPServer server ) throws Exception
+    {
+        final Field instance = XMPPServer.class.getDeclaredField( "instance" );
+        instance.setAccessible( true );
+        instance.set( null, server );
+    }
+
+    /**
+     * Forwards every request to the session that is identified by the 'sid' attribute of the body.
+     */
+    private class BindServlet extends HttpServlet
+    {
+        @Override
+        protected void doPost( HttpServletRequest request, HttpServletResponse response ) throws IOException
+        {
+            final AsyncContext context = request.startAsync();
+            try
+            {
+                final Element body = readers.get().read( new StringReader( read( request.getInputStream() ) ) ).getRootElement();
+                final HttpSession session = sessions.get( body.attributeValue( "sid" ) );
+                session.forwardRequest( Long.parseLong( body.attributeValue( "rid" ) ), false, body, context );
+            }
+            catch ( Exception e )
+            {
+                response.sendError( HttpServletResponse.SC_BAD_REQUEST, e.getMessage() );
+                context.complete();
+            }
+        }
+    }
+
+    /**
+     * A BOSH client that keeps one request pending, sending the next one as soon as a response arrives.
+     */
+    private class Client extends Thread
+    {
+        private final String sid;
+        private final long[] expected;
+        private long rid = 1000;
+        private volatile boolean running = true;
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong outOfOrder = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final List<Long> latencies = new ArrayList<>();
+        private Socket socket;
+        private DataInputStream in;
+
+        Client( String sid, int routers )
+        {
+            super( sid );
+            this.sid = sid;
+            this.expected = new long[ routers ];
+            setDaemon( true );
+        }
+
+        HttpSession createSession() throws Exception
+        {
+            final HttpConnection connection = new HttpConnection( rid, false, null, null );
+            final HttpSession session = new HttpSession( null, "example.org", InetAddress.getLoopbackAddress(),
+                    BasicStreamIDFactory.createStreamID( sid ), rid, connection, Locale.ENGLISH );
+            session.setWait( 60 );
+            session.setHold( 1 );
+            session.setMaxRequests( 2 );
+            session.setMaxPollingInterval( 0 );
+            session.setMaxPause( 300 );
+            session.setDefaultInactivityTimeout( 30 );
+            return session;
+        }
+
+        @Override
+        public void run()
+        {
+            while ( running )
+            {
+                try
+                {
+                    final String body = "<body xmlns='http://jabber.org/protocol/httpbind' sid='" + sid + "' rid='" + ( ++rid ) + "'/>";
+                    process( post( body ) );
+                    requests.incrementAndGet();
+                }
+                catch ( IOException e )
+                {
+                    if ( running )
+                    {
+                        e.printStackTrace();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void process( String response )
+        {
+            final long now = System.nanoTime();
+            final Matcher matcher = MESSAGE.matcher( response );
+            while ( matcher.find() )
+            {
+                final int router = Integer.parseInt( matcher.group( 1 ) );
+                final long sequence = Long.parseLong( matcher.group( 2 ) );
+                if ( sequence != expected[ router ] )
+                {
+                    outOfOrder.incrementAndGet();
+                }
+                expected[ router ] = sequence + 1;
+                synchronized ( latencies )
+                {
+                    latencies.add( now - Long.parseLong( matcher.group( 3 ) ) );
+                }
+                received.incrementAndGet();
+            }
+        }
+
+        /*
+         * Sends a request over a persistent connection. The request is written in one go on a socket
+         * without Nagle's algorithm, as a request split over several TCP segments is delayed by
+         * delayed acknowledgements, which would dominate the measured latency.
+         */
+        private String post( String body ) throws IOException
+        {
+            if ( socket == null )
+            {
+                socket = new Socket( "127.0.0.1", port );
+                socket.setTcpNoDelay( true );
+                in = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+            }
+            final byte[] content = body.getBytes( StandardCharsets.UTF_8 );
+            final String headers = "POST /http-bind/ HTTP/1.1\r\n" +
+                    "Host: 127.0.0.1:" + port + "\r\n" +
+                    "Content-Type: text/xml; charset=utf-8\r\n" +
+                    "Content-Length: " + content.length + "\r\n\r\n";
+            final ByteArrayOutputStream request = new ByteArrayOutputStream();
+            request.write( headers.getBytes( StandardCharsets.US_ASCII ) );
+            request.write( content );
+            socket.getOutputStream().write( request.toByteArray() );
+
+            // Read the status line and headers, then the body
+            int length = -1;
+            String line;
+            while ( !( line = readLine() ).isEmpty() )
+            {
+                if ( line.toLowerCase().startsWith( "content-length:" ) )
+                {
+                    length = Integer.parseInt( line.substring( "content-length:".length() ).trim() );
+                }
+            }
+            if ( length < 0 )
+            {
+                throw new IOException( "Response without Content-Length" );
+            }
+            final byte[] response = new byte[ length ];
+            in.readFully( response );
+            return new String( response, StandardCharsets.UTF_8 );
+        }
+
+        private String readLine() throws IOException
+        {
+            final StringBuilder line = new StringBuilder();
+            int c;
+            while ( ( c = in.read() ) != '\n' )
+            {
+                if ( c == -1 )
+                {
+                    throw new EOFException();
+                }
+                if ( c != '\r' )
+                {
+                    line.append( (char) c );
+                }
+            }
+            return line.toString();
+        }
+    }
+
+    private static String read( InputStream in ) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[ 4096 ];
+        int length;
+        while ( ( length = in.read( buffer ) ) != -1 )
+        {
+            out.write( buffer, 0, length );
+        }
+        return new String( out.toByteArray(), StandardCharsets.UTF_8 );
+    }
+
+    private static class Result
+    {
+        private long sent;
+        private long received;
+        private long outOfOrder;
+        private long requests;
+        private long elapsedMillis;
+        private long[] latencies = new long[ 0 ];
+
+        void setLatencies( List<Long> values )
+        {
+            latencies = new long[ values.size() ];
+            for ( int i = 0; i < latencies.length; i++ )
+            {
+                latencies[ i ] = values.get( i );
+            }
+            Arrays.sort( latencies );
+        }
+
+        private double percentile( double p )
+        {
+            if ( latencies.length == 0 )
+            {
+                return 0;
+            }
+            final int index = (int) Math.min( latencies.length - 1, Math.ceil( p * latencies.length ) - 1 );
+            return latencies[ Math.max( 0, index ) ] / 1000000d;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format( "sent=%d received=%d outOfOrder=%d requests=%d elapsed=%dms throughput=%.0f msg/s " +
+                    "latency p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                    sent, received, outOfOrder, requests, elapsedMillis,
+                    elapsedMillis == 0 ? 0d : received * 1000d / elapsedMillis,
+                    percentile( 0.5 ), percentile( 0.9 ), percentile( 0.99 ), percentile( 1.0 ) );
+        }
+    }
+}
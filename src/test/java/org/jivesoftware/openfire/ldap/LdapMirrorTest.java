@@ -0,0 +1,133 @@
+package org.jivesoftware.openfire.ldap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.naming.directory.BasicAttribute;
+import javax.naming.directory.BasicAttributes;
+import javax.naming.directory.SearchResult;
+
+import org.jivesoftware.openfire.user.UserNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+import org.xmpp.packet.JID;
+
+public class LdapMirrorTest {
+
+    private static final String DOMAIN = "example.com";
+    private static final Set<String> ATTRIBUTES = Collections.singleton("telephoneNumber");
+
+    private LdapMirror mirror;
+
+    @Before
+    public void setUp() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("ldap.baseDN", "dc=example,dc=com");
+        properties.put("ldap.groupNameField", "cn");
+        properties.put("ldap.groupMemberField", "member");
+        mirror = new LdapMirror(new LdapManager(properties), DOMAIN);
+    }
+
+    private static SearchResult user(String uid, String name, String changed) {
+        BasicAttributes attrs = new BasicAttributes(true);
+        attrs.put("uid", uid);
+        attrs.put("cn", name);
+        attrs.put("telephoneNumber", "555-" + uid);
+        attrs.put("modifyTimestamp", changed);
+        SearchResult result = new SearchResult("uid=" + uid, null, attrs);
+        result.setNameInNamespace("uid=" + uid + ",ou=People,dc=example,dc=com");
+        return result;
+    }
+
+    private static SearchResult group(String name, String changed, String... uids) {
+        BasicAttributes attrs = new BasicAttributes(true);
+        attrs.put("cn", name);
+        attrs.put("modifyTimestamp", changed);
+        BasicAttribute member = new BasicAttribute("member");
+        for (String uid : uids) {
+            // The case of DNs doesn't matter
+            member.add("UID=" + uid + ",ou=people,dc=example,dc=com");
+        }
+        attrs.put(member);
+        SearchResult result = new SearchResult("cn=" + name, null, attrs);
+        result.setNameInNamespace("cn=" + name + ",ou=Groups,dc=example,dc=com");
+        return result;
+    }
+
+    private static JID jid(String username) {
+        return new JID(username, DOMAIN, null);
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        assertNull(mirror.update(
+                Arrays.asList(user("bob", "Bob", "20160101000000Z"), user("alice", "Alice", "20160101000000Z")),
+                Arrays.asList(group("Staff", "20160101000000Z", "alice", "bob", "nobody")),
+                ATTRIBUTES, true));
+
+        assertEquals(Arrays.asList("alice", "bob"), mirror.getUsernames(-1, -1));
+        assertEquals(Arrays.asList("bob"), mirror.getUsernames(1, 5));
+        assertEquals("Alice", mirror.loadUser("alice").getName());
+        assertEquals("555-bob", mirror.getUserAttributes("bob", new String[] { "telephoneNumber" }).get("telephoneNumber"));
+        assertNull(mirror.getUserAttributes("bob", new String[] { "jpegPhoto" }));
+
+        // Members that are not users are left out
+        assertEquals(new HashSet<>(Arrays.asList(jid("alice"), jid("bob"))), mirror.getMembers("Staff"));
+        assertEquals(Arrays.asList("Staff"), mirror.getGroupNames(jid("alice")));
+        assertTrue(mirror.getGroupNames(jid("nobody")).isEmpty());
+    }
+
+    @Test(expected = UserNotFoundException.class)
+    public void testUserNotFound() throws Exception {
+        mirror.update(Arrays.asList(user("alice", "Alice", "20160101000000Z")),
+                Collections.<SearchResult>emptyList(), ATTRIBUTES, true);
+        mirror.loadUser("bob");
+    }
+
+    @Test
+    public void testChanges() throws Exception {
+        mirror.update(Arrays.asList(user("alice", "Alice", "20160101000000Z"), user("bob", "Bob", "20160101000000Z")),
+                Arrays.asList(group("Staff", "20160101000000Z", "alice")), ATTRIBUTES, true);
+
+        // Polls return the entries that changed last again
+        assertNull(mirror.update(Arrays.asList(user("bob", "Bob", "20160101000000Z")),
+                Collections.<SearchResult>emptyList(), ATTRIBUTES, false));
+
+        LdapMirror.Changes changes = mirror.update(
+                Arrays.asList(user("bob", "Robert", "20160102000000Z"), user("carol", "Carol", "20160102000000Z")),
+                Arrays.asList(group("Staff", "20160102000000Z", "bob", "carol")), ATTRIBUTES, false);
+        assertEquals(Arrays.asList("carol"), changes.createdUsers);
+        assertEquals(Arrays.asList("bob"), changes.modifiedUsers);
+        assertEquals(Collections.singletonMap("Staff", new HashSet<>(Arrays.asList(jid("bob"), jid("carol")))),
+                changes.addedMembers);
+        assertEquals(Collections.singletonMap("Staff", Collections.singleton(jid("alice"))), changes.removedMembers);
+        assertEquals(Arrays.asList("Staff"), mirror.getGroupNames(jid("carol")));
+
+        // Deleted entries are found by a full load
+        changes = mirror.update(Arrays.asList(user("bob", "Robert", "20160102000000Z")),
+                Arrays.asList(group("Staff", "20160102000000Z", "bob", "carol")), ATTRIBUTES, true);
+        assertEquals(Arrays.asList("alice", "carol"), sorted(changes.deletedUsers));
+        assertEquals(Collections.singletonMap("Staff", Collections.singleton(jid("carol"))), changes.removedMembers);
+        assertEquals(Collections.singleton(jid("bob")), mirror.getMembers("Staff"));
+    }
+
+    @Test
+    public void testCompareChangeMarks() {
+        assertTrue(LdapMirror.compareChangeMarks("10000", "9999") > 0);
+        assertTrue(LdapMirror.compareChangeMarks("20160101000000Z", "20160102000000Z") < 0);
+    }
+
+    private static List<String> sorted(List<String> list) {
+        Collections.sort(list);
+        return list;
+    }
+}
@@ -0,0 +1,86 @@
+package org.jivesoftware.openfire.mediaproxy;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MediaProxy}
+ */
+public class MediaProxyTest {
+
+    private MediaProxy mediaProxy;
+    private DatagramChannel clientA;
+    private DatagramChannel clientB;
+
+    @Before
+    public void setUp() throws Exception {
+        mediaProxy = new MediaProxy("127.0.0.1", 1);
+        clientA = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        clientB = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        clientA.socket().setSoTimeout(5000);
+        clientB.socket().setSoTimeout(5000);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mediaProxy.stopProxy();
+        clientA.close();
+        clientB.close();
+    }
+
+    private static void send(DatagramChannel client, String data, int port) throws Exception {
+        client.send(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)), new InetSocketAddress("127.0.0.1", port));
+    }
+
+    private static String receive(DatagramChannel client) throws Exception {
+        final byte[] buffer = new byte[100];
+        final DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        // The socket adaptor honours the receive timeout
+        client.socket().receive(packet);
+        return new String(buffer, 0, packet.getLength(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verifies that once both parties sent a packet, the packets of each party are relayed to the other one
+     * and counted by the session.
+     */
+    @Test
+    public void testRelay() throws Exception {
+        // Setup fixture
+        final ProxyCandidate candidate = mediaProxy.addRelayAgent("sid", "test");
+        candidate.start();
+        final MediaProxySession session = mediaProxy.getSessions().iterator().next();
+
+        // Execute system under test
+        send(clientB, "hello", candidate.getLocalPortB());
+        // Wait for the proxy to learn the address of B
+        for (int i = 0; i < 500 && session.getPacketsReceived() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, session.getPacketsReceived());
+        send(clientA, "ping", candidate.getLocalPortA());
+        final String atB = receive(clientB);
+        send(clientB, "pong", candidate.getLocalPortB());
+        final String atA = receive(clientA);
+
+        // Verify results
+        assertEquals("ping", atB);
+        assertEquals("pong", atA);
+        assertEquals(3, session.getPacketsReceived());
+        assertEquals(13, session.getBytesReceived());
+        for (int i = 0; i < 100 && session.getPacketsRelayed() < 3; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, session.getPacketsRelayed());
+        assertEquals(13, session.getBytesRelayed());
+    }
+}
@@ -0,0 +1,98 @@
+package org.jivesoftware.openfire.muc;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.xmpp.packet.Message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link HistoryBuffer}
+ */
+public class HistoryBufferTest
+{
+    private HistoryBuffer buffer;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        buffer = new HistoryBuffer();
+    }
+
+    private static HistoryBuffer.Entry entry( long stamp )
+    {
+        final Message message = new Message();
+        message.setType( Message.Type.groupchat );
+        message.setBody( "message " + stamp );
+        return new HistoryBuffer.Entry( message, stamp );
+    }
+
+    /**
+     * Verifies that the oldest messages are evicted when the maximum number of messages is reached, also after the
+     * ring wrapped around and grew.
+     */
+    @Test
+    public void testEvictOldest() throws Exception
+    {
+        // Execute system under test
+        for ( int i = 0; i < 100; i++ )
+        {
+            buffer.add( entry( i ), 25, null );
+        }
+
+        // verify results
+        final HistoryBuffer.Entry[] entries = buffer.toArray();
+        assertEquals( 25, entries.length );
+        for ( int i = 0; i < entries.length; i++ )
+        {
+            assertEquals( 75 + i, entries[ i ].getStamp() );
+        }
+    }
+
+    /**
+     * Verifies that the message to preserve (the latest subject change) is kept when older messages are evicted.
+     */
+    @Test
+    public void testPreserveSubject() throws Exception
+    {
+        // Setup fixture
+        final HistoryBuffer.Entry subject = entry( 0 );
+        buffer.add( subject, 3, null );
+
+        // Execute system under test
+        for ( int i = 1; i < 10; i++ )
+        {
+            buffer.add( entry( i ), 3, subject.getMessage() );
+        }
+
+        // verify results
+        final HistoryBuffer.Entry[] entries = buffer.toArray();
+        assertEquals( 3, entries.length );
+        assertSame( subject, entries[ 0 ] );
+        assertEquals( 8, entries[ 1 ].getStamp() );
+        assertEquals( 9, entries[ 2 ].getStamp() );
+    }
+
+    /**
+     * Verifies that messages that arrive out of order (as may happen in a cluster) are stored in the order of their
+     * delay stamp.
+     */
+    @Test
+    public void testOutOfOrder() throws Exception
+    {
+        // Execute system under test
+        buffer.add( entry( 10 ) );
+        buffer.add( entry( 30 ) );
+        buffer.add( entry( 20 ) );
+        buffer.add( entry( 5 ) );
+
+        // verify results
+        final HistoryBuffer.Entry[] entries = buffer.toArray();
+        assertEquals( 5, entries[ 0 ].getStamp() );
+        assertEquals( 10, entries[ 1 ].getStamp() );
+        assertEquals( 20, entries[ 2 ].getStamp() );
+        assertEquals( 30, entries[ 3 ].getStamp() );
+        assertEquals( "message 20".length(), entries[ 2 ].getChars() );
+    }
+}
@@ -0,0 +1,129 @@
+package org.jivesoftware.openfire.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.dom4j.Element;
+import org.dom4j.io.SAXReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StanzaPipeline}
+ */
+public class StanzaPipelineTest {
+
+    private StanzaPipeline pipeline;
+
+    @Before
+    public void setUp() throws Exception {
+        pipeline = new StanzaPipeline();
+        pipeline.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pipeline.shutdown();
+    }
+
+    private static Element parse(String xml) throws Exception {
+        return new SAXReader().read(new StringReader(xml)).getRootElement();
+    }
+
+    /**
+     * Verifies that stanzas are dispatched to the lane that matches their kind.
+     */
+    @Test
+    public void testLanes() throws Exception {
+        assertEquals(StanzaPipeline.Lane.message, pipeline.getLane(parse("<message><body>hi</body></message>")));
+        assertEquals(StanzaPipeline.Lane.presence, pipeline.getLane(parse("<presence/>")));
+        assertEquals(StanzaPipeline.Lane.iq, pipeline.getLane(parse("<iq type='get'><ping xmlns='urn:xmpp:ping'/></iq>")));
+        assertEquals(StanzaPipeline.Lane.storage, pipeline.getLane(parse("<iq type='get'><query xmlns='jabber:iq:roster'/></iq>")));
+        assertEquals(StanzaPipeline.Lane.stream, pipeline.getLane(parse("<auth xmlns='urn:ietf:params:xml:ns:xmpp-sasl'/>")));
+        assertEquals(StanzaPipeline.Lane.stream, pipeline.getLane(null));
+    }
+
+    /**
+     * Verifies that the stanzas of a session are processed in the order they were received, one at a time, by
+     * the threads of their lanes.
+     */
+    @Test
+    public void testSessionOrder() throws Exception {
+        // Setup fixture
+        final StanzaPipeline.SessionQueue queue = pipeline.createSessionQueue();
+        final StanzaPipeline.Lane[] lanes = StanzaPipeline.Lane.values();
+        final int count = 1000;
+        final List<Integer> processed = new CopyOnWriteArrayList<>();
+        final List<String> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(count);
+        final int[] running = new int[1];
+
+        // Execute system under test
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            final StanzaPipeline.Lane lane = lanes[(i / 3) % lanes.length];
+            queue.add(lane, new Runnable() {
+                @Override
+                public void run() {
+                    if (running[0]++ != 0) {
+                        errors.add("Concurrent processing of stanza " + index);
+                    }
+                    if (!Thread.currentThread().getName().startsWith("pipeline-" + lane + "-")) {
+                        errors.add("Stanza " + index + " processed by " + Thread.currentThread().getName());
+                    }
+                    processed.add(index);
+                    running[0]--;
+                    done.countDown();
+                }
+            });
+        }
+
+        // verify results
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(errors.toString(), 0, errors.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) processed.get(i));
+        }
+    }
+
+    /**
+     * Verifies that a stopped pipeline processes a long backlog that switches lanes at every stanza in the
+     * calling thread, without nesting a call for every switch.
+     */
+    @Test
+    public void testStoppedPipelineBacklog() throws Exception {
+        // Setup fixture
+        pipeline.shutdown();
+        final StanzaPipeline.SessionQueue queue = pipeline.createSessionQueue();
+        final StanzaPipeline.Lane[] lanes = StanzaPipeline.Lane.values();
+        final int count = 100000;
+        final int[] processed = new int[1];
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                processed[0]++;
+            }
+        };
+
+        // Execute system under test
+        queue.add(StanzaPipeline.Lane.stream, new Runnable() {
+            @Override
+            public void run() {
+                // Queued while the first task is being processed
+                for (int i = 0; i < count; i++) {
+                    queue.add(lanes[i % lanes.length], task);
+                }
+            }
+        });
+
+        // verify results
+        assertEquals(count, processed[0]);
+    }
+}
@@ -0,0 +1,105 @@
+package org.jivesoftware.openfire.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.filterchain.IoFilter;
+import org.apache.mina.core.filterchain.IoFilterChain;
+import org.apache.mina.core.write.DefaultWriteRequest;
+import org.jivesoftware.openfire.spi.ConnectionType;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link XMPPCompressionFilter}
+ */
+public class XMPPCompressionFilterTest {
+
+    /**
+     * Verifies that every compressed stanza can be decompressed as soon as it is received, by a standard zlib
+     * inflater, when the client connection uses a reduced compression window.
+     */
+    @Test
+    public void testStanzaBoundaries() throws Exception {
+        // Setup fixture
+        final XMPPCompressionFilter filter = new XMPPCompressionFilter(ConnectionType.SOCKET_C2S);
+        filter.setCompressOutbound(true);
+        final Inflater inflater = new Inflater();
+        final byte[] output = new byte[8192];
+
+        for (int i = 0; i < 50; i++) {
+            final String stanza = "<message to='user" + i + "@example.org' type='chat'><body>Hello " + i
+                    + "</body></message>";
+            final IoBuffer buffer = IoBuffer.wrap(stanza.getBytes(StandardCharsets.UTF_8));
+
+            // Execute system under test
+            final IoBuffer compressed = (IoBuffer) filter.doFilterWrite(null, null, new DefaultWriteRequest(buffer));
+
+            // verify results
+            final byte[] bytes = new byte[compressed.remaining()];
+            compressed.get(bytes);
+            inflater.setInput(bytes);
+            final int length = inflater.inflate(output);
+            assertEquals(stanza, new String(output, 0, length, StandardCharsets.UTF_8));
+        }
+        assertTrue(filter.getCompressionRatio() < 1);
+    }
+
+    /**
+     * Verifies that data compressed by a client with the default zlib settings is decompressed stanza by stanza.
+     */
+    @Test
+    public void testInflate() throws Exception {
+        // Setup fixture
+        final XMPPCompressionFilter filter = new XMPPCompressionFilter(ConnectionType.SOCKET_C2S);
+        final IoFilterChain chain = (IoFilterChain) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IoFilterChain.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                    }
+                });
+        final List<String> received = new ArrayList<>();
+        final IoFilter.NextFilter nextFilter = (IoFilter.NextFilter) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IoFilter.NextFilter.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if ("messageReceived".equals(method.getName())) {
+                            final IoBuffer buffer = (IoBuffer) args[1];
+                            final byte[] bytes = new byte[buffer.remaining()];
+                            buffer.get(bytes);
+                            received.add(new String(bytes, StandardCharsets.UTF_8));
+                        }
+                        return null;
+                    }
+                });
+        filter.onPreAdd(chain, "compression", nextFilter);
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        final byte[] output = new byte[65536];
+
+        for (int i = 0; i < 20; i++) {
+            final StringBuilder stanza = new StringBuilder("<message><body>");
+            for (int j = 0; j < i * 100; j++) {
+                stanza.append(j);
+            }
+            stanza.append("</body></message>");
+            deflater.setInput(stanza.toString().getBytes(StandardCharsets.UTF_8));
+            final int length = deflater.deflate(output, 0, output.length, Deflater.SYNC_FLUSH);
+
+            // Execute system under test
+            filter.messageReceived(nextFilter, null, IoBuffer.wrap(output, 0, length));
+
+            // verify results
+            assertEquals(stanza.toString(), received.get(i));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.jivesoftware.openfire.roster;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xmpp.packet.JID;
+
+public class SharedRosterViewTest {
+
+    private static final String DOMAIN = "example.com";
+
+    private final JID alice = new JID("alice", DOMAIN, null);
+    private final JID bob = new JID("bob", DOMAIN, null);
+    private final JID carol = new JID("carol", DOMAIN, null);
+
+    private static SharedRosterView.SharedGroup group(String name, String showInRoster,
+            String groupList, JID... users) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("sharedRoster.showInRoster", showInRoster);
+        properties.put("sharedRoster.displayName", name);
+        if (groupList != null) {
+            properties.put("sharedRoster.groupList", groupList);
+        }
+        return new SharedRosterView.SharedGroup(name, properties, Arrays.asList(users));
+    }
+
+    private RosterItem getRosterItem(SharedRosterView view, JID user, JID contact) {
+        return view.getRosterItem(user, view.getSharedGroups(user), contact);
+    }
+
+    @Test
+    public void testPublicGroup() {
+        Set<String> usernames = new HashSet<>(Arrays.asList("alice", "bob", "carol"));
+        SharedRosterView view = new SharedRosterView(DOMAIN,
+                Collections.singletonList(group("Everyone", "everybody", null, alice, bob)), usernames);
+
+        RosterItem item = getRosterItem(view, alice, bob);
+        assertEquals(RosterItem.SUB_BOTH, item.getSubStatus());
+        assertEquals(Collections.singleton("Everyone"), item.getSharedGroupsNames());
+
+        // Carol sees the members of the group, who are subscribed from her
+        assertEquals(RosterItem.SUB_TO, getRosterItem(view, carol, alice).getSubStatus());
+        assertEquals(RosterItem.SUB_FROM, getRosterItem(view, alice, carol).getSubStatus());
+        assertNull(getRosterItem(view, alice, alice));
+
+        List<SharedRosterView.SharedGroup> groups = view.getSharedGroups(alice);
+        assertEquals(new HashSet<>(Arrays.asList(bob)), view.getVisibleContacts(alice, groups));
+        assertEquals(new HashSet<>(Arrays.asList(bob, carol)), view.getContacts(alice, groups));
+    }
+
+    @Test
+    public void testGroupList() {
+        SharedRosterView view = new SharedRosterView(DOMAIN, Arrays.asList(
+                group("Sales", "onlyGroup", "Support", alice),
+                group("Support", "nobody", null, bob)), null);
+
+        assertEquals(RosterItem.SUB_TO, getRosterItem(view, bob, alice).getSubStatus());
+        assertEquals(RosterItem.SUB_FROM, getRosterItem(view, alice, bob).getSubStatus());
+        assertNull(getRosterItem(view, alice, carol));
+        assertEquals(Arrays.asList("Sales"), view.getVisibleGroupNames("Support"));
+    }
+
+    @Test
+    public void testChangedViews() {
+        Set<String> usernames = new HashSet<>(Arrays.asList("alice", "bob"));
+        SharedRosterView view = new SharedRosterView(DOMAIN,
+                Collections.singletonList(group("Everyone", "everybody", null, alice)), usernames);
+
+        SharedRosterView withCarol = view.withUsername("carol", true);
+        assertNull(getRosterItem(view, alice, carol));
+        assertEquals(RosterItem.SUB_FROM, getRosterItem(withCarol, alice, carol).getSubStatus());
+        assertTrue(view.withUsername("bob", false).getContacts(alice, view.getSharedGroups(alice)).isEmpty());
+
+        SharedRosterView withBob = view.withGroupUser("Everyone", bob, true);
+        assertEquals(RosterItem.SUB_BOTH, getRosterItem(withBob, alice, bob).getSubStatus());
+        assertEquals(RosterItem.SUB_FROM, getRosterItem(view, alice, bob).getSubStatus());
+        assertNull(getRosterItem(view.withoutGroup("Everyone"), alice, bob));
+    }
+
+    @Test
+    public void testChangedGroupUsers() {
+        SharedRosterView view = new SharedRosterView(DOMAIN,
+                Collections.singletonList(group("Team", "onlyGroup", null, alice)), null);
+
+        SharedRosterView withAll = view.withGroupUsers("Team", Arrays.asList(alice, bob, carol), true);
+        assertEquals(new HashSet<>(Arrays.asList(alice, bob, carol)), withAll.getGroup("Team").getUsers());
+        assertEquals(RosterItem.SUB_BOTH, getRosterItem(withAll, bob, carol).getSubStatus());
+        // The view that the changes were applied to is left untouched
+        assertEquals(Collections.singleton(alice), view.getGroup("Team").getUsers());
+
+        SharedRosterView withoutBob = withAll.withGroupUsers("Team", Arrays.asList(bob), false);
+        assertEquals(new HashSet<>(Arrays.asList(alice, carol)), withoutBob.getGroup("Team").getUsers());
+        assertNull(getRosterItem(withoutBob, alice, bob));
+
+        // Views are returned as is when nothing changes
+        assertTrue(withoutBob == withoutBob.withGroupUsers("Team", Arrays.asList(alice, carol), true));
+        assertTrue(view == view.withGroupUsers("Unknown", Arrays.asList(bob), true));
+    }
+}
@@ -0,0 +1,71 @@
+package org.jivesoftware.openfire.streammanagement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UnackedStanzaQueue}
+ */
+public class UnackedStanzaQueueTest {
+
+    /**
+     * Verifies that stanzas keep their order while the queue wraps around and grows, and that the
+     * memory estimate goes back to zero when all stanzas are removed.
+     */
+    @Test
+    public void testWrapAndGrow() throws Exception {
+        // Setup fixture
+        final UnackedStanzaQueue queue = new UnackedStanzaQueue(4);
+        long next = 1;
+        long first = 1;
+
+        // Execute system under test
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < round + 2; i++) {
+                queue.add(next, "<message id='" + next + "'/>", true, 0);
+                next++;
+            }
+            queue.removeFirst();
+            first++;
+
+            // verify results
+            assertEquals(first, queue.getFirstId());
+            assertEquals(next - 1, queue.getLastId());
+            for (int i = 0; i < queue.size(); i++) {
+                assertEquals(first + i, queue.getId(i));
+                assertEquals("<message id='" + (first + i) + "'/>", queue.getStanza(i));
+            }
+        }
+
+        long released = 0;
+        final long bytes = queue.getBytes();
+        while (!queue.isEmpty()) {
+            released += queue.removeLast();
+        }
+        assertEquals(bytes, released);
+        assertEquals(0, queue.getBytes());
+    }
+
+    /**
+     * Verifies that clearing the queue releases all memory and keeps the queue usable.
+     */
+    @Test
+    public void testClear() throws Exception {
+        // Setup fixture
+        final UnackedStanzaQueue queue = new UnackedStanzaQueue(2);
+        queue.add(1, "<iq/>", false, 0);
+        queue.add(2, "<message/>", true, 0);
+        queue.add(3, "<presence/>", false, 0);
+        final long bytes = queue.getBytes();
+
+        // Execute system under test & verify results
+        assertEquals(bytes, queue.clear());
+        assertTrue(queue.isEmpty());
+        queue.add(4, "<iq/>", false, 0);
+        assertEquals(4, queue.getFirstId());
+        assertFalse(queue.isMessage(0));
+    }
+}
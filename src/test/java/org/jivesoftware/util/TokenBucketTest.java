@@ -0,0 +1,58 @@
+package org.jivesoftware.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TokenBucket}
+ */
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Verifies that a burst is admitted immediately, that the next events are spread out at the
+     * rate of the bucket, and that events that would wait too long are rejected.
+     */
+    @Test
+    public void testReserve() throws Exception {
+        // Setup fixture
+        final TokenBucket bucket = new TokenBucket(10, 5);
+        final long now = System.nanoTime();
+
+        // Execute system under test & verify results
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.reserve(1, SECOND, now));
+        }
+        assertEquals(SECOND / 10, bucket.reserve(1, SECOND, now));
+        assertEquals(2 * SECOND / 10, bucket.reserve(1, SECOND, now));
+        assertEquals(-1, bucket.reserve(1, SECOND / 10, now));
+
+        // A reduced rate makes the next events wait longer
+        assertEquals(6 * SECOND / 10, bucket.reserve(0.5, SECOND, now));
+    }
+
+    /**
+     * Verifies that a bucket is refilled over time, and reported as full once it was refilled.
+     */
+    @Test
+    public void testRefill() throws Exception {
+        // Setup fixture
+        final TokenBucket bucket = new TokenBucket(10, 5);
+        final long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bucket.reserve(1, 0, now);
+        }
+
+        // Execute system under test & verify results
+        assertEquals(-1, bucket.reserve(1, 0, now));
+        assertFalse(bucket.isFull(now + SECOND / 10));
+        assertEquals(0, bucket.reserve(1, 0, now + SECOND / 10));
+        assertTrue(bucket.isFull(now + SECOND));
+    }
+}
@@ -0,0 +1,287 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A simulated client that connects over BOSH (XEP-0124 and XEP-0206). The client uses two
+ * persistent HTTP connections: one request is held by the server while the other one is used to
+ * send stanzas.
+ */
+public class BoshClient extends SimulatedClient {
+
+    private static final String NAMESPACE = "http://jabber.org/protocol/httpbind";
+    private static final String PATH = "/http-bind/";
+
+    private final HttpChannel[] channels = new HttpChannel[2];
+    private final StringBuilder pending = new StringBuilder();
+    private final StanzaSplitter splitter;
+
+    private String sid;
+    private long rid = ThreadLocalRandom.current().nextLong(1L << 32, 1L << 40);
+    private int outstanding = 0;
+    private boolean restart = false;
+    private boolean terminated = false;
+
+    public BoshClient(Reactor reactor, InetSocketAddress address, String domain, String username,
+            String password, boolean initialPresence, Listener listener) {
+        super(domain, username, password, initialPresence, listener);
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = new HttpChannel(reactor, address);
+        }
+        splitter = new StanzaSplitter(new StanzaSplitter.Handler() {
+            @Override
+            public void streamOpened(String header) {
+                responseOpened(header);
+            }
+
+            @Override
+            public void element(String xml) {
+                BoshClient.this.element(xml);
+            }
+
+            @Override
+            public void streamClosed() {
+                // End of the response
+            }
+        });
+    }
+
+    @Override
+    public synchronized void send(String xml) {
+        if (terminated) {
+            return;
+        }
+        pending.append(xml);
+        sendPending();
+    }
+
+    @Override
+    public synchronized void logout() {
+        closing();
+        if (!terminated && sid != null) {
+            terminated = true;
+            final HttpChannel channel = idleChannel();
+            if (channel != null) {
+                channel.post("<body rid='" + (rid++) + "' sid='" + sid + "' type='terminate' xmlns='" + NAMESPACE
+                        + "'><presence type='unavailable' xmlns='jabber:client'/></body>");
+            }
+        }
+        for (HttpChannel channel : channels) {
+            channel.closeWhenIdle();
+        }
+    }
+
+    @Override
+    protected synchronized void open() {
+        outstanding++;
+        channels[0].post("<body content='text/xml; charset=utf-8' hold='1' rid='" + (rid++) + "' to='" + domain
+                + "' ver='1.6' wait='60' xml:lang='en' xmpp:version='1.0' xmlns='" + NAMESPACE
+                + "' xmlns:xmpp='urn:xmpp:xbosh'/>");
+    }
+
+    @Override
+    protected synchronized void restart() {
+        restart = true;
+        sendPending();
+    }
+
+    @Override
+    protected synchronized void transmit(String xml) {
+        send(xml);
+    }
+
+    private void responseOpened(String header) {
+        if (sid == null) {
+            sid = StanzaSplitter.attribute(header, "sid");
+        }
+        if ("terminate".equals(StanzaSplitter.attribute(header, "type"))) {
+            terminated = true;
+            fail("Session terminated: " + header);
+        }
+    }
+
+    private synchronized void responded(int status, String body) {
+        outstanding--;
+        if (status != 200) {
+            terminated = true;
+            fail("HTTP status " + status);
+            return;
+        }
+        splitter.reset();
+        splitter.parse(body);
+        sendPending();
+    }
+
+    /**
+     * Sends the pending stanzas, or an empty request that the server can hold, if a connection
+     * is available.
+     */
+    private void sendPending() {
+        if (terminated || sid == null) {
+            return;
+        }
+        if (pending.length() == 0 && !restart && outstanding > 0) {
+            return;
+        }
+        final HttpChannel channel = idleChannel();
+        if (channel == null) {
+            return;
+        }
+        final StringBuilder request = new StringBuilder(pending.length() + 128);
+        request.append("<body rid='").append(rid++).append("' sid='").append(sid).append("' xmlns='").append(NAMESPACE);
+        if (restart) {
+            request.append("' to='").append(domain).append("' xml:lang='en' xmpp:restart='true' xmlns:xmpp='urn:xmpp:xbosh'/>");
+            restart = false;
+        }
+        else if (pending.length() == 0) {
+            request.append("'/>");
+        }
+        else {
+            request.append("'>").append(pending).append("</body>");
+            pending.setLength(0);
+        }
+        outstanding++;
+        channel.post(request.toString());
+    }
+
+    private synchronized void replace(HttpChannel channel) {
+        for (int i = 0; i < channels.length; i++) {
+            if (channels[i] == channel) {
+                channels[i] = new HttpChannel(channel.reactor, channel.address);
+            }
+        }
+    }
+
+    private HttpChannel idleChannel() {
+        for (HttpChannel channel : channels) {
+            if (!channel.busy && !channel.isClosed()) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A persistent HTTP/1.1 connection that sends one request at a time.
+     */
+    private class HttpChannel extends NioChannel {
+
+        private final InetSocketAddress address;
+        private final String host;
+        private volatile boolean busy = false;
+        private boolean connecting = false;
+        private boolean closeWhenIdle = false;
+
+        HttpChannel(Reactor reactor, InetSocketAddress address) {
+            super(reactor, address);
+            this.address = address;
+            host = address.getHostString() + ":" + address.getPort();
+        }
+
+        void post(String body) {
+            busy = true;
+            final byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            final String headers = "POST " + PATH + " HTTP/1.1\r\nHost: " + host
+                    + "\r\nContent-Type: text/xml; charset=utf-8\r\nContent-Length: " + content.length + "\r\n\r\n";
+            final ByteBuffer request = ByteBuffer.allocate(headers.length() + content.length);
+            request.put(headers.getBytes(StandardCharsets.ISO_8859_1)).put(content).flip();
+            if (!connecting) {
+                // The request is written once the connection is established
+                connecting = true;
+                connect();
+            }
+            write(request);
+        }
+
+        void closeWhenIdle() {
+            closeWhenIdle = true;
+            if (!busy) {
+                close(null);
+            }
+        }
+
+        @Override
+        protected void connected() {
+            // Nothing to do, the pending request is written next
+        }
+
+        @Override
+        protected void received(ByteBuffer buffer) throws IOException {
+            final int headerEnd = indexOf(buffer, "\r\n\r\n");
+            if (headerEnd < 0) {
+                return;
+            }
+            final byte[] headerBytes = new byte[headerEnd - buffer.position()];
+            buffer.duplicate().get(headerBytes);
+            final String headers = new String(headerBytes, StandardCharsets.ISO_8859_1);
+            final int contentLength = contentLength(headers);
+            if (buffer.limit() - headerEnd - 4 < contentLength) {
+                return;
+            }
+            final byte[] content = new byte[contentLength];
+            buffer.position(headerEnd + 4);
+            buffer.get(content);
+            final int status = Integer.parseInt(headers.substring(9, 12));
+            busy = false;
+            responded(status, new String(content, StandardCharsets.UTF_8));
+            if (closeWhenIdle) {
+                close(null);
+            }
+        }
+
+        @Override
+        protected void closed(IOException cause) {
+            if (busy) {
+                busy = false;
+                disconnected(cause);
+            }
+            else if (!closeWhenIdle) {
+                // The server closed an idle connection
+                replace(this);
+            }
+        }
+
+        private int indexOf(ByteBuffer buffer, String text) {
+            outer:
+            for (int i = buffer.position(); i <= buffer.limit() - text.length(); i++) {
+                for (int j = 0; j < text.length(); j++) {
+                    if (buffer.get(i + j) != text.charAt(j)) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+
+        private int contentLength(String headers) throws IOException {
+            for (String line : headers.split("\r\n")) {
+                final int colon = line.indexOf(':');
+                if (colon > 0 && "content-length".equalsIgnoreCase(line.substring(0, colon).trim())) {
+                    return Integer.parseInt(line.substring(colon + 1).trim());
+                }
+            }
+            throw new IOException("Response without content length: " + headers);
+        }
+    }
+}
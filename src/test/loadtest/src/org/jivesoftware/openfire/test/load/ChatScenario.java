@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.util.List;
+
+/**
+ * One-to-one chat: clients are paired, and messages are sent to the full JID of the partner of
+ * a client, round-robin over all clients, at a fixed total rate. The latency of an operation is
+ * the time from the send to the reception of a message.<p>
+ *
+ * The same scenario is run over TCP (<tt>chat</tt>), BOSH (<tt>bosh</tt>) and WebSocket
+ * (<tt>websocket</tt>) clients. Settings: <tt>[name].clients</tt> and <tt>[name].rate</tt>
+ * (messages per second).
+ */
+public class ChatScenario extends Scenario {
+
+    private final LoadTest.Transport transport;
+    private final int clients;
+    private final double rate;
+
+    public ChatScenario(String name, LoadTest.Transport transport, LoadTest test, Settings settings,
+            int defaultClients, double defaultRate) {
+        super(name, test);
+        this.transport = transport;
+        // Clients are paired
+        clients = settings.getInt(name + ".clients", defaultClients) & ~1;
+        rate = settings.getDouble(name + ".rate", defaultRate);
+    }
+
+    @Override
+    public int getUserCount() {
+        return clients;
+    }
+
+    @Override
+    public String getDescription() {
+        return clients + " " + transport + " clients exchanging " + rate + " messages/s";
+    }
+
+    @Override
+    public void run() throws Exception {
+        final List<SimulatedClient> ready = login(transport, clients, true, 0);
+        if (ready.size() < 2) {
+            throw new IllegalStateException(name + ": not enough clients logged in");
+        }
+        final SimulatedClient[] senders = ready.toArray(new SimulatedClient[ready.size()]);
+        final String[] recipients = new String[senders.length];
+        for (int i = 0; i < senders.length; i++) {
+            // The partner of the last client of an odd number of clients is the first client
+            final int partner = (i ^ 1) < senders.length ? i ^ 1 : 0;
+            recipients[i] = senders[partner].getJID();
+        }
+        generate(rate, new Runnable() {
+            private int next = 0;
+
+            @Override
+            public void run() {
+                final int i = next;
+                next = (next + 1) % senders.length;
+                senders[i].send("<message to='" + recipients[i] + "' type='chat'><body>" + stamp() + "</body></message>");
+                if (isMeasuring()) {
+                    sent.incrementAndGet();
+                }
+            }
+        });
+        logout(ready);
+    }
+
+    @Override
+    public void stanza(SimulatedClient client, String xml) {
+        if (xml.startsWith("<message")) {
+            record(xml);
+        }
+    }
+}
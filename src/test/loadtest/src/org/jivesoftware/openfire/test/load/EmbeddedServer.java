@@ -0,0 +1,280 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.group.Group;
+import org.jivesoftware.openfire.group.GroupManager;
+import org.jivesoftware.openfire.http.HttpBindManager;
+import org.jivesoftware.openfire.muc.MUCRoom;
+import org.jivesoftware.openfire.muc.MultiUserChatService;
+import org.jivesoftware.openfire.spi.ConnectionListener;
+import org.jivesoftware.openfire.spi.ConnectionManagerImpl;
+import org.jivesoftware.openfire.spi.ConnectionType;
+import org.jivesoftware.openfire.user.UserAlreadyExistsException;
+import org.jivesoftware.openfire.user.UserManager;
+import org.jivesoftware.util.JiveGlobals;
+import org.xmpp.packet.JID;
+
+/**
+ * An Openfire server that runs in the JVM of the load test, with a fresh home directory and an
+ * embedded HSQLDB database.<p>
+ *
+ * The home directory is created from an Openfire distribution (by default, the output of the
+ * <tt>openfire</tt> build target). Only the admin plugin, which the plugin manager requires, and
+ * the websocket plugin when it is needed, are installed.
+ */
+public class EmbeddedServer {
+
+    private static final String PASSWORD = "loadtest";
+
+    private final File distribution;
+    private final File home;
+    private XMPPServer server;
+
+    public EmbeddedServer(File distribution, File home) {
+        this.distribution = distribution;
+        this.home = home;
+    }
+
+    /**
+     * Creates the home directory and starts the server.
+     *
+     * @param websocket true if the websocket plugin is to be installed.
+     * @param port the port of the client listener.
+     * @param rateLimit true if the rate of new client connections is to be limited as configured
+     *        by default.
+     * @throws Exception if the server could not be started.
+     */
+    public void start(boolean websocket, int port, boolean rateLimit) throws Exception {
+        prepareHome(websocket);
+        System.setProperty("openfireHome", home.getCanonicalPath());
+        server = new XMPPServer();
+        if (!server.isStarted()) {
+            throw new IllegalStateException("The server could not be started, see " + new File(home, "logs"));
+        }
+
+        final ConnectionListener listener = ((ConnectionManagerImpl) server.getConnectionManager())
+                .getListener(ConnectionType.SOCKET_C2S, false);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (listener.getSocketAcceptor() == null) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The client listener did not start");
+            }
+            Thread.sleep(100);
+        }
+        if (!rateLimit) {
+            JiveGlobals.setProperty("xmpp.socket.ratelimit.socket_c2s.rate", "0");
+            JiveGlobals.setProperty("xmpp.socket.ratelimit.socket_c2s.ip.rate", "0");
+        }
+        if (listener.getPort() != port) {
+            listener.setPort(port);
+        }
+        else {
+            listener.restart();
+        }
+        waitForPort(port);
+        waitForPort(HttpBindManager.getInstance().getHttpBindUnsecurePort());
+        if (websocket) {
+            while (server.getPluginManager().getPlugin("websocket") == null) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("The websocket plugin was not loaded");
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    /**
+     * Stops the server.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+
+    public String getDomain() {
+        return server.getServerInfo().getXMPPDomain();
+    }
+
+    public String getVersion() {
+        return server.getServerInfo().getVersion().getVersionString();
+    }
+
+    public InetSocketAddress getHttpAddress() {
+        return new InetSocketAddress("127.0.0.1", HttpBindManager.getInstance().getHttpBindUnsecurePort());
+    }
+
+    public String getPassword() {
+        return PASSWORD;
+    }
+
+    /**
+     * Creates user accounts.
+     *
+     * @param first the index of the first account.
+     * @param count the number of accounts.
+     * @throws Exception if an account could not be created.
+     */
+    public void createUsers(int first, int count) throws Exception {
+        final UserManager userManager = server.getUserManager();
+        for (int i = first; i < first + count; i++) {
+            try {
+                userManager.createUser(LoadTest.username(i), PASSWORD, null, null);
+            }
+            catch (UserAlreadyExistsException e) {
+                // Created by another scenario
+            }
+        }
+    }
+
+    /**
+     * Creates shared groups that are shown in the rosters of their members.
+     *
+     * @param first the index of the account of the first member.
+     * @param count the number of members of all groups.
+     * @param size the number of members per group.
+     * @throws Exception if a group could not be created.
+     */
+    public void createSharedGroups(int first, int count, int size) throws Exception {
+        for (int start = 0; start < count; start += size) {
+            final String name = "loadtest" + (first + start);
+            final Group group = GroupManager.getInstance().createGroup(name);
+            group.getProperties().put("sharedRoster.showInRoster", "onlyGroup");
+            group.getProperties().put("sharedRoster.displayName", name);
+            group.getProperties().put("sharedRoster.groupList", "");
+            for (int i = first + start; i < first + Math.min(count, start + size); i++) {
+                group.getMembers().add(new JID(LoadTest.username(i), getDomain(), null));
+            }
+        }
+    }
+
+    /**
+     * Creates an unlocked, persistent room without limit on the number of occupants.
+     *
+     * @param subdomain the subdomain of the chat service.
+     * @param name the name of the room.
+     * @throws Exception if the room could not be created.
+     */
+    public void createRoom(String subdomain, String name) throws Exception {
+        final MultiUserChatService service = server.getMultiUserChatManager().getMultiUserChatService(subdomain);
+        final MUCRoom room = service.getChatRoom(name, new JID(getDomain()));
+        room.setMaxUsers(0);
+        room.setPersistent(true);
+        room.unlock(room.getRole());
+        room.saveToDB();
+    }
+
+    private void prepareHome(boolean websocket) throws IOException {
+        if (!new File(distribution, "resources/database").isDirectory()) {
+            throw new IOException("Not an Openfire distribution: " + distribution);
+        }
+        if (home.exists()) {
+            delete(home.toPath());
+        }
+        copy(new File(distribution, "conf").toPath(), new File(home, "conf").toPath());
+        copy(new File(distribution, "resources").toPath(), new File(home, "resources").toPath());
+        new File(home, "logs").mkdirs();
+        copy(new File(distribution, "plugins/admin").toPath(), new File(home, "plugins/admin").toPath());
+        final File websocketPlugin = new File(distribution, "plugins/websocket.jar");
+        if (websocket) {
+            if (!websocketPlugin.exists()) {
+                throw new IOException("The websocket plugin was not found at " + websocketPlugin);
+            }
+            Files.copy(websocketPlugin.toPath(), new File(home, "plugins/websocket.jar").toPath());
+        }
+
+        // A server that is set up, without admin console, using the embedded database
+        try (Writer writer = Files.newBufferedWriter(new File(home, "conf/openfire.xml").toPath(), StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<jive>\n"
+                    + "    <adminConsole>\n"
+                    + "        <port>-1</port>\n"
+                    + "        <securePort>-1</securePort>\n"
+                    + "    </adminConsole>\n"
+                    + "    <locale>en</locale>\n"
+                    + "    <connectionProvider>\n"
+                    + "        <className>org.jivesoftware.database.EmbeddedConnectionProvider</className>\n"
+                    + "    </connectionProvider>\n"
+                    + "    <setup>true</setup>\n"
+                    + "</jive>\n");
+        }
+    }
+
+    private static void waitForPort(int port) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (true) {
+            try (Socket socket = new Socket("127.0.0.1", port)) {
+                return;
+            }
+            catch (IOException e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Nothing is listening on port " + port, e);
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private static void copy(final Path source, final Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void delete(Path path) throws IOException {
+        Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
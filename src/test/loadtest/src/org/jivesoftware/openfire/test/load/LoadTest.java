@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the throughput and latency of an Openfire server under load. The server is started in
+ * the JVM of the test against an embedded database, and is driven over loopback by simulated
+ * clients that share a few NIO selector threads, so that thousands of clients can be simulated
+ * from a single process.<p>
+ *
+ * The scenarios that are run are listed in the <tt>loadtest.scenarios</tt> setting, in order:
+ * <ul>
+ *     <li><tt>login</tt>: a login storm ({@link LoginScenario}).</li>
+ *     <li><tt>chat</tt>: one-to-one chat over TCP ({@link ChatScenario}).</li>
+ *     <li><tt>muc</tt>: large group chat rooms ({@link MucScenario}).</li>
+ *     <li><tt>presence</tt>: roster presence fan-out ({@link PresenceScenario}).</li>
+ *     <li><tt>bosh</tt>: one-to-one chat over BOSH.</li>
+ *     <li><tt>websocket</tt>: one-to-one chat over WebSocket, using the websocket plugin.</li>
+ * </ul>
+ *
+ * The results are printed, and written as JSON to the file of the <tt>loadtest.report</tt>
+ * setting. Usage:
+ * <pre>
+ * java -cp [openfire]/lib/*:[classes] org.jivesoftware.openfire.test.load.LoadTest [settings file]
+ * </pre>
+ * Settings can be overridden with system properties (eg: <tt>-Dloadtest.chat.rate=5000</tt>).
+ * The <tt>loadtest</tt> target of the Openfire build runs the test with the settings of
+ * <tt>src/test/loadtest/loadtest.properties</tt>.
+ */
+public class LoadTest {
+
+    static final String USER_PREFIX = "loadtest";
+
+    /**
+     * The transports of the simulated clients.
+     */
+    public enum Transport {
+        TCP, BOSH, WEBSOCKET
+    }
+
+    private final Settings settings;
+    private final Reactor[] reactors;
+    private final AtomicInteger nextReactor = new AtomicInteger();
+    private final EmbeddedServer server;
+    private final int port;
+    private final int duration;
+    private final int warmup;
+    private final int loginTimeout;
+    private String domain;
+    private InetSocketAddress clientAddress;
+    private InetSocketAddress httpAddress;
+
+    public LoadTest(Settings settings) throws Exception {
+        this.settings = settings;
+        server = new EmbeddedServer(new File(settings.get("distribution", "target/openfire")),
+                new File(settings.get("home", "target/loadtest/openfire")));
+        port = settings.getInt("port", 5222);
+        duration = settings.getInt("duration", 30);
+        warmup = settings.getInt("warmup", 5);
+        loginTimeout = settings.getInt("login.timeout", 120);
+        reactors = new Reactor[settings.getInt("threads", Runtime.getRuntime().availableProcessors())];
+        for (int i = 0; i < reactors.length; i++) {
+            reactors[i] = new Reactor("loadtest-reactor-" + i);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Properties properties = new Properties();
+        if (args.length > 0) {
+            try (InputStream in = new FileInputStream(args[0])) {
+                properties.load(in);
+            }
+        }
+        final LoadTest test = new LoadTest(new Settings(properties));
+        try {
+            test.run();
+        }
+        finally {
+            test.shutdown();
+        }
+        // The embedded server leaves non-daemon threads behind
+        System.exit(0);
+    }
+
+    /**
+     * Starts the server and runs the scenarios.
+     *
+     * @throws Exception if the test could not be run.
+     */
+    public void run() throws Exception {
+        final List<Scenario> scenarios = new ArrayList<>();
+        boolean websocket = false;
+        for (String name : settings.get("scenarios", "login,chat,muc,presence,bosh").split(",")) {
+            switch (name.trim()) {
+                case "login":
+                    scenarios.add(new LoginScenario(this, settings));
+                    break;
+                case "chat":
+                    scenarios.add(new ChatScenario("chat", Transport.TCP, this, settings, 1000, 1000));
+                    break;
+                case "muc":
+                    scenarios.add(new MucScenario(this, settings));
+                    break;
+                case "presence":
+                    scenarios.add(new PresenceScenario(this, settings));
+                    break;
+                case "bosh":
+                    scenarios.add(new ChatScenario("bosh", Transport.BOSH, this, settings, 200, 200));
+                    break;
+                case "websocket":
+                    scenarios.add(new ChatScenario("websocket", Transport.WEBSOCKET, this, settings, 200, 200));
+                    websocket = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scenario: " + name);
+            }
+        }
+        final File reportFile = new File(settings.get("report", "target/loadtest/report.json"));
+
+        System.out.println("Starting the server...");
+        server.start(websocket, port, settings.getBoolean("ratelimit", false));
+        domain = server.getDomain();
+        clientAddress = new InetSocketAddress("127.0.0.1", port);
+        httpAddress = server.getHttpAddress();
+
+        System.out.println("Creating the accounts...");
+        int firstUser = 0;
+        for (Scenario scenario : scenarios) {
+            scenario.provision(server, firstUser);
+            firstUser += scenario.getUserCount();
+        }
+
+        final Report report = new Report(server.getVersion(), settings.getUsedSettings());
+        for (Scenario scenario : scenarios) {
+            System.out.println("Running " + scenario.getName() + ": " + scenario.getDescription());
+            scenario.run();
+            report.add(scenario);
+        }
+        report.print();
+        report.write(reportFile);
+        System.out.println("Results written to " + reportFile.getAbsolutePath());
+    }
+
+    /**
+     * Stops the clients and the server.
+     */
+    public void shutdown() {
+        for (Reactor reactor : reactors) {
+            reactor.shutdown();
+        }
+        server.stop();
+    }
+
+    /**
+     * Creates a simulated client. The clients are spread over the reactor threads.
+     *
+     * @param transport the transport of the client.
+     * @param user the index of the user account of the client.
+     * @param presence true if the client is to send its initial presence.
+     * @param listener the listener of the client.
+     * @return the client, which still has to log in.
+     */
+    public SimulatedClient newClient(Transport transport, int user, boolean presence, SimulatedClient.Listener listener) {
+        final Reactor reactor = reactors[(nextReactor.getAndIncrement() & Integer.MAX_VALUE) % reactors.length];
+        switch (transport) {
+            case BOSH:
+                return new BoshClient(reactor, httpAddress, domain, username(user), server.getPassword(), presence, listener);
+            case WEBSOCKET:
+                return new WebSocketClient(reactor, httpAddress, domain, username(user), server.getPassword(), presence, listener);
+            default:
+                return new XmppClient(reactor, clientAddress, domain, username(user), server.getPassword(), presence, listener);
+        }
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * Returns how long the load of a scenario is measured.
+     *
+     * @return a duration in seconds.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns how long the load of a scenario is generated before it is measured.
+     *
+     * @return a duration in seconds.
+     */
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Returns how long to wait for clients to log in.
+     *
+     * @return a duration in seconds.
+     */
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    static String username(int index) {
+        return USER_PREFIX + index;
+    }
+
+    static int userIndex(String username) {
+        return Integer.parseInt(username.substring(USER_PREFIX.length()));
+    }
+}
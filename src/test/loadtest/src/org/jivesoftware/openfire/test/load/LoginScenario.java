@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A login storm: clients connect, authenticate, bind a resource, establish a session and send
+ * their initial presence, as fast as possible or at a fixed rate. The latency of an operation is
+ * the time from the connection attempt to the establishment of the session.<p>
+ *
+ * Settings: <tt>login.clients</tt> and <tt>login.rate</tt> (logins per second, 0 for no limit).
+ */
+public class LoginScenario extends Scenario {
+
+    private final int clients;
+    private final double rate;
+
+    public LoginScenario(LoadTest test, Settings settings) {
+        super("login", test);
+        clients = settings.getInt("login.clients", 1000);
+        rate = settings.getDouble("login.rate", 0);
+    }
+
+    @Override
+    public int getUserCount() {
+        return clients;
+    }
+
+    @Override
+    public String getDescription() {
+        return clients + " TCP clients logging in" + (rate > 0 ? " at " + rate + "/s" : "");
+    }
+
+    @Override
+    public void run() throws Exception {
+        startMeasuring();
+        final List<SimulatedClient> ready = login(LoadTest.Transport.TCP, clients, true, rate);
+        stopMeasuring();
+        for (SimulatedClient client : ready) {
+            latency.record(TimeUnit.NANOSECONDS.toMicros(client.getLoginTime()));
+        }
+        sent.set(clients);
+        operations.set(ready.size());
+        logout(ready);
+    }
+
+    @Override
+    public void stanza(SimulatedClient client, String xml) {
+        // Nothing to do
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Large group chats: clients join a number of rooms, and random occupants send messages to their
+ * room at a fixed total rate. Every copy of a message that an occupant receives is an operation,
+ * so that the latency reflects the fan-out of the rooms.<p>
+ *
+ * Settings: <tt>muc.rooms</tt>, <tt>muc.occupants</tt> (per room) and <tt>muc.rate</tt>
+ * (messages sent per second).
+ */
+public class MucScenario extends Scenario {
+
+    private static final String SERVICE = "conference";
+
+    private final int rooms;
+    private final int occupants;
+    private final double rate;
+    private volatile CountDownLatch joins;
+
+    public MucScenario(LoadTest test, Settings settings) {
+        super("muc", test);
+        rooms = settings.getInt("muc.rooms", 10);
+        occupants = settings.getInt("muc.occupants", 50);
+        rate = settings.getDouble("muc.rate", 100);
+    }
+
+    @Override
+    public int getUserCount() {
+        return rooms * occupants;
+    }
+
+    @Override
+    public String getDescription() {
+        return rooms + " rooms of " + occupants + " occupants receiving " + rate + " messages/s";
+    }
+
+    @Override
+    public void provision(EmbeddedServer server, int firstUser) throws Exception {
+        super.provision(server, firstUser);
+        for (int i = 0; i < rooms; i++) {
+            server.createRoom(SERVICE, roomName(i));
+        }
+    }
+
+    @Override
+    public void run() throws Exception {
+        final List<SimulatedClient> ready = login(LoadTest.Transport.TCP, getUserCount(), true, 0);
+        final SimulatedClient[] senders = ready.toArray(new SimulatedClient[ready.size()]);
+        final String[] roomJIDs = new String[senders.length];
+        joins = new CountDownLatch(senders.length);
+        for (int i = 0; i < senders.length; i++) {
+            roomJIDs[i] = roomName(indexOf(senders[i]) / occupants) + "@" + SERVICE + "." + test.getDomain();
+            senders[i].send("<presence to='" + roomJIDs[i] + "/" + senders[i].getUsername() + "'>"
+                    + "<x xmlns='http://jabber.org/protocol/muc'><history maxstanzas='0'/></x></presence>");
+        }
+        if (!joins.await(test.getLoginTimeout(), TimeUnit.SECONDS)) {
+            System.out.println(name + ": " + joins.getCount() + " occupants did not join before the timeout");
+        }
+        joins = null;
+        generate(rate, new Runnable() {
+            @Override
+            public void run() {
+                final int i = ThreadLocalRandom.current().nextInt(senders.length);
+                senders[i].send("<message to='" + roomJIDs[i] + "' type='groupchat'><body>" + stamp() + "</body></message>");
+                if (isMeasuring()) {
+                    sent.incrementAndGet();
+                }
+            }
+        });
+        logout(ready);
+    }
+
+    @Override
+    public void stanza(SimulatedClient client, String xml) {
+        if (xml.startsWith("<message")) {
+            record(xml);
+        }
+        else if (xml.startsWith("<presence")) {
+            final CountDownLatch latch = joins;
+            final String from = StanzaSplitter.attribute(xml, "from");
+            if (latch != null && from != null && from.endsWith("/" + client.getUsername())
+                    && StanzaSplitter.attribute(xml, "type") == null) {
+                // The room reflected the presence of the occupant (status code 110 is not
+                // always included)
+                latch.countDown();
+            }
+        }
+    }
+
+    private static String roomName(int index) {
+        return "loadtest" + index;
+    }
+}
@@ -0,0 +1,242 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A non-blocking TCP connection that is served by a {@link Reactor}. Subclasses implement the
+ * protocol in {@link #connected()} and {@link #received(ByteBuffer)}, which are always invoked on
+ * the reactor thread. Data can be written from any thread.
+ */
+public abstract class NioChannel {
+
+    private static final int MAX_BUFFER = 1024 * 1024;
+
+    protected final Reactor reactor;
+    private final InetSocketAddress address;
+    private final Queue<ByteBuffer> writes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled.set(false);
+            flush();
+        }
+    };
+
+    private SocketChannel channel;
+    private SelectionKey key;
+    private ByteBuffer readBuffer = ByteBuffer.allocate(4096);
+
+    protected NioChannel(Reactor reactor, InetSocketAddress address) {
+        this.reactor = reactor;
+        this.address = address;
+    }
+
+    /**
+     * Opens the connection. {@link #connected()} is invoked once it was established.
+     */
+    public void connect() {
+        reactor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    channel = SocketChannel.open();
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    key = channel.register(reactor.getSelector(), SelectionKey.OP_CONNECT, NioChannel.this);
+                    if (channel.connect(address)) {
+                        finishConnect();
+                    }
+                }
+                catch (IOException e) {
+                    close(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes text encoded in UTF-8.
+     *
+     * @param text the text to write.
+     */
+    public void write(String text) {
+        write(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Writes bytes. The buffer must not be modified afterwards.
+     *
+     * @param buffer the bytes to write.
+     */
+    public void write(ByteBuffer buffer) {
+        if (closed.get()) {
+            return;
+        }
+        writes.add(buffer);
+        if (reactor.inReactorThread()) {
+            flush();
+        }
+        else if (flushScheduled.compareAndSet(false, true)) {
+            reactor.execute(flushTask);
+        }
+    }
+
+    /**
+     * Closes the connection. {@link #closed(IOException)} is invoked once.
+     *
+     * @param cause the error that caused the connection to be closed, or null.
+     */
+    public void close(final IOException cause) {
+        if (!reactor.inReactorThread()) {
+            reactor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    close(cause);
+                }
+            });
+            return;
+        }
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            }
+            catch (IOException e) {
+                // Ignore
+            }
+        }
+        writes.clear();
+        closed(cause);
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Invoked on the reactor thread once the connection was established.
+     */
+    protected abstract void connected();
+
+    /**
+     * Invoked on the reactor thread when data was read. Implementations consume the bytes that
+     * they can process; the remaining bytes are kept and offered again with the next data.
+     *
+     * @param buffer the received bytes, ready to be read.
+     * @throws IOException if the data is invalid, in which case the connection is closed.
+     */
+    protected abstract void received(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Invoked on the reactor thread once the connection was closed.
+     *
+     * @param cause the error that caused the connection to be closed, or null.
+     */
+    protected abstract void closed(IOException cause);
+
+    void ready(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        try {
+            if (key.isConnectable()) {
+                finishConnect();
+                return;
+            }
+            if (key.isWritable()) {
+                flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                read();
+            }
+        }
+        catch (IOException e) {
+            close(e);
+        }
+    }
+
+    private void finishConnect() throws IOException {
+        if (!channel.finishConnect()) {
+            return;
+        }
+        key.interestOps(SelectionKey.OP_READ);
+        connected();
+        flush();
+    }
+
+    private void read() throws IOException {
+        final int count = channel.read(readBuffer);
+        if (count < 0) {
+            close(null);
+            return;
+        }
+        readBuffer.flip();
+        received(readBuffer);
+        if (readBuffer.position() == 0 && readBuffer.limit() == readBuffer.capacity()) {
+            // Nothing could be processed from a full buffer
+            if (readBuffer.capacity() >= MAX_BUFFER) {
+                throw new IOException("Received a message larger than " + MAX_BUFFER + " bytes");
+            }
+            final ByteBuffer larger = ByteBuffer.allocate(readBuffer.capacity() * 2);
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+        else {
+            readBuffer.compact();
+        }
+    }
+
+    private void flush() {
+        if (closed.get() || key == null || !channel.isConnected()) {
+            // Written once the connection is established
+            return;
+        }
+        try {
+            ByteBuffer buffer;
+            while ((buffer = writes.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                writes.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        }
+        catch (IOException e) {
+            close(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Roster presence fan-out: the users are members of shared groups, so that each user has all the
+ * other members of its group in its roster. Random clients change their presence at a fixed
+ * total rate, and every presence that a contact receives is an operation.<p>
+ *
+ * Settings: <tt>presence.clients</tt>, <tt>presence.roster</tt> (size of the groups) and
+ * <tt>presence.rate</tt> (presence changes per second).
+ */
+public class PresenceScenario extends Scenario {
+
+    private final int clients;
+    private final int rosterSize;
+    private final double rate;
+
+    public PresenceScenario(LoadTest test, Settings settings) {
+        super("presence", test);
+        clients = settings.getInt("presence.clients", 1000);
+        rosterSize = settings.getInt("presence.roster", 50);
+        rate = settings.getDouble("presence.rate", 200);
+    }
+
+    @Override
+    public int getUserCount() {
+        return clients;
+    }
+
+    @Override
+    public String getDescription() {
+        return clients + " clients in rosters of " + rosterSize + " contacts changing presence " + rate + " times/s";
+    }
+
+    @Override
+    public void provision(EmbeddedServer server, int firstUser) throws Exception {
+        super.provision(server, firstUser);
+        server.createSharedGroups(firstUser, clients, rosterSize);
+    }
+
+    @Override
+    public void run() throws Exception {
+        final List<SimulatedClient> ready = login(LoadTest.Transport.TCP, clients, true, 0);
+        final SimulatedClient[] senders = ready.toArray(new SimulatedClient[ready.size()]);
+        // Let the presences of the logins settle
+        Thread.sleep(2000);
+        generate(rate, new Runnable() {
+            @Override
+            public void run() {
+                final SimulatedClient sender = senders[ThreadLocalRandom.current().nextInt(senders.length)];
+                sender.send("<presence><status>" + stamp() + "</status></presence>");
+                if (isMeasuring()) {
+                    sent.incrementAndGet();
+                }
+            }
+        });
+        logout(ready);
+    }
+
+    @Override
+    public void stanza(SimulatedClient client, String xml) {
+        if (xml.startsWith("<presence") && !xml.contains("type=")) {
+            record(xml);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * The results of a load test, written as a JSON document so that successive runs can be
+ * compared and trended by other tools. Latencies are reported in microseconds.
+ */
+public class Report {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final String version;
+    private final Map<String, String> settings;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final Date date = new Date();
+
+    public Report(String version, Map<String, String> settings) {
+        this.version = version;
+        this.settings = settings;
+    }
+
+    public void add(Scenario scenario) {
+        scenarios.add(scenario);
+    }
+
+    /**
+     * Prints a summary of the results.
+     */
+    public void print() {
+        System.out.println();
+        System.out.println(String.format(Locale.ENGLISH, "%-10s %12s %10s %8s %10s %10s %10s %10s %10s",
+                "scenario", "ops/s", "ops", "errors", "p50 (us)", "p90", "p99", "p99.9", "max"));
+        for (Scenario scenario : scenarios) {
+            final Histogram latency = scenario.getLatency();
+            System.out.println(String.format(Locale.ENGLISH, "%-10s %12.1f %10d %8d %10d %10d %10d %10d %10d",
+                    scenario.getName(), throughput(scenario), scenario.getOperations(), scenario.getErrors(),
+                    latency.getValueAtPercentile(50), latency.getValueAtPercentile(90),
+                    latency.getValueAtPercentile(99), latency.getValueAtPercentile(99.9), latency.getMax()));
+        }
+    }
+
+    /**
+     * Writes the results to a file.
+     *
+     * @param file the file.
+     * @throws IOException if the file could not be written.
+     */
+    public void write(File file) throws IOException {
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        final StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"date\": ").append(quote(format.format(date))).append(",\n");
+        json.append("  \"version\": ").append(quote(version)).append(",\n");
+        json.append("  \"java\": ").append(quote(System.getProperty("java.version"))).append(",\n");
+        json.append("  \"processors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+        json.append("  \"settings\": {");
+        String separator = "\n";
+        for (Map.Entry<String, String> setting : settings.entrySet()) {
+            json.append(separator).append("    ").append(quote(setting.getKey())).append(": ").append(quote(setting.getValue()));
+            separator = ",\n";
+        }
+        json.append("\n  },\n");
+        json.append("  \"scenarios\": [");
+        separator = "\n";
+        for (Scenario scenario : scenarios) {
+            final Histogram latency = scenario.getLatency();
+            json.append(separator).append("    {\n");
+            json.append("      \"name\": ").append(quote(scenario.getName())).append(",\n");
+            json.append("      \"description\": ").append(quote(scenario.getDescription())).append(",\n");
+            json.append("      \"durationMillis\": ").append(scenario.getMeasuredMillis()).append(",\n");
+            json.append("      \"sent\": ").append(scenario.getSent()).append(",\n");
+            json.append("      \"operations\": ").append(scenario.getOperations()).append(",\n");
+            json.append("      \"errors\": ").append(scenario.getErrors()).append(",\n");
+            json.append("      \"throughput\": ").append(String.format(Locale.ENGLISH, "%.1f", throughput(scenario))).append(",\n");
+            json.append("      \"latency\": {\n");
+            json.append("        \"unit\": \"us\",\n");
+            json.append("        \"count\": ").append(latency.getCount()).append(",\n");
+            json.append("        \"mean\": ").append(String.format(Locale.ENGLISH, "%.1f", latency.getMean())).append(",\n");
+            for (double percentile : PERCENTILES) {
+                json.append("        \"p").append(percentile == Math.rint(percentile) ? Integer.toString((int) percentile) : Double.toString(percentile))
+                        .append("\": ").append(latency.getValueAtPercentile(percentile)).append(",\n");
+            }
+            json.append("        \"max\": ").append(latency.getMax()).append("\n");
+            json.append("      }\n");
+            json.append("    }");
+            separator = ",\n";
+        }
+        json.append("\n  ]\n");
+        json.append("}\n");
+
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+    }
+
+    private static double throughput(Scenario scenario) {
+        final long millis = scenario.getMeasuredMillis();
+        return millis == 0 ? 0 : scenario.getOperations() * 1000.0 / millis;
+    }
+
+    private static String quote(String value) {
+        final StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                quoted.append('\\').append(ch);
+            }
+            else if (ch < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) ch));
+            }
+            else {
+                quoted.append(ch);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,294 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A load scenario. A scenario logs in a number of simulated clients, generates traffic for a
+ * while and measures the rate of the operations that were completed and their latency.<p>
+ *
+ * Latencies are measured end-to-end: the sender embeds its send time in the stanza (see
+ * {@link #stamp()}), and the receiver records the difference with the time of reception. Both
+ * clients run in the same JVM, so their clocks are the same.
+ */
+public abstract class Scenario implements SimulatedClient.Listener {
+
+    private static final String STAMP = "lt:";
+
+    protected final String name;
+    protected final LoadTest test;
+    protected final Histogram latency = new Histogram();
+    protected final AtomicLong sent = new AtomicLong();
+    protected final AtomicLong operations = new AtomicLong();
+    protected final AtomicLong errors = new AtomicLong();
+
+    private volatile boolean measuring = false;
+    private volatile CountDownLatch logins;
+    private int firstUser;
+    private long measureStart;
+    private long measureEnd;
+
+    protected Scenario(String name, LoadTest test) {
+        this.name = name;
+        this.test = test;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of user accounts that this scenario uses.
+     *
+     * @return a number of users.
+     */
+    public abstract int getUserCount();
+
+    /**
+     * Creates the accounts, groups and rooms that the scenario uses.
+     *
+     * @param server the server.
+     * @param firstUser the index of the first user account that is reserved for the scenario.
+     * @throws Exception if the data could not be created.
+     */
+    public void provision(EmbeddedServer server, int firstUser) throws Exception {
+        this.firstUser = firstUser;
+        server.createUsers(firstUser, getUserCount());
+    }
+
+    /**
+     * Runs the scenario to completion.
+     *
+     * @throws Exception if the scenario could not be run.
+     */
+    public abstract void run() throws Exception;
+
+    /**
+     * Returns a short description of the workload, reported with the results.
+     *
+     * @return a description.
+     */
+    public abstract String getDescription();
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getOperations() {
+        return operations.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * Returns how long the operations were measured.
+     *
+     * @return a duration in milliseconds.
+     */
+    public long getMeasuredMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(measureEnd - measureStart);
+    }
+
+    /**
+     * Starts counting operations and recording latencies.
+     */
+    protected void startMeasuring() {
+        measureStart = System.nanoTime();
+        measuring = true;
+    }
+
+    /**
+     * Stops counting operations and recording latencies.
+     */
+    protected void stopMeasuring() {
+        measuring = false;
+        measureEnd = System.nanoTime();
+    }
+
+    protected boolean isMeasuring() {
+        return measuring;
+    }
+
+    /**
+     * Logs in clients, at a maximum rate, and waits until all of them are ready or failed.
+     *
+     * @param transport the transport of the clients.
+     * @param count the number of clients, which use the first accounts of the scenario.
+     * @param presence true if the clients send their initial presence.
+     * @param rate the maximum number of logins per second, or 0 for no limit.
+     * @return the clients that logged in.
+     * @throws InterruptedException if the thread was interrupted.
+     */
+    protected List<SimulatedClient> login(LoadTest.Transport transport, int count, boolean presence, double rate)
+            throws InterruptedException {
+        final List<SimulatedClient> clients = new ArrayList<>(count);
+        logins = new CountDownLatch(count);
+        final long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (rate > 0) {
+                final long due = start + (long) (i * TimeUnit.SECONDS.toNanos(1) / rate);
+                LockSupport.parkNanos(due - System.nanoTime());
+            }
+            final SimulatedClient client = test.newClient(transport, firstUser + i, presence, this);
+            clients.add(client);
+            client.login();
+        }
+        if (!logins.await(test.getLoginTimeout(), TimeUnit.SECONDS)) {
+            System.out.println(name + ": " + logins.getCount() + " clients did not log in before the timeout");
+        }
+        logins = null;
+        final List<SimulatedClient> ready = new ArrayList<>(count);
+        for (SimulatedClient client : clients) {
+            if (client.isReady()) {
+                ready.add(client);
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * Logs out clients.
+     *
+     * @param clients the clients.
+     * @throws InterruptedException if the thread was interrupted.
+     */
+    protected void logout(List<SimulatedClient> clients) throws InterruptedException {
+        for (SimulatedClient client : clients) {
+            client.logout();
+        }
+        // Give the server some time to process the logouts before the next scenario
+        Thread.sleep(2000);
+    }
+
+    /**
+     * Invokes an action at a constant rate for a period of time, from the calling thread.
+     * Invocations that fall behind schedule are caught up as fast as possible.
+     *
+     * @param rate the number of invocations per second.
+     * @param seconds the duration.
+     * @param action the action.
+     */
+    protected void drive(double rate, int seconds, Runnable action) {
+        if (rate <= 0 || seconds <= 0) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        final double perNano = rate / TimeUnit.SECONDS.toNanos(1);
+        long done = 0;
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            final long due = (long) ((now - start) * perNano);
+            while (done < due) {
+                action.run();
+                done++;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Runs the warm-up and measurement periods of the scenario.
+     *
+     * @param rate the number of invocations of the action per second.
+     * @param action the action that generates the load.
+     * @throws InterruptedException if the thread was interrupted.
+     */
+    protected void generate(double rate, Runnable action) throws InterruptedException {
+        drive(rate, test.getWarmup(), action);
+        startMeasuring();
+        drive(rate, test.getDuration(), action);
+        // Stanzas that are still in flight are not measured
+        stopMeasuring();
+        Thread.sleep(1000);
+    }
+
+    /**
+     * Returns a marker with the current time, to be embedded in a stanza.
+     *
+     * @return the marker.
+     */
+    protected static String stamp() {
+        return STAMP + System.nanoTime();
+    }
+
+    /**
+     * Records the latency of a stanza that carries a marker of {@link #stamp()}.
+     *
+     * @param xml the received stanza.
+     * @return true if the stanza carried a marker.
+     */
+    protected boolean record(String xml) {
+        final long now = System.nanoTime();
+        final int index = xml.indexOf(STAMP);
+        if (index < 0) {
+            return false;
+        }
+        int end = index + STAMP.length();
+        while (end < xml.length() && Character.isDigit(xml.charAt(end))) {
+            end++;
+        }
+        final long sentAt = Long.parseLong(xml.substring(index + STAMP.length(), end));
+        if (measuring) {
+            latency.record(TimeUnit.NANOSECONDS.toMicros(now - sentAt));
+            operations.incrementAndGet();
+        }
+        return true;
+    }
+
+    @Override
+    public void ready(SimulatedClient client) {
+        final CountDownLatch latch = logins;
+        if (latch != null) {
+            latch.countDown();
+        }
+    }
+
+    @Override
+    public void failed(SimulatedClient client, String reason) {
+        errors.incrementAndGet();
+        if (errors.get() <= 10) {
+            System.out.println(name + ": " + client.getUsername() + ": " + reason);
+        }
+        final CountDownLatch latch = logins;
+        if (latch != null) {
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Returns the index of the account of a client among the accounts of this scenario.
+     *
+     * @param client a client of this scenario.
+     * @return the index, starting at 0.
+     */
+    protected int indexOf(SimulatedClient client) {
+        return LoadTest.userIndex(client.getUsername()) - firstUser;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * The settings of a load test. Settings are read from a properties file, and can be overridden
+ * with system properties. All the names start with <tt>loadtest.</tt>.
+ */
+public class Settings {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+    private final Map<String, String> used = new TreeMap<>();
+
+    public Settings(Properties properties) {
+        this.properties = properties;
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PREFIX)) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+    }
+
+    public String get(String name, String defaultValue) {
+        final String value = properties.getProperty(PREFIX + name, defaultValue).trim();
+        used.put(name, value);
+        return value;
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return Integer.parseInt(get(name, Integer.toString(defaultValue)));
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return Double.parseDouble(get(name, Double.toString(defaultValue)));
+    }
+
+    public boolean getBoolean(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(get(name, Boolean.toString(defaultValue)));
+    }
+
+    /**
+     * Returns the settings that were read so far, with their effective values.
+     *
+     * @return the names (without prefix) and values of the settings.
+     */
+    public Map<String, String> getUsedSettings() {
+        return used;
+    }
+}
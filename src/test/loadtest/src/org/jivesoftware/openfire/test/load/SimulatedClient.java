@@ -0,0 +1,250 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.jivesoftware.util.StringUtils;
+
+/**
+ * A simulated XMPP client. This class implements the login sequence (SASL PLAIN, resource
+ * binding and session establishment) independently of the transport, which is implemented by
+ * subclasses.<p>
+ *
+ * Subclasses report each top-level element that they receive with {@link #element(String)}.
+ * All the callbacks of the {@link Listener} are invoked from the reactor thread of the client.
+ */
+public abstract class SimulatedClient {
+
+    /**
+     * Receives the events of a simulated client.
+     */
+    public interface Listener {
+
+        /**
+         * The client logged in and is ready to exchange stanzas.
+         */
+        void ready(SimulatedClient client);
+
+        /**
+         * The client received a stanza after it logged in.
+         */
+        void stanza(SimulatedClient client, String xml);
+
+        /**
+         * The login failed, or the connection was lost.
+         */
+        void failed(SimulatedClient client, String reason);
+    }
+
+    private enum State {
+        CONNECTING, AUTHENTICATING, RESTARTING, BINDING, ESTABLISHING, READY, CLOSED
+    }
+
+    protected final String domain;
+    private final String username;
+    private final String password;
+    private final boolean initialPresence;
+    private final Listener listener;
+
+    private volatile State state = State.CONNECTING;
+    private volatile String jid;
+    private long loginStarted;
+    private long loginTime;
+
+    protected SimulatedClient(String domain, String username, String password, boolean initialPresence,
+            Listener listener) {
+        this.domain = domain;
+        this.username = username;
+        this.password = password;
+        this.initialPresence = initialPresence;
+        this.listener = listener;
+    }
+
+    /**
+     * Connects to the server and logs in.
+     */
+    public void login() {
+        loginStarted = System.nanoTime();
+        open();
+    }
+
+    /**
+     * Sends a stanza. Stanzas that are sent before the client is ready are lost.
+     *
+     * @param xml the serialized stanza.
+     */
+    public abstract void send(String xml);
+
+    /**
+     * Closes the stream gracefully and disconnects.
+     */
+    public abstract void logout();
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Returns the full JID that was bound by the server.
+     *
+     * @return the full JID, or null if the client did not log in yet.
+     */
+    public String getJID() {
+        return jid;
+    }
+
+    /**
+     * Returns the bare JID of the user of this client.
+     *
+     * @return the bare JID.
+     */
+    public String getBareJID() {
+        return username + "@" + domain;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * Returns the time that it took to log in.
+     *
+     * @return the time in nanoseconds, or 0 if the client did not log in yet.
+     */
+    public long getLoginTime() {
+        return loginTime;
+    }
+
+    /**
+     * Establishes the connection and opens the initial stream.
+     */
+    protected abstract void open();
+
+    /**
+     * Opens a new stream over the existing connection, after SASL authentication succeeded.
+     */
+    protected abstract void restart();
+
+    /**
+     * Sends a stanza during the login sequence.
+     *
+     * @param xml the serialized stanza.
+     */
+    protected abstract void transmit(String xml);
+
+    /**
+     * Processes a top-level element that was received from the server.
+     *
+     * @param xml the serialized element.
+     */
+    protected void element(String xml) {
+        final String name = StanzaSplitter.localName(xml);
+        if ("error".equals(name) && xml.startsWith("<stream:")) {
+            fail("Stream error: " + xml);
+            return;
+        }
+        switch (state) {
+            case READY:
+                listener.stanza(this, xml);
+                break;
+            case CONNECTING:
+                if ("features".equals(name)) {
+                    final byte[] credentials = ("\0" + username + "\0" + password).getBytes(StandardCharsets.UTF_8);
+                    state = State.AUTHENTICATING;
+                    transmit("<auth xmlns='urn:ietf:params:xml:ns:xmpp-sasl' mechanism='PLAIN'>"
+                            + StringUtils.encodeBase64(credentials) + "</auth>");
+                }
+                break;
+            case AUTHENTICATING:
+                if ("success".equals(name)) {
+                    state = State.RESTARTING;
+                    restart();
+                }
+                else if ("failure".equals(name)) {
+                    fail("Authentication failed: " + xml);
+                }
+                break;
+            case RESTARTING:
+                if ("features".equals(name)) {
+                    state = State.BINDING;
+                    transmit("<iq type='set' id='bind_1'><bind xmlns='urn:ietf:params:xml:ns:xmpp-bind'>"
+                            + "<resource>load</resource></bind></iq>");
+                }
+                break;
+            case BINDING:
+                if ("iq".equals(name) && "bind_1".equals(StanzaSplitter.attribute(xml, "id"))) {
+                    if (!"result".equals(StanzaSplitter.attribute(xml, "type"))) {
+                        fail("Resource binding failed: " + xml);
+                        return;
+                    }
+                    final int start = xml.indexOf("<jid>");
+                    jid = start < 0 ? getBareJID() : xml.substring(start + 5, xml.indexOf("</jid>", start));
+                    state = State.ESTABLISHING;
+                    transmit("<iq type='set' id='sess_1'><session xmlns='urn:ietf:params:xml:ns:xmpp-session'/></iq>");
+                }
+                break;
+            case ESTABLISHING:
+                if ("iq".equals(name) && "sess_1".equals(StanzaSplitter.attribute(xml, "id"))) {
+                    if (initialPresence) {
+                        transmit("<presence/>");
+                    }
+                    loginTime = System.nanoTime() - loginStarted;
+                    state = State.READY;
+                    listener.ready(this);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Reports that the connection was closed.
+     *
+     * @param cause the error that caused the connection to be closed, or null.
+     */
+    protected void disconnected(IOException cause) {
+        final State previous = state;
+        state = State.CLOSED;
+        if (previous != State.CLOSED) {
+            listener.failed(this, cause == null ? "Connection closed in state " + previous : cause.toString());
+        }
+    }
+
+    /**
+     * Reports a failure and disconnects.
+     *
+     * @param reason a description of the failure.
+     */
+    protected void fail(String reason) {
+        if (state == State.CLOSED) {
+            return;
+        }
+        state = State.CLOSED;
+        listener.failed(this, reason);
+        logout();
+    }
+
+    /**
+     * Marks the client as closed, so that closing the connection is not reported as a failure.
+     */
+    protected void closing() {
+        state = State.CLOSED;
+    }
+}
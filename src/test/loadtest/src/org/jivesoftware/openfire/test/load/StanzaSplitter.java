@@ -0,0 +1,200 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+/**
+ * Splits an XML stream into its top-level elements without building a DOM. The opening tag of
+ * the root element (eg: <tt>&lt;stream:stream&gt;</tt> or a BOSH <tt>&lt;body&gt;</tt>) is
+ * reported separately from the elements that it contains. A <tt>stream:stream</tt> tag that is
+ * found inside the root element is treated as a restart of the stream.<p>
+ *
+ * Only the subset of XML that XMPP servers produce is supported (no DTDs; CDATA sections must
+ * not contain markup).
+ */
+public class StanzaSplitter {
+
+    /**
+     * Receives the elements that were found.
+     */
+    public interface Handler {
+
+        void streamOpened(String header);
+
+        void element(String xml);
+
+        void streamClosed();
+    }
+
+    private final Handler handler;
+    private final StringBuilder current = new StringBuilder();
+    private int depth = 0;
+    private boolean inTag = false;
+    private char quote = 0;
+    private int tagStart;
+
+    public StanzaSplitter(Handler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Forgets the state of the stream that was parsed so far.
+     */
+    public void reset() {
+        current.setLength(0);
+        depth = 0;
+        inTag = false;
+        quote = 0;
+    }
+
+    /**
+     * Parses the next characters of the stream.
+     *
+     * @param chars the characters.
+     */
+    public void parse(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            final char ch = chars.charAt(i);
+            if (!inTag) {
+                if (ch == '<') {
+                    if (depth <= 1) {
+                        // Whitespace and text between top-level elements is not retained
+                        current.setLength(0);
+                    }
+                    inTag = true;
+                    tagStart = current.length();
+                    current.append(ch);
+                }
+                else if (depth > 1) {
+                    current.append(ch);
+                }
+                continue;
+            }
+            current.append(ch);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            }
+            else if (ch == '"' || ch == '\'') {
+                quote = ch;
+            }
+            else if (ch == '>') {
+                inTag = false;
+                endOfTag();
+            }
+        }
+    }
+
+    private void endOfTag() {
+        final char first = current.charAt(tagStart + 1);
+        if (first == '?' || first == '!') {
+            // Processing instructions and comments do not change the depth
+            if (depth <= 1) {
+                current.setLength(0);
+            }
+            return;
+        }
+        if (first == '/') {
+            depth--;
+            if (depth == 1) {
+                emit();
+            }
+            else if (depth == 0) {
+                current.setLength(0);
+                handler.streamClosed();
+            }
+            return;
+        }
+        final boolean empty = current.charAt(current.length() - 2) == '/';
+        if (depth == 0 || (depth == 1 && isStreamHeader())) {
+            if (!empty) {
+                depth = 1;
+            }
+            final String header = current.toString();
+            current.setLength(0);
+            handler.streamOpened(header);
+            return;
+        }
+        if (empty) {
+            if (depth == 1) {
+                emit();
+            }
+        }
+        else {
+            depth++;
+        }
+    }
+
+    private boolean isStreamHeader() {
+        return current.length() > tagStart + 14 && "<stream:stream".equals(current.substring(tagStart, tagStart + 14))
+                && Character.isWhitespace(current.charAt(tagStart + 14));
+    }
+
+    private void emit() {
+        final String xml = current.toString();
+        current.setLength(0);
+        handler.element(xml);
+    }
+
+    /**
+     * Returns the name of an element without its namespace prefix.
+     *
+     * @param xml the serialized element.
+     * @return the local name of the element.
+     */
+    public static String localName(String xml) {
+        int end = 1;
+        int start = 1;
+        while (end < xml.length()) {
+            final char ch = xml.charAt(end);
+            if (ch == ':') {
+                start = end + 1;
+            }
+            else if (ch == ' ' || ch == '>' || ch == '/' || ch == '\t' || ch == '\r' || ch == '\n') {
+                break;
+            }
+            end++;
+        }
+        return xml.substring(start, end);
+    }
+
+    /**
+     * Returns the value of an attribute of the first tag of an element.
+     *
+     * @param xml the serialized element.
+     * @param name the name of the attribute.
+     * @return the value of the attribute, or null if it was not found.
+     */
+    public static String attribute(String xml, String name) {
+        final int tagEnd = xml.indexOf('>');
+        int index = 0;
+        while (true) {
+            index = xml.indexOf(name + "=", index);
+            if (index < 0 || (tagEnd >= 0 && index > tagEnd)) {
+                return null;
+            }
+            final char before = xml.charAt(index - 1);
+            if (Character.isWhitespace(before)) {
+                final int valueStart = index + name.length() + 2;
+                final char quote = xml.charAt(valueStart - 1);
+                final int valueEnd = xml.indexOf(quote, valueStart);
+                return xml.substring(valueStart, valueEnd);
+            }
+            index += name.length();
+        }
+    }
+}
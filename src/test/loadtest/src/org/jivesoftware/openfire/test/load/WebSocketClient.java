@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jivesoftware.util.StringUtils;
+
+/**
+ * A simulated client that connects over a WebSocket (RFC 7395), as offered by the websocket
+ * plugin.
+ */
+public class WebSocketClient extends SimulatedClient {
+
+    private static final String FRAMING_NAMESPACE = "urn:ietf:params:xml:ns:xmpp-framing";
+
+    private static final int OPCODE_CONTINUATION = 0x0;
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    private final Channel channel;
+
+    public WebSocketClient(Reactor reactor, InetSocketAddress address, String domain, String username,
+            String password, boolean initialPresence, Listener listener) {
+        super(domain, username, password, initialPresence, listener);
+        channel = new Channel(reactor, address);
+    }
+
+    @Override
+    public void send(String xml) {
+        channel.frame(OPCODE_TEXT, xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void logout() {
+        closing();
+        send("<close xmlns='" + FRAMING_NAMESPACE + "'/>");
+        channel.frame(OPCODE_CLOSE, new byte[0]);
+        channel.close(null);
+    }
+
+    @Override
+    protected void open() {
+        channel.connect();
+    }
+
+    @Override
+    protected void restart() {
+        send("<open xmlns='" + FRAMING_NAMESPACE + "' to='" + domain + "' version='1.0'/>");
+    }
+
+    @Override
+    protected void transmit(String xml) {
+        send(xml);
+    }
+
+    private class Channel extends NioChannel {
+
+        private final String host;
+        private final ByteArrayOutputStream message = new ByteArrayOutputStream();
+        private boolean upgraded = false;
+
+        Channel(Reactor reactor, InetSocketAddress address) {
+            super(reactor, address);
+            host = address.getHostString() + ":" + address.getPort();
+        }
+
+        /**
+         * Writes a frame. Frames that are sent by clients must be masked.
+         */
+        void frame(int opcode, byte[] payload) {
+            final int length = payload.length;
+            final ByteBuffer frame = ByteBuffer.allocate(14 + length);
+            frame.put((byte) (0x80 | opcode));
+            if (length < 126) {
+                frame.put((byte) (0x80 | length));
+            }
+            else if (length <= 0xFFFF) {
+                frame.put((byte) (0x80 | 126)).putShort((short) length);
+            }
+            else {
+                frame.put((byte) (0x80 | 127)).putLong(length);
+            }
+            final byte[] mask = new byte[4];
+            ThreadLocalRandom.current().nextBytes(mask);
+            frame.put(mask);
+            for (int i = 0; i < length; i++) {
+                frame.put((byte) (payload[i] ^ mask[i & 3]));
+            }
+            frame.flip();
+            write(frame);
+        }
+
+        @Override
+        protected void connected() {
+            final byte[] key = new byte[16];
+            ThreadLocalRandom.current().nextBytes(key);
+            write("GET /ws/ HTTP/1.1\r\nHost: " + host + "\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                    + "Sec-WebSocket-Key: " + StringUtils.encodeBase64(key) + "\r\nSec-WebSocket-Version: 13\r\n"
+                    + "Sec-WebSocket-Protocol: xmpp\r\n\r\n");
+        }
+
+        @Override
+        protected void received(ByteBuffer buffer) throws IOException {
+            if (!upgraded && !upgrade(buffer)) {
+                return;
+            }
+            while (buffer.remaining() >= 2) {
+                final int start = buffer.position();
+                final int first = buffer.get(start) & 0xFF;
+                final int second = buffer.get(start + 1) & 0xFF;
+                int headerLength = 2;
+                long length = second & 0x7F;
+                if (length == 126) {
+                    headerLength += 2;
+                    if (buffer.remaining() < headerLength) {
+                        return;
+                    }
+                    length = buffer.getShort(start + 2) & 0xFFFF;
+                }
+                else if (length == 127) {
+                    headerLength += 8;
+                    if (buffer.remaining() < headerLength) {
+                        return;
+                    }
+                    length = buffer.getLong(start + 2);
+                }
+                if ((second & 0x80) != 0) {
+                    throw new IOException("Received a masked frame");
+                }
+                if (buffer.remaining() < headerLength + length) {
+                    return;
+                }
+                final byte[] payload = new byte[(int) length];
+                buffer.position(start + headerLength);
+                buffer.get(payload);
+                frameReceived(first & 0x0F, (first & 0x80) != 0, payload);
+            }
+        }
+
+        private boolean upgrade(ByteBuffer buffer) throws IOException {
+            for (int i = buffer.position(); i <= buffer.limit() - 4; i++) {
+                if (buffer.get(i) == '\r' && buffer.get(i + 1) == '\n' && buffer.get(i + 2) == '\r'
+                        && buffer.get(i + 3) == '\n') {
+                    final byte[] headers = new byte[i - buffer.position()];
+                    buffer.get(headers);
+                    buffer.position(i + 4);
+                    final String response = new String(headers, StandardCharsets.ISO_8859_1);
+                    if (!response.startsWith("HTTP/1.1 101")) {
+                        throw new IOException("WebSocket upgrade failed: " + response);
+                    }
+                    upgraded = true;
+                    restart();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void frameReceived(int opcode, boolean fin, byte[] payload) {
+            switch (opcode) {
+                case OPCODE_TEXT:
+                case OPCODE_CONTINUATION:
+                    message.write(payload, 0, payload.length);
+                    if (fin) {
+                        final String xml = new String(message.toByteArray(), StandardCharsets.UTF_8);
+                        message.reset();
+                        textReceived(xml);
+                    }
+                    break;
+                case OPCODE_PING:
+                    frame(OPCODE_PONG, payload);
+                    break;
+                case OPCODE_CLOSE:
+                    close(null);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void textReceived(String text) {
+            final String xml = text.trim();
+            if (xml.isEmpty()) {
+                // Whitespace keep-alive
+                return;
+            }
+            final String name = StanzaSplitter.localName(xml);
+            if ("open".equals(name)) {
+                // Nothing to do, the server sends its features next
+            }
+            else if ("close".equals(name)) {
+                close(null);
+            }
+            else {
+                element(xml);
+            }
+        }
+
+        @Override
+        protected void closed(IOException cause) {
+            disconnected(cause);
+        }
+    }
+}
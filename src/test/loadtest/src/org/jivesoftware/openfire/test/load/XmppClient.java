@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2016 Jive Software. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jivesoftware.openfire.test.load;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A simulated client that connects to the client port of the server (RFC 6120), without TLS.
+ */
+public class XmppClient extends SimulatedClient {
+
+    private final Channel channel;
+
+    public XmppClient(Reactor reactor, InetSocketAddress address, String domain, String username,
+            String password, boolean initialPresence, Listener listener) {
+        super(domain, username, password, initialPresence, listener);
+        channel = new Channel(reactor, address);
+    }
+
+    @Override
+    public void send(String xml) {
+        channel.write(xml);
+    }
+
+    @Override
+    public void logout() {
+        closing();
+        channel.write("</stream:stream>");
+        channel.close(null);
+    }
+
+    @Override
+    protected void open() {
+        channel.connect();
+    }
+
+    @Override
+    protected void restart() {
+        channel.splitter.reset();
+        channel.write(header());
+    }
+
+    @Override
+    protected void transmit(String xml) {
+        channel.write(xml);
+    }
+
+    private String header() {
+        return "<?xml version='1.0'?><stream:stream to='" + domain + "' xmlns='jabber:client' "
+                + "xmlns:stream='http://etherx.jabber.org/streams' version='1.0'>";
+    }
+
+    private class Channel extends NioChannel implements StanzaSplitter.Handler {
+
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        private final StanzaSplitter splitter = new StanzaSplitter(this);
+        private final CharBuffer chars = CharBuffer.allocate(4096);
+
+        Channel(Reactor reactor, InetSocketAddress address) {
+            super(reactor, address);
+        }
+
+        @Override
+        protected void connected() {
+            write(header());
+        }
+
+        @Override
+        protected void received(ByteBuffer buffer) throws IOException {
+            while (true) {
+                final CoderResult result = decoder.decode(buffer, chars, false);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                chars.flip();
+                splitter.parse(chars);
+                chars.clear();
+                if (!result.isOverflow()) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected void closed(IOException cause) {
+            disconnected(cause);
+        }
+
+        @Override
+        public void streamOpened(String header) {
+            // Nothing to do, the server sends its features next
+        }
+
+        @Override
+        public void element(String xml) {
+            XmppClient.this.element(xml);
+        }
+
+        @Override
+        public void streamClosed() {
+            close(null);
+        }
+    }
+}
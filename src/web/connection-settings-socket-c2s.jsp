@@ -3,6 +3,8 @@
 <%@ page import="org.jivesoftware.openfire.XMPPServer" %>
 <%@ page import="org.jivesoftware.openfire.spi.ConnectionType" %>
 <%@ page import="org.jivesoftware.openfire.spi.ConnectionListener" %>
+<%@ page import="org.jivesoftware.openfire.spi.EncryptionArtifactFactory" %>
+<%@ page import="org.jivesoftware.openfire.spi.TLSHandshakeStatistics" %>
 <%@ page import="org.jivesoftware.util.ParamUtils" %>
 <%@ page import="org.jivesoftware.util.CookieUtils" %>
 <%@ page import="org.jivesoftware.util.StringUtils" %>
@@ -59,6 +61,16 @@
         legacymodeListener.enable( legacymodeEnabled );
         legacymodeListener.setPort( legacymodeTcpPort );
 
+        // TLS session resumption
+        final int tlsCacheSize = ParamUtils.getIntParameter( request, "tls-cache-size", -1 );
+        final int tlsCacheTimeout = ParamUtils.getIntParameter( request, "tls-cache-timeout", -1 );
+        if ( tlsCacheSize >= 0 && tlsCacheTimeout >= 0 )
+        {
+            JiveGlobals.setProperty( connectionType.getPrefix() + EncryptionArtifactFactory.SESSION_CACHE_SIZE, String.valueOf( tlsCacheSize ) );
+            JiveGlobals.setProperty( connectionType.getPrefix() + EncryptionArtifactFactory.SESSION_CACHE_TIMEOUT, String.valueOf( tlsCacheTimeout ) );
+            EncryptionArtifactFactory.clearSSLContextCache();
+        }
+
         // Log the event
         webManager.logEvent( "Updated connection settings for " + connectionType, "plain: enabled=" + plaintextEnabled + ", port=" + plaintextTcpPort + "\nlegacy: enabled=" + legacymodeEnabled+ ", port=" + legacymodeTcpPort+ "\n" );
         response.sendRedirect( "connection-settings-socket-c2s.jsp?success=true" );
@@ -87,6 +99,12 @@
     pageContext.setAttribute( "legacymodeConfiguration", legacymodeConfiguration );
     pageContext.setAttribute( "clientIdle",              JiveGlobals.getIntProperty(     ConnectionSettings.Client.IDLE_TIMEOUT,    6*60*1000 ) );
     pageContext.setAttribute( "pingIdleClients",         JiveGlobals.getBooleanProperty( ConnectionSettings.Client.KEEP_ALIVE_PING, true) );
+    pageContext.setAttribute( "tlsCacheSize",            EncryptionArtifactFactory.getSessionCacheSize( connectionType ) );
+    pageContext.setAttribute( "tlsCacheTimeout",         EncryptionArtifactFactory.getSessionCacheTimeout( connectionType ) );
+    pageContext.setAttribute( "tlsFullHandshakes",       TLSHandshakeStatistics.getFullHandshakes( connectionType ) );
+    pageContext.setAttribute( "tlsFullCpuTime",          TLSHandshakeStatistics.getAverageCpuTime( connectionType, false ) );
+    pageContext.setAttribute( "tlsResumedHandshakes",    TLSHandshakeStatistics.getResumedHandshakes( connectionType ) );
+    pageContext.setAttribute( "tlsResumedCpuTime",       TLSHandshakeStatistics.getAverageCpuTime( connectionType, true ) );
 
 
 %>
@@ -182,6 +200,40 @@
 
     </admin:contentBox>
 
+    <!-- BEGIN 'TLS Session Resumption' -->
+    <fmt:message key="ssl.settings.resumption.boxtitle" var="resumptionboxtitle"/>
+    <admin:contentBox title="${resumptionboxtitle}">
+
+        <p><fmt:message key="ssl.settings.resumption.info"/></p>
+
+        <table cellpadding="3" cellspacing="0" border="0">
+            <tr valign="middle">
+                <td width="1%" nowrap><label for="tls-cache-size"><fmt:message key="ssl.settings.resumption.cache_size"/></label></td>
+                <td width="99%"><input type="text" name="tls-cache-size" id="tls-cache-size" size="7" maxlength="7" value="${tlsCacheSize}"/></td>
+            </tr>
+            <tr valign="middle">
+                <td width="1%" nowrap><label for="tls-cache-timeout"><fmt:message key="ssl.settings.resumption.cache_timeout"/></label></td>
+                <td width="99%"><input type="text" name="tls-cache-timeout" id="tls-cache-timeout" size="7" maxlength="7" value="${tlsCacheTimeout}"/> <fmt:message key="global.seconds" /></td>
+            </tr>
+            <tr valign="middle">
+                <td width="1%" nowrap><fmt:message key="ssl.settings.resumption.full"/></td>
+                <td width="99%">
+                    <fmt:formatNumber value="${tlsFullCpuTime}" maxFractionDigits="2" var="fullCpuTime"/>
+                    <fmt:message key="ssl.settings.resumption.handshakes"><fmt:param value="${tlsFullHandshakes}"/><fmt:param value="${fullCpuTime}"/></fmt:message>
+                </td>
+            </tr>
+            <tr valign="middle">
+                <td width="1%" nowrap><fmt:message key="ssl.settings.resumption.resumed"/></td>
+                <td width="99%">
+                    <fmt:formatNumber value="${tlsResumedCpuTime}" maxFractionDigits="2" var="resumedCpuTime"/>
+                    <fmt:message key="ssl.settings.resumption.handshakes"><fmt:param value="${tlsResumedHandshakes}"/><fmt:param value="${resumedCpuTime}"/></fmt:message>
+                </td>
+            </tr>
+        </table>
+
+    </admin:contentBox>
+    <!-- END 'TLS Session Resumption' -->
+
     <!-- BEGIN 'Idle Connection Policy' -->
     <fmt:message key="client.connections.settings.idle.title" var="idleTitle" />
     <admin:contentBox title="${idleTitle}">
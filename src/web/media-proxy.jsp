@@ -279,6 +279,9 @@
                 <th nowrap align="left" valign="middle">
                     <fmt:message key="mediaproxy.summary.session.inactivity"/>
                 </th>
+                <th nowrap align="left" valign="middle">
+                    <fmt:message key="mediaproxy.summary.session.relayed"/>
+                </th>
                 <th nowrap align="left" valign="middle">
                     <fmt:message key="mediaproxy.summary.session.type"/>
                 </th>
@@ -291,7 +294,7 @@
                 if (sessions.isEmpty()) {
             %>
             <tr>
-                <td align="center" colspan="7">
+                <td align="center" colspan="8">
                     <fmt:message key="mediaproxy.summary.session.noactive"/>
                 </td>
             </tr>
@@ -318,9 +321,12 @@
                 <td width="10%" align="left" valign="middle">
                     <%=proxySession.getLocalhost()%>
                 </td>
-                <td width="20%" align="left" valign="middle">
+                <td width="10%" align="left" valign="middle">
                     <%=(System.currentTimeMillis() - proxySession.getTimestamp()) / 1000%>
                 </td>
+                <td width="10%" align="left" valign="middle">
+                    <%=proxySession.getPacketsRelayed()%> / <%=proxySession.getBytesRelayed()%>
+                </td>
                 <td width="10%">
                     <% if (proxySession instanceof RelaySession) { %>
                     Smart Session
@@ -18,7 +18,7 @@
 --%>
 
 <%@ page import="org.jivesoftware.util.*,
-                 org.jivesoftware.openfire.muc.MUCRoom,
+                 org.jivesoftware.openfire.muc.spi.MUCRoomDirectory,
                  java.util.*,
                  java.net.URLEncoder"
     errorPage="error.jsp"
@@ -67,10 +67,10 @@
         webManager.setRowsPerPage("muc-room-summary", range);
     }
 
-    // Get the rooms in the server
-    List<MUCRoom> rooms = mucService.getChatRooms();
-    Collections.sort(rooms, new Comparator<MUCRoom>() {
-        public int compare(MUCRoom room1, MUCRoom room2) {
+    // Get the rooms in the server, without loading the rooms that are not in memory
+    List<MUCRoomDirectory.Entry> rooms = mucService.getChatRoomEntries();
+    Collections.sort(rooms, new Comparator<MUCRoomDirectory.Entry>() {
+        public int compare(MUCRoomDirectory.Entry room1, MUCRoomDirectory.Entry room2) {
             return room1.getName().toLowerCase().compareTo(room2.getName().toLowerCase());
         }
     });
@@ -170,7 +170,7 @@
 <tbody>
 
 <%  // Print the list of rooms
-    Iterator<MUCRoom> roomsPage = rooms.subList(start, maxRoomIndex).iterator();
+    Iterator<MUCRoomDirectory.Entry> roomsPage = rooms.subList(start, maxRoomIndex).iterator();
     if (!roomsPage.hasNext()) {
 %>
     <tr>
@@ -183,7 +183,8 @@
     }
     int i = start;
     while (roomsPage.hasNext()) {
-        MUCRoom room = roomsPage.next();
+        MUCRoomDirectory.Entry room = roomsPage.next();
+        String roomBareJID = new JID(room.getName(), mucService.getServiceDomain(), null).toBareJID();
         i++;
 %>
     <tr class="jive-<%= (((i%2)==0) ? "even" : "odd") %>">
@@ -192,12 +193,12 @@
         </td>
         <td width="45%" valign="middle">
             <% if (room.getName().equals(room.getNaturalLanguageName())) { %>
-                 <a href="muc-room-edit-form.jsp?roomJID=<%= URLEncoder.encode(room.getJID().toBareJID(), "UTF-8") %>"title="<fmt:message key="global.click_edit" />">
+                 <a href="muc-room-edit-form.jsp?roomJID=<%= URLEncoder.encode(roomBareJID, "UTF-8") %>"title="<fmt:message key="global.click_edit" />">
 	                 <%=  StringUtils.escapeHTMLTags(room.getName()) %>
 	             </a>
             <% }
                else { %>
-	            <a href="muc-room-edit-form.jsp?roomJID=<%= URLEncoder.encode(room.getJID().toBareJID(), "UTF-8") %>"title="<fmt:message key="global.click_edit" />">
+	            <a href="muc-room-edit-form.jsp?roomJID=<%= URLEncoder.encode(roomBareJID, "UTF-8") %>"title="<fmt:message key="global.click_edit" />">
                 <%= StringUtils.escapeHTMLTags(room.getNaturalLanguageName()) %> (<%=  StringUtils.escapeHTMLTags(room.getName()) %>)
 	            </a>
             <% } %>
@@ -221,12 +222,12 @@
             <nobr><%= room.getOccupantsCount() %> / <%= room.getMaxUsers() %></nobr>
         </td>
         <td width="1%" align="center">
-            <a href="muc-room-edit-form.jsp?roomJID=<%= URLEncoder.encode(room.getJID().toBareJID(), "UTF-8") %>"
+            <a href="muc-room-edit-form.jsp?roomJID=<%= URLEncoder.encode(roomBareJID, "UTF-8") %>"
              title="<fmt:message key="global.click_edit" />"
              ><img src="images/edit-16x16.gif" width="17" height="17" border="0" alt=""></a>
         </td>
         <td width="1%" align="center" style="border-right:1px #ccc solid;">
-            <a href="muc-room-delete.jsp?roomJID=<%= URLEncoder.encode(room.getJID().toBareJID(), "UTF-8") %>"
+            <a href="muc-room-delete.jsp?roomJID=<%= URLEncoder.encode(roomBareJID, "UTF-8") %>"
              title="<fmt:message key="global.click_delete" />"
              ><img src="images/delete-16x16.gif" width="16" height="16" border="0" alt=""></a>
         </td>
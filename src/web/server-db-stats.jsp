@@ -21,10 +21,15 @@
     errorPage="error.jsp"
 %>
 <%@ page import="org.jivesoftware.database.DbConnectionManager"%>
+<%@ page import="org.jivesoftware.database.ConnectionProvider"%>
+<%@ page import="org.jivesoftware.database.PooledConnectionProvider"%>
+<%@ page import="org.jivesoftware.util.LatencyHistogram"%>
+<%@ page import="java.util.*"%>
 <%@ page import="org.jivesoftware.util.JiveGlobals"%>
 <%@ page import="org.jivesoftware.database.ProfiledConnection"%>
 <%@ page import="org.jivesoftware.database.ProfiledConnectionEntry"%>
 <%@ page import="org.jivesoftware.util.ParamUtils"%>
+<%@ page import="org.jivesoftware.util.StringUtils"%>
 <%@ page import="org.jivesoftware.util.LocaleUtils"%>
 
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
@@ -49,9 +54,16 @@
     // Var for the alternating colors
     int rowColor = 0;
 
+    ConnectionProvider provider = DbConnectionManager.getConnectionProvider();
+    final PooledConnectionProvider pooledProvider = provider instanceof PooledConnectionProvider ?
+            (PooledConnectionProvider) provider : null;
+
     // Clear the statistics
     if (doClear) {
         ProfiledConnection.resetStatistics();
+        if (pooledProvider != null) {
+            pooledProvider.resetStatistics();
+        }
         // Reload the page without params.
         response.sendRedirect("server-db-stats.jsp");
     }
@@ -428,5 +440,87 @@
 
 <% } %>
 
+<%  if (pooledProvider != null) {
+        List<Map.Entry<String, LatencyHistogram>> statements =
+                new ArrayList<Map.Entry<String, LatencyHistogram>>(pooledProvider.getStatementTimes().entrySet());
+        final boolean sortByTime = doSortByTime;
+        Collections.sort(statements, new Comparator<Map.Entry<String, LatencyHistogram>>() {
+            public int compare(Map.Entry<String, LatencyHistogram> e1, Map.Entry<String, LatencyHistogram> e2) {
+                if (sortByTime) {
+                    return Double.compare(e2.getValue().getPercentile(99), e1.getValue().getPercentile(99));
+                }
+                return Long.compare(e2.getValue().getCount(), e1.getValue().getCount());
+            }
+        });
+        LatencyHistogram waitTime = pooledProvider.getWaitTime();
+%>
+    <br>
+    <b><fmt:message key="server.db_stats.pool" /></b>
+
+    <ul>
+
+    <form action="server-db-stats.jsp">
+        <input type="submit" name="doClear" value="<fmt:message key="server.db_stats.clear_stats" />">
+    </form>
+
+    <table bgcolor="#aaaaaa" cellpadding="0" cellspacing="0" border="0" width="600">
+    <tr><td>
+    <table bgcolor="#aaaaaa" cellpadding="3" cellspacing="1" border="0" width="100%">
+    <tr bgcolor="#ffffff">
+        <td><fmt:message key="server.db_stats.pool.connections" /></td>
+        <td><%= pooledProvider.getOpenConnections() %> (<%= pooledProvider.getActiveConnections() %>)</td>
+    </tr>
+    <tr bgcolor="#ffffff">
+        <td><fmt:message key="server.db_stats.pool.waiting" /></td>
+        <td><%= pooledProvider.getWaitingThreads() %></td>
+    </tr>
+    <tr bgcolor="#ffffff">
+        <td><fmt:message key="server.db_stats.pool.wait_time" /></td>
+        <td><%= decFormat.format(waitTime.getPercentile(50)) %> / <%= decFormat.format(waitTime.getPercentile(99)) %></td>
+    </tr>
+    <tr bgcolor="#ffffff">
+        <td><fmt:message key="server.db_stats.pool.statements" /></td>
+        <td><%= intFormat.format(pooledProvider.getStatementsPrepared() + pooledProvider.getStatementsReused()) %>
+            (<%= intFormat.format(pooledProvider.getStatementsReused()) %>)</td>
+    </tr>
+    </table>
+    </td></tr>
+    </table>
+
+    <br />
+
+    <table bgcolor="#aaaaaa" cellpadding="0" cellspacing="0" border="0" width="600">
+    <tr><td>
+    <table bgcolor="#aaaaaa" cellpadding="3" cellspacing="1" border="0" width="100%">
+    <tr bgcolor="#ffffff">
+        <td align="middle"><b><fmt:message key="server.db_stats.query" /></b></td>
+        <td><b><a href="server-db-stats.jsp?doSortByTime=false&refresh=<%= refresh %>"><fmt:message key="server.db_stats.count" /></a></b></td>
+        <td nowrap><b><fmt:message key="server.db_stats.pool.median" /></b></td>
+        <td nowrap><b><a href="server-db-stats.jsp?doSortByTime=true&refresh=<%= refresh %>"><fmt:message key="server.db_stats.pool.p99" /></a></b></td>
+    </tr>
+<%      if (statements.isEmpty()) { %>
+    <tr bgcolor="#ffffff">
+        <td colspan="4"><fmt:message key="server.db_stats.no_queries" /></td>
+    </tr>
+<%      }
+        for (int i = 0; i < Math.min(20, statements.size()); i++) {
+            Map.Entry<String, LatencyHistogram> entry = statements.get(i);
+            String color = (rowColor++ % 2 == 0) ? "#efefef" : "#ffffff";
+%>
+    <tr bgcolor="<%= color %>">
+        <td><%= StringUtils.escapeHTMLTags(entry.getKey()) %></td>
+        <td><%= intFormat.format(entry.getValue().getCount()) %></td>
+        <td><%= decFormat.format(entry.getValue().getPercentile(50)) %></td>
+        <td><%= decFormat.format(entry.getValue().getPercentile(99)) %></td>
+    </tr>
+<%      } %>
+    </table>
+    </td></tr>
+    </table>
+
+    </ul>
+
+<% } %>
+
 
 </body></html>
@@ -19,6 +19,7 @@
 
 <%@ page import="org.jivesoftware.openfire.PresenceManager,
                  org.jivesoftware.openfire.SessionManager,
+                 org.jivesoftware.openfire.nio.NIOConnection,
                  org.jivesoftware.openfire.session.ClientSession,
                  org.jivesoftware.openfire.session.LocalClientSession,
                  org.jivesoftware.openfire.user.User,
@@ -304,6 +305,20 @@
             <% } %>
         </td>
     </tr>
+    <%  if (currentSess instanceof LocalClientSession
+                && ((LocalClientSession) currentSess).getConnection() instanceof NIOConnection
+                && ((LocalClientSession) currentSess).getConnection().isCompressed()) {
+            NIOConnection connection = (NIOConnection) ((LocalClientSession) currentSess).getConnection();
+    %>
+    <tr>
+        <td class="c1">
+            <fmt:message key="session.details.compression" />
+        </td>
+        <td>
+            <%= numFormatter.format(Math.round(connection.getCompressionRatio() * 100)) %>%
+        </td>
+    </tr>
+    <%  } %>
 </tbody>
 </table>
 </div>
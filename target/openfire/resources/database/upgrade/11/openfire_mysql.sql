@@ -0,0 +1,11 @@
+# $Revision:  $
+# $Date:  $
+
+CREATE TABLE jivePresence (
+  username              VARCHAR(64)     NOT NULL,
+  offlinePresence       TEXT,
+  offlineDate           CHAR(15)     NOT NULL,
+  PRIMARY KEY (username)
+);
+
+UPDATE jiveVersion set version=11 where name = 'openfire';
\ No newline at end of file
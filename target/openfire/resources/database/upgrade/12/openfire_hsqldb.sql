@@ -0,0 +1,3 @@
+ALTER TABLE mucConversationLog ALTER COLUMN time RENAME TO logTime;
+
+UPDATE jiveVersion set version=12 where name = 'openfire';
\ No newline at end of file
@@ -0,0 +1,6 @@
+# $Revision:  $
+# $Date:  $
+
+ALTER TABLE mucConversationLog CHANGE time logTime CHAR(15) NOT NULL;
+
+UPDATE jiveVersion set version=12 where name = 'openfire';
\ No newline at end of file
@@ -0,0 +1,7 @@
+-- add wildcard column to ofExtComponentConf
+ALTER TABLE ofExtComponentConf ADD wildcard INTEGER DEFAULT 0 NOT NULL;
+
+-- Update version
+UPDATE ofVersion SET version = 20 WHERE name = 'openfire';
+
+COMMIT;
\ No newline at end of file
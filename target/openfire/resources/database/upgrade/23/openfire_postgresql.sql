@@ -0,0 +1,2 @@
+ALTER TABLE ofMucRoom ADD COLUMN allowpm INTEGER NULL;
+UPDATE ofVersion SET version = 23 WHERE name = 'openfire';
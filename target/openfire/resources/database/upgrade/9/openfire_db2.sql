@@ -0,0 +1,4 @@
+-- $Revision:  $
+-- $Date:  $
+
+UPDATE jiveVersion set version=9 where name = 'openfire';
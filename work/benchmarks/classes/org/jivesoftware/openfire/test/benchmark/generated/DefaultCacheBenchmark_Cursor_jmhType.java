@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class DefaultCacheBenchmark_Cursor_jmhType extends DefaultCacheBenchmark_Cursor_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class MediaProxyBenchmark_jmhType extends MediaProxyBenchmark_jmhType_B3 {
+}
+
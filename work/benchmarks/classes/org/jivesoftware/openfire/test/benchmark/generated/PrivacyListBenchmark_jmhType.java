@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class PrivacyListBenchmark_jmhType extends PrivacyListBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class RoutingTableBenchmark_jmhType extends RoutingTableBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class SharedRosterBenchmark_Heap_jmhType extends SharedRosterBenchmark_Heap_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class SharedRosterBenchmark_jmhType extends SharedRosterBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class StringUtilsBenchmark_jmhType extends StringUtilsBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class SystemPropertyBenchmark_jmhType extends SystemPropertyBenchmark_jmhType_B3 {
+}
+
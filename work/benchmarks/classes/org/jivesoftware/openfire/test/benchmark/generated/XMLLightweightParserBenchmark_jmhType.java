@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class XMLLightweightParserBenchmark_jmhType extends XMLLightweightParserBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class XMLWriterBenchmark_jmhType extends XMLWriterBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class XMPPDateTimeFormatBenchmark_jmhType extends XMPPDateTimeFormatBenchmark_jmhType_B3 {
+}
+
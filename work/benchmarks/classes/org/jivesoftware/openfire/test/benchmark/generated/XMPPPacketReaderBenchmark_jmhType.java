@@ -0,0 +1,4 @@
+package org.jivesoftware.openfire.test.benchmark.generated;
+public class XMPPPacketReaderBenchmark_jmhType extends XMPPPacketReaderBenchmark_jmhType_B3 {
+}
+
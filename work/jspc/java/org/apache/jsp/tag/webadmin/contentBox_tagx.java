@@ -0,0 +1,126 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:41:43 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.apache.jsp.tag.webadmin;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+
+public final class contentBox_tagx
+    extends javax.servlet.jsp.tagext.SimpleTagSupport
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private javax.servlet.jsp.JspContext jspContext;
+  private java.io.Writer _jspx_sout;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fc_005fout_0026_005fvalue_005fnobody;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public void setJspContext(javax.servlet.jsp.JspContext ctx) {
+    super.setJspContext(ctx);
+    java.util.ArrayList _jspx_nested = null;
+    java.util.ArrayList _jspx_at_begin = null;
+    java.util.ArrayList _jspx_at_end = null;
+    this.jspContext = new org.apache.jasper.runtime.JspContextWrapper(ctx, _jspx_nested, _jspx_at_begin, _jspx_at_end, null);
+  }
+
+  public javax.servlet.jsp.JspContext getJspContext() {
+    return this.jspContext;
+  }
+  private java.lang.String title;
+
+  public java.lang.String getTitle() {
+    return this.title;
+  }
+
+  public void setTitle(java.lang.String title) {
+    this.title = title;
+    jspContext.setAttribute("title", title);
+  }
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  private void _jspInit(javax.servlet.ServletConfig config) {
+    _005fjspx_005ftagPool_005fc_005fout_0026_005fvalue_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(config);
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(config.getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(config);
+  }
+
+  public void _jspDestroy() {
+    _005fjspx_005ftagPool_005fc_005fout_0026_005fvalue_005fnobody.release();
+  }
+
+  public void doTag() throws javax.servlet.jsp.JspException, java.io.IOException {
+    javax.servlet.jsp.PageContext _jspx_page_context = (javax.servlet.jsp.PageContext)jspContext;
+    javax.servlet.http.HttpServletRequest request = (javax.servlet.http.HttpServletRequest) _jspx_page_context.getRequest();
+    javax.servlet.http.HttpServletResponse response = (javax.servlet.http.HttpServletResponse) _jspx_page_context.getResponse();
+    javax.servlet.http.HttpSession session = _jspx_page_context.getSession();
+    javax.servlet.ServletContext application = _jspx_page_context.getServletContext();
+    javax.servlet.ServletConfig config = _jspx_page_context.getServletConfig();
+    javax.servlet.jsp.JspWriter out = jspContext.getOut();
+    _jspInit(config);
+    jspContext.getELContext().putContext(javax.servlet.jsp.JspContext.class,jspContext);
+    if( getTitle() != null ) 
+      _jspx_page_context.setAttribute("title", getTitle());
+
+    try {
+      out.write("<div class=\"jive-contentBoxHeader\">");
+      if (_jspx_meth_c_005fout_005f0(_jspx_page_context))
+        return;
+      out.write("</div>");
+      out.write("<div class=\"jive-contentBox\">");
+      ((org.apache.jasper.runtime.JspContextWrapper) this.jspContext).syncBeforeInvoke();
+      _jspx_sout = null;
+      if (getJspBody() != null)
+        getJspBody().invoke(_jspx_sout);
+      jspContext.getELContext().putContext(javax.servlet.jsp.JspContext.class,getJspContext());
+      out.write("</div>");
+    } catch( java.lang.Throwable t ) {
+      if( t instanceof javax.servlet.jsp.SkipPageException )
+          throw (javax.servlet.jsp.SkipPageException) t;
+      if( t instanceof java.io.IOException )
+          throw (java.io.IOException) t;
+      if( t instanceof java.lang.IllegalStateException )
+          throw (java.lang.IllegalStateException) t;
+      if( t instanceof javax.servlet.jsp.JspException )
+          throw (javax.servlet.jsp.JspException) t;
+      throw new javax.servlet.jsp.JspException(t);
+    } finally {
+      jspContext.getELContext().putContext(javax.servlet.jsp.JspContext.class,super.getJspContext());
+      ((org.apache.jasper.runtime.JspContextWrapper) jspContext).syncEndTagFile();
+      _jspDestroy();
+    }
+  }
+
+  private boolean _jspx_meth_c_005fout_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  c:out
+    org.apache.taglibs.standard.tag.rt.core.OutTag _jspx_th_c_005fout_005f0 = (org.apache.taglibs.standard.tag.rt.core.OutTag) _005fjspx_005ftagPool_005fc_005fout_0026_005fvalue_005fnobody.get(org.apache.taglibs.standard.tag.rt.core.OutTag.class);
+    _jspx_th_c_005fout_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_c_005fout_005f0.setParent(new javax.servlet.jsp.tagext.TagAdapter((javax.servlet.jsp.tagext.SimpleTag) this ));    // /WEB-INF/tags/admin/contentBox.tagx(8,35) name = value type = null reqTime = true required = true fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_c_005fout_005f0.setValue((java.lang.Object) org.apache.jasper.runtime.PageContextImpl.proprietaryEvaluate("${title}", java.lang.Object.class, (javax.servlet.jsp.PageContext)this.getJspContext(), null));
+    int _jspx_eval_c_005fout_005f0 = _jspx_th_c_005fout_005f0.doStartTag();
+    if (_jspx_th_c_005fout_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fc_005fout_0026_005fvalue_005fnobody.reuse(_jspx_th_c_005fout_005f0);
+      throw new javax.servlet.jsp.SkipPageException();
+    }
+    _005fjspx_005ftagPool_005fc_005fout_0026_005fvalue_005fnobody.reuse(_jspx_th_c_005fout_005f0);
+    return false;
+  }
+}
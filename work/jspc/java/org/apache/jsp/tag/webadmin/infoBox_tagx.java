@@ -0,0 +1,112 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:41:42 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.apache.jsp.tag.webadmin;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+
+public final class infoBox_tagx
+    extends javax.servlet.jsp.tagext.SimpleTagSupport
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private javax.servlet.jsp.JspContext jspContext;
+  private java.io.Writer _jspx_sout;
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public void setJspContext(javax.servlet.jsp.JspContext ctx) {
+    super.setJspContext(ctx);
+    java.util.ArrayList _jspx_nested = null;
+    java.util.ArrayList _jspx_at_begin = null;
+    java.util.ArrayList _jspx_at_end = null;
+    this.jspContext = new org.apache.jasper.runtime.JspContextWrapper(ctx, _jspx_nested, _jspx_at_begin, _jspx_at_end, null);
+  }
+
+  public javax.servlet.jsp.JspContext getJspContext() {
+    return this.jspContext;
+  }
+  private java.lang.String type;
+
+  public java.lang.String getType() {
+    return this.type;
+  }
+
+  public void setType(java.lang.String type) {
+    this.type = type;
+    jspContext.setAttribute("type", type);
+  }
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  private void _jspInit(javax.servlet.ServletConfig config) {
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(config.getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(config);
+  }
+
+  public void _jspDestroy() {
+  }
+
+  public void doTag() throws javax.servlet.jsp.JspException, java.io.IOException {
+    javax.servlet.jsp.PageContext _jspx_page_context = (javax.servlet.jsp.PageContext)jspContext;
+    javax.servlet.http.HttpServletRequest request = (javax.servlet.http.HttpServletRequest) _jspx_page_context.getRequest();
+    javax.servlet.http.HttpServletResponse response = (javax.servlet.http.HttpServletResponse) _jspx_page_context.getResponse();
+    javax.servlet.http.HttpSession session = _jspx_page_context.getSession();
+    javax.servlet.ServletContext application = _jspx_page_context.getServletContext();
+    javax.servlet.ServletConfig config = _jspx_page_context.getServletConfig();
+    javax.servlet.jsp.JspWriter out = jspContext.getOut();
+    _jspInit(config);
+    jspContext.getELContext().putContext(javax.servlet.jsp.JspContext.class,jspContext);
+    if( getType() != null ) 
+      _jspx_page_context.setAttribute("type", getType());
+
+    try {
+      out.write("<div class=\"" + (java.lang.String) org.apache.jasper.runtime.PageContextImpl.proprietaryEvaluate("jive-${type}", java.lang.String.class, (javax.servlet.jsp.PageContext)this.getJspContext(), null) + "\">");
+      out.write("<table border=\"0\" cellspacing=\"0\" cellpadding=\"0\">");
+      out.write("<tbody>");
+      out.write("<tr>");
+      out.write("<td class=\"jive-icon\">");
+      out.write("<img alt=\"\" border=\"0\" height=\"16\" width=\"16\" src=\"" + (java.lang.String) org.apache.jasper.runtime.PageContextImpl.proprietaryEvaluate("images/${type}-16x16.gif", java.lang.String.class, (javax.servlet.jsp.PageContext)this.getJspContext(), null) + "\"/>");
+      out.write("</td>");
+      out.write("<td class=\"jive-icon-label\">");
+      ((org.apache.jasper.runtime.JspContextWrapper) this.jspContext).syncBeforeInvoke();
+      _jspx_sout = null;
+      if (getJspBody() != null)
+        getJspBody().invoke(_jspx_sout);
+      jspContext.getELContext().putContext(javax.servlet.jsp.JspContext.class,getJspContext());
+      out.write("</td>");
+      out.write("</tr>");
+      out.write("</tbody>");
+      out.write("</table>");
+      out.write("</div>");
+      out.write("<br/>");
+    } catch( java.lang.Throwable t ) {
+      if( t instanceof javax.servlet.jsp.SkipPageException )
+          throw (javax.servlet.jsp.SkipPageException) t;
+      if( t instanceof java.io.IOException )
+          throw (java.io.IOException) t;
+      if( t instanceof java.lang.IllegalStateException )
+          throw (java.lang.IllegalStateException) t;
+      if( t instanceof javax.servlet.jsp.JspException )
+          throw (javax.servlet.jsp.JspException) t;
+      throw new javax.servlet.jsp.JspException(t);
+    } finally {
+      jspContext.getELContext().putContext(javax.servlet.jsp.JspContext.class,super.getJspContext());
+      ((org.apache.jasper.runtime.JspContextWrapper) jspContext).syncEndTagFile();
+    }
+  }
+}
@@ -0,0 +1,886 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:41:44 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.jivesoftware.openfire.admin;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import org.jivesoftware.util.ParamUtils;
+import org.jivesoftware.util.CookieUtils;
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.audit.AuditManager;
+import org.jivesoftware.openfire.user.UserNotFoundException;
+import org.jivesoftware.util.StringUtils;
+import org.xmpp.packet.JID;
+import java.io.File;
+import java.util.*;
+
+public final class audit_002dpolicy_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspInit() {
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(getServletConfig().getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(getServletConfig());
+  }
+
+  public void _jspDestroy() {
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.release();
+  }
+
+  public void _jspService(final javax.servlet.http.HttpServletRequest request, final javax.servlet.http.HttpServletResponse response)
+        throws java.io.IOException, javax.servlet.ServletException {
+
+    final javax.servlet.jsp.PageContext pageContext;
+    javax.servlet.http.HttpSession session = null;
+    final javax.servlet.ServletContext application;
+    final javax.servlet.ServletConfig config;
+    javax.servlet.jsp.JspWriter out = null;
+    final java.lang.Object page = this;
+    javax.servlet.jsp.JspWriter _jspx_out = null;
+    javax.servlet.jsp.PageContext _jspx_page_context = null;
+
+
+    try {
+      response.setContentType("text/html");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			"error.jsp", true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+
+      out.write("\n\n\n\n\n\n\n");
+      org.jivesoftware.util.WebManager webManager = null;
+      webManager = (org.jivesoftware.util.WebManager) _jspx_page_context.getAttribute("webManager", javax.servlet.jsp.PageContext.PAGE_SCOPE);
+      if (webManager == null){
+        webManager = new org.jivesoftware.util.WebManager();
+        _jspx_page_context.setAttribute("webManager", webManager, javax.servlet.jsp.PageContext.PAGE_SCOPE);
+      }
+      out.write('\n');
+ webManager.init(request, response, session, application, out ); 
+      out.write("\n\n<html>\n<head>\n<title>");
+      if (_jspx_meth_fmt_005fmessage_005f0(_jspx_page_context))
+        return;
+      out.write("</title>\n<meta name=\"pageID\" content=\"server-audit-policy\"/>\n<meta name=\"helpPage\" content=\"set_server_traffic_auditing_policy.html\"/>\n</head>\n<body>\n\n\n\n");
+   // Get parameters:
+    boolean update = request.getParameter("update") != null;
+    boolean auditEnabled = ParamUtils.getBooleanParameter(request,"auditEnabled");
+    boolean auditMessages = ParamUtils.getBooleanParameter(request,"auditMessages");
+    boolean auditPresence = ParamUtils.getBooleanParameter(request,"auditPresence");
+    boolean auditIQ = ParamUtils.getBooleanParameter(request,"auditIQ");
+    String maxTotalSize = ParamUtils.getParameter(request,"maxTotalSize");
+    String maxFileSize = ParamUtils.getParameter(request,"maxFileSize");
+    String maxDays = ParamUtils.getParameter(request,"maxDays");
+    String logTimeout = ParamUtils.getParameter(request,"logTimeout");
+    String logDir = ParamUtils.getParameter(request,"logDir");
+    String ignore = ParamUtils.getParameter(request,"ignore");
+
+
+    // Get an audit manager:
+    AuditManager auditManager = XMPPServer.getInstance().getAuditManager();
+
+    Map<String,String> errors = new HashMap<String,String>();
+    Cookie csrfCookie = CookieUtils.getCookie(request, "csrf");
+    String csrfParam = ParamUtils.getParameter(request, "csrf");
+
+    if (update) {
+        if (csrfCookie == null || csrfParam == null || !csrfCookie.getValue().equals(csrfParam)) {
+            update = false;
+            errors.put("csrf", "CSRF Failure!");
+        }
+    }
+    csrfParam = StringUtils.randomString(15);
+    CookieUtils.setCookie(request, response, "csrf", csrfParam, -1);
+    pageContext.setAttribute("csrf", csrfParam);
+    if (update) {
+        auditManager.setEnabled(auditEnabled);
+        auditManager.setAuditMessage(auditMessages);
+        auditManager.setAuditPresence(auditPresence);
+        auditManager.setAuditIQ(auditIQ);
+        /*
+        auditManager.setAuditXPath(auditXPath);
+        if (newXpathQuery != null) {
+            auditManager.addXPath(newXpathQuery);
+        }
+        for (int i=0; i<xpathQuery.length; i++) {
+            auditManager.removeXPath(xpathQuery[i]);
+        }
+        */
+        try {
+            auditManager.setMaxTotalSize(Integer.parseInt(maxTotalSize));
+        } catch (Exception e){
+            errors.put("maxTotalSize","maxTotalSize");
+        }
+        try {
+            auditManager.setMaxFileSize(Integer.parseInt(maxFileSize));
+        } catch (Exception e){
+            errors.put("maxFileSize","maxFileSize");
+        }
+        try {
+            auditManager.setMaxDays(Integer.parseInt(maxDays));
+        } catch (Exception e){
+            errors.put("maxDays","maxDays");
+        }
+        try {
+            auditManager.setLogTimeout(Integer.parseInt(logTimeout) * 1000);
+        } catch (Exception e){
+            errors.put("logTimeout","logTimeout");
+        }
+        if (logDir == null || logDir.trim().length() == 0) {
+            errors.put("logDir","logDir");
+        }
+        else {
+            if (new File(logDir).isDirectory()) {
+                auditManager.setLogDir(logDir);
+            }
+            else {
+                errors.put("logDir","logDir");
+            }
+        }
+        if (errors.size() == 0){
+            if (ignore == null){
+                // remove all ignored users
+                auditManager.setIgnoreList(new ArrayList<String>());
+            }
+            else {
+                // Set the new ignore list
+                Collection<String> newIgnoreList = new HashSet<String>(ignore.length());
+                StringTokenizer tokenizer = new StringTokenizer(ignore, ", \t\n\r\f");
+                while (tokenizer.hasMoreTokens()) {
+                    String tok = tokenizer.nextToken();
+                    String username = tok;
+                    if (tok.contains("@")) {
+                        if (tok.contains("@" + webManager.getServerInfo().getXMPPDomain())) {
+                           username = new JID(tok).getNode();
+                        }
+                        else {
+                            // Skip this JID since it belongs to a remote server
+                            continue;
+                        }
+                    }
+                    try {
+                        webManager.getUserManager().getUser(username);
+                        newIgnoreList.add(username);
+                    }
+                    catch (UserNotFoundException e){
+                    }
+                }
+                auditManager.setIgnoreList(newIgnoreList);
+            }
+            // Log the event
+            // TODO: Should probably log more here
+            webManager.logEvent("updated stanza audit policy", null);
+        // All done, redirect
+        
+      out.write("\n\n    <div class=\"jive-success\">\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\">\n    <tbody>\n        <tr><td class=\"jive-icon\"><img src=\"images/success-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"\"></td>\n        <td class=\"jive-icon-label\">\n        ");
+      if (_jspx_meth_fmt_005fmessage_005f1(_jspx_page_context))
+        return;
+      out.write("\n        </td></tr>\n    </tbody>\n    </table>\n    </div><br>\n\n        ");
+
+        }
+    }
+
+    // Set page vars
+    if (errors.size() == 0) {
+        auditEnabled = auditManager.isEnabled();
+        auditMessages = auditManager.isAuditMessage();
+        auditPresence = auditManager.isAuditPresence();
+        auditIQ = auditManager.isAuditIQ();
+        maxTotalSize = Integer.toString(auditManager.getMaxTotalSize());
+        maxFileSize = Integer.toString(auditManager.getMaxFileSize());
+        maxDays = Integer.toString(auditManager.getMaxDays());
+        logTimeout = Integer.toString(auditManager.getLogTimeout() / 1000);
+        logDir = auditManager.getLogDir();
+        StringBuilder ignoreList = new StringBuilder();
+        for (String username : auditManager.getIgnoreList()) {
+            if (ignoreList.length() == 0) {
+                ignoreList.append(username);
+            }
+            else {
+                ignoreList.append(", ").append(username);
+            }
+        }
+        ignore = ignoreList.toString();
+    }
+
+      out.write("\n\n<p>\n");
+      if (_jspx_meth_fmt_005fmessage_005f2(_jspx_page_context))
+        return;
+      out.write('\n');
+      if (_jspx_meth_fmt_005fmessage_005f3(_jspx_page_context))
+        return;
+      out.write("\n</p>\n\n<!-- BEGIN 'Set Message Audit Policy' -->\n<form action=\"audit-policy.jsp\" name=\"f\">\n    <input type=\"hidden\" name=\"csrf\" value=\"");
+      out.write((java.lang.String) org.apache.jasper.runtime.PageContextImpl.proprietaryEvaluate("${csrf}", java.lang.String.class, (javax.servlet.jsp.PageContext)_jspx_page_context, null));
+      out.write("\">\n\t<div class=\"jive-contentBoxHeader\">\n\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f4(_jspx_page_context))
+        return;
+      out.write("\n\t</div>\n\t<div class=\"jive-contentBox\">\n\t\t<table cellpadding=\"3\" cellspacing=\"0\" border=\"0\">\n\t\t<tbody>\n\t\t\t<tr valign=\"middle\">\n\t\t\t\t<td width=\"1%\" nowrap>\n\t\t\t\t\t<input type=\"radio\" name=\"auditEnabled\" value=\"false\" id=\"rb01\"\n\t\t\t\t\t ");
+      out.print( (!auditEnabled ? "checked" : "") );
+      out.write(">\n\t\t\t\t</td>\n\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t<label for=\"rb01\">\n\t\t\t\t\t<b>");
+      if (_jspx_meth_fmt_005fmessage_005f5(_jspx_page_context))
+        return;
+      out.write("</b> ");
+      if (_jspx_meth_fmt_005fmessage_005f6(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t</label>\n\t\t\t\t</td>\n\t\t\t</tr>\n\t\t\t<tr valign=\"middle\">\n\t\t\t\t<td width=\"1%\" nowrap>\n\t\t\t\t\t<input type=\"radio\" name=\"auditEnabled\" value=\"true\" id=\"rb02\"\n\t\t\t\t\t ");
+      out.print( (auditEnabled ? "checked" : "") );
+      out.write(">\n\t\t\t\t</td>\n\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t<label for=\"rb02\">\n\t\t\t\t\t<b>");
+      if (_jspx_meth_fmt_005fmessage_005f7(_jspx_page_context))
+        return;
+      out.write("</b> ");
+      if (_jspx_meth_fmt_005fmessage_005f8(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t</label>\n\t\t\t\t</td>\n\t\t\t</tr>\n\t\t\t<tr valign=\"top\">\n\t\t\t\t<td width=\"1%\" nowrap>\n\t\t\t\t\t&nbsp;\n\t\t\t\t</td>\n\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t<table cellpadding=\"3\" cellspacing=\"0\" border=\"0\">\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f9(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t<input type=\"text\" size=\"50\" maxlength=\"150\" name=\"logDir\"\n\t\t\t\t\t\t\t value=\"");
+      out.print( ((logDir != null) ? StringUtils.escapeForXML(logDir) : "") );
+      out.write("\">\n\n\t\t\t\t\t\t");
+  if (errors.get("logDir") != null) { 
+      out.write("\n\n\t\t\t\t\t\t\t<span class=\"jive-error-text\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f10(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t\t</span>\n\n\t\t\t\t\t\t");
+  } 
+      out.write("\n\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f11(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t<input type=\"text\" size=\"15\" maxlength=\"50\" name=\"maxTotalSize\"\n\t\t\t\t\t\t\t value=\"");
+      out.print( ((maxTotalSize != null) ? StringUtils.escapeForXML(maxTotalSize) : "") );
+      out.write("\">\n\n\t\t\t\t\t\t");
+  if (errors.get("maxTotalSize") != null) { 
+      out.write("\n\n\t\t\t\t\t\t\t<span class=\"jive-error-text\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f12(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t\t</span>\n\n\t\t\t\t\t\t");
+  } 
+      out.write("\n\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f13(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t<input type=\"text\" size=\"15\" maxlength=\"50\" name=\"maxFileSize\"\n\t\t\t\t\t\t\t value=\"");
+      out.print( ((maxFileSize != null) ? StringUtils.escapeForXML(maxFileSize) : "") );
+      out.write("\">\n\n\t\t\t\t\t\t");
+  if (errors.get("maxFileSize") != null) { 
+      out.write("\n\n\t\t\t\t\t\t\t<span class=\"jive-error-text\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f14(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t\t</span>\n\n\t\t\t\t\t\t");
+  } 
+      out.write("\n\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f15(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t<input type=\"text\" size=\"15\" maxlength=\"50\" name=\"maxDays\"\n\t\t\t\t\t\t\t value=\"");
+      out.print( ((maxDays != null) ? StringUtils.escapeForXML(maxDays) : "") );
+      out.write("\">\n\n\t\t\t\t\t\t\t");
+  if (errors.get("maxDays") != null) { 
+      out.write("\n\n\t\t\t\t\t\t\t\t<span class=\"jive-error-text\">\n\t\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f16(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t\t\t</span>\n\n\t\t\t\t\t\t\t");
+  } 
+      out.write("\n\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f17(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t<input type=\"text\" size=\"15\" maxlength=\"50\" name=\"logTimeout\"\n\t\t\t\t\t\t\t value=\"");
+      out.print( ((logTimeout != null) ? StringUtils.escapeForXML(logTimeout) : "") );
+      out.write("\">\n\n\t\t\t\t\t\t");
+  if (errors.get("logTimeout") != null) { 
+      out.write("\n\n\t\t\t\t\t\t\t<span class=\"jive-error-text\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f18(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t\t</span>\n\n\t\t\t\t\t\t");
+  } 
+      out.write("\n\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f19(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\n\t\t\t\t\t\t\t<table cellpadding=\"4\" cellspacing=\"0\" border=\"0\" width=\"100%\">\n\t\t\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t\t\t<td width=\"1%\" nowrap>\n\t\t\t\t\t\t\t\t\t<input type=\"checkbox\" name=\"auditMessages\" id=\"cb01\"\n\t\t\t\t\t\t\t\t\t onclick=\"this.form.auditEnabled[1].checked=true;\"\n\t\t\t\t\t\t\t\t\t ");
+      out.print( (auditMessages ? "checked" : "") );
+      out.write(">\n\t\t\t\t\t\t\t\t</td>\n\t\t\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t\t\t<label for=\"cb01\">\n\t\t\t\t\t\t\t\t\t<b>");
+      if (_jspx_meth_fmt_005fmessage_005f20(_jspx_page_context))
+        return;
+      out.write("</b>\n\t\t\t\t\t\t\t\t\t</label>\n\t\t\t\t\t\t\t\t</td>\n\t\t\t\t\t\t\t</tr>\n\t\t\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t\t\t<td width=\"1%\" nowrap>\n\t\t\t\t\t\t\t\t\t<input type=\"checkbox\" name=\"auditPresence\" id=\"cb02\"\n\t\t\t\t\t\t\t\t\t onclick=\"this.form.auditEnabled[1].checked=true;\"\n\t\t\t\t\t\t\t\t\t ");
+      out.print( (auditPresence ? "checked" : "") );
+      out.write(">\n\t\t\t\t\t\t\t\t</td>\n\t\t\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t\t\t<label for=\"cb02\">\n\t\t\t\t\t\t\t\t\t<b>");
+      if (_jspx_meth_fmt_005fmessage_005f21(_jspx_page_context))
+        return;
+      out.write("</b>\n\t\t\t\t\t\t\t\t\t</label>\n\t\t\t\t\t\t\t\t</td>\n\t\t\t\t\t\t\t</tr>\n\t\t\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t\t\t<td width=\"1%\" nowrap>\n\t\t\t\t\t\t\t\t\t<input type=\"checkbox\" name=\"auditIQ\" id=\"cb03\"\n\t\t\t\t\t\t\t\t\t onclick=\"this.form.auditEnabled[1].checked=true;\"\n\t\t\t\t\t\t\t\t\t ");
+      out.print( (auditIQ ? "checked" : "") );
+      out.write(">\n\t\t\t\t\t\t\t\t</td>\n\t\t\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t\t\t<label for=\"cb03\">\n\t\t\t\t\t\t\t\t\t<b>");
+      if (_jspx_meth_fmt_005fmessage_005f22(_jspx_page_context))
+        return;
+      out.write("</b>\n\t\t\t\t\t\t\t\t\t</label>\n\t\t\t\t\t\t\t\t</td>\n\t\t\t\t\t\t\t</tr>\n\t\t\t\t\t\t\t</table>\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t<tr valign=\"top\">\n\t\t\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f23(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t\t\t<textarea name=\"ignore\" cols=\"40\" rows=\"3\" wrap=\"virtual\">");
+      out.print( ((ignore != null) ? StringUtils.escapeHTMLTags(ignore) : "") );
+      out.write("</textarea>\n\t\t\t\t\t\t\t");
+  if (errors.get("ignore") != null) { 
+      out.write("\n\n\t\t\t\t\t\t\t\t<span class=\"jive-error-text\">\n\t\t\t\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f24(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t\t\t\t\t</span>\n\n\t\t\t\t\t\t\t");
+  } 
+      out.write("\n\t\t\t\t\t\t</td>\n\t\t\t\t\t</tr>\n\t\t\t\t\t</table>\n\t\t\t\t</td>\n\t\t\t</tr>\n\t\t</tbody>\n\t\t</table>\n\t\t<table border=\"0\">\n\t\t\t<tr valign=\"top\">\n\t\t\t\t<td width=\"1%\" nowrap class=\"c1\">\n\t\t\t\t\t");
+      if (_jspx_meth_fmt_005fmessage_005f25(_jspx_page_context))
+        return;
+      out.write("\n\t\t\t\t</td>\n\t\t\t\t<td width=\"99%\">\n\t\t\t\t\t ");
+      out.print( auditManager.getAuditor().getQueuedPacketsNumber() );
+      out.write("\n\t\t\t\t</td>\n\t\t\t</tr>\n\t\t</table>\n\t</div>\n    <input type=\"submit\" name=\"update\" value=\"");
+      if (_jspx_meth_fmt_005fmessage_005f26(_jspx_page_context))
+        return;
+      out.write("\">\n</form>\n<!-- END 'Set Message Audit Policy' -->\n\n\n</body>\n</html>\n");
+    } catch (java.lang.Throwable t) {
+      if (!(t instanceof javax.servlet.jsp.SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          try {
+            if (response.isCommitted()) {
+              out.flush();
+            } else {
+              out.clearBuffer();
+            }
+          } catch (java.io.IOException e) {}
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+        else throw new ServletException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f0 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f0.setParent(null);
+    // /audit-policy.jsp(38,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f0.setKey("audit.policy.title");
+    int _jspx_eval_fmt_005fmessage_005f0 = _jspx_th_fmt_005fmessage_005f0.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f1(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f1 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f1.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f1.setParent(null);
+    // /audit-policy.jsp(162,8) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f1.setKey("audit.policy.settings.saved_successfully");
+    int _jspx_eval_fmt_005fmessage_005f1 = _jspx_th_fmt_005fmessage_005f1.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f1.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f1);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f1);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f2(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f2 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f2.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f2.setParent(null);
+    // /audit-policy.jsp(197,0) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f2.setKey("title");
+    int _jspx_eval_fmt_005fmessage_005f2 = _jspx_th_fmt_005fmessage_005f2.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f2.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f2);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f2);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f3(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f3 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f3.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f3.setParent(null);
+    // /audit-policy.jsp(198,0) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f3.setKey("audit.policy.title_info");
+    int _jspx_eval_fmt_005fmessage_005f3 = _jspx_th_fmt_005fmessage_005f3.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f3.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f3);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f3);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f4(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f4 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f4.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f4.setParent(null);
+    // /audit-policy.jsp(205,2) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f4.setKey("audit.policy.policytitle");
+    int _jspx_eval_fmt_005fmessage_005f4 = _jspx_th_fmt_005fmessage_005f4.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f4.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f4);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f4);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f5(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f5 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f5.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f5.setParent(null);
+    // /audit-policy.jsp(217,8) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f5.setKey("audit.policy.label_disable_auditing");
+    int _jspx_eval_fmt_005fmessage_005f5 = _jspx_th_fmt_005fmessage_005f5.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f5.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f5);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f5);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f6(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f6 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f6.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f6.setParent(null);
+    // /audit-policy.jsp(217,70) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f6.setKey("audit.policy.label_disable_auditing_info");
+    int _jspx_eval_fmt_005fmessage_005f6 = _jspx_th_fmt_005fmessage_005f6.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f6.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f6);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f6);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f7(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f7 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f7.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f7.setParent(null);
+    // /audit-policy.jsp(228,8) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f7.setKey("audit.policy.label_enable_auditing");
+    int _jspx_eval_fmt_005fmessage_005f7 = _jspx_th_fmt_005fmessage_005f7.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f7.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f7);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f7);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f8(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f8 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f8.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f8.setParent(null);
+    // /audit-policy.jsp(228,69) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f8.setKey("audit.policy.label_enable_auditing_info");
+    int _jspx_eval_fmt_005fmessage_005f8 = _jspx_th_fmt_005fmessage_005f8.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f8.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f8);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f8);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f9(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f9 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f9.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f9.setParent(null);
+    // /audit-policy.jsp(240,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f9.setKey("audit.policy.log_directory");
+    int _jspx_eval_fmt_005fmessage_005f9 = _jspx_th_fmt_005fmessage_005f9.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f9.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f9);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f9);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f10(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f10 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f10.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f10.setParent(null);
+    // /audit-policy.jsp(249,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f10.setKey("audit.policy.valid_log_directory");
+    int _jspx_eval_fmt_005fmessage_005f10 = _jspx_th_fmt_005fmessage_005f10.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f10.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f10);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f10);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f11(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f11 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f11.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f11.setParent(null);
+    // /audit-policy.jsp(258,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f11.setKey("audit.policy.maxtotal_size");
+    int _jspx_eval_fmt_005fmessage_005f11 = _jspx_th_fmt_005fmessage_005f11.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f11.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f11);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f11);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f12(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f12 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f12.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f12.setParent(null);
+    // /audit-policy.jsp(267,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f12.setKey("audit.policy.validnumber");
+    int _jspx_eval_fmt_005fmessage_005f12 = _jspx_th_fmt_005fmessage_005f12.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f12.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f12);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f12);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f13(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f13 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f13.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f13.setParent(null);
+    // /audit-policy.jsp(276,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f13.setKey("audit.policy.maxfile_size");
+    int _jspx_eval_fmt_005fmessage_005f13 = _jspx_th_fmt_005fmessage_005f13.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f13.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f13);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f13);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f14(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f14 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f14.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f14.setParent(null);
+    // /audit-policy.jsp(285,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f14.setKey("audit.policy.validnumber");
+    int _jspx_eval_fmt_005fmessage_005f14 = _jspx_th_fmt_005fmessage_005f14.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f14.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f14);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f14);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f15(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f15 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f15.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f15.setParent(null);
+    // /audit-policy.jsp(294,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f15.setKey("audit.policy.maxdays_number");
+    int _jspx_eval_fmt_005fmessage_005f15 = _jspx_th_fmt_005fmessage_005f15.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f15.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f15);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f15);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f16(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f16 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f16.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f16.setParent(null);
+    // /audit-policy.jsp(303,8) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f16.setKey("audit.policy.validnumber");
+    int _jspx_eval_fmt_005fmessage_005f16 = _jspx_th_fmt_005fmessage_005f16.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f16.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f16);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f16);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f17(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f17 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f17.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f17.setParent(null);
+    // /audit-policy.jsp(312,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f17.setKey("audit.policy.flush_interval");
+    int _jspx_eval_fmt_005fmessage_005f17 = _jspx_th_fmt_005fmessage_005f17.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f17.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f17);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f17);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f18(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f18 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f18.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f18.setParent(null);
+    // /audit-policy.jsp(321,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f18.setKey("audit.policy.validnumber");
+    int _jspx_eval_fmt_005fmessage_005f18 = _jspx_th_fmt_005fmessage_005f18.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f18.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f18);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f18);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f19(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f19 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f19.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f19.setParent(null);
+    // /audit-policy.jsp(330,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f19.setKey("audit.policy.packet_audit");
+    int _jspx_eval_fmt_005fmessage_005f19 = _jspx_th_fmt_005fmessage_005f19.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f19.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f19);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f19);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f20(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f20 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f20.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f20.setParent(null);
+    // /audit-policy.jsp(343,12) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f20.setKey("audit.policy.label_audit_messenge_packets");
+    int _jspx_eval_fmt_005fmessage_005f20 = _jspx_th_fmt_005fmessage_005f20.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f20.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f20);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f20);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f21(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f21 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f21.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f21.setParent(null);
+    // /audit-policy.jsp(355,12) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f21.setKey("audit.policy.label_audit_presence_packets");
+    int _jspx_eval_fmt_005fmessage_005f21 = _jspx_th_fmt_005fmessage_005f21.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f21.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f21);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f21);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f22(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f22 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f22.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f22.setParent(null);
+    // /audit-policy.jsp(367,12) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f22.setKey("audit.policy.label_audit_iq_packets");
+    int _jspx_eval_fmt_005fmessage_005f22 = _jspx_th_fmt_005fmessage_005f22.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f22.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f22);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f22);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f23(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f23 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f23.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f23.setParent(null);
+    // /audit-policy.jsp(376,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f23.setKey("audit.policy.ignore");
+    int _jspx_eval_fmt_005fmessage_005f23 = _jspx_th_fmt_005fmessage_005f23.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f23.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f23);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f23);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f24(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f24 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f24.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f24.setParent(null);
+    // /audit-policy.jsp(383,8) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f24.setKey("audit.policy.validignore");
+    int _jspx_eval_fmt_005fmessage_005f24 = _jspx_th_fmt_005fmessage_005f24.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f24.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f24);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f24);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f25(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f25 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f25.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f25.setParent(null);
+    // /audit-policy.jsp(397,5) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f25.setKey("audit.policy.queued_packets");
+    int _jspx_eval_fmt_005fmessage_005f25 = _jspx_th_fmt_005fmessage_005f25.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f25.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f25);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f25);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f26(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f26 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f26.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f26.setParent(null);
+    // /audit-policy.jsp(405,46) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f26.setKey("global.save_settings");
+    int _jspx_eval_fmt_005fmessage_005f26 = _jspx_th_fmt_005fmessage_005f26.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f26.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f26);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f26);
+    return false;
+  }
+}
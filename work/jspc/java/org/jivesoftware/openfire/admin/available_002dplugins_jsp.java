@@ -0,0 +1,1038 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:41:46 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.jivesoftware.openfire.admin;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import org.jivesoftware.util.ByteFormat;
+import org.jivesoftware.util.Version;
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.openfire.container.Plugin;
+import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.openfire.container.PluginManager;
+import org.jivesoftware.openfire.update.AvailablePlugin;
+import org.jivesoftware.openfire.update.UpdateManager;
+import java.io.File;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.jivesoftware.util.JiveGlobals;
+import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.util.ParamUtils;
+import org.jivesoftware.util.CookieUtils;
+import java.util.Date;
+
+public final class available_002dplugins_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspInit() {
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(getServletConfig().getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(getServletConfig());
+  }
+
+  public void _jspDestroy() {
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.release();
+  }
+
+  public void _jspService(final javax.servlet.http.HttpServletRequest request, final javax.servlet.http.HttpServletResponse response)
+        throws java.io.IOException, javax.servlet.ServletException {
+
+    final javax.servlet.jsp.PageContext pageContext;
+    javax.servlet.http.HttpSession session = null;
+    final javax.servlet.ServletContext application;
+    final javax.servlet.ServletConfig config;
+    javax.servlet.jsp.JspWriter out = null;
+    final java.lang.Object page = this;
+    javax.servlet.jsp.JspWriter _jspx_out = null;
+    javax.servlet.jsp.PageContext _jspx_page_context = null;
+
+
+    try {
+      response.setContentType("text/html");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			"error.jsp", true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+
+      out.write("\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n");
+      org.jivesoftware.util.WebManager webManager = null;
+      webManager = (org.jivesoftware.util.WebManager) _jspx_page_context.getAttribute("webManager", javax.servlet.jsp.PageContext.PAGE_SCOPE);
+      if (webManager == null){
+        webManager = new org.jivesoftware.util.WebManager();
+        _jspx_page_context.setAttribute("webManager", webManager, javax.servlet.jsp.PageContext.PAGE_SCOPE);
+      }
+      out.write('\n');
+ webManager.init(request, response, session, application, out ); 
+      out.write('\n');
+      out.write('\n');
+
+    boolean downloadRequested = request.getParameter("download") != null;
+    String url = request.getParameter("url");
+    Cookie csrfCookie = CookieUtils.getCookie(request, "csrf");
+    String csrfParam = ParamUtils.getParameter(request, "csrf");
+
+    if (downloadRequested) {
+        if (csrfCookie == null || csrfParam == null || !csrfCookie.getValue().equals(csrfParam)) {
+            downloadRequested = false;
+        }
+    }
+    csrfParam = StringUtils.randomString(15);
+    CookieUtils.setCookie(request, response, "csrf", csrfParam, -1);
+    pageContext.setAttribute("csrf", csrfParam);
+
+    UpdateManager updateManager = XMPPServer.getInstance().getUpdateManager();
+    List<AvailablePlugin> plugins = updateManager.getNotInstalledPlugins();
+
+    String time = JiveGlobals.getProperty("update.lastCheck");
+    // Sort plugins alphabetically
+    Collections.sort(plugins, new Comparator<AvailablePlugin>() {
+        public int compare(AvailablePlugin o1, AvailablePlugin o2) {
+            return o1.getName().compareTo(o2.getName());
+        }
+    });
+
+    if (downloadRequested) {
+        // Download and install new plugin
+        updateManager.downloadPlugin(url);
+        // Log the event
+        webManager.logEvent("downloaded new plugin from "+url, null);
+    }
+
+
+      out.write("\n\n<html>\n<head>\n<title>");
+      if (_jspx_meth_fmt_005fmessage_005f0(_jspx_page_context))
+        return;
+      out.write("</title>\n<meta name=\"pageID\" content=\"available-plugins\"/>\n\n<style type=\"text/css\">\n\n.light-gray-border {\n    border-color: #ccc;\n    border-style: solid;\n    border-width: 1px 1px 1px 1px;\n    padding: 5px;\n\t-moz-border-radius: 3px;\n}\n\n\n\n.table-header {\n    text-align: left;\n    font-family: verdana, arial, helvetica, sans-serif;\n    font-size: 8pt;\n    font-weight: bold;\n    border-color: #ccc;\n    border-style: solid;\n    border-width: 1px 0 1px 0;\n    padding: 5px;\n}\n\n.row-header {\n    text-align: left;\n    font-family: verdana, arial, helvetica, sans-serif;\n    font-size: 8pt;\n    font-weight: bold;\n    border-color: #ccc;\n    border-style: solid;\n    border-width: 1px 1px 1px 0;\n    padding: 5px;\n}\n\n.table-header-left {\n    text-align: left;\n    font-family: verdana, arial, helvetica, sans-serif;\n    font-size: 8pt;\n    font-weight: bold;\n    border-color: #ccc;\n    border-style: solid;\n    border-width: 1px 0 1px 1px;\n    padding: 5px;\n\n}\n\n.table-header-right {\n    text-align: left;\n    font-family: verdana, arial, helvetica, sans-serif;\n");
+      out.write("    font-size: 8pt;\n    font-weight: bold;\n    border-color: #ccc;\n    border-style: solid;\n    border-width: 1px 1px 1px 0;\n    padding: 5px;\n}\n\n.line-bottom-border {\n    font-family: verdana, arial, helvetica, sans-serif;\n    font-size: 9pt;\n    border-color: #e3e3e3;\n    border-style: solid;\n    border-width: 0 0 1px 0;\n    padding: 5px;\n}\n\n\n</style>\n\n<script src=\"dwr/engine.js\" type=\"text/javascript\"></script>\n<script src=\"dwr/util.js\" type=\"text/javascript\"></script>\n<script src=\"dwr/interface/downloader.js\" type=\"text/javascript\"></script>\n<script type=\"text/javascript\">\n\n    var downloading;\n    function downloadPlugin(url, id) {\n        downloading = true;\n        document.getElementById(id + \"-image\").innerHTML = '<img src=\"images/working-16x16.gif\" border=\"0\"/>';\n        document.getElementById(id).style.background = \"#FFFFCC\";\n        setTimeout(\"startDownload('\" + url + \"','\" + id + \"')\", 5000);\n    }\n\n    function startDownload(url, id) {\n        downloader.installPlugin(downloadComplete, url, id);\n");
+      out.write("    }\n\n    function downloadComplete(status) {\n        downloading = false;\n        if (!status.successfull) {\n            document.getElementById(status.hashCode + \"-image\").innerHTML = '<img src=\"images/add-16x16.gif\" border=\"0\"/>';\n            document.getElementById(status.hashCode).style.background = \"#FFFFFF\";\n            document.getElementById(\"errorMessage\").style.display = '';\n            document.getElementById(status.hashCode).style.display = '';\n            document.getElementById(status.hashCode + \"-row\").style.display = 'none';\n            setTimeout(\"closeErrorMessage()\", 5000);\n        }\n        else {\n            document.getElementById(status.hashCode).style.display = 'none';\n            document.getElementById(status.hashCode + \"-row\").style.display = '';\n            setTimeout(\"fadeIt('\" + status.hashCode + \"')\", 3000);\n        }\n    }\n\n    function closeErrorMessage(){\n        Effect.Fade(\"errorMessage\");\n    }\n\n    function fadeIt(id) {\n        Effect.Fade(id + \"-row\");\n    }\n\n\n    DWREngine.setErrorHandler(handleError);\n");
+      out.write("\n    function handleError(error) {\n    }\n\n    // Handle leaving of page validation.\n    window.onbeforeunload = function (evt) {\n        if (!downloading) {\n            return;\n        }\n        var message = '");
+      if (_jspx_meth_fmt_005fmessage_005f1(_jspx_page_context))
+        return;
+      out.write("';\n        if (typeof evt == 'undefined') {\n            evt = window.event;\n        }\n        if (evt) {\n            evt.returnValue = message;\n        }\n        return message;\n    }\n\n    function updatePluginsList(){\n        document.getElementById(\"reloaderID\").innerHTML = '<img src=\"images/working-16x16.gif\" border=\"0\"/>';\n        downloader.updatePluginsList(pluginsListUpdated);\n    }\n\n    function updatePluginsListNow(){\n        document.getElementById(\"reloader2\").innerHTML = '<img src=\"images/working-16x16.gif\" border=\"0\"/>';\n        downloader.updatePluginsList(pluginsListUpdated);\n    }\n\n    function pluginsListUpdated(){\n        window.location.href = \"available-plugins.jsp\";\n    }\n\n\n</script>\n</head>\n\n<body>\n\n<p>\n    ");
+      if (_jspx_meth_fmt_005fmessage_005f2(_jspx_page_context))
+        return;
+      out.write("\n</p>\n\n<p>\n\n");
+if(time == null){ 
+      out.write("\n<div style=\"padding:10px;background:#FFEBB5;border:1px solid #DEB24A;width:75%;\">\n    ");
+      if (_jspx_meth_fmt_005fmessage_005f3(_jspx_page_context))
+        return;
+      out.write("&nbsp;<span id=\"reloaderID\"><a href=\"javascript:updatePluginsList();\">");
+      if (_jspx_meth_fmt_005fmessage_005f4(_jspx_page_context))
+        return;
+      out.write("</a></span>\n</div>\n<br/>\n<div style=\"width:75%;\">\n    <p>\n   ");
+      if (_jspx_meth_fmt_005fmessage_005f5(_jspx_page_context))
+        return;
+      out.write("\n</p>\n\n");
+ if(!updateManager.isServiceEnabled()){ 
+      out.write('\n');
+      if (_jspx_meth_fmt_005fmessage_005f6(_jspx_page_context))
+        return;
+      out.write(" <b>");
+      if (_jspx_meth_fmt_005fmessage_005f7(_jspx_page_context))
+        return;
+      out.write("</b>. <a href=\"manage-updates.jsp\">");
+      if (_jspx_meth_fmt_005fmessage_005f8(_jspx_page_context))
+        return;
+      out.write("</a> ");
+      if (_jspx_meth_fmt_005fmessage_005f9(_jspx_page_context))
+        return;
+      out.write('\n');
+ } 
+      out.write("\n</div>\n");
+ } else {
+      out.write("\n\n\n<div id=\"errorMessage\" class=\"error\" style=\"display:none;\">\n    ");
+      if (_jspx_meth_fmt_005fmessage_005f10(_jspx_page_context))
+        return;
+      out.write("\n</div>\n\n\n<div class=\"light-gray-border\" style=\"padding:10px;\">\n<table cellpadding=\"0\" cellspacing=\"0\" border=\"0\" width=\"100%\">\n<thead>\n    <tr style=\"background:#eee;\">\n        <td class=\"table-header-left\">&nbsp;</td>\n        <td nowrap colspan=\"2\" class=\"table-header\">");
+      if (_jspx_meth_fmt_005fmessage_005f11(_jspx_page_context))
+        return;
+      out.write("</td>\n        <td nowrap class=\"table-header\">");
+      if (_jspx_meth_fmt_005fmessage_005f12(_jspx_page_context))
+        return;
+      out.write("</td>\n        <td nowrap class=\"table-header\">");
+      if (_jspx_meth_fmt_005fmessage_005f13(_jspx_page_context))
+        return;
+      out.write("</td>\n        <td nowrap class=\"table-header\">");
+      if (_jspx_meth_fmt_005fmessage_005f14(_jspx_page_context))
+        return;
+      out.write("</td>\n        <td nowrap class=\"table-header\">File Size</td>\n        <td nowrap class=\"table-header-right\">");
+      if (_jspx_meth_fmt_005fmessage_005f15(_jspx_page_context))
+        return;
+      out.write("</td>\n    </tr>\n</thead>\n<tbody>\n\n");
+
+    // If only the admin plugin is installed, show "none".
+    if (plugins.isEmpty()) {
+
+      out.write("\n<tr>\n    <td align=\"center\" colspan=\"8\">");
+      if (_jspx_meth_fmt_005fmessage_005f16(_jspx_page_context))
+        return;
+      out.write("</td>\n</tr>\n");
+
+    }
+
+    for (AvailablePlugin plugin : plugins) {
+        String pluginName = plugin.getName();
+        String pluginDescription = plugin.getDescription();
+        String pluginAuthor = plugin.getAuthor();
+        String pluginVersion = plugin.getLatestVersion();
+        ByteFormat byteFormat = new ByteFormat();
+        String fileSize = byteFormat.format(plugin.getFileSize());
+
+        if (plugin.isCommercial()) {
+            continue;
+        }
+
+      out.write("\n<tr id=\"");
+      out.print( plugin.hashCode());
+      out.write("\">\n    <td width=\"1%\" class=\"line-bottom-border\">\n        ");
+ if (plugin.getIcon() != null) { 
+      out.write("\n        <img src=\"");
+      out.print( StringUtils.escapeForXML(plugin.getIcon()) );
+      out.write("\" width=\"16\" height=\"16\" alt=\"Plugin\">\n        ");
+ }
+        else { 
+      out.write("\n        <img src=\"images/plugin-16x16.gif\" width=\"16\" height=\"16\" alt=\"Plugin\">\n        ");
+ } 
+      out.write("\n    </td>\n    <td width=\"20%\" nowrap class=\"line-bottom-border\">\n        ");
+      out.print( (pluginName != null ? StringUtils.escapeHTMLTags(pluginName) : "") );
+      out.write(" &nbsp;\n    </td>\n    <td nowrap valign=\"top\" class=\"line-bottom-border\">\n        ");
+ if (plugin.getReadme() != null) { 
+      out.write("\n        <a href=\"");
+      out.print( StringUtils.escapeForXML(plugin.getReadme()) );
+      out.write("\"\n            ><img src=\"images/doc-readme-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"README\"></a>\n        ");
+ }
+        else { 
+      out.write(" &nbsp; ");
+ } 
+      out.write("\n        ");
+ if (plugin.getChangelog() != null) { 
+      out.write("\n        <a href=\"");
+      out.print( StringUtils.escapeForXML(plugin.getChangelog()) );
+      out.write("\"\n            ><img src=\"images/doc-changelog-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"changelog\"></a>\n        ");
+ }
+        else { 
+      out.write(" &nbsp; ");
+ } 
+      out.write("\n    </td>\n    <td width=\"60%\" class=\"line-bottom-border\">\n        ");
+      out.print( pluginDescription != null ? StringUtils.escapeHTMLTags(pluginDescription) : "" );
+      out.write("\n    </td>\n    <td width=\"5%\" align=\"center\" valign=\"top\" class=\"line-bottom-border\">\n        ");
+      out.print( pluginVersion != null ? StringUtils.escapeHTMLTags(pluginVersion) : "" );
+      out.write("\n    </td>\n    <td width=\"15%\" nowrap valign=\"top\" class=\"line-bottom-border\">\n        ");
+      out.print( pluginAuthor != null ? StringUtils.escapeHTMLTags(pluginAuthor) : "" );
+      out.write("  &nbsp;\n    </td>\n    <td width=\"15%\" nowrap valign=\"top\" class=\"line-bottom-border\" align=\"right\">\n        ");
+      out.print( StringUtils.escapeHTMLTags(fileSize) );
+      out.write("\n    </td>\n    <td width=\"1%\" align=\"center\" valign=\"top\" class=\"line-bottom-border\">\n        ");
+
+            String updateURL = plugin.getURL();
+            if (updateManager.isPluginDownloaded(updateURL)) {
+        
+      out.write("\n        &nbsp;\n        ");
+  }
+        else { 
+      out.write("\n        ");
+
+
+        
+      out.write("\n        <a href=\"javascript:downloadPlugin('");
+      out.print(StringUtils.escapeForXML(updateURL));
+      out.write("', '");
+      out.print( plugin.hashCode());
+      out.write("')\"><span id=\"");
+      out.print( plugin.hashCode() );
+      out.write("-image\"><img src=\"images/add-16x16.gif\" width=\"16\" height=\"16\" border=\"0\"\n                                                                                                                                        alt=\"");
+      if (_jspx_meth_fmt_005fmessage_005f17(_jspx_page_context))
+        return;
+      out.write("\"></span></a>\n\n        ");
+ } 
+      out.write("\n    </td>\n</tr>\n<tr id=\"");
+      out.print( plugin.hashCode());
+      out.write("-row\" style=\"display:none;background: #E7FBDE;\">\n    <td width=\"1%\" class=\"line-bottom-border\">\n        <img src=\"");
+      out.print( StringUtils.escapeForXML(plugin.getIcon()));
+      out.write("\" width=\"16\" height=\"16\" alt=\"\"/>\n    </td>\n    <td colspan=\"6\" nowrap class=\"line-bottom-border\">");
+      out.print( StringUtils.escapeHTMLTags(plugin.getName()));
+      out.write(' ');
+      if (_jspx_meth_fmt_005fmessage_005f18(_jspx_page_context))
+        return;
+      out.write("</td>\n    <td class=\"line-bottom-border\" align=\"center\">\n        <img src=\"images/success-16x16.gif\" height=\"16\" width=\"16\" alt=\"\"/>\n    </td>\n</tr>\n");
+
+    }
+
+      out.write("\n<tr><td><br/></td></tr>\n<tr style=\"background:#eee;\">\n    <td class=\"table-header-left\">&nbsp;</td>\n    <td nowrap colspan=\"7\" class=\"row-header\">");
+      if (_jspx_meth_fmt_005fmessage_005f19(_jspx_page_context))
+        return;
+      out.write("</td>\n</tr>\n");
+
+    for (AvailablePlugin plugin : plugins) {
+        String pluginName = plugin.getName();
+        String pluginDescription = plugin.getDescription();
+        String pluginAuthor = plugin.getAuthor();
+        String pluginVersion = plugin.getLatestVersion();
+        ByteFormat byteFormat = new ByteFormat();
+        String fileSize = byteFormat.format(plugin.getFileSize());
+
+        if (!plugin.isCommercial()) {
+            continue;
+        }
+
+      out.write("\n<tr id=\"");
+      out.print( plugin.hashCode());
+      out.write("\">\n    <td width=\"1%\" class=\"line-bottom-border\">\n        ");
+ if (plugin.getIcon() != null) { 
+      out.write("\n        <img src=\"");
+      out.print( StringUtils.escapeForXML(plugin.getIcon()) );
+      out.write("\" width=\"16\" height=\"16\" alt=\"Plugin\">\n        ");
+ }
+        else { 
+      out.write("\n        <img src=\"images/plugin-16x16.gif\" width=\"16\" height=\"16\" alt=\"Plugin\">\n        ");
+ } 
+      out.write("\n    </td>\n    <td width=\"20%\" nowrap class=\"line-bottom-border\">\n        ");
+      out.print( (pluginName != null ? StringUtils.escapeHTMLTags(pluginName) : "") );
+      out.write(" &nbsp;\n    </td>\n    <td nowrap valign=\"top\" class=\"line-bottom-border\">\n        ");
+ if (plugin.getReadme() != null) { 
+      out.write("\n        <a href=\"");
+      out.print( StringUtils.escapeForXML(plugin.getReadme()) );
+      out.write("\"\n            ><img src=\"images/doc-readme-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"README\"></a>\n        ");
+ }
+        else { 
+      out.write(" &nbsp; ");
+ } 
+      out.write("\n        ");
+ if (plugin.getChangelog() != null) { 
+      out.write("\n        <a href=\"");
+      out.print( StringUtils.escapeForXML(plugin.getChangelog()) );
+      out.write("\"\n            ><img src=\"images/doc-changelog-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"changelog\"></a>\n        ");
+ }
+        else { 
+      out.write(" &nbsp; ");
+ } 
+      out.write("\n    </td>\n    <td width=\"60%\" class=\"line-bottom-border\">\n        ");
+      out.print( pluginDescription != null ? StringUtils.escapeHTMLTags(pluginDescription) : "" );
+      out.write("\n    </td>\n    <td width=\"5%\" align=\"center\" valign=\"top\" class=\"line-bottom-border\">\n        ");
+      out.print( pluginVersion != null ? StringUtils.escapeHTMLTags(pluginVersion) : "" );
+      out.write("\n    </td>\n    <td width=\"15%\" nowrap valign=\"top\" class=\"line-bottom-border\">\n        ");
+      out.print( pluginAuthor != null ? StringUtils.escapeHTMLTags(pluginAuthor) : "" );
+      out.write("  &nbsp;\n    </td>\n    <td width=\"15%\" nowrap valign=\"top\" class=\"line-bottom-border\">\n        ");
+      out.print( StringUtils.escapeHTMLTags(fileSize)  );
+      out.write("\n    </td>\n    <td width=\"1%\" align=\"center\" valign=\"top\" class=\"line-bottom-border\">\n        ");
+
+            String updateURL = plugin.getURL();
+            if (updateManager.isPluginDownloaded(updateURL)) {
+        
+      out.write("\n        &nbsp;\n        ");
+  }
+        else { 
+      out.write("\n\n        <span id=\"");
+      out.print( plugin.hashCode() );
+      out.write("-image\"><a href=\"javascript:downloadPlugin('");
+      out.print(StringUtils.escapeForXML(updateURL) );
+      out.write("', '");
+      out.print( plugin.hashCode() );
+      out.write("')\"><img src=\"images/add-16x16.gif\" width=\"16\" height=\"16\" border=\"0\"\n                                                                                                                                        alt=\"");
+      if (_jspx_meth_fmt_005fmessage_005f20(_jspx_page_context))
+        return;
+      out.write("\"></a></span>\n        ");
+ } 
+      out.write("\n    </td>\n</tr>\n<tr id=\"");
+      out.print( plugin.hashCode());
+      out.write("-row\" style=\"display:none;background: #E7FBDE;\">\n     <td width=\"1%\" class=\"line-bottom-border\">\n        <img src=\"");
+      out.print( StringUtils.escapeForXML(plugin.getIcon()));
+      out.write("\" width=\"16\" height=\"16\" alt=\"\"/>\n    </td>\n    <td colspan=\"6\" nowrap class=\"line-bottom-border\">");
+      out.print( StringUtils.escapeHTMLTags(plugin.getName()));
+      out.write(' ');
+      if (_jspx_meth_fmt_005fmessage_005f21(_jspx_page_context))
+        return;
+      out.write("</td>\n    <td class=\"line-bottom-border\" align=\"center\">\n        <img src=\"images/success-16x16.gif\" height=\"16\" width=\"16\" alt=\"\"/>\n    </td>\n</tr>\n");
+
+    }
+
+      out.write("\n\n</tbody>\n</table>\n\n</div>\n\n<br/>\n\n\n");
+
+    final XMPPServer server = XMPPServer.getInstance();
+    Version serverVersion = server.getServerInfo().getVersion();
+    List<Plugin> outdatedPlugins = new ArrayList<Plugin>();
+    for (Plugin plugin : server.getPluginManager().getPlugins()) {
+        String pluginVersion = server.getPluginManager().getMinServerVersion(plugin);
+        if (pluginVersion != null) {
+        	Version pluginMinServerVersion = new Version(pluginVersion);
+        	if (pluginMinServerVersion.isNewerThan(serverVersion)) {
+                outdatedPlugins.add(plugin);
+        	}
+        }
+    }
+
+    if (outdatedPlugins.size() > 0) {
+
+      out.write("\n    <div class=\"light-gray-border\" style=\"padding:10px;\">\n    <p>");
+      if (_jspx_meth_fmt_005fmessage_005f22(_jspx_page_context))
+        return;
+      out.write("<a href=\"http://www.igniterealtime.org/projects/openfire/\" target=\"_blank\">");
+      if (_jspx_meth_fmt_005fmessage_005f23(_jspx_page_context))
+        return;
+      out.write("</a></p>\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\" width=\"100%\">\n\n\n        ");
+
+            PluginManager pluginManager = server.getPluginManager();
+            for (Plugin plugin : outdatedPlugins) {
+                String pluginName = pluginManager.getName(plugin);
+                String pluginDescription = pluginManager.getDescription(plugin);
+                String pluginAuthor = pluginManager.getAuthor(plugin);
+                String pluginVersion = pluginManager.getVersion(plugin);
+                File pluginDir = pluginManager.getPluginDirectory(plugin);
+                File icon = new File(pluginDir, "logo_small.png");
+                boolean readmeExists = new File(pluginDir, "readme.html").exists();
+                boolean changelogExists = new File(pluginDir, "changelog.html").exists();
+                if (!icon.exists()) {
+                    icon = new File(pluginDir, "logo_small.gif");
+                }
+        
+      out.write("\n        <tr>\n            <td class=\"line-bottom-border\" width=\"1%\">\n                ");
+ if (icon.exists()) { 
+      out.write("\n                <img src=\"/geticon?plugin=");
+      out.print( URLEncoder.encode(pluginDir.getName(), "utf-8") );
+      out.write("&showIcon=true&decorator=none\" width=\"16\" height=\"16\" alt=\"Plugin\">\n                ");
+ }
+                else { 
+      out.write("\n                <img src=\"images/plugin-16x16.gif\" width=\"16\" height=\"16\" alt=\"Plugin\">\n                ");
+ } 
+      out.write("\n            </td>\n            <td class=\"line-bottom-border\" width=\"1%\" nowrap>\n                ");
+      out.print( pluginName);
+      out.write("\n            </td>\n            <td nowrap class=\"line-bottom-border\">\n                <p>");
+ if (readmeExists) { 
+      out.write("\n                    <a href=\"plugin-admin.jsp?plugin=");
+      out.print( URLEncoder.encode(pluginDir.getName(), "utf-8") );
+      out.write("&showReadme=true&decorator=none\"\n                        ><img src=\"images/doc-readme-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"README\"></a>\n                    ");
+ }
+                    else { 
+      out.write(" &nbsp; ");
+ } 
+      out.write("\n                    ");
+ if (changelogExists) { 
+      out.write("\n                    <a href=\"plugin-admin.jsp?plugin=");
+      out.print( URLEncoder.encode(pluginDir.getName(), "utf-8") );
+      out.write("&showChangelog=true&decorator=none\"\n                        ><img src=\"images/doc-changelog-16x16.gif\" width=\"16\" height=\"16\" border=\"0\" alt=\"changelog\"></a>\n                    ");
+ }
+                    else { 
+      out.write(" &nbsp; ");
+ } 
+      out.write("</p>\n            </td>\n            <td class=\"line-bottom-border\">\n                ");
+      out.print( StringUtils.escapeHTMLTags(pluginDescription) );
+      out.write("\n            </td>\n            <td class=\"line-bottom-border\">\n                ");
+      out.print( StringUtils.escapeHTMLTags(pluginVersion) );
+      out.write("\n            </td>\n            <td class=\"line-bottom-border\">\n                ");
+      out.print( StringUtils.escapeHTMLTags(pluginAuthor) );
+      out.write("\n            </td>\n        </tr>\n        ");
+ }
+      out.write("\n  </table>\n\n        ");
+} 
+      out.write("\n\n</div>\n<br/>\n ");
+
+        if(time != null){
+            Date date = new Date(Long.parseLong(time));
+            time = JiveGlobals.formatDate(date);
+        }
+    
+      out.write("\n       <p>\n           ");
+ if(time != null) { 
+      out.write("\n        ");
+      if (_jspx_meth_fmt_005fmessage_005f24(_jspx_page_context))
+        return;
+      out.write(' ');
+      out.print( time);
+      out.write(".\n           ");
+ } 
+      out.write("\n           ");
+ if(updateManager.isServiceEnabled()){
+      out.write("\n              ");
+      if (_jspx_meth_fmt_005fmessage_005f25(_jspx_page_context))
+        return;
+      out.write("\n           ");
+ } else { 
+      out.write("\n                ");
+      if (_jspx_meth_fmt_005fmessage_005f26(_jspx_page_context))
+        return;
+      out.write("\n           ");
+ } 
+      out.write("\n           &nbsp;<span id=\"reloader2\"><a href=\"javascript:updatePluginsListNow()\">");
+      if (_jspx_meth_fmt_005fmessage_005f27(_jspx_page_context))
+        return;
+      out.write("</a></span>\n        </p>\n           ");
+ } 
+      out.write("\n\n</body>\n</html>\n");
+    } catch (java.lang.Throwable t) {
+      if (!(t instanceof javax.servlet.jsp.SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          try {
+            if (response.isCommitted()) {
+              out.flush();
+            } else {
+              out.clearBuffer();
+            }
+          } catch (java.io.IOException e) {}
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+        else throw new ServletException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f0 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f0.setParent(null);
+    // /available-plugins.jsp(79,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f0.setKey("plugin.available.title");
+    int _jspx_eval_fmt_005fmessage_005f0 = _jspx_th_fmt_005fmessage_005f0.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f1(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f1 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f1.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f1.setParent(null);
+    // /available-plugins.jsp(204,23) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f1.setKey("plugin.available.cancel.redirect");
+    int _jspx_eval_fmt_005fmessage_005f1 = _jspx_th_fmt_005fmessage_005f1.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f1.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f1);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f1);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f2(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f2 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f2.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f2.setParent(null);
+    // /available-plugins.jsp(235,4) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f2.setKey("plugin.available.info");
+    int _jspx_eval_fmt_005fmessage_005f2 = _jspx_th_fmt_005fmessage_005f2.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f2.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f2);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f2);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f3(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f3 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f3.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f3.setParent(null);
+    // /available-plugins.jsp(242,4) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f3.setKey("plugin.available.no.list");
+    int _jspx_eval_fmt_005fmessage_005f3 = _jspx_th_fmt_005fmessage_005f3.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f3.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f3);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f3);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f4(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f4 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f4.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f4.setParent(null);
+    // /available-plugins.jsp(242,120) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f4.setKey("plugin.available.list");
+    int _jspx_eval_fmt_005fmessage_005f4 = _jspx_th_fmt_005fmessage_005f4.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f4.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f4);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f4);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f5(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f5 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f5.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f5.setParent(null);
+    // /available-plugins.jsp(247,3) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f5.setKey("plugin.available.no.list.description");
+    int _jspx_eval_fmt_005fmessage_005f5 = _jspx_th_fmt_005fmessage_005f5.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f5.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f5);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f5);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f6(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f6 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f6.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f6.setParent(null);
+    // /available-plugins.jsp(251,0) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f6.setKey("plugin.available.auto.update.currently");
+    int _jspx_eval_fmt_005fmessage_005f6 = _jspx_th_fmt_005fmessage_005f6.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f6.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f6);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f6);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f7(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f7 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f7.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f7.setParent(null);
+    // /available-plugins.jsp(251,64) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f7.setKey("plugin.available.auto.update.currently.disabled");
+    int _jspx_eval_fmt_005fmessage_005f7 = _jspx_th_fmt_005fmessage_005f7.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f7.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f7);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f7);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f8(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f8 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f8.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f8.setParent(null);
+    // /available-plugins.jsp(251,168) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f8.setKey("plugin.available.click.here");
+    int _jspx_eval_fmt_005fmessage_005f8 = _jspx_th_fmt_005fmessage_005f8.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f8.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f8);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f8);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f9(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f9 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f9.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f9.setParent(null);
+    // /available-plugins.jsp(251,222) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f9.setKey("plugin.available.change");
+    int _jspx_eval_fmt_005fmessage_005f9 = _jspx_th_fmt_005fmessage_005f9.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f9.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f9);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f9);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f10(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f10 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f10.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f10.setParent(null);
+    // /available-plugins.jsp(258,4) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f10.setKey("plugin.available.error.downloading");
+    int _jspx_eval_fmt_005fmessage_005f10 = _jspx_th_fmt_005fmessage_005f10.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f10.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f10);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f10);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f11(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f11 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f11.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f11.setParent(null);
+    // /available-plugins.jsp(267,52) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f11.setKey("plugin.available.open_source");
+    int _jspx_eval_fmt_005fmessage_005f11 = _jspx_th_fmt_005fmessage_005f11.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f11.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f11);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f11);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f12(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f12 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f12.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f12.setParent(null);
+    // /available-plugins.jsp(268,40) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f12.setKey("plugin.available.description");
+    int _jspx_eval_fmt_005fmessage_005f12 = _jspx_th_fmt_005fmessage_005f12.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f12.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f12);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f12);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f13(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f13 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f13.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f13.setParent(null);
+    // /available-plugins.jsp(269,40) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f13.setKey("plugin.available.version");
+    int _jspx_eval_fmt_005fmessage_005f13 = _jspx_th_fmt_005fmessage_005f13.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f13.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f13);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f13);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f14(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f14 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f14.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f14.setParent(null);
+    // /available-plugins.jsp(270,40) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f14.setKey("plugin.available.author");
+    int _jspx_eval_fmt_005fmessage_005f14 = _jspx_th_fmt_005fmessage_005f14.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f14.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f14);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f14);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f15(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f15 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f15.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f15.setParent(null);
+    // /available-plugins.jsp(272,46) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f15.setKey("plugin.available.install");
+    int _jspx_eval_fmt_005fmessage_005f15 = _jspx_th_fmt_005fmessage_005f15.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f15.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f15);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f15);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f16(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f16 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f16.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f16.setParent(null);
+    // /available-plugins.jsp(282,35) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f16.setKey("plugin.available.no_plugin");
+    int _jspx_eval_fmt_005fmessage_005f16 = _jspx_th_fmt_005fmessage_005f16.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f16.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f16);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f16);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f17(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f17 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f17.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f17.setParent(null);
+    // /available-plugins.jsp(347,141) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f17.setKey("plugin.available.download");
+    int _jspx_eval_fmt_005fmessage_005f17 = _jspx_th_fmt_005fmessage_005f17.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f17.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f17);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f17);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f18(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f18 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f18.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f18.setParent(null);
+    // /available-plugins.jsp(356,105) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f18.setKey("plugin.available.installation.success");
+    int _jspx_eval_fmt_005fmessage_005f18 = _jspx_th_fmt_005fmessage_005f18.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f18.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f18);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f18);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f19(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f19 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f19.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f19.setParent(null);
+    // /available-plugins.jsp(367,46) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f19.setKey("plugin.available.commercial_plugins");
+    int _jspx_eval_fmt_005fmessage_005f19 = _jspx_th_fmt_005fmessage_005f19.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f19.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f19);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f19);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f20(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f20 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f20.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f20.setParent(null);
+    // /available-plugins.jsp(428,141) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f20.setKey("plugin.available.download");
+    int _jspx_eval_fmt_005fmessage_005f20 = _jspx_th_fmt_005fmessage_005f20.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f20.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f20);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f20);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f21(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f21 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f21.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f21.setParent(null);
+    // /available-plugins.jsp(436,105) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f21.setKey("plugin.available.installation.success");
+    int _jspx_eval_fmt_005fmessage_005f21 = _jspx_th_fmt_005fmessage_005f21.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f21.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f21);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f21);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f22(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f22 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f22.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f22.setParent(null);
+    // /available-plugins.jsp(470,7) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f22.setKey("plugin.available.outdated");
+    int _jspx_eval_fmt_005fmessage_005f22 = _jspx_th_fmt_005fmessage_005f22.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f22.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f22);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f22);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f23(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f23 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f23.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f23.setParent(null);
+    // /available-plugins.jsp(470,129) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f23.setKey("plugin.available.outdated.update");
+    int _jspx_eval_fmt_005fmessage_005f23 = _jspx_th_fmt_005fmessage_005f23.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f23.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f23);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f23);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f24(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f24 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f24.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f24.setParent(null);
+    // /available-plugins.jsp(538,8) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f24.setKey("plugin.available.autoupdate");
+    int _jspx_eval_fmt_005fmessage_005f24 = _jspx_th_fmt_005fmessage_005f24.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f24.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f24);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f24);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f25(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f25 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f25.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f25.setParent(null);
+    // /available-plugins.jsp(541,14) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f25.setKey("plugin.available.autoupdate.on");
+    int _jspx_eval_fmt_005fmessage_005f25 = _jspx_th_fmt_005fmessage_005f25.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f25.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f25);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f25);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f26(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f26 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f26.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f26.setParent(null);
+    // /available-plugins.jsp(543,16) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f26.setKey("plugin.available.autoupdate.off");
+    int _jspx_eval_fmt_005fmessage_005f26 = _jspx_th_fmt_005fmessage_005f26.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f26.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f26);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f26);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f27(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f27 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f27.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f27.setParent(null);
+    // /available-plugins.jsp(545,82) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f27.setKey("plugin.available.manual.update");
+    int _jspx_eval_fmt_005fmessage_005f27 = _jspx_th_fmt_005fmessage_005f27.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f27.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f27);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f27);
+    return false;
+  }
+}
@@ -0,0 +1,599 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:41:46 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.jivesoftware.openfire.admin.decorators;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.admin.AdminConsole;
+import org.jivesoftware.util.LocaleUtils;
+import org.xmpp.packet.JID;
+
+public final class main_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  static {
+    _jspx_dependants = new java.util.HashMap<java.lang.String,java.lang.Long>(3);
+    _jspx_dependants.put("file:/root/project/build/lib/merge/sitemesh.jar", Long.valueOf(1471446518000L));
+    _jspx_dependants.put("jar:file:/root/project/build/lib/merge/sitemesh.jar!/META-INF/sitemesh-decorator.tld", Long.valueOf(1086692312000L));
+    _jspx_dependants.put("jar:file:/root/project/build/lib/merge/sitemesh.jar!/META-INF/sitemesh-page.tld", Long.valueOf(1086692312000L));
+  }
+
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fdecorator_005fusePage_0026_005fid_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005ffmt_005fsetBundle_0026_005fbasename_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fdecorator_005ftitle_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fdecorator_005fhead_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005ffmt_005fparam_0026_005fvalue_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fcurrentcss_005fcss;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fadmin_005fsubnavbar_0026_005fcurrentcss_005fcss;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fadmin_005fsidebar_0026_005fheadercss_005fcurrentcss_005fcss;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fadmin_005fsubsidebar_0026_005fcurrentcss_005fcss;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fdecorator_005ftitle_0026_005fdefault_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fdecorator_005fbody_005fnobody;
+  private org.apache.jasper.runtime.TagHandlerPool _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fjustlinks_005fcurrentcss_005fcss;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspInit() {
+    _005fjspx_005ftagPool_005fdecorator_005fusePage_0026_005fid_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005ffmt_005fsetBundle_0026_005fbasename_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fdecorator_005ftitle_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fdecorator_005fhead_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005ffmt_005fparam_0026_005fvalue_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fcurrentcss_005fcss = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fadmin_005fsubnavbar_0026_005fcurrentcss_005fcss = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fadmin_005fsidebar_0026_005fheadercss_005fcurrentcss_005fcss = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fadmin_005fsubsidebar_0026_005fcurrentcss_005fcss = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fdecorator_005ftitle_0026_005fdefault_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fdecorator_005fbody_005fnobody = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fjustlinks_005fcurrentcss_005fcss = org.apache.jasper.runtime.TagHandlerPool.getTagHandlerPool(getServletConfig());
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(getServletConfig().getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(getServletConfig());
+  }
+
+  public void _jspDestroy() {
+    _005fjspx_005ftagPool_005fdecorator_005fusePage_0026_005fid_005fnobody.release();
+    _005fjspx_005ftagPool_005ffmt_005fsetBundle_0026_005fbasename_005fnobody.release();
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.release();
+    _005fjspx_005ftagPool_005fdecorator_005ftitle_005fnobody.release();
+    _005fjspx_005ftagPool_005fdecorator_005fhead_005fnobody.release();
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey.release();
+    _005fjspx_005ftagPool_005ffmt_005fparam_0026_005fvalue_005fnobody.release();
+    _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fcurrentcss_005fcss.release();
+    _005fjspx_005ftagPool_005fadmin_005fsubnavbar_0026_005fcurrentcss_005fcss.release();
+    _005fjspx_005ftagPool_005fadmin_005fsidebar_0026_005fheadercss_005fcurrentcss_005fcss.release();
+    _005fjspx_005ftagPool_005fadmin_005fsubsidebar_0026_005fcurrentcss_005fcss.release();
+    _005fjspx_005ftagPool_005fdecorator_005ftitle_0026_005fdefault_005fnobody.release();
+    _005fjspx_005ftagPool_005fdecorator_005fbody_005fnobody.release();
+    _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fjustlinks_005fcurrentcss_005fcss.release();
+  }
+
+  public void _jspService(final javax.servlet.http.HttpServletRequest request, final javax.servlet.http.HttpServletResponse response)
+        throws java.io.IOException, javax.servlet.ServletException {
+
+    final javax.servlet.jsp.PageContext pageContext;
+    javax.servlet.http.HttpSession session = null;
+    final javax.servlet.ServletContext application;
+    final javax.servlet.ServletConfig config;
+    javax.servlet.jsp.JspWriter out = null;
+    final java.lang.Object page = this;
+    javax.servlet.jsp.JspWriter _jspx_out = null;
+    javax.servlet.jsp.PageContext _jspx_page_context = null;
+
+
+    try {
+      response.setContentType("text/html");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			"../error.jsp", true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+
+      out.write("\r\n\r\n\r\n\r\n\r\n\r\n\r\n\r\n\r\n");
+      org.jivesoftware.admin.AdminPageBean info = null;
+      info = (org.jivesoftware.admin.AdminPageBean) _jspx_page_context.getAttribute("info", javax.servlet.jsp.PageContext.REQUEST_SCOPE);
+      if (info == null){
+        info = new org.jivesoftware.admin.AdminPageBean();
+        _jspx_page_context.setAttribute("info", info, javax.servlet.jsp.PageContext.REQUEST_SCOPE);
+      }
+      out.write("\r\n\r\n");
+      org.jivesoftware.util.WebManager webManager = null;
+      webManager = (org.jivesoftware.util.WebManager) _jspx_page_context.getAttribute("webManager", javax.servlet.jsp.PageContext.PAGE_SCOPE);
+      if (webManager == null){
+        webManager = new org.jivesoftware.util.WebManager();
+        _jspx_page_context.setAttribute("webManager", webManager, javax.servlet.jsp.PageContext.PAGE_SCOPE);
+      }
+      out.write('\r');
+      out.write('\n');
+ webManager.init(request, response, session, application, out); 
+      out.write("\r\n\r\n");
+      //  decorator:usePage
+      com.opensymphony.module.sitemesh.taglib.decorator.UsePageTag _jspx_th_decorator_005fusePage_005f0 = (com.opensymphony.module.sitemesh.taglib.decorator.UsePageTag) _005fjspx_005ftagPool_005fdecorator_005fusePage_0026_005fid_005fnobody.get(com.opensymphony.module.sitemesh.taglib.decorator.UsePageTag.class);
+      _jspx_th_decorator_005fusePage_005f0.setPageContext(_jspx_page_context);
+      _jspx_th_decorator_005fusePage_005f0.setParent(null);
+      // /decorators/main.jsp(36,0) name = id type = java.lang.String reqTime = false required = true fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+      _jspx_th_decorator_005fusePage_005f0.setId("decoratedPage");
+      int _jspx_eval_decorator_005fusePage_005f0 = _jspx_th_decorator_005fusePage_005f0.doStartTag();
+      if (_jspx_th_decorator_005fusePage_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+        _005fjspx_005ftagPool_005fdecorator_005fusePage_0026_005fid_005fnobody.reuse(_jspx_th_decorator_005fusePage_005f0);
+        return;
+      }
+      _005fjspx_005ftagPool_005fdecorator_005fusePage_0026_005fid_005fnobody.reuse(_jspx_th_decorator_005fusePage_005f0);
+      com.opensymphony.module.sitemesh.Page decoratedPage = null;
+      decoratedPage = (com.opensymphony.module.sitemesh.Page) _jspx_page_context.findAttribute("decoratedPage");
+      out.write("\r\n\r\n");
+
+    String path = request.getContextPath();
+    // Decorated pages will typically must set a pageID and optionally set a subPageID
+    // and extraParams. Store these values as request attributes so that the tab and sidebar
+    // handling tags can get at the data.
+    request.setAttribute("pageID", decoratedPage.getProperty("meta.pageID"));
+    request.setAttribute("subPageID", decoratedPage.getProperty("meta.subPageID"));
+    request.setAttribute("extraParams", decoratedPage.getProperty("meta.extraParams"));
+
+    // Message HTML can be passed in:
+    String message = decoratedPage.getProperty("page.message");
+
+    pageContext.setAttribute( "usernameHtmlEscaped", StringUtils.escapeHTMLTags(JID.unescapeNode(webManager.getUser().getUsername())) );
+
+      out.write("\r\n\r\n<!DOCTYPE HTML PUBLIC \"-//W3C//DTD HTML 4.0 Transitional//EN\">\r\n\r\n");
+      if (_jspx_meth_fmt_005fsetBundle_005f0(_jspx_page_context))
+        return;
+      out.write("\r\n<html>\r\n<head>\r\n    <title>");
+      out.print( AdminConsole.getAppName() );
+      out.write(' ');
+      if (_jspx_meth_fmt_005fmessage_005f0(_jspx_page_context))
+        return;
+      out.write(':');
+      out.write(' ');
+      if (_jspx_meth_decorator_005ftitle_005f0(_jspx_page_context))
+        return;
+      out.write("</title>\r\n    <meta http-equiv=\"content-type\" content=\"text/html; charset=UTF-8\">\r\n    <link rel=\"stylesheet\" type=\"text/css\" href=\"");
+      out.print( path );
+      out.write("/style/global.css\">\r\n    <script language=\"JavaScript\" type=\"text/javascript\" src=\"");
+      out.print( path );
+      out.write("/js/prototype.js\"></script>\r\n    <script language=\"JavaScript\" type=\"text/javascript\" src=\"");
+      out.print( path );
+      out.write("/js/scriptaculous.js\"></script>\r\n    <script language=\"JavaScript\" type=\"text/javascript\" src=\"");
+      out.print( path );
+      out.write("/js/cookies.js\"></script>\r\n    <script language=\"JavaScript\" type=\"text/javascript\">\r\n\r\n    </script>\r\n    <script type=\"text/javascript\" src=\"");
+      out.print( path );
+      out.write("/js/behaviour.js\"></script>\r\n    <script type=\"text/javascript\">\r\n    // Add a nice little rollover effect to any row in a jive-table object. This will help\r\n    // visually link left and right columns.\r\n    /*\r\n    var myrules = {\r\n        '.jive-table TBODY TR' : function(el) {\r\n            el.onmouseover = function() {\r\n                this.style.backgroundColor = '#ffffee';\r\n            }\r\n            el.onmouseout = function() {\r\n                this.style.backgroundColor = '#ffffff';\r\n            }\r\n        }\r\n    };\r\n    Behaviour.register(myrules);\r\n    */\r\n    </script>\r\n    ");
+      if (_jspx_meth_decorator_005fhead_005f0(_jspx_page_context))
+        return;
+      out.write("\r\n</head>\r\n\r\n<body id=\"jive-body\">\r\n\r\n<!-- BEGIN main -->\r\n<div id=\"main\">\r\n\r\n    <div id=\"jive-header\">\r\n        <div id=\"jive-logo\">\r\n            <a href=\"/index.jsp\"><img src=\"/images/login_logo.gif\" alt=\"Openfire\" width=\"179\" height=\"53\" /></a>\r\n        </div>\r\n        <div id=\"jive-userstatus\">\r\n            ");
+      out.print( AdminConsole.getAppName() );
+      out.write(' ');
+      out.print( AdminConsole.getVersionString() );
+      out.write("<br/>\r\n            ");
+      if (_jspx_meth_fmt_005fmessage_005f1(_jspx_page_context))
+        return;
+      out.write(" - <a href=\"");
+      out.print( path );
+      out.write("/index.jsp?logout=true\">");
+      out.print( LocaleUtils.getLocalizedString("global.logout") );
+      out.write("</a>\r\n        </div>\r\n        <div id=\"jive-nav\">\r\n            <div id=\"jive-nav-left\"></div>\r\n            ");
+      if (_jspx_meth_admin_005ftabs_005f0(_jspx_page_context))
+        return;
+      out.write("\r\n            <div id=\"jive-nav-right\"></div>\r\n        </div>\r\n        <div id=\"jive-subnav\">\r\n            ");
+      if (_jspx_meth_admin_005fsubnavbar_005f0(_jspx_page_context))
+        return;
+      out.write("\r\n        </div>\r\n    </div>\r\n\r\n    <div id=\"jive-main\">\r\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\" width=\"100%\">\r\n    <tbody>\r\n        <tr valign=\"top\">\r\n            <td width=\"1%\">\r\n                <div id=\"jive-sidebar-container\">\r\n                    <div id=\"jive-sidebar-box\">\r\n                        <div id=\"jive-sidebar\">\r\n                            ");
+      if (_jspx_meth_admin_005fsidebar_005f0(_jspx_page_context))
+        return;
+      out.write("\r\n                            <br>\r\n                            <img src=\"");
+      out.print( path );
+      out.write("/images/blank.gif\" width=\"150\" height=\"1\" border=\"0\" alt=\"\">\r\n                        </div>\r\n                    </div>\r\n                </div>\r\n            </td>\r\n            <td width=\"99%\" id=\"jive-content\">\r\n\r\n\r\n                ");
+  if (message != null) { 
+      out.write("\r\n\r\n                    ");
+      out.print( message );
+      out.write("\r\n\r\n                ");
+  } 
+      out.write("\r\n\r\n                <h1>\r\n                    ");
+      if (_jspx_meth_decorator_005ftitle_005f1(_jspx_page_context))
+        return;
+      out.write("\r\n                </h1>\r\n\r\n                <div id=\"jive-main-content\">\r\n                    ");
+      if (_jspx_meth_decorator_005fbody_005f0(_jspx_page_context))
+        return;
+      out.write("\r\n                </div>\r\n            </td>\r\n        </tr>\r\n    </tbody>\r\n    </table>\r\n    </div>\r\n\r\n</div>\r\n<!-- END main -->\r\n\r\n<!-- BEGIN footer -->\r\n\t<div id=\"jive-footer\">\r\n        <div class=\"jive-footer-nav\">\r\n            ");
+      if (_jspx_meth_admin_005ftabs_005f1(_jspx_page_context))
+        return;
+      out.write("\r\n        </div>\r\n        <div class=\"jive-footer-copyright\">\r\n            Built by <a href=\"http://www.jivesoftware.com\">Jive Software</a> and the <a href=\"http://www.igniterealtime.org\">IgniteRealtime.org</a> community\r\n        </div>\r\n    </div>\r\n<!-- END footer -->\r\n\r\n</body>\r\n</html>\r\n");
+    } catch (java.lang.Throwable t) {
+      if (!(t instanceof javax.servlet.jsp.SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          try {
+            if (response.isCommitted()) {
+              out.flush();
+            } else {
+              out.clearBuffer();
+            }
+          } catch (java.io.IOException e) {}
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+        else throw new ServletException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+
+  private boolean _jspx_meth_fmt_005fsetBundle_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:setBundle
+    org.apache.taglibs.standard.tag.rt.fmt.SetBundleTag _jspx_th_fmt_005fsetBundle_005f0 = (org.apache.taglibs.standard.tag.rt.fmt.SetBundleTag) _005fjspx_005ftagPool_005ffmt_005fsetBundle_0026_005fbasename_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.SetBundleTag.class);
+    _jspx_th_fmt_005fsetBundle_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fsetBundle_005f0.setParent(null);
+    // /decorators/main.jsp(55,0) name = basename type = null reqTime = true required = true fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fsetBundle_005f0.setBasename("openfire_i18n");
+    int _jspx_eval_fmt_005fsetBundle_005f0 = _jspx_th_fmt_005fsetBundle_005f0.doStartTag();
+    if (_jspx_th_fmt_005fsetBundle_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fsetBundle_0026_005fbasename_005fnobody.reuse(_jspx_th_fmt_005fsetBundle_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fsetBundle_0026_005fbasename_005fnobody.reuse(_jspx_th_fmt_005fsetBundle_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f0 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f0.setParent(null);
+    // /decorators/main.jsp(58,44) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f0.setKey("login.title");
+    int _jspx_eval_fmt_005fmessage_005f0 = _jspx_th_fmt_005fmessage_005f0.doStartTag();
+    if (_jspx_th_fmt_005fmessage_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey_005fnobody.reuse(_jspx_th_fmt_005fmessage_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_decorator_005ftitle_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  decorator:title
+    com.opensymphony.module.sitemesh.taglib.decorator.TitleTag _jspx_th_decorator_005ftitle_005f0 = (com.opensymphony.module.sitemesh.taglib.decorator.TitleTag) _005fjspx_005ftagPool_005fdecorator_005ftitle_005fnobody.get(com.opensymphony.module.sitemesh.taglib.decorator.TitleTag.class);
+    _jspx_th_decorator_005ftitle_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_decorator_005ftitle_005f0.setParent(null);
+    int _jspx_eval_decorator_005ftitle_005f0 = _jspx_th_decorator_005ftitle_005f0.doStartTag();
+    if (_jspx_th_decorator_005ftitle_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fdecorator_005ftitle_005fnobody.reuse(_jspx_th_decorator_005ftitle_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fdecorator_005ftitle_005fnobody.reuse(_jspx_th_decorator_005ftitle_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_decorator_005fhead_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  decorator:head
+    com.opensymphony.module.sitemesh.taglib.decorator.HeadTag _jspx_th_decorator_005fhead_005f0 = (com.opensymphony.module.sitemesh.taglib.decorator.HeadTag) _005fjspx_005ftagPool_005fdecorator_005fhead_005fnobody.get(com.opensymphony.module.sitemesh.taglib.decorator.HeadTag.class);
+    _jspx_th_decorator_005fhead_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_decorator_005fhead_005f0.setParent(null);
+    int _jspx_eval_decorator_005fhead_005f0 = _jspx_th_decorator_005fhead_005f0.doStartTag();
+    if (_jspx_th_decorator_005fhead_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fdecorator_005fhead_005fnobody.reuse(_jspx_th_decorator_005fhead_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fdecorator_005fhead_005fnobody.reuse(_jspx_th_decorator_005fhead_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fmessage_005f1(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:message
+    org.apache.taglibs.standard.tag.rt.fmt.MessageTag _jspx_th_fmt_005fmessage_005f1 = (org.apache.taglibs.standard.tag.rt.fmt.MessageTag) _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey.get(org.apache.taglibs.standard.tag.rt.fmt.MessageTag.class);
+    _jspx_th_fmt_005fmessage_005f1.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fmessage_005f1.setParent(null);
+    // /decorators/main.jsp(99,12) name = key type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fmessage_005f1.setKey("admin.logged_in_as");
+    int _jspx_eval_fmt_005fmessage_005f1 = _jspx_th_fmt_005fmessage_005f1.doStartTag();
+    if (_jspx_eval_fmt_005fmessage_005f1 != javax.servlet.jsp.tagext.Tag.SKIP_BODY) {
+      if (_jspx_eval_fmt_005fmessage_005f1 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.pushBody();
+        _jspx_th_fmt_005fmessage_005f1.setBodyContent((javax.servlet.jsp.tagext.BodyContent) out);
+        _jspx_th_fmt_005fmessage_005f1.doInitBody();
+      }
+      do {
+        if (_jspx_meth_fmt_005fparam_005f0(_jspx_th_fmt_005fmessage_005f1, _jspx_page_context))
+          return true;
+        int evalDoAfterBody = _jspx_th_fmt_005fmessage_005f1.doAfterBody();
+        if (evalDoAfterBody != javax.servlet.jsp.tagext.BodyTag.EVAL_BODY_AGAIN)
+          break;
+      } while (true);
+      if (_jspx_eval_fmt_005fmessage_005f1 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.popBody();
+      }
+    }
+    if (_jspx_th_fmt_005fmessage_005f1.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey.reuse(_jspx_th_fmt_005fmessage_005f1);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fmessage_0026_005fkey.reuse(_jspx_th_fmt_005fmessage_005f1);
+    return false;
+  }
+
+  private boolean _jspx_meth_fmt_005fparam_005f0(javax.servlet.jsp.tagext.JspTag _jspx_th_fmt_005fmessage_005f1, javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  fmt:param
+    org.apache.taglibs.standard.tag.rt.fmt.ParamTag _jspx_th_fmt_005fparam_005f0 = (org.apache.taglibs.standard.tag.rt.fmt.ParamTag) _005fjspx_005ftagPool_005ffmt_005fparam_0026_005fvalue_005fnobody.get(org.apache.taglibs.standard.tag.rt.fmt.ParamTag.class);
+    _jspx_th_fmt_005fparam_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_fmt_005fparam_005f0.setParent((javax.servlet.jsp.tagext.Tag) _jspx_th_fmt_005fmessage_005f1);
+    // /decorators/main.jsp(99,50) name = value type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_fmt_005fparam_005f0.setValue((java.lang.Object) org.apache.jasper.runtime.PageContextImpl.proprietaryEvaluate("<strong>${usernameHtmlEscaped}</strong>", java.lang.Object.class, (javax.servlet.jsp.PageContext)_jspx_page_context, null));
+    int _jspx_eval_fmt_005fparam_005f0 = _jspx_th_fmt_005fparam_005f0.doStartTag();
+    if (_jspx_th_fmt_005fparam_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005ffmt_005fparam_0026_005fvalue_005fnobody.reuse(_jspx_th_fmt_005fparam_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005ffmt_005fparam_0026_005fvalue_005fnobody.reuse(_jspx_th_fmt_005fparam_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_admin_005ftabs_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  admin:tabs
+    org.jivesoftware.admin.TabsTag _jspx_th_admin_005ftabs_005f0 = (org.jivesoftware.admin.TabsTag) _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fcurrentcss_005fcss.get(org.jivesoftware.admin.TabsTag.class);
+    _jspx_th_admin_005ftabs_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_admin_005ftabs_005f0.setParent(null);
+    // /decorators/main.jsp(103,12) name = css type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005ftabs_005f0.setCss("");
+    // /decorators/main.jsp(103,12) name = currentcss type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005ftabs_005f0.setCurrentcss("currentlink");
+    int _jspx_eval_admin_005ftabs_005f0 = _jspx_th_admin_005ftabs_005f0.doStartTag();
+    if (_jspx_eval_admin_005ftabs_005f0 != javax.servlet.jsp.tagext.Tag.SKIP_BODY) {
+      if (_jspx_eval_admin_005ftabs_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.pushBody();
+        _jspx_th_admin_005ftabs_005f0.setBodyContent((javax.servlet.jsp.tagext.BodyContent) out);
+        _jspx_th_admin_005ftabs_005f0.doInitBody();
+      }
+      do {
+        out.write("\r\n            <a href=\"[url]\" title=\"[description]\" onmouseover=\"self.status='[description]';return true;\" onmouseout=\"self.status='';return true;\">[name]</a>\r\n            ");
+        int evalDoAfterBody = _jspx_th_admin_005ftabs_005f0.doAfterBody();
+        if (evalDoAfterBody != javax.servlet.jsp.tagext.BodyTag.EVAL_BODY_AGAIN)
+          break;
+      } while (true);
+      if (_jspx_eval_admin_005ftabs_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.popBody();
+      }
+    }
+    if (_jspx_th_admin_005ftabs_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005ftabs_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005ftabs_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_admin_005fsubnavbar_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  admin:subnavbar
+    org.jivesoftware.admin.SubnavTag _jspx_th_admin_005fsubnavbar_005f0 = (org.jivesoftware.admin.SubnavTag) _005fjspx_005ftagPool_005fadmin_005fsubnavbar_0026_005fcurrentcss_005fcss.get(org.jivesoftware.admin.SubnavTag.class);
+    _jspx_th_admin_005fsubnavbar_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_admin_005fsubnavbar_005f0.setParent(null);
+    // /decorators/main.jsp(109,12) name = css type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsubnavbar_005f0.setCss("");
+    // /decorators/main.jsp(109,12) name = currentcss type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsubnavbar_005f0.setCurrentcss("current");
+    int _jspx_eval_admin_005fsubnavbar_005f0 = _jspx_th_admin_005fsubnavbar_005f0.doStartTag();
+    if (_jspx_eval_admin_005fsubnavbar_005f0 != javax.servlet.jsp.tagext.Tag.SKIP_BODY) {
+      if (_jspx_eval_admin_005fsubnavbar_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.pushBody();
+        _jspx_th_admin_005fsubnavbar_005f0.setBodyContent((javax.servlet.jsp.tagext.BodyContent) out);
+        _jspx_th_admin_005fsubnavbar_005f0.doInitBody();
+      }
+      do {
+        out.write("\r\n                <a href=\"[url]\" title=\"[description]\"\r\n                  onmouseover=\"self.status='[description]';return true;\" onmouseout=\"self.status='';return true;\"\r\n                  >[name]</a>\r\n            ");
+        int evalDoAfterBody = _jspx_th_admin_005fsubnavbar_005f0.doAfterBody();
+        if (evalDoAfterBody != javax.servlet.jsp.tagext.BodyTag.EVAL_BODY_AGAIN)
+          break;
+      } while (true);
+      if (_jspx_eval_admin_005fsubnavbar_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.popBody();
+      }
+    }
+    if (_jspx_th_admin_005fsubnavbar_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fadmin_005fsubnavbar_0026_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005fsubnavbar_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fadmin_005fsubnavbar_0026_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005fsubnavbar_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_admin_005fsidebar_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  admin:sidebar
+    org.jivesoftware.admin.SidebarTag _jspx_th_admin_005fsidebar_005f0 = (org.jivesoftware.admin.SidebarTag) _005fjspx_005ftagPool_005fadmin_005fsidebar_0026_005fheadercss_005fcurrentcss_005fcss.get(org.jivesoftware.admin.SidebarTag.class);
+    _jspx_th_admin_005fsidebar_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_admin_005fsidebar_005f0.setParent(null);
+    // /decorators/main.jsp(125,28) name = css type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsidebar_005f0.setCss("");
+    // /decorators/main.jsp(125,28) name = currentcss type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsidebar_005f0.setCurrentcss("currentlink");
+    // /decorators/main.jsp(125,28) name = headercss type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsidebar_005f0.setHeadercss("category");
+    int _jspx_eval_admin_005fsidebar_005f0 = _jspx_th_admin_005fsidebar_005f0.doStartTag();
+    if (_jspx_eval_admin_005fsidebar_005f0 != javax.servlet.jsp.tagext.Tag.SKIP_BODY) {
+      if (_jspx_eval_admin_005fsidebar_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.pushBody();
+        _jspx_th_admin_005fsidebar_005f0.setBodyContent((javax.servlet.jsp.tagext.BodyContent) out);
+        _jspx_th_admin_005fsidebar_005f0.doInitBody();
+      }
+      do {
+        out.write("\r\n                                <a href=\"[url]\" title=\"[description]\"\r\n                                  onmouseover=\"self.status='[description]';return true;\" onmouseout=\"self.status='';return true;\"\r\n                                  >[name]</a>\r\n                                 ");
+        if (_jspx_meth_admin_005fsubsidebar_005f0(_jspx_th_admin_005fsidebar_005f0, _jspx_page_context))
+          return true;
+        out.write("\r\n                            ");
+        int evalDoAfterBody = _jspx_th_admin_005fsidebar_005f0.doAfterBody();
+        if (evalDoAfterBody != javax.servlet.jsp.tagext.BodyTag.EVAL_BODY_AGAIN)
+          break;
+      } while (true);
+      if (_jspx_eval_admin_005fsidebar_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.popBody();
+      }
+    }
+    if (_jspx_th_admin_005fsidebar_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fadmin_005fsidebar_0026_005fheadercss_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005fsidebar_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fadmin_005fsidebar_0026_005fheadercss_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005fsidebar_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_admin_005fsubsidebar_005f0(javax.servlet.jsp.tagext.JspTag _jspx_th_admin_005fsidebar_005f0, javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  admin:subsidebar
+    org.jivesoftware.admin.SubSidebarTag _jspx_th_admin_005fsubsidebar_005f0 = (org.jivesoftware.admin.SubSidebarTag) _005fjspx_005ftagPool_005fadmin_005fsubsidebar_0026_005fcurrentcss_005fcss.get(org.jivesoftware.admin.SubSidebarTag.class);
+    _jspx_th_admin_005fsubsidebar_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_admin_005fsubsidebar_005f0.setParent((javax.servlet.jsp.tagext.Tag) _jspx_th_admin_005fsidebar_005f0);
+    // /decorators/main.jsp(129,33) name = css type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsubsidebar_005f0.setCss("");
+    // /decorators/main.jsp(129,33) name = currentcss type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005fsubsidebar_005f0.setCurrentcss("currentlink");
+    int _jspx_eval_admin_005fsubsidebar_005f0 = _jspx_th_admin_005fsubsidebar_005f0.doStartTag();
+    if (_jspx_eval_admin_005fsubsidebar_005f0 != javax.servlet.jsp.tagext.Tag.SKIP_BODY) {
+      if (_jspx_eval_admin_005fsubsidebar_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.pushBody();
+        _jspx_th_admin_005fsubsidebar_005f0.setBodyContent((javax.servlet.jsp.tagext.BodyContent) out);
+        _jspx_th_admin_005fsubsidebar_005f0.doInitBody();
+      }
+      do {
+        out.write("\r\n                                    <a href=\"[url]\" title=\"[description]\"\r\n                                     onmouseover=\"self.status='[description]';return true;\" onmouseout=\"self.status='';return true;\"\r\n                                     >[name]</a>\r\n                                 ");
+        int evalDoAfterBody = _jspx_th_admin_005fsubsidebar_005f0.doAfterBody();
+        if (evalDoAfterBody != javax.servlet.jsp.tagext.BodyTag.EVAL_BODY_AGAIN)
+          break;
+      } while (true);
+      if (_jspx_eval_admin_005fsubsidebar_005f0 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.popBody();
+      }
+    }
+    if (_jspx_th_admin_005fsubsidebar_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fadmin_005fsubsidebar_0026_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005fsubsidebar_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fadmin_005fsubsidebar_0026_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005fsubsidebar_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_decorator_005ftitle_005f1(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  decorator:title
+    com.opensymphony.module.sitemesh.taglib.decorator.TitleTag _jspx_th_decorator_005ftitle_005f1 = (com.opensymphony.module.sitemesh.taglib.decorator.TitleTag) _005fjspx_005ftagPool_005fdecorator_005ftitle_0026_005fdefault_005fnobody.get(com.opensymphony.module.sitemesh.taglib.decorator.TitleTag.class);
+    _jspx_th_decorator_005ftitle_005f1.setPageContext(_jspx_page_context);
+    _jspx_th_decorator_005ftitle_005f1.setParent(null);
+    // /decorators/main.jsp(151,20) name = default type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_decorator_005ftitle_005f1.setDefault("&nbsp;");
+    int _jspx_eval_decorator_005ftitle_005f1 = _jspx_th_decorator_005ftitle_005f1.doStartTag();
+    if (_jspx_th_decorator_005ftitle_005f1.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fdecorator_005ftitle_0026_005fdefault_005fnobody.reuse(_jspx_th_decorator_005ftitle_005f1);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fdecorator_005ftitle_0026_005fdefault_005fnobody.reuse(_jspx_th_decorator_005ftitle_005f1);
+    return false;
+  }
+
+  private boolean _jspx_meth_decorator_005fbody_005f0(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  decorator:body
+    com.opensymphony.module.sitemesh.taglib.decorator.BodyTag _jspx_th_decorator_005fbody_005f0 = (com.opensymphony.module.sitemesh.taglib.decorator.BodyTag) _005fjspx_005ftagPool_005fdecorator_005fbody_005fnobody.get(com.opensymphony.module.sitemesh.taglib.decorator.BodyTag.class);
+    _jspx_th_decorator_005fbody_005f0.setPageContext(_jspx_page_context);
+    _jspx_th_decorator_005fbody_005f0.setParent(null);
+    int _jspx_eval_decorator_005fbody_005f0 = _jspx_th_decorator_005fbody_005f0.doStartTag();
+    if (_jspx_th_decorator_005fbody_005f0.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fdecorator_005fbody_005fnobody.reuse(_jspx_th_decorator_005fbody_005f0);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fdecorator_005fbody_005fnobody.reuse(_jspx_th_decorator_005fbody_005f0);
+    return false;
+  }
+
+  private boolean _jspx_meth_admin_005ftabs_005f1(javax.servlet.jsp.PageContext _jspx_page_context)
+          throws java.lang.Throwable {
+    javax.servlet.jsp.PageContext pageContext = _jspx_page_context;
+    javax.servlet.jsp.JspWriter out = _jspx_page_context.getOut();
+    //  admin:tabs
+    org.jivesoftware.admin.TabsTag _jspx_th_admin_005ftabs_005f1 = (org.jivesoftware.admin.TabsTag) _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fjustlinks_005fcurrentcss_005fcss.get(org.jivesoftware.admin.TabsTag.class);
+    _jspx_th_admin_005ftabs_005f1.setPageContext(_jspx_page_context);
+    _jspx_th_admin_005ftabs_005f1.setParent(null);
+    // /decorators/main.jsp(169,12) name = css type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005ftabs_005f1.setCss("");
+    // /decorators/main.jsp(169,12) name = currentcss type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005ftabs_005f1.setCurrentcss("currentlink");
+    // /decorators/main.jsp(169,12) name = justlinks type = null reqTime = true required = false fragment = false deferredValue = false expectedTypeName = null deferredMethod = false methodSignature = null
+    _jspx_th_admin_005ftabs_005f1.setJustlinks(new java.lang.Boolean(true));
+    int _jspx_eval_admin_005ftabs_005f1 = _jspx_th_admin_005ftabs_005f1.doStartTag();
+    if (_jspx_eval_admin_005ftabs_005f1 != javax.servlet.jsp.tagext.Tag.SKIP_BODY) {
+      if (_jspx_eval_admin_005ftabs_005f1 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.pushBody();
+        _jspx_th_admin_005ftabs_005f1.setBodyContent((javax.servlet.jsp.tagext.BodyContent) out);
+        _jspx_th_admin_005ftabs_005f1.doInitBody();
+      }
+      do {
+        out.write("\r\n            <a href=\"[url]\" title=\"[description]\" onmouseover=\"self.status='[description]';return true;\" onmouseout=\"self.status='';return true;\">[name]</a>\r\n            ");
+        int evalDoAfterBody = _jspx_th_admin_005ftabs_005f1.doAfterBody();
+        if (evalDoAfterBody != javax.servlet.jsp.tagext.BodyTag.EVAL_BODY_AGAIN)
+          break;
+      } while (true);
+      if (_jspx_eval_admin_005ftabs_005f1 != javax.servlet.jsp.tagext.Tag.EVAL_BODY_INCLUDE) {
+        out = _jspx_page_context.popBody();
+      }
+    }
+    if (_jspx_th_admin_005ftabs_005f1.doEndTag() == javax.servlet.jsp.tagext.Tag.SKIP_PAGE) {
+      _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fjustlinks_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005ftabs_005f1);
+      return true;
+    }
+    _005fjspx_005ftagPool_005fadmin_005ftabs_0026_005fjustlinks_005fcurrentcss_005fcss.reuse(_jspx_th_admin_005ftabs_005f1);
+    return false;
+  }
+}
@@ -0,0 +1,23 @@
+<%--
+  -	$Revision: 10204 $
+  -	$Date: 2008-04-11 18:44:25 -0400 (Fri, 11 Apr 2008) $
+  -
+  - Copyright (C) 2004-2008 Jive Software. All rights reserved.
+  -
+  - Licensed under the Apache License, Version 2.0 (the "License");
+  - you may not use this file except in compliance with the License.
+  - You may obtain a copy of the License at
+  -
+  -     http://www.apache.org/licenses/LICENSE-2.0
+  -
+  - Unless required by applicable law or agreed to in writing, software
+  - distributed under the License is distributed on an "AS IS" BASIS,
+  - WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  - See the License for the specific language governing permissions and
+  - limitations under the License.
+--%>
+
+<%  // Redirect to muc-service-edit-form and set that a service will be created
+    response.sendRedirect("muc-service-edit-form.jsp?create=true");
+    return;
+%>
\ No newline at end of file
@@ -0,0 +1,174 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:42:36 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.jivesoftware.openfire.plugin.fastpath;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import org.jivesoftware.xmpp.workgroup.Workgroup;
+import org.jivesoftware.xmpp.workgroup.WorkgroupManager;
+import org.jivesoftware.xmpp.workgroup.utils.ModelUtil;
+import org.apache.commons.fileupload.DiskFileUpload;
+import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.FileUploadException;
+import org.xmpp.component.ComponentManagerFactory;
+import org.xmpp.packet.JID;
+import java.util.Iterator;
+import java.util.List;
+import org.jivesoftware.util.Log;
+import org.jivesoftware.util.StringUtils;
+import org.jivesoftware.openfire.user.UserNotFoundException;
+import org.jivesoftware.xmpp.workgroup.UnauthorizedException;
+import org.jivesoftware.xmpp.workgroup.DbProperties;
+
+public final class uploadSounds_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+
+     private String encode(byte[] data) {
+         try {
+             final String encodedFile = StringUtils.encodeBase64(data);
+             return encodedFile;
+         }
+         catch (Exception ex) {
+             Log.error(ex);
+         }
+         return null;
+     }
+
+     private void saveSetting(String encodedFile, String setting, String workgroupName) {
+         final JID workgroupJID = new JID(workgroupName);
+         Workgroup workgroup = null;
+         try {
+             workgroup = WorkgroupManager.getInstance().getWorkgroup(workgroupJID);
+         }
+         catch (UserNotFoundException e) {
+             Log.error(e);
+             return;
+         }
+
+         DbProperties props = workgroup.getProperties();
+         try {
+             props.setProperty(setting, encodedFile);
+         }
+         catch (UnauthorizedException e) {
+             e.printStackTrace();
+         }
+         workgroup.imagesChanged();
+     }
+
+ 
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspInit() {
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(getServletConfig().getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(getServletConfig());
+  }
+
+  public void _jspDestroy() {
+  }
+
+  public void _jspService(final javax.servlet.http.HttpServletRequest request, final javax.servlet.http.HttpServletResponse response)
+        throws java.io.IOException, javax.servlet.ServletException {
+
+    final javax.servlet.jsp.PageContext pageContext;
+    javax.servlet.http.HttpSession session = null;
+    final javax.servlet.ServletContext application;
+    final javax.servlet.ServletConfig config;
+    javax.servlet.jsp.JspWriter out = null;
+    final java.lang.Object page = this;
+    javax.servlet.jsp.JspWriter _jspx_out = null;
+    javax.servlet.jsp.PageContext _jspx_page_context = null;
+
+
+    try {
+      response.setContentType("text/html");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			null, true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+
+      out.write('\n');
+
+    DiskFileUpload upload = new DiskFileUpload();
+    List items = null;
+    try {
+        items = upload.parseRequest(request);
+    }
+    catch (FileUploadException e) {
+        e.printStackTrace();
+    }
+
+    String workgroup = request.getParameter("wgID");
+    if (!ModelUtil.hasLength(workgroup)) {
+        workgroup = (String)request.getSession().getAttribute("workgroup");
+    }
+
+    Iterator iter = items.iterator();
+    byte[] data = null;
+    while (iter.hasNext()) {
+        FileItem item = (FileItem)iter.next();
+
+        if (!item.isFormField()) {
+            String setting = item.getFieldName();
+            String filename = item.getName();
+            data = item.get();
+
+            if (filename != null && filename.trim().length() > 0) {
+                // Know let's encode the file.
+                final String encodedFile = encode(data);
+                saveSetting(encodedFile, setting, workgroup);
+            }
+        }
+    }
+
+    // Go back to workgroup-sound-settings.jsp
+    try {
+        response.sendRedirect("workgroup-sound-settings.jsp?wgID=" + workgroup + "&updated=true");
+    }
+    catch (Exception ex) {
+        Log.error(ex);
+    }
+
+      out.write('\n');
+      out.write('\n');
+      out.write(' ');
+    } catch (java.lang.Throwable t) {
+      if (!(t instanceof javax.servlet.jsp.SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          try {
+            if (response.isCommitted()) {
+              out.flush();
+            } else {
+              out.clearBuffer();
+            }
+          } catch (java.io.IOException e) {}
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+        else throw new ServletException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+}
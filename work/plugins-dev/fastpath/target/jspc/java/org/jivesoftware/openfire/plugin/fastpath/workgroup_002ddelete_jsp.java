@@ -0,0 +1,117 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:42:36 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.jivesoftware.openfire.plugin.fastpath;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import org.jivesoftware.xmpp.workgroup.WorkgroupManager;
+import org.jivesoftware.util.ParamUtils;
+import org.jivesoftware.xmpp.workgroup.Workgroup;
+import org.xmpp.packet.JID;
+
+public final class workgroup_002ddelete_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspInit() {
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(getServletConfig().getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(getServletConfig());
+  }
+
+  public void _jspDestroy() {
+  }
+
+  public void _jspService(final javax.servlet.http.HttpServletRequest request, final javax.servlet.http.HttpServletResponse response)
+        throws java.io.IOException, javax.servlet.ServletException {
+
+    final javax.servlet.jsp.PageContext pageContext;
+    javax.servlet.http.HttpSession session = null;
+    final javax.servlet.ServletContext application;
+    final javax.servlet.ServletConfig config;
+    javax.servlet.jsp.JspWriter out = null;
+    final java.lang.Object page = this;
+    javax.servlet.jsp.JspWriter _jspx_out = null;
+    javax.servlet.jsp.PageContext _jspx_page_context = null;
+
+
+    try {
+      response.setContentType("text/html");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			null, true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+
+      out.write('\r');
+      out.write('\n');
+      out.write("\r\n\r\n<!-- Define Administration Bean -->\r\n");
+   // Get parameters //
+    String wgID = ParamUtils.getParameter(request,"wgID");
+    boolean cancel = request.getParameter("cancel") != null;
+    boolean delete = request.getParameter("delete") != null;
+
+    final WorkgroupManager workgroupManager = WorkgroupManager.getInstance();
+    JID workgroupJID = new JID(wgID);
+
+    // Load the workgroup object
+    Workgroup workgroup = workgroupManager.getWorkgroup(workgroupJID);
+
+    // handle a delete request
+    if (cancel) {
+        response.sendRedirect("workgroup-properties.jsp?wgID=" + wgID);
+    }
+
+    // handle a delete request
+    if (delete) {
+        workgroupManager.deleteWorkgroup(workgroup);
+        response.sendRedirect("workgroup-summary.jsp?wgID="+wgID+"&deleted=true");
+        return;
+    }
+
+      out.write("\r\n<html>\r\n    <head>\r\n        <title>");
+      out.print( "Delete Workgroup: "+wgID);
+      out.write("</title>\r\n        <meta name=\"subPageID\" content=\"workgroup-properties\"/>\r\n        <meta name=\"extraParams\" content=\"");
+      out.print( "wgID="+wgID );
+      out.write("\"/>\r\n        <!--<meta name=\"helpPage\" content=\"delete_a_workgroup.html\"/>-->\r\n    </head>\r\n    <body>\r\n<p>Are you sure you want to delete this workgroup?</p>\r\n<form action=\"workgroup-delete.jsp\">\r\n  <input type=\"hidden\" name=\"wgID\" value=\"");
+      out.print( wgID );
+      out.write("\"/>\r\n  <input type=\"submit\" name=\"delete\" value=\"Yes\"/>\r\n  <input type=\"submit\" name=\"cancel\" value=\"No\"/>\r\n</form>\r\n</body>\r\n</html>\r\n");
+    } catch (java.lang.Throwable t) {
+      if (!(t instanceof javax.servlet.jsp.SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          try {
+            if (response.isCommitted()) {
+              out.flush();
+            } else {
+              out.clearBuffer();
+            }
+          } catch (java.io.IOException e) {}
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+        else throw new ServletException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%--
+  -	$RCSfile$
+  -	$Revision: 22565 $
+  -	$Date: 2005-10-10 17:20:21 -0700 (Mon, 10 Oct 2005) $
+--%>
+
+
+<html>
+    <head>
+        <title>Workgroup Deleted</title>
+        <meta name="pageID" content="workgroup-settings"/>
+    </head>
+    <body>
+<br>
+
+<p>
+Workgroup deleted successfully.
+</p>
+
+<form action="workgroup-summary.jsp">
+<input type="submit" value="Workgroup Summary">
+</form>
+
+
+</body>
+</html>
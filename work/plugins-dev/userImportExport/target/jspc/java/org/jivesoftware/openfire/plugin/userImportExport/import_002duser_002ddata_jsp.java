@@ -0,0 +1,239 @@
+/*
+ * Generated by the Jasper component of Apache Tomcat
+ * Version: JspC/ApacheTomcat8
+ * Generated at: 2026-10-18 23:06:24 UTC
+ * Note: The last modified time of this file was set to
+ *       the last modified time of the source file after
+ *       generation to assist with modification tracking.
+ */
+package org.jivesoftware.openfire.plugin.userImportExport;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import java.io.IOException;
+import java.util.*;
+import org.apache.commons.fileupload.DiskFileUpload;
+import org.apache.commons.fileupload.FileItem;
+import org.jivesoftware.openfire.plugin.ImportExportPlugin;
+import org.jivesoftware.openfire.plugin.UserDataImporter;
+import org.jivesoftware.openfire.XMPPServer;
+import org.jivesoftware.util.ParamUtils;
+
+public final class import_002duser_002ddata_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+ 
+public boolean isEmpty(String s) {
+    if (s == null) {
+        return true;
+    }
+    
+    if (s.trim().length() == 0) {
+        return true;
+    }
+    
+    return false;
+}
+
+  private static final javax.servlet.jsp.JspFactory _jspxFactory =
+          javax.servlet.jsp.JspFactory.getDefaultFactory();
+
+  private static java.util.Map<java.lang.String,java.lang.Long> _jspx_dependants;
+
+  private javax.el.ExpressionFactory _el_expressionfactory;
+  private org.apache.tomcat.InstanceManager _jsp_instancemanager;
+
+  public java.util.Map<java.lang.String,java.lang.Long> getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspInit() {
+    _el_expressionfactory = _jspxFactory.getJspApplicationContext(getServletConfig().getServletContext()).getExpressionFactory();
+    _jsp_instancemanager = org.apache.jasper.runtime.InstanceManagerFactory.getInstanceManager(getServletConfig());
+  }
+
+  public void _jspDestroy() {
+  }
+
+  public void _jspService(final javax.servlet.http.HttpServletRequest request, final javax.servlet.http.HttpServletResponse response)
+        throws java.io.IOException, javax.servlet.ServletException {
+
+    final javax.servlet.jsp.PageContext pageContext;
+    javax.servlet.http.HttpSession session = null;
+    final javax.servlet.ServletContext application;
+    final javax.servlet.ServletConfig config;
+    javax.servlet.jsp.JspWriter out = null;
+    final java.lang.Object page = this;
+    javax.servlet.jsp.JspWriter _jspx_out = null;
+    javax.servlet.jsp.PageContext _jspx_page_context = null;
+
+
+    try {
+      response.setContentType("text/html");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			null, true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+
+      out.write("\r\n\r\n");
+
+    boolean importUsers = request.getParameter("importUsers") != null;
+    boolean resumeImport = request.getParameter("resumeImport") != null;
+   
+    ImportExportPlugin plugin = (ImportExportPlugin) XMPPServer.getInstance().getPluginManager().getPlugin("userimportexport");
+    List<String> duplicateUsers = new ArrayList<String>();
+   
+    Map<String, String> errors = new HashMap<String, String>();
+    if (plugin.isImportRunning()) {
+        // Only one import runs at a time
+    }
+    else if (importUsers) {
+        DiskFileUpload dfu = new DiskFileUpload();
+      
+        List fileItems = dfu.parseRequest(request);
+        Iterator i = fileItems.iterator();
+        FileItem fi = (FileItem) i.next();
+        FileItem pd = (FileItem) i.next();
+        String previousDomain = pd.getString();
+        
+        try {
+            if (plugin.startImport(fi, isEmpty(previousDomain) ? null : previousDomain)) {
+                // The import runs in the background, and this page reports its progress
+                response.sendRedirect("import-user-data.jsp");
+                return;
+            }
+            errors.put("invalidUserFile", "invalidUserFile");
+        }
+        catch (IOException e) {
+            errors.put("IOException", "IOException");
+        }
+    }
+    else if (resumeImport && plugin.isImportResumable()) {
+        plugin.resumeImport();
+        response.sendRedirect("import-user-data.jsp");
+        return;
+    }
+
+    UserDataImporter importer = plugin.getImporter();
+    UserDataImporter.State importState = importer == null ? null : importer.getState();
+    if (importState != null && importState != UserDataImporter.State.RUNNING && !importUsers) {
+        duplicateUsers.addAll(importer.getInvalidUsers());
+        if (importState == UserDataImporter.State.FAILED) {
+            errors.put("DocumentException", "DocumentException");
+        }
+        else if (!duplicateUsers.isEmpty()) {
+            errors.put("invalidUser", "invalidUser");
+        }
+    }
+
+      out.write("\r\n\r\n<html>\r\n    <head>\r\n        <title>Import User Data</title>\r\n        <meta name=\"pageID\" content=\"import-export-selection\"/>\r\n        ");
+ if (importState == UserDataImporter.State.RUNNING) { 
+      out.write("\r\n        <meta http-equiv=\"refresh\" content=\"5\">\r\n        ");
+ } 
+      out.write("\r\n    </head>\r\n    <body>\r\n\r\n");
+ if (importState == UserDataImporter.State.RUNNING) { 
+      out.write("\r\n\r\n    <div class=\"jive-info\">\r\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\">\r\n        <tbody>\r\n        <tr>\r\n            <td class=\"jive-icon\"><img src=\"images/info-16x16.gif\" width=\"16\" height=\"16\" border=\"0\"></td>\r\n            <td class=\"jive-icon-label\">\r\n                Importing users: ");
+      out.print( importer.getUsersRead() );
+      out.write(" users processed (");
+      out.print( importer.getPercentComplete() );
+      out.write("% of the file).\r\n                ");
+ if (importer.getInvalidUserCount() > 0) { 
+      out.write("\r\n                   ");
+      out.print( importer.getInvalidUserCount() );
+      out.write(" users could not be loaded.\r\n                ");
+ } 
+      out.write("\r\n            </td>\r\n        </tr>\r\n        </tbody>\r\n    </table>\r\n    </div>\r\n    <br>\r\n\r\n");
+ } 
+      out.write("\r\n\r\n");
+ if (importer == null && plugin.isImportResumable()) { 
+      out.write("\r\n\r\n    <div class=\"jive-info\">\r\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\">\r\n        <tbody>\r\n        <tr>\r\n            <td class=\"jive-icon\"><img src=\"images/info-16x16.gif\" width=\"16\" height=\"16\" border=\"0\"></td>\r\n            <td class=\"jive-icon-label\">\r\n                An import was interrupted. <a href=\"import-user-data.jsp?resumeImport=true\">Resume the import</a>.\r\n            </td>\r\n        </tr>\r\n        </tbody>\r\n    </table>\r\n    </div>\r\n    <br>\r\n\r\n");
+ } 
+      out.write("\r\n\r\n");
+ if (errors.size() > 0) { 
+      out.write("\r\n\r\n    <div class=\"jive-error\">\r\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\">\r\n        <tbody>\r\n        <tr>\r\n            <td class=\"jive-icon\"><img src=\"images/error-16x16.gif\" width=\"16\" height=\"16\" border=\"0\"></td>\r\n            <td class=\"jive-icon-label\">\r\n            ");
+ if (errors.containsKey("missingDomain")) { 
+      out.write("\r\n                You must supply both a existing and new domain name.\r\n            ");
+ } else if (errors.containsKey("IOException")) { 
+      out.write("\r\n                Missing or bad file name.\r\n            ");
+ } else if (errors.containsKey("DocumentException")) { 
+      out.write("\r\n                Import failed after ");
+      out.print( importer.getUsersRead() );
+      out.write(" users: ");
+      out.print( org.jivesoftware.util.StringUtils.escapeHTMLTags(importer.getError()) );
+      out.write(".\r\n                ");
+ if (plugin.isImportResumable()) { 
+      out.write("\r\n                   <a href=\"import-user-data.jsp?resumeImport=true\">Resume the import</a>.\r\n                ");
+ } 
+      out.write("\r\n            ");
+ } else if (errors.containsKey("invalidUserFile")) { 
+      out.write("\r\n                The import file does not match the user schema.\r\n            ");
+ } else if (errors.containsKey("invalidUser")) { 
+      out.write("\r\n                \r\n                ");
+ if (plugin.isUserProviderReadOnly()) { 
+      out.write("\r\n                   The following users did not exist in the system or have invalid username so their roster was not loaded:<br>\r\n                ");
+ } else { 
+      out.write("\r\n                   The following users already exist in the system or have invalid username and were not loaded:<br>\r\n               ");
+ } 
+      out.write("\r\n            ");
+
+                Iterator iter = duplicateUsers.iterator();
+                while (iter.hasNext()) {
+                    String username = (String) iter.next();
+                    
+      out.print( org.jivesoftware.util.StringUtils.escapeHTMLTags(username) );
+
+                    if (iter.hasNext()) {
+                        
+      out.write(",&nbsp;");
+
+                    } else {
+                        
+      out.write('.');
+
+                    }
+                }
+                if (importer.getInvalidUserCount() > duplicateUsers.size()) {
+                    
+      out.write(' ');
+      out.print( importer.getInvalidUserCount() - duplicateUsers.size() );
+      out.write(" more users were not loaded.");
+
+                }
+            } 
+      out.write("\r\n            </td>\r\n        </tr>\r\n        </tbody>\r\n    </table>\r\n    </div>\r\n    <br>\r\n\r\n");
+ } else if (importState == UserDataImporter.State.COMPLETED) { 
+      out.write("\r\n\r\n    <div class=\"jive-success\">\r\n    <table cellpadding=\"0\" cellspacing=\"0\" border=\"0\">\r\n        <tbody>\r\n        <tr>\r\n            <td class=\"jive-icon\"><img src=\"images/success-16x16.gif\" width=\"16\" height=\"16\" border=\"0\"></td>\r\n            ");
+ if (plugin.isUserProviderReadOnly()) { 
+      out.write("\r\n               <td class=\"jive-icon-label\">User roster data added successfully.</td>\r\n            ");
+ } else { 
+      out.write("\r\n               <td class=\"jive-icon-label\">All users added successfully.</td>\r\n            ");
+ } 
+      out.write("\r\n        </tr>\r\n        </tbody>\r\n    </table>\r\n    </div>\r\n    <br>\r\n\r\n");
+ } 
+      out.write("\r\n\r\nUse the form below to import a user data XML file.\r\n\r\n\r\n<form action=\"import-user-data.jsp?importUsers\" method=\"post\" enctype=\"multipart/form-data\">\r\n\r\n<div class=\"jive-contentBoxHeader\">Import</div>\r\n<div class=\"jive-contentBox\">\r\n    <p>\r\n    Choose a file to import:</p>\r\n    <input type=\"file\" name=\"thefile\">\r\n\r\n    <br><br><br>\r\n   \r\n    <p>\r\n    <b>Optional</b> - Use the field below to replace the domain name of user roster entries with the current hostname.\r\n    See the migration section of the <a href=\"../../plugin-admin.jsp?plugin=userimportexport&showReadme=true&decorator=none\">readme</a> for details.\r\n    </p>\r\n    Replace Domain: <input type=\"text\" size=\"20\" maxlength=\"150\" name=\"previousDomain\" value=\"\"/>\r\n</div>\r\n<input type=\"submit\" value=\"Import\">\r\n\r\n</form>\r\n\r\n</body>\r\n</html>\r\n\r\n");
+      out.write('\r');
+      out.write('\n');
+    } catch (java.lang.Throwable t) {
+      if (!(t instanceof javax.servlet.jsp.SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          try {
+            if (response.isCommitted()) {
+              out.flush();
+            } else {
+              out.clearBuffer();
+            }
+          } catch (java.io.IOException e) {}
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+        else throw new ServletException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+<%@ page import="java.io.OutputStream,
+                 org.jivesoftware.openfire.XMPPServer,
+                 org.jivesoftware.openfire.plugin.ImportExportPlugin"
+         contentType="application/x-download"%><%
+    String fileName = request.getParameter("fileName");
+    response.setContentType("application/x-download");
+    response.setHeader("Content-Disposition","attachment;filename="+fileName+".xml");
+    ImportExportPlugin plugin = (ImportExportPlugin) XMPPServer.getInstance().getPluginManager().getPlugin("userimportexport");
+    OutputStream os = response.getOutputStream();
+    // The users are written as they're read
+    plugin.exportUsers(os);
+    os.flush();
+    os.close();
+%>
\ No newline at end of file
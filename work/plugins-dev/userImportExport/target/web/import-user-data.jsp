@@ -0,0 +1,217 @@
+<%@ page import="java.io.IOException,
+                 java.util.*,
+                 org.apache.commons.fileupload.DiskFileUpload,
+                 org.apache.commons.fileupload.FileItem,
+                 org.jivesoftware.openfire.plugin.ImportExportPlugin,
+                 org.jivesoftware.openfire.plugin.UserDataImporter,
+                 org.jivesoftware.openfire.XMPPServer,
+                 org.jivesoftware.util.ParamUtils"
+%>
+
+<%
+    boolean importUsers = request.getParameter("importUsers") != null;
+    boolean resumeImport = request.getParameter("resumeImport") != null;
+   
+    ImportExportPlugin plugin = (ImportExportPlugin) XMPPServer.getInstance().getPluginManager().getPlugin("userimportexport");
+    List<String> duplicateUsers = new ArrayList<String>();
+   
+    Map<String, String> errors = new HashMap<String, String>();
+    if (plugin.isImportRunning()) {
+        // Only one import runs at a time
+    }
+    else if (importUsers) {
+        DiskFileUpload dfu = new DiskFileUpload();
+      
+        List fileItems = dfu.parseRequest(request);
+        Iterator i = fileItems.iterator();
+        FileItem fi = (FileItem) i.next();
+        FileItem pd = (FileItem) i.next();
+        String previousDomain = pd.getString();
+        
+        try {
+            if (plugin.startImport(fi, isEmpty(previousDomain) ? null : previousDomain)) {
+                // The import runs in the background, and this page reports its progress
+                response.sendRedirect("import-user-data.jsp");
+                return;
+            }
+            errors.put("invalidUserFile", "invalidUserFile");
+        }
+        catch (IOException e) {
+            errors.put("IOException", "IOException");
+        }
+    }
+    else if (resumeImport && plugin.isImportResumable()) {
+        plugin.resumeImport();
+        response.sendRedirect("import-user-data.jsp");
+        return;
+    }
+
+    UserDataImporter importer = plugin.getImporter();
+    UserDataImporter.State importState = importer == null ? null : importer.getState();
+    if (importState != null && importState != UserDataImporter.State.RUNNING && !importUsers) {
+        duplicateUsers.addAll(importer.getInvalidUsers());
+        if (importState == UserDataImporter.State.FAILED) {
+            errors.put("DocumentException", "DocumentException");
+        }
+        else if (!duplicateUsers.isEmpty()) {
+            errors.put("invalidUser", "invalidUser");
+        }
+    }
+%>
+
+<html>
+    <head>
+        <title>Import User Data</title>
+        <meta name="pageID" content="import-export-selection"/>
+        <% if (importState == UserDataImporter.State.RUNNING) { %>
+        <meta http-equiv="refresh" content="5">
+        <% } %>
+    </head>
+    <body>
+
+<% if (importState == UserDataImporter.State.RUNNING) { %>
+
+    <div class="jive-info">
+    <table cellpadding="0" cellspacing="0" border="0">
+        <tbody>
+        <tr>
+            <td class="jive-icon"><img src="images/info-16x16.gif" width="16" height="16" border="0"></td>
+            <td class="jive-icon-label">
+                Importing users: <%= importer.getUsersRead() %> users processed (<%= importer.getPercentComplete() %>% of the file).
+                <% if (importer.getInvalidUserCount() > 0) { %>
+                   <%= importer.getInvalidUserCount() %> users could not be loaded.
+                <% } %>
+            </td>
+        </tr>
+        </tbody>
+    </table>
+    </div>
+    <br>
+
+<% } %>
+
+<% if (importer == null && plugin.isImportResumable()) { %>
+
+    <div class="jive-info">
+    <table cellpadding="0" cellspacing="0" border="0">
+        <tbody>
+        <tr>
+            <td class="jive-icon"><img src="images/info-16x16.gif" width="16" height="16" border="0"></td>
+            <td class="jive-icon-label">
+                An import was interrupted. <a href="import-user-data.jsp?resumeImport=true">Resume the import</a>.
+            </td>
+        </tr>
+        </tbody>
+    </table>
+    </div>
+    <br>
+
+<% } %>
+
+<% if (errors.size() > 0) { %>
+
+    <div class="jive-error">
+    <table cellpadding="0" cellspacing="0" border="0">
+        <tbody>
+        <tr>
+            <td class="jive-icon"><img src="images/error-16x16.gif" width="16" height="16" border="0"></td>
+            <td class="jive-icon-label">
+            <% if (errors.containsKey("missingDomain")) { %>
+                You must supply both a existing and new domain name.
+            <% } else if (errors.containsKey("IOException")) { %>
+                Missing or bad file name.
+            <% } else if (errors.containsKey("DocumentException")) { %>
+                Import failed after <%= importer.getUsersRead() %> users: <%= org.jivesoftware.util.StringUtils.escapeHTMLTags(importer.getError()) %>.
+                <% if (plugin.isImportResumable()) { %>
+                   <a href="import-user-data.jsp?resumeImport=true">Resume the import</a>.
+                <% } %>
+            <% } else if (errors.containsKey("invalidUserFile")) { %>
+                The import file does not match the user schema.
+            <% } else if (errors.containsKey("invalidUser")) { %>
+                
+                <% if (plugin.isUserProviderReadOnly()) { %>
+                   The following users did not exist in the system or have invalid username so their roster was not loaded:<br>
+                <% } else { %>
+                   The following users already exist in the system or have invalid username and were not loaded:<br>
+               <% } %>
+            <%
+                Iterator iter = duplicateUsers.iterator();
+                while (iter.hasNext()) {
+                    String username = (String) iter.next();
+                    %><%= org.jivesoftware.util.StringUtils.escapeHTMLTags(username) %><%
+                    if (iter.hasNext()) {
+                        %>,&nbsp;<%
+                    } else {
+                        %>.<%
+                    }
+                }
+                if (importer.getInvalidUserCount() > duplicateUsers.size()) {
+                    %> <%= importer.getInvalidUserCount() - duplicateUsers.size() %> more users were not loaded.<%
+                }
+            } %>
+            </td>
+        </tr>
+        </tbody>
+    </table>
+    </div>
+    <br>
+
+<% } else if (importState == UserDataImporter.State.COMPLETED) { %>
+
+    <div class="jive-success">
+    <table cellpadding="0" cellspacing="0" border="0">
+        <tbody>
+        <tr>
+            <td class="jive-icon"><img src="images/success-16x16.gif" width="16" height="16" border="0"></td>
+            <% if (plugin.isUserProviderReadOnly()) { %>
+               <td class="jive-icon-label">User roster data added successfully.</td>
+            <% } else { %>
+               <td class="jive-icon-label">All users added successfully.</td>
+            <% } %>
+        </tr>
+        </tbody>
+    </table>
+    </div>
+    <br>
+
+<% } %>
+
+Use the form below to import a user data XML file.
+
+
+<form action="import-user-data.jsp?importUsers" method="post" enctype="multipart/form-data">
+
+<div class="jive-contentBoxHeader">Import</div>
+<div class="jive-contentBox">
+    <p>
+    Choose a file to import:</p>
+    <input type="file" name="thefile">
+
+    <br><br><br>
+   
+    <p>
+    <b>Optional</b> - Use the field below to replace the domain name of user roster entries with the current hostname.
+    See the migration section of the <a href="../../plugin-admin.jsp?plugin=userimportexport&showReadme=true&decorator=none">readme</a> for details.
+    </p>
+    Replace Domain: <input type="text" size="20" maxlength="150" name="previousDomain" value=""/>
+</div>
+<input type="submit" value="Import">
+
+</form>
+
+</body>
+</html>
+
+<%! 
+public boolean isEmpty(String s) {
+    if (s == null) {
+        return true;
+    }
+    
+    if (s.trim().length() == 0) {
+        return true;
+    }
+    
+    return false;
+}
+%>